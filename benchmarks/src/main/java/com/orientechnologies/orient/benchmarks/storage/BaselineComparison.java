@@ -0,0 +1,163 @@
+package com.orientechnologies.orient.benchmarks.storage;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two sets of JMH results stored in JSON format. Results are matched by benchmark name and
+ * values of benchmark parameters. For throughput benchmarks lower score is treated as regression,
+ * for all other modes (average and sample time) higher score is treated as regression.
+ */
+public final class BaselineComparison {
+  private BaselineComparison() {}
+
+  public static void main(final String[] args) throws IOException {
+    if (args.length < 2) {
+      System.out.println(
+          "Usage: BaselineComparison <previous baseline> <current baseline> [threshold %]");
+      return;
+    }
+
+    final double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+    if (!compare(new File(args[0]), new File(args[1]), threshold, System.out).isEmpty()) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Prints difference between every pair of matched results.
+   *
+   * @return List of results which regressed by more than {@code threshold} percent.
+   */
+  public static List<Difference> compare(
+      final File previous, final File current, final double threshold, final PrintStream out)
+      throws IOException {
+    final Map<String, Score> previousScores = readScores(previous);
+    final Map<String, Score> currentScores = readScores(current);
+
+    final List<Difference> regressions = new ArrayList<>();
+    for (final Map.Entry<String, Score> entry : currentScores.entrySet()) {
+      final Score previousScore = previousScores.get(entry.getKey());
+      if (previousScore == null) {
+        out.printf("%-100s %s%n", entry.getKey(), "new");
+        continue;
+      }
+
+      final Difference difference = new Difference(entry.getKey(), previousScore, entry.getValue());
+      out.printf(
+          "%-100s %12.3f -> %12.3f %-8s %+7.2f%%%s%n",
+          difference.name,
+          previousScore.value,
+          difference.current.value,
+          difference.current.unit,
+          difference.regression(),
+          difference.regression() > threshold ? " REGRESSION" : "");
+      if (difference.regression() > threshold) {
+        regressions.add(difference);
+      }
+    }
+
+    return regressions;
+  }
+
+  static Map<String, Score> readScores(final File file) throws IOException {
+    final Map<String, Score> scores = new TreeMap<>();
+    try (final JsonParser parser = new JsonFactory().createParser(file)) {
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        throw new IOException("File " + file + " does not contain JMH results");
+      }
+
+      while (parser.nextToken() == JsonToken.START_OBJECT) {
+        String benchmark = null;
+        String mode = null;
+        final Map<String, String> params = new TreeMap<>();
+        double score = Double.NaN;
+        String unit = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          final String field = parser.getCurrentName();
+          parser.nextToken();
+
+          switch (field) {
+            case "benchmark":
+              benchmark = parser.getText();
+              break;
+            case "mode":
+              mode = parser.getText();
+              break;
+            case "params":
+              while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String param = parser.getCurrentName();
+                parser.nextToken();
+                params.put(param, parser.getText());
+              }
+              break;
+            case "primaryMetric":
+              while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String metric = parser.getCurrentName();
+                parser.nextToken();
+                if ("score".equals(metric)) {
+                  score = parser.getDoubleValue();
+                } else if ("scoreUnit".equals(metric)) {
+                  unit = parser.getText();
+                } else {
+                  parser.skipChildren();
+                }
+              }
+              break;
+            default:
+              parser.skipChildren();
+          }
+        }
+
+        scores.put(
+            benchmark + (params.isEmpty() ? "" : params.toString()),
+            new Score(score, unit, "thrpt".equals(mode)));
+      }
+    }
+
+    return scores;
+  }
+
+  static final class Score {
+    private final double value;
+    private final String unit;
+    private final boolean higherIsBetter;
+
+    Score(final double value, final String unit, final boolean higherIsBetter) {
+      this.value = value;
+      this.unit = unit;
+      this.higherIsBetter = higherIsBetter;
+    }
+  }
+
+  public static final class Difference {
+    private final String name;
+    private final Score previous;
+    private final Score current;
+
+    Difference(final String name, final Score previous, final Score current) {
+      this.name = name;
+      this.previous = previous;
+      this.current = current;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    /** @return Regression in percents, negative value means that benchmark became faster. */
+    public double regression() {
+      final double change = (current.value - previous.value) * 100 / previous.value;
+      return previous.higherIsBetter ? -change : change;
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package com.orientechnologies.orient.benchmarks.storage;
+
+import com.orientechnologies.common.directmemory.MemTrace;
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator;
+import com.orientechnologies.common.directmemory.OPointer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures throughput of acquisition and release of pages by {@link OByteBufferPool} depending on
+ * the amount of threads, for the striped pool and for the pool which uses only shared queue of
+ * pages. Each operation acquires and releases the batch of pages, as it happens when pages of
+ * single atomic operation are loaded and flushed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ByteBufferPoolBenchmark {
+  private static final int PAGE_SIZE = 64 * 1024;
+  private static final int BATCH_SIZE = 8;
+
+  /** Amount of stripes of the pool, 0 means that only shared pool is used. */
+  @Param({"0", "64"})
+  public int stripes;
+
+  private ODirectMemoryAllocator allocator;
+  private OByteBufferPool pool;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    allocator = new ODirectMemoryAllocator();
+    pool = new OByteBufferPool(PAGE_SIZE, allocator, Integer.MAX_VALUE, 0, stripes, 64);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    pool.clear();
+  }
+
+  @State(Scope.Thread)
+  public static class Batch {
+    private final OPointer[] pointers = new OPointer[BATCH_SIZE];
+  }
+
+  @Benchmark
+  @Threads(1)
+  public int acquireRelease1Thread(final Batch batch) {
+    return acquireRelease(batch);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public int acquireRelease4Threads(final Batch batch) {
+    return acquireRelease(batch);
+  }
+
+  @Benchmark
+  @Threads(16)
+  public int acquireRelease16Threads(final Batch batch) {
+    return acquireRelease(batch);
+  }
+
+  @Benchmark
+  @Threads(64)
+  public int acquireRelease64Threads(final Batch batch) {
+    return acquireRelease(batch);
+  }
+
+  private int acquireRelease(final Batch batch) {
+    final OPointer[] pointers = batch.pointers;
+    for (int i = 0; i < pointers.length; i++) {
+      pointers[i] = pool.acquireDirect(false, MemTrace.TEST);
+    }
+
+    int hash = 0;
+    for (int i = 0; i < pointers.length; i++) {
+      hash += pointers[i].hashCode();
+      pool.release(pointers[i]);
+      pointers[i] = null;
+    }
+
+    return hash;
+  }
+}
@@ -0,0 +1,56 @@
+package com.orientechnologies.orient.benchmarks.storage;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.db.ODatabaseInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
+import java.io.File;
+
+/**
+ * Embedded {@code plocal} database which is shared by storage benchmarks. Every benchmark gets its
+ * own directory inside of {@code benchmarkDirectory} (defaults to {@code ./target/benchmarks}) so
+ * forked JVMs never share files.
+ */
+final class EmbeddedStorage implements AutoCloseable {
+  private static final String DB_NAME = "storageBenchmark";
+
+  private final File directory;
+  private final OrientDB orientDB;
+  private final OAbstractPaginatedStorage storage;
+
+  EmbeddedStorage(final Class<?> benchmark) {
+    final String benchmarkDirectory =
+        System.getProperty(
+            "benchmarkDirectory", "." + File.separator + "target" + File.separator + "benchmarks");
+    directory = new File(benchmarkDirectory, benchmark.getSimpleName());
+    OFileUtils.deleteRecursively(directory);
+
+    orientDB =
+        new OrientDB("plocal:" + directory.getAbsolutePath(), OrientDBConfig.defaultConfig());
+    orientDB.execute(
+        "create database " + DB_NAME + " plocal users ( admin identified by 'admin' role admin)");
+
+    try (final ODatabaseSession session = orientDB.open(DB_NAME, "admin", "admin")) {
+      storage = (OAbstractPaginatedStorage) ((ODatabaseInternal<?>) session).getStorage();
+    }
+  }
+
+  OAbstractPaginatedStorage storage() {
+    return storage;
+  }
+
+  OAtomicOperationsManager atomicOperationsManager() {
+    return storage.getAtomicOperationsManager();
+  }
+
+  @Override
+  public void close() {
+    orientDB.drop(DB_NAME);
+    orientDB.close();
+
+    OFileUtils.deleteRecursively(directory);
+  }
+}
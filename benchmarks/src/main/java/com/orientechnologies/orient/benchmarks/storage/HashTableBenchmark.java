@@ -0,0 +1,98 @@
+package com.orientechnologies.orient.benchmarks.storage;
+
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.OLinkSerializer;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
+import com.orientechnologies.orient.core.storage.index.hashindex.local.OMurmurHash3HashFunction;
+import com.orientechnologies.orient.core.storage.index.hashindex.local.v3.OLocalHashTableV3;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Point lookups and ingest of {@link OLocalHashTableV3}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class HashTableBenchmark {
+  @Param({"1000000"})
+  public int keys;
+
+  private EmbeddedStorage embeddedStorage;
+  private OAtomicOperationsManager atomicOperationsManager;
+  private OLocalHashTableV3<Long, OIdentifiable> hashTable;
+
+  private final AtomicLong nextKey = new AtomicLong();
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    embeddedStorage = new EmbeddedStorage(HashTableBenchmark.class);
+    atomicOperationsManager = embeddedStorage.atomicOperationsManager();
+
+    hashTable =
+        new OLocalHashTableV3<>(
+            "hashTableBenchmark", ".hcm", ".hts", ".hbf", ".hnb", embeddedStorage.storage());
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation ->
+            hashTable.create(
+                atomicOperation,
+                OLongSerializer.INSTANCE,
+                OLinkSerializer.INSTANCE,
+                null,
+                null,
+                new OMurmurHash3HashFunction<>(OLongSerializer.INSTANCE),
+                false));
+
+    StorageBenchmarks.load(
+        atomicOperationsManager,
+        keys,
+        (atomicOperation, key) -> hashTable.put(atomicOperation, key, rid(key)));
+    nextKey.set(keys);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    embeddedStorage.close();
+  }
+
+  @Benchmark
+  public OIdentifiable get() {
+    return hashTable.get(ThreadLocalRandom.current().nextLong(keys));
+  }
+
+  @Benchmark
+  public OIdentifiable getAbsent() {
+    return hashTable.get(keys + ThreadLocalRandom.current().nextLong(keys));
+  }
+
+  @Benchmark
+  public void put() throws IOException {
+    final long key = nextKey.getAndIncrement();
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null, atomicOperation -> hashTable.put(atomicOperation, key, rid(key)));
+  }
+
+  private static ORID rid(final long key) {
+    return new ORecordId((int) (key & Short.MAX_VALUE), key);
+  }
+}
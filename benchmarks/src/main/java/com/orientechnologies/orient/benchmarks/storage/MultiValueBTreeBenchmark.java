@@ -0,0 +1,94 @@
+package com.orientechnologies.orient.benchmarks.storage;
+
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
+import com.orientechnologies.orient.core.storage.index.sbtree.multivalue.v2.CellBTreeMultiValueV2;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lookups and ingest of {@link CellBTreeMultiValueV2}, every key is associated with {@code
+ * valuesPerKey} record ids.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MultiValueBTreeBenchmark {
+  @Param({"1000000"})
+  public int entries;
+
+  @Param({"1", "16"})
+  public int valuesPerKey;
+
+  private EmbeddedStorage embeddedStorage;
+  private OAtomicOperationsManager atomicOperationsManager;
+  private CellBTreeMultiValueV2<Long> tree;
+  private int keys;
+
+  private final AtomicLong nextEntry = new AtomicLong();
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    embeddedStorage = new EmbeddedStorage(MultiValueBTreeBenchmark.class);
+    atomicOperationsManager = embeddedStorage.atomicOperationsManager();
+
+    tree =
+        new CellBTreeMultiValueV2<>(
+            "multiValueBenchmark", ".cbt", ".nbt", ".mdt", embeddedStorage.storage());
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation -> tree.create(OLongSerializer.INSTANCE, null, 1, null, atomicOperation));
+
+    keys = entries / valuesPerKey;
+    StorageBenchmarks.load(
+        atomicOperationsManager,
+        entries,
+        (atomicOperation, entry) -> tree.put(atomicOperation, entry % keys, rid(entry)));
+    nextEntry.set(entries);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    embeddedStorage.close();
+  }
+
+  @Benchmark
+  public long get() {
+    return tree.get(ThreadLocalRandom.current().nextLong(keys)).count();
+  }
+
+  @Benchmark
+  public long getAbsent() {
+    return tree.get(keys + ThreadLocalRandom.current().nextLong(keys)).count();
+  }
+
+  @Benchmark
+  public void put() throws IOException {
+    final long entry = nextEntry.getAndIncrement();
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null, atomicOperation -> tree.put(atomicOperation, entry % keys, rid(entry)));
+  }
+
+  private static ORecordId rid(final long entry) {
+    return new ORecordId((int) (entry & Short.MAX_VALUE), entry);
+  }
+}
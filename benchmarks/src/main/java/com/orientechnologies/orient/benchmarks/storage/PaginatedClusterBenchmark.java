@@ -0,0 +1,77 @@
+package com.orientechnologies.orient.benchmarks.storage;
+
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+import com.orientechnologies.orient.core.storage.cluster.v2.OPaginatedClusterV2;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Random reads and appends of records of {@link OPaginatedClusterV2}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PaginatedClusterBenchmark {
+  @Param({"1000000"})
+  public int records;
+
+  @Param({"128", "8192"})
+  public int recordSize;
+
+  private EmbeddedStorage embeddedStorage;
+  private OAtomicOperationsManager atomicOperationsManager;
+  private OPaginatedClusterV2 cluster;
+  private byte[] content;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    embeddedStorage = new EmbeddedStorage(PaginatedClusterBenchmark.class);
+    atomicOperationsManager = embeddedStorage.atomicOperationsManager();
+
+    cluster = new OPaginatedClusterV2("clusterBenchmark", embeddedStorage.storage());
+    cluster.configure(42, "clusterBenchmark");
+    atomicOperationsManager.executeInsideAtomicOperation(null, cluster::create);
+
+    content = new byte[recordSize];
+    ThreadLocalRandom.current().nextBytes(content);
+
+    StorageBenchmarks.load(
+        atomicOperationsManager,
+        records,
+        (atomicOperation, record) ->
+            cluster.createRecord(content, 1, (byte) 'd', null, atomicOperation));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    embeddedStorage.close();
+  }
+
+  @Benchmark
+  public ORawBuffer readRecord() throws IOException {
+    return cluster.readRecord(ThreadLocalRandom.current().nextLong(records), false);
+  }
+
+  @Benchmark
+  public void createRecord() throws IOException {
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation -> cluster.createRecord(content, 1, (byte) 'd', null, atomicOperation));
+  }
+}
@@ -0,0 +1,99 @@
+package com.orientechnologies.orient.benchmarks.storage;
+
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OReadCache;
+import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures page access through {@link com.orientechnologies.orient.core.storage.cache.chm
+ * .AsyncReadCache} of an embedded storage, both for the pages which are resident in cache and for
+ * the file which does not fit into it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ReadCacheBenchmark {
+  @Param({"1024", "65536"})
+  public int pages;
+
+  private EmbeddedStorage embeddedStorage;
+  private OReadCache readCache;
+  private OWriteCache writeCache;
+  private long fileId;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    embeddedStorage = new EmbeddedStorage(ReadCacheBenchmark.class);
+
+    readCache = embeddedStorage.storage().getReadCache();
+    writeCache = embeddedStorage.storage().getWriteCache();
+
+    fileId = readCache.addFile("readCacheBenchmark.pcl", writeCache);
+    for (int i = 0; i < pages; i++) {
+      final OCacheEntry cacheEntry = readCache.allocateNewPage(fileId, writeCache, null);
+      readCache.releaseFromWrite(cacheEntry, writeCache, true);
+    }
+
+    writeCache.flush(fileId);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    embeddedStorage.close();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public int loadForReadSingleThread() throws IOException {
+    return loadRandomPage();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public int loadForReadConcurrent() throws IOException {
+    return loadRandomPage();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public int loadForWrite() throws IOException {
+    final int pageIndex = ThreadLocalRandom.current().nextInt(pages);
+    final OCacheEntry cacheEntry =
+        readCache.loadForWrite(fileId, pageIndex, writeCache, false, null);
+    try {
+      return cacheEntry.getPageIndex();
+    } finally {
+      readCache.releaseFromWrite(cacheEntry, writeCache, false);
+    }
+  }
+
+  private int loadRandomPage() throws IOException {
+    final int pageIndex = ThreadLocalRandom.current().nextInt(pages);
+    final OCacheEntry cacheEntry = readCache.loadForRead(fileId, pageIndex, writeCache, false);
+    try {
+      return cacheEntry.getPageIndex();
+    } finally {
+      readCache.releaseFromRead(cacheEntry);
+    }
+  }
+}
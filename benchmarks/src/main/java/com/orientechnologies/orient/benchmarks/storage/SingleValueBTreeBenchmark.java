@@ -0,0 +1,96 @@
+package com.orientechnologies.orient.benchmarks.storage;
+
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueV3;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Point lookups, range scans and ingest of {@link CellBTreeSingleValueV3}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SingleValueBTreeBenchmark {
+  @Param({"1000000"})
+  public int keys;
+
+  @Param({"100"})
+  public int rangeSize;
+
+  private EmbeddedStorage embeddedStorage;
+  private OAtomicOperationsManager atomicOperationsManager;
+  private CellBTreeSingleValueV3<Long> tree;
+
+  private final AtomicLong nextKey = new AtomicLong();
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    embeddedStorage = new EmbeddedStorage(SingleValueBTreeBenchmark.class);
+    atomicOperationsManager = embeddedStorage.atomicOperationsManager();
+
+    tree =
+        new CellBTreeSingleValueV3<>(
+            "singleValueBenchmark", ".cbt", ".nbt", embeddedStorage.storage());
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation -> tree.create(atomicOperation, OLongSerializer.INSTANCE, null, 1, null));
+
+    StorageBenchmarks.load(
+        atomicOperationsManager,
+        keys,
+        (atomicOperation, key) -> tree.put(atomicOperation, key, rid(key)));
+    nextKey.set(keys);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    embeddedStorage.close();
+  }
+
+  @Benchmark
+  public ORID get() {
+    return tree.get(ThreadLocalRandom.current().nextLong(keys));
+  }
+
+  @Benchmark
+  public ORID getAbsent() {
+    return tree.get(keys + ThreadLocalRandom.current().nextLong(keys));
+  }
+
+  @Benchmark
+  public long iterateEntriesBetween() {
+    final long from = ThreadLocalRandom.current().nextLong(keys - rangeSize);
+    return tree.iterateEntriesBetween(from, true, from + rangeSize, false, true).count();
+  }
+
+  @Benchmark
+  public void put() throws IOException {
+    final long key = nextKey.getAndIncrement();
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null, atomicOperation -> tree.put(atomicOperation, key, rid(key)));
+  }
+
+  private static ORID rid(final long key) {
+    return new ORecordId((int) (key & Short.MAX_VALUE), key);
+  }
+}
@@ -0,0 +1,100 @@
+package com.orientechnologies.orient.benchmarks.storage;
+
+import com.orientechnologies.orient.core.OConstants;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark suite which covers hot paths of the storage engine: read and write
+ * caches, write ahead log, B-trees, hash index and clusters.
+ *
+ * <p>Results of every run are stored in JMH JSON format as a baseline named after the current
+ * OrientDB version inside of {@code baselineDirectory} (defaults to {@code ./baselines}). If
+ * {@code compareWith} property is set, results of the run are compared with the given baseline
+ * (either file path or version name) and the process exits with non zero code if any benchmark
+ * regressed by more than {@code regressionThreshold} percent (defaults to 10).
+ *
+ * <pre>
+ *   java -jar target/orientdb-benchmarks.jar [benchmark regexp]
+ *   java -DcompareWith=3.2.30 -jar target/orientdb-benchmarks.jar SingleValueBTree
+ * </pre>
+ */
+public final class StorageBenchmarks {
+  private static final int LOAD_BATCH_SIZE = 1_000;
+
+  private StorageBenchmarks() {}
+
+  public static void main(final String[] args) throws RunnerException, IOException {
+    final String include =
+        args.length > 0 ? args[0] : StorageBenchmarks.class.getPackage().getName() + ".*";
+
+    final File baselineDirectory = new File(System.getProperty("baselineDirectory", "baselines"));
+    if (!baselineDirectory.exists() && !baselineDirectory.mkdirs()) {
+      throw new IOException("Can not create directory " + baselineDirectory);
+    }
+
+    final File baseline = new File(baselineDirectory, OConstants.getRawVersion() + ".json");
+    final Options options =
+        new OptionsBuilder()
+            .include(include)
+            .jvmArgsAppend(
+                "--add-opens=jdk.unsupported/sun.misc=ALL-UNNAMED",
+                "--add-opens=java.base/sun.security.x509=ALL-UNNAMED",
+                "-Dmemory.directMemory.preallocate=false")
+            .resultFormat(ResultFormatType.JSON)
+            .result(baseline.getAbsolutePath())
+            .build();
+    new Runner(options).run();
+
+    final String compareWith = System.getProperty("compareWith");
+    if (compareWith != null) {
+      File previous = new File(compareWith);
+      if (!previous.exists()) {
+        previous = new File(baselineDirectory, compareWith + ".json");
+      }
+
+      final double threshold = Double.parseDouble(System.getProperty("regressionThreshold", "10"));
+      final List<BaselineComparison.Difference> regressions =
+          BaselineComparison.compare(previous, baseline, threshold, System.out);
+      if (!regressions.isEmpty()) {
+        System.exit(1);
+      }
+    }
+  }
+
+  /**
+   * Fills data structure under benchmark by {@code count} items using batches of atomic
+   * operations.
+   */
+  static void load(
+      final OAtomicOperationsManager atomicOperationsManager,
+      final long count,
+      final ItemLoader loader)
+      throws IOException {
+    for (long batchStart = 0; batchStart < count; batchStart += LOAD_BATCH_SIZE) {
+      final long start = batchStart;
+      final long end = Math.min(count, batchStart + LOAD_BATCH_SIZE);
+
+      atomicOperationsManager.executeInsideAtomicOperation(
+          null,
+          atomicOperation -> {
+            for (long item = start; item < end; item++) {
+              loader.load(atomicOperation, item);
+            }
+          });
+    }
+  }
+
+  @FunctionalInterface
+  interface ItemLoader {
+    void load(OAtomicOperation atomicOperation, long item) throws Exception;
+  }
+}
@@ -0,0 +1,86 @@
+package com.orientechnologies.orient.benchmarks.storage;
+
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWriteAheadLog;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures latency of logging of atomic operation records into {@link
+ * com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas.CASDiskWriteAheadLog},
+ * with and without forcing of written data to the disk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class WriteAheadLogBenchmark {
+  @Param({"128", "4096"})
+  public int recordSize;
+
+  private EmbeddedStorage embeddedStorage;
+  private OWriteAheadLog writeAheadLog;
+
+  private final AtomicLong unitIdGen = new AtomicLong();
+
+  @Setup(Level.Trial)
+  public void setup() {
+    embeddedStorage = new EmbeddedStorage(WriteAheadLogBenchmark.class);
+    writeAheadLog = embeddedStorage.storage().getWALInstance();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    embeddedStorage.close();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public OLogSequenceNumber logSingleThread() throws IOException {
+    return logOperation();
+  }
+
+  @Benchmark
+  @Threads(16)
+  public OLogSequenceNumber logConcurrent() throws IOException {
+    return logOperation();
+  }
+
+  @Benchmark
+  @Threads(16)
+  public OLogSequenceNumber logAndFlushConcurrent() throws IOException {
+    final OLogSequenceNumber lsn = logOperation();
+    writeAheadLog.flush();
+    return lsn;
+  }
+
+  private OLogSequenceNumber logOperation() throws IOException {
+    final byte[] metadata = new byte[recordSize];
+    ThreadLocalRandom.current().nextBytes(metadata);
+
+    final long unitId = unitIdGen.incrementAndGet();
+    final OLogSequenceNumber startLSN =
+        writeAheadLog.logAtomicOperationStartRecord(true, unitId, metadata);
+    return writeAheadLog.logAtomicOperationEndRecord(
+        unitId, false, startLSN, Collections.emptyMap());
+  }
+}
@@ -0,0 +1,98 @@
+package com.orientechnologies.orient.benchmarks.storage;
+
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OReadCache;
+import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurablePage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures cost of dirtying of pages in {@link
+ * com.orientechnologies.orient.core.storage.cache.local.OWOWCache} and of flushing of dirty pages
+ * of the single file to the disk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class WriteCacheBenchmark {
+  @Param({"16384"})
+  public int pages;
+
+  @Param({"64"})
+  public int pagesPerFlush;
+
+  private EmbeddedStorage embeddedStorage;
+  private OReadCache readCache;
+  private OWriteCache writeCache;
+  private long fileId;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    embeddedStorage = new EmbeddedStorage(WriteCacheBenchmark.class);
+
+    readCache = embeddedStorage.storage().getReadCache();
+    writeCache = embeddedStorage.storage().getWriteCache();
+
+    fileId = readCache.addFile("writeCacheBenchmark.pcl", writeCache);
+    for (int i = 0; i < pages; i++) {
+      final OCacheEntry cacheEntry = readCache.allocateNewPage(fileId, writeCache, null);
+      readCache.releaseFromWrite(cacheEntry, writeCache, true);
+    }
+
+    writeCache.flush(fileId);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    embeddedStorage.close();
+  }
+
+  @Benchmark
+  public void storeDirtyPage() throws IOException {
+    updateRandomPage();
+  }
+
+  @Benchmark
+  public void storeAndFlushDirtyPages() throws IOException {
+    for (int i = 0; i < pagesPerFlush; i++) {
+      updateRandomPage();
+    }
+
+    writeCache.flush(fileId);
+  }
+
+  private void updateRandomPage() throws IOException {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    final int pageIndex = random.nextInt(pages);
+
+    final OCacheEntry cacheEntry =
+        readCache.loadForWrite(fileId, pageIndex, writeCache, false, null);
+    try {
+      final ByteBuffer buffer = cacheEntry.getCachePointer().getBuffer();
+      final int slots = (buffer.capacity() - ODurablePage.NEXT_FREE_POSITION) / Long.BYTES;
+      buffer.putLong(
+          ODurablePage.NEXT_FREE_POSITION + random.nextInt(slots) * Long.BYTES, random.nextLong());
+    } finally {
+      readCache.releaseFromWrite(cacheEntry, writeCache, true);
+    }
+  }
+}
@@ -16,4 +16,5 @@ public enum MemTrace {
   DWL_ALLOCATE_COMPRESSED_CHUNK,
   ALLOCATE_FIRST_WAL_BUFFER,
   ALLOCATE_SECOND_WAL_BUFFER,
+  READ_AHEAD,
 }
@@ -29,6 +29,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Object of this class works at the same time as factory for <code>DirectByteBuffer</code> objects
@@ -36,7 +38,14 @@ import java.util.concurrent.atomic.AtomicReference;
  * by other parts of the code. All <code>DirectByteBuffer</code> objects have the same size which is
  * specified in objects constructor as "page size".
  *
+ * <p>To avoid contention on the shared pool when many threads allocate and release pages, pool is
+ * split on stripes. Each thread is bound to the single stripe, stripe keeps limited amount of pages
+ * released by its threads, so pages are reused by the same threads (and usually by the same cores)
+ * without access to the shared pool. Shared pool is used if stripe is empty (on allocation) or full
+ * (on release).
+ *
  * @see ODirectMemoryAllocator
+ * @see OGlobalConfiguration#DIRECT_MEMORY_POOL_STRIPES
  */
 public final class OByteBufferPool implements OByteBufferPoolMXBean {
   private static final OLogger logger = OLogManager.instance().logger(OByteBufferPool.class);
@@ -51,6 +60,13 @@ public final class OByteBufferPool implements OByteBufferPoolMXBean {
    */
   private static final AtomicReference<OByteBufferPool> INSTANCE_HOLDER = new AtomicReference<>();
 
+  /**
+   * Alignment of the pages which is needed to perform direct IO operations bypassing OS page cache.
+   *
+   * @see OGlobalConfiguration#STORAGE_USE_DIRECT_IO
+   */
+  public static final int DIRECT_IO_ALIGNMENT = 4096;
+
   /** Limit of direct memory pointers are hold inside of the pool */
   private final int poolSize;
 
@@ -62,14 +78,22 @@ public final class OByteBufferPool implements OByteBufferPoolMXBean {
     }
 
     int bufferSize;
+    boolean directIO;
     if (contextConfiguration != null) {
       bufferSize =
           contextConfiguration.getValueAsInteger(OGlobalConfiguration.DISK_CACHE_PAGE_SIZE);
+      directIO = contextConfiguration.getValueAsBoolean(OGlobalConfiguration.STORAGE_USE_DIRECT_IO);
     } else {
       bufferSize = OGlobalConfiguration.DISK_CACHE_PAGE_SIZE.getValueAsInteger();
+      directIO = OGlobalConfiguration.STORAGE_USE_DIRECT_IO.getValueAsBoolean();
     }
 
-    final OByteBufferPool newInstance = new OByteBufferPool(bufferSize * 1024);
+    final OByteBufferPool newInstance =
+        new OByteBufferPool(
+            bufferSize * 1024,
+            ODirectMemoryAllocator.instance(),
+            OGlobalConfiguration.DIRECT_MEMORY_POOL_LIMIT.getValueAsInteger(),
+            directIO ? DIRECT_IO_ALIGNMENT : 0);
     if (INSTANCE_HOLDER.compareAndSet(null, newInstance)) {
       return newInstance;
     }
@@ -99,14 +123,28 @@ public final class OByteBufferPool implements OByteBufferPoolMXBean {
   /** Direct memory allocator. */
   private final ODirectMemoryAllocator allocator;
 
+  /** Alignment of addresses of the pages, 0 if pages are not aligned. */
+  private final int alignment;
+
+  /** Stripes of the pool, <code>null</code> if pool is not striped. */
+  private final Stripe[] stripes;
+
+  private final AtomicInteger stripeCounter = new AtomicInteger();
+  private final ThreadLocal<Stripe> threadStripe;
+
+  private final LongAdder sharedPoolHits = new LongAdder();
+  private final LongAdder allocations = new LongAdder();
+
   /**
    * @param pageSize Size of single page (instance of <code>DirectByteBuffer</code>) returned by
    *     pool.
    */
   public OByteBufferPool(int pageSize) {
-    this.pageSize = pageSize;
-    this.allocator = ODirectMemoryAllocator.instance();
-    this.poolSize = OGlobalConfiguration.DIRECT_MEMORY_POOL_LIMIT.getValueAsInteger();
+    this(
+        pageSize,
+        ODirectMemoryAllocator.instance(),
+        OGlobalConfiguration.DIRECT_MEMORY_POOL_LIMIT.getValueAsInteger(),
+        0);
   }
 
   /**
@@ -116,9 +154,61 @@ public final class OByteBufferPool implements OByteBufferPoolMXBean {
    * @param poolSize Size of the page pool
    */
   public OByteBufferPool(int pageSize, ODirectMemoryAllocator allocator, int poolSize) {
+    this(pageSize, allocator, poolSize, 0);
+  }
+
+  /**
+   * @param allocator Direct memory allocator to use.
+   * @param pageSize Size of single page (instance of <code>DirectByteBuffer</code>) returned by
+   *     pool.
+   * @param poolSize Size of the page pool
+   * @param alignment Alignment of addresses of the pages, 0 if pages should not be aligned.
+   */
+  public OByteBufferPool(
+      int pageSize, ODirectMemoryAllocator allocator, int poolSize, int alignment) {
+    this(
+        pageSize,
+        allocator,
+        poolSize,
+        alignment,
+        OGlobalConfiguration.DIRECT_MEMORY_POOL_STRIPES.getValueAsInteger(),
+        OGlobalConfiguration.DIRECT_MEMORY_POOL_STRIPE_SIZE.getValueAsInteger());
+  }
+
+  /**
+   * @param allocator Direct memory allocator to use.
+   * @param pageSize Size of single page (instance of <code>DirectByteBuffer</code>) returned by
+   *     pool.
+   * @param poolSize Size of the page pool
+   * @param alignment Alignment of addresses of the pages, 0 if pages should not be aligned.
+   * @param stripes Amount of stripes of the pool, 0 if pool should not be striped.
+   * @param stripeSize Maximum amount of pages kept inside of single stripe.
+   */
+  public OByteBufferPool(
+      int pageSize,
+      ODirectMemoryAllocator allocator,
+      int poolSize,
+      int alignment,
+      int stripes,
+      int stripeSize) {
     this.pageSize = pageSize;
     this.allocator = allocator;
     this.poolSize = poolSize;
+    this.alignment = alignment;
+
+    if (stripes > 0 && stripeSize > 0) {
+      this.stripes = new Stripe[stripes];
+      for (int i = 0; i < stripes; i++) {
+        this.stripes[i] = new Stripe(stripeSize);
+      }
+
+      this.threadStripe =
+          ThreadLocal.withInitial(
+              () -> this.stripes[(stripeCounter.getAndIncrement() & Integer.MAX_VALUE) % stripes]);
+    } else {
+      this.stripes = null;
+      this.threadStripe = null;
+    }
   }
 
   /**
@@ -130,9 +220,19 @@ public final class OByteBufferPool implements OByteBufferPoolMXBean {
    * @return Direct memory buffer instance.
    */
   public final OPointer acquireDirect(boolean clear, MemTrace intention) {
-    OPointer pointer;
+    OPointer pointer = null;
+
+    if (stripes != null) {
+      pointer = threadStripe.get().poll();
+    }
 
-    pointer = pointersPool.poll();
+    if (pointer == null) {
+      pointer = pointersPool.poll();
+
+      if (pointer != null) {
+        sharedPoolHits.increment();
+      }
+    }
 
     if (pointer != null) {
       pointersPoolSize.decrementAndGet();
@@ -141,7 +241,8 @@ public final class OByteBufferPool implements OByteBufferPoolMXBean {
         pointer.clear();
       }
     } else {
-      pointer = allocator.allocate(pageSize, clear, intention);
+      allocations.increment();
+      pointer = allocator.allocate(pageSize, alignment, clear, intention);
     }
 
     pointer.getNativeByteBuffer().position(0);
@@ -168,17 +269,70 @@ public final class OByteBufferPool implements OByteBufferPoolMXBean {
     if (poolSize > this.poolSize) {
       pointersPoolSize.decrementAndGet();
       allocator.deallocate(pointer);
-    } else {
+    } else if (stripes == null || !threadStripe.get().offer(pointer)) {
       pointersPool.add(pointer);
     }
   }
 
+  /** @return Alignment of addresses of the pages, 0 if pages are not aligned. */
+  public int getAlignment() {
+    return alignment;
+  }
+
   /** @inheritDoc */
   @Override
   public final int getPoolSize() {
     return pointersPoolSize.get();
   }
 
+  /** @inheritDoc */
+  @Override
+  public int getStripeCount() {
+    return stripes == null ? 0 : stripes.length;
+  }
+
+  /** @inheritDoc */
+  @Override
+  public int[] getStripePoolSizes() {
+    if (stripes == null) {
+      return new int[0];
+    }
+
+    final int[] sizes = new int[stripes.length];
+    for (int i = 0; i < stripes.length; i++) {
+      sizes[i] = stripes[i].size;
+    }
+
+    return sizes;
+  }
+
+  /** @inheritDoc */
+  @Override
+  public long[] getStripeHits() {
+    if (stripes == null) {
+      return new long[0];
+    }
+
+    final long[] hits = new long[stripes.length];
+    for (int i = 0; i < stripes.length; i++) {
+      hits[i] = stripes[i].hits;
+    }
+
+    return hits;
+  }
+
+  /** @inheritDoc */
+  @Override
+  public long getSharedPoolHits() {
+    return sharedPoolHits.sum();
+  }
+
+  /** @inheritDoc */
+  @Override
+  public long getAllocations() {
+    return allocations.sum();
+  }
+
   /** Checks whether there are not released buffers in the pool */
   public void checkMemoryLeaks() {
     boolean detected = false;
@@ -196,6 +350,12 @@ public final class OByteBufferPool implements OByteBufferPoolMXBean {
 
   /** Clears pool and dealocates memory. */
   public void clear() {
+    if (stripes != null) {
+      for (final Stripe stripe : stripes) {
+        stripe.clear(allocator);
+      }
+    }
+
     for (OPointer pointer : pointersPool) {
       allocator.deallocate(pointer);
     }
@@ -210,6 +370,80 @@ public final class OByteBufferPool implements OByteBufferPoolMXBean {
     pointerMapping.clear();
   }
 
+  /**
+   * Stack of pages released by threads bound to the stripe. Stripe is skipped if it is locked by
+   * other thread, so threads never wait for each other inside of stripe.
+   */
+  private static final class Stripe {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final OPointer[] pointers;
+
+    private volatile int size;
+    private volatile long hits;
+
+    private Stripe(final int capacity) {
+      pointers = new OPointer[capacity];
+    }
+
+    private OPointer poll() {
+      if (size == 0 || !lock.tryLock()) {
+        return null;
+      }
+
+      try {
+        if (size == 0) {
+          return null;
+        }
+
+        final int index = size - 1;
+        final OPointer pointer = pointers[index];
+        pointers[index] = null;
+
+        //noinspection NonAtomicOperationOnVolatileField
+        hits++;
+        size = index;
+
+        return pointer;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private boolean offer(final OPointer pointer) {
+      if (size == pointers.length || !lock.tryLock()) {
+        return false;
+      }
+
+      try {
+        if (size == pointers.length) {
+          return false;
+        }
+
+        pointers[size] = pointer;
+        //noinspection NonAtomicOperationOnVolatileField
+        size++;
+
+        return true;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void clear(final ODirectMemoryAllocator allocator) {
+      lock.lock();
+      try {
+        for (int i = 0; i < size; i++) {
+          allocator.deallocate(pointers[i]);
+          pointers[i] = null;
+        }
+
+        size = 0;
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
   /** Holder which contains if memory tracking is enabled stack trace for the first allocation. */
   private static final class PointerTracker {
     private final Exception allocation;
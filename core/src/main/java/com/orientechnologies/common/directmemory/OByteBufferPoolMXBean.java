@@ -26,4 +26,19 @@ package com.orientechnologies.common.directmemory;
 public interface OByteBufferPoolMXBean {
   /** @return Current size of the memory pool */
   int getPoolSize();
+
+  /** @return Amount of stripes of the pool, 0 if pool is not striped. */
+  int getStripeCount();
+
+  /** @return Amount of pages which are currently cached inside of each stripe. */
+  int[] getStripePoolSizes();
+
+  /** @return Amount of pages which were acquired from each stripe. */
+  long[] getStripeHits();
+
+  /** @return Amount of pages which were acquired from the shared pool of pages. */
+  long getSharedPoolHits();
+
+  /** @return Amount of pages which were allocated because pool did not contain free pages. */
+  long getAllocations();
 }
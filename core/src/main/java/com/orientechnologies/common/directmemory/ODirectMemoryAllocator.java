@@ -157,30 +157,59 @@ public class ODirectMemoryAllocator implements ODirectMemoryAllocatorMXBean {
    *     memory of given size
    */
   public OPointer allocate(int size, boolean clear, MemTrace intention) {
+    return allocate(size, 0, clear, intention);
+  }
+
+  /**
+   * Allocates chunk of direct memory of given size, address of the chunk is aligned to the given
+   * boundary. Aligned chunks are needed for the direct IO which bypasses OS page cache. Alignment
+   * is provided by allocation of bigger chunk, so memory consumption of each aligned chunk is
+   * increased by the value of alignment.
+   *
+   * @param size Amount of memory to allocate
+   * @param alignment Alignment of the address of chunk, should be power of two, 0 means that
+   *     alignment is not needed
+   * @param clear clears memory if needed
+   * @param intention Why this memory is allocated. This parameter is used for memory profiling.
+   * @return Pointer to allocated memory
+   * @throws ODirectMemoryAllocationFailedException if it is impossible to allocate amount of direct
+   *     memory of given size
+   */
+  public OPointer allocate(int size, int alignment, boolean clear, MemTrace intention) {
     if (size <= 0) {
       throw new IllegalArgumentException("Size of allocated memory can not be less or equal to 0");
     }
 
+    if (alignment < 0 || (alignment & (alignment - 1)) != 0) {
+      throw new IllegalArgumentException("Alignment should be power of two, but is " + alignment);
+    }
+
     final OPointer ptr;
 
-    final long pointer;
+    final int allocatedSize = size + alignment;
+    final long allocatedPointer;
     if (unsafe == null) {
-      pointer = MemoryIO.getInstance().allocateMemory(size, clear);
+      allocatedPointer = MemoryIO.getInstance().allocateMemory(allocatedSize, clear);
     } else {
-      pointer = unsafe.allocateMemory(size);
+      allocatedPointer = unsafe.allocateMemory(allocatedSize);
       if (clear) {
-        unsafe.setMemory(pointer, size, (byte) 0);
+        unsafe.setMemory(allocatedPointer, allocatedSize, (byte) 0);
       }
     }
 
-    if (pointer <= 0) {
+    if (allocatedPointer <= 0) {
       throw new ODirectMemoryAllocationFailedException(
           "Can not allocate direct memory chunk of size " + size);
     }
 
-    ptr = new OPointer(pointer, size, intention);
+    if (alignment == 0) {
+      ptr = new OPointer(allocatedPointer, size, intention);
+    } else {
+      final long pointer = (allocatedPointer + alignment - 1) & -alignment;
+      ptr = new OPointer(allocatedPointer, pointer, size, allocatedSize, intention);
+    }
 
-    memoryConsumption.add(size);
+    memoryConsumption.add(allocatedSize);
     if (PROFILE_MEMORY) {
       final EnumMap<MemTrace, OModifiableLong> consumptionMap = memoryConsumptionByIntention.get();
 
@@ -196,10 +225,10 @@ public class ODirectMemoryAllocator implements ODirectMemoryAllocatorMXBean {
           intention,
           (k, v) -> {
             if (v == null) {
-              return new OModifiableLong(size);
+              return new OModifiableLong(allocatedSize);
             }
 
-            v.value += size;
+            v.value += allocatedSize;
             return v;
           });
     }
@@ -224,7 +253,7 @@ public class ODirectMemoryAllocator implements ODirectMemoryAllocatorMXBean {
       throw new IllegalArgumentException("Null value is passed");
     }
 
-    final long ptr = pointer.getNativePointer();
+    final long ptr = pointer.getAllocatedPointer();
     if (ptr > 0) {
 
       if (unsafe != null) {
@@ -233,7 +262,7 @@ public class ODirectMemoryAllocator implements ODirectMemoryAllocatorMXBean {
         MemoryIO.getInstance().freeMemory(ptr);
       }
 
-      memoryConsumption.add(-pointer.getSize());
+      memoryConsumption.add(-pointer.getAllocatedSize());
 
       if (PROFILE_MEMORY) {
         final EnumMap<MemTrace, OModifiableLong> consumptionMap =
@@ -247,10 +276,10 @@ public class ODirectMemoryAllocator implements ODirectMemoryAllocatorMXBean {
             pointer.getIntention(),
             (k, v) -> {
               if (v == null) {
-                return new OModifiableLong(-pointer.getSize());
+                return new OModifiableLong(-pointer.getAllocatedSize());
               }
 
-              v.value -= pointer.getSize();
+              v.value -= pointer.getAllocatedSize();
               return v;
             });
 
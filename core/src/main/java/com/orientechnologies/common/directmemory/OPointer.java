@@ -11,12 +11,23 @@ public final class OPointer {
   private final int size;
   private final MemTrace intention;
 
+  /** Address and size of the allocated memory chunk, differs from the pointer if it is aligned. */
+  private final long allocatedPointer;
+
+  private final int allocatedSize;
+
   private SoftReference<ByteBuffer> byteBuffer;
   private int hash = 0;
 
   OPointer(long pointer, int size, MemTrace intention) {
+    this(pointer, pointer, size, size, intention);
+  }
+
+  OPointer(long allocatedPointer, long pointer, int size, int allocatedSize, MemTrace intention) {
+    this.allocatedPointer = allocatedPointer;
     this.pointer = pointer;
     this.size = size;
+    this.allocatedSize = allocatedSize;
     this.intention = intention;
   }
 
@@ -48,6 +59,14 @@ public final class OPointer {
     return size;
   }
 
+  long getAllocatedPointer() {
+    return allocatedPointer;
+  }
+
+  int getAllocatedSize() {
+    return allocatedSize;
+  }
+
   MemTrace getIntention() {
     return intention;
   }
@@ -0,0 +1,524 @@
+package com.orientechnologies.common.jnr;
+
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.log.OLogger;
+import java.io.IOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import jnr.ffi.Memory;
+import jnr.ffi.Pointer;
+import jnr.ffi.Runtime;
+
+/**
+ * Instance of io_uring interface of Linux kernel. Single instance is shared between all files of
+ * the storage. Operations are added into the submission queue by {@link #read(int, long, int,
+ * long, CompletionHandler)}, {@link #write(int, long, int, long, CompletionHandler)} and {@link
+ * #fsync(int, CompletionHandler)} calls and passed to the kernel all together by the {@link
+ * #submit()} call, so batch of pages is written or read by the single system call. Results of the
+ * operations are processed by the dedicated completion thread.
+ *
+ * <p>Only file descriptors opened by {@link #openFile(Path)} may be used for operations of the
+ * ring.
+ */
+public final class OIOUring implements AutoCloseable {
+  private static final OLogger logger = OLogManager.instance().logger(OIOUring.class);
+
+  /** Handler which is called by completion thread once operation is completed. */
+  public interface CompletionHandler {
+    /**
+     * @param result Amount of transferred bytes or negated error code if operation was failed.
+     */
+    void completed(int result);
+  }
+
+  private static final long SYS_IO_URING_SETUP = 425;
+  private static final long SYS_IO_URING_ENTER = 426;
+
+  private static final byte IORING_OP_NOP = 0;
+  private static final byte IORING_OP_FSYNC = 3;
+  private static final byte IORING_OP_READ = 22;
+  private static final byte IORING_OP_WRITE = 23;
+
+  private static final int IORING_ENTER_GETEVENTS = 1;
+
+  private static final int IORING_FEAT_NODROP = 1 << 1;
+  private static final int IORING_FEAT_SUBMIT_STABLE = 1 << 2;
+  private static final int IORING_FEAT_RW_CUR_POS = 1 << 3;
+  private static final int REQUIRED_FEATURES =
+      IORING_FEAT_NODROP | IORING_FEAT_SUBMIT_STABLE | IORING_FEAT_RW_CUR_POS;
+
+  private static final long IORING_OFF_SQ_RING = 0L;
+  private static final long IORING_OFF_CQ_RING = 0x8000000L;
+  private static final long IORING_OFF_SQES = 0x10000000L;
+
+  private static final int PROT_READ_WRITE = 0x1 | 0x2;
+  private static final int MAP_SHARED_POPULATE = 0x01 | 0x8000;
+  private static final long MAP_FAILED = -1;
+
+  private static final int O_RDWR = 0x2;
+  private static final int O_CLOEXEC = 0x80000;
+
+  private static final int EINTR = 4;
+  private static final int EAGAIN = 11;
+  private static final int EBUSY = 16;
+  private static final int EIO = 5;
+
+  /** Size of <code>struct io_uring_params</code> and offsets of its fields. */
+  private static final int PARAMS_SIZE = 120;
+
+  private static final int PARAMS_SQ_ENTRIES = 0;
+  private static final int PARAMS_CQ_ENTRIES = 4;
+  private static final int PARAMS_FEATURES = 20;
+  private static final int PARAMS_SQ_OFF = 40;
+  private static final int PARAMS_CQ_OFF = 80;
+
+  private static final int SQE_SIZE = 64;
+  private static final int CQE_SIZE = 16;
+
+  /** Identifier of operation which is used to wake up completion thread. */
+  private static final long WAKE_UP_ID = 0;
+
+  private final OIOUringLibrary library;
+  private final Runtime runtime;
+  private final int ringFd;
+
+  private final long sqRingAddress;
+  private final long sqRingSize;
+  private final long cqRingAddress;
+  private final long cqRingSize;
+  private final long sqesAddress;
+  private final long sqesSize;
+
+  private final Pointer sqRing;
+  private final Pointer cqRing;
+  private final Pointer sqes;
+
+  private final int sqHeadOffset;
+  private final int sqTailOffset;
+  private final int sqMask;
+  private final int sqEntries;
+  private final int sqArrayOffset;
+
+  private final int cqHeadOffset;
+  private final int cqTailOffset;
+  private final int cqMask;
+  private final int cqesOffset;
+
+  /** Protects submission queue, kernel does not allow concurrent submitters. */
+  private final Lock submissionLock = new ReentrantLock();
+
+  private int sqTail;
+  private int pendingSubmissions;
+
+  /**
+   * Limits amount of operations in flight, so completion queue is never overflowed, operations
+   * issued by completion handlers bypass this limit.
+   */
+  private final Semaphore inFlight;
+
+  private final AtomicLong operationIdGen = new AtomicLong(WAKE_UP_ID);
+  private final Map<Long, Operation> operations = new ConcurrentHashMap<>();
+
+  private final Thread completionThread;
+
+  private volatile boolean closed;
+
+  /** Accessed only by completion thread. */
+  private boolean stopRequested;
+
+  private OIOUring(final OIOUringLibrary library, final Runtime runtime, final int entries)
+      throws IOException {
+    this.library = library;
+    this.runtime = runtime;
+
+    final Pointer params = Memory.allocateDirect(runtime, PARAMS_SIZE, true);
+    final long fd = library.syscall(SYS_IO_URING_SETUP, entries, params);
+    if (fd < 0) {
+      throw new IOException("Can not create io_uring instance, error code " + lastError());
+    }
+    ringFd = (int) fd;
+
+    final int features = params.getInt(PARAMS_FEATURES);
+    if ((features & REQUIRED_FEATURES) != REQUIRED_FEATURES) {
+      library.close(ringFd);
+      throw new IOException(
+          "Version of io_uring interface is not supported, features flag is " + features);
+    }
+
+    sqEntries = params.getInt(PARAMS_SQ_ENTRIES);
+    final int cqEntries = params.getInt(PARAMS_CQ_ENTRIES);
+
+    sqHeadOffset = params.getInt(PARAMS_SQ_OFF);
+    sqTailOffset = params.getInt(PARAMS_SQ_OFF + 4);
+    final int sqMaskOffset = params.getInt(PARAMS_SQ_OFF + 8);
+    sqArrayOffset = params.getInt(PARAMS_SQ_OFF + 24);
+
+    cqHeadOffset = params.getInt(PARAMS_CQ_OFF);
+    cqTailOffset = params.getInt(PARAMS_CQ_OFF + 4);
+    final int cqMaskOffset = params.getInt(PARAMS_CQ_OFF + 8);
+    cqesOffset = params.getInt(PARAMS_CQ_OFF + 20);
+
+    sqRingSize = sqArrayOffset + (long) sqEntries * Integer.BYTES;
+    cqRingSize = cqesOffset + (long) cqEntries * CQE_SIZE;
+    sqesSize = (long) sqEntries * SQE_SIZE;
+
+    sqRingAddress = map(sqRingSize, IORING_OFF_SQ_RING);
+    cqRingAddress = map(cqRingSize, IORING_OFF_CQ_RING);
+    sqesAddress = map(sqesSize, IORING_OFF_SQES);
+
+    if (sqRingAddress == MAP_FAILED || cqRingAddress == MAP_FAILED || sqesAddress == MAP_FAILED) {
+      final int error = lastError();
+      unmap();
+      library.close(ringFd);
+      throw new IOException("Can not map io_uring queues, error code " + error);
+    }
+
+    sqRing = Pointer.wrap(runtime, sqRingAddress);
+    cqRing = Pointer.wrap(runtime, cqRingAddress);
+    sqes = Pointer.wrap(runtime, sqesAddress);
+
+    sqMask = sqRing.getInt(sqMaskOffset);
+    cqMask = cqRing.getInt(cqMaskOffset);
+    sqTail = sqRing.getInt(sqTailOffset);
+
+    inFlight = new Semaphore(Math.min(sqEntries, cqEntries - 1));
+
+    completionThread = new Thread(this::processCompletions, "OrientDB io_uring completion thread");
+    completionThread.setDaemon(true);
+    completionThread.start();
+  }
+
+  /**
+   * Creates new io_uring instance.
+   *
+   * @param entries Size of submission queue, rounded by the kernel to the power of two.
+   * @throws IOException if io_uring is not supported by the kernel.
+   */
+  static OIOUring open(final OIOUringLibrary library, final int entries) throws IOException {
+    return new OIOUring(library, Runtime.getRuntime(library), entries);
+  }
+
+  /**
+   * Opens file for read and write.
+   *
+   * @return Descriptor of the opened file.
+   */
+  public int openFile(final Path path) throws IOException {
+    final int fd = library.open(path.toString(), O_RDWR | O_CLOEXEC, 0);
+    if (fd < 0) {
+      throw new IOException("Can not open file " + path + ", error code " + lastError());
+    }
+
+    return fd;
+  }
+
+  public void closeFile(final int fd) throws IOException {
+    if (library.close(fd) < 0) {
+      throw new IOException("Can not close file descriptor " + fd + ", error code " + lastError());
+    }
+  }
+
+  public void truncateFile(final int fd, final long size) throws IOException {
+    if (library.ftruncate(fd, size) < 0) {
+      throw new IOException(
+          "Can not truncate file descriptor " + fd + ", error code " + lastError());
+    }
+  }
+
+  /** @return Native address of the data of direct buffer. */
+  public long address(final ByteBuffer buffer) {
+    assert buffer.isDirect();
+    return Pointer.wrap(runtime, buffer).address();
+  }
+
+  /**
+   * Adds read operation into the submission queue. Caller should guarantee that memory region is
+   * not released till the operation is completed.
+   */
+  public void read(
+      final int fd,
+      final long address,
+      final int length,
+      final long position,
+      final CompletionHandler handler)
+      throws IOException {
+    prepare(IORING_OP_READ, fd, address, length, position, handler);
+  }
+
+  /**
+   * Adds write operation into the submission queue. Caller should guarantee that memory region is
+   * not released till the operation is completed.
+   */
+  public void write(
+      final int fd,
+      final long address,
+      final int length,
+      final long position,
+      final CompletionHandler handler)
+      throws IOException {
+    prepare(IORING_OP_WRITE, fd, address, length, position, handler);
+  }
+
+  /** Adds operation which flushes content of the file to the disk into the submission queue. */
+  public void fsync(final int fd, final CompletionHandler handler) throws IOException {
+    prepare(IORING_OP_FSYNC, fd, 0, 0, 0, handler);
+  }
+
+  /** Passes all operations added into the submission queue to the kernel. */
+  public void submit() throws IOException {
+    submissionLock.lock();
+    try {
+      doSubmit();
+    } finally {
+      submissionLock.unlock();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+
+    closed = true;
+
+    submissionLock.lock();
+    try {
+      addEntry(IORING_OP_NOP, -1, 0, 0, 0, WAKE_UP_ID);
+      doSubmit();
+    } finally {
+      submissionLock.unlock();
+    }
+
+    try {
+      completionThread.join();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Wait for completion of io_uring operations was interrupted", e);
+    }
+
+    failPendingOperations();
+
+    unmap();
+    library.close(ringFd);
+  }
+
+  private void prepare(
+      final byte opcode,
+      final int fd,
+      final long address,
+      final int length,
+      final long position,
+      final CompletionHandler handler)
+      throws IOException {
+    if (closed) {
+      throw new IOException("io_uring instance is closed");
+    }
+
+    // operations issued from completion handlers can not wait for the free slot
+    // because free slots are released by the completion thread itself
+    final boolean bounded = Thread.currentThread() != completionThread;
+    if (bounded && !inFlight.tryAcquire()) {
+      submit();
+      inFlight.acquireUninterruptibly();
+    }
+
+    final long operationId = operationIdGen.incrementAndGet();
+    operations.put(operationId, new Operation(handler, bounded));
+
+    boolean added = false;
+    submissionLock.lock();
+    try {
+      while (sqTail - sqHead() == sqEntries) {
+        doSubmit();
+      }
+
+      addEntry(opcode, fd, address, length, position, operationId);
+      added = true;
+    } finally {
+      submissionLock.unlock();
+
+      // operation which is not queued is never completed, so its slot should be released here
+      if (!added && operations.remove(operationId) != null && bounded) {
+        inFlight.release();
+      }
+    }
+  }
+
+  private void addEntry(
+      final byte opcode,
+      final int fd,
+      final long address,
+      final int length,
+      final long position,
+      final long operationId) {
+    final int index = sqTail & sqMask;
+    final long sqe = (long) index * SQE_SIZE;
+
+    for (int i = 0; i < SQE_SIZE; i += Long.BYTES) {
+      sqes.putLong(sqe + i, 0);
+    }
+
+    sqes.putByte(sqe, opcode);
+    sqes.putInt(sqe + 4, fd);
+    sqes.putLong(sqe + 8, position);
+    sqes.putLong(sqe + 16, address);
+    sqes.putInt(sqe + 24, length);
+    sqes.putLong(sqe + 32, operationId);
+
+    sqRing.putInt(sqArrayOffset + (long) index * Integer.BYTES, index);
+
+    sqTail++;
+    // entry should be visible to the kernel before the tail is updated
+    VarHandle.releaseFence();
+    sqRing.putInt(sqTailOffset, sqTail);
+
+    pendingSubmissions++;
+  }
+
+  private void doSubmit() throws IOException {
+    while (pendingSubmissions > 0) {
+      final long submitted =
+          library.syscall(SYS_IO_URING_ENTER, ringFd, pendingSubmissions, 0, 0, 0L, 0L);
+      if (submitted < 0) {
+        final int error = lastError();
+        if (error == EINTR || error == EAGAIN || error == EBUSY) {
+          Thread.yield();
+          continue;
+        }
+
+        throw new IOException("Can not submit io_uring operations, error code " + error);
+      }
+
+      pendingSubmissions -= (int) submitted;
+    }
+  }
+
+  private int sqHead() {
+    final int head = sqRing.getInt(sqHeadOffset);
+    VarHandle.acquireFence();
+    return head;
+  }
+
+  private void processCompletions() {
+    try {
+      while (true) {
+        final long result =
+            library.syscall(SYS_IO_URING_ENTER, ringFd, 0, 1, IORING_ENTER_GETEVENTS, 0L, 0L);
+        if (result < 0) {
+          final int error = lastError();
+          if (error == EINTR) {
+            continue;
+          }
+
+          logger.errorNoDb(
+              "Error during wait for completion of io_uring operations, error code %d",
+              null, error);
+          failPendingOperations();
+          return;
+        }
+
+        if (reapCompletions()) {
+          return;
+        }
+      }
+    } catch (final RuntimeException | Error e) {
+      logger.errorNoDb("Error during processing of completed io_uring operations", e);
+      failPendingOperations();
+    }
+  }
+
+  /** @return <code>true</code> if completion thread is requested to stop. */
+  private boolean reapCompletions() {
+    int head = cqRing.getInt(cqHeadOffset);
+    int tail = cqRing.getInt(cqTailOffset);
+    VarHandle.acquireFence();
+
+    while (head != tail) {
+      while (head != tail) {
+        final long cqe = cqesOffset + (long) (head & cqMask) * CQE_SIZE;
+        final long operationId = cqRing.getLong(cqe);
+        final int result = cqRing.getInt(cqe + 8);
+        head++;
+
+        if (operationId == WAKE_UP_ID) {
+          stopRequested = true;
+          continue;
+        }
+
+        final Operation operation = operations.remove(operationId);
+        if (operation != null) {
+          operation.complete(result);
+        }
+      }
+
+      // completion queue entries should be read before they can be reused by the kernel
+      VarHandle.releaseFence();
+      cqRing.putInt(cqHeadOffset, head);
+
+      tail = cqRing.getInt(cqTailOffset);
+      VarHandle.acquireFence();
+    }
+
+    return stopRequested && operations.isEmpty();
+  }
+
+  private void failPendingOperations() {
+    final Iterator<Operation> iterator = operations.values().iterator();
+    while (iterator.hasNext()) {
+      final Operation operation = iterator.next();
+      iterator.remove();
+      operation.complete(-EIO);
+    }
+  }
+
+  private long map(final long size, final long offset) {
+    return library.mmap(0, size, PROT_READ_WRITE, MAP_SHARED_POPULATE, ringFd, offset);
+  }
+
+  private void unmap() {
+    if (sqRingAddress != MAP_FAILED) {
+      library.munmap(sqRingAddress, sqRingSize);
+    }
+    if (cqRingAddress != MAP_FAILED) {
+      library.munmap(cqRingAddress, cqRingSize);
+    }
+    if (sqesAddress != MAP_FAILED) {
+      library.munmap(sqesAddress, sqesSize);
+    }
+  }
+
+  private int lastError() {
+    return runtime.getLastError();
+  }
+
+  private final class Operation {
+    private final CompletionHandler handler;
+    private final boolean bounded;
+
+    private Operation(final CompletionHandler handler, final boolean bounded) {
+      this.handler = handler;
+      this.bounded = bounded;
+    }
+
+    private void complete(final int result) {
+      if (bounded) {
+        inFlight.release();
+      }
+
+      try {
+        handler.completed(result);
+      } catch (final RuntimeException e) {
+        logger.errorNoDb("Error during processing of result of io_uring operation", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package com.orientechnologies.common.jnr;
+
+import jnr.ffi.Pointer;
+
+/** Functions of C library which are needed to work with io_uring. */
+public interface OIOUringLibrary {
+  /** <code>io_uring_setup(entries, params)</code> system call. */
+  long syscall(long number, int entries, Pointer params);
+
+  /** <code>io_uring_enter(fd, toSubmit, minComplete, flags, sig, sigSize)</code> system call. */
+  long syscall(
+      long number, int fd, int toSubmit, int minComplete, int flags, long sig, long sigSize);
+
+  long mmap(long address, long length, int prot, int flags, int fd, long offset);
+
+  int munmap(long address, long length);
+
+  int open(String path, int flags, int mode);
+
+  int close(int fd);
+
+  int ftruncate(int fd, long length);
+}
@@ -37,6 +37,7 @@ import javax.management.MBeanServer;
 import javax.management.MalformedObjectNameException;
 import javax.management.ObjectName;
 import javax.management.ReflectionException;
+import jnr.ffi.LibraryLoader;
 import jnr.posix.POSIX;
 import jnr.posix.POSIXFactory;
 import jnr.posix.RLimit;
@@ -50,6 +51,9 @@ public class ONative {
 
   private static volatile POSIX posix;
 
+  private static volatile OIOUringLibrary ioUringLibrary;
+  private static volatile boolean ioUringLibraryLoaded;
+
   public static ONative instance() {
     if (instance != null) return instance;
 
@@ -490,4 +494,53 @@ public class ONative {
   public boolean isOsRoot() {
     return OIOUtils.isOsLinux() && posix.getegid() == 0;
   }
+
+  /**
+   * Creates new io_uring instance if it is supported by the kernel.
+   *
+   * @param entries Size of the submission queue.
+   * @return io_uring instance or <code>null</code> if io_uring interface can not be used.
+   */
+  public OIOUring openIOUring(final int entries) {
+    final OIOUringLibrary library = ioUringLibrary();
+    if (library == null) {
+      return null;
+    }
+
+    try {
+      return OIOUring.open(library, entries);
+    } catch (final IOException | RuntimeException e) {
+      logger.infoNoDb("io_uring interface is not supported (%s)", e.getMessage());
+      return null;
+    }
+  }
+
+  private static OIOUringLibrary ioUringLibrary() {
+    if (ioUringLibraryLoaded) {
+      return ioUringLibrary;
+    }
+
+    initLock.lock();
+    try {
+      if (!ioUringLibraryLoaded) {
+        if (OIOUtils.isOsLinux()) {
+          try {
+            // without failImmediately() errors of loading are thrown only on the first call of
+            // the library, so the io_uring interface would be used without a working library
+            ioUringLibrary =
+                LibraryLoader.create(OIOUringLibrary.class).failImmediately().load("c");
+          } catch (final RuntimeException | LinkageError e) {
+            logger.infoNoDb(
+                "Can not load C library, io_uring interface will not be used (%s)", e.getMessage());
+          }
+        }
+
+        ioUringLibraryLoaded = true;
+      }
+    } finally {
+      initLock.unlock();
+    }
+
+    return ioUringLibrary;
+  }
 }
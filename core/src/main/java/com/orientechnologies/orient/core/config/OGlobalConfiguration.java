@@ -121,6 +121,21 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       Integer.MAX_VALUE),
 
+  DIRECT_MEMORY_POOL_STRIPES(
+      "memory.pool.stripes",
+      "Amount of stripes of the direct memory pool. Each thread is bound to the single stripe and"
+          + " reuses pages released to this stripe without contention with other threads. 0"
+          + " disables striping",
+      Integer.class,
+      Runtime.getRuntime().availableProcessors()),
+
+  DIRECT_MEMORY_POOL_STRIPE_SIZE(
+      "memory.pool.stripeSize",
+      "Maximum amount of pages cached inside of single stripe of direct memory pool, the rest of"
+          + " pages is kept in the shared pool",
+      Integer.class,
+      64),
+
   DIRECT_MEMORY_PREALLOCATE(
       "memory.directMemory.preallocate",
       "Preallocate amount of direct memory which is needed for the disk cache",
@@ -180,6 +195,24 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       25),
 
+  DISK_CACHE_SCAN_RING_SIZE(
+      "storage.diskCache.scanRingSize",
+      "Amount of pages kept in the private ring of sequential cluster scan. Pages which are not"
+          + " present in the disk cache are read by scans through this ring and are not added to"
+          + " the disk cache, so full scans do not evict the working set. 0 disables the ring",
+      Integer.class,
+      32,
+      true),
+
+  DISK_CACHE_READ_AHEAD_PAGES(
+      "storage.diskCache.readAheadPages",
+      "Maximum amount of pages which are read asynchronously ahead of sequential page requests"
+          + " to the same file, for example by cluster or index range scans. Size of read-ahead"
+          + " window grows while requests stay sequential till it reaches this value. 0 disables"
+          + " read-ahead",
+      Integer.class,
+      32),
+
   STORAGE_CHECKSUM_MODE(
       "storage.diskCache.checksumMode",
       "Controls the per-page checksum storage and verification done by the file cache. Possible"
@@ -231,6 +264,27 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Boolean.class,
       true),
 
+  STORAGE_USE_DIRECT_IO(
+      "storage.useDirectIO",
+      "Read and write pages of data files bypassing OS page cache (O_DIRECT), so memory is not"
+          + " spent on the second copy of pages which are already cached by the disk cache. If the"
+          + " file system does not support direct IO, files are accessed through OS page cache",
+      Boolean.class,
+      false),
+
+  STORAGE_USE_IO_URING(
+      "storage.useIOUring",
+      "Use io_uring interface of Linux kernel to read and write pages of data files. If io_uring"
+          + " is not supported by the kernel, asynchronous file channels are used instead",
+      Boolean.class,
+      false),
+
+  STORAGE_IO_URING_QUEUE_DEPTH(
+      "storage.ioUring.queueDepth",
+      "Size of io_uring submission queue which is shared by all data files of the storage",
+      Integer.class,
+      256),
+
   STORAGE_USE_DOUBLE_WRITE_LOG(
       "storage.useDoubleWriteLog",
       "Allows usage of double write log in storage. "
@@ -356,6 +410,30 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       1000),
 
+  WAL_GROUP_COMMIT_INTERVAL(
+      "storage.wal.groupCommitInterval",
+      "Interval (in microseconds) during which commits of transactions are collected in a single"
+          + " group, all commits of the group wait till WAL is forced to the disk by a single"
+          + " fsync. 0 disables group commit, in such case WAL is forced to the disk each"
+          + " storage.wal.commitTimeout ms. and commits do not wait for the fsync",
+      Integer.class,
+      0),
+
+  WAL_GROUP_COMMIT_SIZE(
+      "storage.wal.groupCommitSize",
+      "Amount of WAL data (in kilobytes) logged by the group of commits after which WAL is forced"
+          + " to the disk without waiting for the end of storage.wal.groupCommitInterval",
+      Integer.class,
+      1024),
+
+  WAL_LOGICAL_PAGE_OPERATIONS(
+      "storage.wal.logicalPageOperations",
+      "Log changes of B-tree buckets and cluster pages as logical operations (like insertion of"
+          + " the key into the bucket) instead of binary diff of the page, if they take less space"
+          + " in WAL",
+      Boolean.class,
+      true),
+
   WAL_SHUTDOWN_TIMEOUT(
       "storage.wal.shutdownTimeout",
       "Maximum wait interval between events, when the background flush thread"
@@ -376,6 +454,29 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       10000),
 
+  WAL_RESTORE_THREADS(
+      "storage.wal.restoreThreads",
+      "Amount of threads which are used to apply page changes during data restore after crash."
+          + " Changes of different pages are applied in parallel, changes of the same page are"
+          + " applied in the order they were logged (1 or less, restores data in a single thread)",
+      Integer.class,
+      1),
+
+  WAL_MAX_RECOVERY_SIZE(
+      "storage.wal.maxRecoverySize",
+      "Maximum amount of WAL (in megabytes) which should be replayed during data restore after"
+          + " crash. Write cache continuously flushes pages which contain the oldest changes to"
+          + " keep recovery within this bound (0 or a negative value, disables the bound)",
+      Integer.class,
+      0),
+
+  WAL_RESTORE_SPEED(
+      "storage.wal.restoreSpeed",
+      "Expected speed of data restore after crash (in megabytes per second), used to estimate"
+          + " time of data restore",
+      Integer.class,
+      64),
+
   WAL_RESTORE_BATCH_SIZE(
       "storage.wal.restore.batchSize",
       "Amount of WAL records, which are read at once in a single batch during a restore procedure",
@@ -539,6 +640,48 @@ public enum OGlobalConfiguration { // ENVIRONMENT
   INDEX_CURSOR_PREFETCH_SIZE(
       "index.stream.prefetchSize", "Default prefetch size of index stream", Integer.class, 10),
 
+  INDEX_BULK_LOAD(
+      "index.bulkLoad",
+      "Indicates whether indexes which support it should be filled by sorted keys during creation"
+          + " instead of insertion of keys one by one (true by default)",
+      Boolean.class,
+      true),
+
+  INDEX_BULK_LOAD_RUN_SIZE(
+      "index.bulkLoad.runSize",
+      "Amount of memory in megabytes used to sort keys of the index during its bulk load, keys"
+          + " which do not fit into this memory are sorted using temporary files (64 by default)",
+      Integer.class,
+      64),
+
+  INDEX_ONLINE_BUILD(
+      "index.onlineBuild",
+      "Build indexes without blocking of writers, changes done during the build are logged and"
+          + " applied at its end. Can be overridden by the 'online' field of the index metadata",
+      Boolean.class,
+      false),
+
+  INDEX_ONLINE_BUILD_MAX_BLOCKING_CHANGES(
+      "index.onlineBuild.maxBlockingChanges",
+      "Max amount of logged changes of the index which are applied at the end of its online build"
+          + " while writers to this index are blocked",
+      Integer.class,
+      1_000),
+
+  INDEX_BLOOM_FILTER(
+      "index.bloomFilter",
+      "Keep in memory Bloom filter of keys of unique and hash indexes, so lookups of absent keys do"
+          + " not access index pages. Can be overridden by the 'bloomFilter' field of the index"
+          + " metadata",
+      Boolean.class,
+      false),
+
+  INDEX_BLOOM_FILTER_FALSE_POSITIVE_RATE(
+      "index.bloomFilter.falsePositiveRate",
+      "Target rate of lookups of absent keys which are not rejected by Bloom filter of the index",
+      Float.class,
+      0.01f),
+
   // SBTREE
   SBTREE_MAX_DEPTH(
       "sbtree.maxDepth",
@@ -553,6 +696,14 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       10240),
 
+  SBTREE_PREFIX_COMPRESSION(
+      "sbtree.prefixCompression",
+      "Indicates whether new pages of indexes should store only the part of the keys which follows"
+          + " the common prefix of all keys of the page, pages of indexes created by previous"
+          + " versions keep the original format (true by default)",
+      Boolean.class,
+      true),
+
   SBTREE_MAX_EMBEDDED_VALUE_SIZE(
       "sbtree.maxEmbeddedValueSize",
       "Maximum size of value which can be put in an SBTree without creation link to a standalone"
@@ -900,6 +1051,28 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Integer.class,
       20000),
 
+  QUERY_PARALLEL_MAX_WORKERS(
+      "query.parallelMaxWorkers",
+      "Maximum number of worker threads used by a single parallel query, each of them scans a"
+          + " part of the clusters of the class (-1 will base the number on the number of CPUs)",
+      Integer.class,
+      -1),
+
+  QUERY_EXECUTION_BATCH_SIZE(
+      "query.executionBatchSize",
+      "Number of records which are fetched and processed at once by the query operators which"
+          + " consume all the records of their source, like aggregations and count",
+      Integer.class,
+      256),
+
+  QUERY_MEMORY_BUDGET(
+      "query.memoryBudget",
+      "Memory in megabytes which can be used by each hash aggregation, DISTINCT or ORDER BY of a"
+          + " query, once it is exceeded the data is spilled to temporary files: partitions for"
+          + " hash operators and sorted runs for ORDER BY (negative number disables spilling)",
+      Integer.class,
+      64),
+
   QUERY_SCAN_THRESHOLD_TIP(
       "query.scanThresholdTip",
       "If the total number of records scanned in a query exceeds this setting, then a warning is"
@@ -914,10 +1087,49 @@ public enum OGlobalConfiguration { // ENVIRONMENT
       Long.class,
       10000),
 
+  QUERY_INDEX_SKIP_SCAN_MAX_PREFIXES(
+      "query.index.skipScan.maxPrefixes",
+      "Maximum number of distinct values of the first field of a composite index which are looked"
+          + " up one by one, when the query has conditions only on the next fields of the index"
+          + " (skip-scan). If the first field has more values, the rest of the index is scanned."
+          + " (Use 0 to disable skip-scan)",
+      Integer.class,
+      100),
+
+  QUERY_STATISTICS_SAMPLE_SIZE(
+      "query.statistics.sampleSize",
+      "Maximum number of records of the class which are sampled by ANALYZE CLASS and by the"
+          + " background refresh of statistics, keys of not unique indexes are read up to ten times"
+          + " this number to estimate distinct values of the indexed properties",
+      Integer.class,
+      10000),
+
+  QUERY_STATISTICS_HISTOGRAM_BUCKETS(
+      "query.statistics.histogramBuckets",
+      "Number of buckets of the histograms of property values built by ANALYZE CLASS",
+      Integer.class,
+      64),
+
+  QUERY_STATISTICS_REFRESH_INTERVAL(
+      "query.statistics.refreshInterval",
+      "Interval in milliseconds between the checks of the statistics collected by ANALYZE CLASS,"
+          + " statistics of the classes changed by more than query.statistics.staleRatio of their"
+          + " records are collected again in background. (Use 0 to disable)",
+      Long.class,
+      60000),
+
+  QUERY_STATISTICS_STALE_RATIO(
+      "query.statistics.staleRatio",
+      "Ratio of the change of the amount of records of the class after which its statistics are"
+          + " considered stale and are collected again",
+      Float.class,
+      0.2f),
+
   QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP(
       "query.maxHeapElementsAllowedPerOp",
       "Maximum number of elements (records) allowed in a single query for memory-intensive"
-          + " operations (eg. ORDER BY in heap). If exceeded, the query fails with an"
+          + " operations (eg. ORDER BY in heap). If exceeded, ORDER BY spills to disk or, if"
+          + " spilling is disabled by query.memoryBudget, the query fails with an"
           + " OCommandExecutionException. Negative number means no limit.This setting is intended"
           + " as a safety measure against excessive resource consumption from a single query (eg."
           + " prevent OutOfMemory)",
@@ -11,6 +11,7 @@ import com.orientechnologies.orient.core.metadata.function.OFunctionLibraryImpl;
 import com.orientechnologies.orient.core.metadata.schema.OSchemaShared;
 import com.orientechnologies.orient.core.metadata.security.OSecurityInternal;
 import com.orientechnologies.orient.core.metadata.sequence.OSequenceLibraryImpl;
+import com.orientechnologies.orient.core.metadata.statistics.OStatisticsManager;
 import com.orientechnologies.orient.core.query.live.OLiveQueryHook;
 import com.orientechnologies.orient.core.query.live.OLiveQueryHookV2;
 import com.orientechnologies.orient.core.schedule.OSchedulerImpl;
@@ -41,6 +42,7 @@ public abstract class OSharedContext extends OListenerManger<OMetadataUpdateList
   protected OStatementCache statementCache;
   protected OExecutionPlanCache executionPlanCache;
   protected OQueryStats queryStats;
+  protected OStatisticsManager statisticsManager;
   protected volatile boolean loaded = false;
   protected Map<String, Object> resources;
   protected OStringCache stringCache;
@@ -93,6 +95,11 @@ public abstract class OSharedContext extends OListenerManger<OMetadataUpdateList
     return queryStats;
   }
 
+  /** @return manager of the class statistics or <code>null</code> if they are not supported. */
+  public OStatisticsManager getStatisticsManager() {
+    return statisticsManager;
+  }
+
   public abstract void load(ODatabaseDocumentInternal oDatabaseDocumentInternal);
 
   public abstract void reload(ODatabaseDocumentInternal database);
@@ -13,6 +13,7 @@ import com.orientechnologies.orient.core.metadata.function.OFunctionLibraryImpl;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OSchemaEmbedded;
 import com.orientechnologies.orient.core.metadata.sequence.OSequenceLibraryImpl;
+import com.orientechnologies.orient.core.metadata.statistics.OStatisticsManager;
 import com.orientechnologies.orient.core.query.live.OLiveQueryHook;
 import com.orientechnologies.orient.core.query.live.OLiveQueryHookV2;
 import com.orientechnologies.orient.core.record.ORecord;
@@ -70,6 +71,15 @@ public class OSharedContextEmbedded extends OSharedContext {
     this.registerListener(executionPlanCache);
 
     queryStats = new OQueryStats();
+    statisticsManager =
+        new OStatisticsManager(
+            orientDB,
+            this,
+            storage.getName(),
+            storage
+                .getConfiguration()
+                .getContextConfiguration()
+                .getValueAsLong(OGlobalConfiguration.QUERY_STATISTICS_REFRESH_INTERVAL));
     activeDistributedQueries = new HashMap<>();
     ((OAbstractPaginatedStorage) storage)
         .setStorageConfigurationUpdateListener(
@@ -99,6 +109,7 @@ public class OSharedContextEmbedded extends OSharedContext {
         sequenceLibrary.load(database);
         schema.onPostIndexManagement();
         viewManager.load();
+        statisticsManager.load(database);
         loaded = true;
       }
     } finally {
@@ -114,6 +125,7 @@ public class OSharedContextEmbedded extends OSharedContext {
   public synchronized void close() {
     stringCache.close();
     viewManager.close();
+    statisticsManager.close();
     schema.close();
     security.close();
     indexManager.close();
@@ -165,6 +177,7 @@ public class OSharedContextEmbedded extends OSharedContext {
     }
 
     viewManager.create();
+    statisticsManager.create();
     loaded = true;
   }
 
@@ -232,6 +245,26 @@ public class OSharedContextEmbedded extends OSharedContext {
         });
   }
 
+  /**
+   * Drops a configuration stored with a key.
+   *
+   * @param session
+   * @param name
+   */
+  public synchronized void dropConfig(ODatabaseSession session, String name) {
+    OScenarioThreadLocal.executeAsDistributed(
+        () -> {
+          assert !session.getTransaction().isActive();
+          String propertyName = "__config__" + name;
+          String id = storage.getConfiguration().getProperty(propertyName);
+          if (id != null) {
+            ((OStorage) storage).removeProperty(propertyName);
+            session.delete(new ORecordId(id));
+          }
+          return null;
+        });
+  }
+
   public ODocument loadDistributedConfig(ODatabaseSession session) {
     return loadConfig(session, "ditributedConfig");
   }
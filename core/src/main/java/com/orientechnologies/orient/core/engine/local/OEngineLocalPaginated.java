@@ -29,6 +29,8 @@ import com.orientechnologies.common.io.OIOUtils;
 import com.orientechnologies.common.jnr.ONative;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.log.OLogger;
+import com.orientechnologies.common.profiler.OProfiler;
+import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.OrientDBInternal;
 import com.orientechnologies.orient.core.engine.OEngineAbstract;
@@ -108,7 +110,41 @@ public class OEngineLocalPaginated extends OEngineAbstract {
       pages.clear();
     }
 
-    readCache = new AsyncReadCache(OByteBufferPool.instance(null), diskCacheSize, pageSize, false);
+    final AsyncReadCache asyncReadCache =
+        new AsyncReadCache(
+            OByteBufferPool.instance(null),
+            diskCacheSize,
+            pageSize,
+            false,
+            OGlobalConfiguration.DISK_CACHE_READ_AHEAD_PAGES.getValueAsInteger());
+    registerProfilerHooks(asyncReadCache);
+
+    readCache = asyncReadCache;
+  }
+
+  private static void registerProfilerHooks(final AsyncReadCache asyncReadCache) {
+    final OProfiler profiler = Orient.instance().getProfiler();
+
+    profiler.registerHookValue(
+        profiler.getProcessMetric("diskCache.scanBypassedPages"),
+        "Number of pages read by sequential scans without admission into the disk cache",
+        OProfiler.METRIC_TYPE.COUNTER,
+        asyncReadCache::getScanBypassedPages);
+    profiler.registerHookValue(
+        profiler.getProcessMetric("diskCache.scanRingHits"),
+        "Number of pages served to sequential scans by their private page rings",
+        OProfiler.METRIC_TYPE.COUNTER,
+        asyncReadCache::getScanRingHits);
+    profiler.registerHookValue(
+        profiler.getProcessMetric("diskCache.readAheadPages"),
+        "Number of pages read asynchronously ahead of sequential page requests",
+        OProfiler.METRIC_TYPE.COUNTER,
+        asyncReadCache::getReadAheadPages);
+    profiler.registerHookValue(
+        profiler.getProcessMetric("diskCache.readAheadHits"),
+        "Number of page requests served by pages which were read ahead",
+        OProfiler.METRIC_TYPE.COUNTER,
+        asyncReadCache::getReadAheadHits);
   }
 
   private static long calculateReadCacheMaxMemory(final long cacheSize) {
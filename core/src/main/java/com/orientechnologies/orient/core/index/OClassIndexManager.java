@@ -36,7 +36,6 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -218,7 +217,7 @@ public class OClassIndexManager {
         addPut(index, keyToAdd, iRecord.getIdentity());
 
     } else {
-      final Object origValue = indexDefinition.createValue(iRecord.getOriginalValue(indexField));
+      final Object origValue = originalValueToIndex(indexDefinition, iRecord, indexField);
       final Object newValue = indexDefinition.getDocumentValueToIndex(iRecord);
 
       processIndexUpdateFieldAssignment(index, iRecord, origValue, newValue);
@@ -340,13 +339,22 @@ public class OClassIndexManager {
         final Object restoredMultiValue =
             fieldValue.returnOriginalState(multiValueChangeTimeLine.getMultiValueChangeEvents());
         origValue = indexDefinition.createValue(restoredMultiValue);
-      } else origValue = indexDefinition.createValue(iRecord.getOriginalValue(indexField));
+      } else origValue = originalValueToIndex(indexDefinition, iRecord, indexField);
       deleteIndexKey(index, iRecord, origValue);
       return true;
     }
     return false;
   }
 
+  private static Object originalValueToIndex(
+      final OIndexDefinition indexDefinition, final ODocument iRecord, final String indexField) {
+    if (indexDefinition instanceof OExpressionIndexDefinition) {
+      return ((OExpressionIndexDefinition) indexDefinition)
+          .getOriginalDocumentValueToIndex(iRecord);
+    }
+    return indexDefinition.createValue(iRecord.getOriginalValue(indexField));
+  }
+
   private static ODocument checkForLoading(final ODocument iRecord) {
     if (iRecord.getInternalStatus() == ORecordElement.STATUS.NOT_LOADED) {
       try {
@@ -362,6 +370,23 @@ public class OClassIndexManager {
 
   public static void processIndexUpdate(
       ODocument iDocument, Set<String> dirtyFields, OIndex index) {
+    final OIndexFilter filter = index.getInternal().getFilter();
+    if (filter != null) {
+      final boolean indexed = filter.matchedBefore(iDocument, dirtyFields);
+      final boolean matches = filter.matches(iDocument);
+      if (indexed != matches) {
+        // document enters or leaves partial index
+        if (matches) {
+          addIndexEntry(iDocument, iDocument.getIdentity(), index);
+        } else {
+          removeIndexEntries(index, dirtyFields, iDocument);
+        }
+        return;
+      } else if (!matches) {
+        return;
+      }
+    }
+
     if (index.getDefinition() instanceof OCompositeIndexDefinition)
       processCompositeIndexUpdate(index, dirtyFields, iDocument);
     else processSingleIndexUpdate(index, dirtyFields, iDocument);
@@ -378,6 +403,11 @@ public class OClassIndexManager {
   }
 
   private static void addIndexEntry(ODocument document, OIdentifiable rid, OIndex index) {
+    final OIndexFilter filter = index.getInternal().getFilter();
+    if (filter != null && !filter.matches(document)) {
+      return;
+    }
+
     final OIndexDefinition indexDefinition = index.getDefinition();
     final Object key = indexDefinition.getDocumentValueToIndex(document);
     if (key instanceof Collection) {
@@ -393,36 +423,31 @@ public class OClassIndexManager {
     final OImmutableClass cls = ODocumentInternal.getImmutableSchemaClass(database, iDocument);
     if (cls == null) return;
 
-    final Collection<OIndex> indexes = new ArrayList<>();
+    final Set<String> dirtyFields = new HashSet<>(Arrays.asList(iDocument.getDirtyFields()));
     for (OIndex index : cls.getRawIndexes()) {
-      indexes.add(index);
+      final OIndexFilter filter = index.getInternal().getFilter();
+      // documents which did not match predicate of partial index are absent in it
+      if (filter == null || filter.matchedBefore(iDocument, dirtyFields)) {
+        removeIndexEntries(index, dirtyFields, iDocument);
+      }
     }
+  }
 
-    if (!indexes.isEmpty()) {
-      final Set<String> dirtyFields = new HashSet<>(Arrays.asList(iDocument.getDirtyFields()));
-
-      if (!dirtyFields.isEmpty()) {
-        // REMOVE INDEX OF ENTRIES FOR THE OLD VALUES
-        final Iterator<OIndex> indexIterator = indexes.iterator();
-
-        while (indexIterator.hasNext()) {
-          final OIndex index = indexIterator.next();
-
-          final boolean result;
-          if (index.getDefinition() instanceof OCompositeIndexDefinition)
-            result = processCompositeIndexDelete(index, dirtyFields, iDocument);
-          else result = processSingleIndexDelete(index, dirtyFields, iDocument);
+  private static void removeIndexEntries(
+      final OIndex index, final Set<String> dirtyFields, final ODocument iDocument) {
+    if (!dirtyFields.isEmpty()) {
+      // REMOVE INDEX OF ENTRIES FOR THE OLD VALUES
+      final boolean result;
+      if (index.getDefinition() instanceof OCompositeIndexDefinition)
+        result = processCompositeIndexDelete(index, dirtyFields, iDocument);
+      else result = processSingleIndexDelete(index, dirtyFields, iDocument);
 
-          if (result) indexIterator.remove();
-        }
-      }
+      if (result) return;
     }
 
     // REMOVE INDEX OF ENTRIES FOR THE NON CHANGED ONLY VALUES
-    for (final OIndex index : indexes) {
-      final Object key = index.getDefinition().getDocumentValueToIndex(iDocument);
-      deleteIndexKey(index, iDocument, key);
-    }
+    final Object key = index.getDefinition().getDocumentValueToIndex(iDocument);
+    deleteIndexKey(index, iDocument, key);
   }
 
   private static void addPut(OIndex index, Object key, OIdentifiable value) {
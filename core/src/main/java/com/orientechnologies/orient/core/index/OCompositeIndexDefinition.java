@@ -107,6 +107,11 @@ public class OCompositeIndexDefinition extends OAbstractIndexDefinition {
     collate.addCollate(indexDefinition.getCollate());
   }
 
+  /** @return definitions of the components of the composite key. */
+  public List<OIndexDefinition> getIndexDefinitions() {
+    return Collections.unmodifiableList(indexDefinitions);
+  }
+
   /** {@inheritDoc} */
   public List<String> getFields() {
     final List<String> fields = new LinkedList<String>();
@@ -28,6 +28,8 @@ import com.orientechnologies.orient.core.storage.OStorage;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.index.engine.ORemoteIndexEngine;
 import com.orientechnologies.orient.core.storage.index.engine.OSBTreeIndexEngine;
+import com.orientechnologies.orient.core.storage.index.nkbtree.NormalizedKeyBTree;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
@@ -51,6 +53,13 @@ public class ODefaultIndexFactory implements OIndexFactory {
   public static final String NONE_VALUE_CONTAINER = "NONE";
   static final String CELL_BTREE_ALGORITHM = "CELL_BTREE";
 
+  /**
+   * Cell B-tree which keeps keys in normalized binary form, see {@link NormalizedKeyBTree}. Indexes
+   * which keys can not be normalized and multi-value indexes use {@link #CELL_BTREE_ALGORITHM}
+   * engines instead.
+   */
+  static final String NKBTREE_ALGORITHM = "NKBTREE";
+
   private static final Set<String> TYPES;
   private static final Set<String> ALGORITHMS;
 
@@ -67,6 +76,7 @@ public class ODefaultIndexFactory implements OIndexFactory {
     final Set<String> algorithms = new HashSet<>();
     algorithms.add(SBTREE_ALGORITHM);
     algorithms.add(CELL_BTREE_ALGORITHM);
+    algorithms.add(NKBTREE_ALGORITHM);
 
     ALGORITHMS = Collections.unmodifiableSet(algorithms);
   }
@@ -134,6 +144,7 @@ public class ODefaultIndexFactory implements OIndexFactory {
       case SBTREE_ALGORITHM:
         return OSBTreeIndexEngine.VERSION;
       case CELL_BTREE_ALGORITHM:
+      case NKBTREE_ALGORITHM:
         return OCellBTreeIndexEngine.VERSION;
     }
 
@@ -174,6 +185,32 @@ public class ODefaultIndexFactory implements OIndexFactory {
                       data.getIndexId(), data.getName(), realStorage, data.getVersion());
             }
             break;
+          case NKBTREE_ALGORITHM:
+            if (data.isMultivalue()) {
+              indexEngine =
+                  new OCellBTreeMultiValueIndexEngine(
+                      data.getIndexId(), data.getName(), realStorage, data.getVersion());
+              logger.warnNoDb(
+                  "Index '%s' can not store keys in normalized form because multi-value indexes"
+                      + " are not supported by %s algorithm, %s engine is used instead",
+                  data.getName(), NKBTREE_ALGORITHM, indexEngine.getClass().getSimpleName());
+            } else if (NormalizedKeyBTree.isSupported(data.getKeyTypes())) {
+              indexEngine =
+                  new OCellBTreeSingleValueIndexEngine(
+                      data.getIndexId(), data.getName(), realStorage, data.getVersion(), true);
+            } else {
+              indexEngine =
+                  new OCellBTreeSingleValueIndexEngine(
+                      data.getIndexId(), data.getName(), realStorage, data.getVersion());
+              logger.warnNoDb(
+                  "Index '%s' can not store keys in normalized form because keys of types %s are"
+                      + " not supported by %s algorithm, %s engine is used instead",
+                  data.getName(),
+                  Arrays.toString(data.getKeyTypes()),
+                  NKBTREE_ALGORITHM,
+                  indexEngine.getClass().getSimpleName());
+            }
+            break;
           default:
             throw new IllegalStateException("Invalid name of algorithm :'" + "'");
         }
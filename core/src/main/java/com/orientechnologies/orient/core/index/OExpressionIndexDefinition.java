@@ -0,0 +1,111 @@
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OSQLEngine;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import com.orientechnologies.orient.core.sql.parser.OExpression;
+
+/**
+ * Index definition bound to one schema class property whose keys are the results of the expression
+ * calculated over the value of the property, like <code>name.toLowerCase()</code>. The expression
+ * is evaluated when the document is stored, the query planner uses the index for conditions whose
+ * left side is the same expression.
+ *
+ * <p>The expression is evaluated against the value of the indexed property only, so other fields
+ * of the document are not visible to it.
+ */
+public class OExpressionIndexDefinition extends OPropertyIndexDefinition {
+  private static final long serialVersionUID = -4129683271935724418L;
+
+  private String expression;
+  private transient volatile OExpression parsedExpression;
+
+  public OExpressionIndexDefinition(
+      final String iClassName, final String iField, final OType iType, final String expression) {
+    super(iClassName, iField, iType);
+    this.expression = expression;
+    this.parsedExpression = OSQLEngine.parseExpression(expression);
+  }
+
+  /** Constructor used for index unmarshalling. */
+  public OExpressionIndexDefinition() {}
+
+  public String getExpression() {
+    return expression;
+  }
+
+  public OExpression getParsedExpression() {
+    return parsedExpression;
+  }
+
+  @Override
+  public Object getDocumentValueToIndex(final ODocument iDocument) {
+    return evaluate(iDocument.field(field));
+  }
+
+  /** @return key of the document calculated over the value of the property before its change. */
+  public Object getOriginalDocumentValueToIndex(final ODocument iDocument) {
+    return evaluate(iDocument.getOriginalValue(field));
+  }
+
+  private Object evaluate(final Object fieldValue) {
+    final OResultInternal record = new OResultInternal();
+    record.setProperty(field, fieldValue);
+
+    final OBasicCommandContext ctx = new OBasicCommandContext();
+    ctx.setDatabase(ODatabaseRecordThreadLocal.instance().getIfDefined());
+    return createValue(parsedExpression.execute(record, ctx));
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (!super.equals(o)) return false;
+
+    final OExpressionIndexDefinition that = (OExpressionIndexDefinition) o;
+    return expression.equals(that.expression);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * super.hashCode() + expression.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "OExpressionIndexDefinition{"
+        + "className='"
+        + className
+        + '\''
+        + ", field='"
+        + field
+        + '\''
+        + ", expression='"
+        + expression
+        + '\''
+        + ", keyType="
+        + keyType
+        + ", collate="
+        + collate
+        + ", null values ignored = "
+        + isNullValuesIgnored()
+        + '}';
+  }
+
+  @Override
+  protected void serializeToStream() {
+    super.serializeToStream();
+
+    document.field("expression", expression);
+  }
+
+  @Override
+  protected void serializeFromStream() {
+    super.serializeFromStream();
+
+    expression = document.field("expression");
+    parsedExpression = OSQLEngine.parseExpression(expression);
+  }
+}
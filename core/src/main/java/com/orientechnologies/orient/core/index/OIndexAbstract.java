@@ -19,6 +19,7 @@
  */
 package com.orientechnologies.orient.core.index;
 
+import com.orientechnologies.common.comparator.ODefaultComparator;
 import com.orientechnologies.common.concur.lock.OOneEntryPerKeyLockManager;
 import com.orientechnologies.common.concur.lock.OPartitionedLockManager;
 import com.orientechnologies.common.exception.OException;
@@ -37,6 +38,7 @@ import com.orientechnologies.orient.core.exception.OManualIndexesAreProhibited;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.index.comparator.OAlwaysGreaterKey;
 import com.orientechnologies.orient.core.index.comparator.OAlwaysLessKey;
+import com.orientechnologies.orient.core.index.engine.IndexEngineValidator;
 import com.orientechnologies.orient.core.index.engine.OBaseIndexEngine;
 import com.orientechnologies.orient.core.index.iterator.OIndexCursorStream;
 import com.orientechnologies.orient.core.metadata.schema.OType;
@@ -48,19 +50,25 @@ import com.orientechnologies.orient.core.storage.cache.OReadCache;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
+import com.orientechnologies.orient.core.storage.index.engine.OIndexBloomFilter;
 import com.orientechnologies.orient.core.storage.ridbag.sbtree.OIndexRIDContainer;
 import com.orientechnologies.orient.core.tx.OTransactionIndexChanges.OPERATION;
 import com.orientechnologies.orient.core.tx.OTransactionIndexChangesPerKey;
 import com.orientechnologies.orient.core.tx.OTransactionIndexChangesPerKey.OTransactionIndexEntry;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -81,12 +89,28 @@ public abstract class OIndexAbstract implements OIndexInternal {
   private static final OAlwaysGreaterKey ALWAYS_GREATER_KEY = new OAlwaysGreaterKey();
   protected static final String CONFIG_MAP_RID = "mapRid";
   private static final String CONFIG_CLUSTERS = "clusters";
+
+  /** Amount of entries found during the scan of clusters which are put into index at once. */
+  private static final int ONLINE_BUILD_BATCH_SIZE = 1_000;
+
+  /**
+   * Max amount of passes over the log of the index which is filled online, made to reduce the log
+   * before writers are blocked.
+   */
+  private static final int ONLINE_BUILD_MAX_LOG_PASSES = 16;
+
   protected final OAbstractPaginatedStorage storage;
   private final ReentrantReadWriteLock rwLock = new ReentrantReadWriteLock();
 
   protected volatile int indexId = -1;
   protected volatile int apiVersion = -1;
 
+  /** Log of changes of the index which is built online, <code>null</code> otherwise. */
+  private volatile OIndexBuildLog buildLog;
+
+  /** Filter of indexed documents if index is partial, <code>null</code> otherwise. */
+  private volatile OIndexFilter filter;
+
   protected Set<String> clustersToIndex = new HashSet<>();
   protected OIndexMetadata im;
 
@@ -95,6 +119,7 @@ public abstract class OIndexAbstract implements OIndexInternal {
     try {
       this.im = im;
       this.storage = (OAbstractPaginatedStorage) storage;
+      this.filter = OIndexFilter.create(im.getMetadata());
     } finally {
       releaseExclusiveLock();
     }
@@ -220,13 +245,7 @@ public abstract class OIndexAbstract implements OIndexInternal {
       } catch (Exception e) {
         logger.error("Error during deletion of index '%s'", e, im.getName());
       }
-      Map<String, String> engineProperties = new HashMap<>();
-      // this property is used for autosharded index
-      if (im.getMetadata() != null && im.getMetadata().containsField("partitions")) {
-        engineProperties.put("partitions", im.getMetadata().field("partitions"));
-      } else {
-        engineProperties.put("partitions", Integer.toString(clustersToIndex.size()));
-      }
+      final Map<String, String> engineProperties = engineProperties();
       indexMetadata.setVersion(im.getVersion());
       indexId = storage.addIndexEngine(indexMetadata, engineProperties);
       apiVersion = OAbstractPaginatedStorage.extractEngineAPIVersion(indexId);
@@ -270,6 +289,7 @@ public abstract class OIndexAbstract implements OIndexInternal {
 
       final OIndexMetadata indexMetadata = loadMetadata(config);
       this.im = indexMetadata;
+      this.filter = OIndexFilter.create(indexMetadata.getMetadata());
       clustersToIndex.addAll(indexMetadata.getClustersToIndex());
 
       try {
@@ -277,13 +297,7 @@ public abstract class OIndexAbstract implements OIndexInternal {
         apiVersion = OAbstractPaginatedStorage.extractEngineAPIVersion(indexId);
 
         if (indexId == -1) {
-          Map<String, String> engineProperties = new HashMap<>();
-          // this property is used for autosharded index
-          if (im.getMetadata() != null && im.getMetadata().containsField("partitions")) {
-            engineProperties.put("partitions", im.getMetadata().field("partitions"));
-          } else {
-            engineProperties.put("partitions", Integer.toString(clustersToIndex.size()));
-          }
+          final Map<String, String> engineProperties = engineProperties();
           indexId = storage.loadExternalIndexEngine(indexMetadata, engineProperties);
           apiVersion = OAbstractPaginatedStorage.extractEngineAPIVersion(indexId);
         }
@@ -294,6 +308,12 @@ public abstract class OIndexAbstract implements OIndexInternal {
 
         onIndexEngineChange(indexId);
 
+        if (Boolean.TRUE.equals(config.field(CONFIG_BUILDING))
+            && !storage.isIndexBuilding(indexId)) {
+          logger.warn(
+              "Online build of index '%s' was not completed, index will be rebuilt", im.getName());
+          rebuild();
+        }
       } catch (Exception e) {
         logger.error(
             "Error during load of index '%s'", e, Optional.ofNullable(im.getName()).orElse("null"));
@@ -460,11 +480,15 @@ public abstract class OIndexAbstract implements OIndexInternal {
   /** {@inheritDoc} */
   public long rebuild(final OProgressListener iProgressListener) {
     long documentIndexed;
+    boolean online = false;
 
     acquireExclusiveLock();
     try {
+      // index is visible to the writers, so bulk load is performed only if their changes are
+      // logged till the end of the load, the same way as during online build
+      final boolean bulkLoad = indexId >= 0 && isBulkLoadSupported();
       try {
-        if (indexId >= 0) {
+        if (indexId >= 0 && !bulkLoad) {
           doDelete();
         }
       } catch (Exception e) {
@@ -472,17 +496,20 @@ public abstract class OIndexAbstract implements OIndexInternal {
       }
 
       OIndexMetadata indexMetadata = this.loadMetadata(updateConfiguration());
-      Map<String, String> engineProperties = new HashMap<>();
-      // this property is used for autosharded index
-      if (im.getMetadata() != null && im.getMetadata().containsField("partitions")) {
-        engineProperties.put("partitions", im.getMetadata().field("partitions"));
+      final Map<String, String> engineProperties = engineProperties();
+      if (bulkLoad) {
+        // writers switch to the new engine and to its build log at once
+        indexId = storage.replaceIndexEngine(indexMetadata, engineProperties);
       } else {
-        engineProperties.put("partitions", Integer.toString(clustersToIndex.size()));
+        indexId = storage.addIndexEngine(indexMetadata, engineProperties);
       }
-      indexId = storage.addIndexEngine(indexMetadata, engineProperties);
       apiVersion = OAbstractPaginatedStorage.extractEngineAPIVersion(indexId);
 
       onIndexEngineChange(indexId);
+
+      if (bulkLoad || isOnlineBuildRequested(im.getMetadata(), storage)) {
+        online = startOnlineBuild();
+      }
     } catch (Exception e) {
       try {
         if (indexId >= 0) storage.clearIndex(indexId);
@@ -500,7 +527,11 @@ public abstract class OIndexAbstract implements OIndexInternal {
 
     acquireSharedLock();
     try {
-      documentIndexed = fillIndex(iProgressListener, true);
+      if (online) {
+        documentIndexed = completeOnlineBuild(iProgressListener);
+      } else {
+        documentIndexed = fillIndex(iProgressListener, true);
+      }
     } catch (final Exception e) {
       logger.error("Error during index rebuild", e);
       try {
@@ -531,13 +562,18 @@ public abstract class OIndexAbstract implements OIndexInternal {
 
       if (iProgressListener != null) iProgressListener.onBegin(this, documentTotal, rebuild);
 
-      // INDEX ALL CLUSTERS
-      for (final String clusterName : clustersToIndex) {
-        final long[] metrics =
-            indexCluster(
-                clusterName, iProgressListener, documentNum, documentIndexed, documentTotal);
-        documentNum = metrics[0];
-        documentIndexed = metrics[1];
+      // rebuilt index is bulk loaded only by online build, see rebuild()
+      if (!rebuild && isBulkLoadSupported()) {
+        documentIndexed = bulkLoadClusters(iProgressListener, documentTotal);
+      } else {
+        // INDEX ALL CLUSTERS
+        for (final String clusterName : clustersToIndex) {
+          final long[] metrics =
+              indexCluster(
+                  clusterName, iProgressListener, documentNum, documentIndexed, documentTotal);
+          documentNum = metrics[0];
+          documentIndexed = metrics[1];
+        }
       }
 
       if (iProgressListener != null) iProgressListener.onCompletition(this, true);
@@ -548,6 +584,167 @@ public abstract class OIndexAbstract implements OIndexInternal {
     return documentIndexed;
   }
 
+  private Map<String, String> engineProperties() {
+    final Map<String, String> engineProperties = new HashMap<>();
+    final ODocument metadata = im.getMetadata();
+    // this property is used for autosharded index
+    if (metadata != null && metadata.containsField("partitions")) {
+      engineProperties.put("partitions", metadata.field("partitions"));
+    } else {
+      engineProperties.put("partitions", Integer.toString(clustersToIndex.size()));
+    }
+
+    if (metadata != null && metadata.containsField(OIndexBloomFilter.BLOOM_FILTER_PROPERTY)) {
+      engineProperties.put(
+          OIndexBloomFilter.BLOOM_FILTER_PROPERTY,
+          String.valueOf((Object) metadata.field(OIndexBloomFilter.BLOOM_FILTER_PROPERTY)));
+    }
+    return engineProperties;
+  }
+
+  /**
+   * @return <code>true</code> if index should be filled online, that is requested either by the
+   *     metadata of the index or by the configuration of the storage.
+   */
+  static boolean isOnlineBuildRequested(final ODocument metadata, final OStorage storage) {
+    final Object online = metadata != null ? metadata.field(ONLINE) : null;
+    if (online != null) {
+      return Boolean.TRUE.equals(online) || "true".equalsIgnoreCase(online.toString());
+    }
+
+    return storage
+        .getConfiguration()
+        .getContextConfiguration()
+        .getValueAsBoolean(OGlobalConfiguration.INDEX_ONLINE_BUILD);
+  }
+
+  @Override
+  public boolean startOnlineBuild() {
+    acquireExclusiveLock();
+    try {
+      while (true) {
+        try {
+          buildLog = storage.startIndexBuild(indexId);
+          return buildLog != null;
+        } catch (OInvalidIndexEngineIdException ignore) {
+          doReloadIndexEngine();
+        }
+      }
+    } finally {
+      releaseExclusiveLock();
+    }
+  }
+
+  @Override
+  public long completeOnlineBuild(final OProgressListener iProgressListener) {
+    final OIndexBuildLog buildLog = this.buildLog;
+    if (buildLog == null) {
+      throw new IllegalStateException("Index '" + im.getName() + "' is not built online");
+    }
+
+    if (im.getIndexDefinition() == null)
+      throw new OConfigurationException(
+          "Index '"
+              + im.getName()
+              + "' cannot be rebuilt because has no a valid definition ("
+              + im.getIndexDefinition()
+              + ")");
+
+    boolean completed = false;
+    acquireSharedLock();
+    try {
+      long documentTotal = 0;
+      for (final String cluster : clustersToIndex)
+        documentTotal += storage.count(storage.getClusterIdByName(cluster));
+
+      if (iProgressListener != null) iProgressListener.onBegin(this, documentTotal, false);
+
+      final IndexEngineValidator<Object, ORID> validator =
+          this instanceof OIndexOneValue ? ((OIndexOneValue) this).getUniqueValidator() : null;
+      // transactions started before the index became visible do not log their changes of the
+      // index, so the scan starts once they are completed
+      storage.awaitActiveTransactions(getDatabase().getTransaction());
+
+      // records cached before the start of the build may be changed by the transactions which are
+      // not logged, so the scan reads the records which are stored in the clusters
+      getDatabase().getLocalCache().clear();
+      final BulkLoadEntries entries =
+          new BulkLoadEntries(getDatabase(), iProgressListener, documentTotal);
+
+      // entries are written to the index without of logged changes till the end of the scan
+      if (isBulkLoadSupported()) {
+        while (true) {
+          try {
+            storage.bulkLoadIndex(indexId, entries, buildLog.deferringValidator(validator));
+            break;
+          } catch (OInvalidIndexEngineIdException ignore) {
+            doReloadIndexEngine();
+          }
+        }
+      } else {
+        int batchSize = 0;
+        while (entries.hasNext()) {
+          final ORawPair<Object, ORID> entry = entries.next();
+          buildLog.addEntry(entry.first, entry.second);
+
+          if (++batchSize == ONLINE_BUILD_BATCH_SIZE) {
+            applyBuildLog(validator, false);
+            batchSize = 0;
+          }
+        }
+      }
+      buildLog.completeScan();
+
+      // changes are applied by small portions concurrently with writers while there are too many
+      // of them to block writers till the end of the build
+      final int maxBlockingChanges =
+          OGlobalConfiguration.INDEX_ONLINE_BUILD_MAX_BLOCKING_CHANGES.getValueAsInteger();
+      final long maxPortions =
+          ONLINE_BUILD_MAX_LOG_PASSES
+              * (buildLog.size() / OIndexBuildLog.MAX_CHANGES_PER_APPLY + 1);
+      for (long i = 0; i < maxPortions && buildLog.size() > maxBlockingChanges; i++)
+        applyBuildLog(validator, false);
+
+      applyBuildLog(validator, true);
+      completed = true;
+
+      if (iProgressListener != null) iProgressListener.onCompletition(this, true);
+      return entries.documentIndexed;
+    } catch (final RuntimeException e) {
+      if (iProgressListener != null) iProgressListener.onCompletition(this, false);
+      throw e;
+    } finally {
+      this.buildLog = null;
+      if (!completed) {
+        storage.stopIndexBuild(indexId);
+      }
+
+      releaseSharedLock();
+    }
+  }
+
+  @Override
+  public boolean isBuilding() {
+    return buildLog != null;
+  }
+
+  @Override
+  public OIndexFilter getFilter() {
+    return filter;
+  }
+
+  private void applyBuildLog(
+      final IndexEngineValidator<Object, ORID> validator, final boolean complete) {
+    while (true) {
+      try {
+        storage.applyIndexBuildLog(indexId, validator, complete);
+        return;
+      } catch (OInvalidIndexEngineIdException ignore) {
+        doReloadIndexEngine();
+      }
+    }
+  }
+
   public boolean remove(Object key, final OIdentifiable rid) {
     key = getCollatingValue(key);
 
@@ -624,7 +821,7 @@ public abstract class OIndexAbstract implements OIndexInternal {
               while (iterator.hasNext()) {
                 ORawPair<Object, ORID> pair = iterator.next();
                 remove(pair.first, pair.second);
-                if (count % 1000 == 0) {
+                if (++count % 1000 == 0) {
                   database.commit();
                   database.begin();
                 }
@@ -760,6 +957,7 @@ public abstract class OIndexAbstract implements OIndexInternal {
     document.field(VALUE_CONTAINER_ALGORITHM, im.getValueContainerAlgorithm());
     if (im.getMetadata() != null)
       document.field(OIndexInternal.METADATA, im.getMetadata(), OType.EMBEDDED);
+    if (buildLog != null) document.field(CONFIG_BUILDING, true);
 
     return document;
   }
@@ -873,6 +1071,38 @@ public abstract class OIndexAbstract implements OIndexInternal {
     return key;
   }
 
+  /**
+   * @return ranges with collated borders sorted in the requested order, ranges which become equal
+   *     after collation are returned once.
+   */
+  protected List<ORawPair<Object, Object>> getCollatingRanges(
+      final List<ORawPair<Object, Object>> ranges, final boolean ascOrder) {
+    final List<ORawPair<Object, Object>> collatedRanges = new ArrayList<>(ranges.size());
+    for (final ORawPair<Object, Object> range : ranges) {
+      collatedRanges.add(
+          new ORawPair<>(getCollatingValue(range.first), getCollatingValue(range.second)));
+    }
+
+    final Comparator<Object> comparator =
+        ascOrder ? ODefaultComparator.INSTANCE : ODefaultComparator.INSTANCE.reversed();
+    collatedRanges.sort((rangeOne, rangeTwo) -> comparator.compare(rangeOne.first, rangeTwo.first));
+
+    final Iterator<ORawPair<Object, Object>> iterator = collatedRanges.iterator();
+    ORawPair<Object, Object> prevRange = null;
+    while (iterator.hasNext()) {
+      final ORawPair<Object, Object> range = iterator.next();
+      if (prevRange != null
+          && comparator.compare(prevRange.first, range.first) == 0
+          && comparator.compare(prevRange.second, range.second) == 0) {
+        iterator.remove();
+      } else {
+        prevRange = range;
+      }
+    }
+
+    return collatedRanges;
+  }
+
   @Override
   public int compareTo(OIndex index) {
     acquireSharedLock();
@@ -919,6 +1149,137 @@ public abstract class OIndexAbstract implements OIndexInternal {
     return ODatabaseRecordThreadLocal.instance().get();
   }
 
+  /**
+   * Newly created single value index is not visible to the transactions yet, so instead of
+   * insertion of each key in transaction all keys are passed to the storage which sorts them and
+   * fills index bucket by bucket. Rebuilt index is visible to the transactions, their changes are
+   * kept in the build log during bulk load.
+   */
+  private boolean isBulkLoadSupported() {
+    if (!(this instanceof OIndexOneValue) || getDatabase().getTransaction().isActive()) {
+      return false;
+    }
+
+    while (true) {
+      try {
+        return storage.hasIndexBulkLoadSupport(indexId);
+      } catch (OInvalidIndexEngineIdException ignore) {
+        doReloadIndexEngine();
+      }
+    }
+  }
+
+  private long bulkLoadClusters(final OProgressListener iProgressListener, long documentTotal) {
+    if (im.getIndexDefinition() == null)
+      throw new OConfigurationException(
+          "Index '"
+              + im.getName()
+              + "' cannot be rebuilt because has no a valid definition ("
+              + im.getIndexDefinition()
+              + ")");
+
+    final BulkLoadEntries entries =
+        new BulkLoadEntries(getDatabase(), iProgressListener, documentTotal);
+    while (true) {
+      try {
+        storage.bulkLoadIndex(indexId, entries, ((OIndexOneValue) this).getUniqueValidator());
+        break;
+      } catch (OInvalidIndexEngineIdException ignore) {
+        doReloadIndexEngine();
+      }
+    }
+
+    return entries.documentIndexed;
+  }
+
+  /** Keys of the documents of all indexed clusters which are fetched lazily during bulk load. */
+  private final class BulkLoadEntries implements Iterator<ORawPair<Object, ORID>> {
+    private final ODatabaseDocumentInternal database;
+    private final OIndexDefinition indexDefinition;
+    private final Iterator<String> clusters;
+    private final OProgressListener progressListener;
+    private final long documentTotal;
+
+    private Iterator<ORecord> records = Collections.emptyIterator();
+    private Iterator<?> keys = Collections.emptyIterator();
+    private ORID rid;
+
+    private long documentNum;
+    private long documentIndexed;
+
+    private BulkLoadEntries(
+        final ODatabaseDocumentInternal database,
+        final OProgressListener progressListener,
+        final long documentTotal) {
+      this.database = database;
+      this.indexDefinition = im.getIndexDefinition();
+      this.clusters = clustersToIndex.iterator();
+      this.progressListener = progressListener;
+      this.documentTotal = documentTotal;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (!keys.hasNext()) {
+        if (!records.hasNext()) {
+          if (!clusters.hasNext()) {
+            return false;
+          }
+
+          records = database.browseCluster(clusters.next());
+          continue;
+        }
+
+        if (Thread.interrupted())
+          throw new OCommandExecutionException("The index rebuild has been interrupted");
+
+        final ORecord record = records.next();
+        if (record instanceof ODocument) {
+          keys = documentKeys((ODocument) record);
+          rid = record.getIdentity();
+          ++documentIndexed;
+        }
+        documentNum++;
+
+        if (progressListener != null)
+          progressListener.onProgress(
+              OIndexAbstract.this, documentNum, (float) (documentNum * 100.0 / documentTotal));
+      }
+
+      return true;
+    }
+
+    @Override
+    public ORawPair<Object, ORID> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      return new ORawPair<>(getCollatingValue(keys.next()), rid);
+    }
+
+    private Iterator<?> documentKeys(final ODocument document) {
+      if (filter != null && !filter.matches(document)) {
+        return Collections.emptyIterator();
+      }
+
+      final Object key = indexDefinition.getDocumentValueToIndex(document);
+      if (key instanceof Collection) {
+        if (!indexDefinition.isNullValuesIgnored()) {
+          return ((Collection<?>) key).iterator();
+        }
+
+        return ((Collection<?>) key).stream().filter(Objects::nonNull).iterator();
+      }
+
+      if (key == null && indexDefinition.isNullValuesIgnored()) {
+        return Collections.emptyIterator();
+      }
+
+      return Collections.singleton(key).iterator();
+    }
+  }
+
   private long[] indexCluster(
       final String clusterName,
       final OProgressListener iProgressListener,
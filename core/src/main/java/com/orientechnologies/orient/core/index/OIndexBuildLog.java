@@ -0,0 +1,231 @@
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.engine.IndexEngineValidator;
+import com.orientechnologies.orient.core.index.engine.OBaseIndexEngine;
+import com.orientechnologies.orient.core.index.engine.OSingleValueIndexEngine;
+import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
+import com.orientechnologies.orient.core.tx.OTransactionIndexChanges.OPERATION;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Side log of the index which is filled online. While index is filled by the documents of indexed
+ * clusters, transactions do not change the index but record their changes in this log. Changes are
+ * logged under the exclusive lock of the index engine, so they are ordered in the same way as
+ * transactions were committed.
+ *
+ * <p>Entries found during the scan of clusters are written to the index before the log is applied.
+ * Changes of the same pair of key and value which were logged after the document was read override
+ * entry found by the scan, so it is enough to apply the last logged change of each pair. Entries
+ * rejected by the unique constraint are deferred because conflicting entry may be removed by one of
+ * logged changes, they are checked again each time log is applied.
+ */
+public final class OIndexBuildLog {
+  /**
+   * Max amount of logged changes applied inside of single atomic operation if writers are not
+   * blocked, index is locked till the end of atomic operation.
+   */
+  static final int MAX_CHANGES_PER_APPLY = 1_000;
+
+  private List<Change> changes = new ArrayList<>();
+
+  /** Accessed only by the thread which builds the index. */
+  private final Set<Change> deferredEntries = new LinkedHashSet<>();
+
+  /** Accessed only by the thread which builds the index. */
+  private boolean scanCompleted;
+
+  /**
+   * @return batch of changes of the single transaction, changes are added to the log once the
+   *     transaction is committed, so changes of failed transactions are not logged.
+   */
+  public Batch batch() {
+    return new Batch();
+  }
+
+  public synchronized int size() {
+    return changes.size();
+  }
+
+  private synchronized List<Change> drain(final int maxChanges) {
+    if (changes.size() <= maxChanges) {
+      final List<Change> result = changes;
+      changes = new ArrayList<>();
+      return result;
+    }
+
+    final List<Change> head = changes.subList(0, maxChanges);
+    final List<Change> result = new ArrayList<>(head);
+    head.clear();
+    return result;
+  }
+
+  /**
+   * Marks the end of the scan of clusters. Changes logged during the scan are applied only after
+   * it, because the scan may read the state of the document which precedes already logged change.
+   */
+  public void completeScan() {
+    scanCompleted = true;
+  }
+
+  /** Adds entry found during the scan of clusters which should be put into index. */
+  public void addEntry(final Object key, final ORID value) {
+    deferredEntries.add(new Change(OPERATION.PUT, key, value));
+  }
+
+  /**
+   * Wraps validator of the unique index, so entries rejected by it are deferred instead of failure
+   * of the whole build.
+   */
+  public IndexEngineValidator<Object, ORID> deferringValidator(
+      final IndexEngineValidator<Object, ORID> validator) {
+    if (validator == null) {
+      return null;
+    }
+
+    return (key, oldValue, newValue) -> {
+      try {
+        return validator.validate(key, oldValue, newValue);
+      } catch (final ORecordDuplicatedException e) {
+        deferredEntries.add(new Change(OPERATION.PUT, key, newValue));
+        return IndexEngineValidator.IGNORE;
+      }
+    };
+  }
+
+  /**
+   * Applies logged changes and deferred entries to the index engine.
+   *
+   * @param complete if <code>true</code> all logged changes are applied and entries rejected by the
+   *     unique constraint cause failure of the build, otherwise only the oldest changes are applied
+   *     and rejected entries are deferred till the next call.
+   */
+  public void apply(
+      final OAtomicOperation atomicOperation,
+      final OBaseIndexEngine engine,
+      final IndexEngineValidator<Object, ORID> validator,
+      final boolean complete) {
+    final List<Change> loggedChanges;
+    if (scanCompleted) {
+      loggedChanges = drain(complete ? Integer.MAX_VALUE : MAX_CHANGES_PER_APPLY);
+    } else {
+      loggedChanges = Collections.emptyList();
+    }
+
+    final Map<Change, OPERATION> lastChanges = new LinkedHashMap<>();
+    for (final Change change : loggedChanges) {
+      final Change entry = new Change(OPERATION.PUT, change.key, change.value);
+      lastChanges.remove(entry);
+      lastChanges.put(entry, change.operation);
+    }
+
+    // removals go first, so entries which are moved between keys do not conflict with themselves
+    for (final Map.Entry<Change, OPERATION> change : lastChanges.entrySet()) {
+      final Change entry = change.getKey();
+      deferredEntries.remove(entry);
+
+      if (change.getValue() == OPERATION.REMOVE) {
+        remove(atomicOperation, engine, entry.key, entry.value);
+      }
+    }
+
+    final List<Change> entries = new ArrayList<>(deferredEntries);
+    deferredEntries.clear();
+    for (final Map.Entry<Change, OPERATION> change : lastChanges.entrySet()) {
+      if (change.getValue() == OPERATION.PUT) {
+        entries.add(change.getKey());
+      }
+    }
+
+    final IndexEngineValidator<Object, ORID> entryValidator =
+        complete ? validator : deferringValidator(validator);
+    for (final Change entry : entries) {
+      if (entryValidator != null) {
+        ((OSingleValueIndexEngine) engine)
+            .validatedPut(atomicOperation, entry.key, entry.value, entryValidator);
+      } else {
+        engine.put(atomicOperation, entry.key, entry.value);
+      }
+    }
+  }
+
+  private static void remove(
+      final OAtomicOperation atomicOperation,
+      final OBaseIndexEngine engine,
+      final Object key,
+      final ORID value) {
+    if (value == null) {
+      engine.remove(atomicOperation, key);
+    } else if (engine instanceof OSingleValueIndexEngine) {
+      // single value engine removes key regardless of value, entry may belong to other record
+      final OSingleValueIndexEngine singleValueEngine = (OSingleValueIndexEngine) engine;
+      final boolean sameValue =
+          singleValueEngine.get(key).findFirst().map(value::equals).orElse(false);
+      if (sameValue) {
+        singleValueEngine.remove(atomicOperation, key);
+      }
+    } else {
+      engine.remove(atomicOperation, key, value);
+    }
+  }
+
+  public final class Batch {
+    private final List<Change> batchChanges = new ArrayList<>();
+
+    private Batch() {}
+
+    public void log(final OPERATION operation, final Object key, final ORID value) {
+      batchChanges.add(new Change(operation, key, value));
+    }
+
+    public void commit() {
+      if (batchChanges.isEmpty()) {
+        return;
+      }
+
+      synchronized (OIndexBuildLog.this) {
+        changes.addAll(batchChanges);
+      }
+    }
+  }
+
+  private static final class Change {
+    private final OPERATION operation;
+    private final Object key;
+    private final ORID value;
+
+    private Change(final OPERATION operation, final Object key, final ORID value) {
+      this.operation = operation;
+      this.key = key;
+      this.value = value;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+
+      final Change change = (Change) o;
+      return operation == change.operation
+          && Objects.equals(key, change.key)
+          && Objects.equals(value, change.value);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(operation, key, value);
+    }
+  }
+}
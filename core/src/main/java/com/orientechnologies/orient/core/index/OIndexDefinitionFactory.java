@@ -20,12 +20,18 @@
 
 package com.orientechnologies.orient.core.index;
 
+import com.orientechnologies.common.collection.OMultiValue;
+import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.orient.core.collate.OCollate;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OClassImpl;
 import com.orientechnologies.orient.core.metadata.schema.OProperty;
 import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OCommandSQLParsingException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.regex.Pattern;
 
 /**
@@ -36,6 +42,15 @@ import java.util.regex.Pattern;
  * @author Artem Orobets
  */
 public class OIndexDefinitionFactory {
+  /** Name of the field of index metadata which contains list of fields included into the index. */
+  public static final String INCLUDE = "include";
+
+  /** Name of the field of index metadata which contains expression used to calculate index keys. */
+  public static final String EXPRESSION = "expression";
+
+  /** Name of the field of index metadata which contains type of keys calculated by expression. */
+  public static final String KEY_TYPE = "keyType";
+
   private static final Pattern FILED_NAME_PATTERN = Pattern.compile("\\s+");
 
   /**
@@ -85,6 +100,119 @@ public class OIndexDefinitionFactory {
     }
   }
 
+  /**
+   * Appends fields listed in the {@link #INCLUDE} field of index metadata to the definition of the
+   * index as the last components of the composite key. Values of included fields are stored in the
+   * index, so queries which fetch only indexed and included fields are answered without loading of
+   * records. Included fields change uniqueness of keys, so they are allowed only for not unique
+   * indexes.
+   *
+   * @return passed in definition if metadata does not list included fields, otherwise composite
+   *     definition which contains the passed in definition and definitions of included fields.
+   */
+  public static OIndexDefinition includeFields(
+      final OClass oClass,
+      final OIndexDefinition definition,
+      final String indexKind,
+      final ODocument metadata) {
+    final Object include = metadata != null ? metadata.field(INCLUDE) : null;
+    if (include == null) {
+      return definition;
+    }
+
+    if (!OClass.INDEX_TYPE.NOTUNIQUE.name().equalsIgnoreCase(indexKind)) {
+      throw new OIndexException(
+          "Included fields are supported only by indexes of type " + OClass.INDEX_TYPE.NOTUNIQUE);
+    }
+    if (oClass == null) {
+      throw new OIndexException("Included fields are supported only by indexes of classes");
+    }
+
+    final OCompositeIndexDefinition result = new OCompositeIndexDefinition(oClass.getName());
+    if (definition instanceof OCompositeIndexDefinition) {
+      for (final OIndexDefinition fieldDefinition :
+          ((OCompositeIndexDefinition) definition).getIndexDefinitions()) {
+        result.addIndex(fieldDefinition);
+      }
+    } else {
+      result.addIndex(definition);
+    }
+
+    final List<Object> includedFields = new ArrayList<>();
+    OMultiValue.add(includedFields, include);
+    for (final Object includedField : includedFields) {
+      final String fieldName = OClassImpl.decodeClassName(includedField.toString());
+      final OProperty property = oClass.getProperty(fieldName);
+      if (property == null) {
+        throw new OIndexException(
+            "Field '"
+                + fieldName
+                + "' cannot be included into index because it is absent in definition of class '"
+                + oClass.getName()
+                + "'");
+      }
+      if (definition.getFields().contains(fieldName)) {
+        throw new OIndexException("Field '" + fieldName + "' is already indexed");
+      }
+      if (property.getType().isMultiValue() || property.getType() == OType.LINKBAG) {
+        throw new OIndexException(
+            "Field '" + fieldName + "' of collection type cannot be included into index");
+      }
+
+      result.addIndex(
+          createSingleFieldIndexDefinition(
+              oClass.getName(),
+              fieldName,
+              property.getType(),
+              property.getLinkedType(),
+              property.getCollate(),
+              indexKind,
+              null));
+    }
+
+    return result;
+  }
+
+  /**
+   * Replaces definition of the index on single property by the definition which calculates keys
+   * using the expression passed in the {@link #EXPRESSION} field of index metadata. Type of keys is
+   * the type of the property, unless other type is passed in the {@link #KEY_TYPE} field.
+   *
+   * @return passed in definition if metadata does not contain expression, otherwise definition of
+   *     expression index.
+   */
+  public static OIndexDefinition expression(
+      final OIndexDefinition definition, final ODocument metadata) {
+    final Object expression = metadata != null ? metadata.field(EXPRESSION) : null;
+    if (expression == null) {
+      return definition;
+    }
+
+    if (definition == null || definition.getClass() != OPropertyIndexDefinition.class) {
+      throw new OIndexException(
+          "Key expression is supported only by indexes on single not collection property");
+    }
+
+    final Object keyType = metadata.field(KEY_TYPE);
+    final OExpressionIndexDefinition result;
+    try {
+      result =
+          new OExpressionIndexDefinition(
+              definition.getClassName(),
+              definition.getFields().get(0),
+              keyType != null
+                  ? OType.valueOf(keyType.toString().toUpperCase(Locale.ENGLISH))
+                  : definition.getTypes()[0],
+              expression.toString());
+    } catch (final OCommandSQLParsingException e) {
+      throw OException.wrapException(
+          new OIndexException("Invalid key expression of index: " + expression), e);
+    }
+    result.setCollate(definition.getCollate());
+    result.setNullValuesIgnored(definition.isNullValuesIgnored());
+    return result;
+  }
+
   /**
    * Extract field name from '<property> [by key|value]' field format.
    *
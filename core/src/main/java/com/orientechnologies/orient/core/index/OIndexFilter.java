@@ -0,0 +1,224 @@
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OProperty;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OCommandSQLParsingException;
+import com.orientechnologies.orient.core.sql.OSQLEngine;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.parser.OAndBlock;
+import com.orientechnologies.orient.core.sql.parser.OBinaryCompareOperator;
+import com.orientechnologies.orient.core.sql.parser.OBinaryCondition;
+import com.orientechnologies.orient.core.sql.parser.OBooleanExpression;
+import com.orientechnologies.orient.core.sql.parser.OEqualsCompareOperator;
+import com.orientechnologies.orient.core.sql.parser.OExpression;
+import com.orientechnologies.orient.core.sql.parser.OGeOperator;
+import com.orientechnologies.orient.core.sql.parser.OGtOperator;
+import com.orientechnologies.orient.core.sql.parser.OLeOperator;
+import com.orientechnologies.orient.core.sql.parser.OLtOperator;
+import com.orientechnologies.orient.core.sql.parser.OOrBlock;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Filter of the documents indexed by the partial index. Only documents which match the predicate
+ * passed in the {@link #WHERE} field of index metadata are indexed, so the index is smaller and its
+ * maintenance is cheaper if the predicate selects small part of the documents of the class.
+ *
+ * <p>Partial index can be used by the query only if the condition of the query implies the
+ * predicate of the index. Implication is checked conservatively, conditions of the index should be
+ * present in the query as is, or be comparisons of the same numeric field with the literal which
+ * are satisfied by all values selected by the query.
+ */
+public final class OIndexFilter {
+  /** Name of the field of index metadata which contains predicate of the partial index. */
+  public static final String WHERE = "where";
+
+  private final String predicate;
+  private final OOrBlock condition;
+  private final List<OAndBlock> flattenedCondition;
+
+  private OIndexFilter(final String predicate, final OOrBlock condition) {
+    this.predicate = predicate;
+    this.condition = condition;
+    this.flattenedCondition = condition.flatten();
+  }
+
+  /** @return filter defined by the index metadata or <code>null</code> if all documents are indexed */
+  public static OIndexFilter create(final ODocument metadata) {
+    final Object predicate = metadata != null ? metadata.field(WHERE) : null;
+    if (predicate == null) {
+      return null;
+    }
+
+    try {
+      return new OIndexFilter(
+          predicate.toString(), OSQLEngine.parsePredicate(predicate.toString()));
+    } catch (final OCommandSQLParsingException e) {
+      throw OException.wrapException(
+          new OIndexException("Invalid predicate of partial index: " + predicate), e);
+    }
+  }
+
+  public String getPredicate() {
+    return predicate;
+  }
+
+  /** @return <code>true</code> if the current state of the document matches the predicate. */
+  public boolean matches(final ODocument document) {
+    return condition.evaluate(document, context());
+  }
+
+  /**
+   * @return <code>true</code> if the state of the document before the changes of the passed in
+   *     fields matched the predicate, so the document is present in the index.
+   */
+  public boolean matchedBefore(final ODocument document, final Collection<String> dirtyFields) {
+    if (dirtyFields.isEmpty()) {
+      return matches(document);
+    }
+
+    final ODocument original = document.copy();
+    for (final String field : dirtyFields) {
+      original.field(field, document.<Object>getOriginalValue(field));
+    }
+
+    return condition.evaluate(original, context());
+  }
+
+  /**
+   * @param block conjunction of the conditions of the query
+   * @param clazz class of the query
+   * @return <code>true</code> if all the documents which satisfy the conditions of the query match
+   *     the predicate of the index.
+   */
+  public boolean isImpliedBy(final OAndBlock block, final OClass clazz, final OCommandContext ctx) {
+    for (final OAndBlock indexBlock : flattenedCondition) {
+      boolean implied = true;
+      for (final OBooleanExpression indexCondition : indexBlock.getSubBlocks()) {
+        if (block.getSubBlocks().stream()
+            .noneMatch(queryCondition -> implies(queryCondition, indexCondition, clazz, ctx))) {
+          implied = false;
+          break;
+        }
+      }
+
+      if (implied) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private static boolean implies(
+      final OBooleanExpression queryCondition,
+      final OBooleanExpression indexCondition,
+      final OClass clazz,
+      final OCommandContext ctx) {
+    if (queryCondition.toString().equals(indexCondition.toString())) {
+      return true;
+    }
+    if (!(queryCondition instanceof OBinaryCondition)
+        || !(indexCondition instanceof OBinaryCondition)) {
+      return false;
+    }
+
+    final OBinaryCondition query = (OBinaryCondition) queryCondition;
+    final OBinaryCondition index = (OBinaryCondition) indexCondition;
+    if (!query.getLeft().isBaseIdentifier()
+        || !index.getLeft().isBaseIdentifier()
+        || !query.getRight().isLiteral()
+        || !index.getRight().isLiteral()) {
+      return false;
+    }
+
+    final String field = index.getLeft().getDefaultAlias().getStringValue();
+    if (!field.equals(query.getLeft().getDefaultAlias().getStringValue())) {
+      return false;
+    }
+
+    // ranges are compared only for numbers, comparison of other types depends on collation
+    final OProperty property = clazz.getProperty(field);
+    if (property == null || !isNumeric(property)) {
+      return false;
+    }
+
+    final Integer cmp = compare(value(query.getRight(), ctx), value(index.getRight(), ctx));
+    if (cmp == null) {
+      return false;
+    }
+
+    final OBinaryCompareOperator queryOperator = query.getOperator();
+    final OBinaryCompareOperator indexOperator = index.getOperator();
+    final boolean queryEquals = queryOperator instanceof OEqualsCompareOperator;
+    if (indexOperator instanceof OEqualsCompareOperator) {
+      return queryEquals && cmp == 0;
+    }
+    if (indexOperator instanceof OGtOperator) {
+      return (queryEquals || queryOperator instanceof OGeOperator) && cmp > 0
+          || queryOperator instanceof OGtOperator && cmp >= 0;
+    }
+    if (indexOperator instanceof OGeOperator) {
+      return (queryEquals
+              || queryOperator instanceof OGtOperator
+              || queryOperator instanceof OGeOperator)
+          && cmp >= 0;
+    }
+    if (indexOperator instanceof OLtOperator) {
+      return (queryEquals || queryOperator instanceof OLeOperator) && cmp < 0
+          || queryOperator instanceof OLtOperator && cmp <= 0;
+    }
+    if (indexOperator instanceof OLeOperator) {
+      return (queryEquals
+              || queryOperator instanceof OLtOperator
+              || queryOperator instanceof OLeOperator)
+          && cmp <= 0;
+    }
+
+    return false;
+  }
+
+  private static boolean isNumeric(final OProperty property) {
+    switch (property.getType()) {
+      case BYTE:
+      case SHORT:
+      case INTEGER:
+      case LONG:
+      case FLOAT:
+      case DOUBLE:
+      case DECIMAL:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private static Object value(final OExpression expression, final OCommandContext ctx) {
+    return expression.execute((OResult) null, ctx);
+  }
+
+  private static Integer compare(final Object one, final Object two) {
+    if (!(one instanceof Number) || !(two instanceof Number)) {
+      return null;
+    }
+
+    try {
+      return new BigDecimal(one.toString()).compareTo(new BigDecimal(two.toString()));
+    } catch (final NumberFormatException e) {
+      // NaN and infinite values
+      return null;
+    }
+  }
+
+  private static OCommandContext context() {
+    final OBasicCommandContext ctx = new OBasicCommandContext();
+    ctx.setDatabase(ODatabaseRecordThreadLocal.instance().getIfDefined());
+    return ctx;
+  }
+}
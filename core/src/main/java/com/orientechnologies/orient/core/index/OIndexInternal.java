@@ -35,6 +35,7 @@ import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
 import com.orientechnologies.orient.core.tx.OTransactionIndexChangesPerKey;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -58,6 +59,8 @@ public interface OIndexInternal extends OIndex {
   String INDEX_VERSION = "indexVersion";
   String METADATA = "metadata";
   String MERGE_KEYS = "mergeKeys";
+  String ONLINE = "online";
+  String CONFIG_BUILDING = "building";
 
   Object getCollatingValue(final Object key);
 
@@ -154,6 +157,30 @@ public interface OIndexInternal extends OIndex {
   Stream<ORawPair<Object, ORID>> streamEntriesBetween(
       Object fromKey, boolean fromInclusive, Object toKey, boolean toInclusive, boolean ascOrder);
 
+  /**
+   * Returns stream which presents data of several ranges of keys. Ranges should not overlap and
+   * their borders may not be <code>null</code>, ranges are returned in the requested order of their
+   * lower borders. Indexes which keep keys ordered may read all the ranges during single pass.
+   *
+   * @param ranges Pairs of lower and upper borders of index data.
+   * @param fromInclusive Indicates whether lower borders should be inclusive or exclusive.
+   * @param toInclusive Indicates whether upper borders should be inclusive or exclusive.
+   * @param ascOrder Flag which determines whether data iterated by stream should be in ascending or
+   *     descending order.
+   * @return stream which presents data of passed in ranges of keys.
+   */
+  default Stream<ORawPair<Object, ORID>> streamEntriesBetweenRanges(
+      List<ORawPair<Object, Object>> ranges,
+      boolean fromInclusive,
+      boolean toInclusive,
+      boolean ascOrder) {
+    return ranges.stream()
+        .flatMap(
+            range ->
+                streamEntriesBetween(
+                    range.first, fromInclusive, range.second, toInclusive, ascOrder));
+  }
+
   /**
    * Returns stream which presents data associated with passed in keys.
    *
@@ -335,4 +362,48 @@ public interface OIndexInternal extends OIndex {
   OIndex create(OIndexMetadata metadata, boolean rebuild, OProgressListener progressListener);
 
   int getIndexId();
+
+  /**
+   * Starts online build of the empty index. Till the build is completed transactions do not wait
+   * for the index but log their changes which are applied by {@link
+   * #completeOnlineBuild(OProgressListener)}.
+   *
+   * @return <code>false</code> if index does not support online build and should be filled
+   *     offline.
+   */
+  boolean startOnlineBuild();
+
+  /**
+   * Fills index started by {@link #startOnlineBuild()} by the documents of indexed clusters and
+   * applies changes logged during the build.
+   *
+   * @return amount of indexed documents
+   */
+  long completeOnlineBuild(OProgressListener progressListener);
+
+  /** @return <code>true</code> if index is built online and can not be used by queries yet. */
+  boolean isBuilding();
+
+  /**
+   * @return filter of the documents indexed by the partial index or <code>null</code> if all
+   *     documents of indexed clusters are indexed.
+   */
+  OIndexFilter getFilter();
+
+  static boolean isPartial(final OIndex index) {
+    return index instanceof OIndexInternal && ((OIndexInternal) index).getFilter() != null;
+  }
+
+  /**
+   * Partial indexes do not contain all the documents of the class and keys of expression indexes
+   * are not the values of the indexed property, so such indexes may be used only by the query
+   * planner which checks predicate and key expression of the index.
+   */
+  static boolean isPartialOrExpression(final OIndex index) {
+    return isPartial(index) || index.getDefinition() instanceof OExpressionIndexDefinition;
+  }
+
+  static boolean isIndexBuilding(final OIndex index) {
+    return index instanceof OIndexInternal && ((OIndexInternal) index).isBuilding();
+  }
 }
@@ -19,6 +19,7 @@
  */
 package com.orientechnologies.orient.core.index;
 
+import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.listener.OProgressListener;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.log.OLogger;
@@ -285,6 +286,10 @@ public class OIndexManagerShared implements OIndexManagerAbstract {
     final Set<OIndex> rawResult = propertyIndex.get(multiKey);
     final Set<OIndex> transactionalResult = new HashSet<>(rawResult.size());
     for (final OIndex index : rawResult) {
+      if (OIndexInternal.isIndexBuilding(index)) {
+        continue;
+      }
+
       // ignore indexes that ignore null values on partial match
       if (fields.size() == index.getDefinition().getFields().size()
           || !index.getDefinition().isNullValuesIgnored()) {
@@ -307,7 +312,12 @@ public class OIndexManagerShared implements OIndexManagerAbstract {
 
     if (propertyIndex == null) return false;
 
-    return propertyIndex.containsKey(multiKey) && !propertyIndex.get(multiKey).isEmpty();
+    final Set<OIndex> indexes = propertyIndex.get(multiKey);
+    if (indexes == null) return false;
+
+    for (final OIndex index : indexes) if (!OIndexInternal.isIndexBuilding(index)) return true;
+
+    return false;
   }
 
   public boolean areIndexed(final String className, final String... fields) {
@@ -329,7 +339,8 @@ public class OIndexManagerShared implements OIndexManagerAbstract {
     if (propertyIndex == null) return;
 
     for (final Set<OIndex> propertyIndexes : propertyIndex.values())
-      for (final OIndex index : propertyIndexes) indexes.add(index);
+      for (final OIndex index : propertyIndexes)
+        if (!OIndexInternal.isIndexBuilding(index)) indexes.add(index);
   }
 
   public void getClassRawIndexes(final String className, final Collection<OIndex> indexes) {
@@ -347,7 +358,8 @@ public class OIndexManagerShared implements OIndexManagerAbstract {
     if (propertyIndex != null)
       for (final Set<OIndex> propertyIndexes : propertyIndex.values())
         for (final OIndex index : propertyIndexes)
-          if (index instanceof OIndexUnique) return (OIndexUnique) index;
+          if (index instanceof OIndexUnique && !OIndexInternal.isIndexBuilding(index))
+            return (OIndexUnique) index;
 
     return null;
   }
@@ -583,7 +595,10 @@ public class OIndexManagerShared implements OIndexManagerAbstract {
   /**
    * Create a new index.
    *
-   * <p>May require quite a long time if big amount of data should be indexed.
+   * <p>May require quite a long time if big amount of data should be indexed. If online build is
+   * requested index is filled without the lock of index manager, writers log their changes of the
+   * index instead of waiting for the end of the build, and index is not used by queries till it is
+   * filled.
    *
    * @param iName name of index
    * @param type index type. Specified by plugged index factories.
@@ -598,7 +613,7 @@ public class OIndexManagerShared implements OIndexManagerAbstract {
       ODatabaseDocumentInternal database,
       final String iName,
       String type,
-      final OIndexDefinition indexDefinition,
+      OIndexDefinition indexDefinition,
       final int[] clusterIdsToIndex,
       OProgressListener progressListener,
       ODocument metadata,
@@ -626,6 +641,16 @@ public class OIndexManagerShared implements OIndexManagerAbstract {
       throw new IllegalArgumentException("Index definition cannot be null");
     }
 
+    indexDefinition =
+        OIndexDefinitionFactory.includeFields(
+            manualIndexesAreUsed
+                ? null
+                : database.getMetadata().getSchema().getClass(indexDefinition.getClassName()),
+            indexDefinition,
+            type,
+            metadata);
+    indexDefinition = OIndexDefinitionFactory.expression(indexDefinition, metadata);
+
     type = type.toUpperCase();
     if (algorithm == null) {
       algorithm = OIndexes.chooseDefaultIndexAlgorithm(type);
@@ -634,6 +659,7 @@ public class OIndexManagerShared implements OIndexManagerAbstract {
     final String valueContainerAlgorithm = chooseContainerAlgorithm(type);
 
     final OIndexInternal index;
+    boolean onlineBuild = false;
     acquireExclusiveLock();
     try {
 
@@ -662,6 +688,13 @@ public class OIndexManagerShared implements OIndexManagerAbstract {
                 .getContextConfiguration()
                 .getValueAsBoolean(OGlobalConfiguration.INDEX_IGNORE_NULL_VALUES_DEFAULT));
       }
+      if (indexDefinition.isNullValuesIgnored()
+          && metadata != null
+          && metadata.field(OIndexDefinitionFactory.INCLUDE) != null) {
+        // documents with null values of included fields would be absent in the index
+        throw new OIndexException(
+            "Included fields are not supported by indexes which ignore null values");
+      }
 
       OIndexMetadata im =
           new OIndexMetadata(
@@ -674,7 +707,19 @@ public class OIndexManagerShared implements OIndexManagerAbstract {
               -1,
               metadata);
 
-      index = createIndexFromMetadata(storage, im, progressListener);
+      final boolean online =
+          !clustersToIndex.isEmpty() && OIndexAbstract.isOnlineBuildRequested(metadata, storage);
+      index = createIndexFromMetadata(storage, im, progressListener, !online);
+      if (progressListener == null)
+        // ASSIGN DEFAULT PROGRESS LISTENER
+        progressListener = new OIndexRebuildOutputListener(index);
+
+      if (online) {
+        onlineBuild = index.startOnlineBuild();
+        if (!onlineBuild) {
+          index.rebuild(progressListener);
+        }
+      }
 
       addIndexInternal(index);
 
@@ -683,11 +728,46 @@ public class OIndexManagerShared implements OIndexManagerAbstract {
       notifyInvolvedClasses(database, clusterIdsToIndex);
     }
 
+    if (onlineBuild) {
+      completeOnlineBuild(database, index, clusterIdsToIndex, progressListener);
+    }
+
     return index;
   }
 
+  /**
+   * Fills index which is already visible to the writers. Once index is filled, configuration of
+   * index manager is saved again to clear the flag of not completed build.
+   */
+  private void completeOnlineBuild(
+      ODatabaseDocumentInternal database,
+      OIndexInternal index,
+      int[] clusterIdsToIndex,
+      OProgressListener progressListener) {
+    try {
+      index.completeOnlineBuild(progressListener);
+    } catch (RuntimeException e) {
+      logger.error("Exception during online build of index '%s'", e, index.getName());
+      try {
+        dropIndex(database, index.getName());
+      } catch (RuntimeException ex) {
+        logger.error("Error during deletion of index '%s'", ex, index.getName());
+      }
+
+      throw OException.wrapException(
+          new OIndexException("Cannot create the index '" + index.getName() + "'"), e);
+    }
+
+    acquireExclusiveLock();
+    releaseExclusiveLock(database, true);
+    notifyInvolvedClasses(database, clusterIdsToIndex);
+  }
+
   private OIndexInternal createIndexFromMetadata(
-      OStorage storage, OIndexMetadata indexMetadata, OProgressListener progressListener) {
+      OStorage storage,
+      OIndexMetadata indexMetadata,
+      OProgressListener progressListener,
+      boolean fill) {
 
     OIndexInternal index = OIndexes.createIndex(storage, indexMetadata);
     if (progressListener == null)
@@ -695,7 +775,7 @@ public class OIndexManagerShared implements OIndexManagerAbstract {
       progressListener = new OIndexRebuildOutputListener(index);
     indexes.put(index.getName(), index);
     try {
-      index.create(indexMetadata, true, progressListener);
+      index.create(indexMetadata, fill, progressListener);
     } catch (Throwable e) {
       indexes.remove(index.getName());
       throw e;
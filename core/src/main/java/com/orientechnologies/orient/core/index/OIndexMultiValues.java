@@ -247,6 +247,46 @@ public abstract class OIndexMultiValues extends OIndexAbstract {
         this, mergeTxAndBackedStreams(indexChanges, txStream, stream, ascOrder));
   }
 
+  @Override
+  public Stream<ORawPair<Object, ORID>> streamEntriesBetweenRanges(
+      final List<ORawPair<Object, Object>> ranges,
+      final boolean fromInclusive,
+      final boolean toInclusive,
+      final boolean ascOrder) {
+    final OTransactionIndexChanges indexChanges =
+        getDatabase().getTransaction().getIndexChangesInternal(getName());
+    if (indexChanges != null) {
+      // changes of the transaction are merged with the data of each range separately
+      return ranges.stream()
+          .flatMap(
+              range ->
+                  streamEntriesBetween(
+                      range.first, fromInclusive, range.second, toInclusive, ascOrder));
+    }
+
+    final List<ORawPair<Object, Object>> collatedRanges = getCollatingRanges(ranges, ascOrder);
+    acquireSharedLock();
+    try {
+      while (true) {
+        try {
+          return IndexStreamSecurityDecorator.decorateStream(
+              this,
+              storage.iterateIndexEntriesBetweenRanges(
+                  indexId,
+                  collatedRanges,
+                  fromInclusive,
+                  toInclusive,
+                  ascOrder,
+                  MultiValuesTransformer.INSTANCE));
+        } catch (OInvalidIndexEngineIdException ignore) {
+          doReloadIndexEngine();
+        }
+      }
+    } finally {
+      releaseSharedLock();
+    }
+  }
+
   @Override
   public Stream<ORawPair<Object, ORID>> streamEntriesMajor(
       Object fromKey, boolean fromInclusive, boolean ascOrder) {
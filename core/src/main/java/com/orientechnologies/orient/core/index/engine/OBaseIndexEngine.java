@@ -6,6 +6,8 @@ import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.index.OIndexMetadata;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
 import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
 import java.util.stream.Stream;
 
 public interface OBaseIndexEngine {
@@ -33,6 +35,29 @@ public interface OBaseIndexEngine {
       boolean ascSortOrder,
       IndexEngineValuesTransformer transformer);
 
+  /**
+   * Iterates entries of several ranges of keys. Ranges are sorted in the requested order, do not
+   * overlap and have not <code>null</code> boundaries. Engines which keep keys ordered may iterate
+   * all the ranges during single pass over the index.
+   */
+  default Stream<ORawPair<Object, ORID>> iterateEntriesBetweenRanges(
+      List<ORawPair<Object, Object>> ranges,
+      boolean fromInclusive,
+      boolean toInclusive,
+      boolean ascSortOrder,
+      IndexEngineValuesTransformer transformer) {
+    return ranges.stream()
+        .flatMap(
+            range ->
+                iterateEntriesBetween(
+                    range.first,
+                    fromInclusive,
+                    range.second,
+                    toInclusive,
+                    ascSortOrder,
+                    transformer));
+  }
+
   Stream<ORawPair<Object, ORID>> iterateEntriesMajor(
       Object fromKey,
       boolean isInclusive,
@@ -84,6 +109,23 @@ public interface OBaseIndexEngine {
     return false;
   }
 
+  /**
+   * @return <code>true</code> if empty index engine can be filled by {@link #bulkLoad(Iterator,
+   *     IndexEngineValidator)}.
+   */
+  default boolean hasBulkLoadSupport() {
+    return false;
+  }
+
+  /**
+   * Fills empty index engine by the passed in entries which may be unsorted. Entries are written in
+   * series of own atomic operations, so method can not be called inside of the atomic operation.
+   */
+  default void bulkLoad(
+      Iterator<ORawPair<Object, ORID>> entries, IndexEngineValidator<Object, ORID> validator) {
+    throw new UnsupportedOperationException("Bulk load is not supported by index engine");
+  }
+
   void put(OAtomicOperation atomicOperation, Object key, ORID value);
 
   boolean remove(OAtomicOperation atomicOperation, Object key);
@@ -3,5 +3,9 @@ package com.orientechnologies.orient.core.index.engine.v1;
 import com.orientechnologies.orient.core.index.engine.OV1IndexEngine;
 
 public interface OCellBTreeIndexEngine extends OV1IndexEngine {
-  int VERSION = 4;
+  /**
+   * Version of new index engines, pages of single value trees of indexes created since the 5th
+   * version may store keys in prefix compressed format.
+   */
+  int VERSION = 5;
 }
@@ -25,6 +25,7 @@ import com.orientechnologies.orient.core.storage.index.sbtree.multivalue.v2.Cell
 import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.OCellBTreeSingleValue;
 import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueV3;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Spliterators;
 import java.util.stream.Stream;
@@ -68,14 +69,20 @@ public final class OCellBTreeMultiValueIndexEngine
       this.nullTree = null;
     } else if (version == 3) {
       throw new IllegalArgumentException("Unsupported version of index : " + version);
-    } else if (version == 4) {
+    } else if (version == 4 || version == 5) {
+      // pages of indexes created by versions before the 5th one keep the original format
+      final boolean prefixCompression = version == 5;
       mvTree = null;
       svTree =
           new CellBTreeSingleValueV3<>(
-              name, DATA_FILE_EXTENSION, NULL_BUCKET_FILE_EXTENSION, storage);
+              name, DATA_FILE_EXTENSION, NULL_BUCKET_FILE_EXTENSION, storage, prefixCompression);
       nullTree =
           new CellBTreeSingleValueV3<>(
-              nullTreeName, DATA_FILE_EXTENSION, NULL_BUCKET_FILE_EXTENSION, storage);
+              nullTreeName,
+              DATA_FILE_EXTENSION,
+              NULL_BUCKET_FILE_EXTENSION,
+              storage,
+              prefixCompression);
     } else {
       throw new IllegalStateException("Invalid tree version " + version);
     }
@@ -482,6 +489,34 @@ public final class OCellBTreeMultiValueIndexEngine
         svTree.iterateEntriesBetween(fromKey, fromInclusive, toKey, toInclusive, ascSortOrder));
   }
 
+  @Override
+  public Stream<ORawPair<Object, ORID>> iterateEntriesBetweenRanges(
+      List<ORawPair<Object, Object>> ranges,
+      boolean fromInclusive,
+      boolean toInclusive,
+      boolean ascSortOrder,
+      IndexEngineValuesTransformer transformer) {
+    if (!ascSortOrder) {
+      return OMultiValueIndexEngine.super.iterateEntriesBetweenRanges(
+          ranges, fromInclusive, toInclusive, false, transformer);
+    }
+
+    if (mvTree != null) {
+      return mvTree.iterateEntriesBetweenRanges(ranges, fromInclusive, toInclusive);
+    }
+    assert svTree != null;
+
+    final List<ORawPair<OCompositeKey, OCompositeKey>> compositeRanges =
+        new ArrayList<>(ranges.size());
+    for (final ORawPair<Object, Object> range : ranges) {
+      compositeRanges.add(
+          new ORawPair<>(convertToCompositeKey(range.first), convertToCompositeKey(range.second)));
+    }
+
+    return mapSVStream(
+        svTree.iterateEntriesBetweenRanges(compositeRanges, fromInclusive, toInclusive));
+  }
+
   private static OCompositeKey convertToCompositeKey(Object rangeFrom) {
     OCompositeKey firstKey;
     if (rangeFrom instanceof OCompositeKey) {
@@ -14,12 +14,16 @@ import com.orientechnologies.orient.core.index.engine.OSingleValueIndexEngine;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
+import com.orientechnologies.orient.core.storage.index.engine.OIndexBloomFilter;
+import com.orientechnologies.orient.core.storage.index.nkbtree.NormalizedKeyBTree;
 import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.OCellBTreeSingleValue;
 import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v1.CellBTreeSingleValueV1;
 import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueV3;
 import com.orientechnologies.orient.core.storage.index.versionmap.OVersionPositionMap;
 import com.orientechnologies.orient.core.storage.index.versionmap.OVersionPositionMapV0;
 import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
 import java.util.stream.Stream;
 
 public final class OCellBTreeSingleValueIndexEngine
@@ -33,13 +37,30 @@ public final class OCellBTreeSingleValueIndexEngine
   private final int id;
   private OAbstractPaginatedStorage storage;
 
+  /** Filter of present keys, <code>null</code> if it is not enabled for the index. */
+  private volatile OIndexBloomFilter bloomFilter;
+
   public OCellBTreeSingleValueIndexEngine(
       int id, String name, OAbstractPaginatedStorage storage, int version) {
+    this(id, name, storage, version, false);
+  }
+
+  /**
+   * @param normalizedKeys whether keys should be stored in normalized form, see {@link
+   *     NormalizedKeyBTree}.
+   */
+  public OCellBTreeSingleValueIndexEngine(
+      int id, String name, OAbstractPaginatedStorage storage, int version, boolean normalizedKeys) {
     this.name = name;
     this.id = id;
     this.storage = storage;
 
-    if (version < 3) {
+    // pages of indexes created by versions before the 5th one keep the original format
+    if (normalizedKeys) {
+      this.sbTree =
+          new NormalizedKeyBTree(
+              name, DATA_FILE_EXTENSION, NULL_BUCKET_FILE_EXTENSION, storage, version >= 5);
+    } else if (version < 3) {
       this.sbTree =
           new CellBTreeSingleValueV1<>(
               name, DATA_FILE_EXTENSION, NULL_BUCKET_FILE_EXTENSION, storage);
@@ -47,6 +68,10 @@ public final class OCellBTreeSingleValueIndexEngine
       this.sbTree =
           new CellBTreeSingleValueV3<>(
               name, DATA_FILE_EXTENSION, NULL_BUCKET_FILE_EXTENSION, storage);
+    } else if (version == 5) {
+      this.sbTree =
+          new CellBTreeSingleValueV3<>(
+              name, DATA_FILE_EXTENSION, NULL_BUCKET_FILE_EXTENSION, storage, true);
     } else {
       throw new IllegalStateException("Invalid tree version " + version);
     }
@@ -85,6 +110,8 @@ public final class OCellBTreeSingleValueIndexEngine
     } catch (IOException e) {
       throw OException.wrapException(new OIndexException("Error of creation of index " + name), e);
     }
+
+    bloomFilter = OIndexBloomFilter.create(storage.getName(), data);
   }
 
   @Override
@@ -97,6 +124,8 @@ public final class OCellBTreeSingleValueIndexEngine
       throw OException.wrapException(
           new OIndexException("Error during deletion of index " + name), e);
     }
+
+    closeBloomFilter();
   }
 
   private void doClearTree(OAtomicOperation atomicOperation) throws IOException {
@@ -113,6 +142,21 @@ public final class OCellBTreeSingleValueIndexEngine
     sbTree.remove(atomicOperation, null);
   }
 
+  private void fillBloomFilter(final OIndexBloomFilter bloomFilter) {
+    if (bloomFilter != null) {
+      try (Stream<Object> stream = sbTree.keyStream()) {
+        bloomFilter.addAll(stream);
+      }
+    }
+  }
+
+  private void closeBloomFilter() {
+    final OIndexBloomFilter bloomFilter = this.bloomFilter;
+    if (bloomFilter != null) {
+      bloomFilter.close();
+    }
+  }
+
   @Override
   public void load(IndexEngineData data) {
     final OEncryption encryption =
@@ -129,12 +173,21 @@ public final class OCellBTreeSingleValueIndexEngine
       throw OException.wrapException(
           new OIndexException("Error during VPM load of index " + name), e);
     }
+
+    final OIndexBloomFilter bloomFilter = OIndexBloomFilter.create(storage.getName(), data);
+    fillBloomFilter(bloomFilter);
+    this.bloomFilter = bloomFilter;
   }
 
   @Override
   public boolean remove(OAtomicOperation atomicOperation, Object key) {
     try {
-      return sbTree.remove(atomicOperation, key) != null;
+      final boolean removed = sbTree.remove(atomicOperation, key) != null;
+      final OIndexBloomFilter bloomFilter = this.bloomFilter;
+      if (removed && bloomFilter != null) {
+        bloomFilter.remove(key);
+      }
+      return removed;
     } catch (IOException e) {
       throw OException.wrapException(
           new OIndexException("Error during removal of key " + key + " from index " + name), e);
@@ -144,7 +197,12 @@ public final class OCellBTreeSingleValueIndexEngine
   @Override
   public boolean remove(OAtomicOperation atomicOperation, Object key, ORID value) {
     try {
-      return sbTree.remove(atomicOperation, key) != null;
+      final boolean removed = sbTree.remove(atomicOperation, key) != null;
+      final OIndexBloomFilter bloomFilter = this.bloomFilter;
+      if (removed && bloomFilter != null) {
+        bloomFilter.remove(key);
+      }
+      return removed;
     } catch (IOException e) {
       throw OException.wrapException(
           new OIndexException("Error during removal of key " + key + " from index " + name), e);
@@ -163,12 +221,21 @@ public final class OCellBTreeSingleValueIndexEngine
   @Override
   public void close() {
     sbTree.close();
+    closeBloomFilter();
   }
 
   @Override
   public Stream<ORID> get(Object key) {
+    final OIndexBloomFilter bloomFilter = this.bloomFilter;
+    if (bloomFilter != null && !bloomFilter.mightContain(key)) {
+      return Stream.empty();
+    }
+
     final ORID rid = sbTree.get(key);
     if (rid == null) {
+      if (bloomFilter != null && key != null) {
+        bloomFilter.falsePositive();
+      }
       return Stream.empty();
     }
     return Stream.of(rid);
@@ -199,6 +266,7 @@ public final class OCellBTreeSingleValueIndexEngine
 
   @Override
   public void put(OAtomicOperation atomicOperation, Object key, ORID value) {
+    addToBloomFilter(key);
     try {
       sbTree.put(atomicOperation, key, value);
     } catch (IOException e) {
@@ -213,6 +281,7 @@ public final class OCellBTreeSingleValueIndexEngine
       Object key,
       ORID value,
       IndexEngineValidator<Object, ORID> validator) {
+    addToBloomFilter(key);
     try {
       return sbTree.validatedPut(atomicOperation, key, value, validator);
     } catch (IOException e) {
@@ -221,6 +290,32 @@ public final class OCellBTreeSingleValueIndexEngine
     }
   }
 
+  @Override
+  public boolean hasBulkLoadSupport() {
+    return sbTree.hasBulkLoadSupport();
+  }
+
+  @Override
+  public void bulkLoad(
+      final Iterator<ORawPair<Object, ORID>> entries,
+      final IndexEngineValidator<Object, ORID> validator) {
+    try {
+      sbTree.bulkLoad(entries, validator);
+    } catch (IOException e) {
+      throw OException.wrapException(
+          new OIndexException("Error during bulk load of index " + name), e);
+    }
+
+    fillBloomFilter(bloomFilter);
+  }
+
+  private void addToBloomFilter(final Object key) {
+    final OIndexBloomFilter bloomFilter = this.bloomFilter;
+    if (bloomFilter != null) {
+      bloomFilter.add(key);
+    }
+  }
+
   @Override
   public Stream<ORawPair<Object, ORID>> iterateEntriesBetween(
       Object rangeFrom,
@@ -233,6 +328,21 @@ public final class OCellBTreeSingleValueIndexEngine
         rangeFrom, fromInclusive, rangeTo, toInclusive, ascSortOrder);
   }
 
+  @Override
+  public Stream<ORawPair<Object, ORID>> iterateEntriesBetweenRanges(
+      List<ORawPair<Object, Object>> ranges,
+      boolean fromInclusive,
+      boolean toInclusive,
+      boolean ascSortOrder,
+      IndexEngineValuesTransformer transformer) {
+    if (!ascSortOrder) {
+      return OSingleValueIndexEngine.super.iterateEntriesBetweenRanges(
+          ranges, fromInclusive, toInclusive, false, transformer);
+    }
+
+    return sbTree.iterateEntriesBetweenRanges(ranges, fromInclusive, toInclusive);
+  }
+
   @Override
   public Stream<ORawPair<Object, ORID>> iterateEntriesMajor(
       Object fromKey,
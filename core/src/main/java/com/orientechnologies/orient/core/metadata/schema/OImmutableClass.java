@@ -24,6 +24,7 @@ import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.record.OClassTrigger;
 import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexInternal;
 import com.orientechnologies.orient.core.index.OIndexManagerAbstract;
 import com.orientechnologies.orient.core.metadata.function.OFunctionLibraryImpl;
 import com.orientechnologies.orient.core.metadata.schema.clusterselection.OClusterSelectionStrategy;
@@ -685,7 +686,7 @@ public class OImmutableClass implements OClass {
 
   @Override
   public Set<OIndex> getClassIndexes() {
-    return this.indexes;
+    return withoutBuildingIndexes(this.indexes);
   }
 
   @Override
@@ -719,13 +720,26 @@ public class OImmutableClass implements OClass {
 
   @Override
   public Set<OIndex> getIndexes() {
-    return this.indexes;
+    return withoutBuildingIndexes(this.indexes);
   }
 
+  /** @return all indexes including the ones which are built online and not used by queries yet. */
   public Set<OIndex> getRawIndexes() {
     return indexes;
   }
 
+  private static Set<OIndex> withoutBuildingIndexes(final Set<OIndex> indexes) {
+    for (final OIndex index : indexes) {
+      if (OIndexInternal.isIndexBuilding(index)) {
+        final Set<OIndex> result = new HashSet<>(indexes);
+        result.removeIf(OIndexInternal::isIndexBuilding);
+        return result;
+      }
+    }
+
+    return indexes;
+  }
+
   @Override
   public OIndex getAutoShardingIndex() {
     return autoShardingIndex;
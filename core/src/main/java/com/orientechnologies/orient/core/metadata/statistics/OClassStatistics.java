@@ -0,0 +1,243 @@
+package com.orientechnologies.orient.core.metadata.statistics;
+
+import com.orientechnologies.common.collection.OMultiValue;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.parser.OAndBlock;
+import com.orientechnologies.orient.core.sql.parser.OBetweenCondition;
+import com.orientechnologies.orient.core.sql.parser.OBinaryCompareOperator;
+import com.orientechnologies.orient.core.sql.parser.OBinaryCondition;
+import com.orientechnologies.orient.core.sql.parser.OBooleanExpression;
+import com.orientechnologies.orient.core.sql.parser.OEqualsCompareOperator;
+import com.orientechnologies.orient.core.sql.parser.OExpression;
+import com.orientechnologies.orient.core.sql.parser.OGeOperator;
+import com.orientechnologies.orient.core.sql.parser.OGtOperator;
+import com.orientechnologies.orient.core.sql.parser.OInCondition;
+import com.orientechnologies.orient.core.sql.parser.OIsNotNullCondition;
+import com.orientechnologies.orient.core.sql.parser.OIsNullCondition;
+import com.orientechnologies.orient.core.sql.parser.OLeOperator;
+import com.orientechnologies.orient.core.sql.parser.OLtOperator;
+import com.orientechnologies.orient.core.sql.parser.ONeOperator;
+import com.orientechnologies.orient.core.sql.parser.ONeqOperator;
+import com.orientechnologies.orient.core.sql.parser.OOrBlock;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Statistics of the records of the class collected by <code>ANALYZE CLASS</code>. They are used by
+ * the query planners to estimate amount of records which match the conditions of the query.
+ *
+ * <p>Conditions are assumed to be independent, selectivity of the conditions which can not be
+ * estimated, like conditions on the properties without statistics or on the values which are known
+ * only during the query execution, is considered to be equal to 1.
+ */
+public final class OClassStatistics {
+  private final String className;
+  private final long count;
+  private final long timestamp;
+  private final Map<String, OPropertyStatistics> properties;
+
+  OClassStatistics(
+      final String className,
+      final long count,
+      final long timestamp,
+      final Map<String, OPropertyStatistics> properties) {
+    this.className = className;
+    this.count = count;
+    this.timestamp = timestamp;
+    this.properties = properties;
+  }
+
+  public String getClassName() {
+    return className;
+  }
+
+  /** @return amount of the records of the class at the moment of collection of the statistics. */
+  public long getCount() {
+    return count;
+  }
+
+  /** @return time of collection of the statistics. */
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  /** @return statistics of the property or <code>null</code> if they were not collected. */
+  public OPropertyStatistics getProperty(final String name) {
+    return properties.get(name);
+  }
+
+  public Map<String, OPropertyStatistics> getProperties() {
+    return Collections.unmodifiableMap(properties);
+  }
+
+  /**
+   * @param conditions conditions of the query flattened to the disjunction of conjunctions
+   * @param count amount of the records of the class
+   * @return estimated amount of the records which match at least one of the conjunctions, 0 only
+   *     if the class is empty
+   */
+  public long estimate(final List<OAndBlock> conditions, final long count, OCommandContext ctx) {
+    if (conditions == null || conditions.isEmpty() || count == 0) {
+      return count;
+    }
+
+    double selectivity = 0;
+    for (final OAndBlock block : conditions) {
+      selectivity += estimateSelectivity(block, ctx);
+    }
+
+    return Math.max(1, Math.min(count, (long) Math.ceil(count * selectivity)));
+  }
+
+  /** @return estimated fraction of the records of the class which match the condition. */
+  public double estimateSelectivity(final OBooleanExpression condition, OCommandContext ctx) {
+    if (condition instanceof OAndBlock) {
+      double selectivity = 1;
+      for (final OBooleanExpression subBlock : ((OAndBlock) condition).getSubBlocks()) {
+        selectivity *= estimateSelectivity(subBlock, ctx);
+      }
+      return selectivity;
+    }
+    if (condition instanceof OOrBlock) {
+      double complement = 1;
+      for (final OBooleanExpression subBlock : ((OOrBlock) condition).getSubBlocks()) {
+        complement *= 1 - estimateSelectivity(subBlock, ctx);
+      }
+      return 1 - complement;
+    }
+    if (condition instanceof OBinaryCondition) {
+      return binaryConditionSelectivity((OBinaryCondition) condition, ctx);
+    }
+    if (condition instanceof OBetweenCondition) {
+      final OBetweenCondition between = (OBetweenCondition) condition;
+      final OPropertyStatistics property = propertyOf(between.getFirst());
+      if (property == null
+          || !between.getSecond().isEarlyCalculated(ctx)
+          || !between.getThird().isEarlyCalculated(ctx)) {
+        return 1;
+      }
+      return property.rangeSelectivity(
+          value(between.getSecond(), ctx), true, value(between.getThird(), ctx), true);
+    }
+    if (condition instanceof OIsNullCondition) {
+      final OPropertyStatistics property =
+          propertyOf(((OIsNullCondition) condition).getExpression());
+      return property == null ? 1 : property.getNullFraction();
+    }
+    if (condition instanceof OIsNotNullCondition) {
+      final OPropertyStatistics property =
+          propertyOf(((OIsNotNullCondition) condition).getExpression());
+      return property == null ? 1 : 1 - property.getNullFraction();
+    }
+    if (condition instanceof OInCondition) {
+      return inConditionSelectivity((OInCondition) condition, ctx);
+    }
+
+    return 1;
+  }
+
+  private double binaryConditionSelectivity(
+      final OBinaryCondition condition, final OCommandContext ctx) {
+    final OPropertyStatistics property = propertyOf(condition.getLeft());
+    if (property == null || !condition.getRight().isEarlyCalculated(ctx)) {
+      return 1;
+    }
+
+    final Object value = value(condition.getRight(), ctx);
+    if (value == null) {
+      // comparison with null matches nothing
+      return 0;
+    }
+
+    final OBinaryCompareOperator operator = condition.getOperator();
+    if (operator instanceof OEqualsCompareOperator) {
+      return property.equalsSelectivity(value);
+    }
+    if (operator instanceof ONeOperator || operator instanceof ONeqOperator) {
+      return 1 - property.getNullFraction() - property.equalsSelectivity(value);
+    }
+    if (operator instanceof OLtOperator) {
+      return property.rangeSelectivity(null, false, value, false);
+    }
+    if (operator instanceof OLeOperator) {
+      return property.rangeSelectivity(null, false, value, true);
+    }
+    if (operator instanceof OGtOperator) {
+      return property.rangeSelectivity(value, false, null, false);
+    }
+    if (operator instanceof OGeOperator) {
+      return property.rangeSelectivity(value, true, null, false);
+    }
+
+    return 1;
+  }
+
+  private double inConditionSelectivity(final OInCondition condition, final OCommandContext ctx) {
+    final OPropertyStatistics property = propertyOf(condition.getLeft());
+    if (property == null
+        || condition.getRightStatement() != null
+        || condition.getRightMathExpression() != null
+            && !condition.getRightMathExpression().isEarlyCalculated(ctx)) {
+      return 1;
+    }
+
+    final Object values = condition.evaluateRight((OResult) null, ctx);
+    if (!OMultiValue.isMultiValue(values)) {
+      return values == null ? 0 : property.equalsSelectivity(values);
+    }
+
+    double selectivity = 0;
+    for (final Object value : OMultiValue.getMultiValueIterable(values)) {
+      if (value != null) {
+        selectivity += property.equalsSelectivity(value);
+      }
+    }
+    return Math.min(selectivity, 1);
+  }
+
+  private OPropertyStatistics propertyOf(final OExpression expression) {
+    if (expression == null || !expression.isBaseIdentifier()) {
+      return null;
+    }
+    return properties.get(expression.getDefaultAlias().getStringValue());
+  }
+
+  private static Object value(final OExpression expression, final OCommandContext ctx) {
+    return expression.execute((OResult) null, ctx);
+  }
+
+  ODocument toDocument() {
+    final Map<String, ODocument> propertyDocuments = new HashMap<>();
+    for (final Map.Entry<String, OPropertyStatistics> entry : properties.entrySet()) {
+      propertyDocuments.put(entry.getKey(), entry.getValue().toDocument());
+    }
+
+    final ODocument document = new ODocument();
+    document.field("className", className);
+    document.field("count", count);
+    document.field("timestamp", timestamp);
+    document.field("properties", propertyDocuments, OType.EMBEDDEDMAP);
+    return document;
+  }
+
+  static OClassStatistics fromDocument(final ODocument document) {
+    final Map<String, OPropertyStatistics> properties = new HashMap<>();
+    final Map<String, ODocument> propertyDocuments = document.field("properties");
+    if (propertyDocuments != null) {
+      for (final Map.Entry<String, ODocument> entry : propertyDocuments.entrySet()) {
+        properties.put(entry.getKey(), OPropertyStatistics.fromDocument(entry.getValue()));
+      }
+    }
+
+    return new OClassStatistics(
+        document.field("className"),
+        document.<Number>field("count").longValue(),
+        document.<Number>field("timestamp").longValue(),
+        properties);
+  }
+}
@@ -0,0 +1,80 @@
+package com.orientechnologies.orient.core.metadata.statistics;
+
+import com.orientechnologies.common.hash.OMurmurHash3;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+/**
+ * HyperLogLog sketch which estimates amount of distinct values added to it in constant memory.
+ * Each value is hashed, the first bits of the hash select register of the sketch and the register
+ * keeps the maximum position of the first set bit in the rest of the hash. Relative error of the
+ * estimation is about <code>1.04 / sqrt(2^PRECISION)</code>, 1.6% for 4096 registers.
+ */
+final class OHyperLogLog {
+  private static final int PRECISION = 12;
+  private static final int REGISTERS = 1 << PRECISION;
+
+  private final byte[] registers = new byte[REGISTERS];
+
+  void add(final Object value) {
+    final long hash = hash(value);
+    final int index = (int) (hash >>> (Long.SIZE - PRECISION));
+    // the marker bit limits rank by the amount of hash bits left after the index of the register
+    final int rank = Long.numberOfLeadingZeros(hash << PRECISION | 1L << (PRECISION - 1)) + 1;
+    if (rank > registers[index]) {
+      registers[index] = (byte) rank;
+    }
+  }
+
+  long estimate() {
+    double sum = 0;
+    int emptyRegisters = 0;
+    for (final byte register : registers) {
+      sum += 1.0 / (1L << register);
+      if (register == 0) {
+        emptyRegisters++;
+      }
+    }
+
+    final double alpha = 0.7213 / (1 + 1.079 / REGISTERS);
+    final double estimate = alpha * REGISTERS * REGISTERS / sum;
+    if (estimate <= 2.5 * REGISTERS && emptyRegisters > 0) {
+      // linear counting is more precise for small cardinalities
+      return Math.round(REGISTERS * Math.log((double) REGISTERS / emptyRegisters));
+    }
+
+    return Math.round(estimate);
+  }
+
+  private static long hash(final Object value) {
+    final long hash;
+    if (value instanceof Double || value instanceof Float) {
+      hash = Double.doubleToLongBits(((Number) value).doubleValue());
+    } else if (value instanceof Long
+        || value instanceof Integer
+        || value instanceof Short
+        || value instanceof Byte) {
+      hash = ((Number) value).longValue();
+    } else if (value instanceof Date) {
+      hash = ((Date) value).getTime();
+    } else if (value instanceof OIdentifiable) {
+      hash = ((OIdentifiable) value).getIdentity().hashCode();
+    } else {
+      return OMurmurHash3.murmurHash3_x64_64(
+          String.valueOf(value).getBytes(StandardCharsets.UTF_8), 0);
+    }
+
+    return mix(hash);
+  }
+
+  /** Finalization step of MurmurHash3 which spreads bits of the value over the whole hash. */
+  private static long mix(long hash) {
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
@@ -0,0 +1,212 @@
+package com.orientechnologies.orient.core.metadata.statistics;
+
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Statistics of the values of a property of the class: fraction of null values, estimated amount
+ * of distinct values and, for numbers and dates, equi-depth histogram of the values. Histogram is
+ * kept as the bounds of the buckets, each bucket contains the same amount of the sampled values.
+ */
+public final class OPropertyStatistics {
+  /** Selectivity of the range condition if the histogram of the property values is absent. */
+  private static final double DEFAULT_RANGE_SELECTIVITY = 1.0 / 3;
+
+  private final OType type;
+  private final double nullFraction;
+  private final long distinctValues;
+  private final double[] histogram;
+
+  OPropertyStatistics(
+      final OType type,
+      final double nullFraction,
+      final long distinctValues,
+      final double[] histogram) {
+    this.type = type;
+    this.nullFraction = nullFraction;
+    this.distinctValues = distinctValues;
+    this.histogram = histogram;
+  }
+
+  public OType getType() {
+    return type;
+  }
+
+  public double getNullFraction() {
+    return nullFraction;
+  }
+
+  public long getDistinctValues() {
+    return distinctValues;
+  }
+
+  /** @return bounds of the buckets of the histogram or <code>null</code> if it is not built. */
+  public double[] getHistogram() {
+    return histogram == null ? null : histogram.clone();
+  }
+
+  /** @return estimated fraction of the records whose property is equal to the passed in value. */
+  public double equalsSelectivity(final Object value) {
+    if (value == null) {
+      return nullFraction;
+    }
+
+    return (1 - nullFraction) * equalsFraction(value);
+  }
+
+  /**
+   * @param from lower bound of the range or <code>null</code> if the range has no lower bound
+   * @param to upper bound of the range or <code>null</code> if the range has no upper bound
+   * @return estimated fraction of the records whose property is inside of the range
+   */
+  public double rangeSelectivity(
+      final Object from, final boolean fromInclusive, final Object to, final boolean toInclusive) {
+    final Double fromKey = from == null ? null : toHistogramKey(from);
+    final Double toKey = to == null ? null : toHistogramKey(to);
+    if (histogram == null || from != null && fromKey == null || to != null && toKey == null) {
+      return (1 - nullFraction) * DEFAULT_RANGE_SELECTIVITY;
+    }
+
+    double fraction = 1;
+    if (fromKey != null) {
+      fraction -= cumulativeFraction(fromKey);
+      if (fromInclusive) {
+        fraction += equalsFraction(from);
+      }
+    }
+    if (toKey != null) {
+      fraction -= 1 - cumulativeFraction(toKey);
+      if (!toInclusive) {
+        fraction -= equalsFraction(to);
+      }
+    }
+
+    return (1 - nullFraction) * Math.min(Math.max(fraction, 0), 1);
+  }
+
+  /** @return estimated fraction of not null values which are equal to the passed in one. */
+  private double equalsFraction(final Object value) {
+    double fraction = 1.0 / Math.max(distinctValues, 1);
+    final Double key = toHistogramKey(value);
+    if (histogram != null && key != null) {
+      // values which fill whole buckets of the histogram are more frequent than average
+      int buckets = 0;
+      for (int i = 0; i < histogram.length - 1; i++) {
+        if (histogram[i] == key && histogram[i + 1] == key) {
+          buckets++;
+        }
+      }
+      fraction = Math.max(fraction, (double) buckets / (histogram.length - 1));
+    }
+
+    return fraction;
+  }
+
+  /** @return fraction of the values which are less than or equal to the passed in one. */
+  private double cumulativeFraction(final double key) {
+    final int buckets = histogram.length - 1;
+    if (key < histogram[0]) {
+      return 0;
+    }
+    if (key >= histogram[buckets]) {
+      return 1;
+    }
+
+    // last bucket which starts before the key, the key is less than the end of this bucket
+    int bucket = Arrays.binarySearch(histogram, key);
+    if (bucket < 0) {
+      bucket = -bucket - 2;
+    } else {
+      while (bucket < buckets - 1 && histogram[bucket + 1] == key) {
+        bucket++;
+      }
+    }
+
+    final double start = histogram[bucket];
+    final double end = histogram[bucket + 1];
+    return (bucket + (key - start) / (end - start)) / buckets;
+  }
+
+  /** @return value converted to the key of the histogram or <code>null</code> if it is absent. */
+  Double toHistogramKey(final Object value) {
+    if (!hasHistogram(type)) {
+      return null;
+    }
+
+    Object converted = value;
+    if (value instanceof String) {
+      try {
+        final boolean date = type == OType.DATE || type == OType.DATETIME;
+        converted = OType.convert(value, date ? Date.class : Double.class);
+      } catch (RuntimeException e) {
+        return null;
+      }
+    }
+    if (converted instanceof Number) {
+      return ((Number) converted).doubleValue();
+    }
+    if (converted instanceof Date) {
+      return (double) ((Date) converted).getTime();
+    }
+    return null;
+  }
+
+  /** @return <code>true</code> if histogram can be built for values of the passed in type. */
+  static boolean hasHistogram(final OType type) {
+    if (type == null) {
+      return false;
+    }
+
+    switch (type) {
+      case BYTE:
+      case SHORT:
+      case INTEGER:
+      case LONG:
+      case FLOAT:
+      case DOUBLE:
+      case DECIMAL:
+      case DATE:
+      case DATETIME:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  ODocument toDocument() {
+    final ODocument document = new ODocument();
+    document.field("type", type == null ? null : type.name());
+    document.field("nullFraction", nullFraction);
+    document.field("distinctValues", distinctValues);
+    if (histogram != null) {
+      final List<Double> bounds = new ArrayList<>(histogram.length);
+      for (final double bound : histogram) {
+        bounds.add(bound);
+      }
+      document.field("histogram", bounds, OType.EMBEDDEDLIST);
+    }
+    return document;
+  }
+
+  static OPropertyStatistics fromDocument(final ODocument document) {
+    final String type = document.field("type");
+    final List<Number> bounds = document.field("histogram");
+    double[] histogram = null;
+    if (bounds != null) {
+      histogram = new double[bounds.size()];
+      for (int i = 0; i < histogram.length; i++) {
+        histogram[i] = bounds.get(i).doubleValue();
+      }
+    }
+
+    return new OPropertyStatistics(
+        type == null ? null : OType.valueOf(type),
+        document.<Number>field("nullFraction").doubleValue(),
+        document.<Number>field("distinctValues").longValue(),
+        histogram);
+  }
+}
@@ -0,0 +1,459 @@
+package com.orientechnologies.orient.core.metadata.statistics;
+
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.log.OLogger;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.config.OStorageEntryConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.OSharedContext;
+import com.orientechnologies.orient.core.db.OSharedContextEmbedded;
+import com.orientechnologies.orient.core.db.OrientDBInternal;
+import com.orientechnologies.orient.core.exception.ORecordNotFoundException;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexInternal;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OProperty;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+/**
+ * Collects, keeps and refreshes statistics of the classes used by the query planners.
+ *
+ * <p>Statistics are collected by <code>ANALYZE CLASS</code> from a sample of the records of the
+ * class. Amount of records is taken from the clusters of the class, while at most {@link
+ * OGlobalConfiguration#QUERY_STATISTICS_SAMPLE_SIZE} records are read at random cluster positions.
+ * For each property declared in the schema the sample gives ratio of null values and an equi-depth
+ * histogram of numeric and date values. Amount of distinct values is taken from a unique index on
+ * the property, estimated by HyperLogLog sketch of the keys of a not unique index on the property,
+ * or extrapolated from the frequencies of the values in the sample. Statistics are stored as
+ * configuration documents of the database and are loaded in memory when the database is opened.
+ *
+ * <p>Once a class is analyzed, a background task periodically analyzes it again if the amount of
+ * its records changed by more than {@link OGlobalConfiguration#QUERY_STATISTICS_STALE_RATIO}.
+ */
+public class OStatisticsManager {
+  private static final OLogger logger = OLogManager.instance().logger(OStatisticsManager.class);
+
+  private static final String CONFIG_PREFIX = "statistics.";
+  private static final String PROPERTY_PREFIX = "__config__" + CONFIG_PREFIX;
+
+  /**
+   * Keys are read from the index without deserialization of the records, so the amount of keys
+   * which are read to estimate distinct values is bigger than the size of the sample of records.
+   */
+  private static final int INDEX_KEYS_PER_SAMPLED_RECORD = 10;
+
+  /** Maximum amount of random positions tried per sampled record of the cluster. */
+  private static final int POSITIONS_PER_SAMPLED_RECORD = 4;
+
+  private final OrientDBInternal orientDB;
+  private final OSharedContextEmbedded sharedContext;
+  private final String dbName;
+  private final long refreshInterval;
+
+  private final ConcurrentMap<String, OClassStatistics> statistics = new ConcurrentHashMap<>();
+
+  private volatile TimerTask timerTask;
+  private volatile boolean closed = false;
+
+  public OStatisticsManager(
+      final OrientDBInternal orientDB,
+      final OSharedContextEmbedded sharedContext,
+      final String dbName,
+      final long refreshInterval) {
+    this.orientDB = orientDB;
+    this.sharedContext = sharedContext;
+    this.dbName = dbName;
+    this.refreshInterval = refreshInterval;
+  }
+
+  /**
+   * @return statistics of the class or <code>null</code> if the class was not analyzed or the
+   *     database does not keep statistics
+   */
+  public static OClassStatistics getStatistics(
+      final ODatabaseDocumentInternal db, final String className) {
+    if (db == null || className == null) {
+      return null;
+    }
+
+    final OSharedContext sharedContext = db.getSharedContext();
+    final OStatisticsManager manager =
+        sharedContext == null ? null : sharedContext.getStatisticsManager();
+    if (manager == null) {
+      return null;
+    }
+
+    return manager.getStatistics(className);
+  }
+
+  public OClassStatistics getStatistics(final String className) {
+    return statistics.get(key(className));
+  }
+
+  public void load(final ODatabaseDocumentInternal db) {
+    closed = false;
+    statistics.clear();
+    for (final OStorageEntryConfiguration property :
+        db.getStorage().getConfiguration().getProperties()) {
+      if (!property.name.startsWith(PROPERTY_PREFIX)) {
+        continue;
+      }
+
+      final String name = property.name.substring(PROPERTY_PREFIX.length());
+      try {
+        final ODocument document = sharedContext.loadConfig(db, CONFIG_PREFIX + name);
+        if (document != null) {
+          statistics.put(name, OClassStatistics.fromDocument(document));
+        }
+      } catch (RuntimeException e) {
+        logger.warn("Failed to load statistics of class '%s'", e, name);
+      }
+    }
+    schedule();
+  }
+
+  public void create() {
+    closed = false;
+    schedule();
+  }
+
+  public void close() {
+    closed = true;
+    if (timerTask != null) {
+      timerTask.cancel();
+    }
+  }
+
+  /**
+   * Samples the records of the class, stores collected statistics and invalidates cached execution
+   * plans which may be affected by them.
+   */
+  public OClassStatistics analyze(final ODatabaseDocumentInternal db, final OClass clazz) {
+    final int sampleSize =
+        db.getConfiguration().getValueAsInteger(OGlobalConfiguration.QUERY_STATISTICS_SAMPLE_SIZE);
+    final int buckets =
+        db.getConfiguration()
+            .getValueAsInteger(OGlobalConfiguration.QUERY_STATISTICS_HISTOGRAM_BUCKETS);
+
+    final List<PropertyCollector> collectors = new ArrayList<>();
+    for (final OProperty property : clazz.properties()) {
+      final OType type = property.getType();
+      if (type != null && !type.isMultiValue() && !type.isEmbedded() && type != OType.BINARY) {
+        collectors.add(new PropertyCollector(property.getName(), type));
+      }
+    }
+
+    final long count = db.countClass(clazz.getName());
+    final long sampled = sample(db, clazz, count, sampleSize, collectors);
+
+    final Map<String, OPropertyStatistics> properties = new HashMap<>();
+    for (final PropertyCollector collector : collectors) {
+      final OIndex index = propertyIndex(clazz, collector.name);
+      final boolean unique = index != null && index.isUnique();
+      final long indexDistinct =
+          index != null && !unique
+              ? indexDistinctValues(index, (long) sampleSize * INDEX_KEYS_PER_SAMPLED_RECORD)
+              : -1;
+      properties.put(
+          collector.name, collector.toStatistics(count, sampled, unique, indexDistinct, buckets));
+    }
+
+    final OClassStatistics result =
+        new OClassStatistics(clazz.getName(), count, System.currentTimeMillis(), properties);
+    sharedContext.saveConfig(db, CONFIG_PREFIX + key(clazz.getName()), result.toDocument());
+    statistics.put(key(clazz.getName()), result);
+    sharedContext.getExecutionPlanCache().invalidate();
+    return result;
+  }
+
+  /**
+   * Passes at most <code>sampleSize</code> records of the class to the collectors. All the records
+   * are read if there are not more of them than the size of the sample, otherwise each cluster of
+   * the class provides part of the sample proportional to the amount of its records, which are read
+   * at random positions between the first and the last positions of the cluster.
+   *
+   * @return amount of sampled records
+   */
+  private static long sample(
+      final ODatabaseDocumentInternal db,
+      final OClass clazz,
+      final long count,
+      final int sampleSize,
+      final List<PropertyCollector> collectors) {
+    long sampled = 0;
+    if (count <= sampleSize) {
+      for (final ODocument document : db.browseClass(clazz.getName())) {
+        sampled++;
+        for (final PropertyCollector collector : collectors) {
+          collector.add(document.getProperty(collector.name));
+        }
+      }
+      return sampled;
+    }
+
+    final Random random = new Random();
+    for (final int clusterId : clazz.getPolymorphicClusterIds()) {
+      if (clusterId < 0) {
+        continue;
+      }
+
+      final long records = db.countClusterElements(clusterId);
+      final long[] range = db.getClusterDataRange(clusterId);
+      if (records == 0 || range.length < 2 || range[0] < 0 || range[1] < range[0]) {
+        continue;
+      }
+
+      final long positions = range[1] - range[0] + 1;
+      final int quota = (int) Math.min(Math.round((double) sampleSize * records / count), records);
+      final Set<Long> tried = new HashSet<>();
+      int found = 0;
+      for (long attempt = 0;
+          found < quota
+              && tried.size() < positions
+              && attempt < (long) quota * POSITIONS_PER_SAMPLED_RECORD;
+          attempt++) {
+        final long position = range[0] + (long) (random.nextDouble() * positions);
+        if (!tried.add(position)) {
+          continue;
+        }
+
+        final ODocument document = loadDocument(db, new ORecordId(clusterId, position));
+        if (document == null) {
+          continue;
+        }
+
+        found++;
+        for (final PropertyCollector collector : collectors) {
+          collector.add(document.getProperty(collector.name));
+        }
+      }
+      sampled += found;
+    }
+    return sampled;
+  }
+
+  private static ODocument loadDocument(final ODatabaseDocumentInternal db, final ORecordId rid) {
+    try {
+      final ORecord record = db.load(rid);
+      return record instanceof ODocument ? (ODocument) record : null;
+    } catch (ORecordNotFoundException e) {
+      // record is deleted, position is skipped
+      return null;
+    }
+  }
+
+  /**
+   * Estimates distinct keys of the index by HyperLogLog sketch.
+   *
+   * @return estimated amount of distinct keys or <code>-1</code> if index contains more than
+   *     <code>limit</code> keys
+   */
+  private static long indexDistinctValues(final OIndex index, final long limit) {
+    final OHyperLogLog distinctKeys = new OHyperLogLog();
+    try (final Stream<Object> keys = index.getInternal().keyStream()) {
+      final Iterator<Object> iterator = keys.iterator();
+      long read = 0;
+      while (iterator.hasNext()) {
+        if (read++ >= limit) {
+          return -1;
+        }
+
+        final Object key = iterator.next();
+        if (key != null) {
+          distinctKeys.add(key);
+        }
+      }
+    }
+    return distinctKeys.estimate();
+  }
+
+  /** @return index on the single property, which is complete and is not being built. */
+  private static OIndex propertyIndex(final OClass clazz, final String property) {
+    OIndex result = null;
+    for (final OIndex index : clazz.getIndexes()) {
+      if (!OIndexInternal.isPartialOrExpression(index)
+          && !index.getInternal().isBuilding()
+          && index.getDefinition().getFields().equals(Collections.singletonList(property))) {
+        if (index.isUnique()) {
+          return index;
+        }
+        result = index;
+      }
+    }
+    return result;
+  }
+
+  private void schedule() {
+    if (refreshInterval <= 0) {
+      return;
+    }
+
+    this.timerTask =
+        new TimerTask() {
+          @Override
+          public void run() {
+            if (closed || statistics.isEmpty()) return;
+            orientDB.executeNoAuthorization(
+                dbName,
+                (db) -> {
+                  OStatisticsManager.this.refresh((ODatabaseDocumentInternal) db);
+                  return null;
+                });
+          }
+        };
+    this.orientDB.schedule(timerTask, refreshInterval, refreshInterval);
+  }
+
+  private void refresh(final ODatabaseDocumentInternal db) {
+    final float staleRatio =
+        db.getConfiguration().getValueAsFloat(OGlobalConfiguration.QUERY_STATISTICS_STALE_RATIO);
+    try {
+      for (final OClassStatistics classStatistics : new ArrayList<>(statistics.values())) {
+        if (closed) {
+          return;
+        }
+
+        final OClass clazz =
+            db.getMetadata().getImmutableSchemaSnapshot().getClass(classStatistics.getClassName());
+        if (clazz == null) {
+          statistics.remove(key(classStatistics.getClassName()));
+          sharedContext.dropConfig(db, CONFIG_PREFIX + key(classStatistics.getClassName()));
+          continue;
+        }
+
+        final long count = db.countClass(clazz.getName());
+        final long analyzed = classStatistics.getCount();
+        if (Math.abs(count - analyzed) > staleRatio * Math.max(analyzed, 1)) {
+          analyze(db, db.getMetadata().getSchema().getClass(clazz.getName()));
+        }
+      }
+    } catch (Exception e) {
+      logger.warn("Failed to refresh statistics of the classes", e);
+    }
+  }
+
+  private static String key(final String className) {
+    return className.toLowerCase(Locale.ENGLISH);
+  }
+
+  /** Accumulates statistics of a property from the sampled records of the class. */
+  private static final class PropertyCollector {
+    private final String name;
+    private final OType type;
+    private final Map<Object, Integer> frequencies = new HashMap<>();
+    private final List<Double> histogramValues;
+
+    private long nulls;
+    private long values;
+
+    private PropertyCollector(final String name, final OType type) {
+      this.name = name;
+      this.type = type;
+      this.histogramValues = OPropertyStatistics.hasHistogram(type) ? new ArrayList<>() : null;
+    }
+
+    private void add(final Object value) {
+      if (value == null) {
+        nulls++;
+        return;
+      }
+
+      values++;
+      frequencies.merge(value, 1, Integer::sum);
+      if (histogramValues == null) {
+        return;
+      }
+
+      if (value instanceof Number) {
+        histogramValues.add(((Number) value).doubleValue());
+      } else if (value instanceof Date) {
+        histogramValues.add((double) ((Date) value).getTime());
+      }
+    }
+
+    /**
+     * @param records amount of records of the class
+     * @param sampled amount of sampled records
+     * @param indexDistinct amount of distinct keys of the index on the property or <code>-1</code>
+     *     if it is not known
+     */
+    private OPropertyStatistics toStatistics(
+        final long records,
+        final long sampled,
+        final boolean unique,
+        final long indexDistinct,
+        final int buckets) {
+      final double nullFraction = sampled == 0 ? 0 : (double) nulls / sampled;
+      final long notNull = Math.round(records * (1 - nullFraction));
+
+      final long distinct;
+      if (unique) {
+        distinct = notNull;
+      } else if (indexDistinct >= 0) {
+        distinct = Math.min(indexDistinct, notNull);
+      } else {
+        distinct = estimateDistinct(notNull);
+      }
+
+      double[] histogram = null;
+      final int size = histogramValues == null ? 0 : histogramValues.size();
+      if (size > 0 && buckets > 0) {
+        final double[] sorted = new double[size];
+        for (int i = 0; i < size; i++) {
+          sorted[i] = histogramValues.get(i);
+        }
+        Arrays.sort(sorted);
+
+        final int bucketCount = Math.min(buckets, size);
+        histogram = new double[bucketCount + 1];
+        for (int i = 0; i <= bucketCount; i++) {
+          histogram[i] = sorted[(int) ((long) i * (size - 1) / bucketCount)];
+        }
+      }
+
+      return new OPropertyStatistics(type, nullFraction, distinct, histogram);
+    }
+
+    /**
+     * Extrapolates amount of distinct values from their frequencies in the sample by Duj1 estimator
+     * of Haas and Stokes, values which occur in the sample only once are assumed to be distinct in
+     * the rest of the records, while the rest of the values are assumed to be already found.
+     */
+    private long estimateDistinct(final long notNull) {
+      final long found = frequencies.size();
+      if (values == 0 || values >= notNull) {
+        return found;
+      }
+
+      long singles = 0;
+      for (final int frequency : frequencies.values()) {
+        if (frequency == 1) {
+          singles++;
+        }
+      }
+
+      final double estimate =
+          (double) values * found / (values - singles + (double) singles * values / notNull);
+      return Math.max(found, Math.min(Math.round(estimate), notNull));
+    }
+  }
+}
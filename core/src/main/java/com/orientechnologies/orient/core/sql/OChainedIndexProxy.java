@@ -29,6 +29,7 @@ import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.index.OIndexCursor;
 import com.orientechnologies.orient.core.index.OIndexDefinition;
+import com.orientechnologies.orient.core.index.OIndexFilter;
 import com.orientechnologies.orient.core.index.OIndexInternal;
 import com.orientechnologies.orient.core.index.OIndexKeyCursor;
 import com.orientechnologies.orient.core.index.OIndexMetadata;
@@ -141,6 +142,9 @@ public class OChainedIndexProxy<T> implements OIndexInternal {
     final Collection<Class<? extends OIndex>> indexTypes = new HashSet<>(3);
 
     for (OIndex involvedIndex : involvedIndexes) {
+      if (OIndexInternal.isPartialOrExpression(involvedIndex)) {
+        continue;
+      }
       if (!indexTypes.contains(involvedIndex.getInternal().getClass())) {
         result.add(involvedIndex);
         indexTypes.add(involvedIndex.getInternal().getClass());
@@ -176,6 +180,8 @@ public class OChainedIndexProxy<T> implements OIndexInternal {
    *   <li>Should not be composite hash index. As soon as hash index does not support partial match
    *       search.
    *   <li>Composite index that ignores null values should not be used.
+   *   <li>Partial and expression indexes should not be used. They do not contain values of the
+   *       property of all documents of the class.
    *   <li>Hash index is better than tree based indexes.
    *   <li>Non composite indexes is better that composite.
    * </ul>
@@ -193,6 +199,7 @@ public class OChainedIndexProxy<T> implements OIndexInternal {
 
   private static int priorityOfUsage(OIndex index) {
     if (index == null) return -1;
+    if (OIndexInternal.isPartialOrExpression(index)) return -1;
 
     final OClass.INDEX_TYPE indexType = OClass.INDEX_TYPE.valueOf(index.getType());
     final boolean isComposite = isComposite(index);
@@ -237,6 +244,8 @@ public class OChainedIndexProxy<T> implements OIndexInternal {
    *   <li>Should not be composite hash index. As soon as hash index does not support partial match
    *       search.
    *   <li>Composite index that ignores null values should not be used.
+   *   <li>Partial and expression indexes should not be used. They do not contain values of the
+   *       property of all documents of the class.
    * </ul>
    *
    * @param index to check
@@ -656,6 +665,26 @@ public class OChainedIndexProxy<T> implements OIndexInternal {
     throw new UnsupportedOperationException("Not allowed operation");
   }
 
+  @Override
+  public boolean startOnlineBuild() {
+    throw new UnsupportedOperationException("Not allowed operation");
+  }
+
+  @Override
+  public long completeOnlineBuild(OProgressListener progressListener) {
+    throw new UnsupportedOperationException("Not allowed operation");
+  }
+
+  @Override
+  public boolean isBuilding() {
+    return false;
+  }
+
+  @Override
+  public OIndexFilter getFilter() {
+    return null;
+  }
+
   @Override
   public boolean isUnique() {
     return firstIndex.isUnique();
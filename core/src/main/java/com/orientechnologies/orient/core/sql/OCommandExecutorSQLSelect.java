@@ -2530,6 +2530,9 @@ public class OCommandExecutorSQLSelect extends OCommandExecutorSQLResultsetAbstr
     final Set<OIndex> indexes = iSchemaClass.getInvolvedIndexes(fieldNames);
 
     for (OIndex index : indexes) {
+      if (OIndexInternal.isPartialOrExpression(index)) {
+        continue;
+      }
       if (orderByOptimizer.canBeUsedByOrderBy(index, orderedFields)) {
 
         final boolean ascSortOrder = orderedFields.get(0).getValue().equals(KEYWORD_ASC);
@@ -22,6 +22,7 @@ package com.orientechnologies.orient.core.sql;
 
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexInternal;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.sql.filter.OSQLFilterCondition;
 import com.orientechnologies.orient.core.sql.filter.OSQLFilterItemField;
@@ -54,7 +55,9 @@ public class OFilterAnalyzer {
       result.addAll(OChainedIndexProxy.createProxies(iSchemaClass, searchResultFields.lastField));
     } else {
       for (OIndex involvedIndex : involvedIndexes) {
-        result.add(involvedIndex);
+        if (!OIndexInternal.isPartialOrExpression(involvedIndex)) {
+          result.add(involvedIndex);
+        }
       }
     }
 
@@ -48,6 +48,7 @@ import com.orientechnologies.orient.core.sql.method.OSQLMethod;
 import com.orientechnologies.orient.core.sql.method.OSQLMethodFactory;
 import com.orientechnologies.orient.core.sql.operator.OQueryOperator;
 import com.orientechnologies.orient.core.sql.operator.OQueryOperatorFactory;
+import com.orientechnologies.orient.core.sql.parser.OExpression;
 import com.orientechnologies.orient.core.sql.parser.OOrBlock;
 import com.orientechnologies.orient.core.sql.parser.OSecurityResourceSegment;
 import com.orientechnologies.orient.core.sql.parser.OServerStatement;
@@ -113,6 +114,17 @@ public class OSQLEngine {
     }
   }
 
+  public static OExpression parseExpression(String expression) throws OCommandSQLParsingException {
+    final InputStream is = new ByteArrayInputStream(expression.getBytes());
+    try {
+      final OrientSql osql = new OrientSql(is);
+      OExpression result = osql.Expression();
+      return result;
+    } catch (ParseException e) {
+      throw new OCommandSQLParsingException(e, "");
+    }
+  }
+
   public static OSecurityResourceSegment parseSecurityResource(String exp) {
     final InputStream is = new ByteArrayInputStream(exp.getBytes());
     try {
@@ -3,6 +3,8 @@ package com.orientechnologies.orient.core.sql.executor;
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.command.OStepStats;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
 import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStream;
 import java.text.DecimalFormat;
 import java.util.Optional;
@@ -59,6 +61,31 @@ public abstract class AbstractExecutionStep implements OExecutionStepInternal {
     prev.ifPresent(p -> p.close());
   }
 
+  /**
+   * @return number of results fetched at once by the steps which consume all the results of their
+   *     source
+   */
+  protected static int getBatchSize(OCommandContext ctx) {
+    ODatabaseSession db = ctx.getDatabase();
+    if (db == null) {
+      return OGlobalConfiguration.QUERY_EXECUTION_BATCH_SIZE.getValueAsInteger();
+    }
+    return db.getConfiguration().getValueAsInteger(OGlobalConfiguration.QUERY_EXECUTION_BATCH_SIZE);
+  }
+
+  /**
+   * @return memory in bytes which can be used by the steps which spill their data to disk, or a
+   *     negative number if spilling is disabled
+   */
+  protected static long getMemoryBudget(OCommandContext ctx) {
+    ODatabaseSession db = ctx.getDatabase();
+    int budget =
+        db == null
+            ? OGlobalConfiguration.QUERY_MEMORY_BUDGET.getValueAsInteger()
+            : db.getConfiguration().getValueAsInteger(OGlobalConfiguration.QUERY_MEMORY_BUDGET);
+    return budget < 0 ? -1 : budget * 1024L * 1024L;
+  }
+
   public boolean isProfilingEnabled() {
     return profilingEnabled;
   }
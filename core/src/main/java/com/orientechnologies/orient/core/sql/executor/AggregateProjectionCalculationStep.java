@@ -1,14 +1,22 @@
 package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.util.ORawPair;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStream;
+import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStreamProducer;
+import com.orientechnologies.orient.core.sql.executor.resultset.OResultBatch;
 import com.orientechnologies.orient.core.sql.parser.OExpression;
 import com.orientechnologies.orient.core.sql.parser.OGroupBy;
 import com.orientechnologies.orient.core.sql.parser.OProjection;
 import com.orientechnologies.orient.core.sql.parser.OProjectionItem;
+import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,6 +28,11 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
   private final long timeoutMillis;
   private final long limit;
 
+  /** Approximate memory used by the aggregation context of an aggregate projection of a group. */
+  private static final int AGGREGATION_CONTEXT_SIZE = 64;
+
+  private long spilledBytes;
+
   public AggregateProjectionCalculationStep(
       OProjection projection,
       OGroupBy groupBy,
@@ -35,11 +48,10 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
 
   @Override
   public OExecutionStream internalStart(OCommandContext ctx) throws OTimeoutException {
-    List<OResult> finalResults = executeAggregation(ctx);
-    return OExecutionStream.resultIterator(finalResults.iterator());
+    return executeAggregation(ctx);
   }
 
-  private List<OResult> executeAggregation(OCommandContext ctx) {
+  private OExecutionStream executeAggregation(OCommandContext ctx) {
     long timeoutBegin = System.currentTimeMillis();
     if (!prev.isPresent()) {
       throw new OCommandExecutionException(
@@ -47,67 +59,231 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
     }
     OExecutionStepInternal prevStep = prev.get();
     OExecutionStream lastRs = prevStep.start(ctx);
-    Map<List, OResultInternal> aggregateResults = new LinkedHashMap<>();
-    while (lastRs.hasNext(ctx)) {
-      if (timeoutMillis > 0 && timeoutBegin + timeoutMillis < System.currentTimeMillis()) {
-        sendTimeout();
+    HashAggregation aggregation = new HashAggregation(getMemoryBudget(ctx), 0, 0, timeoutBegin);
+    List<OResult> finalResults;
+    List<OSpillFile> spilled;
+    try {
+      int batchSize = getBatchSize(ctx);
+      OResultBatch batch;
+      while (!(batch = lastRs.nextBatch(ctx, batchSize)).isEmpty()) {
+        checkTimeout(timeoutBegin);
+        for (int i = 0; i < batch.size(); i++) {
+          aggregation.aggregate(batch.get(i), ctx);
+        }
+      }
+      lastRs.close(ctx);
+      finalResults = aggregation.finish();
+      spilled = aggregation.detachPartitions(ctx);
+    } finally {
+      aggregation.close();
+    }
+
+    if (spilled.isEmpty()) {
+      return OExecutionStream.resultIterator(finalResults.iterator());
+    }
+    return OExecutionStream.multipleStreams(
+        new SpilledAggregation(finalResults, spilled, timeoutBegin));
+  }
+
+  private void checkTimeout(long timeoutBegin) {
+    if (timeoutMillis > 0 && timeoutBegin + timeoutMillis < System.currentTimeMillis()) {
+      sendTimeout();
+    }
+  }
+
+  /**
+   * Groups of a single pass of the hash aggregation. Once the groups exceed the memory budget the
+   * groups which are already in memory are still aggregated, but results of new groups are spilled
+   * to partitions which are aggregated by the next passes, so a group is always aggregated by a
+   * single pass.
+   */
+  private final class HashAggregation implements AutoCloseable {
+    private final Map<List, OResultInternal> aggregateResults = new LinkedHashMap<>();
+    private final long memoryBudget;
+    private final int depth;
+    private final long previousGroups;
+    private final long timeoutBegin;
+    private final int aggregateItems;
+
+    private long memory;
+    private OSpillPartitions partitions;
+
+    private HashAggregation(long memoryBudget, int depth, long previousGroups, long timeoutBegin) {
+      this.memoryBudget = memoryBudget;
+      this.depth = depth;
+      this.previousGroups = previousGroups;
+      this.timeoutBegin = timeoutBegin;
+      this.aggregateItems =
+          (int) projection.getItems().stream().filter(OProjectionItem::isAggregate).count();
+    }
+
+    private void aggregate(OResult next, OCommandContext ctx) {
+      // results are consumed in batches, so $current left by the scan is the last one of the batch
+      ctx.setVariable("$current", next);
+      List<Object> key = new ArrayList<>();
+      if (groupBy != null) {
+        for (OExpression item : groupBy.getItems()) {
+          Object val = item.execute(next, ctx);
+          key.add(val);
+        }
+      }
+      OResultInternal preAggr = aggregateResults.get(key);
+      if (preAggr == null) {
+        if (limit > 0 && previousGroups + aggregateResults.size() > limit) {
+          return;
+        }
+        if (partitions != null) {
+          spill(key, next);
+          return;
+        }
+        preAggr = new OResultInternal();
+
+        for (OProjectionItem proj : projection.getItems()) {
+          String alias = proj.getProjectionAlias().getStringValue();
+          if (!proj.isAggregate()) {
+            preAggr.setProperty(alias, proj.execute(next, ctx));
+          }
+        }
+        aggregateResults.put(key, preAggr);
+
+        if (memoryBudget >= 0 && depth < OSpillPartitions.MAX_DEPTH) {
+          memory +=
+              OMemoryEstimator.estimate(key)
+                  + OMemoryEstimator.estimate(preAggr)
+                  + (long) aggregateItems * AGGREGATION_CONTEXT_SIZE;
+          if (memory > memoryBudget) {
+            partitions = new OSpillPartitions("aggregation", depth);
+          }
+        }
       }
-      aggregate(lastRs.next(ctx), ctx, aggregateResults);
-    }
-    lastRs.close(ctx);
-    List<OResult> finalResults = new ArrayList<>();
-    finalResults.addAll(aggregateResults.values());
-    aggregateResults.clear();
-    for (OResult ele : finalResults) {
-      OResultInternal item = (OResultInternal) ele;
-      if (timeoutMillis > 0 && timeoutBegin + timeoutMillis < System.currentTimeMillis()) {
-        sendTimeout();
+
+      for (OProjectionItem proj : projection.getItems()) {
+        String alias = proj.getProjectionAlias().getStringValue();
+        if (proj.isAggregate()) {
+          AggregationContext aggrCtx = (AggregationContext) preAggr.getTemporaryProperty(alias);
+          if (aggrCtx == null) {
+            aggrCtx = proj.getAggregationContext(ctx);
+            preAggr.setTemporaryProperty(alias, aggrCtx);
+          }
+          aggrCtx.apply(next, ctx);
+        }
+      }
+    }
+
+    private void spill(List<Object> key, OResult next) {
+      try {
+        partitions.write(key.hashCode(), next, 0);
+      } catch (IOException e) {
+        throw OException.wrapException(
+            new OCommandExecutionException("Error on spilling of aggregation to disk"), e);
       }
-      for (String name : item.getTemporaryProperties()) {
-        Object prevVal = item.getTemporaryProperty(name);
-        if (prevVal instanceof AggregationContext) {
-          item.setTemporaryProperty(name, ((AggregationContext) prevVal).getFinalValue());
+    }
+
+    /** @return groups aggregated in memory with the final values of their aggregations */
+    private List<OResult> finish() {
+      List<OResult> finalResults = new ArrayList<>(aggregateResults.values());
+      aggregateResults.clear();
+      for (OResult ele : finalResults) {
+        OResultInternal item = (OResultInternal) ele;
+        checkTimeout(timeoutBegin);
+        for (String name : item.getTemporaryProperties()) {
+          Object prevVal = item.getTemporaryProperty(name);
+          if (prevVal instanceof AggregationContext) {
+            item.setTemporaryProperty(name, ((AggregationContext) prevVal).getFinalValue());
+          }
         }
       }
+      return finalResults;
+    }
+
+    /** @return partitions spilled by this pass, the caller becomes responsible for closing them */
+    private List<OSpillFile> detachPartitions(OCommandContext ctx) {
+      if (partitions == null) {
+        return Collections.emptyList();
+      }
+      long size = partitions.getSize();
+      spilledBytes += size;
+      OSpillFile.updateProfiler(ctx, size);
+      return partitions.detach();
+    }
+
+    @Override
+    public void close() {
+      if (partitions != null) {
+        partitions.close();
+      }
     }
-    return finalResults;
   }
 
-  private void aggregate(
-      OResult next, OCommandContext ctx, Map<List, OResultInternal> aggregateResults) {
-    List<Object> key = new ArrayList<>();
-    if (groupBy != null) {
-      for (OExpression item : groupBy.getItems()) {
-        Object val = item.execute(next, ctx);
-        key.add(val);
+  /**
+   * Returns the groups aggregated in memory and then aggregates the spilled partitions one by one,
+   * so only the groups of a single partition are kept in memory at once.
+   */
+  private final class SpilledAggregation implements OExecutionStreamProducer {
+    private final Deque<ORawPair<OSpillFile, Integer>> pending = new ArrayDeque<>();
+    private final long timeoutBegin;
+
+    private List<OResult> inMemoryResults;
+    private long returnedGroups;
+
+    private SpilledAggregation(
+        List<OResult> inMemoryResults, List<OSpillFile> partitions, long timeoutBegin) {
+      this.inMemoryResults = inMemoryResults;
+      this.timeoutBegin = timeoutBegin;
+      for (OSpillFile partition : partitions) {
+        pending.add(new ORawPair<>(partition, 1));
       }
     }
-    OResultInternal preAggr = aggregateResults.get(key);
-    if (preAggr == null) {
-      if (limit > 0 && aggregateResults.size() > limit) {
-        return;
+
+    @Override
+    public boolean hasNext(OCommandContext ctx) {
+      return inMemoryResults != null || !pending.isEmpty();
+    }
+
+    @Override
+    public OExecutionStream next(OCommandContext ctx) {
+      List<OResult> results;
+      if (inMemoryResults != null) {
+        results = inMemoryResults;
+        inMemoryResults = null;
+      } else {
+        results = aggregatePartition(pending.poll(), ctx);
       }
-      preAggr = new OResultInternal();
+      returnedGroups += results.size();
+      return OExecutionStream.resultIterator(results.iterator());
+    }
 
-      for (OProjectionItem proj : this.projection.getItems()) {
-        String alias = proj.getProjectionAlias().getStringValue();
-        if (!proj.isAggregate()) {
-          preAggr.setProperty(alias, proj.execute(next, ctx));
+    private List<OResult> aggregatePartition(
+        ORawPair<OSpillFile, Integer> partition, OCommandContext ctx) {
+      int depth = partition.second;
+      HashAggregation aggregation =
+          new HashAggregation(getMemoryBudget(ctx), depth, returnedGroups, timeoutBegin);
+      try (OSpillFile file = partition.first) {
+        OSpillFile.Cursor cursor = file.read();
+        while (cursor.next()) {
+          checkTimeout(timeoutBegin);
+          aggregation.aggregate(cursor.getCurrent(), ctx);
         }
+        List<OResult> results = aggregation.finish();
+        for (OSpillFile subPartition : aggregation.detachPartitions(ctx)) {
+          pending.addFirst(new ORawPair<>(subPartition, depth + 1));
+        }
+        return results;
+      } catch (IOException e) {
+        throw OException.wrapException(
+            new OCommandExecutionException("Error on reading of spilled aggregation"), e);
+      } finally {
+        aggregation.close();
       }
-      aggregateResults.put(key, preAggr);
     }
 
-    for (OProjectionItem proj : this.projection.getItems()) {
-      String alias = proj.getProjectionAlias().getStringValue();
-      if (proj.isAggregate()) {
-        AggregationContext aggrCtx = (AggregationContext) preAggr.getTemporaryProperty(alias);
-        if (aggrCtx == null) {
-          aggrCtx = proj.getAggregationContext(ctx);
-          preAggr.setTemporaryProperty(alias, aggrCtx);
-        }
-        aggrCtx.apply(next, ctx);
+    @Override
+    public void close(OCommandContext ctx) {
+      inMemoryResults = null;
+      for (ORawPair<OSpillFile, Integer> partition : pending) {
+        partition.first.close();
       }
+      pending.clear();
     }
   }
 
@@ -118,6 +294,9 @@ public class AggregateProjectionCalculationStep extends ProjectionCalculationSte
     if (profilingEnabled) {
       result += " (" + getCostFormatted() + ")";
     }
+    if (spilledBytes > 0) {
+      result += " (spilled to disk: " + spilledBytes + " bytes)";
+    }
     result +=
         "\n"
             + spaces
@@ -3,6 +3,7 @@ package com.orientechnologies.orient.core.sql.executor;
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStream;
+import com.orientechnologies.orient.core.sql.executor.resultset.OResultBatch;
 
 /**
  * Counts the records from the previous steps. Returns a record with a single property, called
@@ -23,10 +24,11 @@ public class CountStep extends AbstractExecutionStep {
   @Override
   public OExecutionStream internalStart(OCommandContext ctx) throws OTimeoutException {
     OExecutionStream prevResult = getPrev().get().start(ctx);
+    int batchSize = getBatchSize(ctx);
     long count = 0;
-    while (prevResult.hasNext(ctx)) {
-      count++;
-      prevResult.next(ctx);
+    OResultBatch batch;
+    while (!(batch = prevResult.nextBatch(ctx, batchSize)).isEmpty()) {
+      count += batch.size();
     }
     prevResult.close(ctx);
     OResultInternal resultRecord = new OResultInternal();
@@ -1,19 +1,25 @@
 package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseSession;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStream;
+import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStreamProducer;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /** Created by luigidellaquila on 08/07/16. */
 public class DistinctExecutionStep extends AbstractExecutionStep {
 
   private long maxElementsAllowed;
+  private long spilledBytes;
 
   public DistinctExecutionStep(OCommandContext ctx, boolean profilingEnabled) {
     super(ctx, profilingEnabled);
@@ -29,6 +35,10 @@ public class DistinctExecutionStep extends AbstractExecutionStep {
   @Override
   public OExecutionStream internalStart(OCommandContext ctx) throws OTimeoutException {
     OExecutionStream resultSet = prev.get().start(ctx);
+    long memoryBudget = getMemoryBudget(ctx);
+    if (memoryBudget >= 0) {
+      return OExecutionStream.multipleStreams(new SpillingDistinct(resultSet, memoryBudget));
+    }
     Set<OResult> pastItems = new HashSet<>();
     ORidSet pastRids = new ORidSet();
 
@@ -79,6 +89,213 @@ public class DistinctExecutionStep extends AbstractExecutionStep {
     return pastItems.contains(nextValue);
   }
 
+  private static ORID persistentIdentity(OResult result) {
+    if (result.isElement()) {
+      ORID identity = result.getElement().get().getIdentity();
+      if (identity.getClusterId() >= 0 && identity.getClusterPosition() >= 0) {
+        return identity;
+      }
+    }
+    return null;
+  }
+
+  private void spilled(OCommandContext ctx, long bytes) {
+    spilledBytes += bytes;
+    OSpillFile.updateProfiler(ctx, bytes);
+  }
+
+  /**
+   * Returns the distinct results of its source as long as they fit the memory budget, after that
+   * the new results are spilled to partitions by their hash and are returned once the source is
+   * exhausted. Spilled results keep their sequence number, so the partitions are merged back in the
+   * order of the source, which can be sorted by ORDER BY.
+   */
+  private final class SpillingDistinct implements OExecutionStreamProducer {
+    private final OExecutionStream source;
+    private final long memoryBudget;
+
+    private final Set<OResult> pastItems = new HashSet<>();
+    private final ORidSet pastRids = new ORidSet();
+    private long memory;
+    private long sequence;
+
+    private OSpillPartitions partitions;
+    private final List<OSpillFile> openedFiles = new ArrayList<>();
+
+    private boolean sourceReturned;
+    private boolean spilledReturned;
+
+    private SpillingDistinct(OExecutionStream source, long memoryBudget) {
+      this.source = source;
+      this.memoryBudget = memoryBudget;
+    }
+
+    @Override
+    public boolean hasNext(OCommandContext ctx) {
+      return !sourceReturned || (partitions != null && !spilledReturned);
+    }
+
+    @Override
+    public OExecutionStream next(OCommandContext ctx) {
+      if (!sourceReturned) {
+        sourceReturned = true;
+        return source.filter(this::filter);
+      }
+      spilledReturned = true;
+      try {
+        return spilledResults(ctx);
+      } catch (IOException e) {
+        throw OException.wrapException(
+            new OCommandExecutionException("Error on reading of spilled DISTINCT"), e);
+      }
+    }
+
+    private OResult filter(OResult result, OCommandContext ctx) {
+      ORID identity = persistentIdentity(result);
+      if (identity != null) {
+        if (pastRids.contains(identity)) {
+          return null;
+        }
+        pastRids.add(identity);
+      } else {
+        if (pastItems.contains(result)) {
+          return null;
+        }
+        if (partitions == null) {
+          pastItems.add(result);
+          memory += OMemoryEstimator.estimate(result);
+          if (memory > memoryBudget
+              || (maxElementsAllowed > 0 && maxElementsAllowed < pastItems.size())) {
+            partitions = new OSpillPartitions("distinct", 0);
+          }
+          return result;
+        }
+      }
+
+      if (partitions == null) {
+        return result;
+      }
+      try {
+        partitions.write(result.hashCode(), result, sequence++);
+      } catch (IOException e) {
+        throw OException.wrapException(
+            new OCommandExecutionException("Error on spilling of DISTINCT to disk"), e);
+      }
+      return null;
+    }
+
+    private OExecutionStream spilledResults(OCommandContext ctx) throws IOException {
+      pastItems.clear();
+      spilled(ctx, partitions.getSize());
+      List<OSpillFile> spilledPartitions = partitions.detach();
+      openedFiles.addAll(spilledPartitions);
+
+      List<OSpillFile.Cursor> cursors = new ArrayList<>();
+      for (OSpillFile partition : spilledPartitions) {
+        OSpillFile distinct = deduplicate(partition, 1, ctx);
+        openedFiles.add(distinct);
+        partition.close();
+        cursors.add(distinct.read());
+      }
+      return OSpillFile.stream(OSpillFile.mergeBySequence(cursors));
+    }
+
+    /**
+     * @return file with the first occurrence of each result of the partition, in the order of
+     *     their sequence numbers
+     */
+    private OSpillFile deduplicate(OSpillFile partition, int depth, OCommandContext ctx)
+        throws IOException {
+      Set<OResult> items = new HashSet<>();
+      ORidSet rids = new ORidSet();
+      long partitionMemory = 0;
+
+      OSpillFile output = OSpillFile.create("distinct");
+      try {
+        OSpillFile.Cursor cursor = partition.read();
+        while (cursor.next()) {
+          OResult result = cursor.getCurrent();
+          ORID identity = persistentIdentity(result);
+          if (identity != null) {
+            if (!rids.add(identity)) {
+              continue;
+            }
+          } else {
+            if (!items.add(result)) {
+              continue;
+            }
+            partitionMemory += OMemoryEstimator.estimate(result);
+            if (partitionMemory > memoryBudget && depth < OSpillPartitions.MAX_DEPTH) {
+              output.close();
+              return repartition(partition, depth, ctx);
+            }
+          }
+          output.write(result, cursor.getSequence());
+        }
+      } catch (IOException | RuntimeException | Error e) {
+        output.close();
+        throw e;
+      }
+      spilled(ctx, output.getSize());
+      return output;
+    }
+
+    /** Splits a partition which does not fit the memory budget and deduplicates its parts. */
+    private OSpillFile repartition(OSpillFile partition, int depth, OCommandContext ctx)
+        throws IOException {
+      List<OSpillFile> parts;
+      try (OSpillPartitions subPartitions = new OSpillPartitions("distinct", depth)) {
+        OSpillFile.Cursor cursor = partition.read();
+        while (cursor.next()) {
+          OResult result = cursor.getCurrent();
+          subPartitions.write(result.hashCode(), result, cursor.getSequence());
+        }
+        spilled(ctx, subPartitions.getSize());
+        parts = subPartitions.detach();
+      }
+
+      List<OSpillFile> distinctParts = new ArrayList<>();
+      OSpillFile output = null;
+      try {
+        List<OSpillFile.Cursor> cursors = new ArrayList<>();
+        for (OSpillFile part : parts) {
+          OSpillFile distinctPart = deduplicate(part, depth + 1, ctx);
+          distinctParts.add(distinctPart);
+          cursors.add(distinctPart.read());
+        }
+
+        output = OSpillFile.create("distinct");
+        OSpillFile.Cursor merged = OSpillFile.mergeBySequence(cursors);
+        while (merged.next()) {
+          output.write(merged.getCurrent(), merged.getSequence());
+        }
+        spilled(ctx, output.getSize());
+        return output;
+      } catch (IOException | RuntimeException | Error e) {
+        if (output != null) {
+          output.close();
+        }
+        throw e;
+      } finally {
+        parts.forEach(OSpillFile::close);
+        distinctParts.forEach(OSpillFile::close);
+      }
+    }
+
+    @Override
+    public void close(OCommandContext ctx) {
+      if (!sourceReturned) {
+        source.close(ctx);
+      }
+      if (partitions != null) {
+        partitions.close();
+      }
+      openedFiles.forEach(OSpillFile::close);
+      openedFiles.clear();
+      pastItems.clear();
+    }
+  }
+
   @Override
   public void sendTimeout() {}
 
@@ -93,6 +310,9 @@ public class DistinctExecutionStep extends AbstractExecutionStep {
     if (profilingEnabled) {
       result += " (" + getCostFormatted() + ")";
     }
+    if (spilledBytes > 0) {
+      result += " (spilled to disk: " + spilledBytes + " bytes)";
+    }
     return result;
   }
 }
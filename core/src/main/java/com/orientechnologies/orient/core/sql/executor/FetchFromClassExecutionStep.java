@@ -131,13 +131,8 @@ public class FetchFromClassExecutionStep extends AbstractExecutionStep {
 
     List<OExecutionStep> stepsIter = getSubSteps();
 
-    return OExecutionStream.streamsFromIterator(stepsIter.iterator(), this::startStep)
-        .map(this::setCurrent);
-  }
-
-  private OResult setCurrent(OResult result, OCommandContext context) {
-    context.setVariable("$current", result);
-    return result;
+    // the sub-steps set $current to the fetched record
+    return OExecutionStream.streamsFromIterator(stepsIter.iterator(), this::startStep);
   }
 
   private OExecutionStream startStep(OExecutionStep value, OCommandContext cx) {
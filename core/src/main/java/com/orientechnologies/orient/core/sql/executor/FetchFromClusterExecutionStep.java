@@ -3,12 +3,14 @@ package com.orientechnologies.orient.core.sql.executor;
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.iterator.ORecordIteratorCluster;
 import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStream;
+import com.orientechnologies.orient.core.sql.executor.resultset.OScanRingExecutionStream;
 import com.orientechnologies.orient.core.sql.parser.OBinaryCompareOperator;
 import com.orientechnologies.orient.core.sql.parser.OBinaryCondition;
 import com.orientechnologies.orient.core.sql.parser.OBooleanExpression;
@@ -64,8 +66,21 @@ public class FetchFromClusterExecutionStep extends AbstractExecutionStep {
 
     OExecutionStream set = OExecutionStream.loadIterator(iter);
 
+    final int scanRingSize =
+        ctx.getDatabase()
+            .getConfiguration()
+            .getValueAsInteger(OGlobalConfiguration.DISK_CACHE_SCAN_RING_SIZE);
+    if (scanRingSize > 0) {
+      set = new OScanRingExecutionStream(set, scanRingSize);
+    }
+
     set = set.interruptable();
-    return set;
+    return set.map(this::setCurrent);
+  }
+
+  private OResult setCurrent(OResult result, OCommandContext ctx) {
+    ctx.setVariable("$current", result);
+    return result;
   }
 
   private long calculateMinClusterPosition() {
@@ -6,6 +6,7 @@ import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.util.ORawPair;
 import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.OExecutionThreadLocal;
@@ -35,6 +36,7 @@ import com.orientechnologies.orient.core.sql.parser.OEqualsCompareOperator;
 import com.orientechnologies.orient.core.sql.parser.OExpression;
 import com.orientechnologies.orient.core.sql.parser.OGeOperator;
 import com.orientechnologies.orient.core.sql.parser.OGtOperator;
+import com.orientechnologies.orient.core.sql.parser.OIdentifier;
 import com.orientechnologies.orient.core.sql.parser.OInCondition;
 import com.orientechnologies.orient.core.sql.parser.OIsNullCondition;
 import com.orientechnologies.orient.core.sql.parser.OLeOperator;
@@ -161,7 +163,10 @@ public class FetchFromIndexStep extends AbstractExecutionStep {
         size = 1;
       }
     }
-    stats.pushIndexStats(indexName, size, range, additionalRangeCondition != null, count);
+    if (!desc.isSkipScan()) {
+      // statistics of the lookups by the first fields of the index are used to estimate cost
+      stats.pushIndexStats(indexName, size, range, additionalRangeCondition != null, count);
+    }
     ((OBasicCommandContext) ctx).updateProfilerIndex(indexStats);
   }
 
@@ -174,7 +179,9 @@ public class FetchFromIndexStep extends AbstractExecutionStep {
     if (index.getDefinition() == null) {
       return Collections.emptyList();
     }
-    if (condition == null) {
+    if (desc.isSkipScan()) {
+      return processSkipScan(desc, ctx);
+    } else if (condition == null) {
       return processFlatIteration(desc, isOrderAsc);
     } else if (condition instanceof OBinaryCondition) {
       return processBinaryCondition(desc, isOrderAsc, ctx);
@@ -254,14 +261,87 @@ public class FetchFromIndexStep extends AbstractExecutionStep {
     OCollection toKey = indexKeyTo((OAndBlock) condition, additionalRangeCondition);
     boolean fromKeyIncluded = indexKeyFromIncluded((OAndBlock) condition, additionalRangeCondition);
     boolean toKeyIncluded = indexKeyToIncluded((OAndBlock) condition, additionalRangeCondition);
+    List<OIndexStream> acquiredStreams =
+        multipleRange(
+            index,
+            fromKey,
+            fromKeyIncluded,
+            toKey,
+            toKeyIncluded,
+            condition,
+            isOrderAsc,
+            additionalRangeCondition,
+            ctx);
+    return mergeRanges(index, acquiredStreams, isOrderAsc);
+  }
+
+  /**
+   * Looks up the ranges of the key condition for each distinct value of the first field of the
+   * index, ranges of all the values are read during single pass over the index. Each next value is
+   * found by the lookup of the key which follows all the keys with the previous value. If the first
+   * field has more values than allowed, or contains nulls, the rest of the index is scanned.
+   */
+  private static List<OIndexStream> processSkipScan(
+      IndexSearchDescriptor desc, OCommandContext ctx) {
+    OIndexInternal index = desc.getIndex().getInternal();
+    int maxPrefixes =
+        ctx.getDatabase()
+            .getConfiguration()
+            .getValueAsInteger(OGlobalConfiguration.QUERY_INDEX_SKIP_SCAN_MAX_PREFIXES);
+
+    List<OIndexStream> acquiredStreams = new ArrayList<>();
+    OCompositeKey lastPrefix = null;
+    int prefixes = 0;
+
+    Optional<ORawPair<Object, ORID>> next;
+    try (Stream<ORawPair<Object, ORID>> stream = index.stream()) {
+      next = stream.findFirst();
+    }
+    while (next.isPresent() && next.get().first instanceof OCompositeKey) {
+      Object prefix = ((OCompositeKey) next.get().first).getKeys().get(0);
+      if (prefix == null || prefixes >= maxPrefixes) {
+        List<OIndexStream> result = new ArrayList<>(mergeRanges(index, acquiredStreams, true));
+        result.add(
+            new OSkipScanIndexStream(index, lastPrefix, value -> skipScanRanges(desc, value, ctx)));
+        return result;
+      }
+
+      acquiredStreams.addAll(skipScanRanges(desc, prefix, ctx));
+      prefixes++;
+
+      lastPrefix = new OCompositeKey(prefix);
+      try (Stream<ORawPair<Object, ORID>> stream =
+          index.streamEntriesMajor(lastPrefix, false, true)) {
+        next = stream.findFirst();
+      }
+    }
+    return mergeRanges(index, acquiredStreams, true);
+  }
+
+  /** @return streams of the ranges of the key condition for passed in value of the first field */
+  private static List<OIndexStream> skipScanRanges(
+      IndexSearchDescriptor desc, Object prefix, OCommandContext ctx) {
+    OIndexInternal index = desc.getIndex().getInternal();
+    OBinaryCondition additionalRangeCondition = desc.getAdditionalRangeCondition();
+
+    OBinaryCondition prefixCondition = new OBinaryCondition(-1);
+    prefixCondition.setLeft(
+        new OExpression(new OIdentifier(index.getDefinition().getFields().get(0))));
+    prefixCondition.setOperator(new OEqualsCompareOperator(-1));
+    prefixCondition.setRight(new OValueExpression(prefix));
+
+    OAndBlock condition = new OAndBlock(-1);
+    condition.getSubBlocks().add(prefixCondition);
+    condition.getSubBlocks().addAll(((OAndBlock) desc.getKeyCondition()).getSubBlocks());
+
     return multipleRange(
         index,
-        fromKey,
-        fromKeyIncluded,
-        toKey,
-        toKeyIncluded,
+        indexKeyFrom(condition, additionalRangeCondition),
+        indexKeyFromIncluded(condition, additionalRangeCondition),
+        indexKeyTo(condition, additionalRangeCondition),
+        indexKeyToIncluded(condition, additionalRangeCondition),
         condition,
-        isOrderAsc,
+        true,
         additionalRangeCondition,
         ctx);
   }
@@ -358,6 +438,40 @@ public class FetchFromIndexStep extends AbstractExecutionStep {
     return acquiredStreams;
   }
 
+  /**
+   * Replaces streams of the ranges of the same index by the stream which reads all the ranges
+   * during single pass, if the index keeps keys ordered.
+   */
+  private static List<OIndexStream> mergeRanges(
+      OIndexInternal index, List<OIndexStream> streams, boolean isOrderAsc) {
+    if (streams.size() < 2 || !isOrderAsc || !index.supportsOrderedIterations()) {
+      return streams;
+    }
+
+    List<ORawPair<Object, Object>> ranges = new ArrayList<>(streams.size());
+    OBetweenIndexStream first = null;
+    for (OIndexStream stream : streams) {
+      if (!(stream instanceof OBetweenIndexStream)) {
+        return streams;
+      }
+      OBetweenIndexStream between = (OBetweenIndexStream) stream;
+      if (between.getStartKey() == null || between.getEndKey() == null) {
+        return streams;
+      }
+      if (first == null) {
+        first = between;
+      } else if (first.isIncludeStart() != between.isIncludeStart()
+          || first.isIncludeEnd() != between.isIncludeEnd()) {
+        return streams;
+      }
+      ranges.add(new ORawPair<>(between.getStartKey(), between.getEndKey()));
+    }
+
+    return Collections.singletonList(
+        new OMultipleRangeIndexStream(
+            index, ranges, first.isIncludeStart(), first.isIncludeEnd(), true));
+  }
+
   protected static void rangeIndexOps(
       OIndexInternal index,
       boolean fromKeyIncluded,
@@ -703,6 +817,9 @@ public class FetchFromIndexStep extends AbstractExecutionStep {
         OExecutionStepInternal.getIndent(depth, indent)
             + "+ FETCH FROM INDEX "
             + desc.getIndex().getName();
+    if (desc.isSkipScan()) {
+      result += " (skip-scan)";
+    }
     if (profilingEnabled) {
       result += " (" + getCostFormatted() + ")";
     }
@@ -745,6 +862,7 @@ public class FetchFromIndexStep extends AbstractExecutionStep {
           "additionalRangeCondition", desc.getAdditionalRangeCondition().serialize());
     }
     result.setProperty("orderAsc", orderAsc);
+    result.setProperty("skipScan", desc.isSkipScan());
     return result;
   }
 
@@ -764,7 +882,13 @@ public class FetchFromIndexStep extends AbstractExecutionStep {
       }
       ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.instance().get();
       OIndex index = db.getMetadata().getIndexManager().getIndex(indexName);
-      desc = new IndexSearchDescriptor(index, condition, additionalRangeCondition, null);
+      desc =
+          new IndexSearchDescriptor(
+              index,
+              condition,
+              additionalRangeCondition,
+              null,
+              Boolean.TRUE.equals(fromResult.getProperty("skipScan")));
       orderAsc = fromResult.getProperty("orderAsc");
     } catch (Exception e) {
       throw OException.wrapException(new OCommandExecutionException(""), e);
@@ -0,0 +1,108 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Builds results from the keys of the index entries instead of loading of the indexed records. It
+ * is used when query fetches only fields which are stored in the index, each result contains
+ * values of indexed fields and the RID of the record.
+ */
+public class GetValueFromIndexKeyStep extends AbstractExecutionStep {
+
+  private final int[] filterClusterIds;
+  private final String[] fields;
+
+  /**
+   * @param ctx the execution context
+   * @param filterClusterIds only extract values from these clusters. Pass null if no filtering is
+   *     needed
+   * @param fields names of the fields which correspond to the components of the index key
+   * @param profilingEnabled enable profiling
+   */
+  public GetValueFromIndexKeyStep(
+      OCommandContext ctx, int[] filterClusterIds, String[] fields, boolean profilingEnabled) {
+    super(ctx, profilingEnabled);
+    this.filterClusterIds = filterClusterIds;
+    this.fields = fields;
+    if (this.filterClusterIds != null) {
+      Arrays.sort(this.filterClusterIds);
+    }
+  }
+
+  @Override
+  public OExecutionStream internalStart(OCommandContext ctx) throws OTimeoutException {
+
+    if (!prev.isPresent()) {
+      throw new IllegalStateException("filter step requires a previous step");
+    }
+    OExecutionStream resultSet = prev.get().start(ctx);
+    return resultSet.filter(this::filterMap);
+  }
+
+  private OResult filterMap(OResult result, OCommandContext ctx) {
+    Object finalVal = result.getProperty("rid");
+    if (!(finalVal instanceof OIdentifiable)) {
+      return null;
+    }
+    ORID rid = ((OIdentifiable) finalVal).getIdentity();
+    if (filterClusterIds != null
+        && rid.getClusterId() >= 0
+        && Arrays.binarySearch(filterClusterIds, rid.getClusterId()) < 0) {
+      return null;
+    }
+
+    OResultInternal value = new OResultInternal();
+    Object key = result.getProperty("key");
+    if (fields.length == 1) {
+      value.setProperty(fields[0], key instanceof List ? ((List<?>) key).get(0) : key);
+    } else {
+      List<?> keys = (List<?>) key;
+      for (int i = 0; i < fields.length; i++) {
+        value.setProperty(fields[i], i < keys.size() ? keys.get(i) : null);
+      }
+    }
+    value.setProperty("@rid", rid);
+    return value;
+  }
+
+  @Override
+  public String prettyPrint(int depth, int indent) {
+    String spaces = OExecutionStepInternal.getIndent(depth, indent);
+    String result = spaces + "+ EXTRACT VALUE FROM INDEX KEY";
+    if (profilingEnabled) {
+      result += " (" + getCostFormatted() + ")";
+    }
+    result += "\n";
+    result += spaces;
+    result += "  fields [";
+    result += String.join(",", fields);
+    result += "]";
+    if (filterClusterIds != null) {
+      result += "\n";
+      result += spaces;
+      result += "  filtering clusters [";
+      result +=
+          Arrays.stream(filterClusterIds).boxed().map(x -> "" + x).collect(Collectors.joining(","));
+      result += "]";
+    }
+    return result;
+  }
+
+  @Override
+  public boolean canBeCached() {
+    return true;
+  }
+
+  @Override
+  public OExecutionStep copy(OCommandContext ctx) {
+    return new GetValueFromIndexKeyStep(
+        ctx, this.filterClusterIds, this.fields, this.profilingEnabled);
+  }
+}
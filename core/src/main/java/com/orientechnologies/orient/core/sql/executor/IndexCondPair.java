@@ -11,10 +11,19 @@ class IndexCondPair {
 
   protected OBooleanExpression mainCondition;
   protected OBinaryCondition additionalRange;
+  protected boolean skipScan;
 
   public IndexCondPair(OBooleanExpression keyCondition, OBinaryCondition additionalRangeCondition) {
+    this(keyCondition, additionalRangeCondition, false);
+  }
+
+  public IndexCondPair(
+      OBooleanExpression keyCondition,
+      OBinaryCondition additionalRangeCondition,
+      boolean skipScan) {
     this.mainCondition = keyCondition;
     this.additionalRange = additionalRangeCondition;
+    this.skipScan = skipScan;
   }
 
   @Override
@@ -24,6 +33,8 @@ class IndexCondPair {
 
     IndexCondPair that = (IndexCondPair) o;
 
+    if (skipScan != that.skipScan) return false;
+
     if (mainCondition != null
         ? !mainCondition.equals(that.mainCondition)
         : that.mainCondition != null) return false;
@@ -38,6 +49,7 @@ class IndexCondPair {
   public int hashCode() {
     int result = mainCondition != null ? mainCondition.hashCode() : 0;
     result = 31 * result + (additionalRange != null ? additionalRange.hashCode() : 0);
+    result = 31 * result + (skipScan ? 1 : 0);
     return result;
   }
 }
@@ -5,6 +5,8 @@ import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.index.OCompositeIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.index.OIndexDefinition;
+import com.orientechnologies.orient.core.metadata.statistics.OClassStatistics;
+import com.orientechnologies.orient.core.metadata.statistics.OStatisticsManager;
 import com.orientechnologies.orient.core.sql.parser.OAndBlock;
 import com.orientechnologies.orient.core.sql.parser.OBinaryCompareOperator;
 import com.orientechnologies.orient.core.sql.parser.OBinaryCondition;
@@ -21,6 +23,12 @@ public class IndexSearchDescriptor {
   private OBinaryCondition additionalRangeCondition;
   private OBooleanExpression remainingCondition;
 
+  /**
+   * If <code>true</code> the key condition refers to the fields of the index after the first one,
+   * and the condition is checked for each distinct value of the first field.
+   */
+  private boolean skipScan;
+
   public IndexSearchDescriptor(
       OIndex idx,
       OBooleanExpression keyCondition,
@@ -32,6 +40,16 @@ public class IndexSearchDescriptor {
     this.remainingCondition = remainingCondition;
   }
 
+  public IndexSearchDescriptor(
+      OIndex idx,
+      OBooleanExpression keyCondition,
+      OBinaryCondition additional,
+      OBooleanExpression remainingCondition,
+      boolean skipScan) {
+    this(idx, keyCondition, additional, remainingCondition);
+    this.skipScan = skipScan;
+  }
+
   public IndexSearchDescriptor(OIndex idx) {
     this.index = idx;
     this.keyCondition = null;
@@ -47,6 +65,21 @@ public class IndexSearchDescriptor {
   }
 
   public int cost(OCommandContext ctx) {
+    String className = getIndex().getDefinition().getClassName();
+    OClassStatistics classStatistics =
+        OStatisticsManager.getStatistics((ODatabaseDocumentInternal) ctx.getDatabase(), className);
+    if (classStatistics != null) {
+      // the class was analyzed, estimate amount of the entries which match the key condition
+      OAndBlock condition = new OAndBlock(-1);
+      condition.getSubBlocks().addAll(getSubBlocks());
+      if (getAdditionalRangeCondition() != null) {
+        condition.getSubBlocks().add(getAdditionalRangeCondition());
+      }
+      long count = classStatistics.getCount();
+      long val = (long) Math.ceil(count * classStatistics.estimateSelectivity(condition, ctx));
+      return val > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) val;
+    }
+
     OQueryStats stats = OQueryStats.get((ODatabaseDocumentInternal) ctx.getDatabase());
 
     String indexName = getIndex().getName();
@@ -98,6 +131,10 @@ public class IndexSearchDescriptor {
     return remainingCondition;
   }
 
+  public boolean isSkipScan() {
+    return skipScan;
+  }
+
   /**
    * checks whether the condition has CONTAINSANY or similar expressions, that require multiple
    * index evaluations
@@ -44,4 +44,20 @@ public class OBetweenIndexStream implements OIndexStream {
     }
     return new OIndexStreamStat(index.getName(), index.getDefinition().getParamCount(), keySize);
   }
+
+  public Object getStartKey() {
+    return startKey;
+  }
+
+  public boolean isIncludeStart() {
+    return includeStart;
+  }
+
+  public Object getEndKey() {
+    return endKey;
+  }
+
+  public boolean isIncludeEnd() {
+    return includeEnd;
+  }
 }
@@ -3,6 +3,7 @@ package com.orientechnologies.orient.core.sql.executor;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.index.OIndexInternal;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.sql.parser.OBatch;
 import com.orientechnologies.orient.core.sql.parser.OCreateEdgeStatement;
@@ -109,6 +110,7 @@ public class OCreateEdgeExecutionPlanner {
       uniqueIndexName =
           clazz.getIndexes().stream()
               .filter(x -> x.isUnique())
+              .filter(x -> !OIndexInternal.isPartialOrExpression(x))
               .filter(
                   x ->
                       x.getDefinition().getFields().size() == 2
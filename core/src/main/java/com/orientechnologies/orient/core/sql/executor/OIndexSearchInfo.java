@@ -1,6 +1,7 @@
 package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.sql.parser.OExpression;
 
 public class OIndexSearchInfo {
 
@@ -11,6 +12,7 @@ public class OIndexSearchInfo {
   private final OCommandContext ctx;
   private final boolean indexByValue;
   private final boolean supportNull;
+  private final OExpression expression;
 
   public OIndexSearchInfo(
       String indexField,
@@ -20,6 +22,18 @@ public class OIndexSearchInfo {
       boolean indexByValue,
       boolean supportNull,
       OCommandContext ctx) {
+    this(indexField, allowsRangeQueries, map, indexByKey, indexByValue, supportNull, null, ctx);
+  }
+
+  public OIndexSearchInfo(
+      String indexField,
+      boolean allowsRangeQueries,
+      boolean map,
+      boolean indexByKey,
+      boolean indexByValue,
+      boolean supportNull,
+      OExpression expression,
+      OCommandContext ctx) {
     this.field = indexField;
     this.allowsRangeQueries = allowsRangeQueries;
     this.map = map;
@@ -27,6 +41,7 @@ public class OIndexSearchInfo {
     this.ctx = ctx;
     this.indexByValue = indexByValue;
     this.supportNull = supportNull;
+    this.expression = expression;
   }
 
   public String getField() {
@@ -56,4 +71,12 @@ public class OIndexSearchInfo {
   public boolean isSupportNull() {
     return supportNull;
   }
+
+  /**
+   * @return expression which calculates keys of the expression index or <code>null</code> if keys
+   *     are the values of the field
+   */
+  public OExpression getExpression() {
+    return expression;
+  }
 }
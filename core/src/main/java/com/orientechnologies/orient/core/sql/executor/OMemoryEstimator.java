@@ -0,0 +1,75 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.record.ORecord;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Rough estimation of the heap used by the values kept in memory by the query operators, it is
+ * used to decide when an operator exceeds its memory budget. Results which are records are
+ * accounted by the serialized size of the record (or by their properties if the size is not known),
+ * records referenced by properties are accounted only as references.
+ */
+final class OMemoryEstimator {
+  private static final int OBJECT_OVERHEAD = 16;
+  private static final int REFERENCE_SIZE = 8;
+  private static final int ENTRY_OVERHEAD = 32;
+  private static final int RECORD_REFERENCE_SIZE = 48;
+
+  private OMemoryEstimator() {}
+
+  static long estimate(final Object value) {
+    if (value == null) {
+      return REFERENCE_SIZE;
+    }
+    if (value instanceof String) {
+      return OBJECT_OVERHEAD + 24 + 2L * ((String) value).length();
+    }
+    if (value instanceof Number
+        || value instanceof Boolean
+        || value instanceof Character
+        || value instanceof Date) {
+      return OBJECT_OVERHEAD + 8;
+    }
+    if (value instanceof OIdentifiable) {
+      return RECORD_REFERENCE_SIZE;
+    }
+    if (value instanceof OResult) {
+      final OResult result = (OResult) value;
+      if (result.isElement()) {
+        final int recordSize = result.getRecord().map(ORecord::getSize).orElse(0);
+        if (recordSize > 0) {
+          return RECORD_REFERENCE_SIZE + recordSize;
+        }
+        // records saved in the current session may not have a serialized size yet, they are
+        // accounted by their properties
+      }
+
+      long size = OBJECT_OVERHEAD + ENTRY_OVERHEAD;
+      for (final String name : result.getPropertyNames()) {
+        size += ENTRY_OVERHEAD + estimate(name) + estimate(result.getProperty(name));
+      }
+      return size;
+    }
+    if (value instanceof Collection) {
+      long size = OBJECT_OVERHEAD + ENTRY_OVERHEAD;
+      for (final Object item : (Collection<?>) value) {
+        size += REFERENCE_SIZE + estimate(item);
+      }
+      return size;
+    }
+    if (value instanceof Map) {
+      long size = OBJECT_OVERHEAD + ENTRY_OVERHEAD;
+      for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+        size += ENTRY_OVERHEAD + estimate(entry.getKey()) + estimate(entry.getValue());
+      }
+      return size;
+    }
+    if (value instanceof byte[]) {
+      return OBJECT_OVERHEAD + ((byte[]) value).length;
+    }
+    return 2 * OBJECT_OVERHEAD;
+  }
+}
@@ -0,0 +1,50 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.index.OIndexInternal;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Stream of the entries of several ranges of keys of the same index, which are read during single
+ * pass over the index instead of separate lookup for each range.
+ */
+class OMultipleRangeIndexStream implements OIndexStream {
+  private OIndexInternal index;
+  private List<ORawPair<Object, Object>> ranges;
+  private boolean includeStart;
+  private boolean includeEnd;
+  private boolean asc;
+
+  public OMultipleRangeIndexStream(
+      OIndexInternal index,
+      List<ORawPair<Object, Object>> ranges,
+      boolean includeStart,
+      boolean includeEnd,
+      boolean asc) {
+    super();
+    this.index = index;
+    this.ranges = ranges;
+    this.includeStart = includeStart;
+    this.includeEnd = includeEnd;
+    this.asc = asc;
+  }
+
+  public Stream<ORawPair<Object, ORID>> start(OCommandContext ctx) {
+    return index.streamEntriesBetweenRanges(ranges, includeStart, includeEnd, asc);
+  }
+
+  public OIndexStreamStat indexStats() {
+    int keySize;
+    Object startKey = ranges.get(0).first;
+    if (startKey instanceof OCompositeKey) {
+      keySize = ((OCompositeKey) startKey).getKeys().size();
+    } else {
+      keySize = 1;
+    }
+    return new OIndexStreamStat(index.getName(), index.getDefinition().getParamCount(), keySize);
+  }
+}
@@ -1,8 +1,10 @@
 package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.util.OPair;
+import com.orientechnologies.orient.core.collate.ODefaultCollate;
 import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OContextConfiguration;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseInternal;
@@ -11,9 +13,14 @@ import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OCompositeIndexDefinition;
+import com.orientechnologies.orient.core.index.OExpressionIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.index.OIndexAbstract;
 import com.orientechnologies.orient.core.index.OIndexDefinition;
+import com.orientechnologies.orient.core.index.OIndexFilter;
+import com.orientechnologies.orient.core.index.OIndexInternal;
+import com.orientechnologies.orient.core.index.OPropertyIndexDefinition;
 import com.orientechnologies.orient.core.metadata.OMetadataInternal;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OImmutableClass;
@@ -61,6 +68,7 @@ import com.orientechnologies.orient.core.sql.parser.OTimeout;
 import com.orientechnologies.orient.core.sql.parser.OWhereClause;
 import com.orientechnologies.orient.core.sql.parser.SubQueryCollector;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -108,6 +116,7 @@ public class OSelectExecutionPlanner {
     info.skip = this.statement.getSkip();
     info.limit = this.statement.getLimit();
     info.lockRecord = this.statement.getLockRecord();
+    info.parallel = Boolean.TRUE.equals(this.statement.getParallel());
     info.timeout = this.statement.getTimeout() == null ? null : this.statement.getTimeout().copy();
     if (info.timeout == null
         && ctx.getDatabase().getConfiguration().getValueAsLong(OGlobalConfiguration.COMMAND_TIMEOUT)
@@ -726,6 +735,9 @@ public class OSelectExecutionPlanner {
     }
 
     for (OIndex classIndex : clazz.getClassIndexes()) {
+      if (OIndexInternal.isPartialOrExpression(classIndex)) {
+        continue;
+      }
       List<String> fields = classIndex.getDefinition().getFields();
       if (fields.size() == 1
           && fields.get(0).equals(binaryCondition.getLeft().getDefaultAlias().getStringValue())) {
@@ -1971,7 +1983,10 @@ public class OSelectExecutionPlanner {
 
     if (handleClassAsTargetWithIndex(
         plan, identifier, filterClusters, info, ctx, profilingEnabled)) {
-      plan.chain(new FilterByClassStep(identifier, ctx, profilingEnabled));
+      // results built from index keys are already filtered by the clusters of the class
+      if (!info.indexOnly) {
+        plan.chain(new FilterByClassStep(identifier, ctx, profilingEnabled));
+      }
       return;
     }
 
@@ -1993,6 +2008,11 @@ public class OSelectExecutionPlanner {
 
     AbstractExecutionStep fetcher;
     if (schema.getClass(className) != null) {
+      if (orderByRidAsc == null
+          && handleClassAsTargetInParallel(
+              plan, schema.getClass(className), filterClusters, info, ctx, profilingEnabled)) {
+        return;
+      }
       fetcher =
           new FetchFromClassExecutionStep(
               className, filterClusters, info, ctx, orderByRidAsc, profilingEnabled);
@@ -2010,6 +2030,102 @@ public class OSelectExecutionPlanner {
     plan.chain(fetcher);
   }
 
+  /**
+   * splits the scan of the class in a sub-plan for each of its clusters, the sub-plans are executed
+   * by worker threads which also filter the records and, if nothing else has to be done before,
+   * calculate the projections.
+   *
+   * @return true if the class is scanned in parallel, false if the query does not allow it
+   */
+  private boolean handleClassAsTargetInParallel(
+      OSelectExecutionPlan plan,
+      OClass clazz,
+      Set<String> filterClusters,
+      QueryPlanningInfo info,
+      OCommandContext ctx,
+      boolean profilingEnabled) {
+    int[] clusterIds =
+        filterClusters == null
+            ? clazz.getPolymorphicClusterIds()
+            : classClustersFiltered(ctx.getDatabase(), clazz, filterClusters);
+    // abstract classes have no clusters of their own, like FetchFromClassExecutionStep skip them
+    clusterIds = Arrays.stream(clusterIds).filter(clusterId -> clusterId > 0).toArray();
+    if (profilingEnabled || clusterIds.length < 2 || info.serverToClusters.size() != 1) {
+      return false;
+    }
+    if (!info.parallel) {
+      OContextConfiguration conf = ctx.getDatabase().getConfiguration();
+      long minimumRecords =
+          conf.getValueAsLong(OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS);
+      if (!conf.getValueAsBoolean(OGlobalConfiguration.QUERY_PARALLEL_AUTO)
+          || clazz.count() < minimumRecords) {
+        return false;
+      }
+    }
+
+    // LET has to be calculated before the filter, it is calculated on the records merged from the
+    // workers
+    boolean filterInWorkers = info.whereClause != null && info.perRecordLetClause == null;
+    boolean projectionsInWorkers =
+        info.projection != null
+            && !info.projectionsCalculated
+            && (info.whereClause == null || filterInWorkers)
+            && info.perRecordLetClause == null
+            && !info.globalLetPresent
+            && !info.expand
+            && !info.distinct
+            && info.unwind == null
+            && info.groupBy == null
+            && info.orderBy == null
+            && info.preAggregateProjection == null
+            && info.aggregateProjection == null
+            && info.lockRecord == null;
+
+    List<OInternalExecutionPlan> subPlans = new ArrayList<>();
+    for (int clusterId : clusterIds) {
+      OSelectExecutionPlan subPlan = new OSelectExecutionPlan();
+      subPlan.chain(new FetchFromClusterExecutionStep(clusterId, info, ctx, profilingEnabled));
+      chainWorkerSteps(subPlan, filterInWorkers, projectionsInWorkers, info, ctx, profilingEnabled);
+      subPlans.add(subPlan);
+    }
+    // records of the current transaction, the sub-plans are executed sequentially in a transaction
+    OSelectExecutionPlan txPlan = new OSelectExecutionPlan();
+    txPlan.chain(new FetchTemporaryFromTxStep(ctx, clazz.getName(), profilingEnabled));
+    chainWorkerSteps(txPlan, filterInWorkers, projectionsInWorkers, info, ctx, profilingEnabled);
+    subPlans.add(txPlan);
+
+    plan.chain(new ParallelExecStep(subPlans, ctx, true, profilingEnabled));
+    if (filterInWorkers) {
+      // WHERE condition already applied
+      info.whereClause = null;
+      info.flattenedWhereClause = null;
+    }
+    if (projectionsInWorkers) {
+      info.projectionsCalculated = true;
+    }
+    return true;
+  }
+
+  private void chainWorkerSteps(
+      OSelectExecutionPlan subPlan,
+      boolean filter,
+      boolean projections,
+      QueryPlanningInfo info,
+      OCommandContext ctx,
+      boolean profilingEnabled) {
+    if (filter) {
+      subPlan.chain(
+          new FilterStep(
+              info.whereClause.copy(),
+              ctx,
+              info.timeout != null ? info.timeout.getVal().longValue() : -1,
+              profilingEnabled));
+    }
+    if (projections) {
+      subPlan.chain(new ProjectionCalculationStep(info.projection.copy(), ctx, profilingEnabled));
+    }
+  }
+
   private int[] classClustersFiltered(
       ODatabaseSession db, OClass clazz, Set<String> filterClusters) {
     int[] ids = clazz.getPolymorphicClusterIds();
@@ -2265,6 +2381,7 @@ public class OSelectExecutionPlanner {
         clazz.getIndexes().stream()
             .filter(i -> i.supportsOrderedIterations())
             .filter(i -> i.getDefinition() != null)
+            .filter(i -> !OIndexInternal.isPartialOrExpression(i))
             .collect(Collectors.toList())) {
       List<String> indexFields = idx.getDefinition().getFields();
       if (indexFields.size() < info.orderBy.getItems().size()) {
@@ -2507,7 +2624,14 @@ public class OSelectExecutionPlanner {
       } else {
         filterClusterIds = clazz.getPolymorphicClusterIds();
       }
-      result.add(new GetValueFromIndexEntryStep(ctx, filterClusterIds, profilingEnabled));
+      String[] indexOnlyFields = indexOnlyFields(clazz, info, desc, ctx);
+      if (indexOnlyFields != null) {
+        info.indexOnly = true;
+        result.add(
+            new GetValueFromIndexKeyStep(ctx, filterClusterIds, indexOnlyFields, profilingEnabled));
+      } else {
+        result.add(new GetValueFromIndexEntryStep(ctx, filterClusterIds, profilingEnabled));
+      }
       if (desc.requiresDistinctStep()) {
         result.add(new DistinctExecutionStep(ctx, profilingEnabled));
       }
@@ -2548,6 +2672,107 @@ public class OSelectExecutionPlanner {
     return result;
   }
 
+  /**
+   * Checks if the query can be answered by the keys of the index without loading of the records
+   * (index only plan), it is possible if projections and ordering refer only to the fields stored
+   * in the index and to the RID of the record and the index condition does not leave conditions to
+   * be checked on the records.
+   *
+   * @return names of the fields which correspond to the components of the index key or null if
+   *     records have to be loaded
+   */
+  private String[] indexOnlyFields(
+      OClass clazz, QueryPlanningInfo info, IndexSearchDescriptor desc, OCommandContext ctx) {
+    if (info.projection == null
+        || info.expand
+        || info.unwind != null
+        || info.groupBy != null
+        || info.aggregateProjection != null
+        || info.perRecordLetClause != null
+        || info.lockRecord != null) {
+      return null;
+    }
+    if (desc.getRemainingCondition() != null && !desc.getRemainingCondition().isEmpty()) {
+      return null;
+    }
+
+    OIndex index = desc.getIndex();
+    String indexType = index.getType();
+    if (!OClass.INDEX_TYPE.UNIQUE.name().equalsIgnoreCase(indexType)
+        && !OClass.INDEX_TYPE.NOTUNIQUE.name().equalsIgnoreCase(indexType)
+        && !OClass.INDEX_TYPE.UNIQUE_HASH_INDEX.name().equalsIgnoreCase(indexType)
+        && !OClass.INDEX_TYPE.NOTUNIQUE_HASH_INDEX.name().equalsIgnoreCase(indexType)) {
+      return null;
+    }
+
+    // stored keys are equal to the values of the fields only if they are not transformed
+    OIndexDefinition definition = index.getDefinition();
+    List<OIndexDefinition> fieldDefinitions;
+    if (definition instanceof OCompositeIndexDefinition) {
+      fieldDefinitions = ((OCompositeIndexDefinition) definition).getIndexDefinitions();
+    } else {
+      fieldDefinitions = Collections.singletonList(definition);
+    }
+    for (OIndexDefinition fieldDefinition : fieldDefinitions) {
+      if (fieldDefinition == null
+          || fieldDefinition.getClass() != OPropertyIndexDefinition.class
+          || !(fieldDefinition.getCollate() instanceof ODefaultCollate)) {
+        return null;
+      }
+      OType keyType = fieldDefinition.getTypes()[0];
+      if (keyType.isMultiValue() || keyType.isEmbedded() || keyType == OType.LINKBAG) {
+        return null;
+      }
+    }
+
+    List<String> fields = definition.getFields();
+    Set<String> projectionAliases = new HashSet<>();
+    for (OProjectionItem item : info.projection.getItems()) {
+      if (item.isAll() || item.isExclude() || item.getNestedProjection() != null) {
+        return null;
+      }
+      OExpression expression = item.getExpression();
+      if (expression == null) {
+        return null;
+      }
+      if (!"@rid".equalsIgnoreCase(expression.toString())
+          && !(expression.isBaseIdentifier()
+              && fields.contains(expression.getDefaultAlias().getStringValue()))) {
+        return null;
+      }
+      projectionAliases.add(item.getProjectionAliasAsString());
+    }
+    if (info.orderBy != null) {
+      for (OOrderByItem item : info.orderBy.getItems()) {
+        if (item.getModifier() != null || item.getRid() != null) {
+          return null;
+        }
+        if (item.getRecordAttr() != null) {
+          if (!"@rid".equalsIgnoreCase(item.getRecordAttr())) {
+            return null;
+          }
+        } else if (!fields.contains(item.getAlias())
+            && !projectionAliases.contains(item.getAlias())) {
+          return null;
+        }
+      }
+    }
+
+    if (securityPoliciesExistForClass(new OIdentifier(clazz.getName()), ctx)) {
+      return null;
+    }
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    OSecurityInternal security = db.getSharedContext().getSecurity();
+    for (String field : fields) {
+      if (security.isReadRestrictedBySecurityPolicy(
+          (ODatabaseSession) db, "database.class." + clazz.getName() + "." + field)) {
+        return null;
+      }
+    }
+
+    return fields.toArray(new String[0]);
+  }
+
   private static OSchema getSchemaFromContext(OCommandContext ctx) {
     return ((OMetadataInternal) ctx.getDatabase().getMetadata()).getImmutableSchemaSnapshot();
   }
@@ -2619,6 +2844,17 @@ public class OSelectExecutionPlanner {
     return result;
   }
 
+  /**
+   * checks if a partial index contains all the records that can match the block
+   *
+   * @return true if the index is not partial or if the block implies the predicate of the index
+   */
+  private static boolean isFilterImpliedBy(
+      OIndex index, OAndBlock block, OClass clazz, OCommandContext ctx) {
+    OIndexFilter filter = index.getInternal().getFilter();
+    return filter == null || filter.isImpliedBy(block, clazz, ctx);
+  }
+
   /**
    * given a flat AND block and a set of indexes, returns the best index to be used to process it,
    * with the complete description on how to use it
@@ -2634,6 +2870,7 @@ public class OSelectExecutionPlanner {
     List<IndexSearchDescriptor> descriptors =
         indexes.stream()
             .filter(x -> x.getInternal().canBeUsedInEqualityOperators())
+            .filter(x -> isFilterImpliedBy(x, block, clazz, ctx))
             .map(index -> buildIndexSearchDescriptor(ctx, index, block, clazz))
             .filter(Objects::nonNull)
             .filter(x -> x.getKeyCondition() != null)
@@ -2644,6 +2881,7 @@ public class OSelectExecutionPlanner {
         indexes.stream()
             .filter(idx -> idx.getType().equalsIgnoreCase("FULLTEXT"))
             .filter(idx -> !idx.getAlgorithm().equalsIgnoreCase("LUCENE"))
+            .filter(idx -> isFilterImpliedBy(idx, block, clazz, ctx))
             .map(idx -> buildIndexSearchDescriptorForFulltext(ctx, idx, block, clazz))
             .filter(Objects::nonNull)
             .filter(x -> x.getKeyCondition() != null)
@@ -2682,8 +2920,57 @@ public class OSelectExecutionPlanner {
             .sorted(Comparator.comparingInt(x -> x.blockCount()))
             .collect(Collectors.toList());
 
+    if (descriptors.isEmpty()) {
+      return findSkipScanIndexFor(ctx, indexes, block, clazz);
+    }
+
     // get the one that has more indexed fields
-    return descriptors.isEmpty() ? null : descriptors.get(descriptors.size() - 1);
+    return descriptors.get(descriptors.size() - 1);
+  }
+
+  /**
+   * Looks for the composite index which has no condition on its first field, but has conditions on
+   * the next ones. Such index is read by lookups of the conditions for each distinct value of the
+   * first field (skip-scan), that is cheaper than the scan of the class if the first field has few
+   * distinct values. All the conditions of the block are kept as the remaining condition, because
+   * the rest of the index is scanned if the first field has too many distinct values.
+   */
+  private IndexSearchDescriptor findSkipScanIndexFor(
+      OCommandContext ctx, Set<OIndex> indexes, OAndBlock block, OClass clazz) {
+    if (ctx.getDatabase()
+            .getConfiguration()
+            .getValueAsInteger(OGlobalConfiguration.QUERY_INDEX_SKIP_SCAN_MAX_PREFIXES)
+        <= 0) {
+      return null;
+    }
+
+    return indexes.stream()
+        .filter(x -> x.getInternal().canBeUsedInEqualityOperators())
+        .filter(x -> x.supportsOrderedIterations())
+        .filter(x -> !x.getDefinition().isNullValuesIgnored())
+        .filter(x -> x.getDefinition() instanceof OCompositeIndexDefinition)
+        .filter(
+            x -> ((OCompositeIndexDefinition) x.getDefinition()).getMultiValueDefinition() == null)
+        .filter(x -> isFilterImpliedBy(x, block, clazz, ctx))
+        .map(
+            index -> {
+              List<String> fields = index.getDefinition().getFields();
+              IndexSearchDescriptor desc =
+                  buildIndexSearchDescriptor(
+                      ctx, index, fields.subList(1, fields.size()), block, clazz);
+              if (desc == null || desc.blockCount() == 0) {
+                return null;
+              }
+              return new IndexSearchDescriptor(
+                  index,
+                  desc.getKeyCondition(),
+                  desc.getAdditionalRangeCondition(),
+                  block.copy(),
+                  true);
+            })
+        .filter(Objects::nonNull)
+        .max(Comparator.comparingInt(IndexSearchDescriptor::blockCount))
+        .orElse(null);
   }
 
   /**
@@ -2773,7 +3060,11 @@ public class OSelectExecutionPlanner {
    */
   private IndexSearchDescriptor buildIndexSearchDescriptor(
       OCommandContext ctx, OIndex index, OAndBlock block, OClass clazz) {
-    List<String> indexFields = index.getDefinition().getFields();
+    return buildIndexSearchDescriptor(ctx, index, index.getDefinition().getFields(), block, clazz);
+  }
+
+  private IndexSearchDescriptor buildIndexSearchDescriptor(
+      OCommandContext ctx, OIndex index, List<String> indexFields, OAndBlock block, OClass clazz) {
     boolean found = false;
 
     OAndBlock blockCopy = block.copy();
@@ -2791,12 +3082,17 @@ public class OSelectExecutionPlanner {
               isIndexByKey(index, indexField),
               isIndexByValue(index, indexField),
               !index.getDefinition().isNullValuesIgnored(),
+              keyExpression(index),
               ctx);
       blockIterator = blockCopy.getSubBlocks().iterator();
       boolean indexFieldFound = false;
       boolean rangeOp = false;
       while (blockIterator.hasNext()) {
         OBooleanExpression singleExp = blockIterator.next();
+        if (info.getExpression() != null && !(singleExp instanceof OBinaryCondition)) {
+          // only comparisons are matched against the key expression
+          continue;
+        }
         if (singleExp.isIndexAware(info, ctx)) {
           indexFieldFound = true;
           indexKeyValue.getSubBlocks().add(singleExp.copy());
@@ -2841,6 +3137,13 @@ public class OSelectExecutionPlanner {
     return null;
   }
 
+  private static OExpression keyExpression(OIndex index) {
+    if (index.getDefinition() instanceof OExpressionIndexDefinition) {
+      return ((OExpressionIndexDefinition) index.getDefinition()).getParsedExpression();
+    }
+    return null;
+  }
+
   /**
    * given a full text index and a flat AND block, returns a descriptor on how to process it with an
    * index (index, index key and additional filters to apply after index fetch
@@ -2940,7 +3243,8 @@ public class OSelectExecutionPlanner {
         aggregation.put(item.getIndex(), filtersForIndex);
       }
       IndexCondPair extendedCond =
-          new IndexCondPair(item.getKeyCondition(), item.getAdditionalRangeCondition());
+          new IndexCondPair(
+              item.getKeyCondition(), item.getAdditionalRangeCondition(), item.isSkipScan());
 
       OOrBlock existingAdditionalConditions = filtersForIndex.get(extendedCond);
       if (existingAdditionalConditions == null) {
@@ -2957,7 +3261,8 @@ public class OSelectExecutionPlanner {
                 item.getKey(),
                 filters.getKey().mainCondition,
                 filters.getKey().additionalRange,
-                filters.getValue()));
+                filters.getValue(),
+                filters.getKey().skipScan));
       }
     }
     return result;
@@ -0,0 +1,99 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.index.OIndexInternal;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Scan of the composite index which returns only the entries whose keys belong to the ranges of
+ * the key condition built for the value of the first field of the key. It is used by skip-scan
+ * when the first field of the index has too many distinct values to look up each of them.
+ */
+class OSkipScanIndexStream implements OIndexStream {
+  private OIndexInternal index;
+  private OCompositeKey lastPrefix;
+  private Function<Object, List<OIndexStream>> prefixRanges;
+
+  /**
+   * @param lastPrefix the first field value after which the scan is started, or <code>null</code>
+   *     to scan the whole index
+   * @param prefixRanges streams of the ranges of the key condition for the value of the first field
+   */
+  public OSkipScanIndexStream(
+      OIndexInternal index,
+      OCompositeKey lastPrefix,
+      Function<Object, List<OIndexStream>> prefixRanges) {
+    super();
+    this.index = index;
+    this.lastPrefix = lastPrefix;
+    this.prefixRanges = prefixRanges;
+  }
+
+  public Stream<ORawPair<Object, ORID>> start(OCommandContext ctx) {
+    Stream<ORawPair<Object, ORID>> stream;
+    if (lastPrefix == null) {
+      stream = index.stream();
+    } else {
+      stream = index.streamEntriesMajor(lastPrefix, false, true);
+    }
+    return stream.filter(new RangesFilter());
+  }
+
+  public OIndexStreamStat indexStats() {
+    return new OIndexStreamStat(index.getName(), index.getDefinition().getParamCount(), 0);
+  }
+
+  /** Entries are sorted, so ranges are built once for each value of the first field. */
+  private class RangesFilter implements Predicate<ORawPair<Object, ORID>> {
+    private Object prefix;
+    private List<OIndexStream> ranges;
+
+    @Override
+    public boolean test(ORawPair<Object, ORID> entry) {
+      if (!(entry.first instanceof OCompositeKey)) {
+        return true;
+      }
+
+      OCompositeKey key = (OCompositeKey) entry.first;
+      Object keyPrefix = key.getKeys().get(0);
+      if (keyPrefix == null) {
+        // left to the filter of the query
+        return true;
+      }
+
+      if (ranges == null || !keyPrefix.equals(prefix)) {
+        prefix = keyPrefix;
+        ranges = prefixRanges.apply(keyPrefix);
+      }
+
+      for (OIndexStream range : ranges) {
+        if (!(range instanceof OBetweenIndexStream) || contains((OBetweenIndexStream) range, key)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private boolean contains(OBetweenIndexStream range, OCompositeKey key) {
+      Object from = index.getCollatingValue(range.getStartKey());
+      Object to = index.getCollatingValue(range.getEndKey());
+      if (!(from instanceof OCompositeKey) || !(to instanceof OCompositeKey)) {
+        return true;
+      }
+
+      // partial keys of the range are compared only by their fields
+      int fromCmp = key.compareTo((OCompositeKey) from);
+      if (range.isIncludeStart() ? fromCmp < 0 : fromCmp <= 0) {
+        return false;
+      }
+      int toCmp = key.compareTo((OCompositeKey) to);
+      return range.isIncludeEnd() ? toCmp <= 0 : toCmp < 0;
+    }
+  }
+}
@@ -0,0 +1,310 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.log.OLogger;
+import com.orientechnologies.common.profiler.OProfiler;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.BytesContainer;
+import com.orientechnologies.orient.core.serialization.serializer.result.binary.OResultSerializerNetwork;
+import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStream;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Temporary file of results written by the query operators which spill their data to disk once
+ * they exceed their memory budget. Records are written as links with their metadata and are loaded
+ * again when they are read, other results are written by {@link OResultSerializerNetwork}, so their
+ * temporary properties are not kept. Each result is written together with a sequence number, which
+ * lets operators restore the order in which results were produced.
+ */
+final class OSpillFile implements AutoCloseable {
+  private static final OLogger logger = OLogManager.instance().logger(OSpillFile.class);
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private static final byte RECORD = 0;
+  private static final byte PROJECTION = 1;
+
+  private final File file;
+  private final OResultSerializerNetwork serializer = new OResultSerializerNetwork();
+  private final List<DataInputStream> openedInputs = new ArrayList<>();
+
+  private DataOutputStream output;
+  private long size;
+  private long count;
+
+  private OSpillFile(final File file) throws IOException {
+    this.file = file;
+    this.output =
+        new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE));
+  }
+
+  static OSpillFile create(final String prefix) throws IOException {
+    final File tempDirectory = new File(Orient.getTempPath());
+    if (!tempDirectory.exists() && !tempDirectory.mkdirs() && !tempDirectory.exists()) {
+      throw new IOException("Can not create directory " + tempDirectory);
+    }
+
+    final File file = File.createTempFile(prefix, ".spill", tempDirectory);
+    return new OSpillFile(file);
+  }
+
+  /** Updates the profiler metric of the bytes spilled to disk by the queries of the database. */
+  static void updateProfiler(final OCommandContext ctx, final long spilledBytes) {
+    final OProfiler profiler = Orient.instance().getProfiler();
+    final ODatabaseSession db = ctx.getDatabase();
+    if (db != null && profiler.isRecording()) {
+      profiler.updateCounter(
+          profiler.getDatabaseMetric(db.getName(), "query.spilledBytes"),
+          "Bytes of query data spilled to temporary files",
+          spilledBytes);
+    }
+  }
+
+  void write(final OResult result, final long sequence) throws IOException {
+    output.writeLong(sequence);
+
+    final ORID rid = result.isElement() ? result.getIdentity().orElse(null) : null;
+    if (rid != null && rid.getClusterId() >= 0) {
+      output.writeByte(RECORD);
+      output.writeInt(rid.getClusterId());
+      output.writeLong(rid.getClusterPosition());
+      size += 8 + 1 + 4 + 8;
+
+      // metadata of records, like the depth of traversal, is not part of the record itself
+      if (result.getMetadataKeys().isEmpty()) {
+        output.writeInt(0);
+        size += 4;
+      } else {
+        final OResultInternal metadata = new OResultInternal();
+        for (final String key : result.getMetadataKeys()) {
+          metadata.setMetadata(key, result.getMetadata(key));
+        }
+        writeSerialized(metadata);
+      }
+    } else {
+      output.writeByte(PROJECTION);
+      size += 8 + 1;
+      writeSerialized(result);
+    }
+    count++;
+  }
+
+  private void writeSerialized(final OResult result) throws IOException {
+    final BytesContainer bytes = new BytesContainer();
+    serializer.serialize(result, bytes);
+    final byte[] content = bytes.fitBytes();
+
+    output.writeInt(content.length);
+    output.write(content);
+    size += 4 + content.length;
+  }
+
+  /** @return number of bytes written to the file */
+  long getSize() {
+    return size;
+  }
+
+  long getCount() {
+    return count;
+  }
+
+  /**
+   * Finishes writing of the file, no results can be written after this call.
+   *
+   * @return cursor which reads results in the order in which they were written
+   */
+  Cursor read() throws IOException {
+    if (output != null) {
+      output.close();
+      output = null;
+    }
+
+    final DataInputStream input =
+        new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE));
+    openedInputs.add(input);
+    return new FileCursor(input, count);
+  }
+
+  /** @return cursor which merges the passed in cursors by the sequence numbers of their results */
+  static Cursor mergeBySequence(final List<Cursor> cursors) throws IOException {
+    return merge(cursors, (resultOne, resultTwo) -> 0);
+  }
+
+  /**
+   * Merges cursors which return results sorted by the comparator, results which are equal for the
+   * comparator are returned in the order of their sequence numbers.
+   */
+  static Cursor merge(final List<Cursor> cursors, final Comparator<OResult> comparator)
+      throws IOException {
+    final PriorityQueue<Cursor> queue =
+        new PriorityQueue<>(
+            Math.max(cursors.size(), 1),
+            (cursorOne, cursorTwo) -> {
+              final int cmp = comparator.compare(cursorOne.current, cursorTwo.current);
+              if (cmp != 0) {
+                return cmp;
+              }
+              return Long.compare(cursorOne.sequence, cursorTwo.sequence);
+            });
+    for (final Cursor cursor : cursors) {
+      if (cursor.next()) {
+        queue.add(cursor);
+      }
+    }
+
+    return new Cursor() {
+      @Override
+      boolean next() throws IOException {
+        final Cursor cursor = queue.poll();
+        if (cursor == null) {
+          current = null;
+          return false;
+        }
+
+        current = cursor.current;
+        sequence = cursor.sequence;
+        if (cursor.next()) {
+          queue.add(cursor);
+        }
+        return true;
+      }
+    };
+  }
+
+  /** @return stream of the results which are read by the cursor */
+  static OExecutionStream stream(final Cursor cursor) {
+    return new OExecutionStream() {
+      private boolean fetched;
+      private boolean hasNext;
+
+      @Override
+      public boolean hasNext(OCommandContext ctx) {
+        if (!fetched) {
+          try {
+            hasNext = cursor.next();
+          } catch (final IOException e) {
+            throw OException.wrapException(
+                new OCommandExecutionException("Error on reading of spilled query results"), e);
+          }
+          fetched = true;
+        }
+        return hasNext;
+      }
+
+      @Override
+      public OResult next(OCommandContext ctx) {
+        if (!hasNext(ctx)) {
+          throw new IllegalStateException();
+        }
+        fetched = false;
+        return cursor.getCurrent();
+      }
+
+      @Override
+      public void close(OCommandContext ctx) {}
+    };
+  }
+
+  @Override
+  public void close() {
+    try {
+      if (output != null) {
+        output.close();
+        output = null;
+      }
+      for (final DataInputStream input : openedInputs) {
+        input.close();
+      }
+    } catch (final IOException e) {
+      logger.warn("Error on closing of temporary file %s", e, file);
+    }
+    openedInputs.clear();
+
+    if (!file.delete() && file.exists()) {
+      logger.warn("Can not delete temporary file %s", file);
+    }
+  }
+
+  /** Reads results one by one, the result is available after a successful call of next(). */
+  abstract static class Cursor {
+    protected OResult current;
+    protected long sequence;
+
+    /** @return <code>false</code> if there are no more results */
+    abstract boolean next() throws IOException;
+
+    OResult getCurrent() {
+      return current;
+    }
+
+    long getSequence() {
+      return sequence;
+    }
+  }
+
+  private final class FileCursor extends Cursor {
+    private final DataInputStream input;
+    private long remaining;
+
+    private FileCursor(final DataInputStream input, final long count) {
+      this.input = input;
+      this.remaining = count;
+    }
+
+    @Override
+    boolean next() throws IOException {
+      if (remaining == 0) {
+        current = null;
+        return false;
+      }
+
+      sequence = input.readLong();
+      final byte type = input.readByte();
+      if (type == RECORD) {
+        final int clusterId = input.readInt();
+        final long clusterPosition = input.readLong();
+        final OResultInternal record =
+            new OResultInternal(new ORecordId(clusterId, clusterPosition));
+
+        final OResultInternal metadata = readSerialized();
+        if (metadata != null) {
+          for (final String key : metadata.getMetadataKeys()) {
+            record.setMetadata(key, metadata.getMetadata(key));
+          }
+        }
+        current = record;
+      } else {
+        current = readSerialized();
+      }
+      remaining--;
+      return true;
+    }
+
+    private OResultInternal readSerialized() throws IOException {
+      final int length = input.readInt();
+      if (length == 0) {
+        return null;
+      }
+      final byte[] content = new byte[length];
+      input.readFully(content);
+      return serializer.deserialize(new BytesContainer(content));
+    }
+  }
+}
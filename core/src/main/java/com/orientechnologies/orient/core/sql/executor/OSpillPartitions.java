@@ -0,0 +1,89 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Results spilled by a hash operator, split into partitions by the hash of their keys, so equal
+ * keys always end up in the same partition and each partition can be processed on its own. A
+ * partition which is still too large is partitioned again with the next depth, which mixes hashes
+ * in a different way.
+ */
+final class OSpillPartitions implements AutoCloseable {
+  static final int PARTITIONS = 32;
+
+  /**
+   * Partitions are not split any more at this depth and are processed in memory, it may happen
+   * only if a lot of keys have the same hash.
+   */
+  static final int MAX_DEPTH = 3;
+
+  private final String prefix;
+  private final int depth;
+  private final OSpillFile[] files = new OSpillFile[PARTITIONS];
+
+  OSpillPartitions(final String prefix, final int depth) {
+    this.prefix = prefix;
+    this.depth = depth;
+  }
+
+  int getDepth() {
+    return depth;
+  }
+
+  void write(final int hash, final OResult result, final long sequence) throws IOException {
+    final int partition = partition(hash);
+    OSpillFile file = files[partition];
+    if (file == null) {
+      file = OSpillFile.create(prefix);
+      files[partition] = file;
+    }
+    file.write(result, sequence);
+  }
+
+  /** @return number of bytes written to all partitions */
+  long getSize() {
+    long size = 0;
+    for (final OSpillFile file : files) {
+      if (file != null) {
+        size += file.getSize();
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Hands the non empty partitions over to the caller, which becomes responsible for closing them.
+   */
+  List<OSpillFile> detach() {
+    final List<OSpillFile> result = new ArrayList<>();
+    for (int i = 0; i < files.length; i++) {
+      if (files[i] != null) {
+        result.add(files[i]);
+        files[i] = null;
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public void close() {
+    for (int i = 0; i < files.length; i++) {
+      if (files[i] != null) {
+        files[i].close();
+        files[i] = null;
+      }
+    }
+  }
+
+  private int partition(final int hash) {
+    int h = hash ^ (depth * 0x9E3779B9);
+    h ^= h >>> 16;
+    h *= 0x85EBCA6B;
+    h ^= h >>> 13;
+    h *= 0xC2B2AE35;
+    h ^= h >>> 16;
+    return (h & Integer.MAX_VALUE) % PARTITIONS;
+  }
+}
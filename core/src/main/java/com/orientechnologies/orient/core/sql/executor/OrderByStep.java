@@ -1,20 +1,27 @@
 package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
+import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStream;
 import com.orientechnologies.orient.core.sql.parser.OOrderBy;
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 
 /** Created by luigidellaquila on 11/07/16. */
 public class OrderByStep extends AbstractExecutionStep {
   private final OOrderBy orderBy;
   private final long timeoutMillis;
   private Integer maxResults;
+  private long spilledBytes;
+
+  /** Maximum number of sorted runs which are merged at once. */
+  private static final int MAX_MERGED_RUNS = 64;
 
   public OrderByStep(
       OOrderBy orderBy, OCommandContext ctx, long timeoutMillis, boolean profilingEnabled) {
@@ -38,59 +45,229 @@ public class OrderByStep extends AbstractExecutionStep {
 
   @Override
   public OExecutionStream internalStart(OCommandContext ctx) throws OTimeoutException {
-    List<OResult> results;
-    if (prev.isPresent()) {
-      results = init(prev.get(), ctx);
-    } else {
-      results = Collections.emptyList();
+    if (!prev.isPresent()) {
+      return OExecutionStream.empty();
     }
-    return OExecutionStream.resultIterator(results.iterator());
+    return new Sorter(ctx).sort(prev.get());
+  }
+
+  private void spilled(OCommandContext ctx, long bytes) {
+    spilledBytes += bytes;
+    OSpillFile.updateProfiler(ctx, bytes);
   }
 
-  private List<OResult> init(OExecutionStepInternal p, OCommandContext ctx) {
-    long timeoutBegin = System.currentTimeMillis();
-    List<OResult> cachedResult = new ArrayList<>();
-    final long maxElementsAllowed =
-        OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getValueAsLong();
-    boolean sorted = true;
-    OExecutionStream lastBatch = p.start(ctx);
-    while (lastBatch.hasNext(ctx)) {
-      if (timeoutMillis > 0 && timeoutBegin + timeoutMillis < System.currentTimeMillis()) {
-        sendTimeout();
+  /**
+   * Sorts the results of the previous step. With a LIMIT only the best <code>maxResults</code>
+   * results are kept in a bounded heap. Once the results kept in memory exceed the memory budget,
+   * they are sorted and spilled to disk as a sorted run, runs are merged when the results are
+   * fetched. Results which are equal for ORDER BY are returned in the order of the previous step.
+   */
+  private final class Sorter {
+    private final OCommandContext ctx;
+    private final long memoryBudget;
+    private final long maxElementsAllowed;
+    private final Comparator<SortEntry> entryComparator;
+    private final Comparator<OResult> resultComparator;
+
+    private final List<OSpillFile> runs = new ArrayList<>();
+    private List<SortEntry> run = new ArrayList<>();
+    private PriorityQueue<SortEntry> topResults;
+    private long memory;
+    private long sequence;
+
+    private Sorter(OCommandContext ctx) {
+      this.ctx = ctx;
+      this.memoryBudget = getMemoryBudget(ctx);
+      this.maxElementsAllowed =
+          OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getValueAsLong();
+      this.resultComparator = (a, b) -> orderBy.compare(a, b, ctx);
+      this.entryComparator =
+          (a, b) -> {
+            int cmp = orderBy.compare(a.result, b.result, ctx);
+            if (cmp != 0) {
+              return cmp;
+            }
+            return Long.compare(a.sequence, b.sequence);
+          };
+      if (maxResults != null) {
+        topResults =
+            new PriorityQueue<>(Math.min(maxResults, 1024) + 1, entryComparator.reversed());
       }
+    }
 
-      OResult item = lastBatch.next(ctx);
-      cachedResult.add(item);
-      if (maxElementsAllowed >= 0 && maxElementsAllowed < cachedResult.size()) {
-        throw new OCommandExecutionException(
-            "Limit of allowed elements for in-heap ORDER BY in a single query exceeded ("
-                + maxElementsAllowed
-                + ") . You can set "
-                + OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getKey()
-                + " to increase this limit");
+    private OExecutionStream sort(OExecutionStepInternal p) {
+      if (maxResults != null && maxResults == 0) {
+        return OExecutionStream.empty();
       }
-      sorted = false;
-      // compact, only at twice as the buffer, to avoid to do it at each add
-      if (this.maxResults != null) {
-        long compactThreshold = 2L * maxResults;
-        if (compactThreshold < cachedResult.size()) {
-          cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
-          cachedResult = new ArrayList<>(cachedResult.subList(0, maxResults));
-          sorted = true;
+
+      long timeoutBegin = System.currentTimeMillis();
+      try {
+        OExecutionStream lastBatch = p.start(ctx);
+        while (lastBatch.hasNext(ctx)) {
+          if (timeoutMillis > 0 && timeoutBegin + timeoutMillis < System.currentTimeMillis()) {
+            sendTimeout();
+          }
+          OResult item = lastBatch.next(ctx);
+          SortEntry entry = new SortEntry(item, sequence++, OMemoryEstimator.estimate(item));
+          if (topResults != null) {
+            addTopResult(entry);
+          } else {
+            addToRun(entry);
+          }
+        }
+        lastBatch.close(ctx);
+
+        if (topResults != null) {
+          run.addAll(topResults);
+          topResults = null;
+        }
+        run.sort(entryComparator);
+        if (maxResults != null && run.size() > maxResults) {
+          run = run.subList(0, maxResults);
+        }
+
+        if (runs.isEmpty()) {
+          List<OResult> results = new ArrayList<>(run.size());
+          for (SortEntry entry : run) {
+            results.add(entry.result);
+          }
+          return OExecutionStream.resultIterator(results.iterator());
         }
+        spillRun();
+        return mergeRuns();
+      } catch (IOException e) {
+        closeRuns();
+        throw OException.wrapException(
+            new OCommandExecutionException("Error on spilling of ORDER BY to disk"), e);
+      } catch (RuntimeException | Error e) {
+        closeRuns();
+        throw e;
       }
     }
-    lastBatch.close(ctx);
-    // compact at each batch, if needed
-    if (!sorted && this.maxResults != null && maxResults < cachedResult.size()) {
-      cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
-      cachedResult = new ArrayList<>(cachedResult.subList(0, maxResults));
-      sorted = true;
+
+    /** Keeps the entry in the heap of the best results if it is better than the worst of them. */
+    private void addTopResult(SortEntry entry) throws IOException {
+      if (topResults.size() < maxResults) {
+        topResults.add(entry);
+        memory += entry.size;
+      } else if (entryComparator.compare(entry, topResults.peek()) < 0) {
+        memory -= topResults.poll().size;
+        topResults.add(entry);
+        memory += entry.size;
+      } else {
+        return;
+      }
+
+      if (exceedsMemory(topResults.size())) {
+        // the heap is too large for the memory budget, the rest is sorted by runs on disk
+        run.addAll(topResults);
+        topResults = null;
+        spillRun();
+      }
     }
-    if (!sorted) {
-      cachedResult.sort((a, b) -> orderBy.compare(a, b, ctx));
+
+    private void addToRun(SortEntry entry) throws IOException {
+      run.add(entry);
+      memory += entry.size;
+      if (exceedsMemory(run.size())) {
+        spillRun();
+      }
+    }
+
+    private boolean exceedsMemory(int size) {
+      boolean exceedsElements = maxElementsAllowed >= 0 && maxElementsAllowed < size;
+      if (memoryBudget < 0) {
+        if (exceedsElements) {
+          throw new OCommandExecutionException(
+              "Limit of allowed elements for in-heap ORDER BY in a single query exceeded ("
+                  + maxElementsAllowed
+                  + ") . You can set "
+                  + OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getKey()
+                  + " to increase this limit");
+        }
+        return false;
+      }
+      return exceedsElements || memory > memoryBudget;
+    }
+
+    /** Writes the results kept in memory as a sorted run, with a LIMIT only its first results. */
+    private void spillRun() throws IOException {
+      run.sort(entryComparator);
+      int size = maxResults == null ? run.size() : Math.min(run.size(), maxResults);
+
+      OSpillFile file = OSpillFile.create("order-by");
+      runs.add(file);
+      for (int i = 0; i < size; i++) {
+        SortEntry entry = run.get(i);
+        file.write(entry.result, entry.sequence);
+      }
+      spilled(ctx, file.getSize());
+
+      run = new ArrayList<>();
+      memory = 0;
+    }
+
+    private OExecutionStream mergeRuns() throws IOException {
+      // runs are merged in more passes if there are too many of them to be opened at once
+      List<OSpillFile> toMerge = new ArrayList<>(runs);
+      while (toMerge.size() > MAX_MERGED_RUNS) {
+        List<OSpillFile> merged = new ArrayList<>();
+        for (int i = 0; i < toMerge.size(); i += MAX_MERGED_RUNS) {
+          List<OSpillFile> group =
+              toMerge.subList(i, Math.min(i + MAX_MERGED_RUNS, toMerge.size()));
+          OSpillFile file = OSpillFile.create("order-by");
+          runs.add(file);
+
+          OSpillFile.Cursor cursor = OSpillFile.merge(read(group), resultComparator);
+          long written = 0;
+          while ((maxResults == null || written < maxResults) && cursor.next()) {
+            file.write(cursor.getCurrent(), cursor.getSequence());
+            written++;
+          }
+          spilled(ctx, file.getSize());
+
+          for (OSpillFile mergedRun : group) {
+            mergedRun.close();
+            runs.remove(mergedRun);
+          }
+          merged.add(file);
+        }
+        toMerge = merged;
+      }
+
+      OExecutionStream result =
+          OSpillFile.stream(OSpillFile.merge(read(toMerge), resultComparator))
+              .onClose(context -> closeRuns());
+      if (maxResults != null) {
+        result = result.limit(maxResults);
+      }
+      return result;
+    }
+
+    private List<OSpillFile.Cursor> read(List<OSpillFile> files) throws IOException {
+      List<OSpillFile.Cursor> cursors = new ArrayList<>(files.size());
+      for (OSpillFile file : files) {
+        cursors.add(file.read());
+      }
+      return cursors;
+    }
+
+    private void closeRuns() {
+      runs.forEach(OSpillFile::close);
+      runs.clear();
+    }
+  }
+
+  private static final class SortEntry {
+    private final OResult result;
+    private final long sequence;
+    private final long size;
+
+    private SortEntry(OResult result, long sequence, long size) {
+      this.result = result;
+      this.sequence = sequence;
+      this.size = size;
     }
-    return cachedResult;
   }
 
   @Override
@@ -99,6 +276,9 @@ public class OrderByStep extends AbstractExecutionStep {
     if (profilingEnabled) {
       result += " (" + getCostFormatted() + ")";
     }
+    if (spilledBytes > 0) {
+      result += " (spilled to disk: " + spilledBytes + " bytes)";
+    }
     result += (maxResults != null ? "\n  (buffer size: " + maxResults + ")" : "");
     return result;
   }
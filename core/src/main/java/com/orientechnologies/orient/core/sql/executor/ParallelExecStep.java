@@ -2,7 +2,12 @@ package com.orientechnologies.orient.core.sql.executor;
 
 import com.orientechnologies.common.concur.OTimeoutException;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OContextConfiguration;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
 import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStream;
+import com.orientechnologies.orient.core.sql.executor.resultset.OParallelExecutionStream;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -10,12 +15,24 @@ import java.util.stream.Collectors;
 public class ParallelExecStep extends AbstractExecutionStep {
   private final List<OInternalExecutionPlan> subExecutionPlans;
 
+  /** true to execute the sub-plans on worker threads, false to execute them one after another */
+  private final boolean parallel;
+
+  public ParallelExecStep(
+      List<OInternalExecutionPlan> subExecuitonPlans,
+      OCommandContext ctx,
+      boolean profilingEnabled) {
+    this(subExecuitonPlans, ctx, false, profilingEnabled);
+  }
+
   public ParallelExecStep(
       List<OInternalExecutionPlan> subExecuitonPlans,
       OCommandContext ctx,
+      boolean parallel,
       boolean profilingEnabled) {
     super(ctx, profilingEnabled);
     this.subExecutionPlans = subExecuitonPlans;
+    this.parallel = parallel;
   }
 
   @Override
@@ -24,9 +41,34 @@ public class ParallelExecStep extends AbstractExecutionStep {
 
     List<OInternalExecutionPlan> stepsIter = subExecutionPlans;
 
+    if (canRunInParallel(ctx)) {
+      OContextConfiguration conf = ctx.getDatabase().getConfiguration();
+      int workers = conf.getValueAsInteger(OGlobalConfiguration.QUERY_PARALLEL_MAX_WORKERS);
+      if (workers <= 0) {
+        workers = Runtime.getRuntime().availableProcessors();
+      }
+      int queueSize = conf.getValueAsInteger(OGlobalConfiguration.QUERY_PARALLEL_RESULT_QUEUE_SIZE);
+      return new OParallelExecutionStream(stepsIter, workers, queueSize).interruptable();
+    }
+
     return OExecutionStream.streamsFromIterator(stepsIter.iterator(), this::startStep);
   }
 
+  /**
+   * the plan can be cached and executed later inside of a transaction, records changed by the
+   * transaction are not visible to the sessions of the workers, so in this case, as well as in the
+   * workers of another parallel query, the sub-plans are executed sequentially
+   */
+  private boolean canRunInParallel(OCommandContext ctx) {
+    if (!parallel || profilingEnabled || subExecutionPlans.size() < 2) {
+      return false;
+    }
+    ODatabaseSession db = ctx.getDatabase();
+    return db instanceof ODatabaseDocumentInternal
+        && !db.getTransaction().isActive()
+        && !OParallelExecutionStream.isWorkerThread();
+  }
+
   private OExecutionStream startStep(OInternalExecutionPlan step, OCommandContext ctx) {
     return ((OInternalExecutionPlan) step).start(ctx);
   }
@@ -123,7 +165,7 @@ public class ParallelExecStep extends AbstractExecutionStep {
 
   private String head(int depth, int indent, int nItems) {
     String ind = OExecutionStepInternal.getIndent(depth, indent);
-    return ind + "+ PARALLEL";
+    return ind + (parallel ? "+ PARALLEL (WORKER THREADS)" : "+ PARALLEL");
   }
 
   private String foot(int[] blockSizes) {
@@ -165,6 +207,7 @@ public class ParallelExecStep extends AbstractExecutionStep {
     return new ParallelExecStep(
         subExecutionPlans.stream().map(x -> x.copy(ctx)).collect(Collectors.toList()),
         ctx,
+        parallel,
         profilingEnabled);
   }
 }
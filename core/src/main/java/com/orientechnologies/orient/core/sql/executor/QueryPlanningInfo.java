@@ -48,9 +48,15 @@ public class QueryPlanningInfo {
   protected boolean orderApplied = false;
   protected boolean projectionsCalculated = false;
 
+  /** true if results are built from the keys of the index without loading of the records */
+  protected boolean indexOnly = false;
+
   protected OAndBlock ridRangeConditions;
   protected OStorage.LOCKING_STRATEGY lockRecord;
 
+  /** true if the query was declared PARALLEL */
+  protected boolean parallel = false;
+
   public QueryPlanningInfo copy() {
     // TODO check what has to be copied and what can be just referenced as it is
     QueryPlanningInfo result = new QueryPlanningInfo();
@@ -77,10 +83,12 @@ public class QueryPlanningInfo {
     result.skip = this.skip;
     result.limit = this.limit;
     result.orderApplied = this.orderApplied;
+    result.indexOnly = this.indexOnly;
     result.projectionsCalculated = this.projectionsCalculated;
     result.ridRangeConditions = this.ridRangeConditions;
 
     result.lockRecord = this.lockRecord;
+    result.parallel = this.parallel;
     return result;
   }
 }
@@ -40,6 +40,18 @@ public class OCostMeasureExecutionStream implements OExecutionStream {
     }
   }
 
+  @Override
+  public OResultBatch nextBatch(OCommandContext ctx, int maxSize) {
+    long begin = System.nanoTime();
+    ctx.startProfiling(this.step);
+    try {
+      return set.nextBatch(ctx, maxSize);
+    } finally {
+      ctx.endProfiling(this.step);
+      cost += (System.nanoTime() - begin);
+    }
+  }
+
   @Override
   public void close(OCommandContext ctx) {
     set.close(ctx);
@@ -17,6 +17,22 @@ public interface OExecutionStream {
 
   void close(OCommandContext ctx);
 
+  /**
+   * Fetches up to <code>maxSize</code> results at once, operators which support it process the
+   * whole batch in a tight loop instead of a pair of virtual calls for each result. The batch is
+   * owned by the stream and can be reused by the next call, so it has to be consumed before the
+   * stream is invoked again.
+   *
+   * <p>In batch mode <code>$current</code> set by the scans refers to the last result of the batch,
+   * so the operators which evaluate expressions over a batch, like filters, mappings and
+   * aggregations, set it to the result they process.
+   *
+   * @return batch of results, it is empty only if the stream has no more results
+   */
+  public default OResultBatch nextBatch(OCommandContext ctx, int maxSize) {
+    return new OResultBatch(maxSize).fill(this, ctx, maxSize);
+  }
+
   public static OExecutionStream produce(OProduceResult producer) {
     return new OProduceExecutionStream(producer);
   }
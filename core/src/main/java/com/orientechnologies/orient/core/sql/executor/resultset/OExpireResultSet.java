@@ -42,6 +42,17 @@ public final class OExpireResultSet implements OExecutionStream {
     return internal.next(ctx);
   }
 
+  @Override
+  public OResultBatch nextBatch(OCommandContext ctx, int maxSize) {
+    if (System.currentTimeMillis() > expiryTime) {
+      fail();
+    }
+    if (timedOut) {
+      return new OResultBatch(0);
+    }
+    return internal.nextBatch(ctx, maxSize);
+  }
+
   @Override
   public void close(OCommandContext ctx) {
     internal.close(ctx);
@@ -8,6 +8,7 @@ public class OFilterExecutionStream implements OExecutionStream {
   private OExecutionStream prevResult;
   private OFilterResult filter;
   private OResult nextItem = null;
+  private OResultBatch batch;
 
   public OFilterExecutionStream(OExecutionStream resultSet, OFilterResult filter) {
     super();
@@ -41,6 +42,34 @@ public class OFilterExecutionStream implements OExecutionStream {
     return result;
   }
 
+  @Override
+  public OResultBatch nextBatch(OCommandContext ctx, int maxSize) {
+    if (batch == null) {
+      batch = new OResultBatch(maxSize);
+    } else {
+      batch.clear();
+    }
+    if (nextItem != null) {
+      batch.add(nextItem);
+      nextItem = null;
+    }
+    while (batch.isEmpty()) {
+      OResultBatch source = prevResult.nextBatch(ctx, maxSize);
+      if (source.isEmpty()) {
+        break;
+      }
+      for (int i = 0; i < source.size(); i++) {
+        OResult item = source.get(i);
+        ctx.setVariable("$current", item);
+        item = filter.filterMap(item, ctx);
+        if (item != null) {
+          batch.add(item);
+        }
+      }
+    }
+    return batch;
+  }
+
   @Override
   public void close(OCommandContext ctx) {
     this.prevResult.close(ctx);
@@ -15,22 +15,31 @@ public class OInterruptResultSet implements OExecutionStream {
 
   @Override
   public boolean hasNext(OCommandContext ctx) {
-    if (OExecutionThreadLocal.isInterruptCurrentOperation()) {
-      throw new OCommandInterruptedException("The command has been interrupted");
-    }
+    checkInterrupted();
     return source.hasNext(ctx);
   }
 
   @Override
   public OResult next(OCommandContext ctx) {
-    if (OExecutionThreadLocal.isInterruptCurrentOperation()) {
-      throw new OCommandInterruptedException("The command has been interrupted");
-    }
+    checkInterrupted();
     return source.next(ctx);
   }
 
+  @Override
+  public OResultBatch nextBatch(OCommandContext ctx, int maxSize) {
+    checkInterrupted();
+    return source.nextBatch(ctx, maxSize);
+  }
+
   @Override
   public void close(OCommandContext ctx) {
     source.close(ctx);
   }
+
+  private static void checkInterrupted() {
+    if (OExecutionThreadLocal.isInterruptCurrentOperation()
+        || OParallelExecutionStream.isWorkerStopped()) {
+      throw new OCommandInterruptedException("The command has been interrupted");
+    }
+  }
 }
@@ -33,6 +33,16 @@ public class OLimitedExecutionStream implements OExecutionStream {
     }
   }
 
+  @Override
+  public OResultBatch nextBatch(OCommandContext ctx, int maxSize) {
+    if (count >= limit) {
+      return new OResultBatch(0);
+    }
+    OResultBatch batch = upstream.nextBatch(ctx, (int) Math.min(maxSize, limit - count));
+    this.count += batch.size();
+    return batch;
+  }
+
   @Override
   public void close(OCommandContext ctx) {
     upstream.close(ctx);
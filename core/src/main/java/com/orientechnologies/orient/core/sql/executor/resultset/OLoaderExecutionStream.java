@@ -11,6 +11,7 @@ import java.util.Iterator;
 public final class OLoaderExecutionStream implements OExecutionStream {
   private OResult nextResult = null;
   private final Iterator<OIdentifiable> iterator;
+  private OResultBatch batch;
 
   public OLoaderExecutionStream(Iterator<OIdentifiable> iterator) {
     this.iterator = iterator;
@@ -36,6 +37,26 @@ public final class OLoaderExecutionStream implements OExecutionStream {
     return result;
   }
 
+  @Override
+  public OResultBatch nextBatch(OCommandContext ctx, int maxSize) {
+    if (batch == null) {
+      batch = new OResultBatch(maxSize);
+    } else {
+      batch.clear();
+    }
+    if (nextResult != null) {
+      batch.add(nextResult);
+      nextResult = null;
+    }
+    while (batch.size() < maxSize && iterator.hasNext()) {
+      OResult result = load(iterator.next(), ctx);
+      if (result != null) {
+        batch.add(result);
+      }
+    }
+    return batch;
+  }
+
   @Override
   public void close(OCommandContext ctx) {}
 
@@ -44,24 +65,28 @@ public final class OLoaderExecutionStream implements OExecutionStream {
       return;
     }
     while (iterator.hasNext()) {
-      OIdentifiable nextRid = iterator.next();
-      if (nextRid != null) {
-        if (nextRid instanceof ORecord) {
-          nextResult = new OResultInternal((ORecord) nextRid);
-          return;
-        } else {
-          ORecord nextDoc = ctx.getDatabase().load(nextRid.getIdentity());
-          if (nextDoc != null) {
-            OResultInternal res = new OResultInternal(nextDoc);
-            if (nextRid instanceof OContextualRecordId) {
-              res.addMetadata(((OContextualRecordId) nextRid).getContext());
-            }
-            nextResult = res;
-            return;
-          }
-        }
+      nextResult = load(iterator.next(), ctx);
+      if (nextResult != null) {
+        return;
       }
     }
-    return;
+  }
+
+  private static OResult load(OIdentifiable nextRid, OCommandContext ctx) {
+    if (nextRid == null) {
+      return null;
+    }
+    if (nextRid instanceof ORecord) {
+      return new OResultInternal((ORecord) nextRid);
+    }
+    ORecord nextDoc = ctx.getDatabase().load(nextRid.getIdentity());
+    if (nextDoc == null) {
+      return null;
+    }
+    OResultInternal res = new OResultInternal(nextDoc);
+    if (nextRid instanceof OContextualRecordId) {
+      res.addMetadata(((OContextualRecordId) nextRid).getContext());
+    }
+    return res;
   }
 }
@@ -25,6 +25,18 @@ public class OMapExecutionStream implements OExecutionStream {
     return this.mapper.map(upstream.next(ctx), ctx);
   }
 
+  @Override
+  public OResultBatch nextBatch(OCommandContext ctx, int maxSize) {
+    // the batch of the upstream is mapped in place
+    OResultBatch batch = upstream.nextBatch(ctx, maxSize);
+    for (int i = 0; i < batch.size(); i++) {
+      OResult item = batch.get(i);
+      ctx.setVariable("$current", item);
+      batch.set(i, this.mapper.map(item, ctx));
+    }
+    return batch;
+  }
+
   @Override
   public void close(OCommandContext ctx) {
     this.upstream.close(ctx);
@@ -33,6 +33,14 @@ public final class OMultipleExecutionStream implements OExecutionStream {
     return currentStream.next(ctx);
   }
 
+  @Override
+  public OResultBatch nextBatch(OCommandContext ctx, int maxSize) {
+    if (!hasNext(ctx)) {
+      return new OResultBatch(0);
+    }
+    return currentStream.nextBatch(ctx, maxSize);
+  }
+
   @Override
   public void close(OCommandContext ctx) {
     if (currentStream != null) {
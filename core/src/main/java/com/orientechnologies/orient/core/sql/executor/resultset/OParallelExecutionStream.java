@@ -0,0 +1,276 @@
+package com.orientechnologies.orient.core.sql.executor.resultset;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.db.OrientDBInternal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.exception.OCommandInterruptedException;
+import com.orientechnologies.orient.core.sql.executor.OInternalExecutionPlan;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Executes a list of sub-plans on worker threads of the database executor pool and merges their
+ * results through a bounded queue, results of different sub-plans are returned in no particular
+ * order.
+ *
+ * <p>Each worker opens its own session on the database and takes sub-plans one by one until all of
+ * them are executed, so the work is balanced even if there are more sub-plans than workers. When
+ * the queue is full the workers wait for the consumer, when the stream is closed the workers stop
+ * at the next record fetched by their scans, even if the records do not match the filters of the
+ * sub-plans (see {@link #isWorkerStopped()}).
+ *
+ * <p>Workers do not share the context of the consumer, each of them gets its own context with a
+ * copy of the variables and of the input parameters which are visible when the stream starts.
+ */
+public class OParallelExecutionStream implements OExecutionStream {
+  private static final Object END_OF_WORKER = new Object();
+  private static final long OFFER_TIMEOUT_MS = 100;
+
+  private static final ThreadLocal<OParallelExecutionStream> workerStream = new ThreadLocal<>();
+
+  private final List<OInternalExecutionPlan> subPlans;
+  private final int workers;
+  private final BlockingQueue<Object> queue;
+
+  private final AtomicInteger nextSubPlan = new AtomicInteger();
+  private final AtomicReference<Throwable> error = new AtomicReference<>();
+  private final List<Future<?>> jobs = new ArrayList<>();
+
+  private volatile boolean closed = false;
+  private boolean started = false;
+  private int finishedWorkers = 0;
+  private OResult nextResult;
+
+  public OParallelExecutionStream(
+      List<OInternalExecutionPlan> subPlans, int workers, int queueSize) {
+    this.subPlans = subPlans;
+    this.workers = Math.max(1, Math.min(workers, subPlans.size()));
+    this.queue = new ArrayBlockingQueue<>(Math.max(queueSize, 1));
+  }
+
+  /**
+   * @return <code>true</code> if the current thread is a worker of a parallel query, nested queries
+   *     are executed sequentially by the workers to not exhaust the executor pool
+   */
+  public static boolean isWorkerThread() {
+    return workerStream.get() != null;
+  }
+
+  /**
+   * @return <code>true</code> if the current thread is a worker of a parallel query which is closed
+   *     or failed, interruptable streams of the sub-plans stop fetching records in this case
+   */
+  public static boolean isWorkerStopped() {
+    final OParallelExecutionStream stream = workerStream.get();
+    return stream != null && stream.isStopped();
+  }
+
+  @Override
+  public boolean hasNext(OCommandContext ctx) {
+    if (nextResult != null) {
+      return true;
+    }
+    if (closed) {
+      return false;
+    }
+    if (!started) {
+      start(ctx);
+    }
+
+    while (finishedWorkers < workers) {
+      final Object item;
+      try {
+        item = queue.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        close(ctx);
+        throw OException.wrapException(
+            new OCommandInterruptedException("The command has been interrupted"), e);
+      }
+
+      if (item == END_OF_WORKER) {
+        finishedWorkers++;
+        checkError(ctx);
+      } else {
+        nextResult = (OResult) item;
+        return true;
+      }
+    }
+
+    checkError(ctx);
+    return false;
+  }
+
+  @Override
+  public OResult next(OCommandContext ctx) {
+    if (!hasNext(ctx)) {
+      throw new IllegalStateException();
+    }
+    final OResult result = nextResult;
+    nextResult = null;
+    return result;
+  }
+
+  @Override
+  public void close(OCommandContext ctx) {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    nextResult = null;
+    queue.clear();
+
+    // wait for the workers, so no work is running on the storage once the query is closed
+    for (final Future<?> job : jobs) {
+      try {
+        job.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      } catch (ExecutionException ignore) {
+        // the error is kept by the worker itself
+      }
+    }
+  }
+
+  private void start(final OCommandContext ctx) {
+    started = true;
+    final ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    final OrientDBInternal orientDB = db.getSharedContext().getOrientDB();
+
+    // the context of the consumer is not thread safe, so workers get a snapshot of it
+    final Map<String, Object> variables = snapshotVariables(ctx);
+    final Map<Object, Object> inputParameters = ctx.getInputParameters();
+
+    for (int i = 0; i < workers; i++) {
+      final OBasicCommandContext workerCtx = new OBasicCommandContext();
+      for (final Map.Entry<String, Object> variable : variables.entrySet()) {
+        workerCtx.setVariable(variable.getKey(), variable.getValue());
+      }
+      if (inputParameters != null) {
+        workerCtx.setInputParameters(new HashMap<>(inputParameters));
+      }
+
+      // sessions are opened by the consumer, the copy is bound to the thread which creates it
+      final ODatabaseDocumentInternal workerDb;
+      try {
+        workerDb = db.copy();
+      } finally {
+        db.activateOnCurrentThread();
+      }
+
+      try {
+        jobs.add(orientDB.execute(() -> work(workerDb, workerCtx)));
+      } catch (RuntimeException e) {
+        workerDb.activateOnCurrentThread();
+        workerDb.close();
+        db.activateOnCurrentThread();
+        close(ctx);
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * @return variables visible from the context, the variables of the nearer contexts override the
+   *     variables of their parents
+   */
+  private static Map<String, Object> snapshotVariables(final OCommandContext ctx) {
+    final Deque<OCommandContext> hierarchy = new ArrayDeque<>();
+    for (OCommandContext current = ctx; current != null; current = current.getParent()) {
+      hierarchy.push(current);
+    }
+
+    final Map<String, Object> variables = new HashMap<>();
+    for (final OCommandContext current : hierarchy) {
+      variables.putAll(current.getVariables());
+    }
+    return variables;
+  }
+
+  private void work(
+      final ODatabaseDocumentInternal workerDb, final OBasicCommandContext workerCtx) {
+    workerStream.set(this);
+    try {
+      workerDb.activateOnCurrentThread();
+      workerCtx.setDatabase(workerDb);
+
+      int subPlan;
+      while (!isStopped() && (subPlan = nextSubPlan.getAndIncrement()) < subPlans.size()) {
+        final OExecutionStream stream = subPlans.get(subPlan).start(workerCtx);
+        try {
+          while (!isStopped() && stream.hasNext(workerCtx)) {
+            offer(stream.next(workerCtx));
+          }
+        } finally {
+          stream.close(workerCtx);
+        }
+      }
+    } catch (RuntimeException | Error e) {
+      // scans which are interrupted because the stream is closed are not an error
+      if (!closed) {
+        error.compareAndSet(null, e);
+      }
+    } finally {
+      try {
+        workerDb.activateOnCurrentThread();
+        workerDb.close();
+      } finally {
+        ODatabaseRecordThreadLocal.instance().remove();
+        workerStream.remove();
+        offer(END_OF_WORKER);
+      }
+    }
+  }
+
+  private void offer(final Object item) {
+    try {
+      // the consumer does not take items any more once the stream is closed
+      while (!queue.offer(item, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+        if (closed) {
+          return;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(
+          new OCommandInterruptedException("The command has been interrupted"), e);
+    }
+  }
+
+  /** @return <code>true</code> if the stream is closed or one of the workers failed. */
+  private boolean isStopped() {
+    return closed || error.get() != null;
+  }
+
+  private void checkError(final OCommandContext ctx) {
+    final Throwable e = error.get();
+    if (e != null) {
+      close(ctx);
+      if (e instanceof OException) {
+        throw (OException) e;
+      }
+      if (e instanceof Error) {
+        throw (Error) e;
+      }
+      throw OException.wrapException(
+          new OCommandExecutionException("Error on executing parallel query"), e);
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package com.orientechnologies.orient.core.sql.executor.resultset;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import java.util.Arrays;
+
+/**
+ * Block of results returned by {@link OExecutionStream#nextBatch(OCommandContext, int)}. Batches
+ * are reused by the streams which return them, so content of a batch is valid only until the next
+ * call to the stream which returned it.
+ */
+public final class OResultBatch {
+  private OResult[] results;
+  private int size;
+
+  public OResultBatch(int capacity) {
+    this.results = new OResult[Math.max(capacity, 1)];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public OResult get(int index) {
+    if (index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+    }
+    return results[index];
+  }
+
+  public void add(OResult result) {
+    if (size == results.length) {
+      results = Arrays.copyOf(results, size << 1);
+    }
+    results[size++] = result;
+  }
+
+  /** Replaces the result at the passed in position, used by the operators which map in place. */
+  public void set(int index, OResult result) {
+    if (index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+    }
+    results[index] = result;
+  }
+
+  /** Keeps only the first <code>newSize</code> results, used by the filters which compact. */
+  public void truncate(int newSize) {
+    if (newSize < size) {
+      Arrays.fill(results, newSize, size, null);
+      size = newSize;
+    }
+  }
+
+  public void clear() {
+    truncate(0);
+  }
+
+  /**
+   * Fills the batch from the stream one result at a time, it is used by the streams which have no
+   * faster way to produce a batch.
+   *
+   * @return this batch, it is empty only if the stream has no more results
+   */
+  public OResultBatch fill(OExecutionStream stream, OCommandContext ctx, int maxSize) {
+    clear();
+    while (size < maxSize && stream.hasNext(ctx)) {
+      add(stream.next(ctx));
+    }
+    return this;
+  }
+}
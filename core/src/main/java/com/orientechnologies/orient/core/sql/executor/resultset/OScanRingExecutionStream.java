@@ -0,0 +1,59 @@
+package com.orientechnologies.orient.core.sql.executor.resultset;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.storage.cache.OScanBufferRing;
+
+/**
+ * Attaches {@link OScanBufferRing} to the current thread while records are fetched from the source
+ * stream, so pages read by a sequential scan do not pollute the disk cache. Ring is released once
+ * stream is closed.
+ */
+public final class OScanRingExecutionStream implements OExecutionStream {
+  private final OExecutionStream source;
+  private final OScanBufferRing scanRing;
+
+  public OScanRingExecutionStream(OExecutionStream source, int ringSize) {
+    this.source = source;
+    this.scanRing = new OScanBufferRing(ringSize);
+  }
+
+  @Override
+  public boolean hasNext(OCommandContext ctx) {
+    scanRing.attach();
+    try {
+      return source.hasNext(ctx);
+    } finally {
+      scanRing.detach();
+    }
+  }
+
+  @Override
+  public OResult next(OCommandContext ctx) {
+    scanRing.attach();
+    try {
+      return source.next(ctx);
+    } finally {
+      scanRing.detach();
+    }
+  }
+
+  @Override
+  public OResultBatch nextBatch(OCommandContext ctx, int maxSize) {
+    scanRing.attach();
+    try {
+      return source.nextBatch(ctx, maxSize);
+    } finally {
+      scanRing.detach();
+    }
+  }
+
+  @Override
+  public void close(OCommandContext ctx) {
+    try {
+      source.close(ctx);
+    } finally {
+      scanRing.close();
+    }
+  }
+}
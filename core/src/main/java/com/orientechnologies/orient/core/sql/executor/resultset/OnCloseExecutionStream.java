@@ -23,6 +23,11 @@ public class OnCloseExecutionStream implements OExecutionStream {
     return source.next(ctx);
   }
 
+  @Override
+  public OResultBatch nextBatch(OCommandContext ctx, int maxSize) {
+    return source.nextBatch(ctx, maxSize);
+  }
+
   @Override
   public void close(OCommandContext ctx) {
     onClose.close(ctx);
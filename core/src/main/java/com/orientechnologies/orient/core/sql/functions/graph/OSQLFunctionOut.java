@@ -8,12 +8,12 @@ import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.index.OCompositeKey;
 import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexInternal;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.record.ODirection;
 import com.orientechnologies.orient.core.record.OVertex;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import java.util.Collections;
-import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -79,11 +79,14 @@ public class OSQLFunctionOut extends OSQLFunctionMoveFiltered {
     if (edgeClass == null) {
       return null;
     }
-    Set<OIndex> indexes = edgeClass.getInvolvedIndexes("out", "in");
-    if (indexes == null || indexes.size() == 0) {
+    OIndex index =
+        edgeClass.getInvolvedIndexes("out", "in").stream()
+            .filter(x -> !OIndexInternal.isPartialOrExpression(x))
+            .findFirst()
+            .orElse(null);
+    if (index == null) {
       return null;
     }
-    OIndex index = indexes.iterator().next();
 
     OMultiCollectionIterator<OVertex> result = new OMultiCollectionIterator<OVertex>();
     for (OIdentifiable to : iTo) {
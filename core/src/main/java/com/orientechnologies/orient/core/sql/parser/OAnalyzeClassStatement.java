@@ -0,0 +1,108 @@
+/* Generated By:JJTree: Do not edit this line. OAnalyzeClassStatement.java Version 4.3 */
+/* JavaCCOptions:MULTI=true,NODE_USES_PARSER=false,VISITOR=true,TRACK_TOKENS=true,NODE_PREFIX=O,NODE_EXTENDS=,NODE_FACTORY=,SUPPORT_CLASS_VISIBILITY_PUBLIC=true */
+package com.orientechnologies.orient.core.sql.parser;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.statistics.OClassStatistics;
+import com.orientechnologies.orient.core.metadata.statistics.OPropertyStatistics;
+import com.orientechnologies.orient.core.metadata.statistics.OStatisticsManager;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultInternal;
+import com.orientechnologies.orient.core.sql.executor.resultset.OExecutionStream;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <code>ANALYZE CLASS &lt;class&gt;</code> collects statistics of the records of the class used by
+ * the query planners to estimate selectivity of the conditions.
+ */
+public class OAnalyzeClassStatement extends ODDLStatement {
+
+  protected OIdentifier className;
+
+  public OAnalyzeClassStatement(int id) {
+    super(id);
+  }
+
+  public OAnalyzeClassStatement(OrientSql p, int id) {
+    super(p, id);
+  }
+
+  @Override
+  public OExecutionStream executeDDL(OCommandContext ctx) {
+    ODatabaseDocumentInternal db = (ODatabaseDocumentInternal) ctx.getDatabase();
+    OClass clazz = db.getMetadata().getSchema().getClass(className.getStringValue());
+    if (clazz == null) {
+      throw new OCommandExecutionException("Schema Class not found: " + className);
+    }
+    OStatisticsManager statisticsManager = db.getSharedContext().getStatisticsManager();
+    if (statisticsManager == null) {
+      throw new OCommandExecutionException("Statistics are not supported by this database");
+    }
+    if (db.getTransaction().isActive()) {
+      throw new OCommandExecutionException("Cannot analyze class " + className + " in transaction");
+    }
+
+    OClassStatistics statistics = statisticsManager.analyze(db, clazz);
+
+    Map<String, Object> properties = new TreeMap<>();
+    for (Map.Entry<String, OPropertyStatistics> entry : statistics.getProperties().entrySet()) {
+      OPropertyStatistics property = entry.getValue();
+      double[] histogram = property.getHistogram();
+      OResultInternal propertyResult = new OResultInternal();
+      propertyResult.setProperty("nullFraction", property.getNullFraction());
+      propertyResult.setProperty("distinctValues", property.getDistinctValues());
+      propertyResult.setProperty("histogramBuckets", histogram == null ? 0 : histogram.length - 1);
+      properties.put(entry.getKey(), propertyResult);
+    }
+
+    OResultInternal result = new OResultInternal();
+    result.setProperty("operation", "analyze class");
+    result.setProperty("className", clazz.getName());
+    result.setProperty("count", statistics.getCount());
+    result.setProperty("properties", properties);
+    return OExecutionStream.resultIterator(Collections.<OResult>singletonList(result).iterator());
+  }
+
+  @Override
+  public void toString(Map<Object, Object> params, StringBuilder builder) {
+    builder.append("ANALYZE CLASS ");
+    className.toString(params, builder);
+  }
+
+  @Override
+  public void toGenericStatement(StringBuilder builder) {
+    builder.append("ANALYZE CLASS ");
+    className.toGenericStatement(builder);
+  }
+
+  @Override
+  public OAnalyzeClassStatement copy() {
+    OAnalyzeClassStatement result = new OAnalyzeClassStatement(-1);
+    result.className = className == null ? null : className.copy();
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+
+    OAnalyzeClassStatement that = (OAnalyzeClassStatement) o;
+
+    if (className != null ? !className.equals(that.className) : that.className != null)
+      return false;
+
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    return className != null ? className.hashCode() : 0;
+  }
+}
+/* JavaCC - OriginalChecksum=5c3a1e8b7d2f4a6c9e0b1d3f5a7c9e1b (do not edit this line) */
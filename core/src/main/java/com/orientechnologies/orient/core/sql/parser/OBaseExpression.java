@@ -267,6 +267,11 @@ public class OBaseExpression extends OMathExpression {
         : null;
   }
 
+  /** @return true if the expression is a number or a string which does not depend on parameters */
+  public boolean isLiteral() {
+    return (number != null || string != null) && modifier == null;
+  }
+
   public boolean isEarlyCalculated(OCommandContext ctx) {
     if (number != null || inputParam != null || string != null) {
       return true;
@@ -538,6 +538,13 @@ public class OBinaryCondition extends OBooleanExpression {
   }
 
   public boolean isIndexAware(OIndexSearchInfo info, OCommandContext ctx) {
+    if (info.getExpression() != null) {
+      // keys of expression index are matched only by the same expression
+      return left.equals(info.getExpression())
+          && right.isEarlyCalculated(info.getCtx())
+          && (operator instanceof OEqualsCompareOperator
+              || info.allowsRange() && operator.isRange());
+    }
     if (left.isBaseIdentifier()) {
       if (info.getField().equals(left.getDefaultAlias().getStringValue())) {
         if (right.isEarlyCalculated(info.getCtx())) {
@@ -12,6 +12,7 @@ import com.orientechnologies.orient.core.index.OIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndexDefinitionFactory;
 import com.orientechnologies.orient.core.index.OIndexException;
 import com.orientechnologies.orient.core.index.OIndexFactory;
+import com.orientechnologies.orient.core.index.OIndexFilter;
 import com.orientechnologies.orient.core.index.OIndexes;
 import com.orientechnologies.orient.core.index.OSimpleKeyIndexDefinition;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
@@ -37,6 +38,7 @@ public class OCreateIndexStatement extends ODDLStatement {
   protected OIdentifier engine;
   protected List<OIdentifier> keyTypes = new ArrayList<OIdentifier>();
   protected OJson metadata;
+  protected OWhereClause whereClause;
   protected boolean ifNotExists = false;
 
   public OCreateIndexStatement(int id) {
@@ -253,10 +255,17 @@ public class OCreateIndexStatement extends ODDLStatement {
 
   /** returns index metadata as an ODocuemnt (as expected by Index API) */
   private ODocument calculateMetadata(OCommandContext ctx) {
-    if (metadata == null) {
+    if (metadata == null && whereClause == null) {
       return null;
     }
-    return metadata.toDocument(null, ctx);
+    ODocument result = metadata == null ? new ODocument() : metadata.toDocument(null, ctx);
+    if (whereClause != null) {
+      // predicate of partial index is stored in index metadata
+      StringBuilder predicate = new StringBuilder();
+      whereClause.toString(ctx.getInputParameters(), predicate);
+      result.field(OIndexFilter.WHERE, predicate.toString());
+    }
+    return result;
   }
 
   private OType[] calculateKeyTypes(OCommandContext ctx) {
@@ -340,6 +349,10 @@ public class OCreateIndexStatement extends ODDLStatement {
       builder.append(" METADATA ");
       metadata.toString(params, builder);
     }
+    if (whereClause != null) {
+      builder.append(" WHERE ");
+      whereClause.toString(params, builder);
+    }
   }
 
   @Override
@@ -394,6 +407,10 @@ public class OCreateIndexStatement extends ODDLStatement {
       builder.append(" METADATA ");
       metadata.toGenericStatement(builder);
     }
+    if (whereClause != null) {
+      builder.append(" WHERE ");
+      whereClause.toGenericStatement(builder);
+    }
   }
 
   @Override
@@ -410,6 +427,7 @@ public class OCreateIndexStatement extends ODDLStatement {
     result.keyTypes =
         keyTypes == null ? null : keyTypes.stream().map(x -> x.copy()).collect(Collectors.toList());
     result.metadata = metadata == null ? null : metadata.copy();
+    result.whereClause = whereClause == null ? null : whereClause.copy();
     return result;
   }
 
@@ -428,7 +446,8 @@ public class OCreateIndexStatement extends ODDLStatement {
     if (type != null ? !type.equals(that.type) : that.type != null) return false;
     if (engine != null ? !engine.equals(that.engine) : that.engine != null) return false;
     if (keyTypes != null ? !keyTypes.equals(that.keyTypes) : that.keyTypes != null) return false;
-    return metadata != null ? metadata.equals(that.metadata) : that.metadata == null;
+    if (metadata != null ? !metadata.equals(that.metadata) : that.metadata != null) return false;
+    return whereClause != null ? whereClause.equals(that.whereClause) : that.whereClause == null;
   }
 
   @Override
@@ -440,6 +459,7 @@ public class OCreateIndexStatement extends ODDLStatement {
     result = 31 * result + (engine != null ? engine.hashCode() : 0);
     result = 31 * result + (keyTypes != null ? keyTypes.hashCode() : 0);
     result = 31 * result + (metadata != null ? metadata.hashCode() : 0);
+    result = 31 * result + (whereClause != null ? whereClause.hashCode() : 0);
     return result;
   }
 
@@ -157,6 +157,20 @@ public class OExpression extends SimpleNode {
     return Optional.empty();
   }
 
+  /**
+   * @return true if the expression is a literal value, unlike the early calculated expressions its
+   *     value does not depend on the parameters of the query
+   */
+  public boolean isLiteral() {
+    if (booleanValue != null) {
+      return true;
+    }
+    if (mathExpression instanceof OBaseExpression) {
+      return ((OBaseExpression) mathExpression).isLiteral();
+    }
+    return false;
+  }
+
   public boolean isEarlyCalculated(OCommandContext ctx) {
     if (this.mathExpression != null) {
       return this.mathExpression.isEarlyCalculated(ctx);
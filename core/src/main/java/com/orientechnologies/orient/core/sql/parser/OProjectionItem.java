@@ -63,6 +63,10 @@ public class OProjectionItem extends SimpleNode {
     this.all = all;
   }
 
+  public boolean isExclude() {
+    return exclude;
+  }
+
   public OIdentifier getAlias() {
     return alias;
   }
@@ -341,6 +345,10 @@ public class OProjectionItem extends SimpleNode {
     }
   }
 
+  public ONestedProjection getNestedProjection() {
+    return nestedProjection;
+  }
+
   public void setNestedProjection(ONestedProjection nestedProjection) {
     this.nestedProjection = nestedProjection;
   }
@@ -12,9 +12,12 @@ import com.orientechnologies.orient.core.index.OCompositeIndexDefinition;
 import com.orientechnologies.orient.core.index.OCompositeKey;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.index.OIndexDefinition;
+import com.orientechnologies.orient.core.index.OIndexInternal;
 import com.orientechnologies.orient.core.index.OPropertyIndexDefinition;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.metadata.statistics.OClassStatistics;
+import com.orientechnologies.orient.core.metadata.statistics.OStatisticsManager;
 import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.core.sql.executor.OResultInternal;
 import com.orientechnologies.orient.core.sql.executor.metadata.OIndexCandidate;
@@ -73,14 +76,22 @@ public class OWhereClause extends SimpleNode {
   }
 
   /**
-   * estimates how many items of this class will be returned applying this filter
+   * estimates how many items of this class will be returned applying this filter. If the class was
+   * analyzed the estimation is based on its statistics, otherwise half of the records are supposed
+   * to match the filter; indexes on the filtered fields may refine the estimation.
    *
    * @return an estimation of the number of records of this class returned applying this filter, 0
    *     if and only if sure that no records are returned
    */
   public long estimate(OClass oClass, long threshold, OCommandContext ctx) {
     long count = oClass.count();
-    if (count > 1) {
+    List<OAndBlock> flattenedConditions = flatten();
+    OClassStatistics statistics =
+        OStatisticsManager.getStatistics(
+            (ODatabaseDocumentInternal) ctx.getDatabase(), oClass.getName());
+    if (statistics != null) {
+      count = statistics.estimate(flattenedConditions, count, ctx);
+    } else if (count > 1) {
       count = count / 2;
     }
     if (count < threshold) {
@@ -88,7 +99,6 @@ public class OWhereClause extends SimpleNode {
     }
 
     long indexesCount = 0L;
-    List<OAndBlock> flattenedConditions = flatten();
     Set<OIndex> indexes = oClass.getIndexes();
     for (OAndBlock condition : flattenedConditions) {
 
@@ -112,7 +122,8 @@ public class OWhereClause extends SimpleNode {
         Map<String, Object> conditions = getEqualityOperations(condition, ctx);
 
         for (OIndex index : indexes) {
-          if (index.getType().equals(OClass.INDEX_TYPE.FULLTEXT.name())) {
+          if (index.getType().equals(OClass.INDEX_TYPE.FULLTEXT.name())
+              || OIndexInternal.isPartialOrExpression(index)) {
             continue;
           }
           List<String> indexedFields = index.getDefinition().getFields();
@@ -192,6 +203,9 @@ public class OWhereClause extends SimpleNode {
       Map<String, Object> bestCondition = null;
 
       for (OIndex index : indexes) {
+        if (OIndexInternal.isPartialOrExpression(index)) {
+          continue;
+        }
         List<String> indexedFields = index.getDefinition().getFields();
         int nMatchingKeys = 0;
         for (String indexedField : indexedFields) {
@@ -164,159 +164,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       label_1:
       while (true) {
-        switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
-          case SELECT:
-          case TRAVERSE:
-          case MATCH:
-          case INSERT:
-          case CREATE:
-          case DELETE:
-          case UPDATE:
-          case TO:
-          case WHILE:
-          case VALUE:
-          case VALUES:
-          case SET:
-          case ADD:
-          case PUT:
-          case MERGE:
-          case CONTENT:
-          case REMOVE:
-          case NULL:
-          case ORDER:
-          case GROUP:
-          case OFFSET:
-          case RETURN:
-          case RECORD:
-          case LET:
-          case CACHE:
-          case CYCLE:
-          case NOLIMIT:
-          case NOCYCLE:
-          case LUCENE:
-          case NEAR:
-          case WITHIN:
-          case MINDEPTH:
-          case CLASS:
-          case SUPERCLASS:
-          case CLASSES:
-          case SUPERCLASSES:
-          case VIEW:
-          case UPDATABLE:
-          case EXCEPTION:
-          case PROFILE:
-          case STORAGE:
-          case ON:
-          case OFF:
-          case TRUNCATE:
-          case FIND:
-          case REFERENCES:
-          case EXTENDS:
-          case CLUSTERS:
-          case ABSTRACT:
-          case ALTER:
-          case NAME:
-          case SHORTNAME:
-          case OVERSIZE:
-          case STRICTMODE:
-          case ADDCLUSTER:
-          case REMOVECLUSTER:
-          case CUSTOM:
-          case CLUSTERSELECTION:
-          case DESCRIPTION:
-          case ENCRYPTION:
-          case DROP:
-          case PROPERTY:
-          case FORCE:
-          case METADATA:
-          case INDEX:
-          case COLLATE:
-          case ENGINE:
-          case REBUILD:
-          case ID:
-          case DATABASE:
-          case OPTIMIZE:
-          case LINK:
-          case TYPE:
-          case INVERSE:
-          case EXPLAIN:
-          case GRANT:
-          case REVOKE:
-          case READ:
-          case EXECUTE:
-          case ALL:
-          case NONE:
-          case FUNCTION:
-          case PARAMETERS:
-          case IDEMPOTENT:
-          case LANGUAGE:
-          case BEGIN:
-          case COMMIT:
-          case ROLLBACK:
-          case IF:
-          case ELSE:
-          case CONTINUE:
-          case FAIL:
-          case ISOLATION:
-          case SLEEP:
-          case CONSOLE:
-          case BLOB:
-          case SHARED:
-          case DEFAULT_:
-          case SEQUENCE:
-          case START:
-          case OPTIONAL:
-          case COUNT:
-          case DISTINCT:
-          case HA:
-          case STATUS:
-          case SERVER:
-          case SYNC:
-          case EXISTS:
-          case FOREACH:
-          case MOVE:
-          case DEPTH_ALIAS:
-          case PATH_ALIAS:
-          case IDENTIFIED:
-          case ROLE:
-          case USER:
-          case USERS:
-          case RID:
-          case SECURITY:
-          case POLICY:
-          case DEFAULTCLUSTER:
-          case SYSTEM:
-          case THIS:
-          case RECORD_ATTRIBUTE:
-          case RID_STRING:
-          case TRUE:
-          case FALSE:
-          case INTEGER_LITERAL:
-          case FLOATING_POINT_LITERAL:
-          case CHARACTER_LITERAL:
-          case STRING_LITERAL:
-          case LPAREN:
-          case LBRACE:
-          case LBRACKET:
-          case SEMICOLON:
-          case HOOK:
-          case COLON:
-          case MINUS:
-          case STAR:
-          case IN:
-          case KEY:
-          case IDENTIFIER:
-          case QUOTED_IDENTIFIER:
-          case 271:
-            {
-              ;
-              break;
-            }
-          default:
-            jj_la1[2] = jj_gen;
-            break label_1;
+        if (jj_2_3(1)) {
+          ;
+        } else {
+          break label_1;
         }
-        if (jj_2_3(2147483647)) {
+        if (jj_2_4(2147483647)) {
           last = StatementSemicolon();
           result.add(last);
         } else {
@@ -345,7 +198,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 break;
               }
             default:
-              jj_la1[3] = jj_gen;
+              jj_la1[2] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -452,7 +305,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[4] = jj_gen;
+          jj_la1[3] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -1042,7 +895,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[5] = jj_gen;
+          jj_la1[4] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -1084,7 +937,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[6] = jj_gen;
+          jj_la1[5] = jj_gen;
           ;
       }
       tokenVal = jj_consume_token(INTEGER_LITERAL);
@@ -1121,7 +974,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[7] = jj_gen;
+          jj_la1[6] = jj_gen;
           ;
       }
       tokenVal = jj_consume_token(FLOATING_POINT_LITERAL);
@@ -1149,9 +1002,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     ONumber result;
     try {
-      if (jj_2_4(2147483647)) {
+      if (jj_2_5(2147483647)) {
         result = Integer();
-      } else if (jj_2_5(2147483647)) {
+      } else if (jj_2_6(2147483647)) {
         result = FloatingPoint();
       } else {
         jj_consume_token(-1);
@@ -1200,7 +1053,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     OServerStatement result = null;
     try {
-      if (jj_2_6(2)) {
+      if (jj_2_7(2)) {
         result = CreateDatabaseStatement();
       } else {
         switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -1210,12 +1063,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[8] = jj_gen;
-            if (jj_2_7(3)) {
+            jj_la1[7] = jj_gen;
+            if (jj_2_8(3)) {
               result = CreateSystemUserStatement();
-            } else if (jj_2_8(3)) {
-              result = AlterSystemRoleStatement();
             } else if (jj_2_9(3)) {
+              result = AlterSystemRoleStatement();
+            } else if (jj_2_10(3)) {
               result = ExistsSystemUserStatement();
             } else {
               jj_consume_token(-1);
@@ -1274,7 +1127,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[9] = jj_gen;
+          jj_la1[8] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -1320,7 +1173,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     OStatement result = null;
     try {
-      if (jj_2_10(2147483647)) {
+      if (jj_2_11(2147483647)) {
         result = StatementInternal();
       } else {
         switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -1460,7 +1313,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[10] = jj_gen;
+            jj_la1[9] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -1509,7 +1362,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     OStatement result = null;
     try {
-      if (jj_2_53(2)) {
+      if (jj_2_54(2)) {
         switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
           case SELECT:
           case TRAVERSE:
@@ -1520,12 +1373,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[11] = jj_gen;
-            if (jj_2_11(2)) {
+            jj_la1[10] = jj_gen;
+            if (jj_2_12(2)) {
               result = DeleteStatement();
-            } else if (jj_2_12(2)) {
-              result = DeleteVertexStatement();
             } else if (jj_2_13(2)) {
+              result = DeleteVertexStatement();
+            } else if (jj_2_14(2)) {
               result = DeleteEdgeStatement();
             } else {
               switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -1535,44 +1388,44 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[12] = jj_gen;
-                  if (jj_2_14(2)) {
+                  jj_la1[11] = jj_gen;
+                  if (jj_2_15(2)) {
                     result = CreateClassStatement();
-                  } else if (jj_2_15(2)) {
-                    result = CreateViewStatement();
                   } else if (jj_2_16(2)) {
-                    result = CreatePropertyStatement();
+                    result = CreateViewStatement();
                   } else if (jj_2_17(2)) {
-                    result = CreateIndexStatement();
+                    result = CreatePropertyStatement();
                   } else if (jj_2_18(2)) {
-                    result = CreateClusterStatement();
+                    result = CreateIndexStatement();
                   } else if (jj_2_19(2)) {
-                    result = CreateLinkStatement();
+                    result = CreateClusterStatement();
                   } else if (jj_2_20(2)) {
-                    result = CreateFunctionStatement();
+                    result = CreateLinkStatement();
                   } else if (jj_2_21(2)) {
-                    result = CreateUserStatement();
+                    result = CreateFunctionStatement();
                   } else if (jj_2_22(2)) {
-                    result = DropUserStatement();
+                    result = CreateUserStatement();
                   } else if (jj_2_23(2)) {
-                    result = AlterRoleStatement();
+                    result = DropUserStatement();
                   } else if (jj_2_24(2)) {
-                    result = CreateSecurityPolicyStatement();
+                    result = AlterRoleStatement();
                   } else if (jj_2_25(2)) {
-                    result = AlterSecurityPolicyStatement();
+                    result = CreateSecurityPolicyStatement();
                   } else if (jj_2_26(2)) {
+                    result = AlterSecurityPolicyStatement();
+                  } else if (jj_2_27(2)) {
                     result = CreateSequenceStatement();
-                  } else if (jj_2_27(2147483647)) {
-                    result = CreateVertexStatementNoTarget();
                   } else if (jj_2_28(2147483647)) {
-                    result = CreateVertexStatement();
+                    result = CreateVertexStatementNoTarget();
                   } else if (jj_2_29(2147483647)) {
-                    result = CreateVertexStatementEmptyNoTarget();
+                    result = CreateVertexStatement();
                   } else if (jj_2_30(2147483647)) {
-                    result = CreateEdgeStatement();
+                    result = CreateVertexStatementEmptyNoTarget();
                   } else if (jj_2_31(2147483647)) {
-                    result = UpdateEdgeStatement();
+                    result = CreateEdgeStatement();
                   } else if (jj_2_32(2147483647)) {
+                    result = UpdateEdgeStatement();
+                  } else if (jj_2_33(2147483647)) {
                     result = UpdateStatement();
                   } else {
                     switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -1582,28 +1435,28 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                           break;
                         }
                       default:
-                        jj_la1[13] = jj_gen;
-                        if (jj_2_33(2147483647)) {
+                        jj_la1[12] = jj_gen;
+                        if (jj_2_34(2147483647)) {
                           result = ProfileStorageStatement();
-                        } else if (jj_2_34(2147483647)) {
-                          result = TruncateClassStatement();
                         } else if (jj_2_35(2147483647)) {
-                          result = TruncateClusterStatement();
+                          result = TruncateClassStatement();
                         } else if (jj_2_36(2147483647)) {
+                          result = TruncateClusterStatement();
+                        } else if (jj_2_37(2147483647)) {
                           result = TruncateRecordStatement();
-                        } else if (jj_2_37(2)) {
+                        } else if (jj_2_38(2)) {
                           result = AlterSequenceStatement();
-                        } else if (jj_2_38(2147483647)) {
+                        } else if (jj_2_39(2147483647)) {
                           result = AlterClassStatement();
-                        } else if (jj_2_39(2)) {
+                        } else if (jj_2_40(2)) {
                           result = DropSequenceStatement();
-                        } else if (jj_2_40(2147483647)) {
-                          result = DropClassStatement();
                         } else if (jj_2_41(2147483647)) {
-                          result = DropViewStatement();
+                          result = DropClassStatement();
                         } else if (jj_2_42(2147483647)) {
-                          result = AlterPropertyStatement();
+                          result = DropViewStatement();
                         } else if (jj_2_43(2147483647)) {
+                          result = AlterPropertyStatement();
+                        } else if (jj_2_44(2147483647)) {
                           result = DropPropertyStatement();
                         } else {
                           switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -1613,14 +1466,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                 break;
                               }
                             default:
-                              jj_la1[14] = jj_gen;
-                              if (jj_2_44(2)) {
+                              jj_la1[13] = jj_gen;
+                              if (jj_2_45(2)) {
                                 result = DropIndexStatement();
-                              } else if (jj_2_45(2147483647)) {
+                              } else if (jj_2_46(2147483647)) {
                                 result = AlterClusterStatement();
-                              } else if (jj_2_46(2)) {
-                                result = DropClusterStatement();
                               } else if (jj_2_47(2)) {
+                                result = DropClusterStatement();
+                              } else if (jj_2_48(2)) {
                                 result = AlterDatabaseStatement();
                               } else {
                                 switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -1675,16 +1528,16 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                       break;
                                     }
                                   default:
-                                    jj_la1[15] = jj_gen;
-                                    if (jj_2_48(2147483647)) {
+                                    jj_la1[14] = jj_gen;
+                                    if (jj_2_49(2147483647)) {
                                       result = HaRemoveServerStatement();
-                                    } else if (jj_2_49(2147483647)) {
-                                      result = HaStatusStatement();
                                     } else if (jj_2_50(2147483647)) {
-                                      result = HaSyncDatabaseStatement();
+                                      result = HaStatusStatement();
                                     } else if (jj_2_51(2147483647)) {
-                                      result = HaSyncClusterStatement();
+                                      result = HaSyncDatabaseStatement();
                                     } else if (jj_2_52(2147483647)) {
+                                      result = HaSyncClusterStatement();
+                                    } else if (jj_2_53(2147483647)) {
                                       result = HaSetStatement();
                                     } else {
                                       jj_consume_token(-1);
@@ -1707,8 +1560,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[16] = jj_gen;
-            if (jj_2_54(2147483647)) {
+            jj_la1[15] = jj_gen;
+            if (jj_2_55(2147483647)) {
               result = ProfileStatement();
             } else {
               switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -1718,9 +1571,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[17] = jj_gen;
-                  jj_consume_token(-1);
-                  throw new ParseException();
+                  jj_la1[16] = jj_gen;
+                  if (getToken(1).kind == IDENTIFIER
+                      && getToken(1).image.equalsIgnoreCase("analyze")) {
+                    result = AnalyzeClassStatement();
+                  } else {
+                    jj_consume_token(-1);
+                    throw new ParseException();
+                  }
               }
             }
         }
@@ -1811,7 +1669,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     OStatement result;
     try {
-      if (jj_2_55(2147483647)) {
+      if (jj_2_56(2147483647)) {
         result = SelectStatement();
       } else {
         switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -1831,8 +1689,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[18] = jj_gen;
-            if (jj_2_56(2147483647)) {
+            jj_la1[17] = jj_gen;
+            if (jj_2_57(2147483647)) {
               result = FindReferencesStatement();
             } else {
               jj_consume_token(-1);
@@ -1892,7 +1750,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[19] = jj_gen;
+          jj_la1[18] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -1902,7 +1760,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[20] = jj_gen;
+          jj_la1[19] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -1922,7 +1780,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                         break;
                       }
                     default:
-                      jj_la1[21] = jj_gen;
+                      jj_la1[20] = jj_gen;
                       ;
                   }
                   break;
@@ -1938,20 +1796,20 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                         break;
                       }
                     default:
-                      jj_la1[22] = jj_gen;
+                      jj_la1[21] = jj_gen;
                       ;
                   }
                   break;
                 }
               default:
-                jj_la1[23] = jj_gen;
+                jj_la1[22] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
             break;
           }
         default:
-          jj_la1[24] = jj_gen;
+          jj_la1[23] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -1961,7 +1819,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[25] = jj_gen;
+          jj_la1[24] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -1971,7 +1829,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[26] = jj_gen;
+          jj_la1[25] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -2010,14 +1868,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[27] = jj_gen;
+                jj_la1[26] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
             break;
           }
         default:
-          jj_la1[28] = jj_gen;
+          jj_la1[27] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -2028,7 +1886,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[29] = jj_gen;
+          jj_la1[28] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -2039,7 +1897,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[30] = jj_gen;
+          jj_la1[29] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -2224,7 +2082,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[31] = jj_gen;
+          jj_la1[30] = jj_gen;
           ;
       }
       jj_consume_token(FROM);
@@ -2236,7 +2094,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[32] = jj_gen;
+          jj_la1[31] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -2247,7 +2105,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[33] = jj_gen;
+          jj_la1[32] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -2257,7 +2115,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[34] = jj_gen;
+          jj_la1[33] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -2267,7 +2125,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[35] = jj_gen;
+          jj_la1[34] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -2277,7 +2135,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[36] = jj_gen;
+          jj_la1[35] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -2297,7 +2155,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                         break;
                       }
                     default:
-                      jj_la1[37] = jj_gen;
+                      jj_la1[36] = jj_gen;
                       ;
                   }
                   break;
@@ -2313,20 +2171,20 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                         break;
                       }
                     default:
-                      jj_la1[38] = jj_gen;
+                      jj_la1[37] = jj_gen;
                       ;
                   }
                   break;
                 }
               default:
-                jj_la1[39] = jj_gen;
+                jj_la1[38] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
             break;
           }
         default:
-          jj_la1[40] = jj_gen;
+          jj_la1[39] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -2336,7 +2194,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[41] = jj_gen;
+          jj_la1[40] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -2346,7 +2204,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[42] = jj_gen;
+          jj_la1[41] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -2385,14 +2243,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[43] = jj_gen;
+                jj_la1[42] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
             break;
           }
         default:
-          jj_la1[44] = jj_gen;
+          jj_la1[43] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -2403,7 +2261,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[45] = jj_gen;
+          jj_la1[44] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -2414,7 +2272,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[46] = jj_gen;
+          jj_la1[45] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -2592,7 +2450,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[47] = jj_gen;
+                  jj_la1[46] = jj_gen;
                   break label_2;
               }
               jj_consume_token(COMMA);
@@ -2602,7 +2460,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[48] = jj_gen;
+          jj_la1[47] = jj_gen;
           ;
       }
       jj_consume_token(FROM);
@@ -2615,7 +2473,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[49] = jj_gen;
+          jj_la1[48] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -2626,7 +2484,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[50] = jj_gen;
+          jj_la1[49] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -2636,7 +2494,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[51] = jj_gen;
+          jj_la1[50] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -2657,14 +2515,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[52] = jj_gen;
+                jj_la1[51] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
             break;
           }
         default:
-          jj_la1[53] = jj_gen;
+          jj_la1[52] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -2725,7 +2583,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[54] = jj_gen;
+            jj_la1[53] = jj_gen;
             break label_3;
         }
         jj_consume_token(COMMA);
@@ -2744,13 +2602,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[55] = jj_gen;
+            jj_la1[54] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
       }
       jj_consume_token(RETURN);
-      if (jj_2_57(2)) {
+      if (jj_2_58(2)) {
         jj_consume_token(DISTINCT);
         jjtn000.returnDistinct = true;
         lastReturn = Expression();
@@ -2762,10 +2620,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[56] = jj_gen;
+            jj_la1[55] = jj_gen;
             ;
         }
-      } else if (jj_2_58(2147483647)) {
+      } else if (jj_2_59(2147483647)) {
         lastReturn = Expression();
         lastReturnAlias = null;
         switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -2775,7 +2633,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[57] = jj_gen;
+            jj_la1[56] = jj_gen;
             ;
         }
       } else {
@@ -2790,7 +2648,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[58] = jj_gen;
+          jj_la1[57] = jj_gen;
           ;
       }
       jjtn000.addReturnAlias(lastReturnAlias);
@@ -2806,7 +2664,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[59] = jj_gen;
+            jj_la1[58] = jj_gen;
             break label_4;
         }
         jj_consume_token(COMMA);
@@ -2819,7 +2677,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[60] = jj_gen;
+            jj_la1[59] = jj_gen;
             ;
         }
         switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -2830,7 +2688,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[61] = jj_gen;
+            jj_la1[60] = jj_gen;
             ;
         }
         jjtn000.addReturnAlias(lastReturnAlias);
@@ -2845,7 +2703,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[62] = jj_gen;
+          jj_la1[61] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -2855,7 +2713,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[63] = jj_gen;
+          jj_la1[62] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -2865,7 +2723,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[64] = jj_gen;
+          jj_la1[63] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -2876,7 +2734,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[65] = jj_gen;
+          jj_la1[64] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -2886,7 +2744,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[66] = jj_gen;
+          jj_la1[65] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -2943,7 +2801,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[67] = jj_gen;
+          jj_la1[66] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -2954,7 +2812,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[68] = jj_gen;
+          jj_la1[67] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -2964,7 +2822,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[69] = jj_gen;
+          jj_la1[68] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -2975,7 +2833,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[70] = jj_gen;
+          jj_la1[69] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -3030,7 +2888,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[71] = jj_gen;
+          jj_la1[70] = jj_gen;
           ;
       }
       jjtn000.fromClause = FromClause();
@@ -3043,7 +2901,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[72] = jj_gen;
+          jj_la1[71] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -3054,7 +2912,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[73] = jj_gen;
+          jj_la1[72] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -3064,7 +2922,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[74] = jj_gen;
+          jj_la1[73] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -3074,7 +2932,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[75] = jj_gen;
+          jj_la1[74] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -3120,15 +2978,15 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     ODeleteEdgeStatement result;
     try {
-      if (jj_2_59(2147483647)) {
+      if (jj_2_60(2147483647)) {
         result = DeleteEdgeByRidStatement();
-      } else if (jj_2_60(2147483647)) {
-        result = DeleteEdgeFromToStatement();
       } else if (jj_2_61(2147483647)) {
-        result = DeleteEdgeVToStatement();
+        result = DeleteEdgeFromToStatement();
       } else if (jj_2_62(2147483647)) {
-        result = DeleteEdgeToStatement();
+        result = DeleteEdgeVToStatement();
       } else if (jj_2_63(2147483647)) {
+        result = DeleteEdgeToStatement();
+      } else if (jj_2_64(2147483647)) {
         result = DeleteEdgeWhereStatement();
       } else {
         jj_consume_token(-1);
@@ -3208,7 +3066,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                           break;
                         }
                       default:
-                        jj_la1[76] = jj_gen;
+                        jj_la1[75] = jj_gen;
                         break label_5;
                     }
                     jj_consume_token(COMMA);
@@ -3218,14 +3076,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[77] = jj_gen;
+                jj_la1[76] = jj_gen;
                 ;
             }
             jj_consume_token(RBRACKET);
             break;
           }
         default:
-          jj_la1[78] = jj_gen;
+          jj_la1[77] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -3236,7 +3094,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[79] = jj_gen;
+          jj_la1[78] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -3403,7 +3261,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[80] = jj_gen;
+          jj_la1[79] = jj_gen;
           ;
       }
       jj_consume_token(FROM);
@@ -3416,7 +3274,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[81] = jj_gen;
+          jj_la1[80] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -3427,7 +3285,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[82] = jj_gen;
+          jj_la1[81] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -3437,7 +3295,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[83] = jj_gen;
+          jj_la1[82] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -3447,7 +3305,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[84] = jj_gen;
+          jj_la1[83] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -3506,7 +3364,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[85] = jj_gen;
+          jj_la1[84] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -3516,7 +3374,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[86] = jj_gen;
+          jj_la1[85] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -3526,7 +3384,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[87] = jj_gen;
+          jj_la1[86] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -3584,7 +3442,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[88] = jj_gen;
+          jj_la1[87] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -3594,7 +3452,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[89] = jj_gen;
+          jj_la1[88] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -3604,7 +3462,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[90] = jj_gen;
+          jj_la1[89] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -3770,7 +3628,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[91] = jj_gen;
+          jj_la1[90] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -3781,7 +3639,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[92] = jj_gen;
+          jj_la1[91] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -3791,7 +3649,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[93] = jj_gen;
+          jj_la1[92] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -3801,7 +3659,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[94] = jj_gen;
+          jj_la1[93] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -3868,7 +3726,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[95] = jj_gen;
+            jj_la1[94] = jj_gen;
             break label_6;
         }
       }
@@ -3880,7 +3738,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[96] = jj_gen;
+          jj_la1[95] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -3901,7 +3759,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[97] = jj_gen;
+                jj_la1[96] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -4043,13 +3901,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[98] = jj_gen;
+                jj_la1[97] = jj_gen;
                 ;
             }
             break;
           }
         default:
-          jj_la1[99] = jj_gen;
+          jj_la1[98] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -4060,7 +3918,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[100] = jj_gen;
+          jj_la1[99] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -4099,14 +3957,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[101] = jj_gen;
+                jj_la1[100] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
             break;
           }
         default:
-          jj_la1[102] = jj_gen;
+          jj_la1[101] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -4116,7 +3974,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[103] = jj_gen;
+          jj_la1[102] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -4126,7 +3984,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[104] = jj_gen;
+          jj_la1[103] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -4192,7 +4050,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[105] = jj_gen;
+            jj_la1[104] = jj_gen;
             break label_7;
         }
       }
@@ -4204,7 +4062,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[106] = jj_gen;
+          jj_la1[105] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -4231,7 +4089,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[107] = jj_gen;
+                jj_la1[106] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -4373,13 +4231,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[108] = jj_gen;
+                jj_la1[107] = jj_gen;
                 ;
             }
             break;
           }
         default:
-          jj_la1[109] = jj_gen;
+          jj_la1[108] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -4390,7 +4248,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[110] = jj_gen;
+          jj_la1[109] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -4429,14 +4287,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[111] = jj_gen;
+                jj_la1[110] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
             break;
           }
         default:
-          jj_la1[112] = jj_gen;
+          jj_la1[111] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -4446,7 +4304,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[113] = jj_gen;
+          jj_la1[112] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -4456,7 +4314,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[114] = jj_gen;
+          jj_la1[113] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -4521,7 +4379,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[115] = jj_gen;
+                  jj_la1[114] = jj_gen;
                   break label_8;
               }
               jj_consume_token(COMMA);
@@ -4545,7 +4403,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[116] = jj_gen;
+                  jj_la1[115] = jj_gen;
                   break label_9;
               }
               jj_consume_token(COMMA);
@@ -4571,7 +4429,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[117] = jj_gen;
+                jj_la1[116] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -4595,7 +4453,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[118] = jj_gen;
+                jj_la1[117] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -4610,7 +4468,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[119] = jj_gen;
+                  jj_la1[118] = jj_gen;
                   break label_10;
               }
               jj_consume_token(COMMA);
@@ -4634,7 +4492,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[120] = jj_gen;
+                  jj_la1[119] = jj_gen;
                   break label_11;
               }
               jj_consume_token(COMMA);
@@ -4644,7 +4502,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[121] = jj_gen;
+          jj_la1[120] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -4699,7 +4557,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[122] = jj_gen;
+          jj_la1[121] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -4734,7 +4592,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[123] = jj_gen;
+          jj_la1[122] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -4790,7 +4648,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[124] = jj_gen;
+          jj_la1[123] = jj_gen;
           ;
       }
       jj_consume_token(EQ);
@@ -4846,7 +4704,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[125] = jj_gen;
+          jj_la1[124] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -4940,7 +4798,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jj_consume_token(INSERT);
       jj_consume_token(INTO);
-      if (jj_2_64(2147483647)) {
+      if (jj_2_65(2147483647)) {
         jjtn000.targetIndex = IndexIdentifier();
       } else {
         switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -5066,7 +4924,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[126] = jj_gen;
+                  jj_la1[125] = jj_gen;
                   ;
               }
               break;
@@ -5078,12 +4936,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[127] = jj_gen;
+            jj_la1[126] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
       }
-      if (jj_2_65(2147483647)) {
+      if (jj_2_66(2147483647)) {
         jjtn000.insertBody = InsertBody();
       } else {
         ;
@@ -5096,7 +4954,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[128] = jj_gen;
+          jj_la1[127] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -5112,13 +4970,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[129] = jj_gen;
+                jj_la1[128] = jj_gen;
                 ;
             }
             switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
               case SELECT:
                 {
-                  if (jj_2_66(2147483647)) {
+                  if (jj_2_67(2147483647)) {
                     jjtn000.selectStatement = SelectStatement();
                   } else {
                     switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -5128,7 +4986,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                           break;
                         }
                       default:
-                        jj_la1[130] = jj_gen;
+                        jj_la1[129] = jj_gen;
                         jj_consume_token(-1);
                         throw new ParseException();
                     }
@@ -5136,10 +4994,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[132] = jj_gen;
-                if (jj_2_68(2)) {
+                jj_la1[131] = jj_gen;
+                if (jj_2_69(2)) {
                   jj_consume_token(LPAREN);
-                  if (jj_2_67(2147483647)) {
+                  if (jj_2_68(2147483647)) {
                     jjtn000.selectStatement = SelectStatement();
                   } else {
                     switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -5149,7 +5007,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                           break;
                         }
                       default:
-                        jj_la1[131] = jj_gen;
+                        jj_la1[130] = jj_gen;
                         jj_consume_token(-1);
                         throw new ParseException();
                     }
@@ -5164,7 +5022,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[133] = jj_gen;
+          jj_la1[132] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -5175,7 +5033,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[134] = jj_gen;
+          jj_la1[133] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -5225,7 +5083,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     OJson content;
     OInputParameter inputParamater;
     try {
-      if (jj_2_69(3)) {
+      if (jj_2_70(3)) {
         jj_consume_token(LPAREN);
         lastIdentifier = Identifier();
         jjtn000.addIdentifier(lastIdentifier);
@@ -5238,7 +5096,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 break;
               }
             default:
-              jj_la1[135] = jj_gen;
+              jj_la1[134] = jj_gen;
               break label_12;
           }
           jj_consume_token(COMMA);
@@ -5261,7 +5119,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 break;
               }
             default:
-              jj_la1[136] = jj_gen;
+              jj_la1[135] = jj_gen;
               break label_13;
           }
           jj_consume_token(COMMA);
@@ -5278,7 +5136,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 break;
               }
             default:
-              jj_la1[137] = jj_gen;
+              jj_la1[136] = jj_gen;
               break label_14;
           }
           jj_consume_token(COMMA);
@@ -5296,7 +5154,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[138] = jj_gen;
+                jj_la1[137] = jj_gen;
                 break label_15;
             }
             jj_consume_token(COMMA);
@@ -5305,7 +5163,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           }
           jj_consume_token(RPAREN);
         }
-      } else if (jj_2_70(3)) {
+      } else if (jj_2_71(3)) {
         jj_consume_token(SET);
         OInsertSetExpression lastSetExpr = new OInsertSetExpression();
         jjtn000.addInsertSetExpression(lastSetExpr);
@@ -5321,7 +5179,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 break;
               }
             default:
-              jj_la1[139] = jj_gen;
+              jj_la1[138] = jj_gen;
               break label_16;
           }
           jj_consume_token(COMMA);
@@ -5351,7 +5209,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[140] = jj_gen;
+                  jj_la1[139] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
@@ -5364,7 +5222,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       break;
                     }
                   default:
-                    jj_la1[141] = jj_gen;
+                    jj_la1[140] = jj_gen;
                     break label_17;
                 }
                 jj_consume_token(COMMA);
@@ -5383,7 +5241,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       break;
                     }
                   default:
-                    jj_la1[142] = jj_gen;
+                    jj_la1[141] = jj_gen;
                     jj_consume_token(-1);
                     throw new ParseException();
                 }
@@ -5391,7 +5249,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[143] = jj_gen;
+            jj_la1[142] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -5466,7 +5324,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jj_consume_token(CREATE);
       jj_consume_token(VERTEX);
-      if (jj_2_71(2147483647)) {
+      if (jj_2_72(2147483647)) {
         jjtn000.targetClass = Identifier();
         switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
           case CLUSTER:
@@ -5476,10 +5334,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[144] = jj_gen;
+            jj_la1[143] = jj_gen;
             ;
         }
-      } else if (jj_2_72(2147483647)) {
+      } else if (jj_2_73(2147483647)) {
         jjtn000.targetCluster = Cluster();
       } else {
         jj_consume_token(-1);
@@ -5493,10 +5351,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[145] = jj_gen;
+          jj_la1[144] = jj_gen;
           ;
       }
-      if (jj_2_73(2147483647)) {
+      if (jj_2_74(2147483647)) {
         jjtn000.insertBody = InsertBody();
       } else {
         ;
@@ -5610,7 +5468,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[146] = jj_gen;
+          jj_la1[145] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -5627,7 +5485,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[147] = jj_gen;
+          jj_la1[146] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -5637,7 +5495,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[148] = jj_gen;
+          jj_la1[147] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -5808,13 +5666,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[149] = jj_gen;
+                jj_la1[148] = jj_gen;
                 ;
             }
             break;
           }
         default:
-          jj_la1[150] = jj_gen;
+          jj_la1[149] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -5825,7 +5683,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[151] = jj_gen;
+          jj_la1[150] = jj_gen;
           ;
       }
       jj_consume_token(FROM);
@@ -5841,7 +5699,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[152] = jj_gen;
+          jj_la1[151] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -5851,7 +5709,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[153] = jj_gen;
+          jj_la1[152] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -5861,7 +5719,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[154] = jj_gen;
+          jj_la1[153] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -5871,7 +5729,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[155] = jj_gen;
+          jj_la1[154] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -5929,7 +5787,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[156] = jj_gen;
+          jj_la1[155] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -6140,7 +5998,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[157] = jj_gen;
+          jj_la1[156] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -6190,7 +6048,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     java.util.List<OProjectionItem> items = new java.util.ArrayList<OProjectionItem>();
     OProjectionItem lastItem = null;
     try {
-      if (jj_2_74(2147483647)) {
+      if (jj_2_75(2147483647)) {
         lastItem = ProjectionItem();
         items.add(lastItem);
         label_18:
@@ -6202,7 +6060,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 break;
               }
             default:
-              jj_la1[158] = jj_gen;
+              jj_la1[157] = jj_gen;
               break label_18;
           }
           jj_consume_token(COMMA);
@@ -6226,7 +6084,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       break;
                     }
                   default:
-                    jj_la1[159] = jj_gen;
+                    jj_la1[158] = jj_gen;
                     break label_19;
                 }
                 jj_consume_token(COMMA);
@@ -6236,7 +6094,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[160] = jj_gen;
+            jj_la1[159] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -6292,7 +6150,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[161] = jj_gen;
+          jj_la1[160] = jj_gen;
           ;
       }
       jjtn000.expression = Expression();
@@ -6303,7 +6161,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[162] = jj_gen;
+          jj_la1[161] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -6314,7 +6172,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[163] = jj_gen;
+          jj_la1[162] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -6379,7 +6237,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[164] = jj_gen;
+            jj_la1[163] = jj_gen;
             break label_20;
         }
         jj_consume_token(COMMA);
@@ -6582,7 +6440,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[165] = jj_gen;
+                jj_la1[164] = jj_gen;
                 ;
             }
             jjtn000.expression = Expression();
@@ -6594,13 +6452,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[166] = jj_gen;
+                jj_la1[165] = jj_gen;
                 ;
             }
             break;
           }
         default:
-          jj_la1[167] = jj_gen;
+          jj_la1[166] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -6611,7 +6469,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[168] = jj_gen;
+          jj_la1[167] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -6622,7 +6480,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[169] = jj_gen;
+          jj_la1[168] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -6667,11 +6525,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtree.openNodeScope(jjtn000);
     jjtn000.jjtSetFirstToken(getToken(1));
     try {
-      if (jj_2_75(2147483647)) {
+      if (jj_2_76(2147483647)) {
         jjtn000.rid = Rid();
-      } else if (jj_2_76(2147483647)) {
-        jjtn000.inputParam = InputParameter();
       } else if (jj_2_77(2147483647)) {
+        jjtn000.inputParam = InputParameter();
+      } else if (jj_2_78(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         jj_consume_token(-1);
@@ -6720,9 +6578,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     Token tokenVal;
     try {
-      if (jj_2_78(2147483647)) {
+      if (jj_2_79(2147483647)) {
         jjtn000.inputValue = InputParameter();
-      } else if (jj_2_79(2147483647)) {
+      } else if (jj_2_80(2147483647)) {
         tokenVal = jj_consume_token(INTEGER_LITERAL);
         jjtn000.integer = Integer.parseInt(tokenVal.image);
       } else {
@@ -6784,7 +6642,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[170] = jj_gen;
+            jj_la1[169] = jj_gen;
             break label_21;
         }
         jj_consume_token(COMMA);
@@ -6876,7 +6734,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[171] = jj_gen;
+                jj_la1[170] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -6884,7 +6742,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[172] = jj_gen;
+          jj_la1[171] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -7124,7 +6982,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[173] = jj_gen;
+          jj_la1[172] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -7273,7 +7131,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[174] = jj_gen;
+                  jj_la1[173] = jj_gen;
                   break label_22;
               }
               jj_consume_token(COMMA);
@@ -7283,7 +7141,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[175] = jj_gen;
+          jj_la1[174] = jj_gen;
           ;
       }
       jj_consume_token(RPAREN);
@@ -7477,7 +7335,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[176] = jj_gen;
+                  jj_la1[175] = jj_gen;
                   break label_23;
               }
               jj_consume_token(COMMA);
@@ -7487,7 +7345,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[177] = jj_gen;
+          jj_la1[176] = jj_gen;
           ;
       }
       jj_consume_token(RPAREN);
@@ -7533,7 +7391,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtree.openNodeScope(jjtn000);
     jjtn000.jjtSetFirstToken(getToken(1));
     try {
-      if (jj_2_80(2147483647)) {
+      if (jj_2_81(2147483647)) {
         jjtn000.functionCall = FunctionCall();
       } else {
         switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -7544,8 +7402,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[178] = jj_gen;
-            if (jj_2_81(2147483647)) {
+            jj_la1[177] = jj_gen;
+            if (jj_2_82(2147483647)) {
               jjtn000.collection = Collection();
             } else {
               jj_consume_token(-1);
@@ -7596,10 +7454,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     OIdentifier identifier;
     try {
-      if (jj_2_82(2147483647)) {
+      if (jj_2_83(2147483647)) {
         identifier = Identifier();
         jjtn000.setIdentifier(identifier);
-      } else if (jj_2_83(2147483647)) {
+      } else if (jj_2_84(2147483647)) {
         jjtn000.recordAttribute = RecordAttribute();
       } else {
         switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -7610,7 +7468,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[179] = jj_gen;
+            jj_la1[178] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -7657,9 +7515,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtree.openNodeScope(jjtn000);
     jjtn000.jjtSetFirstToken(getToken(1));
     try {
-      if (jj_2_84(2147483647)) {
+      if (jj_2_85(2147483647)) {
         jjtn000.levelZero = LevelZeroIdentifier();
-      } else if (jj_2_85(2147483647)) {
+      } else if (jj_2_86(2147483647)) {
         jjtn000.suffix = SuffixIdentifier();
       } else {
         jj_consume_token(-1);
@@ -7712,13 +7570,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           {
             jj_consume_token(LBRACKET);
             jjtn000.squareBrackets = true;
-            if (jj_2_86(2147483647)) {
+            if (jj_2_87(2147483647)) {
               jjtn000.rightBinaryCondition = RightBinaryCondition();
-            } else if (jj_2_87(2147483647)) {
-              jjtn000.arrayRange = ArrayRangeSelector();
             } else if (jj_2_88(2147483647)) {
-              jjtn000.condition = OrBlock();
+              jjtn000.arrayRange = ArrayRangeSelector();
             } else if (jj_2_89(2147483647)) {
+              jjtn000.condition = OrBlock();
+            } else if (jj_2_90(2147483647)) {
               jjtn000.arraySingleValues = ArraySingleValuesSelector();
             } else {
               jj_consume_token(-1);
@@ -7728,8 +7586,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[180] = jj_gen;
-          if (jj_2_90(2147483647)) {
+          jj_la1[179] = jj_gen;
+          if (jj_2_91(2147483647)) {
             jjtn000.methodCall = MethodCall();
           } else {
             switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -7740,13 +7598,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[181] = jj_gen;
+                jj_la1[180] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
           }
       }
-      if (jj_2_91(2147483647)) {
+      if (jj_2_92(2147483647)) {
         jjtn000.next = Modifier();
       } else {
         ;
@@ -7794,7 +7652,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     Token token;
     try {
-      if (jj_2_92(2147483647)) {
+      if (jj_2_93(2147483647)) {
         jjtn000.arrayConcatExpression = ArrayConcatExpression();
         jjtn000.value = jjtn000.arrayConcatExpression;
       } else {
@@ -7821,11 +7679,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[182] = jj_gen;
-            if (jj_2_93(2147483647)) {
+            jj_la1[181] = jj_gen;
+            if (jj_2_94(2147483647)) {
               jjtn000.rid = Rid();
               jjtn000.value = jjtn000.rid;
-            } else if (jj_2_94(2147483647)) {
+            } else if (jj_2_95(2147483647)) {
               jjtn000.mathExpression = MathExpression();
               jjtn000.value = jjtn000.mathExpression;
             } else {
@@ -7837,7 +7695,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[183] = jj_gen;
+                  jj_la1[182] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
@@ -7902,7 +7760,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[184] = jj_gen;
+            jj_la1[183] = jj_gen;
             break label_24;
         }
       }
@@ -7973,11 +7831,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[185] = jj_gen;
-          if (jj_2_95(2147483647)) {
+          jj_la1[184] = jj_gen;
+          if (jj_2_96(2147483647)) {
             jjtn000.rid = Rid();
             jjtn000.value = jjtn000.rid;
-          } else if (jj_2_96(2147483647)) {
+          } else if (jj_2_97(2147483647)) {
             jjtn000.mathExpression = MathExpression();
             jjtn000.value = jjtn000.mathExpression;
           } else {
@@ -7989,7 +7847,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[186] = jj_gen;
+                jj_la1[185] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -8042,7 +7900,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jjtn000.addChildExpression(sub);
       label_25:
       while (true) {
-        if (jj_2_97(2)) {
+        if (jj_2_98(2)) {
           ;
         } else {
           break label_25;
@@ -8121,7 +7979,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[187] = jj_gen;
+            jj_la1[186] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -8171,9 +8029,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     OMathExpression expr;
     try {
-      if (jj_2_98(2147483647)) {
+      if (jj_2_99(2147483647)) {
         expr = ParenthesisExpression();
-      } else if (jj_2_99(2147483647)) {
+      } else if (jj_2_100(2147483647)) {
         expr = BaseExpression();
       } else {
         jj_consume_token(-1);
@@ -8222,7 +8080,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     try {
       jj_consume_token(LPAREN);
-      if (jj_2_100(2)) {
+      if (jj_2_101(2)) {
         jjtn000.statement = QueryStatement();
       } else {
         switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -8367,7 +8225,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[188] = jj_gen;
+            jj_la1[187] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -8544,7 +8402,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           {
             identifier = BaseIdentifier();
             jjtn000.setIdentifier(identifier);
-            if (jj_2_101(2147483647)) {
+            if (jj_2_102(2147483647)) {
               jjtn000.modifier = Modifier();
             } else {
               ;
@@ -8555,7 +8413,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case COLON:
           {
             jjtn000.inputParam = InputParameter();
-            if (jj_2_102(2147483647)) {
+            if (jj_2_103(2147483647)) {
               jjtn000.modifier = Modifier();
             } else {
               ;
@@ -8580,11 +8438,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[189] = jj_gen;
+                jj_la1[188] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
-            if (jj_2_103(2147483647)) {
+            if (jj_2_104(2147483647)) {
               jjtn000.modifier = Modifier();
             } else {
               ;
@@ -8592,7 +8450,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[190] = jj_gen;
+          jj_la1[189] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -8694,7 +8552,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[191] = jj_gen;
+            jj_la1[190] = jj_gen;
             break label_26;
         }
         jj_consume_token(COMMA);
@@ -8745,7 +8603,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jjtn000.varName = Identifier();
       jj_consume_token(EQ);
-      if (jj_2_104(2147483647)) {
+      if (jj_2_105(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -8757,7 +8615,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[192] = jj_gen;
+            jj_la1[191] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -8820,10 +8678,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[197] = jj_gen;
-          if (jj_2_108(2)) {
+          jj_la1[196] = jj_gen;
+          if (jj_2_109(2)) {
             jjtn000.emptyList = EmptyList();
-          } else if (jj_2_109(2)) {
+          } else if (jj_2_110(2)) {
             jj_consume_token(LBRACKET);
             lastRid = Rid();
             jjtn000.addRid(lastRid);
@@ -8836,7 +8694,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[193] = jj_gen;
+                  jj_la1[192] = jj_gen;
                   break label_27;
               }
               jj_consume_token(COMMA);
@@ -8863,7 +8721,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                         break;
                       }
                     default:
-                      jj_la1[194] = jj_gen;
+                      jj_la1[193] = jj_gen;
                       jj_consume_token(-1);
                       throw new ParseException();
                   }
@@ -8877,7 +8735,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                           break;
                         }
                       default:
-                        jj_la1[195] = jj_gen;
+                        jj_la1[194] = jj_gen;
                         break label_28;
                     }
                     switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -8895,7 +8753,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                           break;
                         }
                       default:
-                        jj_la1[196] = jj_gen;
+                        jj_la1[195] = jj_gen;
                         jj_consume_token(-1);
                         throw new ParseException();
                     }
@@ -8915,8 +8773,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[198] = jj_gen;
-                if (jj_2_110(2147483647)) {
+                jj_la1[197] = jj_gen;
+                if (jj_2_111(2147483647)) {
                   jjtn000.index = IndexIdentifier();
                 } else {
                   switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -8930,7 +8788,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                         jj_consume_token(LPAREN);
                         jjtn000.statement = QueryStatement();
                         jj_consume_token(RPAREN);
-                        if (jj_2_105(2147483647)) {
+                        if (jj_2_106(2147483647)) {
                           jjtn000.modifier = Modifier();
                         } else {
                           ;
@@ -8944,10 +8802,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                         break;
                       }
                     default:
-                      jj_la1[199] = jj_gen;
-                      if (jj_2_111(2)) {
+                      jj_la1[198] = jj_gen;
+                      if (jj_2_112(2)) {
                         jjtn000.functionCall = FunctionCall();
-                        if (jj_2_106(2147483647)) {
+                        if (jj_2_107(2147483647)) {
                           jjtn000.modifier = Modifier();
                         } else {
                           ;
@@ -9069,7 +8927,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                             {
                               identifier = Identifier();
                               jjtn000.setIdentifier(identifier);
-                              if (jj_2_107(2147483647)) {
+                              if (jj_2_108(2147483647)) {
                                 jjtn000.modifier = Modifier();
                               } else {
                                 ;
@@ -9077,7 +8935,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                               break;
                             }
                           default:
-                            jj_la1[200] = jj_gen;
+                            jj_la1[199] = jj_gen;
                             jj_consume_token(-1);
                             throw new ParseException();
                         }
@@ -9168,7 +9026,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[201] = jj_gen;
+          jj_la1[200] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -9323,7 +9181,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[202] = jj_gen;
+                  jj_la1[201] = jj_gen;
                   break label_29;
               }
               jj_consume_token(COMMA);
@@ -9333,7 +9191,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[203] = jj_gen;
+          jj_la1[202] = jj_gen;
           ;
       }
       jj_consume_token(RBRACKET);
@@ -9415,7 +9273,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[204] = jj_gen;
+          jj_la1[203] = jj_gen;
           ;
       }
       lastIdentifier = Identifier();
@@ -9430,7 +9288,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[205] = jj_gen;
+            jj_la1[204] = jj_gen;
             break label_30;
         }
         switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -9447,7 +9305,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[206] = jj_gen;
+            jj_la1[205] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -9530,7 +9388,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[207] = jj_gen;
+                jj_la1[206] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -9538,7 +9396,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[208] = jj_gen;
+          jj_la1[207] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -9639,7 +9497,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[209] = jj_gen;
+            jj_la1[208] = jj_gen;
             break label_31;
         }
         jj_consume_token(OR);
@@ -9700,7 +9558,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[210] = jj_gen;
+            jj_la1[209] = jj_gen;
             break label_32;
         }
         jj_consume_token(AND);
@@ -9754,9 +9612,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           {
             jj_consume_token(NOT);
             jjtn000.negate = true;
-            if (jj_2_112(2147483647)) {
+            if (jj_2_113(2147483647)) {
               jjtn000.sub = ConditionBlock();
-            } else if (jj_2_113(2147483647)) {
+            } else if (jj_2_114(2147483647)) {
               jjtn000.sub = ParenthesisBlock();
             } else {
               jj_consume_token(-1);
@@ -9896,9 +9754,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         case QUOTED_IDENTIFIER:
         case 271:
           {
-            if (jj_2_114(2147483647)) {
+            if (jj_2_115(2147483647)) {
               jjtn000.sub = ConditionBlock();
-            } else if (jj_2_115(2147483647)) {
+            } else if (jj_2_116(2147483647)) {
               jjtn000.sub = ParenthesisBlock();
             } else {
               jj_consume_token(-1);
@@ -9907,7 +9765,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[211] = jj_gen;
+          jj_la1[210] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -9999,35 +9857,35 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     OBooleanExpression result = null;
     try {
-      if (jj_2_116(2147483647)) {
+      if (jj_2_117(2147483647)) {
         result = IsNotNullCondition();
-      } else if (jj_2_117(2147483647)) {
-        result = IsNullCondition();
       } else if (jj_2_118(2147483647)) {
-        result = IsNotDefinedCondition();
+        result = IsNullCondition();
       } else if (jj_2_119(2147483647)) {
-        result = IsDefinedCondition();
+        result = IsNotDefinedCondition();
       } else if (jj_2_120(2147483647)) {
-        result = InCondition();
+        result = IsDefinedCondition();
       } else if (jj_2_121(2147483647)) {
-        result = NotInCondition();
+        result = InCondition();
       } else if (jj_2_122(2147483647)) {
-        result = BinaryCondition();
+        result = NotInCondition();
       } else if (jj_2_123(2147483647)) {
-        result = BetweenCondition();
+        result = BinaryCondition();
       } else if (jj_2_124(2147483647)) {
-        result = ContainsCondition();
+        result = BetweenCondition();
       } else if (jj_2_125(2147483647)) {
-        result = ContainsValueCondition();
+        result = ContainsCondition();
       } else if (jj_2_126(2147483647)) {
-        result = ContainsAllCondition();
+        result = ContainsValueCondition();
       } else if (jj_2_127(2147483647)) {
-        result = ContainsAnyCondition();
+        result = ContainsAllCondition();
       } else if (jj_2_128(2147483647)) {
-        result = ContainsTextCondition();
+        result = ContainsAnyCondition();
       } else if (jj_2_129(2147483647)) {
-        result = MatchesCondition();
+        result = ContainsTextCondition();
       } else if (jj_2_130(2147483647)) {
+        result = MatchesCondition();
+      } else if (jj_2_131(2147483647)) {
         result = InstanceofCondition();
       } else {
         switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -10044,7 +9902,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[212] = jj_gen;
+            jj_la1[211] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -10160,7 +10018,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[213] = jj_gen;
+          jj_la1[212] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -10519,7 +10377,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[214] = jj_gen;
+          jj_la1[213] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -10576,7 +10434,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[215] = jj_gen;
+                jj_la1[214] = jj_gen;
                 ;
             }
             jjtn000.inOperator = InOperator();
@@ -10584,7 +10442,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[216] = jj_gen;
+          jj_la1[215] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -10677,11 +10535,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jjtn000.left = Expression();
       jjtn000.operator = ContainsValueOperator();
-      if (jj_2_131(3)) {
+      if (jj_2_132(3)) {
         jj_consume_token(LPAREN);
         jjtn000.condition = OrBlock();
         jj_consume_token(RPAREN);
-      } else if (jj_2_132(2147483647)) {
+      } else if (jj_2_133(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         jj_consume_token(-1);
@@ -10862,7 +10720,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[217] = jj_gen;
+          jj_la1[216] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -11139,11 +10997,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jjtn000.left = Expression();
       jj_consume_token(CONTAINS);
-      if (jj_2_133(3)) {
+      if (jj_2_134(3)) {
         jj_consume_token(LPAREN);
         jjtn000.condition = OrBlock();
         jj_consume_token(RPAREN);
-      } else if (jj_2_134(2147483647)) {
+      } else if (jj_2_135(2147483647)) {
         jjtn000.right = Expression();
       } else {
         jj_consume_token(-1);
@@ -11217,9 +11075,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jjtn000.left = Expression();
       jjtn000.operator = InOperator();
-      if (jj_2_136(2)) {
+      if (jj_2_137(2)) {
         jj_consume_token(LPAREN);
-        if (jj_2_135(2147483647)) {
+        if (jj_2_136(2147483647)) {
           jjtn000.rightStatement = SelectStatement();
         } else {
           switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -11229,13 +11087,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 break;
               }
             default:
-              jj_la1[218] = jj_gen;
+              jj_la1[217] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
         }
         jj_consume_token(RPAREN);
-      } else if (jj_2_137(2)) {
+      } else if (jj_2_138(2)) {
         jj_consume_token(LPAREN);
         jjtn000.rightParam = InputParameter();
         jj_consume_token(RPAREN);
@@ -11372,7 +11230,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[219] = jj_gen;
+            jj_la1[218] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -11423,9 +11281,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jjtn000.left = Expression();
       jj_consume_token(NOT);
       InOperator();
-      if (jj_2_139(2)) {
+      if (jj_2_140(2)) {
         jj_consume_token(LPAREN);
-        if (jj_2_138(2147483647)) {
+        if (jj_2_139(2147483647)) {
           jjtn000.rightStatement = SelectStatement();
         } else {
           switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -11435,13 +11293,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 break;
               }
             default:
-              jj_la1[220] = jj_gen;
+              jj_la1[219] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
         }
         jj_consume_token(RPAREN);
-      } else if (jj_2_140(2)) {
+      } else if (jj_2_141(2)) {
         jj_consume_token(LPAREN);
         jjtn000.rightParam = InputParameter();
         jj_consume_token(RPAREN);
@@ -11578,7 +11436,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[221] = jj_gen;
+            jj_la1[220] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -11627,11 +11485,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jjtn000.left = Expression();
       jj_consume_token(CONTAINSALL);
-      if (jj_2_141(3)) {
+      if (jj_2_142(3)) {
         jj_consume_token(LPAREN);
         jjtn000.rightBlock = OrBlock();
         jj_consume_token(RPAREN);
-      } else if (jj_2_142(2147483647)) {
+      } else if (jj_2_143(2147483647)) {
         jjtn000.right = Expression();
       } else {
         jj_consume_token(-1);
@@ -11681,11 +11539,11 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jjtn000.left = Expression();
       jj_consume_token(CONTAINSANY);
-      if (jj_2_143(3)) {
+      if (jj_2_144(3)) {
         jj_consume_token(LPAREN);
         jjtn000.rightBlock = OrBlock();
         jj_consume_token(RPAREN);
-      } else if (jj_2_144(2147483647)) {
+      } else if (jj_2_145(2147483647)) {
         jjtn000.right = Expression();
       } else {
         jj_consume_token(-1);
@@ -11781,7 +11639,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jjtn000.expression = Expression();
       jj_consume_token(MATCHES);
-      if (jj_2_145(2147483647)) {
+      if (jj_2_146(2147483647)) {
         jjtn000.rightExpression = Expression();
       } else {
         switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -11804,7 +11662,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[222] = jj_gen;
+            jj_la1[221] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -12105,7 +11963,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                         break;
                       }
                     default:
-                      jj_la1[223] = jj_gen;
+                      jj_la1[222] = jj_gen;
                       ;
                   }
                   break;
@@ -12125,7 +11983,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[224] = jj_gen;
+                jj_la1[223] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -12147,14 +12005,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                         break;
                       }
                     default:
-                      jj_la1[225] = jj_gen;
+                      jj_la1[224] = jj_gen;
                       jj_consume_token(-1);
                       throw new ParseException();
                   }
                   break;
                 }
               default:
-                jj_la1[226] = jj_gen;
+                jj_la1[225] = jj_gen;
                 ;
             }
             switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -12165,7 +12023,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[227] = jj_gen;
+                jj_la1[226] = jj_gen;
                 ;
             }
             break;
@@ -12300,7 +12158,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                         break;
                       }
                     default:
-                      jj_la1[228] = jj_gen;
+                      jj_la1[227] = jj_gen;
                       ;
                   }
                   break;
@@ -12320,7 +12178,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[229] = jj_gen;
+                jj_la1[228] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -12342,14 +12200,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                         break;
                       }
                     default:
-                      jj_la1[230] = jj_gen;
+                      jj_la1[229] = jj_gen;
                       jj_consume_token(-1);
                       throw new ParseException();
                   }
                   break;
                 }
               default:
-                jj_la1[231] = jj_gen;
+                jj_la1[230] = jj_gen;
                 ;
             }
             switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -12360,14 +12218,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[232] = jj_gen;
+                jj_la1[231] = jj_gen;
                 ;
             }
             jj_consume_token(RPAREN);
             break;
           }
         default:
-          jj_la1[233] = jj_gen;
+          jj_la1[232] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -12380,7 +12238,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[234] = jj_gen;
+            jj_la1[233] = jj_gen;
             break label_33;
         }
         jj_consume_token(COMMA);
@@ -12630,7 +12488,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                           break;
                         }
                       default:
-                        jj_la1[235] = jj_gen;
+                        jj_la1[234] = jj_gen;
                         ;
                     }
                     break;
@@ -12650,7 +12508,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[236] = jj_gen;
+                  jj_la1[235] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
@@ -12672,14 +12530,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                           break;
                         }
                       default:
-                        jj_la1[237] = jj_gen;
+                        jj_la1[236] = jj_gen;
                         jj_consume_token(-1);
                         throw new ParseException();
                     }
                     break;
                   }
                 default:
-                  jj_la1[238] = jj_gen;
+                  jj_la1[237] = jj_gen;
                   ;
               }
               switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -12690,7 +12548,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[239] = jj_gen;
+                  jj_la1[238] = jj_gen;
                   ;
               }
               break;
@@ -12825,7 +12683,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                           break;
                         }
                       default:
-                        jj_la1[240] = jj_gen;
+                        jj_la1[239] = jj_gen;
                         ;
                     }
                     break;
@@ -12845,7 +12703,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[241] = jj_gen;
+                  jj_la1[240] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
@@ -12867,14 +12725,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                           break;
                         }
                       default:
-                        jj_la1[242] = jj_gen;
+                        jj_la1[241] = jj_gen;
                         jj_consume_token(-1);
                         throw new ParseException();
                     }
                     break;
                   }
                 default:
-                  jj_la1[243] = jj_gen;
+                  jj_la1[242] = jj_gen;
                   ;
               }
               switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -12885,14 +12743,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[244] = jj_gen;
+                  jj_la1[243] = jj_gen;
                   ;
               }
               jj_consume_token(RPAREN);
               break;
             }
           default:
-            jj_la1[245] = jj_gen;
+            jj_la1[244] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -12953,7 +12811,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[246] = jj_gen;
+            jj_la1[245] = jj_gen;
             break label_34;
         }
         jj_consume_token(COMMA);
@@ -13015,7 +12873,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[247] = jj_gen;
+            jj_la1[246] = jj_gen;
             break label_35;
         }
         jj_consume_token(COMMA);
@@ -13079,7 +12937,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[248] = jj_gen;
+          jj_la1[247] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -13143,7 +13001,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[249] = jj_gen;
+                jj_la1[248] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -13166,14 +13024,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[250] = jj_gen;
+                jj_la1[249] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
             break;
           }
         default:
-          jj_la1[251] = jj_gen;
+          jj_la1[250] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -13234,7 +13092,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[252] = jj_gen;
+          jj_la1[251] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -13302,14 +13160,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[253] = jj_gen;
+                jj_la1[252] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
             break;
           }
         default:
-          jj_la1[254] = jj_gen;
+          jj_la1[253] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -13590,7 +13448,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[255] = jj_gen;
+                  jj_la1[254] = jj_gen;
                   break label_36;
               }
               jj_consume_token(COMMA);
@@ -13600,7 +13458,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[256] = jj_gen;
+          jj_la1[255] = jj_gen;
           ;
       }
       jj_consume_token(RBRACKET);
@@ -13772,7 +13630,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[257] = jj_gen;
+            jj_la1[256] = jj_gen;
             break label_37;
         }
         lastItem = FetchPlanItem();
@@ -13961,7 +13819,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                         break;
                       }
                     default:
-                      jj_la1[258] = jj_gen;
+                      jj_la1[257] = jj_gen;
                       jj_consume_token(-1);
                       throw new ParseException();
                   }
@@ -13969,7 +13827,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[259] = jj_gen;
+                jj_la1[258] = jj_gen;
                 ;
             }
             lastIdentifier = Identifier();
@@ -13982,7 +13840,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[260] = jj_gen;
+                jj_la1[259] = jj_gen;
                 ;
             }
             String field = lastIdentifier.getValue();
@@ -13999,7 +13857,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[261] = jj_gen;
+                  jj_la1[260] = jj_gen;
                   break label_38;
               }
               jj_consume_token(DOT);
@@ -14013,7 +13871,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[262] = jj_gen;
+                  jj_la1[261] = jj_gen;
                   ;
               }
               field = lastIdentifier.getValue();
@@ -14025,7 +13883,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[263] = jj_gen;
+          jj_la1[262] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -14074,7 +13932,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jjtn000.jjtSetFirstToken(getToken(1));
     try {
       jjtn000.base = BaseIdentifier();
-      if (jj_2_146(2147483647)) {
+      if (jj_2_147(2147483647)) {
         jjtn000.modifier = Modifier();
       } else {
         ;
@@ -14381,7 +14239,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[264] = jj_gen;
+                jj_la1[263] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -14397,7 +14255,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[265] = jj_gen;
+                  jj_la1[264] = jj_gen;
                   break label_39;
               }
               jj_consume_token(COMMA);
@@ -14540,7 +14398,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[266] = jj_gen;
+                  jj_la1[265] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
@@ -14551,7 +14409,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[267] = jj_gen;
+          jj_la1[266] = jj_gen;
           ;
       }
       jj_consume_token(RBRACE);
@@ -14611,16 +14469,16 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[268] = jj_gen;
+            jj_la1[267] = jj_gen;
             break label_40;
         }
-        if (jj_2_147(3)) {
+        if (jj_2_148(3)) {
           nextItem = MatchPathItem();
-        } else if (jj_2_148(3)) {
-          nextItem = MultiMatchPathItemArrows();
         } else if (jj_2_149(3)) {
+          nextItem = MultiMatchPathItemArrows();
+        } else if (jj_2_150(3)) {
           nextItem = MultiMatchPathItem();
-        } else if (jj_2_150(2147483647)) {
+        } else if (jj_2_151(2147483647)) {
           nextItem = OutPathItem();
         } else {
           switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -14630,8 +14488,8 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 break;
               }
             default:
-              jj_la1[269] = jj_gen;
-              if (jj_2_151(2147483647)) {
+              jj_la1[268] = jj_gen;
+              if (jj_2_152(2147483647)) {
                 nextItem = BothPathItem();
               } else {
                 switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -14641,7 +14499,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       break;
                     }
                   default:
-                    jj_la1[270] = jj_gen;
+                    jj_la1[269] = jj_gen;
                     jj_consume_token(-1);
                     throw new ParseException();
                 }
@@ -14700,7 +14558,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[271] = jj_gen;
+          jj_la1[270] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -14754,7 +14612,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[272] = jj_gen;
+          jj_la1[271] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -14807,7 +14665,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[273] = jj_gen;
+          jj_la1[272] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -14859,7 +14717,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jjtn000.addItem(nextItem);
       label_41:
       while (true) {
-        if (jj_2_152(2147483647)) {
+        if (jj_2_153(2147483647)) {
           ;
         } else {
           break label_41;
@@ -14875,7 +14733,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[274] = jj_gen;
+          jj_la1[273] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -14926,13 +14784,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jj_consume_token(LPAREN);
       label_42:
       while (true) {
-        if (jj_2_153(2147483647)) {
+        if (jj_2_154(2147483647)) {
           nextItem = OutPathItemOpt();
           jjtn000.addItem(nextItem);
-        } else if (jj_2_154(2147483647)) {
+        } else if (jj_2_155(2147483647)) {
           nextItem = InPathItemOpt();
           jjtn000.addItem(nextItem);
-        } else if (jj_2_155(2147483647)) {
+        } else if (jj_2_156(2147483647)) {
           nextItem = BothPathItemOpt();
           jjtn000.addItem(nextItem);
         } else {
@@ -14954,7 +14812,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[275] = jj_gen;
+            jj_la1[274] = jj_gen;
             break label_42;
         }
       }
@@ -14966,7 +14824,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[276] = jj_gen;
+          jj_la1[275] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -15039,7 +14897,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[277] = jj_gen;
+                  jj_la1[276] = jj_gen;
                   break label_43;
               }
               jj_consume_token(COMMA);
@@ -15049,7 +14907,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[278] = jj_gen;
+          jj_la1[277] = jj_gen;
           ;
       }
       jj_consume_token(RBRACE);
@@ -15239,7 +15097,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[279] = jj_gen;
+                jj_la1[278] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -15263,7 +15121,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[280] = jj_gen;
+                jj_la1[279] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -15326,7 +15184,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[281] = jj_gen;
+                jj_la1[280] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -15347,7 +15205,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[282] = jj_gen;
+          jj_la1[281] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -15516,7 +15374,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[283] = jj_gen;
+                jj_la1[282] = jj_gen;
                 ;
             }
             jj_consume_token(MINUS);
@@ -15528,7 +15386,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[284] = jj_gen;
+          jj_la1[283] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -15701,7 +15559,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[285] = jj_gen;
+                jj_la1[284] = jj_gen;
                 ;
             }
             jj_consume_token(MINUS);
@@ -15713,7 +15571,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[286] = jj_gen;
+          jj_la1[285] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -15884,7 +15742,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[287] = jj_gen;
+                jj_la1[286] = jj_gen;
                 ;
             }
             jj_consume_token(MINUS);
@@ -15896,7 +15754,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[288] = jj_gen;
+          jj_la1[287] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -16067,7 +15925,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[289] = jj_gen;
+                jj_la1[288] = jj_gen;
                 ;
             }
             jj_consume_token(MINUS);
@@ -16079,7 +15937,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[290] = jj_gen;
+          jj_la1[289] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -16091,7 +15949,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[291] = jj_gen;
+          jj_la1[290] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -16261,7 +16119,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[292] = jj_gen;
+                jj_la1[291] = jj_gen;
                 ;
             }
             jj_consume_token(MINUS);
@@ -16273,7 +16131,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[293] = jj_gen;
+          jj_la1[292] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -16284,7 +16142,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[294] = jj_gen;
+          jj_la1[293] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -16453,7 +16311,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[295] = jj_gen;
+                jj_la1[294] = jj_gen;
                 ;
             }
             jj_consume_token(MINUS);
@@ -16465,7 +16323,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[296] = jj_gen;
+          jj_la1[295] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -16476,7 +16334,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[297] = jj_gen;
+          jj_la1[296] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -16538,7 +16396,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[298] = jj_gen;
+          jj_la1[297] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -16575,7 +16433,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[299] = jj_gen;
+          jj_la1[298] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -16586,7 +16444,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[300] = jj_gen;
+          jj_la1[299] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -16624,6 +16482,51 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     throw new Error("Missing return statement in function");
   }
 
+  public final OAnalyzeClassStatement AnalyzeClassStatement() throws ParseException {
+    /*@bgen(jjtree) AnalyzeClassStatement */
+    OAnalyzeClassStatement jjtn000 = new OAnalyzeClassStatement(JJTANALYZECLASSSTATEMENT);
+    boolean jjtc000 = true;
+    jjtree.openNodeScope(jjtn000);
+    jjtn000.jjtSetFirstToken(getToken(1));
+    try {
+      jj_consume_token(IDENTIFIER);
+      jj_consume_token(CLASS);
+      jjtn000.className = Identifier();
+      jjtree.closeNodeScope(jjtn000, true);
+      jjtc000 = false;
+      jjtn000.jjtSetLastToken(getToken(0));
+      {
+        if ("" != null) return jjtn000;
+      }
+    } catch (Throwable jjte000) {
+      if (jjtc000) {
+        jjtree.clearNodeScope(jjtn000);
+        jjtc000 = false;
+      } else {
+        jjtree.popNode();
+      }
+      if (jjte000 instanceof RuntimeException) {
+        {
+          if (true) throw (RuntimeException) jjte000;
+        }
+      }
+      if (jjte000 instanceof ParseException) {
+        {
+          if (true) throw (ParseException) jjte000;
+        }
+      }
+      {
+        if (true) throw (Error) jjte000;
+      }
+    } finally {
+      if (jjtc000) {
+        jjtree.closeNodeScope(jjtn000, true);
+        jjtn000.jjtSetLastToken(getToken(0));
+      }
+    }
+    throw new Error("Missing return statement in function");
+  }
+
   public final OTruncateClusterStatement TruncateClusterStatement() throws ParseException {
     /*@bgen(jjtree) TruncateClusterStatement */
     OTruncateClusterStatement jjtn000 = new OTruncateClusterStatement(JJTTRUNCATECLUSTERSTATEMENT);
@@ -16757,7 +16660,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[301] = jj_gen;
+          jj_la1[300] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -16769,7 +16672,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[302] = jj_gen;
+          jj_la1[301] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -16847,7 +16750,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                           break;
                         }
                       default:
-                        jj_la1[303] = jj_gen;
+                        jj_la1[302] = jj_gen;
                         break label_44;
                     }
                     jj_consume_token(COMMA);
@@ -16857,14 +16760,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[304] = jj_gen;
+                jj_la1[303] = jj_gen;
                 ;
             }
             jj_consume_token(RBRACKET);
             break;
           }
         default:
-          jj_la1[305] = jj_gen;
+          jj_la1[304] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -16930,7 +16833,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[306] = jj_gen;
+          jj_la1[305] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -17063,7 +16966,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[307] = jj_gen;
+                jj_la1[306] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -17077,7 +16980,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[308] = jj_gen;
+                  jj_la1[307] = jj_gen;
                   break label_45;
               }
               jj_consume_token(COMMA);
@@ -17205,7 +17108,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[309] = jj_gen;
+                  jj_la1[308] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
@@ -17215,7 +17118,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[310] = jj_gen;
+          jj_la1[309] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -17275,7 +17178,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[311] = jj_gen;
+          jj_la1[310] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -17294,7 +17197,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[312] = jj_gen;
+                  jj_la1[311] = jj_gen;
                   break label_46;
               }
               jj_consume_token(COMMA);
@@ -17304,7 +17207,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[313] = jj_gen;
+          jj_la1[312] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -17323,7 +17226,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[314] = jj_gen;
+                  jj_la1[313] = jj_gen;
                   break label_47;
               }
               jj_consume_token(COMMA);
@@ -17333,7 +17236,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[315] = jj_gen;
+          jj_la1[314] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -17344,7 +17247,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[316] = jj_gen;
+          jj_la1[315] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -17355,7 +17258,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[317] = jj_gen;
+          jj_la1[316] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -17413,7 +17316,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[318] = jj_gen;
+          jj_la1[317] = jj_gen;
           ;
       }
       jj_consume_token(FROM);
@@ -17428,7 +17331,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[319] = jj_gen;
+          jj_la1[318] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -17617,7 +17520,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[320] = jj_gen;
+                jj_la1[319] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -17646,14 +17549,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                         break;
                       }
                     default:
-                      jj_la1[321] = jj_gen;
+                      jj_la1[320] = jj_gen;
                       jj_consume_token(-1);
                       throw new ParseException();
                   }
                   break;
                 }
               default:
-                jj_la1[322] = jj_gen;
+                jj_la1[321] = jj_gen;
                 ;
             }
             switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -17780,7 +17683,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[323] = jj_gen;
+                jj_la1[322] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -17917,7 +17820,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                           break;
                         }
                       default:
-                        jj_la1[324] = jj_gen;
+                        jj_la1[323] = jj_gen;
                         break label_48;
                     }
                     jj_consume_token(COMMA);
@@ -17933,7 +17836,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[325] = jj_gen;
+                jj_la1[324] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -17966,7 +17869,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[326] = jj_gen;
+                jj_la1[325] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -18101,7 +18004,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[327] = jj_gen;
+                jj_la1[326] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -18236,7 +18139,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[328] = jj_gen;
+                jj_la1[327] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -18271,7 +18174,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[329] = jj_gen;
+                jj_la1[328] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -18415,7 +18318,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[330] = jj_gen;
+                jj_la1[329] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -18549,7 +18452,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[331] = jj_gen;
+                jj_la1[330] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -18683,7 +18586,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[332] = jj_gen;
+                jj_la1[331] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -18816,14 +18719,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[333] = jj_gen;
+                jj_la1[332] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
             break;
           }
         default:
-          jj_la1[334] = jj_gen;
+          jj_la1[333] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -18835,7 +18738,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[335] = jj_gen;
+          jj_la1[334] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -19006,7 +18909,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[336] = jj_gen;
+          jj_la1[335] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -19019,7 +18922,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[337] = jj_gen;
+          jj_la1[336] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -19030,7 +18933,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[338] = jj_gen;
+          jj_la1[337] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -19087,7 +18990,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[339] = jj_gen;
+          jj_la1[338] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -19156,7 +19059,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jjtn000.className = Identifier();
       jj_consume_token(DOT);
       jjtn000.propertyName = Identifier();
-      if (jj_2_156(3)) {
+      if (jj_2_157(3)) {
         IfNotExists();
         jjtn000.ifNotExists = true;
       } else {
@@ -19281,7 +19184,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[340] = jj_gen;
+          jj_la1[339] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -19299,7 +19202,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[341] = jj_gen;
+                  jj_la1[340] = jj_gen;
                   break label_49;
               }
               jj_consume_token(COMMA);
@@ -19310,7 +19213,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[342] = jj_gen;
+          jj_la1[341] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -19321,7 +19224,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[343] = jj_gen;
+          jj_la1[342] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -19421,7 +19324,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jjtn000.className = Identifier();
       jj_consume_token(DOT);
       jjtn000.propertyName = Identifier();
-      if (jj_2_157(3)) {
+      if (jj_2_158(3)) {
         jj_consume_token(CUSTOM);
         jjtn000.customPropertyName = Identifier();
         jj_consume_token(EQ);
@@ -19546,7 +19449,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[344] = jj_gen;
+            jj_la1[343] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -19607,7 +19510,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[345] = jj_gen;
+          jj_la1[344] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -19618,7 +19521,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[346] = jj_gen;
+          jj_la1[345] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -19669,7 +19572,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jj_consume_token(CREATE);
       jj_consume_token(INDEX);
       jjtn000.name = IndexName();
-      if (jj_2_159(4)) {
+      if (jj_2_160(4)) {
         switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
           case IF:
             {
@@ -19680,7 +19583,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[347] = jj_gen;
+            jj_la1[346] = jj_gen;
             ;
         }
         jj_consume_token(ON);
@@ -19815,7 +19718,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[348] = jj_gen;
+            jj_la1[347] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -19837,14 +19740,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[349] = jj_gen;
+                  jj_la1[348] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
               break;
             }
           default:
-            jj_la1[350] = jj_gen;
+            jj_la1[349] = jj_gen;
             ;
         }
         switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -19855,7 +19758,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[351] = jj_gen;
+            jj_la1[350] = jj_gen;
             ;
         }
         label_50:
@@ -19867,7 +19770,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 break;
               }
             default:
-              jj_la1[352] = jj_gen;
+              jj_la1[351] = jj_gen;
               break label_50;
           }
           jj_consume_token(COMMA);
@@ -20000,7 +19903,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 break;
               }
             default:
-              jj_la1[353] = jj_gen;
+              jj_la1[352] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -20022,14 +19925,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       break;
                     }
                   default:
-                    jj_la1[354] = jj_gen;
+                    jj_la1[353] = jj_gen;
                     jj_consume_token(-1);
                     throw new ParseException();
                 }
                 break;
               }
             default:
-              jj_la1[355] = jj_gen;
+              jj_la1[354] = jj_gen;
               ;
           }
           switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -20040,7 +19943,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 break;
               }
             default:
-              jj_la1[356] = jj_gen;
+              jj_la1[355] = jj_gen;
               ;
           }
         }
@@ -20161,7 +20064,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
             {
-              if (jj_2_158(3)) {
+              if (jj_2_159(3)) {
                 jj_consume_token(IF);
                 jj_consume_token(NOT);
                 jj_consume_token(EXISTS);
@@ -20286,7 +20189,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       break;
                     }
                   default:
-                    jj_la1[357] = jj_gen;
+                    jj_la1[356] = jj_gen;
                     jj_consume_token(-1);
                     throw new ParseException();
                 }
@@ -20294,12 +20197,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[358] = jj_gen;
+            jj_la1[357] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
       }
-      if (jj_2_162(2)) {
+      if (jj_2_163(2)) {
         jj_consume_token(ENGINE);
         jjtn000.engine = Identifier();
         switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -20416,7 +20319,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
             {
-              if (jj_2_160(2)) {
+              if (jj_2_161(2)) {
                 jj_consume_token(METADATA);
                 jjtn000.metadata = Json();
               } else {
@@ -20545,7 +20448,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                               break;
                             }
                           default:
-                            jj_la1[359] = jj_gen;
+                            jj_la1[358] = jj_gen;
                             break label_51;
                         }
                         jj_consume_token(COMMA);
@@ -20560,13 +20463,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                             break;
                           }
                         default:
-                          jj_la1[360] = jj_gen;
+                          jj_la1[359] = jj_gen;
                           ;
                       }
                       break;
                     }
                   default:
-                    jj_la1[361] = jj_gen;
+                    jj_la1[360] = jj_gen;
                     jj_consume_token(-1);
                     throw new ParseException();
                 }
@@ -20574,7 +20477,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[362] = jj_gen;
+            jj_la1[361] = jj_gen;
             ;
         }
       } else {
@@ -20692,7 +20595,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           case IDENTIFIER:
           case QUOTED_IDENTIFIER:
             {
-              if (jj_2_161(2)) {
+              if (jj_2_162(2)) {
                 jj_consume_token(METADATA);
                 jjtn000.metadata = Json();
               } else {
@@ -20821,7 +20724,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                               break;
                             }
                           default:
-                            jj_la1[363] = jj_gen;
+                            jj_la1[362] = jj_gen;
                             break label_52;
                         }
                         jj_consume_token(COMMA);
@@ -20836,13 +20739,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                             break;
                           }
                         default:
-                          jj_la1[364] = jj_gen;
+                          jj_la1[363] = jj_gen;
                           ;
                       }
                       break;
                     }
                   default:
-                    jj_la1[365] = jj_gen;
+                    jj_la1[364] = jj_gen;
                     jj_consume_token(-1);
                     throw new ParseException();
                 }
@@ -20850,10 +20753,21 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[366] = jj_gen;
+            jj_la1[365] = jj_gen;
             ;
         }
       }
+      switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
+        case WHERE:
+          {
+            jj_consume_token(WHERE);
+            jjtn000.whereClause = WhereClause();
+            break;
+          }
+        default:
+          jj_la1[366] = jj_gen;
+          ;
+      }
       jjtree.closeNodeScope(jjtn000, true);
       jjtc000 = false;
       jjtn000.jjtSetLastToken(getToken(0));
@@ -21584,7 +21498,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     try {
       jj_consume_token(ALTER);
       jj_consume_token(DATABASE);
-      if (jj_2_163(3)) {
+      if (jj_2_164(3)) {
         jj_consume_token(CUSTOM);
         jjtn000.customPropertyName = Identifier();
         jj_consume_token(EQ);
@@ -23933,9 +23847,9 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jj_consume_token(LET);
       jjtn000.name = Identifier();
       jj_consume_token(EQ);
-      if (jj_2_164(2147483647)) {
+      if (jj_2_165(2147483647)) {
         jjtn000.statement = StatementInternal();
-      } else if (jj_2_165(2147483647)) {
+      } else if (jj_2_166(2147483647)) {
         jjtn000.expression = Expression();
       } else {
         jj_consume_token(-1);
@@ -24058,41 +23972,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                           last = StatementInternal();
                           jjtn000.addElse(last);
                           jj_consume_token(SEMICOLON);
-                          switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
-                            case SELECT:
-                            case TRAVERSE:
-                            case MATCH:
-                            case INSERT:
-                            case CREATE:
-                            case DELETE:
-                            case UPDATE:
-                            case RETURN:
-                            case LET:
-                            case PROFILE:
-                            case TRUNCATE:
-                            case FIND:
-                            case ALTER:
-                            case DROP:
-                            case REBUILD:
-                            case OPTIMIZE:
-                            case EXPLAIN:
-                            case GRANT:
-                            case REVOKE:
-                            case BEGIN:
-                            case COMMIT:
-                            case ROLLBACK:
-                            case IF:
-                            case SLEEP:
-                            case CONSOLE:
-                            case HA:
-                            case MOVE:
-                              {
-                                ;
-                                break;
-                              }
-                            default:
-                              jj_la1[405] = jj_gen;
-                              break label_59;
+                          if (jj_2_167(1)) {
+                            ;
+                          } else {
+                            break label_59;
                           }
                         }
                         jj_consume_token(RBRACE);
@@ -24114,14 +23997,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                     break;
                                   }
                                 default:
-                                  jj_la1[406] = jj_gen;
+                                  jj_la1[405] = jj_gen;
                                   jj_consume_token(-1);
                                   throw new ParseException();
                               }
                               break;
                             }
                           default:
-                            jj_la1[407] = jj_gen;
+                            jj_la1[406] = jj_gen;
                             ;
                         }
                         break;
@@ -24143,27 +24026,27 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                               break;
                             }
                           default:
-                            jj_la1[408] = jj_gen;
+                            jj_la1[407] = jj_gen;
                             jj_consume_token(-1);
                             throw new ParseException();
                         }
                         break;
                       }
                     default:
-                      jj_la1[409] = jj_gen;
+                      jj_la1[408] = jj_gen;
                       jj_consume_token(-1);
                       throw new ParseException();
                   }
                   break;
                 }
               default:
-                jj_la1[410] = jj_gen;
+                jj_la1[409] = jj_gen;
                 ;
             }
             break;
           }
         default:
-          jj_la1[411] = jj_gen;
+          jj_la1[410] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -24369,7 +24252,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[412] = jj_gen;
+          jj_la1[411] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -24422,159 +24305,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jj_consume_token(LBRACE);
       label_60:
       while (true) {
-        switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
-          case SELECT:
-          case TRAVERSE:
-          case MATCH:
-          case INSERT:
-          case CREATE:
-          case DELETE:
-          case UPDATE:
-          case TO:
-          case WHILE:
-          case VALUE:
-          case VALUES:
-          case SET:
-          case ADD:
-          case PUT:
-          case MERGE:
-          case CONTENT:
-          case REMOVE:
-          case NULL:
-          case ORDER:
-          case GROUP:
-          case OFFSET:
-          case RETURN:
-          case RECORD:
-          case LET:
-          case CACHE:
-          case CYCLE:
-          case NOLIMIT:
-          case NOCYCLE:
-          case LUCENE:
-          case NEAR:
-          case WITHIN:
-          case MINDEPTH:
-          case CLASS:
-          case SUPERCLASS:
-          case CLASSES:
-          case SUPERCLASSES:
-          case VIEW:
-          case UPDATABLE:
-          case EXCEPTION:
-          case PROFILE:
-          case STORAGE:
-          case ON:
-          case OFF:
-          case TRUNCATE:
-          case FIND:
-          case REFERENCES:
-          case EXTENDS:
-          case CLUSTERS:
-          case ABSTRACT:
-          case ALTER:
-          case NAME:
-          case SHORTNAME:
-          case OVERSIZE:
-          case STRICTMODE:
-          case ADDCLUSTER:
-          case REMOVECLUSTER:
-          case CUSTOM:
-          case CLUSTERSELECTION:
-          case DESCRIPTION:
-          case ENCRYPTION:
-          case DROP:
-          case PROPERTY:
-          case FORCE:
-          case METADATA:
-          case INDEX:
-          case COLLATE:
-          case ENGINE:
-          case REBUILD:
-          case ID:
-          case DATABASE:
-          case OPTIMIZE:
-          case LINK:
-          case TYPE:
-          case INVERSE:
-          case EXPLAIN:
-          case GRANT:
-          case REVOKE:
-          case READ:
-          case EXECUTE:
-          case ALL:
-          case NONE:
-          case FUNCTION:
-          case PARAMETERS:
-          case IDEMPOTENT:
-          case LANGUAGE:
-          case BEGIN:
-          case COMMIT:
-          case ROLLBACK:
-          case IF:
-          case ELSE:
-          case CONTINUE:
-          case FAIL:
-          case ISOLATION:
-          case SLEEP:
-          case CONSOLE:
-          case BLOB:
-          case SHARED:
-          case DEFAULT_:
-          case SEQUENCE:
-          case START:
-          case OPTIONAL:
-          case COUNT:
-          case DISTINCT:
-          case HA:
-          case STATUS:
-          case SERVER:
-          case SYNC:
-          case EXISTS:
-          case FOREACH:
-          case MOVE:
-          case DEPTH_ALIAS:
-          case PATH_ALIAS:
-          case IDENTIFIED:
-          case ROLE:
-          case USER:
-          case USERS:
-          case RID:
-          case SECURITY:
-          case POLICY:
-          case DEFAULTCLUSTER:
-          case SYSTEM:
-          case THIS:
-          case RECORD_ATTRIBUTE:
-          case RID_STRING:
-          case TRUE:
-          case FALSE:
-          case INTEGER_LITERAL:
-          case FLOATING_POINT_LITERAL:
-          case CHARACTER_LITERAL:
-          case STRING_LITERAL:
-          case LPAREN:
-          case LBRACE:
-          case LBRACKET:
-          case SEMICOLON:
-          case HOOK:
-          case COLON:
-          case MINUS:
-          case STAR:
-          case IN:
-          case KEY:
-          case IDENTIFIER:
-          case QUOTED_IDENTIFIER:
-          case 271:
-            {
-              ;
-              break;
-            }
-          default:
-            jj_la1[413] = jj_gen;
-            break label_60;
+        if (jj_2_168(1)) {
+          ;
+        } else {
+          break label_60;
         }
-        if (jj_2_166(2147483647)) {
+        if (jj_2_169(2147483647)) {
           last = StatementSemicolon();
           jjtn000.addStatement(last);
         } else {
@@ -24603,7 +24339,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 break;
               }
             default:
-              jj_la1[414] = jj_gen;
+              jj_la1[412] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -24756,7 +24492,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[415] = jj_gen;
+          jj_la1[413] = jj_gen;
           ;
       }
       jj_consume_token(TYPE);
@@ -24785,7 +24521,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[416] = jj_gen;
+            jj_la1[414] = jj_gen;
             break label_61;
         }
         switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -24824,7 +24560,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[417] = jj_gen;
+                  jj_la1[415] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
@@ -24849,7 +24585,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[418] = jj_gen;
+            jj_la1[416] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -24916,7 +24652,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[419] = jj_gen;
+            jj_la1[417] = jj_gen;
             break label_62;
         }
         switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -24955,7 +24691,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[420] = jj_gen;
+                  jj_la1[418] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
@@ -24986,7 +24722,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[421] = jj_gen;
+            jj_la1[419] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -25046,7 +24782,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[422] = jj_gen;
+          jj_la1[420] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -25109,7 +24845,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[423] = jj_gen;
+            jj_la1[421] = jj_gen;
             break label_63;
         }
         switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -25160,7 +24896,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[424] = jj_gen;
+            jj_la1[422] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -25246,7 +24982,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[425] = jj_gen;
+            jj_la1[423] = jj_gen;
             break label_64;
         }
         switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -25263,7 +24999,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[426] = jj_gen;
+            jj_la1[424] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -25312,14 +25048,14 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[427] = jj_gen;
+                jj_la1[425] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
             break;
           }
         default:
-          jj_la1[428] = jj_gen;
+          jj_la1[426] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -25423,159 +25159,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jj_consume_token(LBRACE);
       label_65:
       while (true) {
-        switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
-          case SELECT:
-          case TRAVERSE:
-          case MATCH:
-          case INSERT:
-          case CREATE:
-          case DELETE:
-          case UPDATE:
-          case TO:
-          case WHILE:
-          case VALUE:
-          case VALUES:
-          case SET:
-          case ADD:
-          case PUT:
-          case MERGE:
-          case CONTENT:
-          case REMOVE:
-          case NULL:
-          case ORDER:
-          case GROUP:
-          case OFFSET:
-          case RETURN:
-          case RECORD:
-          case LET:
-          case CACHE:
-          case CYCLE:
-          case NOLIMIT:
-          case NOCYCLE:
-          case LUCENE:
-          case NEAR:
-          case WITHIN:
-          case MINDEPTH:
-          case CLASS:
-          case SUPERCLASS:
-          case CLASSES:
-          case SUPERCLASSES:
-          case VIEW:
-          case UPDATABLE:
-          case EXCEPTION:
-          case PROFILE:
-          case STORAGE:
-          case ON:
-          case OFF:
-          case TRUNCATE:
-          case FIND:
-          case REFERENCES:
-          case EXTENDS:
-          case CLUSTERS:
-          case ABSTRACT:
-          case ALTER:
-          case NAME:
-          case SHORTNAME:
-          case OVERSIZE:
-          case STRICTMODE:
-          case ADDCLUSTER:
-          case REMOVECLUSTER:
-          case CUSTOM:
-          case CLUSTERSELECTION:
-          case DESCRIPTION:
-          case ENCRYPTION:
-          case DROP:
-          case PROPERTY:
-          case FORCE:
-          case METADATA:
-          case INDEX:
-          case COLLATE:
-          case ENGINE:
-          case REBUILD:
-          case ID:
-          case DATABASE:
-          case OPTIMIZE:
-          case LINK:
-          case TYPE:
-          case INVERSE:
-          case EXPLAIN:
-          case GRANT:
-          case REVOKE:
-          case READ:
-          case EXECUTE:
-          case ALL:
-          case NONE:
-          case FUNCTION:
-          case PARAMETERS:
-          case IDEMPOTENT:
-          case LANGUAGE:
-          case BEGIN:
-          case COMMIT:
-          case ROLLBACK:
-          case IF:
-          case ELSE:
-          case CONTINUE:
-          case FAIL:
-          case ISOLATION:
-          case SLEEP:
-          case CONSOLE:
-          case BLOB:
-          case SHARED:
-          case DEFAULT_:
-          case SEQUENCE:
-          case START:
-          case OPTIONAL:
-          case COUNT:
-          case DISTINCT:
-          case HA:
-          case STATUS:
-          case SERVER:
-          case SYNC:
-          case EXISTS:
-          case FOREACH:
-          case MOVE:
-          case DEPTH_ALIAS:
-          case PATH_ALIAS:
-          case IDENTIFIED:
-          case ROLE:
-          case USER:
-          case USERS:
-          case RID:
-          case SECURITY:
-          case POLICY:
-          case DEFAULTCLUSTER:
-          case SYSTEM:
-          case THIS:
-          case RECORD_ATTRIBUTE:
-          case RID_STRING:
-          case TRUE:
-          case FALSE:
-          case INTEGER_LITERAL:
-          case FLOATING_POINT_LITERAL:
-          case CHARACTER_LITERAL:
-          case STRING_LITERAL:
-          case LPAREN:
-          case LBRACE:
-          case LBRACKET:
-          case SEMICOLON:
-          case HOOK:
-          case COLON:
-          case MINUS:
-          case STAR:
-          case IN:
-          case KEY:
-          case IDENTIFIER:
-          case QUOTED_IDENTIFIER:
-          case 271:
-            {
-              ;
-              break;
-            }
-          default:
-            jj_la1[429] = jj_gen;
-            break label_65;
+        if (jj_2_170(1)) {
+          ;
+        } else {
+          break label_65;
         }
-        if (jj_2_167(2147483647)) {
+        if (jj_2_171(2147483647)) {
           lastStatement = StatementSemicolon();
           jjtn000.addStatement(lastStatement);
         } else {
@@ -25604,7 +25193,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 break;
               }
             default:
-              jj_la1[430] = jj_gen;
+              jj_la1[427] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -25661,159 +25250,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       jj_consume_token(LBRACE);
       label_66:
       while (true) {
-        switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
-          case SELECT:
-          case TRAVERSE:
-          case MATCH:
-          case INSERT:
-          case CREATE:
-          case DELETE:
-          case UPDATE:
-          case TO:
-          case WHILE:
-          case VALUE:
-          case VALUES:
-          case SET:
-          case ADD:
-          case PUT:
-          case MERGE:
-          case CONTENT:
-          case REMOVE:
-          case NULL:
-          case ORDER:
-          case GROUP:
-          case OFFSET:
-          case RETURN:
-          case RECORD:
-          case LET:
-          case CACHE:
-          case CYCLE:
-          case NOLIMIT:
-          case NOCYCLE:
-          case LUCENE:
-          case NEAR:
-          case WITHIN:
-          case MINDEPTH:
-          case CLASS:
-          case SUPERCLASS:
-          case CLASSES:
-          case SUPERCLASSES:
-          case VIEW:
-          case UPDATABLE:
-          case EXCEPTION:
-          case PROFILE:
-          case STORAGE:
-          case ON:
-          case OFF:
-          case TRUNCATE:
-          case FIND:
-          case REFERENCES:
-          case EXTENDS:
-          case CLUSTERS:
-          case ABSTRACT:
-          case ALTER:
-          case NAME:
-          case SHORTNAME:
-          case OVERSIZE:
-          case STRICTMODE:
-          case ADDCLUSTER:
-          case REMOVECLUSTER:
-          case CUSTOM:
-          case CLUSTERSELECTION:
-          case DESCRIPTION:
-          case ENCRYPTION:
-          case DROP:
-          case PROPERTY:
-          case FORCE:
-          case METADATA:
-          case INDEX:
-          case COLLATE:
-          case ENGINE:
-          case REBUILD:
-          case ID:
-          case DATABASE:
-          case OPTIMIZE:
-          case LINK:
-          case TYPE:
-          case INVERSE:
-          case EXPLAIN:
-          case GRANT:
-          case REVOKE:
-          case READ:
-          case EXECUTE:
-          case ALL:
-          case NONE:
-          case FUNCTION:
-          case PARAMETERS:
-          case IDEMPOTENT:
-          case LANGUAGE:
-          case BEGIN:
-          case COMMIT:
-          case ROLLBACK:
-          case IF:
-          case ELSE:
-          case CONTINUE:
-          case FAIL:
-          case ISOLATION:
-          case SLEEP:
-          case CONSOLE:
-          case BLOB:
-          case SHARED:
-          case DEFAULT_:
-          case SEQUENCE:
-          case START:
-          case OPTIONAL:
-          case COUNT:
-          case DISTINCT:
-          case HA:
-          case STATUS:
-          case SERVER:
-          case SYNC:
-          case EXISTS:
-          case FOREACH:
-          case MOVE:
-          case DEPTH_ALIAS:
-          case PATH_ALIAS:
-          case IDENTIFIED:
-          case ROLE:
-          case USER:
-          case USERS:
-          case RID:
-          case SECURITY:
-          case POLICY:
-          case DEFAULTCLUSTER:
-          case SYSTEM:
-          case THIS:
-          case RECORD_ATTRIBUTE:
-          case RID_STRING:
-          case TRUE:
-          case FALSE:
-          case INTEGER_LITERAL:
-          case FLOATING_POINT_LITERAL:
-          case CHARACTER_LITERAL:
-          case STRING_LITERAL:
-          case LPAREN:
-          case LBRACE:
-          case LBRACKET:
-          case SEMICOLON:
-          case HOOK:
-          case COLON:
-          case MINUS:
-          case STAR:
-          case IN:
-          case KEY:
-          case IDENTIFIER:
-          case QUOTED_IDENTIFIER:
-          case 271:
-            {
-              ;
-              break;
-            }
-          default:
-            jj_la1[431] = jj_gen;
-            break label_66;
+        if (jj_2_172(1)) {
+          ;
+        } else {
+          break label_66;
         }
-        if (jj_2_168(2147483647)) {
+        if (jj_2_173(2147483647)) {
           lastStatement = StatementSemicolon();
           jjtn000.addStatement(lastStatement);
         } else {
@@ -25842,7 +25284,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                 break;
               }
             default:
-              jj_la1[432] = jj_gen;
+              jj_la1[428] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
           }
@@ -26101,7 +25543,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[433] = jj_gen;
+          jj_la1[429] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -26113,7 +25555,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[434] = jj_gen;
+          jj_la1[430] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -26226,7 +25668,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                   break;
                 }
               default:
-                jj_la1[435] = jj_gen;
+                jj_la1[431] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
@@ -26239,7 +25681,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[436] = jj_gen;
+                  jj_la1[432] = jj_gen;
                   break label_67;
               }
               jj_consume_token(COMMA);
@@ -26301,7 +25743,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[437] = jj_gen;
+                  jj_la1[433] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
@@ -26309,7 +25751,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[438] = jj_gen;
+          jj_la1[434] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -26423,7 +25865,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[439] = jj_gen;
+                  jj_la1[435] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
@@ -26436,7 +25878,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       break;
                     }
                   default:
-                    jj_la1[440] = jj_gen;
+                    jj_la1[436] = jj_gen;
                     break label_69;
                 }
                 jj_consume_token(COMMA);
@@ -26498,7 +25940,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       break;
                     }
                   default:
-                    jj_la1[441] = jj_gen;
+                    jj_la1[437] = jj_gen;
                     jj_consume_token(-1);
                     throw new ParseException();
                 }
@@ -26548,7 +25990,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[442] = jj_gen;
+                  jj_la1[438] = jj_gen;
                   jj_consume_token(-1);
                   throw new ParseException();
               }
@@ -26561,7 +26003,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       break;
                     }
                   default:
-                    jj_la1[443] = jj_gen;
+                    jj_la1[439] = jj_gen;
                     break label_70;
                 }
                 jj_consume_token(COMMA);
@@ -26605,7 +26047,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                       break;
                     }
                   default:
-                    jj_la1[444] = jj_gen;
+                    jj_la1[440] = jj_gen;
                     jj_consume_token(-1);
                     throw new ParseException();
                 }
@@ -26613,7 +26055,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[445] = jj_gen;
+            jj_la1[441] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
         }
@@ -26625,7 +26067,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               break;
             }
           default:
-            jj_la1[446] = jj_gen;
+            jj_la1[442] = jj_gen;
             break label_68;
         }
       }
@@ -26796,7 +26238,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[447] = jj_gen;
+          jj_la1[443] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -26932,7 +26374,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[448] = jj_gen;
+          jj_la1[444] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -27186,7 +26628,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                                 break;
                               }
                             default:
-                              jj_la1[449] = jj_gen;
+                              jj_la1[445] = jj_gen;
                               break label_71;
                           }
                           jj_consume_token(COMMA);
@@ -27196,21 +26638,21 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                         break;
                       }
                     default:
-                      jj_la1[450] = jj_gen;
+                      jj_la1[446] = jj_gen;
                       ;
                   }
                   jj_consume_token(RBRACKET);
                   break;
                 }
               default:
-                jj_la1[451] = jj_gen;
+                jj_la1[447] = jj_gen;
                 jj_consume_token(-1);
                 throw new ParseException();
             }
             break;
           }
         default:
-          jj_la1[452] = jj_gen;
+          jj_la1[448] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -27382,7 +26824,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[453] = jj_gen;
+          jj_la1[449] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -27397,7 +26839,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[454] = jj_gen;
+          jj_la1[450] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -27416,7 +26858,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
                     break;
                   }
                 default:
-                  jj_la1[455] = jj_gen;
+                  jj_la1[451] = jj_gen;
                   break label_72;
               }
               jj_consume_token(COMMA);
@@ -27427,7 +26869,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[456] = jj_gen;
+          jj_la1[452] = jj_gen;
           ;
       }
       switch ((jj_ntk == -1) ? jj_ntk_f() : jj_ntk) {
@@ -27437,7 +26879,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[457] = jj_gen;
+          jj_la1[453] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -27608,7 +27050,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[458] = jj_gen;
+          jj_la1[454] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
       }
@@ -27621,7 +27063,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
             break;
           }
         default:
-          jj_la1[459] = jj_gen;
+          jj_la1[455] = jj_gen;
           ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -29675,484 +29117,544 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     }
   }
 
-  private boolean jj_3_138() {
-    if (jj_3R_SelectStatement_1151_5_159()) return true;
+  private boolean jj_2_169(int xla) {
+    jj_la = xla;
+    jj_lastpos = jj_scanpos = token;
+    try {
+      return (!jj_3_169());
+    } catch (LookaheadSuccess ls) {
+      return true;
+    } finally {
+      jj_save(168, xla);
+    }
+  }
+
+  private boolean jj_2_170(int xla) {
+    jj_la = xla;
+    jj_lastpos = jj_scanpos = token;
+    try {
+      return (!jj_3_170());
+    } catch (LookaheadSuccess ls) {
+      return true;
+    } finally {
+      jj_save(169, xla);
+    }
+  }
+
+  private boolean jj_2_171(int xla) {
+    jj_la = xla;
+    jj_lastpos = jj_scanpos = token;
+    try {
+      return (!jj_3_171());
+    } catch (LookaheadSuccess ls) {
+      return true;
+    } finally {
+      jj_save(170, xla);
+    }
+  }
+
+  private boolean jj_2_172(int xla) {
+    jj_la = xla;
+    jj_lastpos = jj_scanpos = token;
+    try {
+      return (!jj_3_172());
+    } catch (LookaheadSuccess ls) {
+      return true;
+    } finally {
+      jj_save(171, xla);
+    }
+  }
+
+  private boolean jj_2_173(int xla) {
+    jj_la = xla;
+    jj_lastpos = jj_scanpos = token;
+    try {
+      return (!jj_3_173());
+    } catch (LookaheadSuccess ls) {
+      return true;
+    } finally {
+      jj_save(172, xla);
+    }
+  }
+
+  private boolean jj_3_139() {
+    if (jj_3R_SelectStatement_1154_5_163()) return true;
     return false;
   }
 
-  private boolean jj_3R_ContainsAllCondition_3054_5_219() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_ContainsAllCondition_3057_5_223() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     if (jj_scan_token(CONTAINSALL)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_141()) {
+    if (jj_3_142()) {
       jj_scanpos = xsp;
-      if (jj_3R_ContainsAllCondition_3061_17_444()) return true;
+      if (jj_3R_ContainsAllCondition_3064_17_463()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_NotInCondition_3045_13_439() {
-    if (jj_3R_MathExpression_2292_5_189()) return true;
+  private boolean jj_3R_NotInCondition_3048_13_458() {
+    if (jj_3R_MathExpression_2295_5_193()) return true;
     return false;
   }
 
-  private boolean jj_3R_NotInCondition_3037_18_227() {
-    if (jj_3R_SelectWithoutTargetStatement_1114_5_372()) return true;
+  private boolean jj_3R_NotInCondition_3040_18_231() {
+    if (jj_3R_SelectWithoutTargetStatement_1117_5_391()) return true;
     return false;
   }
 
-  private boolean jj_3_140() {
+  private boolean jj_3_141() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_InputParameter_1864_5_176()) return true;
+    if (jj_3R_InputParameter_1867_5_180()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_NotInCondition_3035_18_226() {
-    if (jj_3R_SelectStatement_1151_5_159()) return true;
+  private boolean jj_3R_NotInCondition_3038_18_230() {
+    if (jj_3R_SelectStatement_1154_5_163()) return true;
     return false;
   }
 
-  private boolean jj_3_139() {
+  private boolean jj_3_140() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_NotInCondition_3035_18_226()) {
+    if (jj_3R_NotInCondition_3038_18_230()) {
       jj_scanpos = xsp;
-      if (jj_3R_NotInCondition_3037_18_227()) return true;
+      if (jj_3R_NotInCondition_3040_18_231()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_135() {
-    if (jj_3R_SelectStatement_1151_5_159()) return true;
+  private boolean jj_3_136() {
+    if (jj_3R_SelectStatement_1154_5_163()) return true;
     return false;
   }
 
-  private boolean jj_3R_NotInCondition_3029_5_214() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_NotInCondition_3032_5_218() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     if (jj_scan_token(NOT)) return true;
-    if (jj_3R_InOperator_2993_5_437()) return true;
+    if (jj_3R_InOperator_2996_5_456()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_139()) {
+    if (jj_3_140()) {
       jj_scanpos = xsp;
-      if (jj_3_140()) {
+      if (jj_3_141()) {
         jj_scanpos = xsp;
-        if (jj_3R_NotInCondition_3045_13_439()) return true;
+        if (jj_3R_NotInCondition_3048_13_458()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_InCondition_3011_18_225() {
-    if (jj_3R_SelectWithoutTargetStatement_1114_5_372()) return true;
+  private boolean jj_3R_InCondition_3014_18_229() {
+    if (jj_3R_SelectWithoutTargetStatement_1117_5_391()) return true;
     return false;
   }
 
-  private boolean jj_3_137() {
+  private boolean jj_3_138() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_InputParameter_1864_5_176()) return true;
+    if (jj_3R_InputParameter_1867_5_180()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_InCondition_3019_9_438() {
-    if (jj_3R_MathExpression_2292_5_189()) return true;
+  private boolean jj_3R_InCondition_3022_9_457() {
+    if (jj_3R_MathExpression_2295_5_193()) return true;
     return false;
   }
 
-  private boolean jj_3R_InCondition_3009_18_224() {
-    if (jj_3R_SelectStatement_1151_5_159()) return true;
+  private boolean jj_3R_InCondition_3012_18_228() {
+    if (jj_3R_SelectStatement_1154_5_163()) return true;
     return false;
   }
 
-  private boolean jj_3_136() {
+  private boolean jj_3_137() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_InCondition_3009_18_224()) {
+    if (jj_3R_InCondition_3012_18_228()) {
       jj_scanpos = xsp;
-      if (jj_3R_InCondition_3011_18_225()) return true;
+      if (jj_3R_InCondition_3014_18_229()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_134() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3_135() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_InCondition_3002_1_213() {
-    if (jj_3R_Expression_2224_5_161()) return true;
-    if (jj_3R_InOperator_2993_5_437()) return true;
+  private boolean jj_3R_InCondition_3005_1_217() {
+    if (jj_3R_Expression_2227_5_165()) return true;
+    if (jj_3R_InOperator_2996_5_456()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_136()) {
+    if (jj_3_137()) {
       jj_scanpos = xsp;
-      if (jj_3_137()) {
+      if (jj_3_138()) {
         jj_scanpos = xsp;
-        if (jj_3R_InCondition_3019_9_438()) return true;
+        if (jj_3R_InCondition_3022_9_457()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_InOperator_2993_5_437() {
+  private boolean jj_3R_InOperator_2996_5_456() {
     if (jj_scan_token(IN)) return true;
     return false;
   }
 
-  private boolean jj_3R_ContainsCondition_2983_13_441() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_ContainsCondition_2986_13_460() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3_133() {
+  private boolean jj_3_134() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_ContainsCondition_2977_5_217() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_ContainsCondition_2980_5_221() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     if (jj_scan_token(CONTAINS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_133()) {
+    if (jj_3_134()) {
       jj_scanpos = xsp;
-      if (jj_3R_ContainsCondition_2983_13_441()) return true;
+      if (jj_3R_ContainsCondition_2986_13_460()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_IsNotDefinedCondition_2969_1_211() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_IsNotDefinedCondition_2972_1_215() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(DEFINED)) return true;
     return false;
   }
 
-  private boolean jj_3R_IsDefinedCondition_2961_1_212() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_IsDefinedCondition_2964_1_216() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(DEFINED)) return true;
     return false;
   }
 
-  private boolean jj_3R_IsNotNullCondition_2953_1_209() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_IsNotNullCondition_2956_1_213() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_IsNullCondition_2944_5_210() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_IsNullCondition_2947_5_214() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     if (jj_scan_token(IS)) return true;
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_InstanceofCondition_2925_20_452() {
+  private boolean jj_3R_InstanceofCondition_2928_20_471() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_InstanceofCondition_2923_20_451() {
-    if (jj_3R_String_566_5_607()) return true;
+  private boolean jj_3R_InstanceofCondition_2926_20_470() {
+    if (jj_3R_String_566_5_627()) return true;
     return false;
   }
 
-  private boolean jj_3R_InstanceofCondition_2921_20_450() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_InstanceofCondition_2924_20_469() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_BetweenCondition_2934_1_216() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_BetweenCondition_2937_1_220() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     if (jj_scan_token(BETWEEN)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     if (jj_scan_token(AND)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3_132() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3_133() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_InstanceofCondition_2919_5_223() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_InstanceofCondition_2922_5_227() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     if (jj_scan_token(INSTANCEOF)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_InstanceofCondition_2921_20_450()) {
+    if (jj_3R_InstanceofCondition_2924_20_469()) {
       jj_scanpos = xsp;
-      if (jj_3R_InstanceofCondition_2923_20_451()) {
+      if (jj_3R_InstanceofCondition_2926_20_470()) {
         jj_scanpos = xsp;
-        if (jj_3R_InstanceofCondition_2925_20_452()) return true;
+        if (jj_3R_InstanceofCondition_2928_20_471()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_ContainsValueCondition_2908_9_443() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_ContainsValueCondition_2911_9_462() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3_131() {
+  private boolean jj_3_132() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_ContainsValueCondition_2901_1_218() {
-    if (jj_3R_Expression_2224_5_161()) return true;
-    if (jj_3R_ContainsValueOperator_2854_1_442()) return true;
+  private boolean jj_3R_ContainsValueCondition_2904_1_222() {
+    if (jj_3R_Expression_2227_5_165()) return true;
+    if (jj_3R_ContainsValueOperator_2857_1_461()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_131()) {
+    if (jj_3_132()) {
       jj_scanpos = xsp;
-      if (jj_3R_ContainsValueCondition_2908_9_443()) return true;
+      if (jj_3R_ContainsValueCondition_2911_9_462()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_BinaryCondition_2891_1_215() {
-    if (jj_3R_Expression_2224_5_161()) return true;
-    if (jj_3R_CompareOperator_2734_1_440()) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_BinaryCondition_2894_1_219() {
+    if (jj_3R_Expression_2227_5_165()) return true;
+    if (jj_3R_CompareOperator_2737_1_459()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_RightBinaryCondition_2880_12_566() {
+  private boolean jj_3R_RightBinaryCondition_2883_12_586() {
     if (jj_scan_token(NOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_RightBinaryCondition_2879_8_392() {
+  private boolean jj_3R_RightBinaryCondition_2882_8_411() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_RightBinaryCondition_2880_12_566()) jj_scanpos = xsp;
-    if (jj_3R_InOperator_2993_5_437()) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_RightBinaryCondition_2883_12_586()) jj_scanpos = xsp;
+    if (jj_3R_InOperator_2996_5_456()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_RightBinaryCondition_2874_8_391() {
-    if (jj_3R_CompareOperator_2734_1_440()) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_RightBinaryCondition_2877_8_410() {
+    if (jj_3R_CompareOperator_2737_1_459()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_RightBinaryCondition_2873_3_182() {
+  private boolean jj_3R_RightBinaryCondition_2876_3_186() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_RightBinaryCondition_2874_8_391()) {
+    if (jj_3R_RightBinaryCondition_2877_8_410()) {
       jj_scanpos = xsp;
-      if (jj_3R_RightBinaryCondition_2879_8_392()) return true;
+      if (jj_3R_RightBinaryCondition_2882_8_411()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_EqualsCompareOperator_2865_9_840() {
+  private boolean jj_3R_EqualsCompareOperator_2868_9_860() {
     if (jj_scan_token(EQEQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_EqualsCompareOperator_2863_9_839() {
+  private boolean jj_3R_EqualsCompareOperator_2866_9_859() {
     if (jj_scan_token(EQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_EqualsCompareOperator_2862_1_689() {
+  private boolean jj_3R_EqualsCompareOperator_2865_1_709() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_EqualsCompareOperator_2863_9_839()) {
+    if (jj_3R_EqualsCompareOperator_2866_9_859()) {
       jj_scanpos = xsp;
-      if (jj_3R_EqualsCompareOperator_2865_9_840()) return true;
+      if (jj_3R_EqualsCompareOperator_2868_9_860()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_ContainsValueOperator_2854_1_442() {
+  private boolean jj_3R_ContainsValueOperator_2857_1_461() {
     if (jj_scan_token(CONTAINSVALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_ContainsKeyOperator_2846_1_697() {
+  private boolean jj_3R_ContainsKeyOperator_2849_1_717() {
     if (jj_scan_token(CONTAINSKEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_ScAndOperator_2838_1_701() {
+  private boolean jj_3R_ScAndOperator_2841_1_721() {
     if (jj_scan_token(SC_AND)) return true;
     return false;
   }
 
-  private boolean jj_3R_WithinOperator_2830_1_700() {
+  private boolean jj_3R_WithinOperator_2833_1_720() {
     if (jj_scan_token(WITHIN)) return true;
     return false;
   }
 
-  private boolean jj_3R_NearOperator_2822_1_699() {
+  private boolean jj_3R_NearOperator_2825_1_719() {
     if (jj_scan_token(NEAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_LuceneOperator_2812_1_698() {
+  private boolean jj_3R_LuceneOperator_2815_1_718() {
     if (jj_scan_token(LUCENE)) return true;
     return false;
   }
 
-  private boolean jj_3R_LikeOperator_2804_1_696() {
+  private boolean jj_3R_LikeOperator_2807_1_716() {
     if (jj_scan_token(LIKE)) return true;
     return false;
   }
 
-  private boolean jj_3R_LeOperator_2796_1_695() {
+  private boolean jj_3R_LeOperator_2799_1_715() {
     if (jj_scan_token(LE)) return true;
     return false;
   }
 
-  private boolean jj_3R_GeOperator_2788_1_694() {
+  private boolean jj_3R_GeOperator_2791_1_714() {
     if (jj_scan_token(GE)) return true;
     return false;
   }
 
-  private boolean jj_3R_NeqOperator_2780_1_693() {
+  private boolean jj_3R_NeqOperator_2783_1_713() {
     if (jj_scan_token(NEQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_NeOperator_2772_1_692() {
+  private boolean jj_3R_NeOperator_2775_1_712() {
     if (jj_scan_token(NE)) return true;
     return false;
   }
 
-  private boolean jj_3R_GtOperator_2764_1_691() {
+  private boolean jj_3R_GtOperator_2767_1_711() {
     if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  private boolean jj_3R_LtOperator_2756_1_690() {
+  private boolean jj_3R_LtOperator_2759_1_710() {
     if (jj_scan_token(LT)) return true;
     return false;
   }
 
-  private boolean jj_3R_CompareOperator_2747_9_606() {
-    if (jj_3R_ScAndOperator_2838_1_701()) return true;
+  private boolean jj_3R_CompareOperator_2750_9_626() {
+    if (jj_3R_ScAndOperator_2841_1_721()) return true;
     return false;
   }
 
-  private boolean jj_3R_CompareOperator_2746_9_605() {
-    if (jj_3R_WithinOperator_2830_1_700()) return true;
+  private boolean jj_3R_CompareOperator_2749_9_625() {
+    if (jj_3R_WithinOperator_2833_1_720()) return true;
     return false;
   }
 
-  private boolean jj_3R_CompareOperator_2745_9_604() {
-    if (jj_3R_NearOperator_2822_1_699()) return true;
+  private boolean jj_3R_CompareOperator_2748_9_624() {
+    if (jj_3R_NearOperator_2825_1_719()) return true;
     return false;
   }
 
-  private boolean jj_3R_CompareOperator_2744_9_603() {
-    if (jj_3R_LuceneOperator_2812_1_698()) return true;
+  private boolean jj_3R_CompareOperator_2747_9_623() {
+    if (jj_3R_LuceneOperator_2815_1_718()) return true;
     return false;
   }
 
-  private boolean jj_3R_CompareOperator_2735_17_594() {
-    if (jj_3R_EqualsCompareOperator_2862_1_689()) return true;
+  private boolean jj_3R_CompareOperator_2738_17_614() {
+    if (jj_3R_EqualsCompareOperator_2865_1_709()) return true;
     return false;
   }
 
-  private boolean jj_3R_CompareOperator_2743_9_602() {
-    if (jj_3R_ContainsKeyOperator_2846_1_697()) return true;
+  private boolean jj_3R_CompareOperator_2746_9_622() {
+    if (jj_3R_ContainsKeyOperator_2849_1_717()) return true;
     return false;
   }
 
-  private boolean jj_3R_CompareOperator_2742_9_601() {
-    if (jj_3R_LikeOperator_2804_1_696()) return true;
+  private boolean jj_3R_CompareOperator_2745_9_621() {
+    if (jj_3R_LikeOperator_2807_1_716()) return true;
     return false;
   }
 
-  private boolean jj_3R_CompareOperator_2741_9_600() {
-    if (jj_3R_LeOperator_2796_1_695()) return true;
+  private boolean jj_3R_CompareOperator_2744_9_620() {
+    if (jj_3R_LeOperator_2799_1_715()) return true;
     return false;
   }
 
-  private boolean jj_3R_CompareOperator_2740_9_599() {
-    if (jj_3R_GeOperator_2788_1_694()) return true;
+  private boolean jj_3R_CompareOperator_2743_9_619() {
+    if (jj_3R_GeOperator_2791_1_714()) return true;
     return false;
   }
 
-  private boolean jj_3R_CompareOperator_2739_9_598() {
-    if (jj_3R_NeqOperator_2780_1_693()) return true;
+  private boolean jj_3R_CompareOperator_2742_9_618() {
+    if (jj_3R_NeqOperator_2783_1_713()) return true;
     return false;
   }
 
-  private boolean jj_3R_CompareOperator_2738_9_597() {
-    if (jj_3R_NeOperator_2772_1_692()) return true;
+  private boolean jj_3R_CompareOperator_2741_9_617() {
+    if (jj_3R_NeOperator_2775_1_712()) return true;
     return false;
   }
 
-  private boolean jj_3R_CompareOperator_2737_9_596() {
-    if (jj_3R_GtOperator_2764_1_691()) return true;
+  private boolean jj_3R_CompareOperator_2740_9_616() {
+    if (jj_3R_GtOperator_2767_1_711()) return true;
     return false;
   }
 
-  private boolean jj_3R_CompareOperator_2736_9_595() {
-    if (jj_3R_LtOperator_2756_1_690()) return true;
+  private boolean jj_3R_CompareOperator_2739_9_615() {
+    if (jj_3R_LtOperator_2759_1_710()) return true;
     return false;
   }
 
-  private boolean jj_3_130() {
-    if (jj_3R_InstanceofCondition_2919_5_223()) return true;
+  private boolean jj_3_131() {
+    if (jj_3R_InstanceofCondition_2922_5_227()) return true;
     return false;
   }
 
-  private boolean jj_3_129() {
-    if (jj_3R_MatchesCondition_3097_5_222()) return true;
+  private boolean jj_3_130() {
+    if (jj_3R_MatchesCondition_3100_5_226()) return true;
     return false;
   }
 
-  private boolean jj_3R_CompareOperator_2734_1_440() {
+  private boolean jj_3R_CompareOperator_2737_1_459() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CompareOperator_2735_17_594()) {
+    if (jj_3R_CompareOperator_2738_17_614()) {
       jj_scanpos = xsp;
-      if (jj_3R_CompareOperator_2736_9_595()) {
+      if (jj_3R_CompareOperator_2739_9_615()) {
         jj_scanpos = xsp;
-        if (jj_3R_CompareOperator_2737_9_596()) {
+        if (jj_3R_CompareOperator_2740_9_616()) {
           jj_scanpos = xsp;
-          if (jj_3R_CompareOperator_2738_9_597()) {
+          if (jj_3R_CompareOperator_2741_9_617()) {
             jj_scanpos = xsp;
-            if (jj_3R_CompareOperator_2739_9_598()) {
+            if (jj_3R_CompareOperator_2742_9_618()) {
               jj_scanpos = xsp;
-              if (jj_3R_CompareOperator_2740_9_599()) {
+              if (jj_3R_CompareOperator_2743_9_619()) {
                 jj_scanpos = xsp;
-                if (jj_3R_CompareOperator_2741_9_600()) {
+                if (jj_3R_CompareOperator_2744_9_620()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_CompareOperator_2742_9_601()) {
+                  if (jj_3R_CompareOperator_2745_9_621()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_CompareOperator_2743_9_602()) {
+                    if (jj_3R_CompareOperator_2746_9_622()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_CompareOperator_2744_9_603()) {
+                      if (jj_3R_CompareOperator_2747_9_623()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_CompareOperator_2745_9_604()) {
+                        if (jj_3R_CompareOperator_2748_9_624()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_CompareOperator_2746_9_605()) {
+                          if (jj_3R_CompareOperator_2749_9_625()) {
                             jj_scanpos = xsp;
-                            if (jj_3R_CompareOperator_2747_9_606()) return true;
+                            if (jj_3R_CompareOperator_2750_9_626()) return true;
                           }
                         }
                       }
@@ -30168,197 +29670,197 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_128() {
-    if (jj_3R_ContainsTextCondition_3088_5_221()) return true;
+  private boolean jj_3_129() {
+    if (jj_3R_ContainsTextCondition_3091_5_225()) return true;
     return false;
   }
 
-  private boolean jj_3R_ConditionBlock_2727_5_436() {
+  private boolean jj_3R_ConditionBlock_2730_5_455() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_ConditionBlock_2722_9_434() {
-    if (jj_3R_InstanceofCondition_2919_5_223()) return true;
+  private boolean jj_3R_ConditionBlock_2725_9_453() {
+    if (jj_3R_InstanceofCondition_2922_5_227()) return true;
     return false;
   }
 
-  private boolean jj_3_126() {
-    if (jj_3R_ContainsAllCondition_3054_5_219()) return true;
+  private boolean jj_3_127() {
+    if (jj_3R_ContainsAllCondition_3057_5_223()) return true;
     return false;
   }
 
-  private boolean jj_3R_ConditionBlock_2725_5_435() {
+  private boolean jj_3R_ConditionBlock_2728_5_454() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3_127() {
-    if (jj_3R_ContainsAnyCondition_3071_5_220()) return true;
+  private boolean jj_3_128() {
+    if (jj_3R_ContainsAnyCondition_3074_5_224()) return true;
     return false;
   }
 
-  private boolean jj_3R_ConditionBlock_2719_9_433() {
-    if (jj_3R_MatchesCondition_3097_5_222()) return true;
+  private boolean jj_3R_ConditionBlock_2722_9_452() {
+    if (jj_3R_MatchesCondition_3100_5_226()) return true;
     return false;
   }
 
-  private boolean jj_3_125() {
-    if (jj_3R_ContainsValueCondition_2901_1_218()) return true;
+  private boolean jj_3_126() {
+    if (jj_3R_ContainsValueCondition_2904_1_222()) return true;
     return false;
   }
 
-  private boolean jj_3_124() {
-    if (jj_3R_ContainsCondition_2977_5_217()) return true;
+  private boolean jj_3_125() {
+    if (jj_3R_ContainsCondition_2980_5_221()) return true;
     return false;
   }
 
-  private boolean jj_3_123() {
-    if (jj_3R_BetweenCondition_2934_1_216()) return true;
+  private boolean jj_3_124() {
+    if (jj_3R_BetweenCondition_2937_1_220()) return true;
     return false;
   }
 
-  private boolean jj_3R_ConditionBlock_2716_5_432() {
-    if (jj_3R_ContainsTextCondition_3088_5_221()) return true;
+  private boolean jj_3R_ConditionBlock_2719_5_451() {
+    if (jj_3R_ContainsTextCondition_3091_5_225()) return true;
     return false;
   }
 
-  private boolean jj_3R_ConditionBlock_2710_9_430() {
-    if (jj_3R_ContainsAllCondition_3054_5_219()) return true;
+  private boolean jj_3R_ConditionBlock_2713_9_449() {
+    if (jj_3R_ContainsAllCondition_3057_5_223()) return true;
     return false;
   }
 
-  private boolean jj_3_122() {
-    if (jj_3R_BinaryCondition_2891_1_215()) return true;
+  private boolean jj_3_123() {
+    if (jj_3R_BinaryCondition_2894_1_219()) return true;
     return false;
   }
 
-  private boolean jj_3R_ConditionBlock_2713_5_431() {
-    if (jj_3R_ContainsAnyCondition_3071_5_220()) return true;
+  private boolean jj_3R_ConditionBlock_2716_5_450() {
+    if (jj_3R_ContainsAnyCondition_3074_5_224()) return true;
     return false;
   }
 
-  private boolean jj_3R_ConditionBlock_2707_9_429() {
-    if (jj_3R_ContainsValueCondition_2901_1_218()) return true;
+  private boolean jj_3R_ConditionBlock_2710_9_448() {
+    if (jj_3R_ContainsValueCondition_2904_1_222()) return true;
     return false;
   }
 
-  private boolean jj_3R_ConditionBlock_2704_9_428() {
-    if (jj_3R_ContainsCondition_2977_5_217()) return true;
+  private boolean jj_3R_ConditionBlock_2707_9_447() {
+    if (jj_3R_ContainsCondition_2980_5_221()) return true;
     return false;
   }
 
-  private boolean jj_3_120() {
-    if (jj_3R_InCondition_3002_1_213()) return true;
+  private boolean jj_3_121() {
+    if (jj_3R_InCondition_3005_1_217()) return true;
     return false;
   }
 
-  private boolean jj_3_121() {
-    if (jj_3R_NotInCondition_3029_5_214()) return true;
+  private boolean jj_3_122() {
+    if (jj_3R_NotInCondition_3032_5_218()) return true;
     return false;
   }
 
-  private boolean jj_3R_ConditionBlock_2701_9_427() {
-    if (jj_3R_BetweenCondition_2934_1_216()) return true;
+  private boolean jj_3R_ConditionBlock_2704_9_446() {
+    if (jj_3R_BetweenCondition_2937_1_220()) return true;
     return false;
   }
 
-  private boolean jj_3_119() {
-    if (jj_3R_IsDefinedCondition_2961_1_212()) return true;
+  private boolean jj_3_120() {
+    if (jj_3R_IsDefinedCondition_2964_1_216()) return true;
     return false;
   }
 
-  private boolean jj_3R_ConditionBlock_2698_9_426() {
-    if (jj_3R_BinaryCondition_2891_1_215()) return true;
+  private boolean jj_3R_ConditionBlock_2701_9_445() {
+    if (jj_3R_BinaryCondition_2894_1_219()) return true;
     return false;
   }
 
-  private boolean jj_3_118() {
-    if (jj_3R_IsNotDefinedCondition_2969_1_211()) return true;
+  private boolean jj_3_119() {
+    if (jj_3R_IsNotDefinedCondition_2972_1_215()) return true;
     return false;
   }
 
-  private boolean jj_3_117() {
-    if (jj_3R_IsNullCondition_2944_5_210()) return true;
+  private boolean jj_3_118() {
+    if (jj_3R_IsNullCondition_2947_5_214()) return true;
     return false;
   }
 
-  private boolean jj_3R_ConditionBlock_2692_9_424() {
-    if (jj_3R_InCondition_3002_1_213()) return true;
+  private boolean jj_3R_ConditionBlock_2695_9_443() {
+    if (jj_3R_InCondition_3005_1_217()) return true;
     return false;
   }
 
-  private boolean jj_3_116() {
-    if (jj_3R_IsNotNullCondition_2953_1_209()) return true;
+  private boolean jj_3_117() {
+    if (jj_3R_IsNotNullCondition_2956_1_213()) return true;
     return false;
   }
 
-  private boolean jj_3R_ConditionBlock_2695_5_425() {
-    if (jj_3R_NotInCondition_3029_5_214()) return true;
+  private boolean jj_3R_ConditionBlock_2698_5_444() {
+    if (jj_3R_NotInCondition_3032_5_218()) return true;
     return false;
   }
 
-  private boolean jj_3R_ConditionBlock_2689_9_423() {
-    if (jj_3R_IsDefinedCondition_2961_1_212()) return true;
+  private boolean jj_3R_ConditionBlock_2692_9_442() {
+    if (jj_3R_IsDefinedCondition_2964_1_216()) return true;
     return false;
   }
 
-  private boolean jj_3R_ConditionBlock_2686_9_422() {
-    if (jj_3R_IsNotDefinedCondition_2969_1_211()) return true;
+  private boolean jj_3R_ConditionBlock_2689_9_441() {
+    if (jj_3R_IsNotDefinedCondition_2972_1_215()) return true;
     return false;
   }
 
-  private boolean jj_3R_ConditionBlock_2683_9_421() {
-    if (jj_3R_IsNullCondition_2944_5_210()) return true;
+  private boolean jj_3R_ConditionBlock_2686_9_440() {
+    if (jj_3R_IsNullCondition_2947_5_214()) return true;
     return false;
   }
 
-  private boolean jj_3R_ConditionBlock_2680_9_420() {
-    if (jj_3R_IsNotNullCondition_2953_1_209()) return true;
+  private boolean jj_3R_ConditionBlock_2683_9_439() {
+    if (jj_3R_IsNotNullCondition_2956_1_213()) return true;
     return false;
   }
 
-  private boolean jj_3_115() {
-    if (jj_3R_ParenthesisBlock_2670_5_208()) return true;
+  private boolean jj_3_116() {
+    if (jj_3R_ParenthesisBlock_2673_5_212()) return true;
     return false;
   }
 
-  private boolean jj_3R_ConditionBlock_2679_1_207() {
+  private boolean jj_3R_ConditionBlock_2682_1_211() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_ConditionBlock_2680_9_420()) {
+    if (jj_3R_ConditionBlock_2683_9_439()) {
       jj_scanpos = xsp;
-      if (jj_3R_ConditionBlock_2683_9_421()) {
+      if (jj_3R_ConditionBlock_2686_9_440()) {
         jj_scanpos = xsp;
-        if (jj_3R_ConditionBlock_2686_9_422()) {
+        if (jj_3R_ConditionBlock_2689_9_441()) {
           jj_scanpos = xsp;
-          if (jj_3R_ConditionBlock_2689_9_423()) {
+          if (jj_3R_ConditionBlock_2692_9_442()) {
             jj_scanpos = xsp;
-            if (jj_3R_ConditionBlock_2692_9_424()) {
+            if (jj_3R_ConditionBlock_2695_9_443()) {
               jj_scanpos = xsp;
-              if (jj_3R_ConditionBlock_2695_5_425()) {
+              if (jj_3R_ConditionBlock_2698_5_444()) {
                 jj_scanpos = xsp;
-                if (jj_3R_ConditionBlock_2698_9_426()) {
+                if (jj_3R_ConditionBlock_2701_9_445()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_ConditionBlock_2701_9_427()) {
+                  if (jj_3R_ConditionBlock_2704_9_446()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_ConditionBlock_2704_9_428()) {
+                    if (jj_3R_ConditionBlock_2707_9_447()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_ConditionBlock_2707_9_429()) {
+                      if (jj_3R_ConditionBlock_2710_9_448()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_ConditionBlock_2710_9_430()) {
+                        if (jj_3R_ConditionBlock_2713_9_449()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_ConditionBlock_2713_5_431()) {
+                          if (jj_3R_ConditionBlock_2716_5_450()) {
                             jj_scanpos = xsp;
-                            if (jj_3R_ConditionBlock_2716_5_432()) {
+                            if (jj_3R_ConditionBlock_2719_5_451()) {
                               jj_scanpos = xsp;
-                              if (jj_3R_ConditionBlock_2719_9_433()) {
+                              if (jj_3R_ConditionBlock_2722_9_452()) {
                                 jj_scanpos = xsp;
-                                if (jj_3R_ConditionBlock_2722_9_434()) {
+                                if (jj_3R_ConditionBlock_2725_9_453()) {
                                   jj_scanpos = xsp;
-                                  if (jj_3R_ConditionBlock_2725_5_435()) {
+                                  if (jj_3R_ConditionBlock_2728_5_454()) {
                                     jj_scanpos = xsp;
-                                    if (jj_3R_ConditionBlock_2727_5_436()) return true;
+                                    if (jj_3R_ConditionBlock_2730_5_455()) return true;
                                   }
                                 }
                               }
@@ -30378,97 +29880,97 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_114() {
-    if (jj_3R_ConditionBlock_2679_1_207()) return true;
+  private boolean jj_3_115() {
+    if (jj_3R_ConditionBlock_2682_1_211()) return true;
     return false;
   }
 
-  private boolean jj_3_113() {
-    if (jj_3R_ParenthesisBlock_2670_5_208()) return true;
+  private boolean jj_3_114() {
+    if (jj_3R_ParenthesisBlock_2673_5_212()) return true;
     return false;
   }
 
-  private boolean jj_3R_ParenthesisBlock_2670_5_208() {
+  private boolean jj_3R_ParenthesisBlock_2673_5_212() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_112() {
-    if (jj_3R_ConditionBlock_2679_1_207()) return true;
+  private boolean jj_3_113() {
+    if (jj_3R_ConditionBlock_2682_1_211()) return true;
     return false;
   }
 
-  private boolean jj_3R_NotBlock_2661_9_826() {
-    if (jj_3R_ParenthesisBlock_2670_5_208()) return true;
+  private boolean jj_3R_NotBlock_2664_9_846() {
+    if (jj_3R_ParenthesisBlock_2673_5_212()) return true;
     return false;
   }
 
-  private boolean jj_3R_NotBlock_2658_9_825() {
-    if (jj_3R_ConditionBlock_2679_1_207()) return true;
+  private boolean jj_3R_NotBlock_2661_9_845() {
+    if (jj_3R_ConditionBlock_2682_1_211()) return true;
     return false;
   }
 
-  private boolean jj_3R_NotBlock_2652_13_824() {
-    if (jj_3R_ParenthesisBlock_2670_5_208()) return true;
+  private boolean jj_3R_NotBlock_2655_13_844() {
+    if (jj_3R_ParenthesisBlock_2673_5_212()) return true;
     return false;
   }
 
-  private boolean jj_3R_NotBlock_2657_5_677() {
+  private boolean jj_3R_NotBlock_2660_5_697() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_NotBlock_2658_9_825()) {
+    if (jj_3R_NotBlock_2661_9_845()) {
       jj_scanpos = xsp;
-      if (jj_3R_NotBlock_2661_9_826()) return true;
+      if (jj_3R_NotBlock_2664_9_846()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_NotBlock_2649_13_823() {
-    if (jj_3R_ConditionBlock_2679_1_207()) return true;
+  private boolean jj_3R_NotBlock_2652_13_843() {
+    if (jj_3R_ConditionBlock_2682_1_211()) return true;
     return false;
   }
 
-  private boolean jj_3R_NotBlock_2646_5_676() {
+  private boolean jj_3R_NotBlock_2649_5_696() {
     if (jj_scan_token(NOT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_NotBlock_2649_13_823()) {
+    if (jj_3R_NotBlock_2652_13_843()) {
       jj_scanpos = xsp;
-      if (jj_3R_NotBlock_2652_13_824()) return true;
+      if (jj_3R_NotBlock_2655_13_844()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_NotBlock_2645_1_570() {
+  private boolean jj_3R_NotBlock_2648_1_590() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_NotBlock_2646_5_676()) {
+    if (jj_3R_NotBlock_2649_5_696()) {
       jj_scanpos = xsp;
-      if (jj_3R_NotBlock_2657_5_677()) return true;
+      if (jj_3R_NotBlock_2660_5_697()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_AndBlock_2638_7_571() {
+  private boolean jj_3R_AndBlock_2641_7_591() {
     if (jj_scan_token(AND)) return true;
-    if (jj_3R_NotBlock_2645_1_570()) return true;
+    if (jj_3R_NotBlock_2648_1_590()) return true;
     return false;
   }
 
-  private boolean jj_3R_OrBlock_2628_11_397() {
+  private boolean jj_3R_OrBlock_2631_11_416() {
     if (jj_scan_token(OR)) return true;
-    if (jj_3R_AndBlock_2636_1_396()) return true;
+    if (jj_3R_AndBlock_2639_1_415()) return true;
     return false;
   }
 
-  private boolean jj_3R_AndBlock_2636_1_396() {
-    if (jj_3R_NotBlock_2645_1_570()) return true;
+  private boolean jj_3R_AndBlock_2639_1_415() {
+    if (jj_3R_NotBlock_2648_1_590()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_AndBlock_2638_7_571()) {
+      if (jj_3R_AndBlock_2641_7_591()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30476,12 +29978,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_OrBlock_2626_5_184() {
-    if (jj_3R_AndBlock_2636_1_396()) return true;
+  private boolean jj_3R_OrBlock_2629_5_188() {
+    if (jj_3R_AndBlock_2639_1_415()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_OrBlock_2628_11_397()) {
+      if (jj_3R_OrBlock_2631_11_416()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30489,89 +29991,89 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_WhereClause_2619_9_479() {
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+  private boolean jj_3R_WhereClause_2622_9_499() {
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     return false;
   }
 
-  private boolean jj_3R_IndexIdentifier_2606_17_553() {
+  private boolean jj_3R_IndexIdentifier_2609_17_573() {
     if (jj_scan_token(INDEXVALUESDESC_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_IndexIdentifier_2604_17_552() {
+  private boolean jj_3R_IndexIdentifier_2607_17_572() {
     if (jj_scan_token(INDEXVALUESASC_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_IndexIdentifier_2602_17_551() {
+  private boolean jj_3R_IndexIdentifier_2605_17_571() {
     if (jj_scan_token(INDEXVALUES_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_IndexIdentifier_2600_9_370() {
+  private boolean jj_3R_IndexIdentifier_2603_9_389() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_IndexIdentifier_2602_17_551()) {
+    if (jj_3R_IndexIdentifier_2605_17_571()) {
       jj_scanpos = xsp;
-      if (jj_3R_IndexIdentifier_2604_17_552()) {
+      if (jj_3R_IndexIdentifier_2607_17_572()) {
         jj_scanpos = xsp;
-        if (jj_3R_IndexIdentifier_2606_17_553()) return true;
+        if (jj_3R_IndexIdentifier_2609_17_573()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_IndexIdentifier_2595_9_369() {
+  private boolean jj_3R_IndexIdentifier_2598_9_388() {
     if (jj_scan_token(INDEX_COLON)) return true;
-    if (jj_3R_IndexName_2569_5_550()) return true;
+    if (jj_3R_IndexName_2572_5_570()) return true;
     return false;
   }
 
-  private boolean jj_3R_IndexIdentifier_2594_5_167() {
+  private boolean jj_3R_IndexIdentifier_2597_5_171() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_IndexIdentifier_2595_9_369()) {
+    if (jj_3R_IndexIdentifier_2598_9_388()) {
       jj_scanpos = xsp;
-      if (jj_3R_IndexIdentifier_2600_9_370()) return true;
+      if (jj_3R_IndexIdentifier_2603_9_389()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_IndexName_2577_13_818() {
+  private boolean jj_3R_IndexName_2580_13_838() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_IndexName_2575_13_817() {
+  private boolean jj_3R_IndexName_2578_13_837() {
     if (jj_scan_token(DOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_IndexName_2574_9_664() {
+  private boolean jj_3R_IndexName_2577_9_684() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_IndexName_2575_13_817()) {
+    if (jj_3R_IndexName_2578_13_837()) {
       jj_scanpos = xsp;
-      if (jj_3R_IndexName_2577_13_818()) return true;
+      if (jj_3R_IndexName_2580_13_838()) return true;
     }
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_IndexName_2570_9_663() {
+  private boolean jj_3R_IndexName_2573_9_683() {
     if (jj_scan_token(272)) return true;
     return false;
   }
 
-  private boolean jj_3R_IndexName_2569_5_550() {
+  private boolean jj_3R_IndexName_2572_5_570() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_IndexName_2570_9_663()) jj_scanpos = xsp;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_IndexName_2573_9_683()) jj_scanpos = xsp;
+    if (jj_3R_Identifier_581_1_175()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_IndexName_2574_9_664()) {
+      if (jj_3R_IndexName_2577_9_684()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30579,18 +30081,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_ClusterList_2546_19_1022() {
+  private boolean jj_3R_ClusterList_2549_19_1036() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_ClusterList_2545_17_919() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_ClusterList_2548_17_935() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_ClusterList_2546_19_1022()) {
+      if (jj_3R_ClusterList_2549_19_1036()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30598,188 +30100,188 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_MetadataIdentifier_2556_5_769() {
+  private boolean jj_3R_MetadataIdentifier_2559_5_789() {
     if (jj_scan_token(METADATA_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_ClusterList_2542_5_768() {
+  private boolean jj_3R_ClusterList_2545_5_788() {
     if (jj_scan_token(CLUSTER)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_ClusterList_2545_17_919()) jj_scanpos = xsp;
+    if (jj_3R_ClusterList_2548_17_935()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_Cluster_2533_13_374() {
+  private boolean jj_3R_Cluster_2536_13_393() {
     if (jj_scan_token(CLUSTER_NUMBER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_Cluster_2531_13_373() {
+  private boolean jj_3R_Cluster_2534_13_392() {
     if (jj_scan_token(CLUSTER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3_107() {
-    if (jj_3R_Modifier_2186_5_187()) return true;
+  private boolean jj_3_108() {
+    if (jj_3R_Modifier_2189_5_191()) return true;
     return false;
   }
 
-  private boolean jj_3R_Cluster_2530_5_173() {
+  private boolean jj_3R_Cluster_2533_5_177() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_Cluster_2531_13_373()) {
+    if (jj_3R_Cluster_2534_13_392()) {
       jj_scanpos = xsp;
-      if (jj_3R_Cluster_2533_13_374()) return true;
+      if (jj_3R_Cluster_2536_13_393()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_EmptyList_2521_9_206() {
+  private boolean jj_3R_EmptyList_2524_9_210() {
     if (jj_scan_token(LBRACKET)) return true;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3_106() {
-    if (jj_3R_Modifier_2186_5_187()) return true;
+  private boolean jj_3_107() {
+    if (jj_3R_Modifier_2189_5_191()) return true;
     return false;
   }
 
-  private boolean jj_3R_FromItem_2509_17_772() {
-    if (jj_3R_Modifier_2186_5_187()) return true;
+  private boolean jj_3R_FromItem_2512_17_792() {
+    if (jj_3R_Modifier_2189_5_191()) return true;
     return false;
   }
 
-  private boolean jj_3_105() {
-    if (jj_3R_Modifier_2186_5_187()) return true;
+  private boolean jj_3_106() {
+    if (jj_3R_Modifier_2189_5_191()) return true;
     return false;
   }
 
-  private boolean jj_3R_FromItem_2501_17_771() {
-    if (jj_3R_Modifier_2186_5_187()) return true;
+  private boolean jj_3R_FromItem_2504_17_791() {
+    if (jj_3R_Modifier_2189_5_191()) return true;
     return false;
   }
 
-  private boolean jj_3R_FromItem_2506_9_631() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_FromItem_2509_9_651() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_FromItem_2509_17_772()) jj_scanpos = xsp;
+    if (jj_3R_FromItem_2512_17_792()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_FromItem_2490_17_770() {
-    if (jj_3R_Modifier_2186_5_187()) return true;
+  private boolean jj_3R_FromItem_2493_17_790() {
+    if (jj_3R_Modifier_2189_5_191()) return true;
     return false;
   }
 
-  private boolean jj_3_111() {
-    if (jj_3R_FunctionCall_2108_5_177()) return true;
+  private boolean jj_3_112() {
+    if (jj_3R_FunctionCall_2111_5_181()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_FromItem_2501_17_771()) jj_scanpos = xsp;
+    if (jj_3R_FromItem_2504_17_791()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_FromItem_2495_9_630() {
-    if (jj_3R_InputParameter_1864_5_176()) return true;
+  private boolean jj_3R_FromItem_2498_9_650() {
+    if (jj_3R_InputParameter_1867_5_180()) return true;
     return false;
   }
 
-  private boolean jj_3_110() {
-    if (jj_3R_IndexIdentifier_2594_5_167()) return true;
+  private boolean jj_3_111() {
+    if (jj_3R_IndexIdentifier_2597_5_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_FromItem_2487_9_629() {
+  private boolean jj_3R_FromItem_2490_9_649() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_QueryStatement_1096_5_205()) return true;
+    if (jj_3R_QueryStatement_1099_5_209()) return true;
     if (jj_scan_token(RPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_FromItem_2490_17_770()) jj_scanpos = xsp;
+    if (jj_3R_FromItem_2493_17_790()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_FromItem_2485_9_628() {
-    if (jj_3R_MetadataIdentifier_2556_5_769()) return true;
+  private boolean jj_3R_FromItem_2488_9_648() {
+    if (jj_3R_MetadataIdentifier_2559_5_789()) return true;
     return false;
   }
 
-  private boolean jj_3R_FromItem_2482_9_627() {
-    if (jj_3R_IndexIdentifier_2594_5_167()) return true;
+  private boolean jj_3R_FromItem_2485_9_647() {
+    if (jj_3R_IndexIdentifier_2597_5_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_FromItem_2474_17_918() {
-    if (jj_3R_NamedParameter_1889_5_563()) return true;
+  private boolean jj_3R_FromItem_2477_17_934() {
+    if (jj_3R_NamedParameter_1892_5_583()) return true;
     return false;
   }
 
-  private boolean jj_3R_FromItem_2480_9_626() {
-    if (jj_3R_ClusterList_2542_5_768()) return true;
+  private boolean jj_3R_FromItem_2483_9_646() {
+    if (jj_3R_ClusterList_2545_5_788()) return true;
     return false;
   }
 
-  private boolean jj_3R_FromItem_2471_17_767() {
+  private boolean jj_3R_FromItem_2474_17_787() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_FromItem_2471_17_917()) {
+    if (jj_3R_FromItem_2474_17_933()) {
       jj_scanpos = xsp;
-      if (jj_3R_FromItem_2474_17_918()) return true;
+      if (jj_3R_FromItem_2477_17_934()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_FromItem_2471_17_917() {
+  private boolean jj_3R_FromItem_2474_17_933() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_PositionalParameter_1875_9_562()) return true;
+    if (jj_3R_PositionalParameter_1878_9_582()) return true;
     return false;
   }
 
-  private boolean jj_3R_FromItem_2478_9_625() {
-    if (jj_3R_Cluster_2530_5_173()) return true;
+  private boolean jj_3R_FromItem_2481_9_645() {
+    if (jj_3R_Cluster_2533_5_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_FromItem_2468_17_766() {
-    if (jj_3R_NamedParameter_1889_5_563()) return true;
+  private boolean jj_3R_FromItem_2471_17_786() {
+    if (jj_3R_NamedParameter_1892_5_583()) return true;
     return false;
   }
 
-  private boolean jj_3R_FromItem_2466_17_765() {
-    if (jj_3R_PositionalParameter_1875_9_562()) return true;
+  private boolean jj_3R_FromItem_2469_17_785() {
+    if (jj_3R_PositionalParameter_1878_9_582()) return true;
     return false;
   }
 
-  private boolean jj_3R_LetClause_2413_69_648() {
+  private boolean jj_3R_LetClause_2416_69_668() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_LetItem_2421_5_647()) return true;
+    if (jj_3R_LetItem_2424_5_667()) return true;
     return false;
   }
 
-  private boolean jj_3R_FromItem_2459_17_764() {
+  private boolean jj_3R_FromItem_2462_17_784() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_Rid_491_5_175()) return true;
+    if (jj_3R_Rid_491_5_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_FromItem_2463_9_624() {
+  private boolean jj_3R_FromItem_2466_9_644() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_FromItem_2466_17_765()) {
+    if (jj_3R_FromItem_2469_17_785()) {
       jj_scanpos = xsp;
-      if (jj_3R_FromItem_2468_17_766()) return true;
+      if (jj_3R_FromItem_2471_17_786()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_FromItem_2471_17_767()) {
+      if (jj_3R_FromItem_2474_17_787()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30788,13 +30290,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_109() {
+  private boolean jj_3_110() {
     if (jj_scan_token(LBRACKET)) return true;
-    if (jj_3R_Rid_491_5_175()) return true;
+    if (jj_3R_Rid_491_5_179()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_FromItem_2459_17_764()) {
+      if (jj_3R_FromItem_2462_17_784()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30803,42 +30305,42 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_108() {
-    if (jj_3R_EmptyList_2521_9_206()) return true;
+  private boolean jj_3_109() {
+    if (jj_3R_EmptyList_2524_9_210()) return true;
     return false;
   }
 
-  private boolean jj_3R_FromItem_2450_9_623() {
-    if (jj_3R_Rid_491_5_175()) return true;
+  private boolean jj_3R_FromItem_2453_9_643() {
+    if (jj_3R_Rid_491_5_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_FromItem_2449_5_474() {
+  private boolean jj_3R_FromItem_2452_5_494() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_FromItem_2450_9_623()) {
+    if (jj_3R_FromItem_2453_9_643()) {
       jj_scanpos = xsp;
-      if (jj_3_108()) {
+      if (jj_3_109()) {
         jj_scanpos = xsp;
-        if (jj_3_109()) {
+        if (jj_3_110()) {
           jj_scanpos = xsp;
-          if (jj_3R_FromItem_2463_9_624()) {
+          if (jj_3R_FromItem_2466_9_644()) {
             jj_scanpos = xsp;
-            if (jj_3R_FromItem_2478_9_625()) {
+            if (jj_3R_FromItem_2481_9_645()) {
               jj_scanpos = xsp;
-              if (jj_3R_FromItem_2480_9_626()) {
+              if (jj_3R_FromItem_2483_9_646()) {
                 jj_scanpos = xsp;
-                if (jj_3R_FromItem_2482_9_627()) {
+                if (jj_3R_FromItem_2485_9_647()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_FromItem_2485_9_628()) {
+                  if (jj_3R_FromItem_2488_9_648()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_FromItem_2487_9_629()) {
+                    if (jj_3R_FromItem_2490_9_649()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_FromItem_2495_9_630()) {
+                      if (jj_3R_FromItem_2498_9_650()) {
                         jj_scanpos = xsp;
-                        if (jj_3_111()) {
+                        if (jj_3_112()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_FromItem_2506_9_631()) return true;
+                          if (jj_3R_FromItem_2509_9_651()) return true;
                         }
                       }
                     }
@@ -30853,47 +30355,47 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_104() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3_105() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_LetItem_2427_13_795() {
+  private boolean jj_3R_LetItem_2430_13_815() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_QueryStatement_1096_5_205()) return true;
+    if (jj_3R_QueryStatement_1099_5_209()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_LetItem_2424_13_794() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_LetItem_2427_13_814() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_LetItem_2421_5_647() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_LetItem_2424_5_667() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     if (jj_scan_token(EQ)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_LetItem_2424_13_794()) {
+    if (jj_3R_LetItem_2427_13_814()) {
       jj_scanpos = xsp;
-      if (jj_3R_LetItem_2427_13_795()) return true;
+      if (jj_3R_LetItem_2430_13_815()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_103() {
-    if (jj_3R_Modifier_2186_5_187()) return true;
+  private boolean jj_3_104() {
+    if (jj_3R_Modifier_2189_5_191()) return true;
     return false;
   }
 
-  private boolean jj_3R_LetClause_2412_5_535() {
+  private boolean jj_3R_LetClause_2415_5_555() {
     if (jj_scan_token(LET)) return true;
-    if (jj_3R_LetItem_2421_5_647()) return true;
+    if (jj_3R_LetItem_2424_5_667()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_LetClause_2413_69_648()) {
+      if (jj_3R_LetClause_2416_69_668()) {
         jj_scanpos = xsp;
         break;
       }
@@ -30901,241 +30403,241 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_FromClause_2403_9_265() {
-    if (jj_3R_FromItem_2449_5_474()) return true;
+  private boolean jj_3R_FromClause_2406_9_285() {
+    if (jj_3R_FromItem_2452_5_494()) return true;
     return false;
   }
 
-  private boolean jj_3R_BaseExpression_2389_17_591() {
-    if (jj_3R_Modifier_2186_5_187()) return true;
+  private boolean jj_3R_BaseExpression_2392_17_611() {
+    if (jj_3R_Modifier_2189_5_191()) return true;
     return false;
   }
 
-  private boolean jj_3_102() {
-    if (jj_3R_Modifier_2186_5_187()) return true;
+  private boolean jj_3_103() {
+    if (jj_3R_Modifier_2189_5_191()) return true;
     return false;
   }
 
-  private boolean jj_3R_BaseExpression_2386_17_590() {
+  private boolean jj_3R_BaseExpression_2389_17_610() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_BaseExpression_2384_17_589() {
-    if (jj_3R_String_566_5_607()) return true;
+  private boolean jj_3R_BaseExpression_2387_17_609() {
+    if (jj_3R_String_566_5_627()) return true;
     return false;
   }
 
-  private boolean jj_3_101() {
-    if (jj_3R_Modifier_2186_5_187()) return true;
+  private boolean jj_3_102() {
+    if (jj_3R_Modifier_2189_5_191()) return true;
     return false;
   }
 
-  private boolean jj_3R_BaseExpression_2377_17_588() {
-    if (jj_3R_Modifier_2186_5_187()) return true;
+  private boolean jj_3R_BaseExpression_2380_17_608() {
+    if (jj_3R_Modifier_2189_5_191()) return true;
     return false;
   }
 
-  private boolean jj_3R_BaseExpression_2382_9_414() {
+  private boolean jj_3R_BaseExpression_2385_9_433() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_BaseExpression_2384_17_589()) {
+    if (jj_3R_BaseExpression_2387_17_609()) {
       jj_scanpos = xsp;
-      if (jj_3R_BaseExpression_2386_17_590()) return true;
+      if (jj_3R_BaseExpression_2389_17_610()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_BaseExpression_2389_17_591()) jj_scanpos = xsp;
+    if (jj_3R_BaseExpression_2392_17_611()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_BaseExpression_2369_17_587() {
-    if (jj_3R_Modifier_2186_5_187()) return true;
+  private boolean jj_3R_BaseExpression_2372_17_607() {
+    if (jj_3R_Modifier_2189_5_191()) return true;
     return false;
   }
 
-  private boolean jj_3R_BaseExpression_2374_9_413() {
-    if (jj_3R_InputParameter_1864_5_176()) return true;
+  private boolean jj_3R_BaseExpression_2377_9_432() {
+    if (jj_3R_InputParameter_1867_5_180()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_BaseExpression_2377_17_588()) jj_scanpos = xsp;
+    if (jj_3R_BaseExpression_2380_17_608()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_BaseExpression_2366_9_412() {
-    if (jj_3R_BaseIdentifier_2173_5_586()) return true;
+  private boolean jj_3R_BaseExpression_2369_9_431() {
+    if (jj_3R_BaseIdentifier_2176_5_606()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_BaseExpression_2369_17_587()) jj_scanpos = xsp;
+    if (jj_3R_BaseExpression_2372_17_607()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_BaseExpression_2364_9_411() {
-    if (jj_3R_Number_847_5_501()) return true;
+  private boolean jj_3R_BaseExpression_2367_9_430() {
+    if (jj_3R_Number_847_5_521()) return true;
     return false;
   }
 
-  private boolean jj_3R_BaseExpression_2363_5_204() {
+  private boolean jj_3R_BaseExpression_2366_5_208() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_BaseExpression_2364_9_411()) {
+    if (jj_3R_BaseExpression_2367_9_430()) {
       jj_scanpos = xsp;
-      if (jj_3R_BaseExpression_2366_9_412()) {
+      if (jj_3R_BaseExpression_2369_9_431()) {
         jj_scanpos = xsp;
-        if (jj_3R_BaseExpression_2374_9_413()) {
+        if (jj_3R_BaseExpression_2377_9_432()) {
           jj_scanpos = xsp;
-          if (jj_3R_BaseExpression_2382_9_414()) return true;
+          if (jj_3R_BaseExpression_2385_9_433()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_ParenthesisExpression_2351_17_409() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_ParenthesisExpression_2354_17_428() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_ParenthesisExpression_2353_13_410() {
-    if (jj_3R_InsertStatement_1637_1_316()) return true;
+  private boolean jj_3R_ParenthesisExpression_2356_13_429() {
+    if (jj_3R_InsertStatement_1640_1_336()) return true;
     return false;
   }
 
-  private boolean jj_3_100() {
-    if (jj_3R_QueryStatement_1096_5_205()) return true;
+  private boolean jj_3_101() {
+    if (jj_3R_QueryStatement_1099_5_209()) return true;
     return false;
   }
 
-  private boolean jj_3_99() {
-    if (jj_3R_BaseExpression_2363_5_204()) return true;
+  private boolean jj_3_100() {
+    if (jj_3R_BaseExpression_2366_5_208()) return true;
     return false;
   }
 
-  private boolean jj_3_98() {
-    if (jj_3R_ParenthesisExpression_2345_5_203()) return true;
+  private boolean jj_3_99() {
+    if (jj_3R_ParenthesisExpression_2348_5_207()) return true;
     return false;
   }
 
-  private boolean jj_3R_ParenthesisExpression_2345_5_203() {
+  private boolean jj_3R_ParenthesisExpression_2348_5_207() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_100()) {
+    if (jj_3_101()) {
       jj_scanpos = xsp;
-      if (jj_3R_ParenthesisExpression_2351_17_409()) {
+      if (jj_3R_ParenthesisExpression_2354_17_428()) {
         jj_scanpos = xsp;
-        if (jj_3R_ParenthesisExpression_2353_13_410()) return true;
+        if (jj_3R_ParenthesisExpression_2356_13_429()) return true;
       }
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_FirstLevelExpression_2336_9_408() {
-    if (jj_3R_BaseExpression_2363_5_204()) return true;
+  private boolean jj_3R_FirstLevelExpression_2339_9_427() {
+    if (jj_3R_BaseExpression_2366_5_208()) return true;
     return false;
   }
 
-  private boolean jj_3R_FirstLevelExpression_2333_9_407() {
-    if (jj_3R_ParenthesisExpression_2345_5_203()) return true;
+  private boolean jj_3R_FirstLevelExpression_2336_9_426() {
+    if (jj_3R_ParenthesisExpression_2348_5_207()) return true;
     return false;
   }
 
-  private boolean jj_3R_MathExpression_2319_21_201() {
+  private boolean jj_3R_MathExpression_2322_21_205() {
     if (jj_scan_token(XOR)) return true;
     return false;
   }
 
-  private boolean jj_3R_MathExpression_2317_21_200() {
+  private boolean jj_3R_MathExpression_2320_21_204() {
     if (jj_scan_token(BIT_OR)) return true;
     return false;
   }
 
-  private boolean jj_3R_FirstLevelExpression_2332_5_202() {
+  private boolean jj_3R_FirstLevelExpression_2335_5_206() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_FirstLevelExpression_2333_9_407()) {
+    if (jj_3R_FirstLevelExpression_2336_9_426()) {
       jj_scanpos = xsp;
-      if (jj_3R_FirstLevelExpression_2336_9_408()) return true;
+      if (jj_3R_FirstLevelExpression_2339_9_427()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_MathExpression_2315_21_199() {
+  private boolean jj_3R_MathExpression_2318_21_203() {
     if (jj_scan_token(NULL_COALESCING)) return true;
     return false;
   }
 
-  private boolean jj_3R_MathExpression_2313_21_198() {
+  private boolean jj_3R_MathExpression_2316_21_202() {
     if (jj_scan_token(BIT_AND)) return true;
     return false;
   }
 
-  private boolean jj_3R_MathExpression_2311_21_197() {
+  private boolean jj_3R_MathExpression_2314_21_201() {
     if (jj_scan_token(RUNSIGNEDSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_MathExpression_2309_21_196() {
+  private boolean jj_3R_MathExpression_2312_21_200() {
     if (jj_scan_token(RSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_MathExpression_2307_21_195() {
+  private boolean jj_3R_MathExpression_2310_21_199() {
     if (jj_scan_token(LSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_MathExpression_2305_21_194() {
+  private boolean jj_3R_MathExpression_2308_21_198() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_MathExpression_2303_21_193() {
+  private boolean jj_3R_MathExpression_2306_21_197() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_MathExpression_2301_17_192() {
+  private boolean jj_3R_MathExpression_2304_17_196() {
     if (jj_scan_token(REM)) return true;
     return false;
   }
 
-  private boolean jj_3R_MathExpression_2299_17_191() {
+  private boolean jj_3R_MathExpression_2302_17_195() {
     if (jj_scan_token(SLASH)) return true;
     return false;
   }
 
-  private boolean jj_3R_MathExpression_2297_17_190() {
+  private boolean jj_3R_MathExpression_2300_17_194() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3_97() {
+  private boolean jj_3_98() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_MathExpression_2297_17_190()) {
+    if (jj_3R_MathExpression_2300_17_194()) {
       jj_scanpos = xsp;
-      if (jj_3R_MathExpression_2299_17_191()) {
+      if (jj_3R_MathExpression_2302_17_195()) {
         jj_scanpos = xsp;
-        if (jj_3R_MathExpression_2301_17_192()) {
+        if (jj_3R_MathExpression_2304_17_196()) {
           jj_scanpos = xsp;
-          if (jj_3R_MathExpression_2303_21_193()) {
+          if (jj_3R_MathExpression_2306_21_197()) {
             jj_scanpos = xsp;
-            if (jj_3R_MathExpression_2305_21_194()) {
+            if (jj_3R_MathExpression_2308_21_198()) {
               jj_scanpos = xsp;
-              if (jj_3R_MathExpression_2307_21_195()) {
+              if (jj_3R_MathExpression_2310_21_199()) {
                 jj_scanpos = xsp;
-                if (jj_3R_MathExpression_2309_21_196()) {
+                if (jj_3R_MathExpression_2312_21_200()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_MathExpression_2311_21_197()) {
+                  if (jj_3R_MathExpression_2314_21_201()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_MathExpression_2313_21_198()) {
+                    if (jj_3R_MathExpression_2316_21_202()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_MathExpression_2315_21_199()) {
+                      if (jj_3R_MathExpression_2318_21_203()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_MathExpression_2317_21_200()) {
+                        if (jj_3R_MathExpression_2320_21_204()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_MathExpression_2319_21_201()) return true;
+                          if (jj_3R_MathExpression_2322_21_205()) return true;
                         }
                       }
                     }
@@ -31147,27 +30649,22 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         }
       }
     }
-    if (jj_3R_FirstLevelExpression_2332_5_202()) return true;
+    if (jj_3R_FirstLevelExpression_2335_5_206()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateDatabaseStatement_5368_3_76() {
+  private boolean jj_3R_CreateDatabaseStatement_5380_3_80() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(DATABASE)) return true;
     return false;
   }
 
-  private boolean jj_3_96() {
-    if (jj_3R_MathExpression_2292_5_189()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_MathExpression_2292_5_189() {
-    if (jj_3R_FirstLevelExpression_2332_5_202()) return true;
+  private boolean jj_3R_MathExpression_2295_5_193() {
+    if (jj_3R_FirstLevelExpression_2335_5_206()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_97()) {
+      if (jj_3_98()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31175,55 +30672,60 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_95() {
-    if (jj_3R_Rid_491_5_175()) return true;
+  private boolean jj_3_97() {
+    if (jj_3R_MathExpression_2295_5_193()) return true;
+    return false;
+  }
+
+  private boolean jj_3_96() {
+    if (jj_3R_Rid_491_5_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_ArrayConcatExpressionElement_2280_9_585() {
-    if (jj_3R_Json_3433_5_240()) return true;
+  private boolean jj_3R_ArrayConcatExpressionElement_2283_9_605() {
+    if (jj_3R_Json_3436_5_244()) return true;
     return false;
   }
 
-  private boolean jj_3R_ArrayConcatExpressionElement_2277_9_584() {
-    if (jj_3R_MathExpression_2292_5_189()) return true;
+  private boolean jj_3R_ArrayConcatExpressionElement_2280_9_604() {
+    if (jj_3R_MathExpression_2295_5_193()) return true;
     return false;
   }
 
-  private boolean jj_3R_ArrayConcatExpressionElement_2274_9_583() {
-    if (jj_3R_Rid_491_5_175()) return true;
+  private boolean jj_3R_ArrayConcatExpressionElement_2277_9_603() {
+    if (jj_3R_Rid_491_5_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_ArrayConcatExpressionElement_2272_9_582() {
+  private boolean jj_3R_ArrayConcatExpressionElement_2275_9_602() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_ArrayConcatExpressionElement_2270_9_581() {
+  private boolean jj_3R_ArrayConcatExpressionElement_2273_9_601() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_ArrayConcatExpressionElement_2268_9_580() {
+  private boolean jj_3R_ArrayConcatExpressionElement_2271_9_600() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_ArrayConcatExpressionElement_2267_5_405() {
+  private boolean jj_3R_ArrayConcatExpressionElement_2270_5_424() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_ArrayConcatExpressionElement_2268_9_580()) {
+    if (jj_3R_ArrayConcatExpressionElement_2271_9_600()) {
       jj_scanpos = xsp;
-      if (jj_3R_ArrayConcatExpressionElement_2270_9_581()) {
+      if (jj_3R_ArrayConcatExpressionElement_2273_9_601()) {
         jj_scanpos = xsp;
-        if (jj_3R_ArrayConcatExpressionElement_2272_9_582()) {
+        if (jj_3R_ArrayConcatExpressionElement_2275_9_602()) {
           jj_scanpos = xsp;
-          if (jj_3R_ArrayConcatExpressionElement_2274_9_583()) {
+          if (jj_3R_ArrayConcatExpressionElement_2277_9_603()) {
             jj_scanpos = xsp;
-            if (jj_3R_ArrayConcatExpressionElement_2277_9_584()) {
+            if (jj_3R_ArrayConcatExpressionElement_2280_9_604()) {
               jj_scanpos = xsp;
-              if (jj_3R_ArrayConcatExpressionElement_2280_9_585()) return true;
+              if (jj_3R_ArrayConcatExpressionElement_2283_9_605()) return true;
             }
           }
         }
@@ -31232,123 +30734,93 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_ArrayConcatExpression_2255_13_406() {
+  private boolean jj_3R_ArrayConcatExpression_2258_13_425() {
     if (jj_scan_token(SC_OR)) return true;
-    if (jj_3R_ArrayConcatExpressionElement_2267_5_405()) return true;
-    return false;
-  }
-
-  private boolean jj_3_94() {
-    if (jj_3R_MathExpression_2292_5_189()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_ArrayConcatExpression_2252_5_188() {
-    if (jj_3R_ArrayConcatExpressionElement_2267_5_405()) return true;
-    Token xsp;
-    if (jj_3R_ArrayConcatExpression_2255_13_406()) return true;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_ArrayConcatExpression_2255_13_406()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
-    return false;
-  }
-
-  private boolean jj_3_93() {
-    if (jj_3R_Rid_491_5_175()) return true;
+    if (jj_3R_ArrayConcatExpressionElement_2270_5_424()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterSecurityPolicyStatement_5308_15_1062() {
+  private boolean jj_3R_AlterSecurityPolicyStatement_5320_15_1076() {
     if (jj_scan_token(EXECUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterSecurityPolicyStatement_5306_15_1061() {
+  private boolean jj_3R_AlterSecurityPolicyStatement_5318_15_1075() {
     if (jj_scan_token(DELETE)) return true;
     return false;
   }
 
-  private boolean jj_3R_Expression_2240_9_350() {
-    if (jj_3R_Json_3433_5_240()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_AlterSecurityPolicyStatement_5304_15_1060() {
+  private boolean jj_3R_AlterSecurityPolicyStatement_5316_15_1074() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterSecurityPolicyStatement_5302_15_1059() {
-    if (jj_scan_token(BEFORE)) return true;
-    if (jj_scan_token(UPDATE)) return true;
+  private boolean jj_3R_ArrayConcatExpression_2255_5_192() {
+    if (jj_3R_ArrayConcatExpressionElement_2270_5_424()) return true;
+    Token xsp;
+    if (jj_3R_ArrayConcatExpression_2258_13_425()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_ArrayConcatExpression_2258_13_425()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_Expression_2237_9_349() {
-    if (jj_3R_MathExpression_2292_5_189()) return true;
+  private boolean jj_3_95() {
+    if (jj_3R_MathExpression_2295_5_193()) return true;
     return false;
   }
 
-  private boolean jj_3_92() {
-    if (jj_3R_ArrayConcatExpression_2252_5_188()) return true;
+  private boolean jj_3R_AlterSecurityPolicyStatement_5314_15_1073() {
+    if (jj_scan_token(BEFORE)) return true;
+    if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterSecurityPolicyStatement_5300_15_1058() {
-    if (jj_scan_token(READ)) return true;
+  private boolean jj_3_94() {
+    if (jj_3R_Rid_491_5_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_Expression_2234_9_348() {
-    if (jj_3R_Rid_491_5_175()) return true;
+  private boolean jj_3R_AlterSecurityPolicyStatement_5312_15_1072() {
+    if (jj_scan_token(READ)) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterSecurityPolicyStatement_5298_15_1057() {
+  private boolean jj_3R_AlterSecurityPolicyStatement_5310_15_1071() {
     if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_Expression_2232_9_347() {
-    if (jj_scan_token(FALSE)) return true;
+  private boolean jj_3R_Expression_2243_9_369() {
+    if (jj_3R_Json_3436_5_244()) return true;
     return false;
   }
 
-  private boolean jj_3R_Expression_2230_9_346() {
-    if (jj_scan_token(TRUE)) return true;
+  private boolean jj_3R_Expression_2240_9_368() {
+    if (jj_3R_MathExpression_2295_5_193()) return true;
     return false;
   }
 
-  private boolean jj_3R_Expression_2228_9_345() {
-    if (jj_scan_token(NULL)) return true;
-    return false;
-  }
-
-  private boolean jj_3_91() {
-    if (jj_3R_Modifier_2186_5_187()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_AlterSecurityPolicyStatement_5296_11_1013() {
+  private boolean jj_3R_AlterSecurityPolicyStatement_5308_11_1029() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_AlterSecurityPolicyStatement_5298_15_1057()) {
+    if (jj_3R_AlterSecurityPolicyStatement_5310_15_1071()) {
       jj_scanpos = xsp;
-      if (jj_3R_AlterSecurityPolicyStatement_5300_15_1058()) {
+      if (jj_3R_AlterSecurityPolicyStatement_5312_15_1072()) {
         jj_scanpos = xsp;
-        if (jj_3R_AlterSecurityPolicyStatement_5302_15_1059()) {
+        if (jj_3R_AlterSecurityPolicyStatement_5314_15_1073()) {
           jj_scanpos = xsp;
-          if (jj_3R_AlterSecurityPolicyStatement_5304_15_1060()) {
+          if (jj_3R_AlterSecurityPolicyStatement_5316_15_1074()) {
             jj_scanpos = xsp;
-            if (jj_3R_AlterSecurityPolicyStatement_5306_15_1061()) {
+            if (jj_3R_AlterSecurityPolicyStatement_5318_15_1075()) {
               jj_scanpos = xsp;
-              if (jj_3R_AlterSecurityPolicyStatement_5308_15_1062()) return true;
+              if (jj_3R_AlterSecurityPolicyStatement_5320_15_1076()) return true;
             }
           }
         }
@@ -31357,172 +30829,176 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_Expression_2225_9_344() {
-    if (jj_3R_ArrayConcatExpression_2252_5_188()) return true;
+  private boolean jj_3_93() {
+    if (jj_3R_ArrayConcatExpression_2255_5_192()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_Expression_2237_9_367() {
+    if (jj_3R_Rid_491_5_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterSecurityPolicyStatement_5293_11_1012() {
+  private boolean jj_3R_AlterSecurityPolicyStatement_5305_11_1028() {
     if (jj_scan_token(EXECUTE)) return true;
     return false;
   }
 
-  private boolean jj_3_89() {
-    if (jj_3R_ArraySingleValuesSelector_2038_5_185()) return true;
+  private boolean jj_3R_Expression_2235_9_366() {
+    if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterSecurityPolicyStatement_5291_11_1011() {
+  private boolean jj_3R_AlterSecurityPolicyStatement_5303_11_1027() {
     if (jj_scan_token(DELETE)) return true;
     return false;
   }
 
-  private boolean jj_3_90() {
-    if (jj_3R_MethodCall_2129_5_186()) return true;
+  private boolean jj_3R_Expression_2233_9_365() {
+    if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterSecurityPolicyStatement_5289_11_1010() {
+  private boolean jj_3R_AlterSecurityPolicyStatement_5301_11_1026() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3_88() {
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+  private boolean jj_3R_Expression_2231_9_364() {
+    if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_Expression_2224_5_161() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_Expression_2225_9_344()) {
-      jj_scanpos = xsp;
-      if (jj_3R_Expression_2228_9_345()) {
-        jj_scanpos = xsp;
-        if (jj_3R_Expression_2230_9_346()) {
-          jj_scanpos = xsp;
-          if (jj_3R_Expression_2232_9_347()) {
-            jj_scanpos = xsp;
-            if (jj_3R_Expression_2234_9_348()) {
-              jj_scanpos = xsp;
-              if (jj_3R_Expression_2237_9_349()) {
-                jj_scanpos = xsp;
-                if (jj_3R_Expression_2240_9_350()) return true;
-              }
-            }
-          }
-        }
-      }
-    }
+  private boolean jj_3_92() {
+    if (jj_3R_Modifier_2189_5_191()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterSecurityPolicyStatement_5287_11_1009() {
+  private boolean jj_3R_AlterSecurityPolicyStatement_5299_11_1025() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3_87() {
-    if (jj_3R_ArrayRangeSelector_2048_5_183()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_Modifier_2213_13_404() {
-    if (jj_3R_Modifier_2186_5_187()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_AlterSecurityPolicyStatement_5285_11_1008() {
+  private boolean jj_3R_AlterSecurityPolicyStatement_5297_11_1024() {
     if (jj_scan_token(READ)) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterSecurityPolicyStatement_5283_11_1007() {
-    if (jj_scan_token(CREATE)) return true;
+  private boolean jj_3R_Expression_2228_9_363() {
+    if (jj_3R_ArrayConcatExpression_2255_5_192()) return true;
     return false;
   }
 
-  private boolean jj_3_86() {
-    if (jj_3R_RightBinaryCondition_2873_3_182()) return true;
+  private boolean jj_3R_AlterSecurityPolicyStatement_5295_11_1023() {
+    if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_Modifier_2210_13_403() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_SuffixIdentifier_2157_5_181()) return true;
+  private boolean jj_3_90() {
+    if (jj_3R_ArraySingleValuesSelector_2041_5_189()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterSecurityPolicyStatement_5275_18_1056() {
+  private boolean jj_3R_AlterSecurityPolicyStatement_5287_18_1070() {
     if (jj_scan_token(EXECUTE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_Modifier_2200_21_579() {
-    if (jj_3R_ArraySingleValuesSelector_2038_5_185()) return true;
+  private boolean jj_3_91() {
+    if (jj_3R_MethodCall_2132_5_190()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterSecurityPolicyStatement_5273_18_1055() {
+  private boolean jj_3R_AlterSecurityPolicyStatement_5285_18_1069() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_Modifier_2207_13_402() {
-    if (jj_3R_MethodCall_2129_5_186()) return true;
+  private boolean jj_3_89() {
+    if (jj_3R_OrBlock_2629_5_188()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_Expression_2227_5_165() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_Expression_2228_9_363()) {
+      jj_scanpos = xsp;
+      if (jj_3R_Expression_2231_9_364()) {
+        jj_scanpos = xsp;
+        if (jj_3R_Expression_2233_9_365()) {
+          jj_scanpos = xsp;
+          if (jj_3R_Expression_2235_9_366()) {
+            jj_scanpos = xsp;
+            if (jj_3R_Expression_2237_9_367()) {
+              jj_scanpos = xsp;
+              if (jj_3R_Expression_2240_9_368()) {
+                jj_scanpos = xsp;
+                if (jj_3R_Expression_2243_9_369()) return true;
+              }
+            }
+          }
+        }
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_AlterSecurityPolicyStatement_5271_18_1054() {
+  private boolean jj_3R_AlterSecurityPolicyStatement_5283_18_1068() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_Modifier_2197_21_578() {
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+  private boolean jj_3_88() {
+    if (jj_3R_ArrayRangeSelector_2051_5_187()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_Modifier_2216_13_423() {
+    if (jj_3R_Modifier_2189_5_191()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterSecurityPolicyStatement_5269_18_1053() {
+  private boolean jj_3R_AlterSecurityPolicyStatement_5281_18_1067() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterSecurityPolicyStatement_5280_7_878() {
+  private boolean jj_3R_AlterSecurityPolicyStatement_5292_7_898() {
     if (jj_scan_token(REMOVE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_AlterSecurityPolicyStatement_5283_11_1007()) {
+    if (jj_3R_AlterSecurityPolicyStatement_5295_11_1023()) {
       jj_scanpos = xsp;
-      if (jj_3R_AlterSecurityPolicyStatement_5285_11_1008()) {
+      if (jj_3R_AlterSecurityPolicyStatement_5297_11_1024()) {
         jj_scanpos = xsp;
-        if (jj_3R_AlterSecurityPolicyStatement_5287_11_1009()) {
+        if (jj_3R_AlterSecurityPolicyStatement_5299_11_1025()) {
           jj_scanpos = xsp;
-          if (jj_3R_AlterSecurityPolicyStatement_5289_11_1010()) {
+          if (jj_3R_AlterSecurityPolicyStatement_5301_11_1026()) {
             jj_scanpos = xsp;
-            if (jj_3R_AlterSecurityPolicyStatement_5291_11_1011()) {
+            if (jj_3R_AlterSecurityPolicyStatement_5303_11_1027()) {
               jj_scanpos = xsp;
-              if (jj_3R_AlterSecurityPolicyStatement_5293_11_1012()) return true;
+              if (jj_3R_AlterSecurityPolicyStatement_5305_11_1028()) return true;
             }
           }
         }
@@ -31530,7 +31006,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_AlterSecurityPolicyStatement_5296_11_1013()) {
+      if (jj_3R_AlterSecurityPolicyStatement_5308_11_1029()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31538,49 +31014,70 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_Modifier_2194_21_577() {
-    if (jj_3R_ArrayRangeSelector_2048_5_183()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_AlterSecurityPolicyStatement_5267_18_1052() {
+  private boolean jj_3R_AlterSecurityPolicyStatement_5279_18_1066() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterSecurityPolicyStatement_5265_18_1051() {
+  private boolean jj_3_87() {
+    if (jj_3R_RightBinaryCondition_2876_3_186()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_Modifier_2213_13_422() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_SuffixIdentifier_2160_5_185()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_AlterSecurityPolicyStatement_5277_18_1065() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_Modifier_2191_21_576() {
-    if (jj_3R_RightBinaryCondition_2873_3_182()) return true;
+  private boolean jj_3R_Modifier_2203_21_599() {
+    if (jj_3R_ArraySingleValuesSelector_2041_5_189()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterSecurityPolicyStatement_5263_11_1006() {
+  private boolean jj_3R_Modifier_2210_13_421() {
+    if (jj_3R_MethodCall_2132_5_190()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_Modifier_2200_21_598() {
+    if (jj_3R_OrBlock_2629_5_188()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_Modifier_2197_21_597() {
+    if (jj_3R_ArrayRangeSelector_2051_5_187()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_AlterSecurityPolicyStatement_5275_11_1022() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_AlterSecurityPolicyStatement_5265_18_1051()) {
+    if (jj_3R_AlterSecurityPolicyStatement_5277_18_1065()) {
       jj_scanpos = xsp;
-      if (jj_3R_AlterSecurityPolicyStatement_5267_18_1052()) {
+      if (jj_3R_AlterSecurityPolicyStatement_5279_18_1066()) {
         jj_scanpos = xsp;
-        if (jj_3R_AlterSecurityPolicyStatement_5269_18_1053()) {
+        if (jj_3R_AlterSecurityPolicyStatement_5281_18_1067()) {
           jj_scanpos = xsp;
-          if (jj_3R_AlterSecurityPolicyStatement_5271_18_1054()) {
+          if (jj_3R_AlterSecurityPolicyStatement_5283_18_1068()) {
             jj_scanpos = xsp;
-            if (jj_3R_AlterSecurityPolicyStatement_5273_18_1055()) {
+            if (jj_3R_AlterSecurityPolicyStatement_5285_18_1069()) {
               jj_scanpos = xsp;
-              if (jj_3R_AlterSecurityPolicyStatement_5275_18_1056()) return true;
+              if (jj_3R_AlterSecurityPolicyStatement_5287_18_1070()) return true;
             }
           }
         }
@@ -31589,141 +31086,126 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_AlterSecurityPolicyStatement_5261_13_1005() {
+  private boolean jj_3R_AlterSecurityPolicyStatement_5273_13_1021() {
     if (jj_scan_token(EXECUTE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterSecurityPolicyStatement_5259_13_1004() {
+  private boolean jj_3R_Modifier_2194_21_596() {
+    if (jj_3R_RightBinaryCondition_2876_3_186()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_AlterSecurityPolicyStatement_5271_13_1020() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_Modifier_2188_13_401() {
-    if (jj_scan_token(LBRACKET)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_Modifier_2191_21_576()) {
-      jj_scanpos = xsp;
-      if (jj_3R_Modifier_2194_21_577()) {
-        jj_scanpos = xsp;
-        if (jj_3R_Modifier_2197_21_578()) {
-          jj_scanpos = xsp;
-          if (jj_3R_Modifier_2200_21_579()) return true;
-        }
-      }
-    }
-    if (jj_scan_token(RBRACKET)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_AlterSecurityPolicyStatement_5257_13_1003() {
+  private boolean jj_3R_AlterSecurityPolicyStatement_5269_13_1019() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_FunctionCall_2117_81_564() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_AlterSecurityPolicyStatement_5255_13_1002() {
+  private boolean jj_3R_AlterSecurityPolicyStatement_5267_13_1018() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_85() {
-    if (jj_3R_SuffixIdentifier_2157_5_181()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_AlterSecurityPolicyStatement_5253_13_1001() {
+  private boolean jj_3R_AlterSecurityPolicyStatement_5265_13_1017() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_84() {
-    if (jj_3R_LevelZeroIdentifier_2142_5_180()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_AlterSecurityPolicyStatement_5251_13_1000() {
+  private boolean jj_3R_AlterSecurityPolicyStatement_5263_13_1016() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_Modifier_2186_5_187() {
+  private boolean jj_3R_Modifier_2191_13_420() {
+    if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_Modifier_2188_13_401()) {
+    if (jj_3R_Modifier_2194_21_596()) {
       jj_scanpos = xsp;
-      if (jj_3R_Modifier_2207_13_402()) {
+      if (jj_3R_Modifier_2197_21_597()) {
         jj_scanpos = xsp;
-        if (jj_3R_Modifier_2210_13_403()) return true;
+        if (jj_3R_Modifier_2200_21_598()) {
+          jj_scanpos = xsp;
+          if (jj_3R_Modifier_2203_21_599()) return true;
+        }
       }
     }
-    xsp = jj_scanpos;
-    if (jj_3R_Modifier_2213_13_404()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACKET)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_FunctionCall_2120_81_584() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_BaseIdentifier_2177_9_686() {
-    if (jj_3R_SuffixIdentifier_2157_5_181()) return true;
+  private boolean jj_3_86() {
+    if (jj_3R_SuffixIdentifier_2160_5_185()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterSecurityPolicyStatement_5248_7_741() {
+  private boolean jj_3_85() {
+    if (jj_3R_LevelZeroIdentifier_2145_5_184()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_AlterSecurityPolicyStatement_5260_7_762() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_AlterSecurityPolicyStatement_5248_7_877()) {
+    if (jj_3R_AlterSecurityPolicyStatement_5260_7_897()) {
       jj_scanpos = xsp;
-      if (jj_3R_AlterSecurityPolicyStatement_5280_7_878()) return true;
+      if (jj_3R_AlterSecurityPolicyStatement_5292_7_898()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_AlterSecurityPolicyStatement_5248_7_877() {
+  private boolean jj_3R_AlterSecurityPolicyStatement_5260_7_897() {
     if (jj_scan_token(SET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_AlterSecurityPolicyStatement_5251_13_1000()) {
+    if (jj_3R_AlterSecurityPolicyStatement_5263_13_1016()) {
       jj_scanpos = xsp;
-      if (jj_3R_AlterSecurityPolicyStatement_5253_13_1001()) {
+      if (jj_3R_AlterSecurityPolicyStatement_5265_13_1017()) {
         jj_scanpos = xsp;
-        if (jj_3R_AlterSecurityPolicyStatement_5255_13_1002()) {
+        if (jj_3R_AlterSecurityPolicyStatement_5267_13_1018()) {
           jj_scanpos = xsp;
-          if (jj_3R_AlterSecurityPolicyStatement_5257_13_1003()) {
+          if (jj_3R_AlterSecurityPolicyStatement_5269_13_1019()) {
             jj_scanpos = xsp;
-            if (jj_3R_AlterSecurityPolicyStatement_5259_13_1004()) {
+            if (jj_3R_AlterSecurityPolicyStatement_5271_13_1020()) {
               jj_scanpos = xsp;
-              if (jj_3R_AlterSecurityPolicyStatement_5261_13_1005()) return true;
+              if (jj_3R_AlterSecurityPolicyStatement_5273_13_1021()) return true;
             }
           }
         }
@@ -31731,7 +31213,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_AlterSecurityPolicyStatement_5263_11_1006()) {
+      if (jj_3R_AlterSecurityPolicyStatement_5275_11_1022()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31739,41 +31221,36 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_BaseIdentifier_2174_9_685() {
-    if (jj_3R_LevelZeroIdentifier_2142_5_180()) return true;
-    return false;
-  }
-
-  private boolean jj_3_83() {
-    if (jj_3R_RecordAttribute_2097_5_179()) return true;
-    return false;
-  }
-
-  private boolean jj_3_82() {
-    if (jj_3R_Identifier_581_1_171()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_BaseIdentifier_2173_5_586() {
+  private boolean jj_3R_Modifier_2189_5_191() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_BaseIdentifier_2174_9_685()) {
+    if (jj_3R_Modifier_2191_13_420()) {
       jj_scanpos = xsp;
-      if (jj_3R_BaseIdentifier_2177_9_686()) return true;
+      if (jj_3R_Modifier_2210_13_421()) {
+        jj_scanpos = xsp;
+        if (jj_3R_Modifier_2213_13_422()) return true;
+      }
     }
+    xsp = jj_scanpos;
+    if (jj_3R_Modifier_2216_13_423()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_AlterSecurityPolicyStatement_5244_3_95() {
+  private boolean jj_3R_BaseIdentifier_2180_9_706() {
+    if (jj_3R_SuffixIdentifier_2160_5_185()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_AlterSecurityPolicyStatement_5256_3_99() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(SECURITY)) return true;
     if (jj_scan_token(POLICY)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
-    if (jj_3R_AlterSecurityPolicyStatement_5248_7_741()) return true;
+    if (jj_3R_AlterSecurityPolicyStatement_5260_7_762()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_AlterSecurityPolicyStatement_5248_7_741()) {
+      if (jj_3R_AlterSecurityPolicyStatement_5260_7_762()) {
         jj_scanpos = xsp;
         break;
       }
@@ -31781,134 +31258,131 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_CreateSecurityPolicyStatement_5231_14_999() {
+  private boolean jj_3R_CreateSecurityPolicyStatement_5243_14_1015() {
     if (jj_scan_token(EXECUTE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_SuffixIdentifier_2164_9_390() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_BaseIdentifier_2177_9_705() {
+    if (jj_3R_LevelZeroIdentifier_2145_5_184()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateSecurityPolicyStatement_5229_14_998() {
+  private boolean jj_3R_CreateSecurityPolicyStatement_5241_14_1014() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateSecurityPolicyStatement_5227_14_997() {
+  private boolean jj_3_84() {
+    if (jj_3R_RecordAttribute_2100_5_183()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_CreateSecurityPolicyStatement_5239_14_1013() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_SuffixIdentifier_2161_9_389() {
-    if (jj_3R_RecordAttribute_2097_5_179()) return true;
+  private boolean jj_3_83() {
+    if (jj_3R_Identifier_581_1_175()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_BaseIdentifier_2176_5_606() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_BaseIdentifier_2177_9_705()) {
+      jj_scanpos = xsp;
+      if (jj_3R_BaseIdentifier_2180_9_706()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_CreateSecurityPolicyStatement_5225_14_996() {
+  private boolean jj_3R_CreateSecurityPolicyStatement_5237_14_1012() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_81() {
-    if (jj_3R_Collection_3346_5_178()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_SuffixIdentifier_2158_9_388() {
-    if (jj_3R_Identifier_581_1_171()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_CreateSecurityPolicyStatement_5223_14_995() {
+  private boolean jj_3R_CreateSecurityPolicyStatement_5235_14_1011() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateSecurityPolicyStatement_5221_14_994() {
+  private boolean jj_3R_CreateSecurityPolicyStatement_5233_14_1010() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_80() {
-    if (jj_3R_FunctionCall_2108_5_177()) return true;
+  private boolean jj_3R_SuffixIdentifier_2167_9_409() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_SuffixIdentifier_2157_5_181() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_SuffixIdentifier_2158_9_388()) {
-      jj_scanpos = xsp;
-      if (jj_3R_SuffixIdentifier_2161_9_389()) {
-        jj_scanpos = xsp;
-        if (jj_3R_SuffixIdentifier_2164_9_390()) return true;
-      }
-    }
+  private boolean jj_3R_SuffixIdentifier_2164_9_408() {
+    if (jj_3R_RecordAttribute_2100_5_183()) return true;
     return false;
   }
 
-  private boolean jj_3R_LevelZeroIdentifier_2148_9_387() {
-    if (jj_3R_Collection_3346_5_178()) return true;
+  private boolean jj_3_82() {
+    if (jj_3R_Collection_3349_5_182()) return true;
     return false;
   }
 
-  private boolean jj_3R_LevelZeroIdentifier_2146_9_386() {
-    if (jj_scan_token(THIS)) return true;
+  private boolean jj_3R_SuffixIdentifier_2161_9_407() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateSecurityPolicyStatement_5217_9_875() {
+  private boolean jj_3R_CreateSecurityPolicyStatement_5229_9_895() {
     if (jj_scan_token(EXECUTE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateSecurityPolicyStatement_5219_7_876() {
+  private boolean jj_3R_CreateSecurityPolicyStatement_5231_7_896() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CreateSecurityPolicyStatement_5221_14_994()) {
+    if (jj_3R_CreateSecurityPolicyStatement_5233_14_1010()) {
       jj_scanpos = xsp;
-      if (jj_3R_CreateSecurityPolicyStatement_5223_14_995()) {
+      if (jj_3R_CreateSecurityPolicyStatement_5235_14_1011()) {
         jj_scanpos = xsp;
-        if (jj_3R_CreateSecurityPolicyStatement_5225_14_996()) {
+        if (jj_3R_CreateSecurityPolicyStatement_5237_14_1012()) {
           jj_scanpos = xsp;
-          if (jj_3R_CreateSecurityPolicyStatement_5227_14_997()) {
+          if (jj_3R_CreateSecurityPolicyStatement_5239_14_1013()) {
             jj_scanpos = xsp;
-            if (jj_3R_CreateSecurityPolicyStatement_5229_14_998()) {
+            if (jj_3R_CreateSecurityPolicyStatement_5241_14_1014()) {
               jj_scanpos = xsp;
-              if (jj_3R_CreateSecurityPolicyStatement_5231_14_999()) return true;
+              if (jj_3R_CreateSecurityPolicyStatement_5243_14_1015()) return true;
             }
           }
         }
@@ -31917,105 +31391,107 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_CreateSecurityPolicyStatement_5215_9_874() {
+  private boolean jj_3_81() {
+    if (jj_3R_FunctionCall_2111_5_181()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_SuffixIdentifier_2160_5_185() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_SuffixIdentifier_2161_9_407()) {
+      jj_scanpos = xsp;
+      if (jj_3R_SuffixIdentifier_2164_9_408()) {
+        jj_scanpos = xsp;
+        if (jj_3R_SuffixIdentifier_2167_9_409()) return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_CreateSecurityPolicyStatement_5227_9_894() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_LevelZeroIdentifier_2143_9_385() {
-    if (jj_3R_FunctionCall_2108_5_177()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_CreateSecurityPolicyStatement_5213_9_873() {
+  private boolean jj_3R_CreateSecurityPolicyStatement_5225_9_893() {
     if (jj_scan_token(AFTER)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateSecurityPolicyStatement_5211_9_872() {
+  private boolean jj_3R_CreateSecurityPolicyStatement_5223_9_892() {
     if (jj_scan_token(BEFORE)) return true;
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_MethodCall_2133_15_575() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_LevelZeroIdentifier_2142_5_180() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_LevelZeroIdentifier_2143_9_385()) {
-      jj_scanpos = xsp;
-      if (jj_3R_LevelZeroIdentifier_2146_9_386()) {
-        jj_scanpos = xsp;
-        if (jj_3R_LevelZeroIdentifier_2148_9_387()) return true;
-      }
-    }
+  private boolean jj_3R_LevelZeroIdentifier_2151_9_406() {
+    if (jj_3R_Collection_3349_5_182()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateSecurityPolicyStatement_5209_9_871() {
+  private boolean jj_3R_CreateSecurityPolicyStatement_5221_9_891() {
     if (jj_scan_token(READ)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_MethodCall_2132_13_400() {
-    if (jj_3R_Expression_2224_5_161()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_MethodCall_2133_15_575()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
+  private boolean jj_3R_LevelZeroIdentifier_2149_9_405() {
+    if (jj_scan_token(THIS)) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateSecurityPolicyStatement_5207_9_870() {
+  private boolean jj_3R_CreateSecurityPolicyStatement_5219_9_890() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EQ)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateSecurityPolicyStatement_5205_5_740() {
+  private boolean jj_3R_LevelZeroIdentifier_2146_9_404() {
+    if (jj_3R_FunctionCall_2111_5_181()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_MethodCall_2136_15_595() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_CreateSecurityPolicyStatement_5217_5_761() {
     if (jj_scan_token(SET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CreateSecurityPolicyStatement_5207_9_870()) {
+    if (jj_3R_CreateSecurityPolicyStatement_5219_9_890()) {
       jj_scanpos = xsp;
-      if (jj_3R_CreateSecurityPolicyStatement_5209_9_871()) {
+      if (jj_3R_CreateSecurityPolicyStatement_5221_9_891()) {
         jj_scanpos = xsp;
-        if (jj_3R_CreateSecurityPolicyStatement_5211_9_872()) {
+        if (jj_3R_CreateSecurityPolicyStatement_5223_9_892()) {
           jj_scanpos = xsp;
-          if (jj_3R_CreateSecurityPolicyStatement_5213_9_873()) {
+          if (jj_3R_CreateSecurityPolicyStatement_5225_9_893()) {
             jj_scanpos = xsp;
-            if (jj_3R_CreateSecurityPolicyStatement_5215_9_874()) {
+            if (jj_3R_CreateSecurityPolicyStatement_5227_9_894()) {
               jj_scanpos = xsp;
-              if (jj_3R_CreateSecurityPolicyStatement_5217_9_875()) return true;
+              if (jj_3R_CreateSecurityPolicyStatement_5229_9_895()) return true;
             }
           }
         }
@@ -32023,7 +31499,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_CreateSecurityPolicyStatement_5219_7_876()) {
+      if (jj_3R_CreateSecurityPolicyStatement_5231_7_896()) {
         jj_scanpos = xsp;
         break;
       }
@@ -32031,34 +31507,25 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_MethodCall_2129_5_186() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
-    if (jj_scan_token(LPAREN)) return true;
+  private boolean jj_3R_LevelZeroIdentifier_2145_5_184() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_MethodCall_2132_13_400()) jj_scanpos = xsp;
-    if (jj_scan_token(RPAREN)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_CreateSecurityPolicyStatement_5201_3_94() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(SECURITY)) return true;
-    if (jj_scan_token(POLICY)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_CreateSecurityPolicyStatement_5205_5_740()) jj_scanpos = xsp;
+    if (jj_3R_LevelZeroIdentifier_2146_9_404()) {
+      jj_scanpos = xsp;
+      if (jj_3R_LevelZeroIdentifier_2149_9_405()) {
+        jj_scanpos = xsp;
+        if (jj_3R_LevelZeroIdentifier_2151_9_406()) return true;
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_FunctionCall_2117_13_383() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_MethodCall_2135_13_419() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_FunctionCall_2117_81_564()) {
+      if (jj_3R_MethodCall_2136_15_595()) {
         jj_scanpos = xsp;
         break;
       }
@@ -32066,170 +31533,195 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_SecurityResourceSegment_5190_11_911() {
+  private boolean jj_3R_CreateSecurityPolicyStatement_5213_3_98() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(SECURITY)) return true;
+    if (jj_scan_token(POLICY)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_CreateSecurityPolicyStatement_5217_5_761()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_SecurityResourceSegment_5202_11_931() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_SecurityResourceSegment_5155_5_760()) return true;
+    if (jj_3R_SecurityResourceSegment_5167_5_781()) return true;
     return false;
   }
 
-  private boolean jj_3R_SecurityResourceSegment_5187_13_910() {
+  private boolean jj_3R_SecurityResourceSegment_5199_13_930() {
     if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_SecurityResourceSegment_5185_13_909() {
+  private boolean jj_3R_SecurityResourceSegment_5197_13_929() {
     if (jj_scan_token(CONTAINSVALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_FunctionCall_2112_13_382() {
-    if (jj_scan_token(DISTINCT)) return true;
+  private boolean jj_3R_MethodCall_2132_5_190() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_MethodCall_2135_13_419()) jj_scanpos = xsp;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_SecurityResourceSegment_5183_13_908() {
+  private boolean jj_3R_SecurityResourceSegment_5195_13_928() {
     if (jj_scan_token(CONTAINSKEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_FunctionCall_2110_13_381() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_SecurityResourceSegment_5193_13_927() {
+    if (jj_scan_token(CONTAINSANY)) return true;
     return false;
   }
 
-  private boolean jj_3R_SecurityResourceSegment_5181_13_907() {
-    if (jj_scan_token(CONTAINSANY)) return true;
+  private boolean jj_3R_FunctionCall_2120_13_402() {
+    if (jj_3R_Expression_2227_5_165()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_FunctionCall_2120_81_584()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_SecurityResourceSegment_5179_13_906() {
+  private boolean jj_3R_SecurityResourceSegment_5191_13_926() {
     if (jj_scan_token(CONTAINSALL)) return true;
     return false;
   }
 
-  private boolean jj_3R_SecurityResourceSegment_5177_13_905() {
+  private boolean jj_3R_SecurityResourceSegment_5189_13_925() {
     if (jj_scan_token(CONTAINS)) return true;
     return false;
   }
 
-  private boolean jj_3R_SecurityResourceSegment_5175_13_904() {
+  private boolean jj_3R_SecurityResourceSegment_5187_13_924() {
     if (jj_scan_token(EDGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_SecurityResourceSegment_5173_13_903() {
+  private boolean jj_3R_FunctionCall_2115_13_401() {
+    if (jj_scan_token(DISTINCT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_SecurityResourceSegment_5185_13_923() {
     if (jj_scan_token(VERTEX)) return true;
     return false;
   }
 
-  private boolean jj_3R_FunctionCall_2108_5_177() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_FunctionCall_2110_13_381()) {
-      jj_scanpos = xsp;
-      if (jj_3R_FunctionCall_2112_13_382()) return true;
-    }
-    if (jj_scan_token(LPAREN)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_FunctionCall_2117_13_383()) jj_scanpos = xsp;
-    if (jj_scan_token(RPAREN)) return true;
+  private boolean jj_3R_FunctionCall_2113_13_400() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_SecurityResourceSegment_5171_13_902() {
+  private boolean jj_3R_SecurityResourceSegment_5183_13_922() {
     if (jj_scan_token(LIKE)) return true;
     return false;
   }
 
-  private boolean jj_3R_SecurityResourceSegment_5169_13_901() {
+  private boolean jj_3R_SecurityResourceSegment_5181_13_921() {
     if (jj_scan_token(SELECT)) return true;
     return false;
   }
 
-  private boolean jj_3R_SecurityResourceSegment_5167_13_900() {
+  private boolean jj_3R_SecurityResourceSegment_5179_13_920() {
     if (jj_scan_token(INSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_SecurityResourceSegment_5165_13_899() {
+  private boolean jj_3R_SecurityResourceSegment_5177_13_919() {
     if (jj_scan_token(DELETE)) return true;
     return false;
   }
 
-  private boolean jj_3R_SecurityResourceSegment_5163_13_898() {
+  private boolean jj_3R_SecurityResourceSegment_5175_13_918() {
     if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_SecurityResourceSegment_5161_13_897() {
-    if (jj_scan_token(CLUSTER)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_RecordAttribute_2097_5_179() {
-    if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
+  private boolean jj_3R_FunctionCall_2111_5_181() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_FunctionCall_2113_13_400()) {
+      jj_scanpos = xsp;
+      if (jj_3R_FunctionCall_2115_13_401()) return true;
+    }
+    if (jj_scan_token(LPAREN)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_FunctionCall_2120_13_402()) jj_scanpos = xsp;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_SecurityResourceSegment_5159_13_896() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_SecurityResourceSegment_5173_13_917() {
+    if (jj_scan_token(CLUSTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_Alias_2090_9_561() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_SecurityResourceSegment_5171_13_916() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_SecurityResourceSegment_5157_13_895() {
+  private boolean jj_3R_SecurityResourceSegment_5169_13_915() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_ArrayRangeSelector_2078_15_569() {
-    if (jj_scan_token(ELLIPSIS)) return true;
+  private boolean jj_3R_RecordAttribute_2100_5_183() {
+    if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_ArrayRangeSelector_2076_15_568() {
-    if (jj_scan_token(RANGE)) return true;
+  private boolean jj_3R_Alias_2093_9_581() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_SecurityResourceSegment_5155_5_760() {
+  private boolean jj_3R_SecurityResourceSegment_5167_5_781() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SecurityResourceSegment_5157_13_895()) {
+    if (jj_3R_SecurityResourceSegment_5169_13_915()) {
       jj_scanpos = xsp;
-      if (jj_3R_SecurityResourceSegment_5159_13_896()) {
+      if (jj_3R_SecurityResourceSegment_5171_13_916()) {
         jj_scanpos = xsp;
-        if (jj_3R_SecurityResourceSegment_5161_13_897()) {
+        if (jj_3R_SecurityResourceSegment_5173_13_917()) {
           jj_scanpos = xsp;
-          if (jj_3R_SecurityResourceSegment_5163_13_898()) {
+          if (jj_3R_SecurityResourceSegment_5175_13_918()) {
             jj_scanpos = xsp;
-            if (jj_3R_SecurityResourceSegment_5165_13_899()) {
+            if (jj_3R_SecurityResourceSegment_5177_13_919()) {
               jj_scanpos = xsp;
-              if (jj_3R_SecurityResourceSegment_5167_13_900()) {
+              if (jj_3R_SecurityResourceSegment_5179_13_920()) {
                 jj_scanpos = xsp;
-                if (jj_3R_SecurityResourceSegment_5169_13_901()) {
+                if (jj_3R_SecurityResourceSegment_5181_13_921()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_SecurityResourceSegment_5171_13_902()) {
+                  if (jj_3R_SecurityResourceSegment_5183_13_922()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_SecurityResourceSegment_5173_13_903()) {
+                    if (jj_3R_SecurityResourceSegment_5185_13_923()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_SecurityResourceSegment_5175_13_904()) {
+                      if (jj_3R_SecurityResourceSegment_5187_13_924()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_SecurityResourceSegment_5177_13_905()) {
+                        if (jj_3R_SecurityResourceSegment_5189_13_925()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_SecurityResourceSegment_5179_13_906()) {
+                          if (jj_3R_SecurityResourceSegment_5191_13_926()) {
                             jj_scanpos = xsp;
-                            if (jj_3R_SecurityResourceSegment_5181_13_907()) {
+                            if (jj_3R_SecurityResourceSegment_5193_13_927()) {
                               jj_scanpos = xsp;
-                              if (jj_3R_SecurityResourceSegment_5183_13_908()) {
+                              if (jj_3R_SecurityResourceSegment_5195_13_928()) {
                                 jj_scanpos = xsp;
-                                if (jj_3R_SecurityResourceSegment_5185_13_909()) {
+                                if (jj_3R_SecurityResourceSegment_5197_13_929()) {
                                   jj_scanpos = xsp;
-                                  if (jj_3R_SecurityResourceSegment_5187_13_910()) return true;
+                                  if (jj_3R_SecurityResourceSegment_5199_13_930()) return true;
                                 }
                               }
                             }
@@ -32246,57 +31738,55 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_SecurityResourceSegment_5190_11_911()) jj_scanpos = xsp;
+    if (jj_3R_SecurityResourceSegment_5202_11_931()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_168() {
-    if (jj_3R_StatementSemicolon_894_5_74()) return true;
+  private boolean jj_3R_ArrayRangeSelector_2081_15_589() {
+    if (jj_scan_token(ELLIPSIS)) return true;
     return false;
   }
 
-  private boolean jj_3R_ArrayRangeSelector_2073_9_395() {
-    if (jj_3R_ArrayNumberSelector_2019_5_567()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_ArrayRangeSelector_2076_15_568()) {
-      jj_scanpos = xsp;
-      if (jj_3R_ArrayRangeSelector_2078_15_569()) return true;
-    }
-    if (jj_3R_ArrayNumberSelector_2019_5_567()) return true;
+  private boolean jj_3_173() {
+    if (jj_3R_StatementSemicolon_894_5_78()) return true;
     return false;
   }
 
-  private boolean jj_3R_WhileBlock_5143_9_1079() {
-    if (jj_3R_WhileBlock_5131_5_1020()) return true;
+  private boolean jj_3R_ArrayRangeSelector_2079_15_588() {
+    if (jj_scan_token(RANGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_WhileBlock_5141_9_1078() {
-    if (jj_3R_ForEachBlock_5103_5_1021()) return true;
+  private boolean jj_3R_WhileBlock_5155_9_257() {
+    if (jj_3R_WhileBlock_5143_5_261()) return true;
     return false;
   }
 
-  private boolean jj_3R_WhileBlock_5139_9_1077() {
-    if (jj_3R_IfStatement_4861_5_328()) return true;
+  private boolean jj_3R_WhileBlock_5153_9_256() {
+    if (jj_3R_ForEachBlock_5115_5_260()) return true;
     return false;
   }
 
-  private boolean jj_3R_WhileBlock_5136_9_1076() {
-    if (jj_3R_StatementSemicolon_894_5_74()) return true;
+  private boolean jj_3R_WhileBlock_5151_9_255() {
+    if (jj_3R_IfStatement_4873_5_259()) return true;
     return false;
   }
 
-  private boolean jj_3R_WhileBlock_5136_9_1067() {
+  private boolean jj_3R_WhileBlock_5148_9_254() {
+    if (jj_3R_StatementSemicolon_894_5_78()) return true;
+    return false;
+  }
+
+  private boolean jj_3_172() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_WhileBlock_5136_9_1076()) {
+    if (jj_3R_WhileBlock_5148_9_254()) {
       jj_scanpos = xsp;
-      if (jj_3R_WhileBlock_5139_9_1077()) {
+      if (jj_3R_WhileBlock_5151_9_255()) {
         jj_scanpos = xsp;
-        if (jj_3R_WhileBlock_5141_9_1078()) {
+        if (jj_3R_WhileBlock_5153_9_256()) {
           jj_scanpos = xsp;
-          if (jj_3R_WhileBlock_5143_9_1079()) {
+          if (jj_3R_WhileBlock_5155_9_257()) {
             jj_scanpos = xsp;
             if (jj_scan_token(198)) return true;
           }
@@ -32306,21 +31796,28 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_ArrayRangeSelector_2061_9_394() {
-    if (jj_scan_token(ELLIPSIS_INTEGER_RANGE)) return true;
+  private boolean jj_3R_ArrayRangeSelector_2076_9_414() {
+    if (jj_3R_ArrayNumberSelector_2022_5_587()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_ArrayRangeSelector_2079_15_588()) {
+      jj_scanpos = xsp;
+      if (jj_3R_ArrayRangeSelector_2081_15_589()) return true;
+    }
+    if (jj_3R_ArrayNumberSelector_2022_5_587()) return true;
     return false;
   }
 
-  private boolean jj_3R_WhileBlock_5131_5_1020() {
+  private boolean jj_3R_WhileBlock_5143_5_261() {
     if (jj_scan_token(WHILE)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_WhileBlock_5136_9_1067()) {
+      if (jj_3_172()) {
         jj_scanpos = xsp;
         break;
       }
@@ -32329,65 +31826,51 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_ArrayRangeSelector_2050_9_393() {
-    if (jj_scan_token(INTEGER_RANGE)) return true;
+  private boolean jj_3R_ArrayRangeSelector_2064_9_413() {
+    if (jj_scan_token(ELLIPSIS_INTEGER_RANGE)) return true;
     return false;
   }
 
-  private boolean jj_3_167() {
-    if (jj_3R_StatementSemicolon_894_5_74()) return true;
+  private boolean jj_3_171() {
+    if (jj_3R_StatementSemicolon_894_5_78()) return true;
     return false;
   }
 
-  private boolean jj_3R_ForEachBlock_5117_9_1083() {
-    if (jj_3R_WhileBlock_5131_5_1020()) return true;
+  private boolean jj_3R_ForEachBlock_5129_9_253() {
+    if (jj_3R_WhileBlock_5143_5_261()) return true;
     return false;
   }
 
-  private boolean jj_3R_ForEachBlock_5115_9_1082() {
-    if (jj_3R_ForEachBlock_5103_5_1021()) return true;
+  private boolean jj_3R_ForEachBlock_5127_9_252() {
+    if (jj_3R_ForEachBlock_5115_5_260()) return true;
     return false;
   }
 
-  private boolean jj_3R_ArrayRangeSelector_2048_5_183() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_ArrayRangeSelector_2050_9_393()) {
-      jj_scanpos = xsp;
-      if (jj_3R_ArrayRangeSelector_2061_9_394()) {
-        jj_scanpos = xsp;
-        if (jj_3R_ArrayRangeSelector_2073_9_395()) return true;
-      }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_ForEachBlock_5113_9_1081() {
-    if (jj_3R_IfStatement_4861_5_328()) return true;
+  private boolean jj_3R_ForEachBlock_5125_9_251() {
+    if (jj_3R_IfStatement_4873_5_259()) return true;
     return false;
   }
 
-  private boolean jj_3R_ArraySingleValuesSelector_2040_11_399() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_ArraySelector_2003_5_398()) return true;
+  private boolean jj_3R_ArrayRangeSelector_2053_9_412() {
+    if (jj_scan_token(INTEGER_RANGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_ForEachBlock_5110_9_1080() {
-    if (jj_3R_StatementSemicolon_894_5_74()) return true;
+  private boolean jj_3R_ForEachBlock_5122_9_250() {
+    if (jj_3R_StatementSemicolon_894_5_78()) return true;
     return false;
   }
 
-  private boolean jj_3R_ForEachBlock_5110_9_1068() {
+  private boolean jj_3_170() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_ForEachBlock_5110_9_1080()) {
+    if (jj_3R_ForEachBlock_5122_9_250()) {
       jj_scanpos = xsp;
-      if (jj_3R_ForEachBlock_5113_9_1081()) {
+      if (jj_3R_ForEachBlock_5125_9_251()) {
         jj_scanpos = xsp;
-        if (jj_3R_ForEachBlock_5115_9_1082()) {
+        if (jj_3R_ForEachBlock_5127_9_252()) {
           jj_scanpos = xsp;
-          if (jj_3R_ForEachBlock_5117_9_1083()) {
+          if (jj_3R_ForEachBlock_5129_9_253()) {
             jj_scanpos = xsp;
             if (jj_scan_token(198)) return true;
           }
@@ -32397,41 +31880,37 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_79() {
-    if (jj_3R_Integer_823_1_73()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_ArraySingleValuesSelector_2038_5_185() {
-    if (jj_3R_ArraySelector_2003_5_398()) return true;
+  private boolean jj_3R_ArrayRangeSelector_2051_5_187() {
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_ArraySingleValuesSelector_2040_11_399()) {
+    xsp = jj_scanpos;
+    if (jj_3R_ArrayRangeSelector_2053_9_412()) {
+      jj_scanpos = xsp;
+      if (jj_3R_ArrayRangeSelector_2064_9_413()) {
         jj_scanpos = xsp;
-        break;
+        if (jj_3R_ArrayRangeSelector_2076_9_414()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3_78() {
-    if (jj_3R_InputParameter_1864_5_176()) return true;
+  private boolean jj_3R_ArraySingleValuesSelector_2043_11_418() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_ArraySelector_2006_5_417()) return true;
     return false;
   }
 
-  private boolean jj_3R_ForEachBlock_5103_5_1021() {
+  private boolean jj_3R_ForEachBlock_5115_5_260() {
     if (jj_scan_token(FOREACH)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     if (jj_scan_token(IN)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_ForEachBlock_5110_9_1068()) {
+      if (jj_3_170()) {
         jj_scanpos = xsp;
         break;
       }
@@ -32440,180 +31919,182 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_ArrayNumberSelector_2023_9_675() {
-    if (jj_scan_token(INTEGER_LITERAL)) return true;
+  private boolean jj_3R_ArraySingleValuesSelector_2041_5_189() {
+    if (jj_3R_ArraySelector_2006_5_417()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_ArraySingleValuesSelector_2043_11_418()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
     return false;
   }
 
-  private boolean jj_3_77() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3_80() {
+    if (jj_3R_Integer_823_1_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_ArrayNumberSelector_2020_9_674() {
-    if (jj_3R_InputParameter_1864_5_176()) return true;
+  private boolean jj_3_79() {
+    if (jj_3R_InputParameter_1867_5_180()) return true;
     return false;
   }
 
-  private boolean jj_3_76() {
-    if (jj_3R_InputParameter_1864_5_176()) return true;
+  private boolean jj_3R_ArrayNumberSelector_2026_9_695() {
+    if (jj_scan_token(INTEGER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3_75() {
-    if (jj_3R_Rid_491_5_175()) return true;
+  private boolean jj_3R_HaSetStatement_5100_5_126() {
+    if (jj_scan_token(HA)) return true;
+    if (jj_scan_token(SET)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_ArrayNumberSelector_2019_5_567() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_ArrayNumberSelector_2020_9_674()) {
-      jj_scanpos = xsp;
-      if (jj_3R_ArrayNumberSelector_2023_9_675()) return true;
-    }
+  private boolean jj_3_78() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_HaSetStatement_5088_5_122() {
-    if (jj_scan_token(HA)) return true;
-    if (jj_scan_token(SET)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_ArrayNumberSelector_2023_9_694() {
+    if (jj_3R_InputParameter_1867_5_180()) return true;
     return false;
   }
 
-  private boolean jj_3R_ArraySelector_2010_9_574() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3_77() {
+    if (jj_3R_InputParameter_1867_5_180()) return true;
     return false;
   }
 
-  private boolean jj_3R_HaSyncClusterStatement_5075_13_527() {
+  private boolean jj_3R_HaSyncClusterStatement_5087_13_547() {
     if (jj_scan_token(284)) return true;
     return false;
   }
 
-  private boolean jj_3R_ArraySelector_2007_9_573() {
-    if (jj_3R_InputParameter_1864_5_176()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_ArraySelector_2004_9_572() {
-    if (jj_3R_Rid_491_5_175()) return true;
+  private boolean jj_3_76() {
+    if (jj_3R_Rid_491_5_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_HaSyncClusterStatement_5071_13_315() {
+  private boolean jj_3R_ArrayNumberSelector_2022_5_587() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_HaSyncClusterStatement_5071_13_526()) {
+    if (jj_3R_ArrayNumberSelector_2023_9_694()) {
       jj_scanpos = xsp;
-      if (jj_3R_HaSyncClusterStatement_5075_13_527()) return true;
+      if (jj_3R_ArrayNumberSelector_2026_9_695()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_HaSyncClusterStatement_5071_13_526() {
-    if (jj_scan_token(283)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_ArraySelector_2003_5_398() {
+  private boolean jj_3R_HaSyncClusterStatement_5083_13_335() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_ArraySelector_2004_9_572()) {
+    if (jj_3R_HaSyncClusterStatement_5083_13_546()) {
       jj_scanpos = xsp;
-      if (jj_3R_ArraySelector_2007_9_573()) {
-        jj_scanpos = xsp;
-        if (jj_3R_ArraySelector_2010_9_574()) return true;
-      }
+      if (jj_3R_HaSyncClusterStatement_5087_13_547()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_HaSyncClusterStatement_5067_5_121() {
-    if (jj_scan_token(HA)) return true;
-    if (jj_scan_token(SYNC)) return true;
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_HaSyncClusterStatement_5071_13_315()) jj_scanpos = xsp;
+  private boolean jj_3R_HaSyncClusterStatement_5083_13_546() {
+    if (jj_scan_token(283)) return true;
     return false;
   }
 
-  private boolean jj_3R_NestedProjectionItem_1990_10_956() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_ArraySelector_2013_9_594() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_NestedProjectionItem_1994_6_822() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_ArraySelector_2010_9_593() {
+    if (jj_3R_InputParameter_1867_5_180()) return true;
     return false;
   }
 
-  private boolean jj_3R_NestedProjectionItem_1993_6_821() {
-    if (jj_3R_NestedProjection_1949_3_560()) return true;
+  private boolean jj_3R_ArraySelector_2007_9_592() {
+    if (jj_3R_Rid_491_5_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_NestedProjectionItem_1988_10_955() {
-    if (jj_scan_token(BANG)) return true;
+  private boolean jj_3R_HaSyncClusterStatement_5079_5_125() {
+    if (jj_scan_token(HA)) return true;
+    if (jj_scan_token(SYNC)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_HaSyncClusterStatement_5083_13_335()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_HaSyncDatabaseStatement_5058_11_525() {
+  private boolean jj_3R_ArraySelector_2006_5_417() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_ArraySelector_2007_9_592()) {
+      jj_scanpos = xsp;
+      if (jj_3R_ArraySelector_2010_9_593()) {
+        jj_scanpos = xsp;
+        if (jj_3R_ArraySelector_2013_9_594()) return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_HaSyncDatabaseStatement_5070_11_545() {
     if (jj_scan_token(282)) return true;
     return false;
   }
 
-  private boolean jj_3R_HaSyncDatabaseStatement_5056_11_314() {
+  private boolean jj_3R_HaSyncDatabaseStatement_5068_11_334() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_HaSyncDatabaseStatement_5056_11_524()) {
+    if (jj_3R_HaSyncDatabaseStatement_5068_11_544()) {
       jj_scanpos = xsp;
-      if (jj_3R_HaSyncDatabaseStatement_5058_11_525()) return true;
+      if (jj_3R_HaSyncDatabaseStatement_5070_11_545()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_HaSyncDatabaseStatement_5056_11_524() {
+  private boolean jj_3R_HaSyncDatabaseStatement_5068_11_544() {
     if (jj_scan_token(281)) return true;
     return false;
   }
 
-  private boolean jj_3R_NestedProjectionItem_1987_7_820() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_NestedProjectionItem_1988_10_955()) jj_scanpos = xsp;
-    if (jj_3R_Expression_2224_5_161()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_NestedProjectionItem_1990_10_956()) jj_scanpos = xsp;
+  private boolean jj_3R_NestedProjectionItem_1993_10_972() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_Projection_1923_70_763() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_ProjectionItem_1936_1_174()) return true;
+  private boolean jj_3R_NestedProjectionItem_1997_6_842() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_NestedProjectionItem_1984_7_819() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_NestedProjectionItem_1996_6_841() {
+    if (jj_3R_NestedProjection_1952_3_580()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_NestedProjectionItem_1991_10_971() {
+    if (jj_scan_token(BANG)) return true;
     return false;
   }
 
-  private boolean jj_3R_HaSyncDatabaseStatement_5053_5_120() {
+  private boolean jj_3R_HaSyncDatabaseStatement_5065_5_124() {
     if (jj_scan_token(HA)) return true;
     if (jj_scan_token(SYNC)) return true;
     if (jj_scan_token(DATABASE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_HaSyncDatabaseStatement_5056_11_314()) {
+      if (jj_3R_HaSyncDatabaseStatement_5068_11_334()) {
         jj_scanpos = xsp;
         break;
       }
@@ -32621,86 +32102,107 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_NestedProjectionItem_1982_3_668() {
+  private boolean jj_3R_NestedProjectionItem_1990_7_840() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_NestedProjectionItem_1984_7_819()) {
-      jj_scanpos = xsp;
-      if (jj_3R_NestedProjectionItem_1987_7_820()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_NestedProjectionItem_1993_6_821()) jj_scanpos = xsp;
+    if (jj_3R_NestedProjectionItem_1991_10_971()) jj_scanpos = xsp;
+    if (jj_3R_Expression_2227_5_165()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_NestedProjectionItem_1994_6_822()) jj_scanpos = xsp;
+    if (jj_3R_NestedProjectionItem_1993_10_972()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_Projection_1917_66_762() {
+  private boolean jj_3R_Projection_1926_70_783() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_ProjectionItem_1936_1_174()) return true;
+    if (jj_3R_ProjectionItem_1939_1_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_HaRemoveServerStatement_5043_5_118() {
+  private boolean jj_3R_NestedProjectionItem_1987_7_839() {
+    if (jj_scan_token(STAR)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_HaRemoveServerStatement_5055_5_122() {
     if (jj_scan_token(HA)) return true;
     if (jj_scan_token(REMOVE)) return true;
     if (jj_scan_token(SERVER)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_NestedProjectionItem_1985_3_688() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_NestedProjectionItem_1987_7_839()) {
+      jj_scanpos = xsp;
+      if (jj_3R_NestedProjectionItem_1990_7_840()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_NestedProjectionItem_1996_6_841()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_NestedProjectionItem_1997_6_842()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_HaStatusStatement_5034_13_523() {
+  private boolean jj_3R_HaStatusStatement_5046_13_543() {
     if (jj_scan_token(280)) return true;
     return false;
   }
 
-  private boolean jj_3R_NestedProjection_1961_7_669() {
+  private boolean jj_3R_Projection_1920_66_782() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_NestedProjectionItem_1982_3_668()) return true;
+    if (jj_3R_ProjectionItem_1939_1_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_HaStatusStatement_5026_13_522() {
+  private boolean jj_3R_HaStatusStatement_5038_13_542() {
     if (jj_scan_token(279)) return true;
     return false;
   }
 
-  private boolean jj_3R_HaStatusStatement_5024_13_521() {
+  private boolean jj_3R_HaStatusStatement_5036_13_541() {
     if (jj_scan_token(278)) return true;
     return false;
   }
 
-  private boolean jj_3R_HaStatusStatement_5022_13_520() {
+  private boolean jj_3R_HaStatusStatement_5034_13_540() {
     if (jj_scan_token(277)) return true;
     return false;
   }
 
-  private boolean jj_3R_HaStatusStatement_5020_13_519() {
+  private boolean jj_3R_HaStatusStatement_5032_13_539() {
     if (jj_scan_token(276)) return true;
     return false;
   }
 
-  private boolean jj_3R_HaStatusStatement_5018_13_518() {
+  private boolean jj_3R_HaStatusStatement_5030_13_538() {
     if (jj_scan_token(275)) return true;
     return false;
   }
 
-  private boolean jj_3R_HaStatusStatement_5016_13_313() {
+  private boolean jj_3R_NestedProjection_1964_7_689() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_NestedProjectionItem_1985_3_688()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_HaStatusStatement_5028_13_333() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_HaStatusStatement_5016_13_517()) {
+    if (jj_3R_HaStatusStatement_5028_13_537()) {
       jj_scanpos = xsp;
-      if (jj_3R_HaStatusStatement_5018_13_518()) {
+      if (jj_3R_HaStatusStatement_5030_13_538()) {
         jj_scanpos = xsp;
-        if (jj_3R_HaStatusStatement_5020_13_519()) {
+        if (jj_3R_HaStatusStatement_5032_13_539()) {
           jj_scanpos = xsp;
-          if (jj_3R_HaStatusStatement_5022_13_520()) {
+          if (jj_3R_HaStatusStatement_5034_13_540()) {
             jj_scanpos = xsp;
-            if (jj_3R_HaStatusStatement_5024_13_521()) {
+            if (jj_3R_HaStatusStatement_5036_13_541()) {
               jj_scanpos = xsp;
-              if (jj_3R_HaStatusStatement_5026_13_522()) {
+              if (jj_3R_HaStatusStatement_5038_13_542()) {
                 jj_scanpos = xsp;
-                if (jj_3R_HaStatusStatement_5034_13_523()) return true;
+                if (jj_3R_HaStatusStatement_5046_13_543()) return true;
               }
             }
           }
@@ -32710,219 +32212,199 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_HaStatusStatement_5016_13_517() {
+  private boolean jj_3R_HaStatusStatement_5028_13_537() {
     if (jj_scan_token(274)) return true;
     return false;
   }
 
-  private boolean jj_3R_NestedProjection_1949_3_560() {
-    if (jj_scan_token(COLON)) return true;
-    if (jj_scan_token(LBRACE)) return true;
-    if (jj_3R_NestedProjectionItem_1982_3_668()) return true;
+  private boolean jj_3R_HaStatusStatement_5025_5_123() {
+    if (jj_scan_token(HA)) return true;
+    if (jj_scan_token(STATUS)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_NestedProjection_1961_7_669()) {
+      if (jj_3R_HaStatusStatement_5028_13_333()) {
         jj_scanpos = xsp;
         break;
       }
     }
-    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_ProjectionItem_1940_7_377() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_Alias_2090_9_561()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_HaStatusStatement_5013_5_119() {
-    if (jj_scan_token(HA)) return true;
-    if (jj_scan_token(STATUS)) return true;
+  private boolean jj_3R_NestedProjection_1952_3_580() {
+    if (jj_scan_token(COLON)) return true;
+    if (jj_scan_token(LBRACE)) return true;
+    if (jj_3R_NestedProjectionItem_1985_3_688()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_HaStatusStatement_5016_13_313()) {
+      if (jj_3R_NestedProjection_1964_7_689()) {
         jj_scanpos = xsp;
         break;
       }
     }
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_ProjectionItem_1939_7_376() {
-    if (jj_3R_NestedProjection_1949_3_560()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_ProjectionItem_1937_6_375() {
-    if (jj_scan_token(BANG)) return true;
+  private boolean jj_3R_DropSequenceStatement_5014_11_770() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_DropSequenceStatement_5002_11_749() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_ProjectionItem_1943_7_396() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_Alias_2093_9_581()) return true;
     return false;
   }
 
-  private boolean jj_3R_ProjectionItem_1936_1_174() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_ProjectionItem_1937_6_375()) jj_scanpos = xsp;
-    if (jj_3R_Expression_2224_5_161()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_ProjectionItem_1939_7_376()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_ProjectionItem_1940_7_377()) jj_scanpos = xsp;
+  private boolean jj_3R_ProjectionItem_1942_7_395() {
+    if (jj_3R_NestedProjection_1952_3_580()) return true;
     return false;
   }
 
-  private boolean jj_3_74() {
-    if (jj_3R_ProjectionItem_1936_1_174()) return true;
+  private boolean jj_3R_ProjectionItem_1940_6_394() {
+    if (jj_scan_token(BANG)) return true;
     return false;
   }
 
-  private boolean jj_3R_DropSequenceStatement_4999_5_109() {
+  private boolean jj_3R_DropSequenceStatement_5011_5_113() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_DropSequenceStatement_5002_11_749()) jj_scanpos = xsp;
+    if (jj_3R_DropSequenceStatement_5014_11_770()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_Projection_1920_9_620() {
-    if (jj_scan_token(DISTINCT)) return true;
-    if (jj_3R_ProjectionItem_1936_1_174()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_Projection_1923_70_763()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
+  private boolean jj_3R_AlterSequenceStatement_4999_13_913() {
+    if (jj_scan_token(NOLIMIT)) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterSequenceStatement_4987_13_893() {
-    if (jj_scan_token(NOLIMIT)) return true;
+  private boolean jj_3R_ProjectionItem_1939_1_178() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_ProjectionItem_1940_6_394()) jj_scanpos = xsp;
+    if (jj_3R_Expression_2227_5_165()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_ProjectionItem_1942_7_395()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_ProjectionItem_1943_7_396()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_AlterSequenceStatement_4985_13_892() {
+  private boolean jj_3R_AlterSequenceStatement_4997_13_912() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterSequenceStatement_4975_21_1017() {
+  private boolean jj_3R_AlterSequenceStatement_4987_21_1033() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterSequenceStatement_4983_13_891() {
-    if (jj_scan_token(ASC)) return true;
+  private boolean jj_3_75() {
+    if (jj_3R_ProjectionItem_1939_1_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_Projection_1915_9_619() {
-    if (jj_3R_ProjectionItem_1936_1_174()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_Projection_1917_66_762()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
+  private boolean jj_3R_AlterSequenceStatement_4995_13_911() {
+    if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterSequenceStatement_4981_13_890() {
+  private boolean jj_3R_AlterSequenceStatement_4993_13_910() {
     if (jj_scan_token(CACHE)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterSequenceStatement_4971_21_1016() {
+  private boolean jj_3R_AlterSequenceStatement_4983_21_1032() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_Projection_1914_5_469() {
+  private boolean jj_3R_Projection_1923_9_640() {
+    if (jj_scan_token(DISTINCT)) return true;
+    if (jj_3R_ProjectionItem_1939_1_178()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_Projection_1915_9_619()) {
-      jj_scanpos = xsp;
-      if (jj_3R_Projection_1920_9_620()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_Projection_1926_70_783()) {
+        jj_scanpos = xsp;
+        break;
+      }
     }
     return false;
   }
 
-  private boolean jj_3R_NamedParameter_1894_17_671() {
-    if (jj_scan_token(SKIP2)) return true;
+  private boolean jj_3R_Projection_1918_9_639() {
+    if (jj_3R_ProjectionItem_1939_1_178()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_Projection_1920_66_782()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_NamedParameter_1898_13_673() {
-    if (jj_scan_token(FROM)) return true;
+  private boolean jj_3R_Projection_1917_5_489() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_Projection_1918_9_639()) {
+      jj_scanpos = xsp;
+      if (jj_3R_Projection_1923_9_640()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_AlterSequenceStatement_4968_13_889() {
+  private boolean jj_3R_AlterSequenceStatement_4980_13_909() {
     if (jj_scan_token(CYCLE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_AlterSequenceStatement_4971_21_1016()) {
+    if (jj_3R_AlterSequenceStatement_4983_21_1032()) {
       jj_scanpos = xsp;
-      if (jj_3R_AlterSequenceStatement_4975_21_1017()) return true;
+      if (jj_3R_AlterSequenceStatement_4987_21_1033()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_NamedParameter_1892_17_670() {
-    if (jj_3R_Identifier_581_1_171()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_NamedParameter_1896_13_672() {
-    if (jj_scan_token(LIMIT)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_AlterSequenceStatement_4966_13_888() {
+  private boolean jj_3R_AlterSequenceStatement_4978_13_908() {
     if (jj_scan_token(LIMIT)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterSequenceStatement_4964_13_887() {
+  private boolean jj_3R_AlterSequenceStatement_4976_13_907() {
     if (jj_scan_token(INCREMENT)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterSequenceStatement_4962_13_748() {
+  private boolean jj_3R_AlterSequenceStatement_4974_13_769() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_AlterSequenceStatement_4962_13_886()) {
+    if (jj_3R_AlterSequenceStatement_4974_13_906()) {
       jj_scanpos = xsp;
-      if (jj_3R_AlterSequenceStatement_4964_13_887()) {
+      if (jj_3R_AlterSequenceStatement_4976_13_907()) {
         jj_scanpos = xsp;
-        if (jj_3R_AlterSequenceStatement_4966_13_888()) {
+        if (jj_3R_AlterSequenceStatement_4978_13_908()) {
           jj_scanpos = xsp;
-          if (jj_3R_AlterSequenceStatement_4968_13_889()) {
+          if (jj_3R_AlterSequenceStatement_4980_13_909()) {
             jj_scanpos = xsp;
-            if (jj_3R_AlterSequenceStatement_4981_13_890()) {
+            if (jj_3R_AlterSequenceStatement_4993_13_910()) {
               jj_scanpos = xsp;
-              if (jj_3R_AlterSequenceStatement_4983_13_891()) {
+              if (jj_3R_AlterSequenceStatement_4995_13_911()) {
                 jj_scanpos = xsp;
-                if (jj_3R_AlterSequenceStatement_4985_13_892()) {
+                if (jj_3R_AlterSequenceStatement_4997_13_912()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_AlterSequenceStatement_4987_13_893()) return true;
+                  if (jj_3R_AlterSequenceStatement_4999_13_913()) return true;
                 }
               }
             }
@@ -32933,37 +32415,40 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_AlterSequenceStatement_4962_13_886() {
+  private boolean jj_3R_AlterSequenceStatement_4974_13_906() {
     if (jj_scan_token(START)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_NamedParameter_1889_5_563() {
-    if (jj_scan_token(COLON)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_NamedParameter_1892_17_670()) {
-      jj_scanpos = xsp;
-      if (jj_3R_NamedParameter_1894_17_671()) {
-        jj_scanpos = xsp;
-        if (jj_3R_NamedParameter_1896_13_672()) {
-          jj_scanpos = xsp;
-          if (jj_3R_NamedParameter_1898_13_673()) return true;
-        }
-      }
-    }
+  private boolean jj_3R_NamedParameter_1897_17_691() {
+    if (jj_scan_token(SKIP2)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_NamedParameter_1901_13_693() {
+    if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterSequenceStatement_4958_5_107() {
+  private boolean jj_3R_NamedParameter_1895_17_690() {
+    if (jj_3R_Identifier_581_1_175()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_NamedParameter_1899_13_692() {
+    if (jj_scan_token(LIMIT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_AlterSequenceStatement_4970_5_111() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_AlterSequenceStatement_4962_13_748()) {
+      if (jj_3R_AlterSequenceStatement_4974_13_769()) {
         jj_scanpos = xsp;
         break;
       }
@@ -32971,102 +32456,109 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_CreateEdgeStatement_1843_47_470() {
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_CreateSequenceStatement_4947_13_885() {
+  private boolean jj_3R_CreateSequenceStatement_4959_13_905() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateSequenceStatement_4937_21_1015() {
+  private boolean jj_3R_CreateSequenceStatement_4949_21_1031() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateSequenceStatement_4945_13_884() {
+  private boolean jj_3R_CreateSequenceStatement_4957_13_904() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateSequenceStatement_4943_13_883() {
-    if (jj_scan_token(CACHE)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_NamedParameter_1892_5_583() {
+    if (jj_scan_token(COLON)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_NamedParameter_1895_17_690()) {
+      jj_scanpos = xsp;
+      if (jj_3R_NamedParameter_1897_17_691()) {
+        jj_scanpos = xsp;
+        if (jj_3R_NamedParameter_1899_13_692()) {
+          jj_scanpos = xsp;
+          if (jj_3R_NamedParameter_1901_13_693()) return true;
+        }
+      }
+    }
     return false;
   }
 
-  private boolean jj_3R_PositionalParameter_1875_9_562() {
-    if (jj_scan_token(HOOK)) return true;
+  private boolean jj_3R_CreateSequenceStatement_4955_13_903() {
+    if (jj_scan_token(CACHE)) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateSequenceStatement_4933_21_1014() {
+  private boolean jj_3R_CreateSequenceStatement_4945_21_1030() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_InputParameter_1867_13_380() {
-    if (jj_3R_NamedParameter_1889_5_563()) return true;
+  private boolean jj_3R_CreateEdgeStatement_1846_47_490() {
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_InputParameter_1865_13_379() {
-    if (jj_3R_PositionalParameter_1875_9_562()) return true;
+  private boolean jj_3R_PositionalParameter_1878_9_582() {
+    if (jj_scan_token(HOOK)) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateSequenceStatement_4930_13_882() {
+  private boolean jj_3R_CreateSequenceStatement_4942_13_902() {
     if (jj_scan_token(CYCLE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CreateSequenceStatement_4933_21_1014()) {
+    if (jj_3R_CreateSequenceStatement_4945_21_1030()) {
       jj_scanpos = xsp;
-      if (jj_3R_CreateSequenceStatement_4937_21_1015()) return true;
+      if (jj_3R_CreateSequenceStatement_4949_21_1031()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_CreateSequenceStatement_4928_13_881() {
+  private boolean jj_3R_InputParameter_1870_13_399() {
+    if (jj_3R_NamedParameter_1892_5_583()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_CreateSequenceStatement_4940_13_901() {
     if (jj_scan_token(LIMIT)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_InputParameter_1864_5_176() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_InputParameter_1865_13_379()) {
-      jj_scanpos = xsp;
-      if (jj_3R_InputParameter_1867_13_380()) return true;
-    }
+  private boolean jj_3R_InputParameter_1868_13_398() {
+    if (jj_3R_PositionalParameter_1878_9_582()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateSequenceStatement_4926_13_880() {
+  private boolean jj_3R_CreateSequenceStatement_4938_13_900() {
     if (jj_scan_token(INCREMENT)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateSequenceStatement_4924_13_743() {
+  private boolean jj_3R_CreateSequenceStatement_4936_13_764() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CreateSequenceStatement_4924_13_879()) {
+    if (jj_3R_CreateSequenceStatement_4936_13_899()) {
       jj_scanpos = xsp;
-      if (jj_3R_CreateSequenceStatement_4926_13_880()) {
+      if (jj_3R_CreateSequenceStatement_4938_13_900()) {
         jj_scanpos = xsp;
-        if (jj_3R_CreateSequenceStatement_4928_13_881()) {
+        if (jj_3R_CreateSequenceStatement_4940_13_901()) {
           jj_scanpos = xsp;
-          if (jj_3R_CreateSequenceStatement_4930_13_882()) {
+          if (jj_3R_CreateSequenceStatement_4942_13_902()) {
             jj_scanpos = xsp;
-            if (jj_3R_CreateSequenceStatement_4943_13_883()) {
+            if (jj_3R_CreateSequenceStatement_4955_13_903()) {
               jj_scanpos = xsp;
-              if (jj_3R_CreateSequenceStatement_4945_13_884()) {
+              if (jj_3R_CreateSequenceStatement_4957_13_904()) {
                 jj_scanpos = xsp;
-                if (jj_3R_CreateSequenceStatement_4947_13_885()) return true;
+                if (jj_3R_CreateSequenceStatement_4959_13_905()) return true;
               }
             }
           }
@@ -33076,64 +32568,74 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_CreateSequenceStatement_4924_13_879() {
+  private boolean jj_3R_CreateSequenceStatement_4936_13_899() {
     if (jj_scan_token(START)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_CreateEdgeStatement_1856_7_264() {
-    if (jj_3R_Batch_3288_5_473()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateEdgeStatement_1855_7_263() {
-    if (jj_3R_Wait_3319_5_472()) return true;
+  private boolean jj_3R_InputParameter_1867_5_180() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_InputParameter_1868_13_398()) {
+      jj_scanpos = xsp;
+      if (jj_3R_InputParameter_1870_13_399()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_CreateEdgeStatement_1854_7_262() {
-    if (jj_3R_Retry_3329_5_471()) return true;
+  private boolean jj_3R_CreateEdgeStatement_1859_7_284() {
+    if (jj_3R_Batch_3291_5_493()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateEdgeStatement_1853_7_261() {
-    if (jj_3R_InsertBody_1689_5_168()) return true;
+  private boolean jj_3R_CreateEdgeStatement_1858_7_283() {
+    if (jj_3R_Wait_3322_5_492()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateEdgeStatement_1844_11_260() {
-    if (jj_scan_token(UPSERT)) return true;
+  private boolean jj_3R_CreateEdgeStatement_1857_7_282() {
+    if (jj_3R_Retry_3332_5_491()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateEdgeStatement_1843_11_259() {
-    if (jj_3R_Identifier_581_1_171()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_CreateEdgeStatement_1843_47_470()) jj_scanpos = xsp;
+  private boolean jj_3R_CreateEdgeStatement_1856_7_281() {
+    if (jj_3R_InsertBody_1692_5_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateSequenceStatement_4911_11_742() {
+  private boolean jj_3R_CreateSequenceStatement_4923_11_763() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateSequenceStatement_4908_5_96() {
+  private boolean jj_3R_CreateEdgeStatement_1847_11_280() {
+    if (jj_scan_token(UPSERT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_CreateEdgeStatement_1846_11_279() {
+    if (jj_3R_Identifier_581_1_175()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_CreateEdgeStatement_1846_47_490()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_CreateSequenceStatement_4920_5_100() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(SEQUENCE)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CreateSequenceStatement_4911_11_742()) jj_scanpos = xsp;
+    if (jj_3R_CreateSequenceStatement_4923_11_763()) jj_scanpos = xsp;
     if (jj_scan_token(TYPE)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_CreateSequenceStatement_4924_13_743()) {
+      if (jj_3R_CreateSequenceStatement_4936_13_764()) {
         jj_scanpos = xsp;
         break;
       }
@@ -33141,155 +32643,138 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_CreateEdgeStatement_1840_1_100() {
+  private boolean jj_3R_CreateEdgeStatement_1843_1_104() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CreateEdgeStatement_1843_11_259()) jj_scanpos = xsp;
+    if (jj_3R_CreateEdgeStatement_1846_11_279()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CreateEdgeStatement_1844_11_260()) jj_scanpos = xsp;
+    if (jj_3R_CreateEdgeStatement_1847_11_280()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_CreateEdgeStatement_1853_7_261()) jj_scanpos = xsp;
+    if (jj_3R_CreateEdgeStatement_1856_7_281()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CreateEdgeStatement_1854_7_262()) jj_scanpos = xsp;
+    if (jj_3R_CreateEdgeStatement_1857_7_282()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CreateEdgeStatement_1855_7_263()) jj_scanpos = xsp;
+    if (jj_3R_CreateEdgeStatement_1858_7_283()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CreateEdgeStatement_1856_7_264()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_MoveVertexStatement_1830_8_747() {
-    if (jj_3R_Batch_3288_5_473()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_MoveVertexStatement_1829_8_746() {
-    if (jj_3R_UpdateOperations_1532_5_475()) return true;
+    if (jj_3R_CreateEdgeStatement_1859_7_284()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_MoveVertexStatement_1823_9_745() {
-    if (jj_scan_token(CLASS)) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_CommitStatement_4837_76_1086() {
+    if (jj_scan_token(FAIL)) return true;
     return false;
   }
 
-  private boolean jj_3R_CommitStatement_4825_76_1075() {
-    if (jj_scan_token(FAIL)) return true;
+  private boolean jj_3R_MoveVertexStatement_1833_8_768() {
+    if (jj_3R_Batch_3291_5_493()) return true;
     return false;
   }
 
-  private boolean jj_3R_MoveVertexStatement_1821_9_744() {
-    if (jj_3R_Cluster_2530_5_173()) return true;
+  private boolean jj_3R_MoveVertexStatement_1832_8_767() {
+    if (jj_3R_UpdateOperations_1535_5_495()) return true;
     return false;
   }
 
-  private boolean jj_3R_ConsoleStatement_4894_5_327() {
+  private boolean jj_3R_ConsoleStatement_4906_5_347() {
     if (jj_scan_token(CONSOLE)) return true;
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_CommitStatement_4829_66_1066() {
+  private boolean jj_3R_CommitStatement_4841_66_1079() {
     if (jj_scan_token(FAIL)) return true;
     return false;
   }
 
-  private boolean jj_3R_MoveVertexStatement_1816_3_317() {
-    if (jj_scan_token(MOVE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_FromItem_2449_5_474()) return true;
-    if (jj_scan_token(TO)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_MoveVertexStatement_1821_9_744()) {
-      jj_scanpos = xsp;
-      if (jj_3R_MoveVertexStatement_1823_9_745()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_MoveVertexStatement_1829_8_746()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_MoveVertexStatement_1830_8_747()) jj_scanpos = xsp;
+  private boolean jj_3R_MoveVertexStatement_1826_9_766() {
+    if (jj_scan_token(CLASS)) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3_73() {
-    if (jj_3R_InsertBody_1689_5_168()) return true;
+  private boolean jj_3R_MoveVertexStatement_1824_9_765() {
+    if (jj_3R_Cluster_2533_5_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_SleepStatement_4885_5_326() {
+  private boolean jj_3R_SleepStatement_4897_5_346() {
     if (jj_scan_token(SLEEP)) return true;
     if (jj_3R_Integer_823_1_73()) return true;
     return false;
   }
 
-  private boolean jj_3_72() {
-    if (jj_3R_Cluster_2530_5_173()) return true;
+  private boolean jj_3_169() {
+    if (jj_3R_StatementSemicolon_894_5_78()) return true;
     return false;
   }
 
-  private boolean jj_3_166() {
-    if (jj_3R_StatementSemicolon_894_5_74()) return true;
+  private boolean jj_3R_IfStatement_4885_13_249() {
+    if (jj_3R_ForEachBlock_5115_5_260()) return true;
     return false;
   }
 
-  private boolean jj_3R_IfStatement_4873_13_916() {
-    if (jj_3R_ForEachBlock_5103_5_1021()) return true;
+  private boolean jj_3R_IfStatement_4883_13_248() {
+    if (jj_3R_WhileBlock_5143_5_261()) return true;
     return false;
   }
 
-  private boolean jj_3R_IfStatement_4871_13_915() {
-    if (jj_3R_WhileBlock_5131_5_1020()) return true;
+  private boolean jj_3R_IfStatement_4881_13_247() {
+    if (jj_3R_IfStatement_4873_5_259()) return true;
     return false;
   }
 
-  private boolean jj_3R_IfStatement_4869_13_914() {
-    if (jj_3R_IfStatement_4861_5_328()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_CreateVertexStatement_1789_21_468() {
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_MoveVertexStatement_1819_3_337() {
+    if (jj_scan_token(MOVE)) return true;
+    if (jj_scan_token(VERTEX)) return true;
+    if (jj_3R_FromItem_2452_5_494()) return true;
+    if (jj_scan_token(TO)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_MoveVertexStatement_1824_9_765()) {
+      jj_scanpos = xsp;
+      if (jj_3R_MoveVertexStatement_1826_9_766()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_MoveVertexStatement_1832_8_767()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_MoveVertexStatement_1833_8_768()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_CreateVertexStatement_1798_11_258() {
-    if (jj_3R_InsertBody_1689_5_168()) return true;
+  private boolean jj_3_74() {
+    if (jj_3R_InsertBody_1692_5_172()) return true;
     return false;
   }
 
-  private boolean jj_3_71() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3_73() {
+    if (jj_3R_Cluster_2533_5_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateVertexStatement_1797_11_257() {
-    if (jj_scan_token(RETURN)) return true;
-    if (jj_3R_Projection_1914_5_469()) return true;
+  private boolean jj_3R_IfStatement_4878_13_246() {
+    if (jj_3R_StatementSemicolon_894_5_78()) return true;
     return false;
   }
 
-  private boolean jj_3R_IfStatement_4866_13_761() {
+  private boolean jj_3_168() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_IfStatement_4866_13_913()) {
+    if (jj_3R_IfStatement_4878_13_246()) {
       jj_scanpos = xsp;
-      if (jj_3R_IfStatement_4869_13_914()) {
+      if (jj_3R_IfStatement_4881_13_247()) {
         jj_scanpos = xsp;
-        if (jj_3R_IfStatement_4871_13_915()) {
+        if (jj_3R_IfStatement_4883_13_248()) {
           jj_scanpos = xsp;
-          if (jj_3R_IfStatement_4873_13_916()) {
+          if (jj_3R_IfStatement_4885_13_249()) {
             jj_scanpos = xsp;
             if (jj_scan_token(198)) return true;
           }
@@ -33299,41 +32784,50 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_IfStatement_4866_13_913() {
-    if (jj_3R_StatementSemicolon_894_5_74()) return true;
+  private boolean jj_3R_CreateVertexStatement_1792_21_488() {
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateVertexStatement_1794_13_256() {
-    if (jj_3R_Cluster_2530_5_173()) return true;
+  private boolean jj_3R_CreateVertexStatement_1801_11_278() {
+    if (jj_3R_InsertBody_1692_5_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateVertexStatementNoTarget_1806_1_97() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
-    if (jj_3R_InsertBody_1689_5_168()) return true;
+  private boolean jj_3_72() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateVertexStatement_1785_13_255() {
-    if (jj_3R_Identifier_581_1_171()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_CreateVertexStatement_1789_21_468()) jj_scanpos = xsp;
+  private boolean jj_3R_CreateVertexStatement_1800_11_277() {
+    if (jj_scan_token(RETURN)) return true;
+    if (jj_3R_Projection_1917_5_489()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_CreateVertexStatement_1797_13_276() {
+    if (jj_3R_Cluster_2533_5_177()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_CreateVertexStatementNoTarget_1809_1_101() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(VERTEX)) return true;
+    if (jj_3R_InsertBody_1692_5_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_IfStatement_4861_5_328() {
+  private boolean jj_3R_IfStatement_4873_5_259() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_IfStatement_4866_13_761()) {
+      if (jj_3_168()) {
         jj_scanpos = xsp;
         break;
       }
@@ -33342,192 +32836,224 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_ReturnStatement_4852_13_534() {
-    if (jj_3R_Expression_2224_5_161()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_InsertBody_1759_29_666() {
-    if (jj_3R_Json_3433_5_240()) return true;
+  private boolean jj_3R_ReturnStatement_4864_13_554() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_InsertBody_1761_25_667() {
-    if (jj_3R_InputParameter_1864_5_176()) return true;
+  private boolean jj_3R_CreateVertexStatement_1788_13_275() {
+    if (jj_3R_Identifier_581_1_175()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_CreateVertexStatement_1792_21_488()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_CommitStatement_4825_29_1074() {
+  private boolean jj_3R_CommitStatement_4837_29_1085() {
     if (jj_scan_token(CONTINUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_ReturnStatement_4849_5_325() {
+  private boolean jj_3R_ReturnStatement_4861_5_345() {
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_ReturnStatement_4852_13_534()) jj_scanpos = xsp;
+    if (jj_3R_ReturnStatement_4864_13_554()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_CreateVertexStatement_1781_1_98() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
+  private boolean jj_3R_InsertBody_1762_29_686() {
+    if (jj_3R_Json_3436_5_244()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_CommitStatement_4841_19_1078() {
+    if (jj_scan_token(CONTINUE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_InsertBody_1764_25_687() {
+    if (jj_3R_InputParameter_1867_5_180()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_CommitStatement_4837_21_1077() {
+    if (jj_scan_token(AND)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CreateVertexStatement_1785_13_255()) {
+    if (jj_3R_CommitStatement_4837_29_1085()) {
       jj_scanpos = xsp;
-      if (jj_3R_CreateVertexStatement_1794_13_256()) return true;
+      if (jj_3R_CommitStatement_4837_76_1086()) return true;
     }
-    xsp = jj_scanpos;
-    if (jj_3R_CreateVertexStatement_1797_11_257()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_CreateVertexStatement_1798_11_258()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_CreateVertexStatementEmptyNoTarget_1773_9_99() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(VERTEX)) return true;
     return false;
   }
 
-  private boolean jj_3R_InsertBody_1757_25_559() {
-    if (jj_scan_token(COMMA)) return true;
+  private boolean jj_3R_CommitStatement_4841_17_1035() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_InsertBody_1759_29_666()) {
+    if (jj_3R_CommitStatement_4841_19_1078()) {
       jj_scanpos = xsp;
-      if (jj_3R_InsertBody_1761_25_667()) return true;
+      if (jj_3R_CommitStatement_4841_66_1079()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_CommitStatement_4829_19_1065() {
-    if (jj_scan_token(CONTINUE)) return true;
+  private boolean jj_3R_RollbackStatement_4852_5_344() {
+    if (jj_scan_token(ROLLBACK)) return true;
     return false;
   }
 
-  private boolean jj_3R_CommitStatement_4825_21_1064() {
-    if (jj_scan_token(AND)) return true;
+  private boolean jj_3R_CreateVertexStatement_1784_1_102() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(VERTEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CommitStatement_4825_29_1074()) {
+    if (jj_3R_CreateVertexStatement_1788_13_275()) {
       jj_scanpos = xsp;
-      if (jj_3R_CommitStatement_4825_76_1075()) return true;
+      if (jj_3R_CreateVertexStatement_1797_13_276()) return true;
     }
+    xsp = jj_scanpos;
+    if (jj_3R_CreateVertexStatement_1800_11_277()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_CreateVertexStatement_1801_11_278()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_CreateVertexStatementEmptyNoTarget_1776_9_103() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(VERTEX)) return true;
     return false;
   }
 
-  private boolean jj_3R_CommitStatement_4829_17_1019() {
+  private boolean jj_3R_InsertBody_1760_25_579() {
+    if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CommitStatement_4829_19_1065()) {
+    if (jj_3R_InsertBody_1762_29_686()) {
       jj_scanpos = xsp;
-      if (jj_3R_CommitStatement_4829_66_1066()) return true;
+      if (jj_3R_InsertBody_1764_25_687()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_InsertBody_1754_21_558() {
-    if (jj_3R_InputParameter_1864_5_176()) return true;
+  private boolean jj_3_167() {
+    if (jj_3R_StatementInternal_909_5_84()) return true;
+    if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_RollbackStatement_4840_5_324() {
-    if (jj_scan_token(ROLLBACK)) return true;
+  private boolean jj_3R_InsertBody_1757_21_578() {
+    if (jj_3R_InputParameter_1867_5_180()) return true;
     return false;
   }
 
-  private boolean jj_3R_InsertBody_1752_21_557() {
-    if (jj_3R_Json_3433_5_240()) return true;
+  private boolean jj_3R_InsertBody_1755_21_577() {
+    if (jj_3R_Json_3436_5_244()) return true;
     return false;
   }
 
-  private boolean jj_3R_CommitStatement_4820_21_1063() {
-    if (jj_3R_StatementInternal_909_5_80()) return true;
-    if (jj_scan_token(SEMICOLON)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_InsertBody_1750_13_371() {
-    if (jj_scan_token(CONTENT)) return true;
+  private boolean jj_3R_CommitStatement_4828_17_1034() {
+    if (jj_scan_token(LBRACE)) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_InsertBody_1752_21_557()) {
-      jj_scanpos = xsp;
-      if (jj_3R_InsertBody_1754_21_558()) return true;
-    }
+    if (jj_3_167()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_InsertBody_1757_25_559()) {
+      if (jj_3_167()) {
         jj_scanpos = xsp;
         break;
       }
     }
+    if (jj_scan_token(RBRACE)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_CommitStatement_4837_21_1077()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_CommitStatement_4816_17_1018() {
-    if (jj_scan_token(LBRACE)) return true;
+  private boolean jj_3R_CommitStatement_4826_15_932() {
+    if (jj_scan_token(ELSE)) return true;
     Token xsp;
-    if (jj_3R_CommitStatement_4820_21_1063()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_CommitStatement_4828_17_1034()) {
+      jj_scanpos = xsp;
+      if (jj_3R_CommitStatement_4841_17_1035()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_InsertBody_1753_13_390() {
+    if (jj_scan_token(CONTENT)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_InsertBody_1755_21_577()) {
+      jj_scanpos = xsp;
+      if (jj_3R_InsertBody_1757_21_578()) return true;
+    }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_CommitStatement_4820_21_1063()) {
+      if (jj_3R_InsertBody_1760_25_579()) {
         jj_scanpos = xsp;
         break;
       }
     }
-    if (jj_scan_token(RBRACE)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_CommitStatement_4825_21_1064()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_InsertBody_1741_21_556() {
+  private boolean jj_3R_InsertBody_1744_21_576() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_CommitStatement_4814_15_912() {
-    if (jj_scan_token(ELSE)) return true;
+  private boolean jj_3R_CommitStatement_4823_13_553() {
+    if (jj_scan_token(RETRY)) return true;
+    if (jj_3R_Integer_823_1_73()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CommitStatement_4816_17_1018()) {
-      jj_scanpos = xsp;
-      if (jj_3R_CommitStatement_4829_17_1019()) return true;
-    }
+    if (jj_3R_CommitStatement_4826_15_932()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_CommitStatement_4811_13_533() {
-    if (jj_scan_token(RETRY)) return true;
-    if (jj_3R_Integer_823_1_73()) return true;
+  private boolean jj_3R_CommitStatement_4820_5_343() {
+    if (jj_scan_token(COMMIT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CommitStatement_4814_15_912()) jj_scanpos = xsp;
+    if (jj_3R_CommitStatement_4823_13_553()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_InsertBody_1724_25_665() {
+  private boolean jj_3R_InsertBody_1727_25_685() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3_70() {
+  private boolean jj_3_166() {
+    if (jj_3R_Expression_2227_5_165()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_BeginStatement_4812_11_552() {
+    if (jj_scan_token(ISOLATION)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
+    return false;
+  }
+
+  private boolean jj_3_165() {
+    if (jj_3R_Statement_886_5_245()) return true;
+    return false;
+  }
+
+  private boolean jj_3_71() {
     if (jj_scan_token(SET)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_InsertBody_1741_21_556()) {
+      if (jj_3R_InsertBody_1744_21_576()) {
         jj_scanpos = xsp;
         break;
       }
@@ -33535,33 +33061,27 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_CommitStatement_4808_5_323() {
-    if (jj_scan_token(COMMIT)) return true;
+  private boolean jj_3R_BeginStatement_4810_5_342() {
+    if (jj_scan_token(BEGIN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CommitStatement_4811_13_533()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3_165() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_BeginStatement_4812_11_552()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_BeginStatement_4800_11_532() {
-    if (jj_scan_token(ISOLATION)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_LetStatement_4800_13_638() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_InsertBody_1716_21_555() {
+  private boolean jj_3R_InsertBody_1719_21_575() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_InsertBody_1724_25_665()) {
+      if (jj_3R_InsertBody_1727_25_685()) {
         jj_scanpos = xsp;
         break;
       }
@@ -33570,61 +33090,43 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_164() {
-    if (jj_3R_Statement_886_5_241()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_InsertBody_1711_21_554() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_BeginStatement_4798_5_322() {
-    if (jj_scan_token(BEGIN)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_BeginStatement_4800_11_532()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_LetStatement_4788_13_618() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_LetStatement_4797_13_637() {
+    if (jj_3R_StatementInternal_909_5_84()) return true;
     return false;
   }
 
-  private boolean jj_3R_LetStatement_4785_13_617() {
-    if (jj_3R_StatementInternal_909_5_80()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_InsertBody_1699_21_172() {
+  private boolean jj_3R_InsertBody_1714_21_574() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_LetStatement_4780_5_467() {
+  private boolean jj_3R_LetStatement_4792_5_486() {
     if (jj_scan_token(LET)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     if (jj_scan_token(EQ)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_LetStatement_4785_13_617()) {
+    if (jj_3R_LetStatement_4797_13_637()) {
       jj_scanpos = xsp;
-      if (jj_3R_LetStatement_4788_13_618()) return true;
+      if (jj_3R_LetStatement_4800_13_638()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_69() {
+  private boolean jj_3R_InsertBody_1702_21_176() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
+    return false;
+  }
+
+  private boolean jj_3_70() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_InsertBody_1699_21_172()) {
+      if (jj_3R_InsertBody_1702_21_176()) {
         jj_scanpos = xsp;
         break;
       }
@@ -33632,10 +33134,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(RPAREN)) return true;
     if (jj_scan_token(VALUES)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_InsertBody_1711_21_554()) {
+      if (jj_3R_InsertBody_1714_21_574()) {
         jj_scanpos = xsp;
         break;
       }
@@ -33643,7 +33145,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     if (jj_scan_token(RPAREN)) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_InsertBody_1716_21_555()) {
+      if (jj_3R_InsertBody_1719_21_575()) {
         jj_scanpos = xsp;
         break;
       }
@@ -33651,213 +33153,213 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_67() {
-    if (jj_3R_SelectStatement_1151_5_159()) return true;
+  private boolean jj_3_68() {
+    if (jj_3R_SelectStatement_1154_5_163()) return true;
     return false;
   }
 
-  private boolean jj_3R_InsertBody_1689_5_168() {
+  private boolean jj_3R_InsertBody_1692_5_172() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_69()) {
+    if (jj_3_70()) {
       jj_scanpos = xsp;
-      if (jj_3_70()) {
+      if (jj_3_71()) {
         jj_scanpos = xsp;
-        if (jj_3R_InsertBody_1750_13_371()) return true;
+        if (jj_3R_InsertBody_1753_13_390()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_InsertStatement_1644_49_827() {
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_AlterSystemRoleStatement_4765_3_82() {
+    if (jj_scan_token(ALTER)) return true;
+    if (jj_scan_token(SYSTEM)) return true;
+    if (jj_scan_token(ROLE)) return true;
     return false;
   }
 
-  private boolean jj_3R_InsertStatement_1668_21_170() {
-    if (jj_3R_SelectWithoutTargetStatement_1114_5_372()) return true;
+  private boolean jj_3R_InsertStatement_1647_49_847() {
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_InsertStatement_1665_21_169() {
-    if (jj_3R_SelectStatement_1151_5_159()) return true;
+  private boolean jj_3R_InsertStatement_1671_21_174() {
+    if (jj_3R_SelectWithoutTargetStatement_1117_5_391()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterSystemRoleStatement_4753_3_78() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(SYSTEM)) return true;
-    if (jj_scan_token(ROLE)) return true;
+  private boolean jj_3R_InsertStatement_1668_21_173() {
+    if (jj_3R_SelectStatement_1154_5_163()) return true;
     return false;
   }
 
-  private boolean jj_3_66() {
-    if (jj_3R_SelectStatement_1151_5_159()) return true;
+  private boolean jj_3_67() {
+    if (jj_3R_SelectStatement_1154_5_163()) return true;
     return false;
   }
 
-  private boolean jj_3R_InsertStatement_1675_7_684() {
+  private boolean jj_3R_InsertStatement_1678_7_704() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_InsertStatement_1658_18_971() {
-    if (jj_3R_SelectWithoutTargetStatement_1114_5_372()) return true;
+  private boolean jj_3R_AlterRoleStatement_4749_7_889() {
+    if (jj_scan_token(REMOVE)) return true;
+    if (jj_scan_token(POLICY)) return true;
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_SecurityResourceSegment_5167_5_781()) return true;
     return false;
   }
 
-  private boolean jj_3_68() {
+  private boolean jj_3R_InsertStatement_1661_18_987() {
+    if (jj_3R_SelectWithoutTargetStatement_1117_5_391()) return true;
+    return false;
+  }
+
+  private boolean jj_3_69() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_InsertStatement_1665_21_169()) {
+    if (jj_3R_InsertStatement_1668_21_173()) {
       jj_scanpos = xsp;
-      if (jj_3R_InsertStatement_1668_21_170()) return true;
+      if (jj_3R_InsertStatement_1671_21_174()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_InsertStatement_1655_18_970() {
-    if (jj_3R_SelectStatement_1151_5_159()) return true;
+  private boolean jj_3R_InsertStatement_1658_18_986() {
+    if (jj_3R_SelectStatement_1154_5_163()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterRoleStatement_4737_7_869() {
-    if (jj_scan_token(REMOVE)) return true;
+  private boolean jj_3R_AlterRoleStatement_4740_7_760() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_AlterRoleStatement_4740_7_888()) {
+      jj_scanpos = xsp;
+      if (jj_3R_AlterRoleStatement_4749_7_889()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_AlterRoleStatement_4740_7_888() {
+    if (jj_scan_token(SET)) return true;
     if (jj_scan_token(POLICY)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     if (jj_scan_token(ON)) return true;
-    if (jj_3R_SecurityResourceSegment_5155_5_760()) return true;
+    if (jj_3R_SecurityResourceSegment_5167_5_781()) return true;
     return false;
   }
 
-  private boolean jj_3R_InsertStatement_1654_14_829() {
+  private boolean jj_3R_InsertStatement_1657_14_849() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_InsertStatement_1655_18_970()) {
+    if (jj_3R_InsertStatement_1658_18_986()) {
       jj_scanpos = xsp;
-      if (jj_3R_InsertStatement_1658_18_971()) return true;
+      if (jj_3R_InsertStatement_1661_18_987()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_65() {
-    if (jj_3R_InsertBody_1689_5_168()) return true;
-    return false;
-  }
-
-  private boolean jj_3_64() {
-    if (jj_3R_IndexIdentifier_2594_5_167()) return true;
+  private boolean jj_3_66() {
+    if (jj_3R_InsertBody_1692_5_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterRoleStatement_4728_7_739() {
+  private boolean jj_3R_AlterRoleStatement_4736_3_97() {
+    if (jj_scan_token(ALTER)) return true;
+    if (jj_scan_token(ROLE)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_AlterRoleStatement_4728_7_868()) {
-      jj_scanpos = xsp;
-      if (jj_3R_AlterRoleStatement_4737_7_869()) return true;
+    if (jj_3R_AlterRoleStatement_4740_7_760()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_AlterRoleStatement_4740_7_760()) {
+        jj_scanpos = xsp;
+        break;
+      }
     }
     return false;
   }
 
-  private boolean jj_3R_AlterRoleStatement_4728_7_868() {
-    if (jj_scan_token(SET)) return true;
-    if (jj_scan_token(POLICY)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_SecurityResourceSegment_5155_5_760()) return true;
+  private boolean jj_3_65() {
+    if (jj_3R_IndexIdentifier_2597_5_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_InsertStatement_1652_11_828() {
-    if (jj_scan_token(FROM)) return true;
+  private boolean jj_3R_UpdateRemoveItem_1623_43_943() {
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateRemoveItem_1620_43_927() {
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_InsertStatement_1655_11_848() {
+    if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_InsertStatement_1652_9_683() {
+  private boolean jj_3R_InsertStatement_1655_9_703() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_InsertStatement_1652_11_828()) jj_scanpos = xsp;
+    if (jj_3R_InsertStatement_1655_11_848()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_InsertStatement_1654_14_829()) {
+    if (jj_3R_InsertStatement_1657_14_849()) {
       jj_scanpos = xsp;
-      if (jj_3_68()) return true;
+      if (jj_3_69()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_InsertStatement_1646_13_680() {
-    if (jj_3R_Cluster_2530_5_173()) return true;
+  private boolean jj_3R_InsertStatement_1649_13_700() {
+    if (jj_3R_Cluster_2533_5_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_InsertStatement_1644_13_679() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_InsertStatement_1647_13_699() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_InsertStatement_1644_49_827()) jj_scanpos = xsp;
+    if (jj_3R_InsertStatement_1647_49_847()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_InsertStatement_1650_7_682() {
+  private boolean jj_3R_InsertStatement_1653_7_702() {
     if (jj_scan_token(RETURN)) return true;
-    if (jj_3R_Projection_1914_5_469()) return true;
+    if (jj_3R_Projection_1917_5_489()) return true;
     return false;
   }
 
-  private boolean jj_3R_InsertStatement_1649_7_681() {
-    if (jj_3R_InsertBody_1689_5_168()) return true;
+  private boolean jj_3R_InsertStatement_1652_7_701() {
+    if (jj_3R_InsertBody_1692_5_172()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterRoleStatement_4724_3_93() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(ROLE)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
-    Token xsp;
-    if (jj_3R_AlterRoleStatement_4728_7_739()) return true;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_AlterRoleStatement_4728_7_739()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_InsertStatement_1641_13_678() {
-    if (jj_3R_IndexIdentifier_2594_5_167()) return true;
+  private boolean jj_3R_CreateUserStatement_4707_21_1064() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateUserStatement_4695_21_1050() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_InsertStatement_1644_13_698() {
+    if (jj_3R_IndexIdentifier_2597_5_171()) return true;
     return false;
   }
 
-  private boolean jj_3R_DropUserStatement_4711_5_92() {
+  private boolean jj_3R_DropUserStatement_4723_5_96() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(USER)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateUserStatement_4693_18_993() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_CreateUserStatement_4705_18_1009() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_CreateUserStatement_4695_21_1050()) {
+      if (jj_3R_CreateUserStatement_4707_21_1064()) {
         jj_scanpos = xsp;
         break;
       }
@@ -33865,205 +33367,205 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_InsertStatement_1637_1_316() {
+  private boolean jj_3R_CreateUserStatement_4702_13_887() {
+    if (jj_scan_token(LBRACKET)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_CreateUserStatement_4705_18_1009()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACKET)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_InsertStatement_1640_1_336() {
     if (jj_scan_token(INSERT)) return true;
     if (jj_scan_token(INTO)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_InsertStatement_1641_13_678()) {
+    if (jj_3R_InsertStatement_1644_13_698()) {
       jj_scanpos = xsp;
-      if (jj_3R_InsertStatement_1644_13_679()) {
+      if (jj_3R_InsertStatement_1647_13_699()) {
         jj_scanpos = xsp;
-        if (jj_3R_InsertStatement_1646_13_680()) return true;
+        if (jj_3R_InsertStatement_1649_13_700()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_InsertStatement_1649_7_681()) jj_scanpos = xsp;
+    if (jj_3R_InsertStatement_1652_7_701()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_InsertStatement_1650_7_682()) jj_scanpos = xsp;
+    if (jj_3R_InsertStatement_1653_7_702()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_InsertStatement_1652_9_683()) jj_scanpos = xsp;
+    if (jj_3R_InsertStatement_1655_9_703()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_InsertStatement_1675_7_684()) jj_scanpos = xsp;
+    if (jj_3R_InsertStatement_1678_7_704()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_UpdatePutItem_1628_5_775() {
-    if (jj_3R_Identifier_581_1_171()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_CreateUserStatement_4690_13_867() {
-    if (jj_scan_token(LBRACKET)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_CreateUserStatement_4693_18_993()) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACKET)) return true;
+  private boolean jj_3R_CreateUserStatement_4695_13_886() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateUserStatement_4683_13_866() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_UpdatePutItem_1631_5_795() {
+    if (jj_3R_Identifier_581_1_175()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateRemoveItem_1619_5_783() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_CreateUserStatement_4693_11_759() {
+    if (jj_scan_token(ROLE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_UpdateRemoveItem_1620_43_927()) jj_scanpos = xsp;
+    if (jj_3R_CreateUserStatement_4695_13_886()) {
+      jj_scanpos = xsp;
+      if (jj_3R_CreateUserStatement_4702_13_887()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_UpdateIncrementItem_1609_15_926() {
-    if (jj_3R_Modifier_2186_5_187()) return true;
+  private boolean jj_3R_CreateUserStatement_4690_13_758() {
+    if (jj_3R_InputParameter_1867_5_180()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateUserStatement_4681_11_738() {
-    if (jj_scan_token(ROLE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_CreateUserStatement_4683_13_866()) {
-      jj_scanpos = xsp;
-      if (jj_3R_CreateUserStatement_4690_13_867()) return true;
-    }
+  private boolean jj_3R_CreateUserStatement_4688_13_757() {
+    if (jj_3R_String_566_5_627()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateUserStatement_4678_13_737() {
-    if (jj_3R_InputParameter_1864_5_176()) return true;
+  private boolean jj_3R_CreateUserStatement_4686_13_756() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateUserStatement_4676_13_736() {
-    if (jj_3R_String_566_5_607()) return true;
+  private boolean jj_3R_UpdateIncrementItem_1612_15_942() {
+    if (jj_3R_Modifier_2189_5_191()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateUserStatement_4674_13_735() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_UpdateRemoveItem_1622_5_803() {
+    if (jj_3R_Expression_2227_5_165()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_UpdateRemoveItem_1623_43_943()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_UpdateIncrementItem_1607_5_781() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_UpdateIncrementItem_1610_5_801() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_UpdateIncrementItem_1609_15_926()) jj_scanpos = xsp;
+    if (jj_3R_UpdateIncrementItem_1612_15_942()) jj_scanpos = xsp;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateItem_1598_9_925() {
-    if (jj_scan_token(SLASHASSIGN)) return true;
+  private boolean jj_3R_CreateUserStatement_4681_5_95() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(USER)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
+    if (jj_scan_token(IDENTIFIED)) return true;
+    if (jj_scan_token(BY)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_CreateUserStatement_4686_13_756()) {
+      jj_scanpos = xsp;
+      if (jj_3R_CreateUserStatement_4688_13_757()) {
+        jj_scanpos = xsp;
+        if (jj_3R_CreateUserStatement_4690_13_758()) return true;
+      }
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_CreateUserStatement_4693_11_759()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_UpdateItem_1592_13_922() {
-    if (jj_scan_token(PLUSASSIGN)) return true;
+  private boolean jj_3R_UpdateItem_1601_9_941() {
+    if (jj_scan_token(SLASHASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateItem_1596_9_924() {
+  private boolean jj_3R_UpdateItem_1599_9_940() {
     if (jj_scan_token(STARASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateItem_1590_13_921() {
-    if (jj_scan_token(EQ)) return true;
+  private boolean jj_3R_UpdateItem_1595_13_938() {
+    if (jj_scan_token(PLUSASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateItem_1594_9_923() {
+  private boolean jj_3R_UpdateItem_1597_9_939() {
     if (jj_scan_token(MINUSASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateUserStatement_4669_5_91() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(USER)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
-    if (jj_scan_token(IDENTIFIED)) return true;
-    if (jj_scan_token(BY)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_CreateUserStatement_4674_13_735()) {
-      jj_scanpos = xsp;
-      if (jj_3R_CreateUserStatement_4676_13_736()) {
-        jj_scanpos = xsp;
-        if (jj_3R_CreateUserStatement_4678_13_737()) return true;
-      }
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_CreateUserStatement_4681_11_738()) jj_scanpos = xsp;
+  private boolean jj_3R_UpdateItem_1593_13_937() {
+    if (jj_scan_token(EQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateStatement_1501_101_488() {
+  private boolean jj_3R_UpdateStatement_1504_101_508() {
     if (jj_scan_token(COUNT)) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateItem_1588_11_920() {
-    if (jj_3R_Modifier_2186_5_187()) return true;
+  private boolean jj_3R_UpdateItem_1591_11_936() {
+    if (jj_3R_Modifier_2189_5_191()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_ExistsSystemUserStatement_4663_5_83() {
+    if (jj_scan_token(EXISTS)) return true;
+    if (jj_scan_token(SYSTEM)) return true;
+    if (jj_scan_token(USER)) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateOperations_1574_17_784() {
+  private boolean jj_3R_UpdateOperations_1577_17_804() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_UpdateRemoveItem_1619_5_783()) return true;
+    if (jj_3R_UpdateRemoveItem_1622_5_803()) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateItem_1586_1_773() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_UpdateItem_1589_1_793() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_UpdateItem_1588_11_920()) jj_scanpos = xsp;
+    if (jj_3R_UpdateItem_1591_11_936()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_UpdateItem_1590_13_921()) {
+    if (jj_3R_UpdateItem_1593_13_937()) {
       jj_scanpos = xsp;
-      if (jj_3R_UpdateItem_1592_13_922()) {
+      if (jj_3R_UpdateItem_1595_13_938()) {
         jj_scanpos = xsp;
-        if (jj_3R_UpdateItem_1594_9_923()) {
+        if (jj_3R_UpdateItem_1597_9_939()) {
           jj_scanpos = xsp;
-          if (jj_3R_UpdateItem_1596_9_924()) {
+          if (jj_3R_UpdateItem_1599_9_940()) {
             jj_scanpos = xsp;
-            if (jj_3R_UpdateItem_1598_9_925()) return true;
+            if (jj_3R_UpdateItem_1601_9_941()) return true;
           }
         }
       }
     }
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_ExistsSystemUserStatement_4651_5_79() {
-    if (jj_scan_token(EXISTS)) return true;
-    if (jj_scan_token(SYSTEM)) return true;
-    if (jj_scan_token(USER)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_UpdateOperations_1566_17_782() {
+  private boolean jj_3R_UpdateOperations_1569_17_802() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_UpdateIncrementItem_1607_5_781()) return true;
+    if (jj_3R_UpdateIncrementItem_1610_5_801()) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateOperations_1570_10_636() {
+  private boolean jj_3R_UpdateOperations_1573_10_656() {
     if (jj_scan_token(REMOVE)) return true;
-    if (jj_3R_UpdateRemoveItem_1619_5_783()) return true;
+    if (jj_3R_UpdateRemoveItem_1622_5_803()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_UpdateOperations_1574_17_784()) {
+      if (jj_3R_UpdateOperations_1577_17_804()) {
         jj_scanpos = xsp;
         break;
       }
@@ -34071,37 +33573,37 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_UpdateOperations_1562_17_780() {
+  private boolean jj_3R_UpdateOperations_1565_17_800() {
     if (jj_scan_token(ADD)) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateOperations_1560_17_779() {
+  private boolean jj_3R_UpdateOperations_1563_17_799() {
     if (jj_scan_token(INCREMENT)) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateOperations_1553_17_778() {
+  private boolean jj_3R_UpdateOperations_1556_17_798() {
     if (jj_scan_token(CONTENT)) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateOperations_1551_17_777() {
+  private boolean jj_3R_UpdateOperations_1554_17_797() {
     if (jj_scan_token(MERGE)) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateOperations_1558_9_635() {
+  private boolean jj_3R_UpdateOperations_1561_9_655() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_UpdateOperations_1560_17_779()) {
+    if (jj_3R_UpdateOperations_1563_17_799()) {
       jj_scanpos = xsp;
-      if (jj_3R_UpdateOperations_1562_17_780()) return true;
+      if (jj_3R_UpdateOperations_1565_17_800()) return true;
     }
-    if (jj_3R_UpdateIncrementItem_1607_5_781()) return true;
+    if (jj_3R_UpdateIncrementItem_1610_5_801()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_UpdateOperations_1566_17_782()) {
+      if (jj_3R_UpdateOperations_1569_17_802()) {
         jj_scanpos = xsp;
         break;
       }
@@ -34109,41 +33611,48 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_UpdateOperations_1545_17_776() {
+  private boolean jj_3R_UpdateOperations_1548_17_796() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_UpdatePutItem_1628_5_775()) return true;
+    if (jj_3R_UpdatePutItem_1631_5_795()) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateStatement_1501_59_487() {
+  private boolean jj_3R_UpdateStatement_1504_59_507() {
     if (jj_scan_token(AFTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateOperations_1549_9_634() {
+  private boolean jj_3R_UpdateOperations_1552_9_654() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_UpdateOperations_1551_17_777()) {
+    if (jj_3R_UpdateOperations_1554_17_797()) {
       jj_scanpos = xsp;
-      if (jj_3R_UpdateOperations_1553_17_778()) return true;
+      if (jj_3R_UpdateOperations_1556_17_798()) return true;
     }
-    if (jj_3R_Json_3433_5_240()) return true;
+    if (jj_3R_Json_3436_5_244()) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateOperations_1537_17_774() {
+  private boolean jj_3R_UpdateOperations_1540_17_794() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_UpdateItem_1586_1_773()) return true;
+    if (jj_3R_UpdateItem_1589_1_793()) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateOperations_1541_9_633() {
+  private boolean jj_3R_CreateSystemUserStatement_4623_5_81() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(SYSTEM)) return true;
+    if (jj_scan_token(USER)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_UpdateOperations_1544_9_653() {
     if (jj_scan_token(PUT)) return true;
-    if (jj_3R_UpdatePutItem_1628_5_775()) return true;
+    if (jj_3R_UpdatePutItem_1631_5_795()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_UpdateOperations_1545_17_776()) {
+      if (jj_3R_UpdateOperations_1548_17_796()) {
         jj_scanpos = xsp;
         break;
       }
@@ -34151,20 +33660,29 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_CreateSystemUserStatement_4611_5_77() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(SYSTEM)) return true;
-    if (jj_scan_token(USER)) return true;
+  private boolean jj_3R_CreateFunctionStatement_4609_13_755() {
+    if (jj_scan_token(LANGUAGE)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateOperations_1533_9_632() {
+  private boolean jj_3R_CreateFunctionStatement_4605_17_885() {
+    if (jj_scan_token(FALSE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_CreateFunctionStatement_4603_17_884() {
+    if (jj_scan_token(TRUE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_UpdateOperations_1536_9_652() {
     if (jj_scan_token(SET)) return true;
-    if (jj_3R_UpdateItem_1586_1_773()) return true;
+    if (jj_3R_UpdateItem_1589_1_793()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_UpdateOperations_1537_17_774()) {
+      if (jj_3R_UpdateOperations_1540_17_794()) {
         jj_scanpos = xsp;
         break;
       }
@@ -34172,29 +33690,35 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_CreateFunctionStatement_4597_13_734() {
-    if (jj_scan_token(LANGUAGE)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_CreateFunctionStatement_4601_13_754() {
+    if (jj_scan_token(IDEMPOTENT)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_CreateFunctionStatement_4603_17_884()) {
+      jj_scanpos = xsp;
+      if (jj_3R_CreateFunctionStatement_4605_17_885()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_CreateFunctionStatement_4593_17_865() {
-    if (jj_scan_token(FALSE)) return true;
+  private boolean jj_3R_CreateFunctionStatement_4595_17_883() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateOperations_1532_5_475() {
+  private boolean jj_3R_UpdateOperations_1535_5_495() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_UpdateOperations_1533_9_632()) {
+    if (jj_3R_UpdateOperations_1536_9_652()) {
       jj_scanpos = xsp;
-      if (jj_3R_UpdateOperations_1541_9_633()) {
+      if (jj_3R_UpdateOperations_1544_9_653()) {
         jj_scanpos = xsp;
-        if (jj_3R_UpdateOperations_1549_9_634()) {
+        if (jj_3R_UpdateOperations_1552_9_654()) {
           jj_scanpos = xsp;
-          if (jj_3R_UpdateOperations_1558_9_635()) {
+          if (jj_3R_UpdateOperations_1561_9_655()) {
             jj_scanpos = xsp;
-            if (jj_3R_UpdateOperations_1570_10_636()) return true;
+            if (jj_3R_UpdateOperations_1573_10_656()) return true;
           }
         }
       }
@@ -34202,448 +33726,410 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_CreateFunctionStatement_4591_17_864() {
-    if (jj_scan_token(TRUE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_UpdateStatement_1515_17_493() {
+  private boolean jj_3R_UpdateStatement_1518_17_513() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateFunctionStatement_4589_13_733() {
-    if (jj_scan_token(IDEMPOTENT)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_CreateFunctionStatement_4591_17_864()) {
-      jj_scanpos = xsp;
-      if (jj_3R_CreateFunctionStatement_4593_17_865()) return true;
-    }
-    return false;
-  }
-
-  private boolean jj_3R_UpdateStatement_1519_11_279() {
-    if (jj_3R_Timeout_3302_5_485()) return true;
+  private boolean jj_3R_UpdateStatement_1522_11_299() {
+    if (jj_3R_Timeout_3305_5_505()) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateEdgeStatement_1467_63_477() {
+  private boolean jj_3R_UpdateEdgeStatement_1470_63_497() {
     if (jj_scan_token(AFTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateStatement_1513_17_492() {
+  private boolean jj_3R_UpdateStatement_1516_17_512() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateStatement_1518_11_278() {
-    if (jj_3R_Limit_3250_5_484()) return true;
+  private boolean jj_3R_UpdateStatement_1521_11_298() {
+    if (jj_3R_Limit_3253_5_504()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateFunctionStatement_4583_17_863() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_UpdateStatement_1514_17_511() {
+    if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateStatement_1511_17_491() {
-    if (jj_scan_token(NONE)) return true;
+  private boolean jj_3R_CreateFunctionStatement_4588_13_753() {
+    if (jj_scan_token(PARAMETERS)) return true;
+    if (jj_scan_token(LBRACKET)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_CreateFunctionStatement_4595_17_883()) {
+        jj_scanpos = xsp;
+        break;
+      }
+    }
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateStatement_1509_17_490() {
+  private boolean jj_3R_UpdateStatement_1512_17_510() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateStatement_1503_17_489() {
-    if (jj_3R_Projection_1914_5_469()) return true;
+  private boolean jj_3R_UpdateStatement_1506_17_509() {
+    if (jj_3R_Projection_1917_5_489()) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateStatement_1507_11_277() {
+  private boolean jj_3R_UpdateStatement_1510_11_297() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_UpdateStatement_1509_17_490()) {
+    if (jj_3R_UpdateStatement_1512_17_510()) {
       jj_scanpos = xsp;
-      if (jj_3R_UpdateStatement_1511_17_491()) {
+      if (jj_3R_UpdateStatement_1514_17_511()) {
         jj_scanpos = xsp;
-        if (jj_3R_UpdateStatement_1513_17_492()) {
+        if (jj_3R_UpdateStatement_1516_17_512()) {
           jj_scanpos = xsp;
-          if (jj_3R_UpdateStatement_1515_17_493()) return true;
+          if (jj_3R_UpdateStatement_1518_17_513()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_CreateFunctionStatement_4576_13_732() {
-    if (jj_scan_token(PARAMETERS)) return true;
-    if (jj_scan_token(LBRACKET)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_CreateFunctionStatement_4583_17_863()) {
-        jj_scanpos = xsp;
-        break;
-      }
-    }
-    if (jj_scan_token(RBRACKET)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_UpdateStatement_1506_11_276() {
+  private boolean jj_3R_UpdateStatement_1509_11_296() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_WhereClause_2619_9_479()) return true;
+    if (jj_3R_WhereClause_2622_9_499()) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateStatement_1501_15_486() {
+  private boolean jj_3R_UpdateStatement_1504_15_506() {
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateStatement_1500_13_275() {
+  private boolean jj_3R_UpdateStatement_1503_13_295() {
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_UpdateStatement_1501_15_486()) {
+    if (jj_3R_UpdateStatement_1504_15_506()) {
       jj_scanpos = xsp;
-      if (jj_3R_UpdateStatement_1501_59_487()) {
+      if (jj_3R_UpdateStatement_1504_59_507()) {
         jj_scanpos = xsp;
-        if (jj_3R_UpdateStatement_1501_101_488()) return true;
+        if (jj_3R_UpdateStatement_1504_101_508()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_UpdateStatement_1503_17_489()) jj_scanpos = xsp;
+    if (jj_3R_UpdateStatement_1506_17_509()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_CreateFunctionStatement_4580_5_94() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(FUNCTION)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
+    if (jj_3R_String_566_5_627()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_CreateFunctionStatement_4588_13_753()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_CreateFunctionStatement_4601_13_754()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_CreateFunctionStatement_4609_13_755()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_UpdateStatement_1498_11_274() {
+  private boolean jj_3R_UpdateStatement_1501_11_294() {
     if (jj_scan_token(UPSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateStatement_1497_11_273() {
-    if (jj_3R_UpdateOperations_1532_5_475()) return true;
+  private boolean jj_3R_UpdateStatement_1500_11_293() {
+    if (jj_3R_UpdateOperations_1535_5_495()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateFunctionStatement_4568_5_90() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(FUNCTION)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
-    if (jj_3R_String_566_5_607()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_CreateFunctionStatement_4576_13_732()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_CreateFunctionStatement_4589_13_733()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_CreateFunctionStatement_4597_13_734()) jj_scanpos = xsp;
+  private boolean jj_3R_RevokeStatement_4564_13_551() {
+    if (jj_3R_Permission_4516_5_666()) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateStatement_1494_5_102() {
+  private boolean jj_3R_RevokeStatement_4562_13_550() {
+    if (jj_scan_token(POLICY)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_UpdateStatement_1497_5_106() {
     if (jj_scan_token(UPDATE)) return true;
-    if (jj_3R_FromClause_2403_9_265()) return true;
+    if (jj_3R_FromClause_2406_9_285()) return true;
     Token xsp;
-    if (jj_3R_UpdateStatement_1497_11_273()) return true;
+    if (jj_3R_UpdateStatement_1500_11_293()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_UpdateStatement_1497_11_273()) {
+      if (jj_3R_UpdateStatement_1500_11_293()) {
         jj_scanpos = xsp;
         break;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_UpdateStatement_1498_11_274()) jj_scanpos = xsp;
+    if (jj_3R_UpdateStatement_1501_11_294()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_UpdateStatement_1500_13_275()) jj_scanpos = xsp;
+    if (jj_3R_UpdateStatement_1503_13_295()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_UpdateStatement_1506_11_276()) jj_scanpos = xsp;
+    if (jj_3R_UpdateStatement_1509_11_296()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_UpdateStatement_1507_11_277()) jj_scanpos = xsp;
+    if (jj_3R_UpdateStatement_1510_11_297()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_UpdateStatement_1518_11_278()) jj_scanpos = xsp;
+    if (jj_3R_UpdateStatement_1521_11_298()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_UpdateStatement_1519_11_279()) jj_scanpos = xsp;
+    if (jj_3R_UpdateStatement_1522_11_299()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_UpdateEdgeStatement_1485_11_272() {
-    if (jj_3R_Timeout_3302_5_485()) return true;
+  private boolean jj_3R_UpdateEdgeStatement_1488_11_292() {
+    if (jj_3R_Timeout_3305_5_505()) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateEdgeStatement_1484_11_271() {
-    if (jj_3R_Limit_3250_5_484()) return true;
+  private boolean jj_3R_UpdateEdgeStatement_1487_11_291() {
+    if (jj_3R_Limit_3253_5_504()) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateEdgeStatement_1469_25_478() {
-    if (jj_3R_Projection_1914_5_469()) return true;
+  private boolean jj_3R_UpdateEdgeStatement_1472_25_498() {
+    if (jj_3R_Projection_1917_5_489()) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateEdgeStatement_1481_13_483() {
+  private boolean jj_3R_UpdateEdgeStatement_1484_13_503() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_RevokeStatement_4552_13_531() {
-    if (jj_3R_Permission_4504_5_646()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_UpdateEdgeStatement_1479_13_482() {
+  private boolean jj_3R_UpdateEdgeStatement_1482_13_502() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_RevokeStatement_4550_13_530() {
-    if (jj_scan_token(POLICY)) return true;
+  private boolean jj_3R_UpdateEdgeStatement_1480_13_501() {
+    if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateEdgeStatement_1477_13_481() {
-    if (jj_scan_token(NONE)) return true;
+  private boolean jj_3R_RevokeStatement_4559_5_341() {
+    if (jj_scan_token(REVOKE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_RevokeStatement_4562_13_550()) {
+      jj_scanpos = xsp;
+      if (jj_3R_RevokeStatement_4564_13_551()) return true;
+    }
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_SecurityResourceSegment_5167_5_781()) return true;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateEdgeStatement_1475_13_480() {
+  private boolean jj_3R_UpdateEdgeStatement_1478_13_500() {
     if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateEdgeStatement_1467_19_476() {
+  private boolean jj_3R_UpdateEdgeStatement_1470_19_496() {
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateEdgeStatement_1473_11_270() {
+  private boolean jj_3R_GrantStatement_4546_13_549() {
+    if (jj_3R_Permission_4516_5_666()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_UpdateEdgeStatement_1476_11_290() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_UpdateEdgeStatement_1475_13_480()) {
+    if (jj_3R_UpdateEdgeStatement_1478_13_500()) {
       jj_scanpos = xsp;
-      if (jj_3R_UpdateEdgeStatement_1477_13_481()) {
+      if (jj_3R_UpdateEdgeStatement_1480_13_501()) {
         jj_scanpos = xsp;
-        if (jj_3R_UpdateEdgeStatement_1479_13_482()) {
+        if (jj_3R_UpdateEdgeStatement_1482_13_502()) {
           jj_scanpos = xsp;
-          if (jj_3R_UpdateEdgeStatement_1481_13_483()) return true;
+          if (jj_3R_UpdateEdgeStatement_1484_13_503()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_UpdateEdgeStatement_1472_11_269() {
+  private boolean jj_3R_UpdateEdgeStatement_1475_11_289() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_WhereClause_2619_9_479()) return true;
+    if (jj_3R_WhereClause_2622_9_499()) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateEdgeStatement_1466_17_268() {
+  private boolean jj_3R_UpdateEdgeStatement_1469_17_288() {
     if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_UpdateEdgeStatement_1467_19_476()) {
+    if (jj_3R_UpdateEdgeStatement_1470_19_496()) {
       jj_scanpos = xsp;
-      if (jj_3R_UpdateEdgeStatement_1467_63_477()) return true;
+      if (jj_3R_UpdateEdgeStatement_1470_63_497()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_UpdateEdgeStatement_1469_25_478()) jj_scanpos = xsp;
+    if (jj_3R_UpdateEdgeStatement_1472_25_498()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_RevokeStatement_4547_5_321() {
-    if (jj_scan_token(REVOKE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_RevokeStatement_4550_13_530()) {
-      jj_scanpos = xsp;
-      if (jj_3R_RevokeStatement_4552_13_531()) return true;
-    }
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_SecurityResourceSegment_5155_5_760()) return true;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_GrantStatement_4541_13_548() {
+    if (jj_scan_token(POLICY)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_GrantStatement_4534_13_529() {
-    if (jj_3R_Permission_4504_5_646()) return true;
+  private boolean jj_3R_UpdateEdgeStatement_1467_11_287() {
+    if (jj_scan_token(UPSERT)) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateEdgeStatement_1464_11_267() {
-    if (jj_scan_token(UPSERT)) return true;
+  private boolean jj_3R_UpdateEdgeStatement_1466_11_286() {
+    if (jj_3R_UpdateOperations_1535_5_495()) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateEdgeStatement_1463_11_266() {
-    if (jj_3R_UpdateOperations_1532_5_475()) return true;
+  private boolean jj_3R_GrantStatement_4538_5_340() {
+    if (jj_scan_token(GRANT)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_GrantStatement_4541_13_548()) {
+      jj_scanpos = xsp;
+      if (jj_3R_GrantStatement_4546_13_549()) return true;
+    }
+    if (jj_scan_token(ON)) return true;
+    if (jj_3R_SecurityResourceSegment_5167_5_781()) return true;
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_GrantStatement_4529_13_528() {
-    if (jj_scan_token(POLICY)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_Permission_4529_9_813() {
+    if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_UpdateEdgeStatement_1459_3_101() {
+  private boolean jj_3R_UpdateEdgeStatement_1462_3_105() {
     if (jj_scan_token(UPDATE)) return true;
     if (jj_scan_token(EDGE)) return true;
-    if (jj_3R_FromClause_2403_9_265()) return true;
+    if (jj_3R_FromClause_2406_9_285()) return true;
     Token xsp;
-    if (jj_3R_UpdateEdgeStatement_1463_11_266()) return true;
+    if (jj_3R_UpdateEdgeStatement_1466_11_286()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_UpdateEdgeStatement_1463_11_266()) {
+      if (jj_3R_UpdateEdgeStatement_1466_11_286()) {
         jj_scanpos = xsp;
         break;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_UpdateEdgeStatement_1464_11_267()) jj_scanpos = xsp;
+    if (jj_3R_UpdateEdgeStatement_1467_11_287()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_UpdateEdgeStatement_1466_17_268()) jj_scanpos = xsp;
+    if (jj_3R_UpdateEdgeStatement_1469_17_288()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_UpdateEdgeStatement_1472_11_269()) jj_scanpos = xsp;
+    if (jj_3R_UpdateEdgeStatement_1475_11_289()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_UpdateEdgeStatement_1473_11_270()) jj_scanpos = xsp;
+    if (jj_3R_UpdateEdgeStatement_1476_11_290()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_UpdateEdgeStatement_1484_11_271()) jj_scanpos = xsp;
+    if (jj_3R_UpdateEdgeStatement_1487_11_291()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_UpdateEdgeStatement_1485_11_272()) jj_scanpos = xsp;
+    if (jj_3R_UpdateEdgeStatement_1488_11_292()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_DeleteEdgeWhereStatement_1450_11_368() {
-    if (jj_3R_Batch_3288_5_473()) return true;
+  private boolean jj_3R_Permission_4527_9_812() {
+    if (jj_scan_token(ALL)) return true;
     return false;
   }
 
-  private boolean jj_3R_DeleteEdgeWhereStatement_1449_11_367() {
-    if (jj_3R_Limit_3250_5_484()) return true;
+  private boolean jj_3R_DeleteEdgeWhereStatement_1453_11_387() {
+    if (jj_3R_Batch_3291_5_493()) return true;
     return false;
   }
 
-  private boolean jj_3R_GrantStatement_4526_5_320() {
-    if (jj_scan_token(GRANT)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_GrantStatement_4529_13_528()) {
-      jj_scanpos = xsp;
-      if (jj_3R_GrantStatement_4534_13_529()) return true;
-    }
-    if (jj_scan_token(ON)) return true;
-    if (jj_3R_SecurityResourceSegment_5155_5_760()) return true;
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_DeleteEdgeWhereStatement_1452_11_386() {
+    if (jj_3R_Limit_3253_5_504()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_Permission_4525_9_811() {
+    if (jj_scan_token(EXECUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_DeleteEdgeWhereStatement_1448_11_366() {
+  private boolean jj_3R_DeleteEdgeWhereStatement_1451_11_385() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_WhereClause_2619_9_479()) return true;
+    if (jj_3R_WhereClause_2622_9_499()) return true;
     return false;
   }
 
-  private boolean jj_3R_DeleteEdgeWhereStatement_1446_11_365() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_Permission_4523_9_810() {
+    if (jj_scan_token(DELETE)) return true;
     return false;
   }
 
-  private boolean jj_3R_Permission_4517_9_793() {
-    if (jj_scan_token(NONE)) return true;
+  private boolean jj_3R_DeleteEdgeWhereStatement_1449_11_384() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_Permission_4515_9_792() {
-    if (jj_scan_token(ALL)) return true;
+  private boolean jj_3R_Permission_4521_9_809() {
+    if (jj_scan_token(UPDATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_Permission_4513_9_791() {
-    if (jj_scan_token(EXECUTE)) return true;
+  private boolean jj_3R_Permission_4519_9_808() {
+    if (jj_scan_token(READ)) return true;
     return false;
   }
 
-  private boolean jj_3R_Permission_4511_9_790() {
-    if (jj_scan_token(DELETE)) return true;
+  private boolean jj_3R_Permission_4517_9_807() {
+    if (jj_scan_token(CREATE)) return true;
     return false;
   }
 
-  private boolean jj_3R_DeleteEdgeWhereStatement_1442_5_166() {
+  private boolean jj_3R_DeleteEdgeWhereStatement_1445_5_170() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_DeleteEdgeWhereStatement_1446_11_365()) jj_scanpos = xsp;
+    if (jj_3R_DeleteEdgeWhereStatement_1449_11_384()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_DeleteEdgeWhereStatement_1448_11_366()) jj_scanpos = xsp;
+    if (jj_3R_DeleteEdgeWhereStatement_1451_11_385()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_DeleteEdgeWhereStatement_1449_11_367()) jj_scanpos = xsp;
+    if (jj_3R_DeleteEdgeWhereStatement_1452_11_386()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_DeleteEdgeWhereStatement_1450_11_368()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_Permission_4509_9_789() {
-    if (jj_scan_token(UPDATE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_Permission_4507_9_788() {
-    if (jj_scan_token(READ)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_Permission_4505_9_787() {
-    if (jj_scan_token(CREATE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_DeleteEdgeVToStatement_1431_11_361() {
-    if (jj_3R_Batch_3288_5_473()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_DeleteEdgeVToStatement_1430_11_360() {
-    if (jj_3R_Limit_3250_5_484()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_DeleteEdgeVToStatement_1429_11_359() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_WhereClause_2619_9_479()) return true;
+    if (jj_3R_DeleteEdgeWhereStatement_1453_11_387()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_Permission_4504_5_646() {
+  private boolean jj_3R_Permission_4516_5_666() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_Permission_4505_9_787()) {
+    if (jj_3R_Permission_4517_9_807()) {
       jj_scanpos = xsp;
-      if (jj_3R_Permission_4507_9_788()) {
+      if (jj_3R_Permission_4519_9_808()) {
         jj_scanpos = xsp;
-        if (jj_3R_Permission_4509_9_789()) {
+        if (jj_3R_Permission_4521_9_809()) {
           jj_scanpos = xsp;
-          if (jj_3R_Permission_4511_9_790()) {
+          if (jj_3R_Permission_4523_9_810()) {
             jj_scanpos = xsp;
-            if (jj_3R_Permission_4513_9_791()) {
+            if (jj_3R_Permission_4525_9_811()) {
               jj_scanpos = xsp;
-              if (jj_3R_Permission_4515_9_792()) {
+              if (jj_3R_Permission_4527_9_812()) {
                 jj_scanpos = xsp;
-                if (jj_3R_Permission_4517_9_793()) return true;
+                if (jj_3R_Permission_4529_9_813()) return true;
               }
             }
           }
@@ -34653,157 +34139,168 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_ProfileStatement_4494_5_158() {
+  private boolean jj_3R_DeleteEdgeVToStatement_1434_11_380() {
+    if (jj_3R_Batch_3291_5_493()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_DeleteEdgeVToStatement_1433_11_379() {
+    if (jj_3R_Limit_3253_5_504()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_DeleteEdgeVToStatement_1432_11_378() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_WhereClause_2622_9_499()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_ProfileStatement_4506_5_162() {
     if (jj_scan_token(PROFILE)) return true;
-    if (jj_3R_StatementInternal_909_5_80()) return true;
+    if (jj_3R_StatementInternal_909_5_84()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_ExplainStatement_4496_5_485() {
+    if (jj_scan_token(EXPLAIN)) return true;
+    if (jj_3R_StatementInternal_909_5_84()) return true;
     return false;
   }
 
-  private boolean jj_3R_DeleteEdgeVToStatement_1421_5_164() {
+  private boolean jj_3R_DeleteEdgeVToStatement_1424_5_168() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_DeleteEdgeVToStatement_1429_11_359()) jj_scanpos = xsp;
+    if (jj_3R_DeleteEdgeVToStatement_1432_11_378()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_DeleteEdgeVToStatement_1430_11_360()) jj_scanpos = xsp;
+    if (jj_3R_DeleteEdgeVToStatement_1433_11_379()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_DeleteEdgeVToStatement_1431_11_361()) jj_scanpos = xsp;
+    if (jj_3R_DeleteEdgeVToStatement_1434_11_380()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_DeleteEdgeToStatement_1410_11_364() {
-    if (jj_3R_Batch_3288_5_473()) return true;
+  private boolean jj_3R_CreateLinkStatement_4486_13_751() {
+    if (jj_3R_RecordAttribute_2100_5_183()) return true;
     return false;
   }
 
-  private boolean jj_3R_DeleteEdgeToStatement_1409_11_363() {
-    if (jj_3R_Limit_3250_5_484()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_DeleteEdgeToStatement_1408_11_362() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_WhereClause_2619_9_479()) return true;
+  private boolean jj_3R_CreateLinkStatement_4488_11_752() {
+    if (jj_scan_token(INVERSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_ExplainStatement_4484_5_466() {
-    if (jj_scan_token(EXPLAIN)) return true;
-    if (jj_3R_StatementInternal_909_5_80()) return true;
+  private boolean jj_3R_CreateLinkStatement_4484_13_750() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateLinkStatement_4474_13_730() {
-    if (jj_3R_RecordAttribute_2097_5_179()) return true;
+  private boolean jj_3R_DeleteEdgeToStatement_1413_11_383() {
+    if (jj_3R_Batch_3291_5_493()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateLinkStatement_4476_11_731() {
-    if (jj_scan_token(INVERSE)) return true;
+  private boolean jj_3R_DeleteEdgeToStatement_1412_11_382() {
+    if (jj_3R_Limit_3253_5_504()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateLinkStatement_4472_13_729() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_DeleteEdgeToStatement_1411_11_381() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_WhereClause_2622_9_499()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateLinkStatement_4466_13_728() {
-    if (jj_3R_RecordAttribute_2097_5_179()) return true;
+  private boolean jj_3R_CreateLinkStatement_4478_13_749() {
+    if (jj_3R_RecordAttribute_2100_5_183()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateLinkStatement_4464_13_727() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_CreateLinkStatement_4476_13_748() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_DeleteEdgeToStatement_1398_5_165() {
+  private boolean jj_3R_DeleteEdgeToStatement_1401_5_169() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_DeleteEdgeToStatement_1408_11_362()) jj_scanpos = xsp;
+    if (jj_3R_DeleteEdgeToStatement_1411_11_381()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_DeleteEdgeToStatement_1409_11_363()) jj_scanpos = xsp;
+    if (jj_3R_DeleteEdgeToStatement_1412_11_382()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_DeleteEdgeToStatement_1410_11_364()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_DeleteEdgeFromToStatement_1387_7_358() {
-    if (jj_3R_Batch_3288_5_473()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_DeleteEdgeFromToStatement_1386_7_357() {
-    if (jj_3R_Limit_3250_5_484()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_DeleteEdgeFromToStatement_1385_7_356() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_WhereClause_2619_9_479()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_DeleteEdgeFromToStatement_1379_13_355() {
-    if (jj_scan_token(TO)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_DeleteEdgeToStatement_1413_11_383()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_CreateLinkStatement_4455_5_89() {
+  private boolean jj_3R_CreateLinkStatement_4467_5_93() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(LINK)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     if (jj_scan_token(TYPE)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     if (jj_scan_token(DOT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CreateLinkStatement_4464_13_727()) {
+    if (jj_3R_CreateLinkStatement_4476_13_748()) {
       jj_scanpos = xsp;
-      if (jj_3R_CreateLinkStatement_4466_13_728()) return true;
+      if (jj_3R_CreateLinkStatement_4478_13_749()) return true;
     }
     if (jj_scan_token(TO)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     if (jj_scan_token(DOT)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_CreateLinkStatement_4472_13_729()) {
+    if (jj_3R_CreateLinkStatement_4484_13_750()) {
       jj_scanpos = xsp;
-      if (jj_3R_CreateLinkStatement_4474_13_730()) return true;
+      if (jj_3R_CreateLinkStatement_4486_13_751()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_CreateLinkStatement_4476_11_731()) jj_scanpos = xsp;
+    if (jj_3R_CreateLinkStatement_4488_11_752()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_OptimizeDatabaseStatement_4446_13_759() {
-    if (jj_3R_CommandLineOption_4434_5_894()) return true;
+  private boolean jj_3R_OptimizeDatabaseStatement_4458_13_780() {
+    if (jj_3R_CommandLineOption_4446_5_914()) return true;
     return false;
   }
 
-  private boolean jj_3R_DeleteEdgeFromToStatement_1373_11_354() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_DeleteEdgeFromToStatement_1390_7_377() {
+    if (jj_3R_Batch_3291_5_493()) return true;
     return false;
   }
 
-  private boolean jj_3R_OptimizeDatabaseStatement_4443_5_319() {
+  private boolean jj_3R_DeleteEdgeFromToStatement_1389_7_376() {
+    if (jj_3R_Limit_3253_5_504()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_DeleteEdgeFromToStatement_1388_7_375() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_WhereClause_2622_9_499()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_DeleteEdgeFromToStatement_1382_13_374() {
+    if (jj_scan_token(TO)) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_OptimizeDatabaseStatement_4455_5_339() {
     if (jj_scan_token(OPTIMIZE)) return true;
     if (jj_scan_token(DATABASE)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_OptimizeDatabaseStatement_4446_13_759()) {
+      if (jj_3R_OptimizeDatabaseStatement_4458_13_780()) {
         jj_scanpos = xsp;
         break;
       }
@@ -34811,48 +34308,59 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_DeleteEdgeByRidStatement_1350_21_662() {
+  private boolean jj_3R_DeleteEdgeFromToStatement_1376_11_373() {
+    if (jj_3R_Identifier_581_1_175()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_CommandLineOption_4446_5_914() {
+    if (jj_scan_token(MINUS)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_DeleteEdgeByRidStatement_1353_21_682() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_Rid_491_5_175()) return true;
+    if (jj_3R_Rid_491_5_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_DeleteEdgeFromToStatement_1369_1_163() {
+  private boolean jj_3R_DeleteEdgeFromToStatement_1372_1_167() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(EDGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_DeleteEdgeFromToStatement_1373_11_354()) jj_scanpos = xsp;
+    if (jj_3R_DeleteEdgeFromToStatement_1376_11_373()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_DeleteEdgeFromToStatement_1379_13_355()) jj_scanpos = xsp;
+    if (jj_3R_DeleteEdgeFromToStatement_1382_13_374()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_DeleteEdgeFromToStatement_1385_7_356()) jj_scanpos = xsp;
+    if (jj_3R_DeleteEdgeFromToStatement_1388_7_375()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_DeleteEdgeFromToStatement_1386_7_357()) jj_scanpos = xsp;
+    if (jj_3R_DeleteEdgeFromToStatement_1389_7_376()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_DeleteEdgeFromToStatement_1387_7_358()) jj_scanpos = xsp;
+    if (jj_3R_DeleteEdgeFromToStatement_1390_7_377()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_CommandLineOption_4434_5_894() {
-    if (jj_scan_token(MINUS)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_AlterDatabaseStatement_4435_9_779() {
+    if (jj_3R_Identifier_581_1_175()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_DeleteEdgeByRidStatement_1356_11_353() {
-    if (jj_3R_Batch_3288_5_473()) return true;
+  private boolean jj_3R_DeleteEdgeByRidStatement_1359_11_372() {
+    if (jj_3R_Batch_3291_5_493()) return true;
     return false;
   }
 
-  private boolean jj_3R_DeleteEdgeByRidStatement_1345_17_549() {
-    if (jj_3R_Rid_491_5_175()) return true;
+  private boolean jj_3R_DeleteEdgeByRidStatement_1348_17_569() {
+    if (jj_3R_Rid_491_5_179()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_DeleteEdgeByRidStatement_1350_21_662()) {
+      if (jj_3R_DeleteEdgeByRidStatement_1353_21_682()) {
         jj_scanpos = xsp;
         break;
       }
@@ -34860,188 +34368,182 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_AlterDatabaseStatement_4423_9_758() {
-    if (jj_3R_Identifier_581_1_171()) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_DeleteEdgeByRidStatement_1341_13_352() {
-    if (jj_scan_token(LBRACKET)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_DeleteEdgeByRidStatement_1345_17_549()) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACKET)) return true;
-    return false;
-  }
-
-  private boolean jj_3_163() {
+  private boolean jj_3_164() {
     if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_DeleteEdgeByRidStatement_1339_13_351() {
-    if (jj_3R_Rid_491_5_175()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterDatabaseStatement_4413_9_117() {
+  private boolean jj_3R_AlterDatabaseStatement_4425_9_121() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(DATABASE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_163()) {
+    if (jj_3_164()) {
       jj_scanpos = xsp;
-      if (jj_3R_AlterDatabaseStatement_4423_9_758()) return true;
+      if (jj_3R_AlterDatabaseStatement_4435_9_779()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_DropClusterStatement_4404_17_756() {
+  private boolean jj_3R_DropClusterStatement_4416_17_777() {
     if (jj_3R_Integer_823_1_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_DropClusterStatement_4402_17_755() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_DropClusterStatement_4414_17_776() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_DropClusterStatement_4406_11_757() {
+  private boolean jj_3R_DropClusterStatement_4418_11_778() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3_63() {
-    if (jj_3R_DeleteEdgeWhereStatement_1442_5_166()) return true;
+  private boolean jj_3R_DeleteEdgeByRidStatement_1344_13_371() {
+    if (jj_scan_token(LBRACKET)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_DeleteEdgeByRidStatement_1348_17_569()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3_62() {
-    if (jj_3R_DeleteEdgeToStatement_1398_5_165()) return true;
+  private boolean jj_3R_DeleteEdgeByRidStatement_1342_13_370() {
+    if (jj_3R_Rid_491_5_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_DropClusterStatement_4400_9_116() {
+  private boolean jj_3R_DropClusterStatement_4412_9_120() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(CLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_DropClusterStatement_4402_17_755()) {
+    if (jj_3R_DropClusterStatement_4414_17_776()) {
       jj_scanpos = xsp;
-      if (jj_3R_DropClusterStatement_4404_17_756()) return true;
+      if (jj_3R_DropClusterStatement_4416_17_777()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_DropClusterStatement_4406_11_757()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3_61() {
-    if (jj_3R_DeleteEdgeVToStatement_1421_5_164()) return true;
+    if (jj_3R_DropClusterStatement_4418_11_778()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_DeleteEdgeByRidStatement_1335_1_162() {
-    if (jj_scan_token(DELETE)) return true;
-    if (jj_scan_token(EDGE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_DeleteEdgeByRidStatement_1339_13_351()) {
-      jj_scanpos = xsp;
-      if (jj_3R_DeleteEdgeByRidStatement_1341_13_352()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_DeleteEdgeByRidStatement_1356_11_353()) jj_scanpos = xsp;
+  private boolean jj_3_64() {
+    if (jj_3R_DeleteEdgeWhereStatement_1445_5_170()) return true;
     return false;
   }
 
-  private boolean jj_3_60() {
-    if (jj_3R_DeleteEdgeFromToStatement_1369_1_163()) return true;
+  private boolean jj_3R_AlterClusterStatement_4403_11_332() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_DeleteEdgeStatement_1323_9_253() {
-    if (jj_3R_DeleteEdgeWhereStatement_1442_5_166()) return true;
+  private boolean jj_3_63() {
+    if (jj_3R_DeleteEdgeToStatement_1401_5_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClusterStatement_4391_11_312() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3_62() {
+    if (jj_3R_DeleteEdgeVToStatement_1424_5_168()) return true;
     return false;
   }
 
-  private boolean jj_3_59() {
-    if (jj_3R_DeleteEdgeByRidStatement_1335_1_162()) return true;
+  private boolean jj_3R_DeleteEdgeByRidStatement_1338_1_166() {
+    if (jj_scan_token(DELETE)) return true;
+    if (jj_scan_token(EDGE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_DeleteEdgeByRidStatement_1342_13_370()) {
+      jj_scanpos = xsp;
+      if (jj_3R_DeleteEdgeByRidStatement_1344_13_371()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_DeleteEdgeByRidStatement_1359_11_372()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_DeleteEdgeStatement_1320_9_252() {
-    if (jj_3R_DeleteEdgeToStatement_1398_5_165()) return true;
+  private boolean jj_3R_AlterClusterStatement_4399_9_119() {
+    if (jj_scan_token(ALTER)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_AlterClusterStatement_4403_11_332()) jj_scanpos = xsp;
+    if (jj_3R_Identifier_581_1_175()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_DeleteEdgeStatement_1317_9_251() {
-    if (jj_3R_DeleteEdgeVToStatement_1421_5_164()) return true;
+  private boolean jj_3_61() {
+    if (jj_3R_DeleteEdgeFromToStatement_1372_1_167()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClusterStatement_4387_9_115() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_AlterClusterStatement_4391_11_312()) jj_scanpos = xsp;
-    if (jj_3R_Identifier_581_1_171()) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_DeleteEdgeStatement_1326_9_273() {
+    if (jj_3R_DeleteEdgeWhereStatement_1445_5_170()) return true;
     return false;
   }
 
-  private boolean jj_3R_DeleteEdgeStatement_1314_9_250() {
-    if (jj_3R_DeleteEdgeFromToStatement_1369_1_163()) return true;
+  private boolean jj_3_60() {
+    if (jj_3R_DeleteEdgeByRidStatement_1338_1_166()) return true;
     return false;
   }
 
-  private boolean jj_3R_DeleteEdgeStatement_1311_9_249() {
-    if (jj_3R_DeleteEdgeByRidStatement_1335_1_162()) return true;
+  private boolean jj_3R_DeleteEdgeStatement_1323_9_272() {
+    if (jj_3R_DeleteEdgeToStatement_1401_5_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateClusterStatement_4379_11_726() {
+  private boolean jj_3R_CreateClusterStatement_4391_11_747() {
     if (jj_scan_token(ID)) return true;
     if (jj_3R_Integer_823_1_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateClusterStatement_4378_11_725() {
+  private boolean jj_3R_CreateClusterStatement_4390_11_746() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateClusterStatement_4375_13_254() {
+  private boolean jj_3R_DeleteEdgeStatement_1320_9_271() {
+    if (jj_3R_DeleteEdgeVToStatement_1424_5_168()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_CreateClusterStatement_4387_13_274() {
     if (jj_scan_token(BLOB)) return true;
     if (jj_scan_token(CLUSTER)) return true;
     return false;
   }
 
-  private boolean jj_3R_DeleteEdgeStatement_1310_5_83() {
+  private boolean jj_3R_DeleteEdgeStatement_1317_9_270() {
+    if (jj_3R_DeleteEdgeFromToStatement_1372_1_167()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_DeleteEdgeStatement_1314_9_269() {
+    if (jj_3R_DeleteEdgeByRidStatement_1338_1_166()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_DeleteEdgeStatement_1313_5_87() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_DeleteEdgeStatement_1311_9_249()) {
+    if (jj_3R_DeleteEdgeStatement_1314_9_269()) {
       jj_scanpos = xsp;
-      if (jj_3R_DeleteEdgeStatement_1314_9_250()) {
+      if (jj_3R_DeleteEdgeStatement_1317_9_270()) {
         jj_scanpos = xsp;
-        if (jj_3R_DeleteEdgeStatement_1317_9_251()) {
+        if (jj_3R_DeleteEdgeStatement_1320_9_271()) {
           jj_scanpos = xsp;
-          if (jj_3R_DeleteEdgeStatement_1320_9_252()) {
+          if (jj_3R_DeleteEdgeStatement_1323_9_272()) {
             jj_scanpos = xsp;
-            if (jj_3R_DeleteEdgeStatement_1323_9_253()) return true;
+            if (jj_3R_DeleteEdgeStatement_1326_9_273()) return true;
           }
         }
       }
@@ -35049,510 +34551,521 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_DeleteVertexStatement_1301_11_710() {
+  private boolean jj_3R_CreateClusterStatement_4382_5_92() {
+    if (jj_scan_token(CREATE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(259)) {
+      jj_scanpos = xsp;
+      if (jj_3R_CreateClusterStatement_4387_13_274()) return true;
+    }
+    if (jj_3R_Identifier_581_1_175()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_CreateClusterStatement_4390_11_746()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_CreateClusterStatement_4391_11_747()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_DeleteVertexStatement_1304_11_730() {
     if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_WhereClause_2619_9_479()) return true;
+    if (jj_3R_WhereClause_2622_9_499()) return true;
     return false;
   }
 
-  private boolean jj_3R_DeleteVertexStatement_1300_11_709() {
+  private boolean jj_3R_DeleteVertexStatement_1303_11_729() {
     if (jj_scan_token(RETURN)) return true;
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_DeleteVertexStatement_1303_7_712() {
-    if (jj_3R_Batch_3288_5_473()) return true;
+  private boolean jj_3R_DeleteVertexStatement_1306_7_732() {
+    if (jj_3R_Batch_3291_5_493()) return true;
     return false;
   }
 
-  private boolean jj_3R_DeleteVertexStatement_1298_11_708() {
-    if (jj_scan_token(FROM)) return true;
+  private boolean jj_3R_DropIndexStatement_4371_13_774() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_DeleteVertexStatement_1302_7_711() {
-    if (jj_3R_Limit_3250_5_484()) return true;
+  private boolean jj_3R_DropIndexStatement_4373_11_775() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateClusterStatement_4370_5_88() {
-    if (jj_scan_token(CREATE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(259)) {
-      jj_scanpos = xsp;
-      if (jj_3R_CreateClusterStatement_4375_13_254()) return true;
-    }
-    if (jj_3R_Identifier_581_1_171()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_CreateClusterStatement_4378_11_725()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_CreateClusterStatement_4379_11_726()) jj_scanpos = xsp;
+  private boolean jj_3R_DeleteVertexStatement_1301_11_728() {
+    if (jj_scan_token(FROM)) return true;
     return false;
   }
 
-  private boolean jj_3R_DropIndexStatement_4359_13_753() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_DeleteVertexStatement_1305_7_731() {
+    if (jj_3R_Limit_3253_5_504()) return true;
     return false;
   }
 
-  private boolean jj_3R_DropIndexStatement_4361_11_754() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(EXISTS)) return true;
+  private boolean jj_3R_DropIndexStatement_4369_13_773() {
+    if (jj_3R_IndexName_2572_5_570()) return true;
     return false;
   }
 
-  private boolean jj_3R_DeleteStatement_1288_11_707() {
+  private boolean jj_3R_DeleteStatement_1291_11_727() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_DropIndexStatement_4357_13_752() {
-    if (jj_3R_IndexName_2569_5_550()) return true;
+  private boolean jj_3R_DeleteStatement_1290_11_726() {
+    if (jj_3R_Limit_3253_5_504()) return true;
     return false;
   }
 
-  private boolean jj_3R_DeleteStatement_1287_11_706() {
-    if (jj_3R_Limit_3250_5_484()) return true;
+  private boolean jj_3R_DeleteStatement_1289_11_725() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_WhereClause_2622_9_499()) return true;
     return false;
   }
 
-  private boolean jj_3R_DeleteStatement_1286_11_705() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_WhereClause_2619_9_479()) return true;
+  private boolean jj_3R_DropIndexStatement_4366_5_118() {
+    if (jj_scan_token(DROP)) return true;
+    if (jj_scan_token(INDEX)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_DropIndexStatement_4369_13_773()) {
+      jj_scanpos = xsp;
+      if (jj_3R_DropIndexStatement_4371_13_774()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_DropIndexStatement_4373_11_775()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_DeleteVertexStatement_1295_1_82() {
+  private boolean jj_3R_DeleteVertexStatement_1298_1_86() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(VERTEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_DeleteVertexStatement_1298_11_708()) jj_scanpos = xsp;
-    if (jj_3R_FromClause_2403_9_265()) return true;
+    if (jj_3R_DeleteVertexStatement_1301_11_728()) jj_scanpos = xsp;
+    if (jj_3R_FromClause_2406_9_285()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_DeleteVertexStatement_1300_11_709()) jj_scanpos = xsp;
+    if (jj_3R_DeleteVertexStatement_1303_11_729()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_DeleteVertexStatement_1301_11_710()) jj_scanpos = xsp;
+    if (jj_3R_DeleteVertexStatement_1304_11_730()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_DeleteVertexStatement_1302_7_711()) jj_scanpos = xsp;
+    if (jj_3R_DeleteVertexStatement_1305_7_731()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_DeleteVertexStatement_1303_7_712()) jj_scanpos = xsp;
+    if (jj_3R_DeleteVertexStatement_1306_7_732()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_DeleteStatement_1285_11_704() {
+  private boolean jj_3R_DeleteStatement_1288_11_724() {
     if (jj_scan_token(RETURN)) return true;
     if (jj_scan_token(BEFORE)) return true;
     return false;
   }
 
-  private boolean jj_3R_DropIndexStatement_4354_5_114() {
-    if (jj_scan_token(DROP)) return true;
-    if (jj_scan_token(INDEX)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_DropIndexStatement_4357_13_752()) {
-      jj_scanpos = xsp;
-      if (jj_3R_DropIndexStatement_4359_13_753()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_DropIndexStatement_4361_11_754()) jj_scanpos = xsp;
+  private boolean jj_3R_RebuildIndexStatement_4357_13_772() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_RebuildIndexStatement_4345_13_751() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_RebuildIndexStatement_4355_13_771() {
+    if (jj_3R_IndexName_2572_5_570()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchStatement_1274_11_969() {
-    if (jj_3R_Limit_3250_5_484()) return true;
+  private boolean jj_3R_CreateIndexStatement_4339_23_1063() {
+    if (jj_scan_token(METADATA)) return true;
+    if (jj_3R_Json_3436_5_244()) return true;
     return false;
   }
 
-  private boolean jj_3R_RebuildIndexStatement_4343_13_750() {
-    if (jj_3R_IndexName_2569_5_550()) return true;
+  private boolean jj_3R_CreateIndexStatement_4337_25_1062() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchStatement_1273_11_968() {
-    if (jj_3R_Skip_3264_5_654()) return true;
+  private boolean jj_3R_MatchStatement_1277_11_985() {
+    if (jj_3R_Limit_3253_5_504()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchStatement_1272_11_967() {
-    if (jj_3R_Unwind_3237_1_538()) return true;
+  private boolean jj_3R_MatchStatement_1276_11_984() {
+    if (jj_3R_Skip_3267_5_674()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchStatement_1271_11_966() {
-    if (jj_3R_OrderBy_3124_1_537()) return true;
+  private boolean jj_3R_MatchStatement_1275_11_983() {
+    if (jj_3R_Unwind_3240_1_558()) return true;
     return false;
   }
 
-  private boolean jj_3R_DeleteStatement_1281_1_81() {
-    if (jj_scan_token(DELETE)) return true;
-    if (jj_scan_token(FROM)) return true;
-    if (jj_3R_FromClause_2403_9_265()) return true;
+  private boolean jj_3R_RebuildIndexStatement_4352_5_338() {
+    if (jj_scan_token(REBUILD)) return true;
+    if (jj_scan_token(INDEX)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_DeleteStatement_1285_11_704()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_DeleteStatement_1286_11_705()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_DeleteStatement_1287_11_706()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_DeleteStatement_1288_11_707()) jj_scanpos = xsp;
+    if (jj_3R_RebuildIndexStatement_4355_13_771()) {
+      jj_scanpos = xsp;
+      if (jj_3R_RebuildIndexStatement_4357_13_772()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_MatchStatement_1270_11_965() {
-    if (jj_3R_GroupBy_3225_1_536()) return true;
+  private boolean jj_3R_MatchStatement_1274_11_982() {
+    if (jj_3R_OrderBy_3127_1_557()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateIndexStatement_4328_23_1049() {
-    if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_Json_3433_5_240()) return true;
+  private boolean jj_3R_DeleteStatement_1284_1_85() {
+    if (jj_scan_token(DELETE)) return true;
+    if (jj_scan_token(FROM)) return true;
+    if (jj_3R_FromClause_2406_9_285()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_DeleteStatement_1288_11_724()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_DeleteStatement_1289_11_725()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_DeleteStatement_1290_11_726()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_DeleteStatement_1291_11_727()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_CreateIndexStatement_4326_25_1048() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_MatchStatement_1273_11_981() {
+    if (jj_3R_GroupBy_3228_1_556()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchStatement_1262_15_1041() {
+  private boolean jj_3R_MatchStatement_1265_15_1055() {
     if (jj_scan_token(AS)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_MatchStatement_1261_15_1040() {
-    if (jj_3R_NestedProjection_1949_3_560()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_RebuildIndexStatement_4340_5_318() {
-    if (jj_scan_token(REBUILD)) return true;
-    if (jj_scan_token(INDEX)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_RebuildIndexStatement_4343_13_750()) {
-      jj_scanpos = xsp;
-      if (jj_3R_RebuildIndexStatement_4345_13_751()) return true;
-    }
-    return false;
-  }
-
-  private boolean jj_3R_MatchStatement_1259_13_964() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_MatchStatement_1261_15_1040()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_MatchStatement_1262_15_1041()) jj_scanpos = xsp;
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateIndexStatement_4323_17_992() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_CreateIndexStatement_4334_17_1008() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_CreateIndexStatement_4326_25_1048()) {
+      if (jj_3R_CreateIndexStatement_4337_25_1062()) {
         jj_scanpos = xsp;
         break;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_CreateIndexStatement_4328_23_1049()) jj_scanpos = xsp;
+    if (jj_3R_CreateIndexStatement_4339_23_1063()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_58() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_CreateIndexStatement_4344_7_745() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_WhereClause_2622_9_499()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchStatement_1248_17_1039() {
-    if (jj_3R_NestedProjection_1949_3_560()) return true;
+  private boolean jj_3R_MatchStatement_1264_15_1054() {
+    if (jj_3R_NestedProjection_1952_3_580()) return true;
     return false;
   }
 
-  private boolean jj_3_161() {
+  private boolean jj_3R_MatchStatement_1262_13_980() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_MatchStatement_1264_15_1054()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_MatchStatement_1265_15_1055()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3_162() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_Json_3433_5_240()) return true;
+    if (jj_3R_Json_3436_5_244()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateIndexStatement_4318_17_862() {
+  private boolean jj_3R_CreateIndexStatement_4329_17_882() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_161()) {
+    if (jj_3_162()) {
       jj_scanpos = xsp;
-      if (jj_3R_CreateIndexStatement_4323_17_992()) return true;
+      if (jj_3R_CreateIndexStatement_4334_17_1008()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_CreateIndexStatement_4311_23_1047() {
+  private boolean jj_3R_CreateIndexStatement_4322_23_1061() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_Json_3433_5_240()) return true;
+    if (jj_3R_Json_3436_5_244()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateIndexStatement_4309_25_1046() {
+  private boolean jj_3R_CreateIndexStatement_4320_25_1060() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchStatement_1251_11_963() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3_59() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchStatement_1242_17_1038() {
-    if (jj_3R_NestedProjection_1949_3_560()) return true;
+  private boolean jj_3R_MatchStatement_1251_17_1053() {
+    if (jj_3R_NestedProjection_1952_3_580()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchStatement_1245_11_962() {
-    if (jj_3R_Expression_2224_5_161()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_MatchStatement_1248_17_1039()) jj_scanpos = xsp;
+  private boolean jj_3R_MatchStatement_1254_11_979() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateIndexStatement_4316_9_724() {
+  private boolean jj_3R_CreateIndexStatement_4327_9_744() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CreateIndexStatement_4318_17_862()) jj_scanpos = xsp;
+    if (jj_3R_CreateIndexStatement_4329_17_882()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_CreateIndexStatement_4306_17_991() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_CreateIndexStatement_4317_17_1007() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_CreateIndexStatement_4309_25_1046()) {
+      if (jj_3R_CreateIndexStatement_4320_25_1060()) {
         jj_scanpos = xsp;
         break;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_CreateIndexStatement_4311_23_1047()) jj_scanpos = xsp;
+    if (jj_3R_CreateIndexStatement_4322_23_1061()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_57() {
-    if (jj_scan_token(DISTINCT)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_MatchStatement_1242_17_1038()) jj_scanpos = xsp;
+  private boolean jj_3R_MatchStatement_1245_17_1052() {
+    if (jj_3R_NestedProjection_1952_3_580()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchStatement_1231_16_1037() {
-    if (jj_scan_token(NOT)) return true;
-    if (jj_3R_MatchExpression_3474_5_688()) return true;
+  private boolean jj_3R_MatchStatement_1248_11_978() {
+    if (jj_3R_Expression_2227_5_165()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_MatchStatement_1251_17_1053()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_160() {
+  private boolean jj_3_161() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_Json_3433_5_240()) return true;
+    if (jj_3R_Json_3436_5_244()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateIndexStatement_4301_17_861() {
+  private boolean jj_3R_CreateIndexStatement_4312_17_881() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_160()) {
+    if (jj_3_161()) {
       jj_scanpos = xsp;
-      if (jj_3R_CreateIndexStatement_4306_17_991()) return true;
+      if (jj_3R_CreateIndexStatement_4317_17_1007()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_MatchStatement_1229_16_1036() {
-    if (jj_3R_MatchExpression_3474_5_688()) return true;
+  private boolean jj_3_58() {
+    if (jj_scan_token(DISTINCT)) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_MatchStatement_1245_17_1052()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_MatchStatement_1227_13_961() {
-    if (jj_scan_token(COMMA)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_MatchStatement_1229_16_1036()) {
-      jj_scanpos = xsp;
-      if (jj_3R_MatchStatement_1231_16_1037()) return true;
-    }
+  private boolean jj_3R_MatchStatement_1234_16_1051() {
+    if (jj_scan_token(NOT)) return true;
+    if (jj_3R_MatchExpression_3477_5_708()) return true;
     return false;
   }
 
-  private boolean jj_3_162() {
+  private boolean jj_3R_MatchStatement_1232_16_1050() {
+    if (jj_3R_MatchExpression_3477_5_708()) return true;
+    return false;
+  }
+
+  private boolean jj_3_163() {
     if (jj_scan_token(ENGINE)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CreateIndexStatement_4301_17_861()) jj_scanpos = xsp;
+    if (jj_3R_CreateIndexStatement_4312_17_881()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_CreateIndexStatement_4292_12_860() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_CreateIndexStatement_4303_12_880() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3_158() {
+  private boolean jj_3R_MatchStatement_1230_13_977() {
+    if (jj_scan_token(COMMA)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_MatchStatement_1232_16_1050()) {
+      jj_scanpos = xsp;
+      if (jj_3R_MatchStatement_1234_16_1051()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3_159() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateIndexStatement_4274_25_1045() {
+  private boolean jj_3R_CreateIndexStatement_4285_25_1059() {
     if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateIndexStatement_4278_21_990() {
+  private boolean jj_3R_CreateIndexStatement_4289_21_1006() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_CreateIndexStatement_4283_25_1058() {
+    if (jj_scan_token(KEY)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_CreateIndexStatement_4299_9_743() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_159()) {
+      jj_scanpos = xsp;
+      if (jj_3R_CreateIndexStatement_4303_12_880()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_CreateIndexStatement_4281_21_1005() {
+    if (jj_scan_token(BY)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_CreateIndexStatement_4283_25_1058()) {
+      jj_scanpos = xsp;
+      if (jj_3R_CreateIndexStatement_4285_25_1059()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_MatchStatement_1223_5_593() {
+  private boolean jj_3R_MatchStatement_1226_5_613() {
     if (jj_scan_token(MATCH)) return true;
-    if (jj_3R_MatchExpression_3474_5_688()) return true;
+    if (jj_3R_MatchExpression_3477_5_708()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_MatchStatement_1227_13_961()) {
+      if (jj_3R_MatchStatement_1230_13_977()) {
         jj_scanpos = xsp;
         break;
       }
     }
     if (jj_scan_token(RETURN)) return true;
     xsp = jj_scanpos;
-    if (jj_3_57()) {
+    if (jj_3_58()) {
       jj_scanpos = xsp;
-      if (jj_3R_MatchStatement_1245_11_962()) return true;
+      if (jj_3R_MatchStatement_1248_11_978()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_MatchStatement_1251_11_963()) jj_scanpos = xsp;
+    if (jj_3R_MatchStatement_1254_11_979()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_MatchStatement_1259_13_964()) {
+      if (jj_3R_MatchStatement_1262_13_980()) {
         jj_scanpos = xsp;
         break;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_MatchStatement_1270_11_965()) jj_scanpos = xsp;
+    if (jj_3R_MatchStatement_1273_11_981()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_MatchStatement_1271_11_966()) jj_scanpos = xsp;
+    if (jj_3R_MatchStatement_1274_11_982()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_MatchStatement_1272_11_967()) jj_scanpos = xsp;
+    if (jj_3R_MatchStatement_1275_11_983()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_MatchStatement_1273_11_968()) jj_scanpos = xsp;
+    if (jj_3R_MatchStatement_1276_11_984()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_MatchStatement_1274_11_969()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_CreateIndexStatement_4272_25_1044() {
-    if (jj_scan_token(KEY)) return true;
+    if (jj_3R_MatchStatement_1277_11_985()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_CreateIndexStatement_4288_9_723() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_158()) {
-      jj_scanpos = xsp;
-      if (jj_3R_CreateIndexStatement_4292_12_860()) return true;
-    }
+  private boolean jj_3R_TraverseStatement_1211_17_1048() {
+    if (jj_scan_token(BREADTH_FIRST)) return true;
     return false;
   }
 
-  private boolean jj_3R_TraverseStatement_1208_17_1034() {
-    if (jj_scan_token(BREADTH_FIRST)) return true;
+  private boolean jj_3R_TraverseStatement_1209_17_1047() {
+    if (jj_scan_token(DEPTH_FIRST)) return true;
     return false;
   }
 
-  private boolean jj_3R_TraverseStatement_1206_17_1033() {
-    if (jj_scan_token(DEPTH_FIRST)) return true;
+  private boolean jj_3R_CreateIndexStatement_4274_21_1004() {
+    if (jj_3R_RecordAttribute_2100_5_183()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateIndexStatement_4270_21_989() {
-    if (jj_scan_token(BY)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_CreateIndexStatement_4272_25_1044()) {
-      jj_scanpos = xsp;
-      if (jj_3R_CreateIndexStatement_4274_25_1045()) return true;
-    }
+  private boolean jj_3R_CreateIndexStatement_4268_21_1003() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_TraverseStatement_1204_11_960() {
+  private boolean jj_3R_TraverseStatement_1207_11_976() {
     if (jj_scan_token(STRATEGY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_TraverseStatement_1206_17_1033()) {
+    if (jj_3R_TraverseStatement_1209_17_1047()) {
       jj_scanpos = xsp;
-      if (jj_3R_TraverseStatement_1208_17_1034()) return true;
+      if (jj_3R_TraverseStatement_1211_17_1048()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_TraverseStatement_1203_11_959() {
-    if (jj_3R_Limit_3250_5_484()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_CreateIndexStatement_4263_21_988() {
-    if (jj_3R_RecordAttribute_2097_5_179()) return true;
+  private boolean jj_3R_TraverseStatement_1206_11_975() {
+    if (jj_3R_Limit_3253_5_504()) return true;
     return false;
   }
 
-  private boolean jj_3R_TraverseStatement_1202_11_958() {
+  private boolean jj_3R_TraverseStatement_1205_11_974() {
     if (jj_scan_token(WHILE)) return true;
-    if (jj_3R_WhereClause_2619_9_479()) return true;
+    if (jj_3R_WhereClause_2622_9_499()) return true;
     return false;
   }
 
-  private boolean jj_3R_TraverseStatement_1197_15_1032() {
+  private boolean jj_3R_TraverseStatement_1200_15_1046() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_TraverseProjectionItem_3420_5_830()) return true;
+    if (jj_3R_TraverseProjectionItem_3423_5_850()) return true;
     return false;
   }
 
-  private boolean jj_3R_TraverseStatement_1201_11_957() {
+  private boolean jj_3R_TraverseStatement_1204_11_973() {
     if (jj_scan_token(MAXDEPTH)) return true;
     if (jj_3R_Integer_823_1_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_TraverseStatement_1196_13_687() {
-    if (jj_3R_TraverseProjectionItem_3420_5_830()) return true;
+  private boolean jj_3R_TraverseStatement_1199_13_707() {
+    if (jj_3R_TraverseProjectionItem_3423_5_850()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_TraverseStatement_1197_15_1032()) {
+      if (jj_3R_TraverseStatement_1200_15_1046()) {
         jj_scanpos = xsp;
         break;
       }
@@ -35560,552 +35073,530 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_SelectStatement_1165_43_656() {
-    if (jj_3R_Skip_3264_5_654()) return true;
+  private boolean jj_3R_CreateIndexStatement_4266_17_879() {
+    if (jj_scan_token(COMMA)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_CreateIndexStatement_4268_21_1003()) {
+      jj_scanpos = xsp;
+      if (jj_3R_CreateIndexStatement_4274_21_1004()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_CreateIndexStatement_4281_21_1005()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_CreateIndexStatement_4289_21_1006()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_CreateIndexStatement_4257_21_987() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_SelectStatement_1168_43_676() {
+    if (jj_3R_Skip_3267_5_674()) return true;
     return false;
   }
 
-  private boolean jj_3R_SelectStatement_1163_41_655() {
-    if (jj_3R_Limit_3250_5_484()) return true;
+  private boolean jj_3R_CreateIndexStatement_4258_21_1002() {
+    if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateIndexStatement_4255_17_859() {
-    if (jj_scan_token(COMMA)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_CreateIndexStatement_4257_21_987()) {
-      jj_scanpos = xsp;
-      if (jj_3R_CreateIndexStatement_4263_21_988()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_CreateIndexStatement_4270_21_989()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_CreateIndexStatement_4278_21_990()) jj_scanpos = xsp;
+  private boolean jj_3R_CreateIndexStatement_4262_17_878() {
+    if (jj_scan_token(COLLATE)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_SelectStatement_1166_41_675() {
+    if (jj_3R_Limit_3253_5_504()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_CreateIndexStatement_4256_21_1001() {
+    if (jj_scan_token(KEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_TraverseStatement_1193_5_592() {
+  private boolean jj_3R_TraverseStatement_1196_5_612() {
     if (jj_scan_token(TRAVERSE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_TraverseStatement_1196_13_687()) jj_scanpos = xsp;
+    if (jj_3R_TraverseStatement_1199_13_707()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_FromClause_2403_9_265()) return true;
+    if (jj_3R_FromClause_2406_9_285()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_TraverseStatement_1201_11_957()) jj_scanpos = xsp;
+    if (jj_3R_TraverseStatement_1204_11_973()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_TraverseStatement_1202_11_958()) jj_scanpos = xsp;
+    if (jj_3R_TraverseStatement_1205_11_974()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_TraverseStatement_1203_11_959()) jj_scanpos = xsp;
+    if (jj_3R_TraverseStatement_1206_11_975()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_TraverseStatement_1204_11_960()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_CreateIndexStatement_4247_21_986() {
-    if (jj_scan_token(VALUE)) return true;
+    if (jj_3R_TraverseStatement_1207_11_976()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_CreateIndexStatement_4251_17_858() {
-    if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_CreateIndexStatement_4245_21_985() {
-    if (jj_scan_token(KEY)) return true;
+  private boolean jj_3R_CreateIndexStatement_4254_17_877() {
+    if (jj_scan_token(BY)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_CreateIndexStatement_4256_21_1001()) {
+      jj_scanpos = xsp;
+      if (jj_3R_CreateIndexStatement_4258_21_1002()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_SelectStatement_1178_17_545() {
+  private boolean jj_3R_SelectStatement_1181_17_565() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_SelectStatement_1182_11_340() {
+  private boolean jj_3R_SelectStatement_1185_11_359() {
     if (jj_scan_token(NOCACHE)) return true;
     return false;
   }
 
-  private boolean jj_3R_SelectStatement_1176_17_544() {
+  private boolean jj_3R_SelectStatement_1179_17_564() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_SelectStatement_1181_11_339() {
+  private boolean jj_3R_SelectStatement_1184_11_358() {
     if (jj_scan_token(PARALLEL)) return true;
     return false;
   }
 
-  private boolean jj_3R_SelectStatement_1174_17_543() {
+  private boolean jj_3R_SelectStatement_1177_17_563() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_SelectStatement_1172_17_542() {
-    if (jj_scan_token(RECORD)) return true;
+  private boolean jj_3R_CreateIndexStatement_4247_17_243() {
+    if (jj_3R_RecordAttribute_2100_5_183()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateIndexStatement_4243_17_857() {
-    if (jj_scan_token(BY)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_CreateIndexStatement_4245_21_985()) {
-      jj_scanpos = xsp;
-      if (jj_3R_CreateIndexStatement_4247_21_986()) return true;
-    }
+  private boolean jj_3R_SelectStatement_1175_17_562() {
+    if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_SelectWithoutTargetStatement_1123_59_1043() {
-    if (jj_3R_Skip_3264_5_654()) return true;
+  private boolean jj_3R_CreateIndexStatement_4241_17_242() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_SelectStatement_1165_17_540() {
-    if (jj_3R_Limit_3250_5_484()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_SelectStatement_1165_43_656()) jj_scanpos = xsp;
+  private boolean jj_3R_SelectWithoutTargetStatement_1126_59_1057() {
+    if (jj_3R_Skip_3267_5_674()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateIndexStatement_4236_17_239() {
-    if (jj_3R_RecordAttribute_2097_5_179()) return true;
+  private boolean jj_3R_SelectStatement_1168_17_560() {
+    if (jj_3R_Limit_3253_5_504()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_SelectStatement_1168_43_676()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_SelectStatement_1170_11_338() {
+  private boolean jj_3R_SelectStatement_1173_11_357() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SelectStatement_1172_17_542()) {
+    if (jj_3R_SelectStatement_1175_17_562()) {
       jj_scanpos = xsp;
-      if (jj_3R_SelectStatement_1174_17_543()) {
+      if (jj_3R_SelectStatement_1177_17_563()) {
         jj_scanpos = xsp;
-        if (jj_3R_SelectStatement_1176_17_544()) {
+        if (jj_3R_SelectStatement_1179_17_564()) {
           jj_scanpos = xsp;
-          if (jj_3R_SelectStatement_1178_17_545()) return true;
+          if (jj_3R_SelectStatement_1181_17_565()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_SelectStatement_1169_11_337() {
-    if (jj_3R_Timeout_3302_5_485()) return true;
+  private boolean jj_3R_SelectStatement_1172_11_356() {
+    if (jj_3R_Timeout_3305_5_505()) return true;
     return false;
   }
 
-  private boolean jj_3R_SelectStatement_1163_17_335() {
+  private boolean jj_3R_SelectStatement_1166_17_354() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SelectStatement_1163_17_539()) {
+    if (jj_3R_SelectStatement_1166_17_559()) {
       jj_scanpos = xsp;
-      if (jj_3R_SelectStatement_1165_17_540()) return true;
+      if (jj_3R_SelectStatement_1168_17_560()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_SelectStatement_1163_17_539() {
-    if (jj_3R_Skip_3264_5_654()) return true;
+  private boolean jj_3R_SelectStatement_1166_17_559() {
+    if (jj_3R_Skip_3267_5_674()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SelectStatement_1163_41_655()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_SelectStatement_1168_11_336() {
-    if (jj_3R_FetchPlan_3366_5_541()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_SelectWithoutTargetStatement_1121_57_1042() {
-    if (jj_3R_Limit_3250_5_484()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_CreateIndexStatement_4230_17_238() {
-    if (jj_3R_Identifier_581_1_171()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_SelectStatement_1160_11_334() {
-    if (jj_3R_Unwind_3237_1_538()) return true;
+    if (jj_3R_SelectStatement_1166_41_675()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_SelectStatement_1159_11_333() {
-    if (jj_3R_OrderBy_3124_1_537()) return true;
+  private boolean jj_3R_SelectStatement_1171_11_355() {
+    if (jj_3R_FetchPlan_3369_5_561()) return true;
     return false;
   }
 
-  private boolean jj_3R_SelectStatement_1158_11_332() {
-    if (jj_3R_GroupBy_3225_1_536()) return true;
+  private boolean jj_3R_SelectWithoutTargetStatement_1124_57_1056() {
+    if (jj_3R_Limit_3253_5_504()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateIndexStatement_4225_15_237() {
+  private boolean jj_3R_CreateIndexStatement_4236_15_241() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_SelectStatement_1157_11_331() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_WhereClause_2619_9_479()) return true;
+  private boolean jj_3R_SelectStatement_1163_11_353() {
+    if (jj_3R_Unwind_3240_1_558()) return true;
     return false;
   }
 
-  private boolean jj_3R_SelectStatement_1156_11_330() {
-    if (jj_3R_LetClause_2412_5_535()) return true;
+  private boolean jj_3R_SelectStatement_1162_11_352() {
+    if (jj_3R_OrderBy_3127_1_557()) return true;
     return false;
   }
 
-  private boolean jj_3R_SelectStatement_1153_11_329() {
-    if (jj_3R_Projection_1914_5_469()) return true;
+  private boolean jj_3R_SelectStatement_1161_11_351() {
+    if (jj_3R_GroupBy_3228_1_556()) return true;
     return false;
   }
 
-  private boolean jj_3_159() {
+  private boolean jj_3_160() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CreateIndexStatement_4225_15_237()) jj_scanpos = xsp;
+    if (jj_3R_CreateIndexStatement_4236_15_241()) jj_scanpos = xsp;
     if (jj_scan_token(ON)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     if (jj_scan_token(LPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_CreateIndexStatement_4230_17_238()) {
+    if (jj_3R_CreateIndexStatement_4241_17_242()) {
       jj_scanpos = xsp;
-      if (jj_3R_CreateIndexStatement_4236_17_239()) return true;
+      if (jj_3R_CreateIndexStatement_4247_17_243()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_CreateIndexStatement_4243_17_857()) jj_scanpos = xsp;
+    if (jj_3R_CreateIndexStatement_4254_17_877()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CreateIndexStatement_4251_17_858()) jj_scanpos = xsp;
+    if (jj_3R_CreateIndexStatement_4262_17_878()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_CreateIndexStatement_4255_17_859()) {
+      if (jj_3R_CreateIndexStatement_4266_17_879()) {
         jj_scanpos = xsp;
         break;
       }
     }
     if (jj_scan_token(RPAREN)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_SelectStatement_1160_11_350() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_WhereClause_2622_9_499()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_SelectStatement_1159_11_349() {
+    if (jj_3R_LetClause_2415_5_555()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_SelectStatement_1156_11_348() {
+    if (jj_3R_Projection_1917_5_489()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_CreateIndexStatement_4229_9_91() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(INDEX)) return true;
+    if (jj_3R_IndexName_2572_5_570()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_160()) {
+      jj_scanpos = xsp;
+      if (jj_3R_CreateIndexStatement_4299_9_743()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3_163()) {
+      jj_scanpos = xsp;
+      if (jj_3R_CreateIndexStatement_4327_9_744()) return true;
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_CreateIndexStatement_4344_7_745()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_SelectWithoutTargetStatement_1123_33_973() {
-    if (jj_3R_Limit_3250_5_484()) return true;
+  private boolean jj_3R_SelectWithoutTargetStatement_1126_33_989() {
+    if (jj_3R_Limit_3253_5_504()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SelectWithoutTargetStatement_1123_59_1043()) jj_scanpos = xsp;
+    if (jj_3R_SelectWithoutTargetStatement_1126_59_1057()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_SelectStatement_1151_5_159() {
+  private boolean jj_3R_SelectStatement_1154_5_163() {
     if (jj_scan_token(SELECT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SelectStatement_1153_11_329()) jj_scanpos = xsp;
+    if (jj_3R_SelectStatement_1156_11_348()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
-    if (jj_3R_FromClause_2403_9_265()) return true;
+    if (jj_3R_FromClause_2406_9_285()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_SelectStatement_1156_11_330()) jj_scanpos = xsp;
+    if (jj_3R_SelectStatement_1159_11_349()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SelectStatement_1157_11_331()) jj_scanpos = xsp;
+    if (jj_3R_SelectStatement_1160_11_350()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SelectStatement_1158_11_332()) jj_scanpos = xsp;
+    if (jj_3R_SelectStatement_1161_11_351()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SelectStatement_1159_11_333()) jj_scanpos = xsp;
+    if (jj_3R_SelectStatement_1162_11_352()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SelectStatement_1160_11_334()) jj_scanpos = xsp;
+    if (jj_3R_SelectStatement_1163_11_353()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SelectStatement_1163_17_335()) jj_scanpos = xsp;
+    if (jj_3R_SelectStatement_1166_17_354()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SelectStatement_1168_11_336()) jj_scanpos = xsp;
+    if (jj_3R_SelectStatement_1171_11_355()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SelectStatement_1169_11_337()) jj_scanpos = xsp;
+    if (jj_3R_SelectStatement_1172_11_356()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SelectStatement_1170_11_338()) jj_scanpos = xsp;
+    if (jj_3R_SelectStatement_1173_11_357()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SelectStatement_1181_11_339()) jj_scanpos = xsp;
+    if (jj_3R_SelectStatement_1184_11_358()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SelectStatement_1182_11_340()) jj_scanpos = xsp;
+    if (jj_3R_SelectStatement_1185_11_359()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_CreateIndexStatement_4218_9_87() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(INDEX)) return true;
-    if (jj_3R_IndexName_2569_5_550()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_159()) {
-      jj_scanpos = xsp;
-      if (jj_3R_CreateIndexStatement_4288_9_723()) return true;
-    }
-    xsp = jj_scanpos;
-    if (jj_3_162()) {
-      jj_scanpos = xsp;
-      if (jj_3R_CreateIndexStatement_4316_9_724()) return true;
-    }
+  private boolean jj_3R_DropPropertyStatement_4218_11_331() {
+    if (jj_scan_token(FORCE)) return true;
     return false;
   }
 
-  private boolean jj_3R_SelectWithoutTargetStatement_1121_33_972() {
-    if (jj_3R_Skip_3264_5_654()) return true;
+  private boolean jj_3R_SelectWithoutTargetStatement_1124_33_988() {
+    if (jj_3R_Skip_3267_5_674()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SelectWithoutTargetStatement_1121_57_1042()) jj_scanpos = xsp;
+    if (jj_3R_SelectWithoutTargetStatement_1124_57_1056()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_SelectWithoutTargetStatement_1121_33_833() {
+  private boolean jj_3R_SelectWithoutTargetStatement_1124_33_853() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SelectWithoutTargetStatement_1121_33_972()) {
+    if (jj_3R_SelectWithoutTargetStatement_1124_33_988()) {
       jj_scanpos = xsp;
-      if (jj_3R_SelectWithoutTargetStatement_1123_33_973()) return true;
+      if (jj_3R_SelectWithoutTargetStatement_1126_33_989()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_SelectWithoutTargetStatement_1136_17_977() {
+  private boolean jj_3R_DropPropertyStatement_4217_11_330() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(EXISTS)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_SelectWithoutTargetStatement_1139_17_993() {
     if (jj_scan_token(DEFAULT_)) return true;
     return false;
   }
 
-  private boolean jj_3R_SelectWithoutTargetStatement_1134_17_976() {
+  private boolean jj_3R_SelectWithoutTargetStatement_1137_17_992() {
     if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_SelectWithoutTargetStatement_1140_11_838() {
+  private boolean jj_3R_SelectWithoutTargetStatement_1143_11_858() {
     if (jj_scan_token(NOCACHE)) return true;
     return false;
   }
 
-  private boolean jj_3R_SelectWithoutTargetStatement_1139_11_837() {
+  private boolean jj_3R_SelectWithoutTargetStatement_1142_11_857() {
     if (jj_scan_token(PARALLEL)) return true;
     return false;
   }
 
-  private boolean jj_3R_SelectWithoutTargetStatement_1132_17_975() {
+  private boolean jj_3R_SelectWithoutTargetStatement_1135_17_991() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_SelectWithoutTargetStatement_1130_17_974() {
-    if (jj_scan_token(RECORD)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_DropPropertyStatement_4207_11_311() {
-    if (jj_scan_token(FORCE)) return true;
+  private boolean jj_3R_AlterPropertyStatement_4201_21_329() {
+    if (jj_3R_Identifier_581_1_175()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_DropPropertyStatement_4206_11_310() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(EXISTS)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_AlterPropertyStatement_4190_21_309() {
-    if (jj_3R_Identifier_581_1_171()) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_DropPropertyStatement_4202_9_113() {
+  private boolean jj_3R_DropPropertyStatement_4213_9_117() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_DropPropertyStatement_4206_11_310()) jj_scanpos = xsp;
+    if (jj_3R_DropPropertyStatement_4217_11_330()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_DropPropertyStatement_4207_11_311()) jj_scanpos = xsp;
+    if (jj_3R_DropPropertyStatement_4218_11_331()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_SelectWithoutTargetStatement_1133_17_990() {
+    if (jj_scan_token(RECORD)) return true;
     return false;
   }
 
-  private boolean jj_3R_SelectWithoutTargetStatement_1128_11_836() {
+  private boolean jj_3_158() {
+    if (jj_scan_token(CUSTOM)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
+    if (jj_scan_token(EQ)) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_SelectWithoutTargetStatement_1131_11_856() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SelectWithoutTargetStatement_1130_17_974()) {
+    if (jj_3R_SelectWithoutTargetStatement_1133_17_990()) {
       jj_scanpos = xsp;
-      if (jj_3R_SelectWithoutTargetStatement_1132_17_975()) {
+      if (jj_3R_SelectWithoutTargetStatement_1135_17_991()) {
         jj_scanpos = xsp;
-        if (jj_3R_SelectWithoutTargetStatement_1134_17_976()) {
+        if (jj_3R_SelectWithoutTargetStatement_1137_17_992()) {
           jj_scanpos = xsp;
-          if (jj_3R_SelectWithoutTargetStatement_1136_17_977()) return true;
+          if (jj_3R_SelectWithoutTargetStatement_1139_17_993()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_SelectWithoutTargetStatement_1127_11_835() {
-    if (jj_3R_Timeout_3302_5_485()) return true;
+  private boolean jj_3R_SelectWithoutTargetStatement_1130_11_855() {
+    if (jj_3R_Timeout_3305_5_505()) return true;
     return false;
   }
 
-  private boolean jj_3R_SelectWithoutTargetStatement_1126_11_834() {
-    if (jj_3R_FetchPlan_3366_5_541()) return true;
+  private boolean jj_3R_SelectWithoutTargetStatement_1129_11_854() {
+    if (jj_3R_FetchPlan_3369_5_561()) return true;
     return false;
   }
 
-  private boolean jj_3_157() {
-    if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
-    if (jj_scan_token(EQ)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_SelectWithoutTargetStatement_1121_11_852() {
+    if (jj_3R_Unwind_3240_1_558()) return true;
     return false;
   }
 
-  private boolean jj_3R_SelectWithoutTargetStatement_1118_11_832() {
-    if (jj_3R_Unwind_3237_1_538()) return true;
+  private boolean jj_3R_SelectWithoutTargetStatement_1120_11_851() {
+    if (jj_3R_LetClause_2415_5_555()) return true;
     return false;
   }
 
-  private boolean jj_3R_SelectWithoutTargetStatement_1117_11_831() {
-    if (jj_3R_LetClause_2412_5_535()) return true;
+  private boolean jj_3_57() {
+    if (jj_3R_FindReferencesStatement_3876_5_164()) return true;
     return false;
   }
 
-  private boolean jj_3_56() {
-    if (jj_3R_FindReferencesStatement_3865_5_160()) return true;
+  private boolean jj_3R_AlterPropertyStatement_4187_9_116() {
+    if (jj_scan_token(ALTER)) return true;
+    if (jj_scan_token(PROPERTY)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_158()) {
+      jj_scanpos = xsp;
+      if (jj_3R_AlterPropertyStatement_4201_21_329()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_SelectWithoutTargetStatement_1114_5_372() {
+  private boolean jj_3R_SelectWithoutTargetStatement_1117_5_391() {
     if (jj_scan_token(SELECT)) return true;
-    if (jj_3R_Projection_1914_5_469()) return true;
+    if (jj_3R_Projection_1917_5_489()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SelectWithoutTargetStatement_1117_11_831()) jj_scanpos = xsp;
+    if (jj_3R_SelectWithoutTargetStatement_1120_11_851()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SelectWithoutTargetStatement_1118_11_832()) jj_scanpos = xsp;
+    if (jj_3R_SelectWithoutTargetStatement_1121_11_852()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SelectWithoutTargetStatement_1121_33_833()) jj_scanpos = xsp;
+    if (jj_3R_SelectWithoutTargetStatement_1124_33_853()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SelectWithoutTargetStatement_1126_11_834()) jj_scanpos = xsp;
+    if (jj_3R_SelectWithoutTargetStatement_1129_11_854()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SelectWithoutTargetStatement_1127_11_835()) jj_scanpos = xsp;
+    if (jj_3R_SelectWithoutTargetStatement_1130_11_855()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SelectWithoutTargetStatement_1128_11_836()) jj_scanpos = xsp;
+    if (jj_3R_SelectWithoutTargetStatement_1131_11_856()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SelectWithoutTargetStatement_1139_11_837()) jj_scanpos = xsp;
+    if (jj_3R_SelectWithoutTargetStatement_1142_11_857()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_SelectWithoutTargetStatement_1140_11_838()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3_55() {
-    if (jj_3R_SelectStatement_1151_5_159()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_QueryStatement_1106_9_419() {
-    if (jj_3R_FindReferencesStatement_3865_5_160()) return true;
+    if (jj_3R_SelectWithoutTargetStatement_1143_11_858()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_AlterPropertyStatement_4176_9_112() {
-    if (jj_scan_token(ALTER)) return true;
-    if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_157()) {
-      jj_scanpos = xsp;
-      if (jj_3R_AlterPropertyStatement_4190_21_309()) return true;
-    }
+  private boolean jj_3_56() {
+    if (jj_3R_SelectStatement_1154_5_163()) return true;
     return false;
   }
 
-  private boolean jj_3R_QueryStatement_1104_9_418() {
-    if (jj_3R_MatchStatement_1223_5_593()) return true;
+  private boolean jj_3R_CreatePropertyAttributeStatement_4175_14_1000() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_QueryStatement_1102_9_417() {
-    if (jj_3R_TraverseStatement_1193_5_592()) return true;
+  private boolean jj_3R_QueryStatement_1109_9_438() {
+    if (jj_3R_FindReferencesStatement_3876_5_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_QueryStatement_1100_9_416() {
-    if (jj_3R_SelectWithoutTargetStatement_1114_5_372()) return true;
+  private boolean jj_3R_QueryStatement_1107_9_437() {
+    if (jj_3R_MatchStatement_1226_5_613()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreatePropertyAttributeStatement_4164_14_984() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_QueryStatement_1105_9_436() {
+    if (jj_3R_TraverseStatement_1196_5_612()) return true;
     return false;
   }
 
-  private boolean jj_3R_QueryStatement_1097_9_415() {
-    if (jj_3R_SelectStatement_1151_5_159()) return true;
+  private boolean jj_3R_QueryStatement_1103_9_435() {
+    if (jj_3R_SelectWithoutTargetStatement_1117_5_391()) return true;
     return false;
   }
 
-  private boolean jj_3R_QueryStatement_1096_5_205() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_QueryStatement_1097_9_415()) {
-      jj_scanpos = xsp;
-      if (jj_3R_QueryStatement_1100_9_416()) {
-        jj_scanpos = xsp;
-        if (jj_3R_QueryStatement_1102_9_417()) {
-          jj_scanpos = xsp;
-          if (jj_3R_QueryStatement_1104_9_418()) {
-            jj_scanpos = xsp;
-            if (jj_3R_QueryStatement_1106_9_419()) return true;
-          }
-        }
-      }
-    }
+  private boolean jj_3R_CreatePropertyStatement_4163_19_742() {
+    if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_CreatePropertyStatement_4152_19_722() {
-    if (jj_scan_token(UNSAFE)) return true;
+  private boolean jj_3R_CreatePropertyStatement_4160_22_876() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_CreatePropertyAttributeStatement_4172_5_875()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreatePropertyStatement_4149_22_856() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_CreatePropertyAttributeStatement_4161_5_855()) return true;
+  private boolean jj_3R_QueryStatement_1100_9_434() {
+    if (jj_3R_SelectStatement_1154_5_163()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreatePropertyStatement_4144_25_720() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_CreatePropertyStatement_4155_25_740() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreatePropertyStatement_4147_21_721() {
+  private boolean jj_3R_CreatePropertyStatement_4158_21_741() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_CreatePropertyAttributeStatement_4161_5_855()) return true;
+    if (jj_3R_CreatePropertyAttributeStatement_4172_5_875()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_CreatePropertyStatement_4149_22_856()) {
+      if (jj_3R_CreatePropertyStatement_4160_22_876()) {
         jj_scanpos = xsp;
         break;
       }
@@ -36114,664 +35605,668 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_CreatePropertyAttributeStatement_4161_5_855() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_CreatePropertyAttributeStatement_4172_5_875() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CreatePropertyAttributeStatement_4164_14_984()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3_156() {
-    if (jj_3R_IfNotExists_4127_5_236()) return true;
+    if (jj_3R_CreatePropertyAttributeStatement_4175_14_1000()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_52() {
-    if (jj_3R_HaSetStatement_5088_5_122()) return true;
-    return false;
-  }
-
-  private boolean jj_3_54() {
-    if (jj_3R_ProfileStatement_4494_5_158()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_ExpressionStatement_1085_5_465() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_QueryStatement_1099_5_209() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_QueryStatement_1100_9_434()) {
+      jj_scanpos = xsp;
+      if (jj_3R_QueryStatement_1103_9_435()) {
+        jj_scanpos = xsp;
+        if (jj_3R_QueryStatement_1105_9_436()) {
+          jj_scanpos = xsp;
+          if (jj_3R_QueryStatement_1107_9_437()) {
+            jj_scanpos = xsp;
+            if (jj_3R_QueryStatement_1109_9_438()) return true;
+          }
+        }
+      }
+    }
     return false;
   }
 
-  private boolean jj_3_51() {
-    if (jj_3R_HaSyncClusterStatement_5067_5_121()) return true;
+  private boolean jj_3_157() {
+    if (jj_3R_IfNotExists_4138_5_240()) return true;
     return false;
   }
 
-  private boolean jj_3_50() {
-    if (jj_3R_HaSyncDatabaseStatement_5053_5_120()) return true;
+  private boolean jj_3R_ExpressionStatement_1088_5_484() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_1074_9_248() {
-    if (jj_3R_LetStatement_4780_5_467()) return true;
+  private boolean jj_3_53() {
+    if (jj_3R_HaSetStatement_5100_5_126()) return true;
     return false;
   }
 
-  private boolean jj_3_49() {
-    if (jj_3R_HaStatusStatement_5013_5_119()) return true;
+  private boolean jj_3_55() {
+    if (jj_3R_ProfileStatement_4506_5_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_1064_17_157() {
-    if (jj_3R_HaSetStatement_5088_5_122()) return true;
+  private boolean jj_3_52() {
+    if (jj_3R_HaSyncClusterStatement_5079_5_125()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_1071_9_247() {
-    if (jj_3R_ProfileStatement_4494_5_158()) return true;
+  private boolean jj_3R_StatementInternal_1076_9_268() {
+    if (jj_3R_AnalyzeClassStatement_3832_9_487()) return true;
     return false;
   }
 
-  private boolean jj_3_48() {
-    if (jj_3R_HaRemoveServerStatement_5043_5_118()) return true;
+  private boolean jj_3_51() {
+    if (jj_3R_HaSyncDatabaseStatement_5065_5_124()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_1069_9_246() {
-    if (jj_3R_ExplainStatement_4484_5_466()) return true;
+  private boolean jj_3R_StatementInternal_1074_9_267() {
+    if (jj_3R_LetStatement_4792_5_486()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_1061_17_156() {
-    if (jj_3R_HaSyncClusterStatement_5067_5_121()) return true;
+  private boolean jj_3R_CreatePropertyStatement_4145_9_90() {
+    if (jj_scan_token(CREATE)) return true;
+    if (jj_scan_token(PROPERTY)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
+    if (jj_scan_token(DOT)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_157()) jj_scanpos = xsp;
+    if (jj_3R_Identifier_581_1_175()) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_CreatePropertyStatement_4155_25_740()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_CreatePropertyStatement_4158_21_741()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_CreatePropertyStatement_4163_19_742()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_1058_17_155() {
-    if (jj_3R_HaSyncDatabaseStatement_5053_5_120()) return true;
+  private boolean jj_3_50() {
+    if (jj_3R_HaStatusStatement_5025_5_123()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_1055_17_154() {
-    if (jj_3R_HaStatusStatement_5013_5_119()) return true;
+  private boolean jj_3R_StatementInternal_1064_17_161() {
+    if (jj_3R_HaSetStatement_5100_5_126()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreatePropertyStatement_4134_9_86() {
-    if (jj_scan_token(CREATE)) return true;
-    if (jj_scan_token(PROPERTY)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
-    if (jj_scan_token(DOT)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_156()) jj_scanpos = xsp;
-    if (jj_3R_Identifier_581_1_171()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_CreatePropertyStatement_4144_25_720()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_CreatePropertyStatement_4147_21_721()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_CreatePropertyStatement_4152_19_722()) jj_scanpos = xsp;
+  private boolean jj_3R_StatementInternal_1071_9_266() {
+    if (jj_3R_ProfileStatement_4506_5_162()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_1052_17_153() {
-    if (jj_3R_HaRemoveServerStatement_5043_5_118()) return true;
+  private boolean jj_3_49() {
+    if (jj_3R_HaRemoveServerStatement_5055_5_122()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_1050_17_152() {
-    if (jj_3R_IfStatement_4861_5_328()) return true;
+  private boolean jj_3R_StatementInternal_1069_9_265() {
+    if (jj_3R_ExplainStatement_4496_5_485()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_1048_17_151() {
-    if (jj_3R_ConsoleStatement_4894_5_327()) return true;
+  private boolean jj_3R_StatementInternal_1061_17_160() {
+    if (jj_3R_HaSyncClusterStatement_5079_5_125()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_1046_17_150() {
-    if (jj_3R_SleepStatement_4885_5_326()) return true;
+  private boolean jj_3R_StatementInternal_1058_17_159() {
+    if (jj_3R_HaSyncDatabaseStatement_5065_5_124()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_1044_17_149() {
-    if (jj_3R_ReturnStatement_4849_5_325()) return true;
+  private boolean jj_3R_StatementInternal_1055_17_158() {
+    if (jj_3R_HaStatusStatement_5025_5_123()) return true;
     return false;
   }
 
-  private boolean jj_3R_IfNotExists_4127_5_236() {
+  private boolean jj_3R_IfNotExists_4138_5_240() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_DropViewStatement_4120_11_308() {
+  private boolean jj_3R_DropViewStatement_4131_11_328() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_1042_17_148() {
-    if (jj_3R_RollbackStatement_4840_5_324()) return true;
+  private boolean jj_3R_StatementInternal_1052_17_157() {
+    if (jj_3R_HaRemoveServerStatement_5055_5_122()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_1040_17_147() {
-    if (jj_3R_CommitStatement_4808_5_323()) return true;
+  private boolean jj_3R_StatementInternal_1050_17_156() {
+    if (jj_3R_IfStatement_4873_5_259()) return true;
     return false;
   }
 
-  private boolean jj_3R_DropViewStatement_4118_9_111() {
+  private boolean jj_3R_DropViewStatement_4129_9_115() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(VIEW)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_DropViewStatement_4120_11_308()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_StatementInternal_1038_17_146() {
-    if (jj_3R_BeginStatement_4798_5_322()) return true;
+    if (jj_3R_DropViewStatement_4131_11_328()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_1036_17_145() {
-    if (jj_3R_RevokeStatement_4547_5_321()) return true;
+  private boolean jj_3R_StatementInternal_1048_17_155() {
+    if (jj_3R_ConsoleStatement_4906_5_347()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_1034_17_144() {
-    if (jj_3R_GrantStatement_4526_5_320()) return true;
+  private boolean jj_3R_StatementInternal_1046_17_154() {
+    if (jj_3R_SleepStatement_4897_5_346()) return true;
     return false;
   }
 
-  private boolean jj_3R_DropClassStatement_4111_11_307() {
+  private boolean jj_3R_DropClassStatement_4122_11_327() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3_45() {
-    if (jj_3R_AlterClusterStatement_4387_9_115()) return true;
+  private boolean jj_3R_StatementInternal_1044_17_153() {
+    if (jj_3R_ReturnStatement_4861_5_345()) return true;
     return false;
   }
 
-  private boolean jj_3R_DropClassStatement_4110_11_306() {
+  private boolean jj_3R_DropClassStatement_4121_11_326() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_1032_17_143() {
-    if (jj_3R_OptimizeDatabaseStatement_4443_5_319()) return true;
+  private boolean jj_3R_StatementInternal_1042_17_152() {
+    if (jj_3R_RollbackStatement_4852_5_344()) return true;
     return false;
   }
 
-  private boolean jj_3R_DropClassStatement_4108_11_305() {
-    if (jj_3R_InputParameter_1864_5_176()) return true;
+  private boolean jj_3R_DropClassStatement_4119_11_325() {
+    if (jj_3R_InputParameter_1867_5_180()) return true;
     return false;
   }
 
-  private boolean jj_3_47() {
-    if (jj_3R_AlterDatabaseStatement_4413_9_117()) return true;
+  private boolean jj_3R_StatementInternal_1040_17_151() {
+    if (jj_3R_CommitStatement_4820_5_343()) return true;
     return false;
   }
 
-  private boolean jj_3R_DropClassStatement_4106_11_304() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_DropClassStatement_4117_11_324() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3_46() {
-    if (jj_3R_DropClusterStatement_4400_9_116()) return true;
+  private boolean jj_3R_StatementInternal_1038_17_150() {
+    if (jj_3R_BeginStatement_4810_5_342()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_4081_33_514() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_AlterClassStatement_4092_33_534() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3_43() {
-    if (jj_3R_DropPropertyStatement_4202_9_113()) return true;
+  private boolean jj_3R_StatementInternal_1036_17_149() {
+    if (jj_3R_RevokeStatement_4559_5_341()) return true;
     return false;
   }
 
-  private boolean jj_3R_DropClassStatement_4104_9_110() {
+  private boolean jj_3R_DropClassStatement_4115_9_114() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(CLASS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_DropClassStatement_4106_11_304()) {
+    if (jj_3R_DropClassStatement_4117_11_324()) {
       jj_scanpos = xsp;
-      if (jj_3R_DropClassStatement_4108_11_305()) return true;
+      if (jj_3R_DropClassStatement_4119_11_325()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_DropClassStatement_4110_11_306()) jj_scanpos = xsp;
+    if (jj_3R_DropClassStatement_4121_11_326()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_DropClassStatement_4111_11_307()) jj_scanpos = xsp;
+    if (jj_3R_DropClassStatement_4122_11_327()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_1023_17_142() {
-    if (jj_3R_AlterClusterStatement_4387_9_115()) return true;
+  private boolean jj_3R_StatementInternal_1034_17_148() {
+    if (jj_3R_GrantStatement_4538_5_340()) return true;
     return false;
   }
 
-  private boolean jj_3_42() {
-    if (jj_3R_AlterPropertyStatement_4176_9_112()) return true;
+  private boolean jj_3_46() {
+    if (jj_3R_AlterClusterStatement_4399_9_119()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_4092_17_516() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_StatementInternal_1032_17_147() {
+    if (jj_3R_OptimizeDatabaseStatement_4455_5_339()) return true;
     return false;
   }
 
-  private boolean jj_3_44() {
-    if (jj_3R_DropIndexStatement_4354_5_114()) return true;
+  private boolean jj_3R_AlterClassStatement_4103_17_536() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3_41() {
-    if (jj_3R_DropViewStatement_4118_9_111()) return true;
+  private boolean jj_3R_AlterClassStatement_4107_11_323() {
+    if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_4096_11_303() {
-    if (jj_scan_token(UNSAFE)) return true;
+  private boolean jj_3R_AlterClassStatement_4101_17_535() {
+    if (jj_3R_Integer_823_1_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_4090_17_515() {
-    if (jj_3R_Integer_823_1_73()) return true;
+  private boolean jj_3_48() {
+    if (jj_3R_AlterDatabaseStatement_4425_9_121()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_1018_17_141() {
-    if (jj_3R_RebuildIndexStatement_4340_5_318()) return true;
+  private boolean jj_3R_AlterClassStatement_4083_33_533() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_4072_33_513() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3_47() {
+    if (jj_3R_DropClusterStatement_4412_9_120()) return true;
     return false;
   }
 
-  private boolean jj_3_40() {
-    if (jj_3R_DropClassStatement_4104_9_110()) return true;
+  private boolean jj_3_44() {
+    if (jj_3R_DropPropertyStatement_4213_9_117()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_1015_17_140() {
-    if (jj_3R_DropPropertyStatement_4202_9_113()) return true;
+  private boolean jj_3R_StatementInternal_1023_17_146() {
+    if (jj_3R_AlterClusterStatement_4399_9_119()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_1012_17_139() {
-    if (jj_3R_AlterPropertyStatement_4176_9_112()) return true;
+  private boolean jj_3_43() {
+    if (jj_3R_AlterPropertyStatement_4187_9_116()) return true;
     return false;
   }
 
-  private boolean jj_3_38() {
-    if (jj_3R_AlterClassStatement_3948_9_108()) return true;
+  private boolean jj_3R_AlterClassStatement_4076_33_532() {
+    if (jj_3R_String_566_5_627()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_4065_33_512() {
-    if (jj_3R_String_566_5_607()) return true;
+  private boolean jj_3_45() {
+    if (jj_3R_DropIndexStatement_4366_5_118()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_1009_17_138() {
-    if (jj_3R_DropViewStatement_4118_9_111()) return true;
+  private boolean jj_3_42() {
+    if (jj_3R_DropViewStatement_4129_9_115()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_4087_9_302() {
+  private boolean jj_3R_AlterClassStatement_4098_9_322() {
     if (jj_scan_token(DEFAULTCLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_AlterClassStatement_4090_17_515()) {
+    if (jj_3R_AlterClassStatement_4101_17_535()) {
       jj_scanpos = xsp;
-      if (jj_3R_AlterClassStatement_4092_17_516()) return true;
+      if (jj_3R_AlterClassStatement_4103_17_536()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_4063_33_511() {
+  private boolean jj_3R_AlterClassStatement_4074_33_531() {
     if (jj_scan_token(273)) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_4078_17_301() {
+  private boolean jj_3R_StatementInternal_1018_17_145() {
+    if (jj_3R_RebuildIndexStatement_4352_5_338()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_AlterClassStatement_4089_17_321() {
     if (jj_scan_token(ENCRYPTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_AlterClassStatement_4081_33_514()) {
+    if (jj_3R_AlterClassStatement_4092_33_534()) {
       jj_scanpos = xsp;
       if (jj_scan_token(37)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_1006_17_137() {
-    if (jj_3R_DropClassStatement_4104_9_110()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_AlterClassStatement_4061_33_510() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_AlterClassStatement_4072_33_530() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3_36() {
-    if (jj_3R_TruncateRecordStatement_3842_9_106()) return true;
+  private boolean jj_3_41() {
+    if (jj_3R_DropClassStatement_4115_9_114()) return true;
     return false;
   }
 
-  private boolean jj_3_39() {
-    if (jj_3R_DropSequenceStatement_4999_5_109()) return true;
+  private boolean jj_3R_StatementInternal_1015_17_144() {
+    if (jj_3R_DropPropertyStatement_4213_9_117()) return true;
     return false;
   }
 
-  private boolean jj_3_35() {
-    if (jj_3R_TruncateClusterStatement_3829_9_105()) return true;
+  private boolean jj_3R_StatementInternal_1012_17_143() {
+    if (jj_3R_AlterPropertyStatement_4187_9_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_1000_17_136() {
-    if (jj_3R_AlterClassStatement_3948_9_108()) return true;
+  private boolean jj_3_39() {
+    if (jj_3R_AlterClassStatement_3959_9_112()) return true;
     return false;
   }
 
-  private boolean jj_3_34() {
-    if (jj_3R_TruncateClassStatement_3819_9_104()) return true;
+  private boolean jj_3R_StatementInternal_1009_17_142() {
+    if (jj_3R_DropViewStatement_4129_9_115()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_4069_17_300() {
+  private boolean jj_3R_AlterClassStatement_4080_17_320() {
     if (jj_scan_token(DESCRIPTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_AlterClassStatement_4072_33_513()) {
+    if (jj_3R_AlterClassStatement_4083_33_533()) {
       jj_scanpos = xsp;
       if (jj_scan_token(37)) return true;
     }
     return false;
   }
 
-  private boolean jj_3_37() {
-    if (jj_3R_AlterSequenceStatement_4958_5_107()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_AlterClassStatement_4052_33_509() {
+  private boolean jj_3R_AlterClassStatement_4063_33_529() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3_33() {
-    if (jj_3R_ProfileStorageStatement_3807_9_103()) return true;
+  private boolean jj_3R_StatementInternal_1006_17_141() {
+    if (jj_3R_DropClassStatement_4115_9_114()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_994_17_135() {
-    if (jj_3R_TruncateRecordStatement_3842_9_106()) return true;
+  private boolean jj_3_37() {
+    if (jj_3R_TruncateRecordStatement_3853_9_110()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_4048_33_508() {
+  private boolean jj_3R_AlterClassStatement_4059_33_528() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_991_17_134() {
-    if (jj_3R_TruncateClusterStatement_3829_9_105()) return true;
+  private boolean jj_3_40() {
+    if (jj_3R_DropSequenceStatement_5011_5_113()) return true;
     return false;
   }
 
-  private boolean jj_3_32() {
-    if (jj_3R_UpdateStatement_1494_5_102()) return true;
+  private boolean jj_3_36() {
+    if (jj_3R_TruncateClusterStatement_3840_9_109()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_988_17_133() {
-    if (jj_3R_TruncateClassStatement_3819_9_104()) return true;
+  private boolean jj_3R_StatementInternal_1000_17_140() {
+    if (jj_3R_AlterClassStatement_3959_9_112()) return true;
     return false;
   }
 
-  private boolean jj_3_31() {
-    if (jj_3R_UpdateEdgeStatement_1459_3_101()) return true;
+  private boolean jj_3_35() {
+    if (jj_3R_TruncateClassStatement_3822_9_108()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_4058_17_299() {
+  private boolean jj_3R_AlterClassStatement_4069_17_319() {
     if (jj_scan_token(CLUSTERSELECTION)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_AlterClassStatement_4061_33_510()) {
+    if (jj_3R_AlterClassStatement_4072_33_530()) {
       jj_scanpos = xsp;
-      if (jj_3R_AlterClassStatement_4063_33_511()) {
+      if (jj_3R_AlterClassStatement_4074_33_531()) {
         jj_scanpos = xsp;
-        if (jj_3R_AlterClassStatement_4065_33_512()) return true;
+        if (jj_3R_AlterClassStatement_4076_33_532()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_985_17_132() {
-    if (jj_3R_ProfileStorageStatement_3807_9_103()) return true;
+  private boolean jj_3_38() {
+    if (jj_3R_AlterSequenceStatement_4970_5_111()) return true;
     return false;
   }
 
-  private boolean jj_3_30() {
-    if (jj_3R_CreateEdgeStatement_1840_1_100()) return true;
+  private boolean jj_3_34() {
+    if (jj_3R_ProfileStorageStatement_3810_9_107()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_983_17_131() {
-    if (jj_3R_MoveVertexStatement_1816_3_317()) return true;
+  private boolean jj_3R_StatementInternal_994_17_139() {
+    if (jj_3R_TruncateRecordStatement_3853_9_110()) return true;
     return false;
   }
 
-  private boolean jj_3_29() {
-    if (jj_3R_CreateVertexStatementEmptyNoTarget_1773_9_99()) return true;
+  private boolean jj_3R_StatementInternal_991_17_138() {
+    if (jj_3R_TruncateClusterStatement_3840_9_109()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_980_17_130() {
-    if (jj_3R_UpdateStatement_1494_5_102()) return true;
+  private boolean jj_3_33() {
+    if (jj_3R_UpdateStatement_1497_5_106()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_4034_33_507() {
+  private boolean jj_3R_AlterClassStatement_4045_33_527() {
     if (jj_3R_Integer_823_1_73()) return true;
     return false;
   }
 
-  private boolean jj_3_28() {
-    if (jj_3R_CreateVertexStatement_1781_1_98()) return true;
+  private boolean jj_3R_StatementInternal_988_17_137() {
+    if (jj_3R_TruncateClassStatement_3822_9_108()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_977_17_129() {
-    if (jj_3R_UpdateEdgeStatement_1459_3_101()) return true;
+  private boolean jj_3R_AlterClassStatement_4043_33_526() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_4032_33_506() {
-    if (jj_3R_Identifier_581_1_171()) return true;
-    return false;
-  }
-
-  private boolean jj_3_27() {
-    if (jj_3R_CreateVertexStatementNoTarget_1806_1_97()) return true;
+  private boolean jj_3_32() {
+    if (jj_3R_UpdateEdgeStatement_1462_3_105()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_974_17_128() {
-    if (jj_3R_CreateEdgeStatement_1840_1_100()) return true;
+  private boolean jj_3R_StatementInternal_985_17_136() {
+    if (jj_3R_ProfileStorageStatement_3810_9_107()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_4045_17_298() {
+  private boolean jj_3R_AlterClassStatement_4056_17_318() {
     if (jj_scan_token(ABSTRACT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_AlterClassStatement_4048_33_508()) {
+    if (jj_3R_AlterClassStatement_4059_33_528()) {
       jj_scanpos = xsp;
-      if (jj_3R_AlterClassStatement_4052_33_509()) return true;
+      if (jj_3R_AlterClassStatement_4063_33_529()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_971_17_127() {
-    if (jj_3R_CreateVertexStatementEmptyNoTarget_1773_9_99()) return true;
+  private boolean jj_3_31() {
+    if (jj_3R_CreateEdgeStatement_1843_1_104()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_StatementInternal_983_17_135() {
+    if (jj_3R_MoveVertexStatement_1819_3_337()) return true;
+    return false;
+  }
+
+  private boolean jj_3_30() {
+    if (jj_3R_CreateVertexStatementEmptyNoTarget_1776_9_103()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_4025_33_505() {
+  private boolean jj_3R_AlterClassStatement_4036_33_525() {
     if (jj_3R_Integer_823_1_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_968_17_126() {
-    if (jj_3R_CreateVertexStatement_1781_1_98()) return true;
+  private boolean jj_3R_StatementInternal_980_17_134() {
+    if (jj_3R_UpdateStatement_1497_5_106()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_AlterClassStatement_4034_33_524() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_4023_33_504() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3_29() {
+    if (jj_3R_CreateVertexStatement_1784_1_102()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_4038_17_297() {
+  private boolean jj_3R_AlterClassStatement_4049_17_317() {
     if (jj_scan_token(CUSTOM)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     if (jj_scan_token(EQ)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_965_17_125() {
-    if (jj_3R_CreateVertexStatementNoTarget_1806_1_97()) return true;
+  private boolean jj_3R_StatementInternal_977_17_133() {
+    if (jj_3R_UpdateEdgeStatement_1462_3_105()) return true;
     return false;
   }
 
-  private boolean jj_3_26() {
-    if (jj_3R_CreateSequenceStatement_4908_5_96()) return true;
+  private boolean jj_3_28() {
+    if (jj_3R_CreateVertexStatementNoTarget_1809_1_101()) return true;
     return false;
   }
 
-  private boolean jj_3_25() {
-    if (jj_3R_AlterSecurityPolicyStatement_5244_3_95()) return true;
+  private boolean jj_3R_StatementInternal_974_17_132() {
+    if (jj_3R_CreateEdgeStatement_1843_1_104()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_StatementInternal_971_17_131() {
+    if (jj_3R_CreateVertexStatementEmptyNoTarget_1776_9_103()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_4014_33_503() {
+  private boolean jj_3R_AlterClassStatement_4025_33_523() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_4029_17_296() {
+  private boolean jj_3R_AlterClassStatement_4040_17_316() {
     if (jj_scan_token(REMOVECLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_AlterClassStatement_4032_33_506()) {
+    if (jj_3R_AlterClassStatement_4043_33_526()) {
       jj_scanpos = xsp;
-      if (jj_3R_AlterClassStatement_4034_33_507()) return true;
+      if (jj_3R_AlterClassStatement_4045_33_527()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_24() {
-    if (jj_3R_CreateSecurityPolicyStatement_5201_3_94()) return true;
+  private boolean jj_3R_StatementInternal_968_17_130() {
+    if (jj_3R_CreateVertexStatement_1784_1_102()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_4010_33_502() {
+  private boolean jj_3R_AlterClassStatement_4021_33_522() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_3993_49_643() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_StatementInternal_965_17_129() {
+    if (jj_3R_CreateVertexStatementNoTarget_1809_1_101()) return true;
     return false;
   }
 
-  private boolean jj_3_23() {
-    if (jj_3R_AlterRoleStatement_4724_3_93()) return true;
+  private boolean jj_3R_AlterClassStatement_4004_49_663() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3_22() {
-    if (jj_3R_DropUserStatement_4711_5_92()) return true;
+  private boolean jj_3_27() {
+    if (jj_3R_CreateSequenceStatement_4920_5_100()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_4020_17_295() {
+  private boolean jj_3R_AlterClassStatement_4031_17_315() {
     if (jj_scan_token(ADDCLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_AlterClassStatement_4023_33_504()) {
+    if (jj_3R_AlterClassStatement_4034_33_524()) {
       jj_scanpos = xsp;
-      if (jj_3R_AlterClassStatement_4025_33_505()) return true;
+      if (jj_3R_AlterClassStatement_4036_33_525()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_21() {
-    if (jj_3R_CreateUserStatement_4669_5_91()) return true;
+  private boolean jj_3_26() {
+    if (jj_3R_AlterSecurityPolicyStatement_5256_3_99()) return true;
     return false;
   }
 
-  private boolean jj_3_20() {
-    if (jj_3R_CreateFunctionStatement_4568_5_90()) return true;
+  private boolean jj_3_25() {
+    if (jj_3R_CreateSecurityPolicyStatement_5213_3_98()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_3998_33_500() {
+  private boolean jj_3R_AlterClassStatement_4009_33_520() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3_19() {
-    if (jj_3R_CreateLinkStatement_4455_5_89()) return true;
+  private boolean jj_3_24() {
+    if (jj_3R_AlterRoleStatement_4736_3_97()) return true;
     return false;
   }
 
-  private boolean jj_3_18() {
-    if (jj_3R_CreateClusterStatement_4370_5_88()) return true;
+  private boolean jj_3_23() {
+    if (jj_3R_DropUserStatement_4723_5_96()) return true;
+    return false;
+  }
+
+  private boolean jj_3_22() {
+    if (jj_3R_CreateUserStatement_4681_5_95()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_4007_17_294() {
+  private boolean jj_3R_AlterClassStatement_4018_17_314() {
     if (jj_scan_token(STRICTMODE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_AlterClassStatement_4010_33_502()) {
+    if (jj_3R_AlterClassStatement_4021_33_522()) {
       jj_scanpos = xsp;
-      if (jj_3R_AlterClassStatement_4014_33_503()) return true;
+      if (jj_3R_AlterClassStatement_4025_33_523()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_17() {
-    if (jj_3R_CreateIndexStatement_4218_9_87()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_AlterClassStatement_3990_33_499() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_AlterClassStatement_4001_33_519() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_AlterClassStatement_3993_49_643()) {
+      if (jj_3R_AlterClassStatement_4004_49_663()) {
         jj_scanpos = xsp;
         break;
       }
@@ -36779,228 +36274,261 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_16() {
-    if (jj_3R_CreatePropertyStatement_4134_9_86()) return true;
+  private boolean jj_3_21() {
+    if (jj_3R_CreateFunctionStatement_4580_5_94()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_4002_17_293() {
+  private boolean jj_3R_AlterClassStatement_4013_17_313() {
     if (jj_scan_token(OVERSIZE)) return true;
-    if (jj_3R_Number_847_5_501()) return true;
+    if (jj_3R_Number_847_5_521()) return true;
     return false;
   }
 
-  private boolean jj_3_15() {
-    if (jj_3R_CreateViewStatement_3928_9_85()) return true;
+  private boolean jj_3_20() {
+    if (jj_3R_CreateLinkStatement_4467_5_93()) return true;
     return false;
   }
 
-  private boolean jj_3_14() {
-    if (jj_3R_CreateClassStatement_3901_9_84()) return true;
+  private boolean jj_3_19() {
+    if (jj_3R_CreateClusterStatement_4382_5_92()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_3980_33_498() {
+  private boolean jj_3R_AlterClassStatement_3991_33_518() {
     if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_924_17_124() {
-    if (jj_3R_InsertStatement_1637_1_316()) return true;
+  private boolean jj_3_18() {
+    if (jj_3R_CreateIndexStatement_4229_9_91()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_3978_33_497() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_AlterClassStatement_3989_33_517() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3_13() {
-    if (jj_3R_DeleteEdgeStatement_1310_5_83()) return true;
+  private boolean jj_3_17() {
+    if (jj_3R_CreatePropertyStatement_4145_9_90()) return true;
     return false;
   }
 
-  private boolean jj_3_12() {
-    if (jj_3R_DeleteVertexStatement_1295_1_82()) return true;
+  private boolean jj_3_16() {
+    if (jj_3R_CreateViewStatement_3939_9_89()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_3973_33_642() {
+  private boolean jj_3R_AlterClassStatement_3984_33_662() {
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3_11() {
-    if (jj_3R_DeleteStatement_1281_1_81()) return true;
+  private boolean jj_3_15() {
+    if (jj_3R_CreateClassStatement_3912_9_88()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_3969_33_496() {
+  private boolean jj_3R_AlterClassStatement_3980_33_516() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_AlterClassStatement_3969_33_641()) {
+    if (jj_3R_AlterClassStatement_3980_33_661()) {
       jj_scanpos = xsp;
-      if (jj_3R_AlterClassStatement_3973_33_642()) return true;
+      if (jj_3R_AlterClassStatement_3984_33_662()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_3969_33_641() {
+  private boolean jj_3R_AlterClassStatement_3980_33_661() {
     if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_913_17_123() {
-    if (jj_3R_QueryStatement_1096_5_205()) return true;
+  private boolean jj_3R_StatementInternal_924_17_128() {
+    if (jj_3R_InsertStatement_1640_1_336()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_3984_17_292() {
+  private boolean jj_3R_AlterClassStatement_3995_17_312() {
     if (jj_scan_token(SUPERCLASSES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_AlterClassStatement_3990_33_499()) {
+    if (jj_3R_AlterClassStatement_4001_33_519()) {
       jj_scanpos = xsp;
-      if (jj_3R_AlterClassStatement_3998_33_500()) return true;
+      if (jj_3R_AlterClassStatement_4009_33_520()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_3960_33_495() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3_14() {
+    if (jj_3R_DeleteEdgeStatement_1313_5_87()) return true;
     return false;
   }
 
-  private boolean jj_3_53() {
+  private boolean jj_3_13() {
+    if (jj_3R_DeleteVertexStatement_1298_1_86()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_AlterClassStatement_3971_33_515() {
+    if (jj_3R_Identifier_581_1_175()) return true;
+    return false;
+  }
+
+  private boolean jj_3_12() {
+    if (jj_3R_DeleteStatement_1284_1_85()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_StatementInternal_913_17_127() {
+    if (jj_3R_QueryStatement_1099_5_209()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_AlterClassStatement_3977_17_311() {
+    if (jj_scan_token(SUPERCLASS)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_AlterClassStatement_3980_33_516()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_AlterClassStatement_3989_33_517()) {
+      jj_scanpos = xsp;
+      if (jj_3R_AlterClassStatement_3991_33_518()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3_54() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_StatementInternal_913_17_123()) {
+    if (jj_3R_StatementInternal_913_17_127()) {
       jj_scanpos = xsp;
-      if (jj_3_11()) {
+      if (jj_3_12()) {
         jj_scanpos = xsp;
-        if (jj_3_12()) {
+        if (jj_3_13()) {
           jj_scanpos = xsp;
-          if (jj_3_13()) {
+          if (jj_3_14()) {
             jj_scanpos = xsp;
-            if (jj_3R_StatementInternal_924_17_124()) {
+            if (jj_3R_StatementInternal_924_17_128()) {
               jj_scanpos = xsp;
-              if (jj_3_14()) {
+              if (jj_3_15()) {
                 jj_scanpos = xsp;
-                if (jj_3_15()) {
+                if (jj_3_16()) {
                   jj_scanpos = xsp;
-                  if (jj_3_16()) {
+                  if (jj_3_17()) {
                     jj_scanpos = xsp;
-                    if (jj_3_17()) {
+                    if (jj_3_18()) {
                       jj_scanpos = xsp;
-                      if (jj_3_18()) {
+                      if (jj_3_19()) {
                         jj_scanpos = xsp;
-                        if (jj_3_19()) {
+                        if (jj_3_20()) {
                           jj_scanpos = xsp;
-                          if (jj_3_20()) {
+                          if (jj_3_21()) {
                             jj_scanpos = xsp;
-                            if (jj_3_21()) {
+                            if (jj_3_22()) {
                               jj_scanpos = xsp;
-                              if (jj_3_22()) {
+                              if (jj_3_23()) {
                                 jj_scanpos = xsp;
-                                if (jj_3_23()) {
+                                if (jj_3_24()) {
                                   jj_scanpos = xsp;
-                                  if (jj_3_24()) {
+                                  if (jj_3_25()) {
                                     jj_scanpos = xsp;
-                                    if (jj_3_25()) {
+                                    if (jj_3_26()) {
                                       jj_scanpos = xsp;
-                                      if (jj_3_26()) {
+                                      if (jj_3_27()) {
                                         jj_scanpos = xsp;
-                                        if (jj_3R_StatementInternal_965_17_125()) {
+                                        if (jj_3R_StatementInternal_965_17_129()) {
                                           jj_scanpos = xsp;
-                                          if (jj_3R_StatementInternal_968_17_126()) {
+                                          if (jj_3R_StatementInternal_968_17_130()) {
                                             jj_scanpos = xsp;
-                                            if (jj_3R_StatementInternal_971_17_127()) {
+                                            if (jj_3R_StatementInternal_971_17_131()) {
                                               jj_scanpos = xsp;
-                                              if (jj_3R_StatementInternal_974_17_128()) {
+                                              if (jj_3R_StatementInternal_974_17_132()) {
                                                 jj_scanpos = xsp;
-                                                if (jj_3R_StatementInternal_977_17_129()) {
+                                                if (jj_3R_StatementInternal_977_17_133()) {
                                                   jj_scanpos = xsp;
-                                                  if (jj_3R_StatementInternal_980_17_130()) {
+                                                  if (jj_3R_StatementInternal_980_17_134()) {
                                                     jj_scanpos = xsp;
-                                                    if (jj_3R_StatementInternal_983_17_131()) {
+                                                    if (jj_3R_StatementInternal_983_17_135()) {
                                                       jj_scanpos = xsp;
-                                                      if (jj_3R_StatementInternal_985_17_132()) {
+                                                      if (jj_3R_StatementInternal_985_17_136()) {
                                                         jj_scanpos = xsp;
-                                                        if (jj_3R_StatementInternal_988_17_133()) {
+                                                        if (jj_3R_StatementInternal_988_17_137()) {
                                                           jj_scanpos = xsp;
-                                                          if (jj_3R_StatementInternal_991_17_134()) {
+                                                          if (jj_3R_StatementInternal_991_17_138()) {
                                                             jj_scanpos = xsp;
-                                                            if (jj_3R_StatementInternal_994_17_135()) {
+                                                            if (jj_3R_StatementInternal_994_17_139()) {
                                                               jj_scanpos = xsp;
-                                                              if (jj_3_37()) {
+                                                              if (jj_3_38()) {
                                                                 jj_scanpos = xsp;
-                                                                if (jj_3R_StatementInternal_1000_17_136()) {
+                                                                if (jj_3R_StatementInternal_1000_17_140()) {
                                                                   jj_scanpos = xsp;
-                                                                  if (jj_3_39()) {
+                                                                  if (jj_3_40()) {
                                                                     jj_scanpos = xsp;
-                                                                    if (jj_3R_StatementInternal_1006_17_137()) {
+                                                                    if (jj_3R_StatementInternal_1006_17_141()) {
                                                                       jj_scanpos = xsp;
-                                                                      if (jj_3R_StatementInternal_1009_17_138()) {
+                                                                      if (jj_3R_StatementInternal_1009_17_142()) {
                                                                         jj_scanpos = xsp;
-                                                                        if (jj_3R_StatementInternal_1012_17_139()) {
+                                                                        if (jj_3R_StatementInternal_1012_17_143()) {
                                                                           jj_scanpos = xsp;
-                                                                          if (jj_3R_StatementInternal_1015_17_140()) {
+                                                                          if (jj_3R_StatementInternal_1015_17_144()) {
                                                                             jj_scanpos = xsp;
-                                                                            if (jj_3R_StatementInternal_1018_17_141()) {
+                                                                            if (jj_3R_StatementInternal_1018_17_145()) {
                                                                               jj_scanpos = xsp;
-                                                                              if (jj_3_44()) {
+                                                                              if (jj_3_45()) {
                                                                                 jj_scanpos = xsp;
-                                                                                if (jj_3R_StatementInternal_1023_17_142()) {
+                                                                                if (jj_3R_StatementInternal_1023_17_146()) {
                                                                                   jj_scanpos = xsp;
-                                                                                  if (jj_3_46()) {
+                                                                                  if (jj_3_47()) {
                                                                                     jj_scanpos =
                                                                                         xsp;
-                                                                                    if (jj_3_47()) {
+                                                                                    if (jj_3_48()) {
                                                                                       jj_scanpos =
                                                                                           xsp;
-                                                                                      if (jj_3R_StatementInternal_1032_17_143()) {
+                                                                                      if (jj_3R_StatementInternal_1032_17_147()) {
                                                                                         jj_scanpos =
                                                                                             xsp;
-                                                                                        if (jj_3R_StatementInternal_1034_17_144()) {
+                                                                                        if (jj_3R_StatementInternal_1034_17_148()) {
                                                                                           jj_scanpos =
                                                                                               xsp;
-                                                                                          if (jj_3R_StatementInternal_1036_17_145()) {
+                                                                                          if (jj_3R_StatementInternal_1036_17_149()) {
                                                                                             jj_scanpos =
                                                                                                 xsp;
-                                                                                            if (jj_3R_StatementInternal_1038_17_146()) {
+                                                                                            if (jj_3R_StatementInternal_1038_17_150()) {
                                                                                               jj_scanpos =
                                                                                                   xsp;
-                                                                                              if (jj_3R_StatementInternal_1040_17_147()) {
+                                                                                              if (jj_3R_StatementInternal_1040_17_151()) {
                                                                                                 jj_scanpos =
                                                                                                     xsp;
-                                                                                                if (jj_3R_StatementInternal_1042_17_148()) {
+                                                                                                if (jj_3R_StatementInternal_1042_17_152()) {
                                                                                                   jj_scanpos =
                                                                                                       xsp;
-                                                                                                  if (jj_3R_StatementInternal_1044_17_149()) {
+                                                                                                  if (jj_3R_StatementInternal_1044_17_153()) {
                                                                                                     jj_scanpos =
                                                                                                         xsp;
-                                                                                                    if (jj_3R_StatementInternal_1046_17_150()) {
+                                                                                                    if (jj_3R_StatementInternal_1046_17_154()) {
                                                                                                       jj_scanpos =
                                                                                                           xsp;
-                                                                                                      if (jj_3R_StatementInternal_1048_17_151()) {
+                                                                                                      if (jj_3R_StatementInternal_1048_17_155()) {
                                                                                                         jj_scanpos =
                                                                                                             xsp;
-                                                                                                        if (jj_3R_StatementInternal_1050_17_152()) {
+                                                                                                        if (jj_3R_StatementInternal_1050_17_156()) {
                                                                                                           jj_scanpos =
                                                                                                               xsp;
-                                                                                                          if (jj_3R_StatementInternal_1052_17_153()) {
+                                                                                                          if (jj_3R_StatementInternal_1052_17_157()) {
                                                                                                             jj_scanpos =
                                                                                                                 xsp;
-                                                                                                            if (jj_3R_StatementInternal_1055_17_154()) {
+                                                                                                            if (jj_3R_StatementInternal_1055_17_158()) {
                                                                                                               jj_scanpos =
                                                                                                                   xsp;
-                                                                                                              if (jj_3R_StatementInternal_1058_17_155()) {
+                                                                                                              if (jj_3R_StatementInternal_1058_17_159()) {
                                                                                                                 jj_scanpos =
                                                                                                                     xsp;
-                                                                                                                if (jj_3R_StatementInternal_1061_17_156()) {
+                                                                                                                if (jj_3R_StatementInternal_1061_17_160()) {
                                                                                                                   jj_scanpos =
                                                                                                                       xsp;
-                                                                                                                  if (jj_3R_StatementInternal_1064_17_157())
+                                                                                                                  if (jj_3R_StatementInternal_1064_17_161())
                                                                                                                     return true;
                                                                                                                 }
                                                                                                               }
@@ -37060,119 +36588,105 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_10() {
-    if (jj_3R_StatementInternal_909_5_80()) return true;
+  private boolean jj_3_11() {
+    if (jj_3R_StatementInternal_909_5_84()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementInternal_909_5_80() {
+  private boolean jj_3R_StatementInternal_909_5_84() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_53()) {
+    if (jj_3_54()) {
       jj_scanpos = xsp;
-      if (jj_3R_StatementInternal_1069_9_246()) {
+      if (jj_3R_StatementInternal_1069_9_265()) {
         jj_scanpos = xsp;
-        if (jj_3R_StatementInternal_1071_9_247()) {
+        if (jj_3R_StatementInternal_1071_9_266()) {
           jj_scanpos = xsp;
-          if (jj_3R_StatementInternal_1074_9_248()) return true;
+          if (jj_3R_StatementInternal_1074_9_267()) {
+            jj_scanpos = xsp;
+            jj_lookingAhead = true;
+            jj_semLA =
+                getToken(1).kind == IDENTIFIER && getToken(1).image.equalsIgnoreCase("analyze");
+            jj_lookingAhead = false;
+            if (!jj_semLA || jj_3R_StatementInternal_1076_9_268()) return true;
+          }
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_3966_17_291() {
-    if (jj_scan_token(SUPERCLASS)) return true;
+  private boolean jj_3R_AlterClassStatement_3968_17_310() {
+    if (jj_scan_token(SHORTNAME)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_AlterClassStatement_3969_33_496()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_AlterClassStatement_3978_33_497()) {
+    if (jj_3R_AlterClassStatement_3971_33_515()) {
       jj_scanpos = xsp;
-      if (jj_3R_AlterClassStatement_3980_33_498()) return true;
+      if (jj_scan_token(37)) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_StatementSemicolon_898_9_244() {
-    if (jj_3R_ExpressionStatement_1085_5_465()) return true;
+  private boolean jj_3R_AlterClassStatement_3963_17_309() {
+    if (jj_scan_token(NAME)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementSemicolon_895_9_243() {
-    if (jj_3R_StatementInternal_909_5_80()) return true;
+  private boolean jj_3R_StatementSemicolon_898_9_263() {
+    if (jj_3R_ExpressionStatement_1088_5_484()) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_3957_17_290() {
-    if (jj_scan_token(SHORTNAME)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_AlterClassStatement_3960_33_495()) {
-      jj_scanpos = xsp;
-      if (jj_scan_token(37)) return true;
-    }
+  private boolean jj_3R_StatementSemicolon_895_9_262() {
+    if (jj_3R_StatementInternal_909_5_84()) return true;
     return false;
   }
 
-  private boolean jj_3R_StatementSemicolon_894_5_74() {
+  private boolean jj_3R_StatementSemicolon_894_5_78() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_StatementSemicolon_895_9_243()) {
+    if (jj_3R_StatementSemicolon_895_9_262()) {
       jj_scanpos = xsp;
-      if (jj_3R_StatementSemicolon_898_9_244()) return true;
+      if (jj_3R_StatementSemicolon_898_9_263()) return true;
     }
     if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_AlterClassStatement_3952_17_289() {
-    if (jj_scan_token(NAME)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_Statement_886_5_241() {
-    if (jj_3R_StatementInternal_909_5_80()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(198)) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_AlterClassStatement_3948_9_108() {
+  private boolean jj_3R_AlterClassStatement_3959_9_112() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_AlterClassStatement_3952_17_289()) {
+    if (jj_3R_AlterClassStatement_3963_17_309()) {
       jj_scanpos = xsp;
-      if (jj_3R_AlterClassStatement_3957_17_290()) {
+      if (jj_3R_AlterClassStatement_3968_17_310()) {
         jj_scanpos = xsp;
-        if (jj_3R_AlterClassStatement_3966_17_291()) {
+        if (jj_3R_AlterClassStatement_3977_17_311()) {
           jj_scanpos = xsp;
-          if (jj_3R_AlterClassStatement_3984_17_292()) {
+          if (jj_3R_AlterClassStatement_3995_17_312()) {
             jj_scanpos = xsp;
-            if (jj_3R_AlterClassStatement_4002_17_293()) {
+            if (jj_3R_AlterClassStatement_4013_17_313()) {
               jj_scanpos = xsp;
-              if (jj_3R_AlterClassStatement_4007_17_294()) {
+              if (jj_3R_AlterClassStatement_4018_17_314()) {
                 jj_scanpos = xsp;
-                if (jj_3R_AlterClassStatement_4020_17_295()) {
+                if (jj_3R_AlterClassStatement_4031_17_315()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_AlterClassStatement_4029_17_296()) {
+                  if (jj_3R_AlterClassStatement_4040_17_316()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_AlterClassStatement_4038_17_297()) {
+                    if (jj_3R_AlterClassStatement_4049_17_317()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_AlterClassStatement_4045_17_298()) {
+                      if (jj_3R_AlterClassStatement_4056_17_318()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_AlterClassStatement_4058_17_299()) {
+                        if (jj_3R_AlterClassStatement_4069_17_319()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_AlterClassStatement_4069_17_300()) {
+                          if (jj_3R_AlterClassStatement_4080_17_320()) {
                             jj_scanpos = xsp;
-                            if (jj_3R_AlterClassStatement_4078_17_301()) {
+                            if (jj_3R_AlterClassStatement_4089_17_321()) {
                               jj_scanpos = xsp;
-                              if (jj_3R_AlterClassStatement_4087_9_302()) return true;
+                              if (jj_3R_AlterClassStatement_4098_9_322()) return true;
                             }
                           }
                         }
@@ -37187,77 +36701,65 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_AlterClassStatement_4096_11_303()) jj_scanpos = xsp;
+    if (jj_3R_AlterClassStatement_4107_11_323()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_9() {
-    if (jj_3R_ExistsSystemUserStatement_4651_5_79()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_CreateViewStatement_3933_19_719() {
+  private boolean jj_3R_CreateViewStatement_3944_19_739() {
     if (jj_scan_token(METADATA)) return true;
-    if (jj_3R_Json_3433_5_240()) return true;
+    if (jj_3R_Json_3436_5_244()) return true;
     return false;
   }
 
-  private boolean jj_3_8() {
-    if (jj_3R_AlterSystemRoleStatement_4753_3_78()) return true;
+  private boolean jj_3R_Statement_886_5_245() {
+    if (jj_3R_StatementInternal_909_5_84()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(198)) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_CreateViewStatement_3931_19_718() {
+  private boolean jj_3R_CreateViewStatement_3942_19_738() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3_7() {
-    if (jj_3R_CreateSystemUserStatement_4611_5_77()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_CreateClassStatement_3915_33_854() {
+  private boolean jj_3R_CreateClassStatement_3926_33_874() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_Integer_823_1_73()) return true;
     return false;
   }
 
-  private boolean jj_3_6() {
-    if (jj_3R_CreateDatabaseStatement_5368_3_76()) return true;
-    return false;
-  }
-
-  private boolean jj_3_5() {
-    if (jj_3R_FloatingPoint_838_5_75()) return true;
+  private boolean jj_3_10() {
+    if (jj_3R_ExistsSystemUserStatement_4663_5_83()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateClassStatement_3908_33_853() {
+  private boolean jj_3R_CreateClassStatement_3919_33_873() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3_4() {
-    if (jj_3R_Integer_823_1_73()) return true;
+  private boolean jj_3_9() {
+    if (jj_3R_AlterSystemRoleStatement_4765_3_82()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateClassStatement_3920_19_717() {
+  private boolean jj_3R_CreateClassStatement_3931_19_737() {
     if (jj_scan_token(ABSTRACT)) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateClassStatement_3913_25_715() {
+  private boolean jj_3R_CreateClassStatement_3924_25_735() {
     if (jj_scan_token(CLUSTER)) return true;
     if (jj_3R_Integer_823_1_73()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_CreateClassStatement_3915_33_854()) {
+      if (jj_3R_CreateClassStatement_3926_33_874()) {
         jj_scanpos = xsp;
         break;
       }
@@ -37265,40 +36767,50 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_CreateClassStatement_3919_19_716() {
+  private boolean jj_3R_CreateClassStatement_3930_19_736() {
     if (jj_scan_token(CLUSTERS)) return true;
     if (jj_3R_Integer_823_1_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateViewStatement_3928_9_85() {
+  private boolean jj_3_8() {
+    if (jj_3R_CreateSystemUserStatement_4623_5_81()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_CreateViewStatement_3939_9_89() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(VIEW)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CreateViewStatement_3931_19_718()) jj_scanpos = xsp;
+    if (jj_3R_CreateViewStatement_3942_19_738()) jj_scanpos = xsp;
     if (jj_scan_token(FROM)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_QueryStatement_1096_5_205()) return true;
+    if (jj_3R_QueryStatement_1099_5_209()) return true;
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_CreateViewStatement_3933_19_719()) jj_scanpos = xsp;
+    if (jj_3R_CreateViewStatement_3944_19_739()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3_7() {
+    if (jj_3R_CreateDatabaseStatement_5380_3_80()) return true;
     return false;
   }
 
-  private boolean jj_3R_Number_851_9_645() {
-    if (jj_3R_FloatingPoint_838_5_75()) return true;
+  private boolean jj_3_6() {
+    if (jj_3R_FloatingPoint_838_5_79()) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateClassStatement_3906_25_714() {
+  private boolean jj_3R_CreateClassStatement_3917_25_734() {
     if (jj_scan_token(EXTENDS)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_CreateClassStatement_3908_33_853()) {
+      if (jj_3R_CreateClassStatement_3919_33_873()) {
         jj_scanpos = xsp;
         break;
       }
@@ -37306,120 +36818,122 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_Number_848_9_644() {
+  private boolean jj_3_5() {
     if (jj_3R_Integer_823_1_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_Number_847_5_501() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_Number_848_9_644()) {
-      jj_scanpos = xsp;
-      if (jj_3R_Number_851_9_645()) return true;
-    }
-    return false;
-  }
-
-  private boolean jj_3R_CreateClassStatement_3904_19_713() {
+  private boolean jj_3R_CreateClassStatement_3915_19_733() {
     if (jj_scan_token(IF)) return true;
     if (jj_scan_token(NOT)) return true;
     if (jj_scan_token(EXISTS)) return true;
     return false;
   }
 
-  private boolean jj_3R_FloatingPoint_839_11_245() {
-    if (jj_scan_token(MINUS)) return true;
+  private boolean jj_3R_Number_851_9_665() {
+    if (jj_3R_FloatingPoint_838_5_79()) return true;
     return false;
   }
 
-  private boolean jj_3R_FindReferencesStatement_3887_33_660() {
-    if (jj_3R_Cluster_2530_5_173()) return true;
+  private boolean jj_3R_FindReferencesStatement_3898_33_680() {
+    if (jj_3R_Cluster_2533_5_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_FindReferencesStatement_3885_33_659() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_FindReferencesStatement_3896_33_679() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_FloatingPoint_838_5_75() {
+  private boolean jj_3R_Number_848_9_664() {
+    if (jj_3R_Integer_823_1_73()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_Number_847_5_521() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_FloatingPoint_839_11_245()) jj_scanpos = xsp;
-    if (jj_scan_token(FLOATING_POINT_LITERAL)) return true;
+    if (jj_3R_Number_848_9_664()) {
+      jj_scanpos = xsp;
+      if (jj_3R_Number_851_9_665()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_FloatingPoint_839_11_264() {
+    if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_CreateClassStatement_3901_9_84() {
+  private boolean jj_3R_CreateClassStatement_3912_9_88() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CreateClassStatement_3904_19_713()) jj_scanpos = xsp;
+    if (jj_3R_CreateClassStatement_3915_19_733()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CreateClassStatement_3906_25_714()) jj_scanpos = xsp;
+    if (jj_3R_CreateClassStatement_3917_25_734()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CreateClassStatement_3913_25_715()) jj_scanpos = xsp;
+    if (jj_3R_CreateClassStatement_3924_25_735()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CreateClassStatement_3919_19_716()) jj_scanpos = xsp;
+    if (jj_3R_CreateClassStatement_3930_19_736()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_CreateClassStatement_3920_19_717()) jj_scanpos = xsp;
+    if (jj_3R_CreateClassStatement_3931_19_737()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_Integer_824_7_242() {
-    if (jj_scan_token(MINUS)) return true;
+  private boolean jj_3R_FloatingPoint_838_5_79() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_FloatingPoint_839_11_264()) jj_scanpos = xsp;
+    if (jj_scan_token(FLOATING_POINT_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_FindReferencesStatement_3883_17_548() {
+  private boolean jj_3R_FindReferencesStatement_3894_17_568() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_FindReferencesStatement_3885_33_659()) {
+    if (jj_3R_FindReferencesStatement_3896_33_679()) {
       jj_scanpos = xsp;
-      if (jj_3R_FindReferencesStatement_3887_33_660()) return true;
+      if (jj_3R_FindReferencesStatement_3898_33_680()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_Integer_823_1_73() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_Integer_824_7_242()) jj_scanpos = xsp;
-    if (jj_scan_token(INTEGER_LITERAL)) return true;
+  private boolean jj_3R_FindReferencesStatement_3891_13_567() {
+    if (jj_3R_Cluster_2533_5_177()) return true;
     return false;
   }
 
-  private boolean jj_3R_FindReferencesStatement_3880_13_547() {
-    if (jj_3R_Cluster_2530_5_173()) return true;
+  private boolean jj_3R_TruncateRecordStatement_3862_41_660() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_Rid_491_5_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_TruncateRecordStatement_3851_41_640() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_Rid_491_5_175()) return true;
+  private boolean jj_3R_Integer_824_7_258() {
+    if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_FindReferencesStatement_3878_13_546() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_FindReferencesStatement_3889_13_566() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_FindReferencesStatement_3876_9_343() {
+  private boolean jj_3R_FindReferencesStatement_3887_9_362() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_FindReferencesStatement_3878_13_546()) {
+    if (jj_3R_FindReferencesStatement_3889_13_566()) {
       jj_scanpos = xsp;
-      if (jj_3R_FindReferencesStatement_3880_13_547()) return true;
+      if (jj_3R_FindReferencesStatement_3891_13_567()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_FindReferencesStatement_3883_17_548()) {
+      if (jj_3R_FindReferencesStatement_3894_17_568()) {
         jj_scanpos = xsp;
         break;
       }
@@ -37428,12 +36942,20 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_TruncateRecordStatement_3849_33_494() {
-    if (jj_3R_Rid_491_5_175()) return true;
+  private boolean jj_3R_Integer_823_1_73() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_Integer_824_7_258()) jj_scanpos = xsp;
+    if (jj_scan_token(INTEGER_LITERAL)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_TruncateRecordStatement_3860_33_514() {
+    if (jj_3R_Rid_491_5_179()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_TruncateRecordStatement_3851_41_640()) {
+      if (jj_3R_TruncateRecordStatement_3862_41_660()) {
         jj_scanpos = xsp;
         break;
       }
@@ -37441,347 +36963,354 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_FindReferencesStatement_3869_9_342() {
+  private boolean jj_3R_FindReferencesStatement_3880_9_361() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_StatementInternal_909_5_80()) return true;
+    if (jj_3R_StatementInternal_909_5_84()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_FindReferencesStatement_3867_9_341() {
-    if (jj_3R_Rid_491_5_175()) return true;
+  private boolean jj_3R_FindReferencesStatement_3878_9_360() {
+    if (jj_3R_Rid_491_5_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_FindReferencesStatement_3865_5_160() {
+  private boolean jj_3R_FindReferencesStatement_3876_5_164() {
     if (jj_scan_token(FIND)) return true;
     if (jj_scan_token(REFERENCES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_FindReferencesStatement_3867_9_341()) {
+    if (jj_3R_FindReferencesStatement_3878_9_360()) {
       jj_scanpos = xsp;
-      if (jj_3R_FindReferencesStatement_3869_9_342()) return true;
+      if (jj_3R_FindReferencesStatement_3880_9_361()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_FindReferencesStatement_3876_9_343()) jj_scanpos = xsp;
+    if (jj_3R_FindReferencesStatement_3887_9_362()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_TruncateRecordStatement_3846_17_288() {
+  private boolean jj_3R_TruncateRecordStatement_3857_17_308() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_TruncateRecordStatement_3849_33_494()) jj_scanpos = xsp;
+    if (jj_3R_TruncateRecordStatement_3860_33_514()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_TruncateRecordStatement_3844_17_287() {
-    if (jj_3R_Rid_491_5_175()) return true;
+  private boolean jj_3R_TruncateRecordStatement_3855_17_307() {
+    if (jj_3R_Rid_491_5_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_TruncateRecordStatement_3842_9_106() {
+  private boolean jj_3R_TruncateRecordStatement_3853_9_110() {
     if (jj_scan_token(TRUNCATE)) return true;
     if (jj_scan_token(RECORD)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_TruncateRecordStatement_3844_17_287()) {
+    if (jj_3R_TruncateRecordStatement_3855_17_307()) {
       jj_scanpos = xsp;
-      if (jj_3R_TruncateRecordStatement_3846_17_288()) return true;
+      if (jj_3R_TruncateRecordStatement_3857_17_308()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_TruncateClusterStatement_3833_17_285() {
+  private boolean jj_3R_TruncateClusterStatement_3844_17_305() {
     if (jj_3R_Integer_823_1_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_TruncateClusterStatement_3831_17_284() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_TruncateClusterStatement_3842_17_304() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_TruncateClusterStatement_3835_11_286() {
+  private boolean jj_3R_TruncateClusterStatement_3846_11_306() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_TruncateClusterStatement_3829_9_105() {
+  private boolean jj_3R_TruncateClusterStatement_3840_9_109() {
     if (jj_scan_token(TRUNCATE)) return true;
     if (jj_scan_token(CLUSTER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_TruncateClusterStatement_3831_17_284()) {
+    if (jj_3R_TruncateClusterStatement_3842_17_304()) {
       jj_scanpos = xsp;
-      if (jj_3R_TruncateClusterStatement_3833_17_285()) return true;
+      if (jj_3R_TruncateClusterStatement_3844_17_305()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_TruncateClusterStatement_3835_11_286()) jj_scanpos = xsp;
+    if (jj_3R_TruncateClusterStatement_3846_11_306()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_AnalyzeClassStatement_3832_9_487() {
+    if (jj_scan_token(IDENTIFIER)) return true;
+    if (jj_scan_token(CLASS)) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_TruncateClassStatement_3822_11_283() {
+  private boolean jj_3R_TruncateClassStatement_3825_11_303() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
   }
 
-  private boolean jj_3R_TruncateClassStatement_3821_11_282() {
+  private boolean jj_3R_TruncateClassStatement_3824_11_302() {
     if (jj_scan_token(POLYMORPHIC)) return true;
     return false;
   }
 
-  private boolean jj_3R_ProfileStorageStatement_3811_17_281() {
+  private boolean jj_3R_ProfileStorageStatement_3814_17_301() {
     if (jj_scan_token(OFF)) return true;
     return false;
   }
 
-  private boolean jj_3R_TruncateClassStatement_3819_9_104() {
+  private boolean jj_3R_TruncateClassStatement_3822_9_108() {
     if (jj_scan_token(TRUNCATE)) return true;
     if (jj_scan_token(CLASS)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_TruncateClassStatement_3821_11_282()) jj_scanpos = xsp;
+    if (jj_3R_TruncateClassStatement_3824_11_302()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_TruncateClassStatement_3822_11_283()) jj_scanpos = xsp;
+    if (jj_3R_TruncateClassStatement_3825_11_303()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_ProfileStorageStatement_3809_17_280() {
+  private boolean jj_3R_ProfileStorageStatement_3812_17_300() {
     if (jj_scan_token(ON)) return true;
     return false;
   }
 
-  private boolean jj_3R_ProfileStorageStatement_3807_9_103() {
+  private boolean jj_3R_ProfileStorageStatement_3810_9_107() {
     if (jj_scan_token(PROFILE)) return true;
     if (jj_scan_token(STORAGE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_ProfileStorageStatement_3809_17_280()) {
+    if (jj_3R_ProfileStorageStatement_3812_17_300()) {
       jj_scanpos = xsp;
-      if (jj_3R_ProfileStorageStatement_3811_17_281()) return true;
+      if (jj_3R_ProfileStorageStatement_3814_17_301()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_BothPathItemOpt_3790_18_616() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_BothPathItemOpt_3793_18_636() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_BothPathItemOpt_3796_10_464() {
-    if (jj_3R_MatchFilter_3583_5_456()) return true;
+  private boolean jj_3R_BothPathItemOpt_3799_10_483() {
+    if (jj_3R_MatchFilter_3586_5_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_BothPathItemOpt_3788_13_463() {
+  private boolean jj_3R_BothPathItemOpt_3791_13_482() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_BothPathItemOpt_3790_18_616()) jj_scanpos = xsp;
+    if (jj_3R_BothPathItemOpt_3793_18_636()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_BothPathItemOpt_3786_9_235() {
+  private boolean jj_3R_BothPathItemOpt_3789_9_239() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_BothPathItemOpt_3788_13_463()) {
+    if (jj_3R_BothPathItemOpt_3791_13_482()) {
       jj_scanpos = xsp;
       if (jj_scan_token(219)) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_BothPathItemOpt_3796_10_464()) jj_scanpos = xsp;
+    if (jj_3R_BothPathItemOpt_3799_10_483()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_InPathItemOpt_3769_18_615() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_InPathItemOpt_3772_18_635() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_InPathItemOpt_3775_10_462() {
-    if (jj_3R_MatchFilter_3583_5_456()) return true;
+  private boolean jj_3R_InPathItemOpt_3778_10_481() {
+    if (jj_3R_MatchFilter_3586_5_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_InPathItemOpt_3767_13_461() {
+  private boolean jj_3R_InPathItemOpt_3770_13_480() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_InPathItemOpt_3769_18_615()) jj_scanpos = xsp;
+    if (jj_3R_InPathItemOpt_3772_18_635()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_InPathItemOpt_3764_9_234() {
+  private boolean jj_3R_InPathItemOpt_3767_9_238() {
     if (jj_scan_token(LT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_InPathItemOpt_3767_13_461()) {
+    if (jj_3R_InPathItemOpt_3770_13_480()) {
       jj_scanpos = xsp;
       if (jj_scan_token(219)) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_InPathItemOpt_3775_10_462()) jj_scanpos = xsp;
+    if (jj_3R_InPathItemOpt_3778_10_481()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_OutPathItemOpt_3746_18_614() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_OutPathItemOpt_3749_18_634() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_OutPathItemOpt_3753_10_460() {
-    if (jj_3R_MatchFilter_3583_5_456()) return true;
+  private boolean jj_3R_OutPathItemOpt_3756_10_479() {
+    if (jj_3R_MatchFilter_3586_5_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_OutPathItemOpt_3744_13_459() {
+  private boolean jj_3R_OutPathItemOpt_3747_13_478() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_OutPathItemOpt_3746_18_614()) jj_scanpos = xsp;
+    if (jj_3R_OutPathItemOpt_3749_18_634()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_OutPathItemOpt_3742_9_233() {
+  private boolean jj_3R_OutPathItemOpt_3745_9_237() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_OutPathItemOpt_3744_13_459()) {
+    if (jj_3R_OutPathItemOpt_3747_13_478()) {
       jj_scanpos = xsp;
       if (jj_scan_token(219)) return true;
     }
     if (jj_scan_token(GT)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_OutPathItemOpt_3753_10_460()) jj_scanpos = xsp;
+    if (jj_3R_OutPathItemOpt_3756_10_479()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_BothPathItem_3724_18_613() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_BothPathItem_3727_18_633() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_BothPathItem_3722_13_457() {
+  private boolean jj_3R_BothPathItem_3725_13_476() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_BothPathItem_3724_18_613()) jj_scanpos = xsp;
+    if (jj_3R_BothPathItem_3727_18_633()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_BothPathItem_3720_9_232() {
+  private boolean jj_3R_BothPathItem_3723_9_236() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_BothPathItem_3722_13_457()) {
+    if (jj_3R_BothPathItem_3725_13_476()) {
       jj_scanpos = xsp;
       if (jj_scan_token(219)) return true;
     }
-    if (jj_3R_MatchFilter_3583_5_456()) return true;
+    if (jj_3R_MatchFilter_3586_5_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_InPathItem_3703_18_1092() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_InPathItem_3706_18_1095() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_InPathItem_3701_13_1089() {
+  private boolean jj_3R_InPathItem_3704_13_1092() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_InPathItem_3703_18_1092()) jj_scanpos = xsp;
+    if (jj_3R_InPathItem_3706_18_1095()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_InPathItem_3698_9_1084() {
+  private boolean jj_3R_InPathItem_3701_9_1087() {
     if (jj_scan_token(LT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_InPathItem_3701_13_1089()) {
+    if (jj_3R_InPathItem_3704_13_1092()) {
       jj_scanpos = xsp;
       if (jj_scan_token(219)) return true;
     }
-    if (jj_3R_MatchFilter_3583_5_456()) return true;
+    if (jj_3R_MatchFilter_3586_5_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_OutPathItem_3680_18_611() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_OutPathItem_3683_18_631() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_OutPathItem_3678_13_455() {
+  private boolean jj_3R_OutPathItem_3681_13_474() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_OutPathItem_3680_18_611()) jj_scanpos = xsp;
+    if (jj_3R_OutPathItem_3683_18_631()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_OutPathItem_3676_9_231() {
+  private boolean jj_3R_OutPathItem_3679_9_235() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_OutPathItem_3678_13_455()) {
+    if (jj_3R_OutPathItem_3681_13_474()) {
       jj_scanpos = xsp;
       if (jj_scan_token(219)) return true;
     }
     if (jj_scan_token(GT)) return true;
-    if (jj_3R_MatchFilter_3583_5_456()) return true;
+    if (jj_3R_MatchFilter_3586_5_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchFilterItem_3658_17_983() {
+  private boolean jj_3R_MatchFilterItem_3661_17_999() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchFilterItem_3666_9_852() {
+  private boolean jj_3R_MatchFilterItem_3669_9_872() {
     if (jj_scan_token(PATH_ALIAS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchFilterItem_3656_17_982() {
+  private boolean jj_3R_MatchFilterItem_3659_17_998() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchFilterItem_3662_9_851() {
+  private boolean jj_3R_MatchFilterItem_3665_9_871() {
     if (jj_scan_token(DEPTH_ALIAS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchFilterItem_3653_9_850() {
+  private boolean jj_3R_MatchFilterItem_3656_9_870() {
     if (jj_scan_token(OPTIONAL)) return true;
     if (jj_scan_token(COLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_MatchFilterItem_3656_17_982()) {
+    if (jj_3R_MatchFilterItem_3659_17_998()) {
       jj_scanpos = xsp;
-      if (jj_3R_MatchFilterItem_3658_17_983()) return true;
+      if (jj_3R_MatchFilterItem_3661_17_999()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_MatchFilterItem_3649_9_849() {
+  private boolean jj_3R_MatchFilterItem_3652_9_869() {
     if (jj_scan_token(MAXDEPTH)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_3R_Integer_823_1_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_Identifier_581_1_171() {
+  private boolean jj_3R_Identifier_581_1_175() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_scan_token(260)) {
@@ -38269,16 +37798,25 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_MatchFilterItem_3641_9_848() {
+  private boolean jj_3R_MatchFilterItem_3644_9_868() {
     if (jj_scan_token(WHILE)) return true;
     if (jj_scan_token(COLON)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_WhereClause_2619_9_479()) return true;
+    if (jj_3R_WhereClause_2622_9_499()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_String_566_5_607() {
+  private boolean jj_3R_MatchFilterItem_3636_9_867() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_WhereClause_2622_9_499()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_String_566_5_627() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_scan_token(189)) {
@@ -38288,122 +37826,152 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_MatchFilterItem_3633_9_847() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_WhereClause_2619_9_479()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_MatchFilterItem_3621_17_981() {
+  private boolean jj_3R_MatchFilterItem_3624_17_997() {
     if (jj_scan_token(CLUSTER_NUMBER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchFilterItem_3629_9_846() {
+  private boolean jj_3R_MatchFilterItem_3632_9_866() {
     if (jj_scan_token(AS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchFilterItem_3619_17_980() {
+  private boolean jj_3R_MatchFilterItem_3622_17_996() {
     if (jj_scan_token(CLUSTER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchFilterItem_3625_9_845() {
+  private boolean jj_3R_MatchFilterItem_3628_9_865() {
     if (jj_scan_token(RID)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_Rid_491_5_175()) return true;
+    if (jj_3R_Rid_491_5_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchFilterItem_3613_16_979() {
+  private boolean jj_3R_MatchFilterItem_3616_16_995() {
     if (jj_3R_Integer_823_1_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchFilterItem_3611_16_978() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_MatchFilterItem_3614_16_994() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3_3() {
-    if (jj_3R_StatementSemicolon_894_5_74()) return true;
+  private boolean jj_3R_MatchFilterItem_3620_9_864() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_MatchFilterItem_3622_17_996()) {
+      jj_scanpos = xsp;
+      if (jj_3R_MatchFilterItem_3624_17_997()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3_4() {
+    if (jj_3R_StatementSemicolon_894_5_78()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_parseScript_544_9_77() {
+    if (jj_3R_WhileBlock_5143_5_261()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_parseScript_542_9_76() {
+    if (jj_3R_ForEachBlock_5115_5_260()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_parseScript_540_9_75() {
+    if (jj_3R_IfStatement_4873_5_259()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchFilterItem_3617_9_844() {
+  private boolean jj_3R_MatchFilterItem_3611_9_863() {
+    if (jj_scan_token(CLUSTER)) return true;
+    if (jj_scan_token(COLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_MatchFilterItem_3619_17_980()) {
+    if (jj_3R_MatchFilterItem_3614_16_994()) {
       jj_scanpos = xsp;
-      if (jj_3R_MatchFilterItem_3621_17_981()) return true;
+      if (jj_3R_MatchFilterItem_3616_16_995()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_MatchFilterItem_3608_9_843() {
-    if (jj_scan_token(CLUSTER)) return true;
-    if (jj_scan_token(COLON)) return true;
+  private boolean jj_3_3() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_MatchFilterItem_3611_16_978()) {
+    if (jj_3R_parseScript_537_9_74()) {
       jj_scanpos = xsp;
-      if (jj_3R_MatchFilterItem_3613_16_979()) return true;
+      if (jj_3R_parseScript_540_9_75()) {
+        jj_scanpos = xsp;
+        if (jj_3R_parseScript_542_9_76()) {
+          jj_scanpos = xsp;
+          if (jj_3R_parseScript_544_9_77()) {
+            jj_scanpos = xsp;
+            if (jj_scan_token(198)) return true;
+          }
+        }
+      }
     }
     return false;
   }
 
-  private boolean jj_3R_MatchFilterItem_3604_9_842() {
+  private boolean jj_3R_parseScript_537_9_74() {
+    if (jj_3R_StatementSemicolon_894_5_78()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_MatchFilterItem_3607_9_862() {
     if (jj_scan_token(CLASSES)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchFilter_3588_21_703() {
+  private boolean jj_3R_MatchFilter_3591_21_723() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_MatchFilterItem_3599_5_702()) return true;
+    if (jj_3R_MatchFilterItem_3602_5_722()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchFilterItem_3600_9_841() {
+  private boolean jj_3R_MatchFilterItem_3603_9_861() {
     if (jj_scan_token(CLASS)) return true;
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchFilterItem_3599_5_702() {
+  private boolean jj_3R_MatchFilterItem_3602_5_722() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_MatchFilterItem_3600_9_841()) {
+    if (jj_3R_MatchFilterItem_3603_9_861()) {
       jj_scanpos = xsp;
-      if (jj_3R_MatchFilterItem_3604_9_842()) {
+      if (jj_3R_MatchFilterItem_3607_9_862()) {
         jj_scanpos = xsp;
-        if (jj_3R_MatchFilterItem_3608_9_843()) {
+        if (jj_3R_MatchFilterItem_3611_9_863()) {
           jj_scanpos = xsp;
-          if (jj_3R_MatchFilterItem_3617_9_844()) {
+          if (jj_3R_MatchFilterItem_3620_9_864()) {
             jj_scanpos = xsp;
-            if (jj_3R_MatchFilterItem_3625_9_845()) {
+            if (jj_3R_MatchFilterItem_3628_9_865()) {
               jj_scanpos = xsp;
-              if (jj_3R_MatchFilterItem_3629_9_846()) {
+              if (jj_3R_MatchFilterItem_3632_9_866()) {
                 jj_scanpos = xsp;
-                if (jj_3R_MatchFilterItem_3633_9_847()) {
+                if (jj_3R_MatchFilterItem_3636_9_867()) {
                   jj_scanpos = xsp;
-                  if (jj_3R_MatchFilterItem_3641_9_848()) {
+                  if (jj_3R_MatchFilterItem_3644_9_868()) {
                     jj_scanpos = xsp;
-                    if (jj_3R_MatchFilterItem_3649_9_849()) {
+                    if (jj_3R_MatchFilterItem_3652_9_869()) {
                       jj_scanpos = xsp;
-                      if (jj_3R_MatchFilterItem_3653_9_850()) {
+                      if (jj_3R_MatchFilterItem_3656_9_870()) {
                         jj_scanpos = xsp;
-                        if (jj_3R_MatchFilterItem_3662_9_851()) {
+                        if (jj_3R_MatchFilterItem_3665_9_871()) {
                           jj_scanpos = xsp;
-                          if (jj_3R_MatchFilterItem_3666_9_852()) return true;
+                          if (jj_3R_MatchFilterItem_3669_9_872()) return true;
                         }
                       }
                     }
@@ -38418,12 +37986,12 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_MatchFilter_3586_17_612() {
-    if (jj_3R_MatchFilterItem_3599_5_702()) return true;
+  private boolean jj_3R_MatchFilter_3589_17_632() {
+    if (jj_3R_MatchFilterItem_3602_5_722()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_MatchFilter_3588_21_703()) {
+      if (jj_3R_MatchFilter_3591_21_723()) {
         jj_scanpos = xsp;
         break;
       }
@@ -38431,36 +37999,41 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_155() {
-    if (jj_3R_BothPathItemOpt_3786_9_235()) return true;
+  private boolean jj_3_156() {
+    if (jj_3R_BothPathItemOpt_3789_9_239()) return true;
     return false;
   }
 
-  private boolean jj_3_154() {
-    if (jj_3R_InPathItemOpt_3764_9_234()) return true;
+  private boolean jj_3_155() {
+    if (jj_3R_InPathItemOpt_3767_9_238()) return true;
     return false;
   }
 
-  private boolean jj_3_153() {
-    if (jj_3R_OutPathItemOpt_3742_9_233()) return true;
+  private boolean jj_3_154() {
+    if (jj_3R_OutPathItemOpt_3745_9_237()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchFilter_3583_5_456() {
+  private boolean jj_3R_MatchFilter_3586_5_475() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_MatchFilter_3586_17_612()) jj_scanpos = xsp;
+    if (jj_3R_MatchFilter_3589_17_632()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_MultiMatchPathItemArrows_3576_11_1086() {
-    if (jj_3R_MatchFilter_3583_5_456()) return true;
+  private boolean jj_3R_MultiMatchPathItemArrows_3579_11_1089() {
+    if (jj_3R_MatchFilter_3586_5_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_Rid_504_10_378() {
+  private boolean jj_3R_MultiMatchPathItemArrows_3569_17_630() {
+    if (jj_3R_BothPathItemOpt_3789_9_239()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_Rid_504_10_397() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
@@ -38469,18 +38042,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       if (jj_scan_token(168)) return true;
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_MultiMatchPathItemArrows_3566_17_610() {
-    if (jj_3R_BothPathItemOpt_3786_9_235()) return true;
+  private boolean jj_3R_MultiMatchPathItemArrows_3566_17_629() {
+    if (jj_3R_InPathItemOpt_3767_9_238()) return true;
     return false;
   }
 
-  private boolean jj_3R_MultiMatchPathItemArrows_3563_17_609() {
-    if (jj_3R_InPathItemOpt_3764_9_234()) return true;
+  private boolean jj_3R_MultiMatchPathItemArrows_3563_17_628() {
+    if (jj_3R_OutPathItemOpt_3745_9_237()) return true;
     return false;
   }
 
@@ -38499,189 +38072,184 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_MultiMatchPathItemArrows_3560_17_608() {
-    if (jj_3R_OutPathItemOpt_3742_9_233()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_MultiMatchPathItemArrows_3559_13_453() {
+  private boolean jj_3R_MultiMatchPathItemArrows_3562_13_472() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_MultiMatchPathItemArrows_3560_17_608()) {
+    if (jj_3R_MultiMatchPathItemArrows_3563_17_628()) {
       jj_scanpos = xsp;
-      if (jj_3R_MultiMatchPathItemArrows_3563_17_609()) {
+      if (jj_3R_MultiMatchPathItemArrows_3566_17_629()) {
         jj_scanpos = xsp;
-        if (jj_3R_MultiMatchPathItemArrows_3566_17_610()) return true;
+        if (jj_3R_MultiMatchPathItemArrows_3569_17_630()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3R_Rid_491_5_175() {
+  private boolean jj_3R_Rid_491_5_179() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_1()) {
       jj_scanpos = xsp;
       if (jj_3_2()) {
         jj_scanpos = xsp;
-        if (jj_3R_Rid_504_10_378()) return true;
+        if (jj_3R_Rid_504_10_397()) return true;
       }
     }
     return false;
   }
 
-  private boolean jj_3_152() {
-    if (jj_3R_MatchPathItem_3506_5_228()) return true;
+  private boolean jj_3_153() {
+    if (jj_3R_MatchPathItem_3509_5_232()) return true;
     return false;
   }
 
-  private boolean jj_3R_MultiMatchPathItemArrows_3555_5_229() {
+  private boolean jj_3R_MultiMatchPathItemArrows_3558_5_233() {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
-    if (jj_3R_MultiMatchPathItemArrows_3559_13_453()) return true;
+    if (jj_3R_MultiMatchPathItemArrows_3562_13_472()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_MultiMatchPathItemArrows_3559_13_453()) {
+      if (jj_3R_MultiMatchPathItemArrows_3562_13_472()) {
         jj_scanpos = xsp;
         break;
       }
     }
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_MultiMatchPathItemArrows_3576_11_1086()) jj_scanpos = xsp;
+    if (jj_3R_MultiMatchPathItemArrows_3579_11_1089()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_MultiMatchPathItem_3545_11_1088() {
-    if (jj_3R_MatchFilter_3583_5_456()) return true;
+  private boolean jj_3R_MultiMatchPathItem_3548_11_1091() {
+    if (jj_3R_MatchFilter_3586_5_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_MultiMatchPathItem_3541_13_1087() {
-    if (jj_3R_MatchPathItem_3506_5_228()) return true;
+  private boolean jj_3R_MultiMatchPathItem_3544_13_1090() {
+    if (jj_3R_MatchPathItem_3509_5_232()) return true;
     return false;
   }
 
-  private boolean jj_3R_MultiMatchPathItem_3534_5_230() {
+  private boolean jj_3R_MultiMatchPathItem_3537_5_234() {
     if (jj_scan_token(DOT)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_MatchPathItemFirst_3525_5_454()) return true;
+    if (jj_3R_MatchPathItemFirst_3528_5_473()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_MultiMatchPathItem_3541_13_1087()) {
+      if (jj_3R_MultiMatchPathItem_3544_13_1090()) {
         jj_scanpos = xsp;
         break;
       }
     }
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_MultiMatchPathItem_3545_11_1088()) jj_scanpos = xsp;
+    if (jj_3R_MultiMatchPathItem_3548_11_1091()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_MatchPathItemFirst_3527_11_1091() {
-    if (jj_3R_MatchFilter_3583_5_456()) return true;
+  private boolean jj_3R_MatchPathItemFirst_3530_11_1094() {
+    if (jj_3R_MatchFilter_3586_5_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchPathItemFirst_3525_5_454() {
-    if (jj_3R_FunctionCall_2108_5_177()) return true;
+  private boolean jj_3R_MatchPathItemFirst_3528_5_473() {
+    if (jj_3R_FunctionCall_2111_5_181()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_MatchPathItemFirst_3527_11_1091()) jj_scanpos = xsp;
+    if (jj_3R_MatchPathItemFirst_3530_11_1094()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_FieldMatchPathItem_3518_11_1090() {
-    if (jj_3R_MatchFilter_3583_5_456()) return true;
+  private boolean jj_3R_FieldMatchPathItem_3521_11_1093() {
+    if (jj_3R_MatchFilter_3586_5_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_FieldMatchPathItem_3515_5_1085() {
+  private boolean jj_3R_FieldMatchPathItem_3518_5_1088() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_FieldMatchPathItem_3518_11_1090()) jj_scanpos = xsp;
+    if (jj_3R_FieldMatchPathItem_3521_11_1093()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_151() {
-    if (jj_3R_BothPathItem_3720_9_232()) return true;
+  private boolean jj_3_152() {
+    if (jj_3R_BothPathItem_3723_9_236()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchPathItem_3508_11_458() {
-    if (jj_3R_MatchFilter_3583_5_456()) return true;
+  private boolean jj_3R_MatchPathItem_3511_11_477() {
+    if (jj_3R_MatchFilter_3586_5_475()) return true;
     return false;
   }
 
-  private boolean jj_3_150() {
-    if (jj_3R_OutPathItem_3676_9_231()) return true;
+  private boolean jj_3_151() {
+    if (jj_3R_OutPathItem_3679_9_235()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchExpression_3495_17_1073() {
-    if (jj_3R_FieldMatchPathItem_3515_5_1085()) return true;
+  private boolean jj_3R_MatchExpression_3498_17_1084() {
+    if (jj_3R_FieldMatchPathItem_3518_5_1088()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchPathItem_3506_5_228() {
-    if (jj_3R_MethodCall_2129_5_186()) return true;
+  private boolean jj_3R_MatchPathItem_3509_5_232() {
+    if (jj_3R_MethodCall_2132_5_190()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_MatchPathItem_3508_11_458()) jj_scanpos = xsp;
+    if (jj_3R_MatchPathItem_3511_11_477()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_MatchExpression_3492_17_1072() {
-    if (jj_3R_BothPathItem_3720_9_232()) return true;
+  private boolean jj_3R_MatchExpression_3495_17_1083() {
+    if (jj_3R_BothPathItem_3723_9_236()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchExpression_3490_17_1071() {
-    if (jj_3R_InPathItem_3698_9_1084()) return true;
+  private boolean jj_3R_MatchExpression_3493_17_1082() {
+    if (jj_3R_InPathItem_3701_9_1087()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchExpression_3487_17_1070() {
-    if (jj_3R_OutPathItem_3676_9_231()) return true;
+  private boolean jj_3R_MatchExpression_3490_17_1081() {
+    if (jj_3R_OutPathItem_3679_9_235()) return true;
     return false;
   }
 
-  private boolean jj_3_149() {
-    if (jj_3R_MultiMatchPathItem_3534_5_230()) return true;
+  private boolean jj_3_150() {
+    if (jj_3R_MultiMatchPathItem_3537_5_234()) return true;
     return false;
   }
 
-  private boolean jj_3_148() {
-    if (jj_3R_MultiMatchPathItemArrows_3555_5_229()) return true;
+  private boolean jj_3_149() {
+    if (jj_3R_MultiMatchPathItemArrows_3558_5_233()) return true;
     return false;
   }
 
-  private boolean jj_3_147() {
-    if (jj_3R_MatchPathItem_3506_5_228()) return true;
+  private boolean jj_3_148() {
+    if (jj_3R_MatchPathItem_3509_5_232()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchExpression_3477_13_1035() {
+  private boolean jj_3R_MatchExpression_3480_13_1049() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_147()) {
+    if (jj_3_148()) {
       jj_scanpos = xsp;
-      if (jj_3_148()) {
+      if (jj_3_149()) {
         jj_scanpos = xsp;
-        if (jj_3_149()) {
+        if (jj_3_150()) {
           jj_scanpos = xsp;
-          if (jj_3R_MatchExpression_3487_17_1070()) {
+          if (jj_3R_MatchExpression_3490_17_1081()) {
             jj_scanpos = xsp;
-            if (jj_3R_MatchExpression_3490_17_1071()) {
+            if (jj_3R_MatchExpression_3493_17_1082()) {
               jj_scanpos = xsp;
-              if (jj_3R_MatchExpression_3492_17_1072()) {
+              if (jj_3R_MatchExpression_3495_17_1083()) {
                 jj_scanpos = xsp;
-                if (jj_3R_MatchExpression_3495_17_1073()) return true;
+                if (jj_3R_MatchExpression_3498_17_1084()) return true;
               }
             }
           }
@@ -38691,22 +38259,22 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_FetchPlanItem_3400_80_1031() {
+  private boolean jj_3R_FetchPlanItem_3403_80_1045() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_Json_3458_21_954() {
+  private boolean jj_3R_Json_3461_21_970() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchExpression_3474_5_688() {
-    if (jj_3R_MatchFilter_3583_5_456()) return true;
+  private boolean jj_3R_MatchExpression_3477_5_708() {
+    if (jj_3R_MatchFilter_3586_5_475()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_MatchExpression_3477_13_1035()) {
+      if (jj_3R_MatchExpression_3480_13_1049()) {
         jj_scanpos = xsp;
         break;
       }
@@ -38714,83 +38282,83 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_Json_3456_21_953() {
-    if (jj_3R_String_566_5_607()) return true;
+  private boolean jj_3R_Json_3459_21_969() {
+    if (jj_3R_String_566_5_627()) return true;
     return false;
   }
 
-  private boolean jj_3R_Json_3454_21_952() {
+  private boolean jj_3R_Json_3457_21_968() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_Json_3452_21_951() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_Json_3455_21_967() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_Json_3449_17_816() {
+  private boolean jj_3R_Json_3452_17_836() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_Json_3452_21_951()) {
+    if (jj_3R_Json_3455_21_967()) {
       jj_scanpos = xsp;
-      if (jj_3R_Json_3454_21_952()) {
+      if (jj_3R_Json_3457_21_968()) {
         jj_scanpos = xsp;
-        if (jj_3R_Json_3456_21_953()) {
+        if (jj_3R_Json_3459_21_969()) {
           jj_scanpos = xsp;
-          if (jj_3R_Json_3458_21_954()) return true;
+          if (jj_3R_Json_3461_21_970()) return true;
         }
       }
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_Json_3444_17_815() {
+  private boolean jj_3R_Json_3447_17_835() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_FetchPlanItem_3391_69_949() {
+  private boolean jj_3R_FetchPlanItem_3394_69_965() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_Json_3442_17_814() {
-    if (jj_3R_String_566_5_607()) return true;
+  private boolean jj_3R_Json_3445_17_834() {
+    if (jj_3R_String_566_5_627()) return true;
     return false;
   }
 
-  private boolean jj_3R_Json_3440_17_813() {
+  private boolean jj_3R_Json_3443_17_833() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_Json_3438_17_812() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_Json_3441_17_832() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_Json_3436_13_661() {
+  private boolean jj_3R_Json_3439_13_681() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_Json_3438_17_812()) {
+    if (jj_3R_Json_3441_17_832()) {
       jj_scanpos = xsp;
-      if (jj_3R_Json_3440_17_813()) {
+      if (jj_3R_Json_3443_17_833()) {
         jj_scanpos = xsp;
-        if (jj_3R_Json_3442_17_814()) {
+        if (jj_3R_Json_3445_17_834()) {
           jj_scanpos = xsp;
-          if (jj_3R_Json_3444_17_815()) return true;
+          if (jj_3R_Json_3447_17_835()) return true;
         }
       }
     }
     if (jj_scan_token(COLON)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_Json_3449_17_816()) {
+      if (jj_3R_Json_3452_17_836()) {
         jj_scanpos = xsp;
         break;
       }
@@ -38798,74 +38366,74 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_146() {
-    if (jj_3R_Modifier_2186_5_187()) return true;
+  private boolean jj_3_147() {
+    if (jj_3R_Modifier_2189_5_191()) return true;
     return false;
   }
 
-  private boolean jj_3R_Json_3433_5_240() {
+  private boolean jj_3R_Json_3436_5_244() {
     if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_Json_3436_13_661()) jj_scanpos = xsp;
+    if (jj_3R_Json_3439_13_681()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_TraverseProjectionItem_3422_11_1069() {
-    if (jj_3R_Modifier_2186_5_187()) return true;
+  private boolean jj_3R_TraverseProjectionItem_3425_11_1080() {
+    if (jj_3R_Modifier_2189_5_191()) return true;
     return false;
   }
 
-  private boolean jj_3R_TraverseProjectionItem_3420_5_830() {
-    if (jj_3R_BaseIdentifier_2173_5_586()) return true;
+  private boolean jj_3R_TraverseProjectionItem_3423_5_850() {
+    if (jj_3R_BaseIdentifier_2176_5_606()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_TraverseProjectionItem_3422_11_1069()) jj_scanpos = xsp;
+    if (jj_3R_TraverseProjectionItem_3425_11_1080()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_FetchPlanItem_3400_17_950() {
+  private boolean jj_3R_FetchPlanItem_3403_17_966() {
     if (jj_scan_token(DOT)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_FetchPlanItem_3400_80_1031()) jj_scanpos = xsp;
+    if (jj_3R_FetchPlanItem_3403_80_1045()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_FetchPlanItem_3387_21_1030() {
+  private boolean jj_3R_FetchPlanItem_3390_21_1044() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_FetchPlanItem_3385_21_1029() {
+  private boolean jj_3R_FetchPlanItem_3388_21_1043() {
     if (jj_3R_Integer_823_1_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_FetchPlanItem_3383_17_948() {
+  private boolean jj_3R_FetchPlanItem_3386_17_964() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_FetchPlanItem_3385_21_1029()) {
+    if (jj_3R_FetchPlanItem_3388_21_1043()) {
       jj_scanpos = xsp;
-      if (jj_3R_FetchPlanItem_3387_21_1030()) return true;
+      if (jj_3R_FetchPlanItem_3390_21_1044()) return true;
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_FetchPlanItem_3382_13_811() {
+  private boolean jj_3R_FetchPlanItem_3385_13_831() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_FetchPlanItem_3383_17_948()) jj_scanpos = xsp;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_FetchPlanItem_3386_17_964()) jj_scanpos = xsp;
+    if (jj_3R_Identifier_581_1_175()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_FetchPlanItem_3391_69_949()) jj_scanpos = xsp;
+    if (jj_3R_FetchPlanItem_3394_69_965()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_FetchPlanItem_3400_17_950()) {
+      if (jj_3R_FetchPlanItem_3403_17_966()) {
         jj_scanpos = xsp;
         break;
       }
@@ -38873,35 +38441,35 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_FetchPlanItem_3380_13_810() {
+  private boolean jj_3R_FetchPlanItem_3383_13_830() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_FetchPlanItem_3378_5_657() {
+  private boolean jj_3R_FetchPlanItem_3381_5_677() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_FetchPlanItem_3380_13_810()) {
+    if (jj_3R_FetchPlanItem_3383_13_830()) {
       jj_scanpos = xsp;
-      if (jj_3R_FetchPlanItem_3382_13_811()) return true;
+      if (jj_3R_FetchPlanItem_3385_13_831()) return true;
     }
     if (jj_scan_token(COLON)) return true;
     if (jj_3R_Integer_823_1_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_FetchPlan_3368_11_658() {
-    if (jj_3R_FetchPlanItem_3378_5_657()) return true;
+  private boolean jj_3R_FetchPlan_3371_11_678() {
+    if (jj_3R_FetchPlanItem_3381_5_677()) return true;
     return false;
   }
 
-  private boolean jj_3R_FetchPlan_3366_5_541() {
+  private boolean jj_3R_FetchPlan_3369_5_561() {
     if (jj_scan_token(FETCHPLAN)) return true;
-    if (jj_3R_FetchPlanItem_3378_5_657()) return true;
+    if (jj_3R_FetchPlanItem_3381_5_677()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_FetchPlan_3368_11_658()) {
+      if (jj_3R_FetchPlan_3371_11_678()) {
         jj_scanpos = xsp;
         break;
       }
@@ -38909,18 +38477,18 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_Collection_3352_17_565() {
+  private boolean jj_3R_Collection_3355_17_585() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_Collection_3350_13_384() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_Collection_3353_13_403() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_Collection_3352_17_565()) {
+      if (jj_3R_Collection_3355_17_585()) {
         jj_scanpos = xsp;
         break;
       }
@@ -38928,179 +38496,179 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_Collection_3346_5_178() {
+  private boolean jj_3R_Collection_3349_5_182() {
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_Collection_3350_13_384()) jj_scanpos = xsp;
+    if (jj_3R_Collection_3353_13_403()) jj_scanpos = xsp;
     if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_Retry_3329_5_471() {
+  private boolean jj_3R_Retry_3332_5_491() {
     if (jj_scan_token(RETRY)) return true;
     if (jj_3R_Integer_823_1_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_Timeout_3309_17_786() {
+  private boolean jj_3R_Timeout_3312_17_806() {
     if (jj_scan_token(EXCEPTION)) return true;
     return false;
   }
 
-  private boolean jj_3R_Wait_3319_5_472() {
+  private boolean jj_3R_Wait_3322_5_492() {
     if (jj_scan_token(WAIT)) return true;
     if (jj_3R_Integer_823_1_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_Timeout_3307_17_639() {
+  private boolean jj_3R_Timeout_3310_17_659() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_Timeout_3307_17_785()) {
+    if (jj_3R_Timeout_3310_17_805()) {
       jj_scanpos = xsp;
-      if (jj_3R_Timeout_3309_17_786()) return true;
+      if (jj_3R_Timeout_3312_17_806()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_Timeout_3307_17_785() {
+  private boolean jj_3R_Timeout_3310_17_805() {
     if (jj_scan_token(RETURN)) return true;
     return false;
   }
 
-  private boolean jj_3R_Timeout_3302_5_485() {
+  private boolean jj_3R_Timeout_3305_5_505() {
     if (jj_scan_token(TIMEOUT)) return true;
     if (jj_3R_Integer_823_1_73()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_Timeout_3307_17_639()) jj_scanpos = xsp;
+    if (jj_3R_Timeout_3310_17_659()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_Batch_3293_13_622() {
-    if (jj_3R_InputParameter_1864_5_176()) return true;
+  private boolean jj_3R_Batch_3296_13_642() {
+    if (jj_3R_InputParameter_1867_5_180()) return true;
     return false;
   }
 
-  private boolean jj_3R_Batch_3291_13_621() {
+  private boolean jj_3R_Batch_3294_13_641() {
     if (jj_3R_Integer_823_1_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_Skip_3279_17_947() {
-    if (jj_3R_InputParameter_1864_5_176()) return true;
+  private boolean jj_3R_Skip_3282_17_963() {
+    if (jj_3R_InputParameter_1867_5_180()) return true;
     return false;
   }
 
-  private boolean jj_3R_Skip_3277_17_946() {
+  private boolean jj_3R_Skip_3280_17_962() {
     if (jj_3R_Integer_823_1_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_Batch_3288_5_473() {
+  private boolean jj_3R_Batch_3291_5_493() {
     if (jj_scan_token(BATCH)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_Batch_3291_13_621()) {
+    if (jj_3R_Batch_3294_13_641()) {
       jj_scanpos = xsp;
-      if (jj_3R_Batch_3293_13_622()) return true;
+      if (jj_3R_Batch_3296_13_642()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_Skip_3270_17_945() {
-    if (jj_3R_InputParameter_1864_5_176()) return true;
+  private boolean jj_3R_Skip_3273_17_961() {
+    if (jj_3R_InputParameter_1867_5_180()) return true;
     return false;
   }
 
-  private boolean jj_3R_Skip_3268_17_944() {
+  private boolean jj_3R_Skip_3271_17_960() {
     if (jj_3R_Integer_823_1_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_Skip_3274_9_809() {
+  private boolean jj_3R_Skip_3277_9_829() {
     if (jj_scan_token(OFFSET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_Skip_3277_17_946()) {
+    if (jj_3R_Skip_3280_17_962()) {
       jj_scanpos = xsp;
-      if (jj_3R_Skip_3279_17_947()) return true;
+      if (jj_3R_Skip_3282_17_963()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3213_66_1028() {
+  private boolean jj_3R_OrderBy_3216_66_1042() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_Skip_3265_9_808() {
+  private boolean jj_3R_Skip_3268_9_828() {
     if (jj_scan_token(SKIP2)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_Skip_3268_17_944()) {
+    if (jj_3R_Skip_3271_17_960()) {
       jj_scanpos = xsp;
-      if (jj_3R_Skip_3270_17_945()) return true;
+      if (jj_3R_Skip_3273_17_961()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_Skip_3264_5_654() {
+  private boolean jj_3R_Skip_3267_5_674() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_Skip_3265_9_808()) {
+    if (jj_3R_Skip_3268_9_828()) {
       jj_scanpos = xsp;
-      if (jj_3R_Skip_3274_9_809()) return true;
+      if (jj_3R_Skip_3277_9_829()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_Limit_3255_13_638() {
-    if (jj_3R_InputParameter_1864_5_176()) return true;
+  private boolean jj_3R_Limit_3258_13_658() {
+    if (jj_3R_InputParameter_1867_5_180()) return true;
     return false;
   }
 
-  private boolean jj_3R_Limit_3253_13_637() {
+  private boolean jj_3R_Limit_3256_13_657() {
     if (jj_3R_Integer_823_1_73()) return true;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3191_66_1025() {
+  private boolean jj_3R_OrderBy_3194_66_1039() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_Limit_3250_5_484() {
+  private boolean jj_3R_Limit_3253_5_504() {
     if (jj_scan_token(LIMIT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_Limit_3253_13_637()) {
+    if (jj_3R_Limit_3256_13_657()) {
       jj_scanpos = xsp;
-      if (jj_3R_Limit_3255_13_638()) return true;
+      if (jj_3R_Limit_3258_13_658()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_Unwind_3240_13_653() {
+  private boolean jj_3R_Unwind_3243_13_673() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_GroupBy_3228_13_649() {
+  private boolean jj_3R_GroupBy_3231_13_669() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_Unwind_3237_1_538() {
+  private boolean jj_3R_Unwind_3240_1_558() {
     if (jj_scan_token(UNWIND)) return true;
-    if (jj_3R_Identifier_581_1_171()) return true;
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_Unwind_3240_13_653()) {
+      if (jj_3R_Unwind_3243_13_673()) {
         jj_scanpos = xsp;
         break;
       }
@@ -39108,63 +38676,63 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3205_31_1026() {
-    if (jj_3R_Modifier_2186_5_187()) return true;
+  private boolean jj_3R_OrderBy_3208_31_1040() {
+    if (jj_3R_Modifier_2189_5_191()) return true;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3210_25_941() {
+  private boolean jj_3R_OrderBy_3213_25_957() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3214_19_943() {
+  private boolean jj_3R_OrderBy_3217_19_959() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3208_25_940() {
-    if (jj_3R_Rid_491_5_175()) return true;
+  private boolean jj_3R_OrderBy_3211_25_956() {
+    if (jj_3R_Rid_491_5_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3213_19_1027() {
+  private boolean jj_3R_OrderBy_3216_19_1041() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3213_19_942() {
+  private boolean jj_3R_OrderBy_3216_19_958() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_OrderBy_3213_19_1027()) {
+    if (jj_3R_OrderBy_3216_19_1041()) {
       jj_scanpos = xsp;
-      if (jj_3R_OrderBy_3213_66_1028()) return true;
+      if (jj_3R_OrderBy_3216_66_1042()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3166_62_933() {
-    if (jj_scan_token(ASC)) return true;
+  private boolean jj_3R_OrderBy_3206_25_955() {
+    if (jj_3R_Identifier_581_1_175()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_OrderBy_3208_31_1040()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3203_25_939() {
-    if (jj_3R_Identifier_581_1_171()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_OrderBy_3205_31_1026()) jj_scanpos = xsp;
+  private boolean jj_3R_OrderBy_3169_62_949() {
+    if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_GroupBy_3225_1_536() {
+  private boolean jj_3R_GroupBy_3228_1_556() {
     if (jj_scan_token(GROUP)) return true;
     if (jj_scan_token(BY)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_GroupBy_3228_13_649()) {
+      if (jj_3R_GroupBy_3231_13_669()) {
         jj_scanpos = xsp;
         break;
       }
@@ -39172,238 +38740,238 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3183_31_1023() {
-    if (jj_3R_Modifier_2186_5_187()) return true;
+  private boolean jj_3R_OrderBy_3186_31_1037() {
+    if (jj_3R_Modifier_2189_5_191()) return true;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3188_25_936() {
+  private boolean jj_3R_OrderBy_3191_25_952() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3186_25_935() {
-    if (jj_3R_Rid_491_5_175()) return true;
+  private boolean jj_3R_OrderBy_3195_19_954() {
+    if (jj_scan_token(COLLATE)) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3192_19_938() {
-    if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_OrderBy_3189_25_951() {
+    if (jj_3R_Rid_491_5_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3191_19_1024() {
+  private boolean jj_3R_OrderBy_3194_19_1038() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3191_19_937() {
+  private boolean jj_3R_OrderBy_3194_19_953() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_OrderBy_3191_19_1024()) {
+    if (jj_3R_OrderBy_3194_19_1038()) {
       jj_scanpos = xsp;
-      if (jj_3R_OrderBy_3191_66_1025()) return true;
+      if (jj_3R_OrderBy_3194_66_1039()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3195_13_807() {
+  private boolean jj_3R_OrderBy_3198_13_827() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_OrderBy_3203_25_939()) {
+    if (jj_3R_OrderBy_3206_25_955()) {
       jj_scanpos = xsp;
-      if (jj_3R_OrderBy_3208_25_940()) {
+      if (jj_3R_OrderBy_3211_25_956()) {
         jj_scanpos = xsp;
-        if (jj_3R_OrderBy_3210_25_941()) return true;
+        if (jj_3R_OrderBy_3213_25_957()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_OrderBy_3213_19_942()) jj_scanpos = xsp;
+    if (jj_3R_OrderBy_3216_19_958()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_OrderBy_3214_19_943()) jj_scanpos = xsp;
+    if (jj_3R_OrderBy_3217_19_959()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3144_62_930() {
-    if (jj_scan_token(ASC)) return true;
+  private boolean jj_3R_OrderBy_3184_25_950() {
+    if (jj_3R_Identifier_581_1_175()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_OrderBy_3186_31_1037()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3181_25_934() {
-    if (jj_3R_Identifier_581_1_171()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_OrderBy_3183_31_1023()) jj_scanpos = xsp;
+  private boolean jj_3R_OrderBy_3147_62_946() {
+    if (jj_scan_token(ASC)) return true;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3174_17_806() {
+  private boolean jj_3R_OrderBy_3177_17_826() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_OrderBy_3181_25_934()) {
+    if (jj_3R_OrderBy_3184_25_950()) {
       jj_scanpos = xsp;
-      if (jj_3R_OrderBy_3186_25_935()) {
+      if (jj_3R_OrderBy_3189_25_951()) {
         jj_scanpos = xsp;
-        if (jj_3R_OrderBy_3188_25_936()) return true;
+        if (jj_3R_OrderBy_3191_25_952()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_OrderBy_3191_19_937()) jj_scanpos = xsp;
+    if (jj_3R_OrderBy_3194_19_953()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_OrderBy_3192_19_938()) jj_scanpos = xsp;
+    if (jj_3R_OrderBy_3195_19_954()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_OrderBy_3161_27_947() {
+    if (jj_3R_Modifier_2189_5_191()) return true;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3172_13_652() {
+  private boolean jj_3R_OrderBy_3175_13_672() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_OrderBy_3174_17_806()) {
+    if (jj_3R_OrderBy_3177_17_826()) {
       jj_scanpos = xsp;
-      if (jj_3R_OrderBy_3195_13_807()) return true;
+      if (jj_3R_OrderBy_3198_13_827()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3158_27_931() {
-    if (jj_3R_Modifier_2186_5_187()) return true;
+  private boolean jj_3R_OrderBy_3166_21_823() {
+    if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3163_21_803() {
-    if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
+  private boolean jj_3R_OrderBy_3164_21_822() {
+    if (jj_3R_Rid_491_5_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3161_21_802() {
-    if (jj_3R_Rid_491_5_175()) return true;
+  private boolean jj_3R_OrderBy_3170_15_825() {
+    if (jj_scan_token(COLLATE)) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3167_15_805() {
-    if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_OrderBy_3169_15_948() {
+    if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3166_15_804() {
+  private boolean jj_3R_OrderBy_3169_15_824() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_OrderBy_3166_15_932()) {
+    if (jj_3R_OrderBy_3169_15_948()) {
       jj_scanpos = xsp;
-      if (jj_3R_OrderBy_3166_62_933()) return true;
+      if (jj_3R_OrderBy_3169_62_949()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3166_15_932() {
-    if (jj_scan_token(DESC)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_OrderBy_3156_21_801() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_OrderBy_3159_21_821() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_OrderBy_3158_27_931()) jj_scanpos = xsp;
+    if (jj_3R_OrderBy_3161_27_947()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3136_27_928() {
-    if (jj_3R_Modifier_2186_5_187()) return true;
+  private boolean jj_3R_OrderBy_3139_27_944() {
+    if (jj_3R_Modifier_2189_5_191()) return true;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3141_21_798() {
+  private boolean jj_3R_OrderBy_3144_21_818() {
     if (jj_scan_token(RECORD_ATTRIBUTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3139_21_797() {
-    if (jj_3R_Rid_491_5_175()) return true;
+  private boolean jj_3R_OrderBy_3142_21_817() {
+    if (jj_3R_Rid_491_5_179()) return true;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3145_15_800() {
+  private boolean jj_3R_OrderBy_3148_15_820() {
     if (jj_scan_token(COLLATE)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_OrderBy_3147_15_945() {
+    if (jj_scan_token(DESC)) return true;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3144_15_799() {
+  private boolean jj_3R_OrderBy_3147_15_819() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_OrderBy_3144_15_929()) {
+    if (jj_3R_OrderBy_3147_15_945()) {
       jj_scanpos = xsp;
-      if (jj_3R_OrderBy_3144_62_930()) return true;
+      if (jj_3R_OrderBy_3147_62_946()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3144_15_929() {
-    if (jj_scan_token(DESC)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_OrderBy_3148_9_651() {
+  private boolean jj_3R_OrderBy_3151_9_671() {
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_OrderBy_3156_21_801()) {
+    if (jj_3R_OrderBy_3159_21_821()) {
       jj_scanpos = xsp;
-      if (jj_3R_OrderBy_3161_21_802()) {
+      if (jj_3R_OrderBy_3164_21_822()) {
         jj_scanpos = xsp;
-        if (jj_3R_OrderBy_3163_21_803()) return true;
+        if (jj_3R_OrderBy_3166_21_823()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_OrderBy_3166_15_804()) jj_scanpos = xsp;
+    if (jj_3R_OrderBy_3169_15_824()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_OrderBy_3167_15_805()) jj_scanpos = xsp;
+    if (jj_3R_OrderBy_3170_15_825()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3134_21_796() {
-    if (jj_3R_Identifier_581_1_171()) return true;
+  private boolean jj_3R_OrderBy_3137_21_816() {
+    if (jj_3R_Identifier_581_1_175()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_OrderBy_3136_27_928()) jj_scanpos = xsp;
+    if (jj_3R_OrderBy_3139_27_944()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3127_9_650() {
+  private boolean jj_3R_OrderBy_3130_9_670() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_OrderBy_3134_21_796()) {
+    if (jj_3R_OrderBy_3137_21_816()) {
       jj_scanpos = xsp;
-      if (jj_3R_OrderBy_3139_21_797()) {
+      if (jj_3R_OrderBy_3142_21_817()) {
         jj_scanpos = xsp;
-        if (jj_3R_OrderBy_3141_21_798()) return true;
+        if (jj_3R_OrderBy_3144_21_818()) return true;
       }
     }
     xsp = jj_scanpos;
-    if (jj_3R_OrderBy_3144_15_799()) jj_scanpos = xsp;
+    if (jj_3R_OrderBy_3147_15_819()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_OrderBy_3145_15_800()) jj_scanpos = xsp;
+    if (jj_3R_OrderBy_3148_15_820()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_OrderBy_3124_1_537() {
+  private boolean jj_3R_OrderBy_3127_1_557() {
     if (jj_scan_token(ORDER)) return true;
     if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_OrderBy_3127_9_650()) {
+    if (jj_3R_OrderBy_3130_9_670()) {
       jj_scanpos = xsp;
-      if (jj_3R_OrderBy_3148_9_651()) return true;
+      if (jj_3R_OrderBy_3151_9_671()) return true;
     }
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_OrderBy_3172_13_652()) {
+      if (jj_3R_OrderBy_3175_13_672()) {
         jj_scanpos = xsp;
         break;
       }
@@ -39411,98 +38979,98 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     return false;
   }
 
-  private boolean jj_3_145() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3_146() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchesCondition_3107_13_449() {
-    if (jj_3R_InputParameter_1864_5_176()) return true;
+  private boolean jj_3R_MatchesCondition_3110_13_468() {
+    if (jj_3R_InputParameter_1867_5_180()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchesCondition_3105_13_448() {
+  private boolean jj_3R_MatchesCondition_3108_13_467() {
     if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchesCondition_3103_13_447() {
-    if (jj_3R_String_566_5_607()) return true;
+  private boolean jj_3R_MatchesCondition_3106_13_466() {
+    if (jj_3R_String_566_5_627()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchesCondition_3100_13_446() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_MatchesCondition_3103_13_465() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3_144() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3_145() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_MatchesCondition_3097_5_222() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_MatchesCondition_3100_5_226() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     if (jj_scan_token(MATCHES)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_MatchesCondition_3100_13_446()) {
+    if (jj_3R_MatchesCondition_3103_13_465()) {
       jj_scanpos = xsp;
-      if (jj_3R_MatchesCondition_3103_13_447()) {
+      if (jj_3R_MatchesCondition_3106_13_466()) {
         jj_scanpos = xsp;
-        if (jj_3R_MatchesCondition_3105_13_448()) {
+        if (jj_3R_MatchesCondition_3108_13_467()) {
           jj_scanpos = xsp;
-          if (jj_3R_MatchesCondition_3107_13_449()) return true;
+          if (jj_3R_MatchesCondition_3110_13_468()) return true;
         }
       }
     }
     return false;
   }
 
-  private boolean jj_3R_ContainsAnyCondition_3078_17_445() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_ContainsAnyCondition_3081_17_464() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_ContainsTextCondition_3088_5_221() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_ContainsTextCondition_3091_5_225() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     if (jj_scan_token(CONTAINSTEXT)) return true;
-    if (jj_3R_Expression_2224_5_161()) return true;
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3_143() {
+  private boolean jj_3_144() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_142() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3_143() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_ContainsAllCondition_3061_17_444() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_ContainsAllCondition_3064_17_463() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     return false;
   }
 
-  private boolean jj_3R_ContainsAnyCondition_3071_5_220() {
-    if (jj_3R_Expression_2224_5_161()) return true;
+  private boolean jj_3R_ContainsAnyCondition_3074_5_224() {
+    if (jj_3R_Expression_2227_5_165()) return true;
     if (jj_scan_token(CONTAINSANY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_143()) {
+    if (jj_3_144()) {
       jj_scanpos = xsp;
-      if (jj_3R_ContainsAnyCondition_3078_17_445()) return true;
+      if (jj_3R_ContainsAnyCondition_3081_17_464()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_141() {
+  private boolean jj_3_142() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_OrBlock_2626_5_184()) return true;
+    if (jj_3R_OrBlock_2629_5_188()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
@@ -39519,8 +39087,13 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
   private int jj_ntk;
   private Token jj_scanpos, jj_lastpos;
   private int jj_la;
+
+  /** Whether we are looking ahead. */
+  private boolean jj_lookingAhead = false;
+
+  private boolean jj_semLA;
   private int jj_gen;
-  private final int[] jj_la1 = new int[460];
+  private final int[] jj_la1 = new int[456];
   private static int[] jj_la1_0;
   private static int[] jj_la1_1;
   private static int[] jj_la1_2;
@@ -39548,7 +39121,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         new int[] {
           0x0,
           0x0,
-          0xfd49f800,
           0x1000000,
           0x0,
           0xfc400000,
@@ -39913,6 +39485,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0xfc400000,
           0xfc400000,
+          0x800000,
           0xfc400000,
           0xfc400000,
           0x0,
@@ -39951,7 +39524,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x10000000,
           0x10000000,
           0x0,
-          0x9f800,
           0x0,
           0x0,
           0x0,
@@ -39959,7 +39531,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0xfc400000,
-          0xfd49f800,
           0x1000000,
           0x0,
           0x0,
@@ -39975,9 +39546,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xfd49f800,
           0x1000000,
-          0xfd49f800,
           0x1000000,
           0xfc67c800,
           0x0,
@@ -40014,7 +39583,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         new int[] {
           0x0,
           0x0,
-          0xdc8821a3,
           0x0,
           0x0,
           0xd8802183,
@@ -40379,6 +39947,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0xd8802183,
           0xd8802183,
+          0x0,
           0xd8802183,
           0xd8802183,
           0x0,
@@ -40417,7 +39986,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x2,
           0x2,
           0x0,
-          0x4080000,
           0x0,
           0x8,
           0x0,
@@ -40425,7 +39993,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x2000000,
           0xd88021a3,
-          0xdc8821a3,
           0x0,
           0x0,
           0x18028404,
@@ -40441,9 +40008,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xdc8821a3,
           0x0,
-          0xdc8821a3,
           0x0,
           0xd8802183,
           0x0,
@@ -40480,7 +40045,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         new int[] {
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
           0x0,
           0xff7ffce0,
@@ -40845,6 +40409,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0xff7ffce0,
           0xff7ffce0,
+          0x0,
           0xff7ffce0,
           0xff7ffce0,
           0x0,
@@ -40883,7 +40448,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x21440000,
           0x0,
           0x0,
           0x0,
@@ -40891,7 +40455,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0xff7ffce0,
-          0xff7ffce0,
           0x0,
           0x0,
           0x0,
@@ -40907,9 +40470,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xff7ffce0,
           0x0,
-          0xff7ffce0,
           0x0,
           0xff7ffce0,
           0x0,
@@ -40946,7 +40507,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         new int[] {
           0x0,
           0x0,
-          0xffffffff,
           0x0,
           0x0,
           0xffffffff,
@@ -41311,6 +40871,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x800,
           0xffffffff,
           0xffffffff,
+          0x0,
           0xffffffff,
           0xffffffff,
           0x0,
@@ -41349,7 +40910,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x1c48100,
           0x0,
           0x0,
           0x0,
@@ -41357,7 +40917,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0xffffffff,
-          0xffffffff,
           0x0,
           0x0,
           0x0,
@@ -41373,9 +40932,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xffffffff,
           0x0,
-          0xffffffff,
           0x0,
           0xffffffff,
           0x0,
@@ -41412,7 +40969,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         new int[] {
           0x0,
           0x0,
-          0xffffffff,
           0x1000010,
           0x0,
           0xfefbffff,
@@ -41777,6 +41333,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0xfefbffff,
           0xfefbffff,
+          0x0,
           0xfefbffff,
           0xfefbffff,
           0x10,
@@ -41815,7 +41372,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x100,
-          0x208061e,
           0xc0,
           0x0,
           0xc0,
@@ -41823,7 +41379,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x20,
           0x0,
           0xfeffffff,
-          0xffffffff,
           0x1000010,
           0x10,
           0x8000,
@@ -41839,9 +41394,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0xffffffff,
           0x1000010,
-          0xffffffff,
           0x1000010,
           0xfefbffff,
           0x0,
@@ -41878,7 +41431,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         new int[] {
           0x180,
           0x0,
-          0x308e017f,
           0x0,
           0x20000100,
           0x1f,
@@ -42243,6 +41795,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x1f,
           0x1f,
+          0x0,
           0x1f,
           0x1f,
           0x0,
@@ -42287,8 +41840,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x0,
-          0x308e017f,
           0x308e017f,
           0x0,
           0x0,
@@ -42305,9 +41856,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x308e017f,
           0x0,
-          0x308e017f,
           0x0,
           0x1f,
           0x0,
@@ -42344,7 +41893,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         new int[] {
           0x0,
           0x4,
-          0x600c0055,
           0x40,
           0x0,
           0x0,
@@ -42709,6 +42257,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
+          0x0,
           0x40000000,
           0x40000000,
           0x0,
@@ -42750,12 +42299,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x0,
           0x4,
           0x0,
           0x0,
           0x600c0015,
-          0x600c0055,
           0x40,
           0x0,
           0x0,
@@ -42771,9 +42318,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x600c0055,
           0x40,
-          0x600c0055,
           0x40,
           0x40000000,
           0x100,
@@ -42810,7 +42355,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         new int[] {
           0x0,
           0x0,
-          0x400000,
           0x0,
           0x0,
           0x400000,
@@ -43175,6 +42719,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x400000,
           0x400000,
+          0x0,
           0x400000,
           0x400000,
           0x0,
@@ -43219,8 +42764,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x0,
-          0x400000,
           0x400000,
           0x0,
           0x0,
@@ -43237,9 +42780,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x400000,
           0x0,
-          0x400000,
           0x0,
           0x7cc00000,
           0x0,
@@ -43276,7 +42817,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         new int[] {
           0x0,
           0x0,
-          0x8032,
           0x0,
           0x0,
           0x32,
@@ -43641,6 +43181,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x32,
           0x32,
+          0x0,
           0x10032,
           0x10032,
           0x0,
@@ -43685,8 +43226,6 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x0,
           0x0,
           0x0,
-          0x0,
-          0x8032,
           0x8032,
           0x0,
           0x0,
@@ -43703,9 +43242,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
           0x6000000,
           0x18000000,
           0x18000000,
-          0x8032,
           0x0,
-          0x8032,
           0x0,
           0x3a,
           0x0,
@@ -43737,7 +43274,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
         };
   }
 
-  private final JJCalls[] jj_2_rtns = new JJCalls[168];
+  private final JJCalls[] jj_2_rtns = new JJCalls[173];
   private boolean jj_rescan = false;
   private int jj_gc = 0;
 
@@ -43747,7 +43284,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 460; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 456; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -43756,9 +43293,10 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     token_source.ReInit(stream);
     token = new Token();
     jj_ntk = -1;
+    jj_lookingAhead = false;
     jjtree.reset();
     jj_gen = 0;
-    for (int i = 0; i < 460; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 456; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -43768,7 +43306,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 460; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 456; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -43779,7 +43317,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
     jj_ntk = -1;
     jjtree.reset();
     jj_gen = 0;
-    for (int i = 0; i < 460; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 456; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -43853,7 +43391,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
 
   /** Get the specific Token. */
   public final Token getToken(int index) {
-    Token t = token;
+    Token t = jj_lookingAhead ? jj_scanpos : token;
     for (int i = 0; i < index; i++) {
       if (t.next != null) t = t.next;
       else t = t.next = token_source.getNextToken();
@@ -43918,7 +43456,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
       la1tokens[jj_kind] = true;
       jj_kind = -1;
     }
-    for (int i = 0; i < 460; i++) {
+    for (int i = 0; i < 456; i++) {
       if (jj_la1[i] == jj_gen) {
         for (int j = 0; j < 32; j++) {
           if ((jj_la1_0[i] & (1 << j)) != 0) {
@@ -43983,7 +43521,7 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
 
   private void jj_rescan_token() {
     jj_rescan = true;
-    for (int i = 0; i < 168; i++) {
+    for (int i = 0; i < 173; i++) {
       try {
         JJCalls p = jj_2_rtns[i];
 
@@ -44496,6 +44034,21 @@ public class OrientSql /*@bgen(jjtree)*/ implements OrientSqlTreeConstants, Orie
               case 167:
                 jj_3_168();
                 break;
+              case 168:
+                jj_3_169();
+                break;
+              case 169:
+                jj_3_170();
+                break;
+              case 170:
+                jj_3_171();
+                break;
+              case 171:
+                jj_3_172();
+                break;
+              case 172:
+                jj_3_173();
+                break;
             }
           }
           p = p.next;
@@ -147,65 +147,66 @@ public interface OrientSqlTreeConstants {
   public int JJTBOTHPATHITEMOPT = 142;
   public int JJTPROFILESTORAGESTATEMENT = 143;
   public int JJTTRUNCATECLASSSTATEMENT = 144;
-  public int JJTTRUNCATECLUSTERSTATEMENT = 145;
-  public int JJTTRUNCATERECORDSTATEMENT = 146;
-  public int JJTFINDREFERENCESSTATEMENT = 147;
-  public int JJTCREATECLASSSTATEMENT = 148;
-  public int JJTCREATEVIEWSTATEMENT = 149;
-  public int JJTALTERCLASSSTATEMENT = 150;
-  public int JJTDROPCLASSSTATEMENT = 151;
-  public int JJTDROPVIEWSTATEMENT = 152;
-  public int JJTIFNOTEXISTS = 153;
-  public int JJTCREATEPROPERTYSTATEMENT = 154;
-  public int JJTCREATEPROPERTYATTRIBUTESTATEMENT = 155;
-  public int JJTALTERPROPERTYSTATEMENT = 156;
-  public int JJTDROPPROPERTYSTATEMENT = 157;
-  public int JJTCREATEINDEXSTATEMENT = 158;
-  public int JJTREBUILDINDEXSTATEMENT = 159;
-  public int JJTDROPINDEXSTATEMENT = 160;
-  public int JJTCREATECLUSTERSTATEMENT = 161;
-  public int JJTALTERCLUSTERSTATEMENT = 162;
-  public int JJTDROPCLUSTERSTATEMENT = 163;
-  public int JJTALTERDATABASESTATEMENT = 164;
-  public int JJTCOMMANDLINEOPTION = 165;
-  public int JJTOPTIMIZEDATABASESTATEMENT = 166;
-  public int JJTCREATELINKSTATEMENT = 167;
-  public int JJTEXPLAINSTATEMENT = 168;
-  public int JJTPROFILESTATEMENT = 169;
-  public int JJTPERMISSION = 170;
-  public int JJTGRANTSTATEMENT = 171;
-  public int JJTREVOKESTATEMENT = 172;
-  public int JJTCREATEFUNCTIONSTATEMENT = 173;
-  public int JJTCREATESYSTEMUSERSTATEMENT = 174;
-  public int JJTEXISTSSYSTEMUSERSTATEMENT = 175;
-  public int JJTCREATEUSERSTATEMENT = 176;
-  public int JJTDROPUSERSTATEMENT = 177;
-  public int JJTALTERROLESTATEMENT = 178;
-  public int JJTALTERSYSTEMROLESTATEMENT = 179;
-  public int JJTLETSTATEMENT = 180;
-  public int JJTBEGINSTATEMENT = 181;
-  public int JJTCOMMITSTATEMENT = 182;
-  public int JJTROLLBACKSTATEMENT = 183;
-  public int JJTRETURNSTATEMENT = 184;
-  public int JJTIFSTATEMENT = 185;
-  public int JJTSLEEPSTATEMENT = 186;
-  public int JJTCONSOLESTATEMENT = 187;
-  public int JJTCREATESEQUENCESTATEMENT = 188;
-  public int JJTALTERSEQUENCESTATEMENT = 189;
-  public int JJTDROPSEQUENCESTATEMENT = 190;
-  public int JJTHASTATUSSTATEMENT = 191;
-  public int JJTHAREMOVESERVERSTATEMENT = 192;
-  public int JJTHASYNCDATABASESTATEMENT = 193;
-  public int JJTHASYNCCLUSTERSTATEMENT = 194;
-  public int JJTHASETSTATEMENT = 195;
-  public int JJTFOREACHBLOCK = 196;
-  public int JJTWHILEBLOCK = 197;
-  public int JJTSECURITYRESOURCESEGMENT = 198;
-  public int JJTCREATESECURITYPOLICYSTATEMENT = 199;
-  public int JJTALTERSECURITYPOLICYSTATEMENT = 200;
-  public int JJTDATABASEUSERDATA = 201;
-  public int JJTCREATEDATABASESTATEMENT = 202;
-  public int JJTDROPDATABASESTATEMENT = 203;
+  public int JJTANALYZECLASSSTATEMENT = 145;
+  public int JJTTRUNCATECLUSTERSTATEMENT = 146;
+  public int JJTTRUNCATERECORDSTATEMENT = 147;
+  public int JJTFINDREFERENCESSTATEMENT = 148;
+  public int JJTCREATECLASSSTATEMENT = 149;
+  public int JJTCREATEVIEWSTATEMENT = 150;
+  public int JJTALTERCLASSSTATEMENT = 151;
+  public int JJTDROPCLASSSTATEMENT = 152;
+  public int JJTDROPVIEWSTATEMENT = 153;
+  public int JJTIFNOTEXISTS = 154;
+  public int JJTCREATEPROPERTYSTATEMENT = 155;
+  public int JJTCREATEPROPERTYATTRIBUTESTATEMENT = 156;
+  public int JJTALTERPROPERTYSTATEMENT = 157;
+  public int JJTDROPPROPERTYSTATEMENT = 158;
+  public int JJTCREATEINDEXSTATEMENT = 159;
+  public int JJTREBUILDINDEXSTATEMENT = 160;
+  public int JJTDROPINDEXSTATEMENT = 161;
+  public int JJTCREATECLUSTERSTATEMENT = 162;
+  public int JJTALTERCLUSTERSTATEMENT = 163;
+  public int JJTDROPCLUSTERSTATEMENT = 164;
+  public int JJTALTERDATABASESTATEMENT = 165;
+  public int JJTCOMMANDLINEOPTION = 166;
+  public int JJTOPTIMIZEDATABASESTATEMENT = 167;
+  public int JJTCREATELINKSTATEMENT = 168;
+  public int JJTEXPLAINSTATEMENT = 169;
+  public int JJTPROFILESTATEMENT = 170;
+  public int JJTPERMISSION = 171;
+  public int JJTGRANTSTATEMENT = 172;
+  public int JJTREVOKESTATEMENT = 173;
+  public int JJTCREATEFUNCTIONSTATEMENT = 174;
+  public int JJTCREATESYSTEMUSERSTATEMENT = 175;
+  public int JJTEXISTSSYSTEMUSERSTATEMENT = 176;
+  public int JJTCREATEUSERSTATEMENT = 177;
+  public int JJTDROPUSERSTATEMENT = 178;
+  public int JJTALTERROLESTATEMENT = 179;
+  public int JJTALTERSYSTEMROLESTATEMENT = 180;
+  public int JJTLETSTATEMENT = 181;
+  public int JJTBEGINSTATEMENT = 182;
+  public int JJTCOMMITSTATEMENT = 183;
+  public int JJTROLLBACKSTATEMENT = 184;
+  public int JJTRETURNSTATEMENT = 185;
+  public int JJTIFSTATEMENT = 186;
+  public int JJTSLEEPSTATEMENT = 187;
+  public int JJTCONSOLESTATEMENT = 188;
+  public int JJTCREATESEQUENCESTATEMENT = 189;
+  public int JJTALTERSEQUENCESTATEMENT = 190;
+  public int JJTDROPSEQUENCESTATEMENT = 191;
+  public int JJTHASTATUSSTATEMENT = 192;
+  public int JJTHAREMOVESERVERSTATEMENT = 193;
+  public int JJTHASYNCDATABASESTATEMENT = 194;
+  public int JJTHASYNCCLUSTERSTATEMENT = 195;
+  public int JJTHASETSTATEMENT = 196;
+  public int JJTFOREACHBLOCK = 197;
+  public int JJTWHILEBLOCK = 198;
+  public int JJTSECURITYRESOURCESEGMENT = 199;
+  public int JJTCREATESECURITYPOLICYSTATEMENT = 200;
+  public int JJTALTERSECURITYPOLICYSTATEMENT = 201;
+  public int JJTDATABASEUSERDATA = 202;
+  public int JJTCREATEDATABASESTATEMENT = 203;
+  public int JJTDROPDATABASESTATEMENT = 204;
 
   public String[] jjtNodeName = {
     "Rid",
@@ -353,6 +354,7 @@ public interface OrientSqlTreeConstants {
     "BothPathItemOpt",
     "ProfileStorageStatement",
     "TruncateClassStatement",
+    "AnalyzeClassStatement",
     "TruncateClusterStatement",
     "TruncateRecordStatement",
     "FindReferencesStatement",
@@ -414,4 +416,4 @@ public interface OrientSqlTreeConstants {
     "DropDatabaseStatement",
   };
 }
-/* JavaCC - OriginalChecksum=6b628388baaee11b48c8474b76ea4589 (do not edit this line) */
+/* JavaCC - OriginalChecksum=9316c189d71984bbd5532ed838a85ffb (do not edit this line) */
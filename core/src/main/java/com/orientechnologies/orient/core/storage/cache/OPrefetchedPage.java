@@ -0,0 +1,24 @@
+package com.orientechnologies.orient.core.storage.cache;
+
+/**
+ * Page which is read asynchronously by {@link OWriteCache#prefetch(long, long, int, boolean)}
+ * ahead of the moment when it is requested. Instance of the page should be either consumed by the
+ * {@link #get()} call or released by the {@link #release()} call, but not both.
+ */
+public interface OPrefetchedPage {
+  /** @return Index of the page inside of the file. */
+  long getPageIndex();
+
+  /**
+   * Waits till read of the page is completed and returns its content.
+   *
+   * @return Pointer to the page content with incremented readers referrer or <code>null</code> if
+   *     page can not be read ahead, in such case it should be loaded by {@link
+   *     OWriteCache#load(long, long, com.orientechnologies.common.types.OModifiableBoolean,
+   *     boolean)} call.
+   */
+  OCachePointer get();
+
+  /** Releases resources of the page which is not going to be used. */
+  void release();
+}
@@ -0,0 +1,135 @@
+package com.orientechnologies.orient.core.storage.cache;
+
+import com.orientechnologies.orient.core.storage.cache.chm.PageKey;
+
+/**
+ * Small private ring of pages which is used by sequential scans instead of the disk cache. When a
+ * ring is attached to the current thread, pages which are absent in the read cache are loaded into
+ * the ring and are not admitted into the cache, so a full scan of a big cluster does not evict the
+ * working set of the database. Pages which are already cached are still served by the cache.
+ *
+ * <p>Every page kept in the ring holds single reader referrer of its {@link OCachePointer}, that
+ * referrer is released once page is pushed out of the ring or ring is closed. Ring is not thread
+ * safe and should be used only by the thread to which it is attached.
+ *
+ * <p>Each page is stored together with the modification stamp provided by the read cache at the
+ * moment of load. Page is reused only if its stamp is not changed, so the ring never serves a page
+ * which was modified after it had been loaded.
+ */
+public final class OScanBufferRing implements AutoCloseable {
+  private static final ThreadLocal<OScanBufferRing> CURRENT_RING = new ThreadLocal<>();
+
+  private final PageKey[] pageKeys;
+  private final OCacheEntry[] entries;
+  private final long[] stamps;
+
+  private int head;
+  private OScanBufferRing previous;
+  private boolean attached;
+
+  public OScanBufferRing(final int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity of scan ring should be positive");
+    }
+
+    pageKeys = new PageKey[capacity];
+    entries = new OCacheEntry[capacity];
+    stamps = new long[capacity];
+  }
+
+  /** @return Ring attached to the current thread or <code>null</code> if there is no such ring. */
+  public static OScanBufferRing current() {
+    return CURRENT_RING.get();
+  }
+
+  /** Makes this ring visible to the read cache for all page loads of the current thread. */
+  public void attach() {
+    if (attached) {
+      throw new IllegalStateException("Scan ring is already attached");
+    }
+
+    previous = CURRENT_RING.get();
+    CURRENT_RING.set(this);
+    attached = true;
+  }
+
+  /** Restores the ring which was attached to the current thread before {@link #attach()} call. */
+  public void detach() {
+    if (!attached) {
+      throw new IllegalStateException("Scan ring is not attached");
+    }
+
+    if (previous == null) {
+      CURRENT_RING.remove();
+    } else {
+      CURRENT_RING.set(previous);
+    }
+
+    previous = null;
+    attached = false;
+  }
+
+  /**
+   * Looks for the page in the ring.
+   *
+   * @param pageKey Key of the page.
+   * @param stamp Current modification stamp of the page.
+   * @return Cached entry or <code>null</code> if page is absent or was modified after it had been
+   *     added to the ring. Caller should acquire entry and its pointer itself.
+   */
+  public OCacheEntry get(final PageKey pageKey, final long stamp) {
+    for (int i = 0; i < pageKeys.length; i++) {
+      if (pageKey.equals(pageKeys[i])) {
+        if (stamps[i] == stamp) {
+          return entries[i];
+        }
+
+        evict(i);
+        return null;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Adds page to the ring replacing the oldest one. Ownership of the single reader referrer of the
+   * page pointer is passed to the ring.
+   */
+  public void add(final OCacheEntry entry, final long stamp) {
+    evict(head);
+
+    pageKeys[head] = entry.getPageKey();
+    entries[head] = entry;
+    stamps[head] = stamp;
+
+    head++;
+    if (head == pageKeys.length) {
+      head = 0;
+    }
+  }
+
+  public int capacity() {
+    return pageKeys.length;
+  }
+
+  /** Releases all pages kept in the ring, ring may be reused after this call. */
+  @Override
+  public void close() {
+    for (int i = 0; i < pageKeys.length; i++) {
+      evict(i);
+    }
+
+    head = 0;
+  }
+
+  private void evict(final int index) {
+    final OCacheEntry entry = entries[index];
+    if (entry != null) {
+      entries[index] = null;
+      pageKeys[index] = null;
+
+      entry.getCachePointer().decrementReadersReferrer();
+    }
+  }
+}
@@ -27,6 +27,7 @@ import com.orientechnologies.orient.core.storage.impl.local.OPageIsBrokenListene
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 
 public interface OWriteCache {
@@ -94,6 +95,20 @@ public interface OWriteCache {
       long fileId, long startPageIndex, OModifiableBoolean cacheHit, boolean verifyChecksums)
       throws IOException;
 
+  /**
+   * Starts asynchronous read of the pages which are going to be requested soon. Pages which are
+   * absent in the file are skipped, pages which are kept inside of the write cache are returned
+   * immediately.
+   *
+   * @param fileId Id of the file.
+   * @param startPageIndex Index of the first page to read.
+   * @param pageCount Amount of pages to read.
+   * @param verifyChecksums Whether checksums of pages should be verified once they are read.
+   * @return Pages for which read was started, in order of their indexes.
+   */
+  List<OPrefetchedPage> prefetch(
+      long fileId, long startPageIndex, int pageCount, boolean verifyChecksums) throws IOException;
+
   void flush(long fileId);
 
   void flush();
@@ -13,6 +13,7 @@ import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntryImpl;
 import com.orientechnologies.orient.core.storage.cache.OCachePointer;
 import com.orientechnologies.orient.core.storage.cache.OReadCache;
+import com.orientechnologies.orient.core.storage.cache.OScanBufferRing;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
 import com.orientechnologies.orient.core.storage.cache.chm.readbuffer.BoundedBuffer;
 import com.orientechnologies.orient.core.storage.cache.chm.readbuffer.Buffer;
@@ -24,6 +25,8 @@ import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
@@ -39,11 +42,19 @@ import java.util.concurrent.locks.ReentrantLock;
  * additional pages from write cache to disk cache. Window TinyLFU policy is used as cache eviction
  * policy because it prevents usage of ghost entries and as result considerably decrease usage of
  * heap memory.
+ *
+ * <p>Pages requested for read by the thread which has attached {@link OScanBufferRing} are not
+ * admitted into the cache if they are absent in it, instead they are kept in the ring till they are
+ * pushed out by the next pages of the scan.
+ *
+ * <p>If read-ahead is enabled, sequential page requests of each thread are detected and next pages
+ * of the file are read asynchronously, see {@link ReadAhead} for details.
  */
 public final class AsyncReadCache implements OReadCache {
 
   private static final int N_CPU = Runtime.getRuntime().availableProcessors();
   private static final int WRITE_BUFFER_MAX_BATCH = 128 * ceilingPowerOfTwo(N_CPU);
+  private static final int PAGE_STAMPS_MASK = 1023;
 
   private final ConcurrentHashMap<PageKey, OCacheEntry> data;
   private final Lock evictionLock = new ReentrantLock();
@@ -60,6 +71,19 @@ public final class AsyncReadCache implements OReadCache {
   private final LongAdder requests = new LongAdder();
   private final LongAdder hits = new LongAdder();
 
+  private final LongAdder scanBypassedPages = new LongAdder();
+  private final LongAdder scanRingHits = new LongAdder();
+
+  /**
+   * Striped counters of page modifications, used to detect that page kept in {@link
+   * OScanBufferRing} is outdated. Counter of stripe is incremented each time page which belongs to
+   * this stripe is changed, {@link #filesStamp} is incremented each time file is truncated or
+   * removed from the cache.
+   */
+  private final AtomicLongArray pageStamps = new AtomicLongArray(PAGE_STAMPS_MASK + 1);
+
+  private final AtomicLong filesStamp = new AtomicLong();
+
   /** Status which indicates whether flush of buffers should be performed or may be delayed. */
   private final AtomicReference<DrainStatus> drainStatus = new AtomicReference<>(DrainStatus.IDLE);
 
@@ -67,11 +91,26 @@ public final class AsyncReadCache implements OReadCache {
 
   private final OByteBufferPool bufferPool;
 
+  /** Read-ahead of sequentially accessed pages, <code>null</code> if read-ahead is disabled. */
+  private final ReadAhead readAhead;
+
   public AsyncReadCache(
       final OByteBufferPool bufferPool,
       final long maxCacheSizeInBytes,
       final int pageSize,
       final boolean trackHitRate) {
+    this(bufferPool, maxCacheSizeInBytes, pageSize, trackHitRate, 0);
+  }
+
+  /**
+   * @param readAheadPages Maximum size of read-ahead window in pages, 0 disables read-ahead.
+   */
+  public AsyncReadCache(
+      final OByteBufferPool bufferPool,
+      final long maxCacheSizeInBytes,
+      final int pageSize,
+      final boolean trackHitRate,
+      final int readAheadPages) {
     evictionLock.lock();
     try {
       this.pageSize = pageSize;
@@ -82,6 +121,19 @@ public final class AsyncReadCache implements OReadCache {
       this.data = new ConcurrentHashMap<>(this.maxCacheSize);
       policy = new WTinyLFUPolicy(data, new FrequencySketch(), cacheSize);
       policy.setMaxSize(this.maxCacheSize);
+
+      if (readAheadPages > 0) {
+        // several concurrent streams may read ahead, but prefetched pages should not take
+        // considerable part of the memory reserved for the cache
+        readAhead =
+            new ReadAhead(
+                readAheadPages,
+                Math.min(readAheadPages * 32, this.maxCacheSize / 8),
+                data,
+                this::pageStamp);
+      } else {
+        readAhead = null;
+      }
     } finally {
       evictionLock.unlock();
     }
@@ -123,7 +175,21 @@ public final class AsyncReadCache implements OReadCache {
       final long pageIndex,
       final OWriteCache writeCache,
       final boolean verifyChecksums) {
-    return doLoad(fileId, (int) pageIndex, writeCache, verifyChecksums);
+    final OScanBufferRing scanRing = OScanBufferRing.current();
+
+    final OCacheEntry cacheEntry;
+    if (scanRing != null) {
+      cacheEntry = doScanLoad(fileId, (int) pageIndex, writeCache, verifyChecksums, scanRing);
+    } else {
+      cacheEntry = doLoad(fileId, (int) pageIndex, writeCache, verifyChecksums);
+    }
+
+    if (readAhead != null && cacheEntry != null) {
+      readAhead.onRead(
+          cacheEntry.getFileId(), cacheEntry.getPageIndex(), writeCache, verifyChecksums);
+    }
+
+    return cacheEntry;
   }
 
   @Override
@@ -162,6 +228,82 @@ public final class AsyncReadCache implements OReadCache {
     }
   }
 
+  /**
+   * Loads page for the sequential scan. Pages which are present in the cache are returned without
+   * updating of eviction policy, all other pages are loaded into the scan ring bypassing the cache.
+   */
+  private OCacheEntry doScanLoad(
+      final long extFileId,
+      final int pageIndex,
+      final OWriteCache writeCache,
+      final boolean verifyChecksums,
+      final OScanBufferRing scanRing) {
+    final long fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), extFileId);
+    final PageKey pageKey = new PageKey(fileId, pageIndex);
+
+    if (trackHitRate) {
+      requests.increment();
+    }
+
+    while (true) {
+      OCacheEntry cacheEntry = data.get(pageKey);
+      if (cacheEntry != null) {
+        if (cacheEntry.acquireEntry()) {
+          if (trackHitRate) {
+            hits.increment();
+          }
+
+          return cacheEntry;
+        }
+
+        continue;
+      }
+
+      // stamp should be read before the page is loaded, so any later change makes page outdated
+      final long stamp = pageStamp(pageKey);
+
+      cacheEntry = scanRing.get(pageKey, stamp);
+      if (cacheEntry != null) {
+        scanRingHits.increment();
+      } else {
+        final OCacheEntry[] updatedEntry = new OCacheEntry[1];
+
+        cacheEntry =
+            data.compute(
+                pageKey,
+                (page, entry) ->
+                    internalNewCacheEntrySkipCache(
+                        writeCache, verifyChecksums, fileId, updatedEntry, page, entry));
+
+        if (cacheEntry != null) {
+          // page was added to the cache concurrently
+          continue;
+        }
+
+        cacheEntry = updatedEntry[0];
+        if (cacheEntry == null) {
+          return null;
+        }
+
+        scanBypassedPages.increment();
+        scanRing.add(cacheEntry, stamp);
+      }
+
+      cacheEntry.getCachePointer().incrementReadersReferrer();
+      cacheEntry.acquireEntry();
+
+      return cacheEntry;
+    }
+  }
+
+  private long pageStamp(final PageKey pageKey) {
+    return pageStamps.get(pageKey.hashCode() & PAGE_STAMPS_MASK) + filesStamp.get();
+  }
+
+  private void updatePageStamp(final PageKey pageKey) {
+    pageStamps.incrementAndGet(pageKey.hashCode() & PAGE_STAMPS_MASK);
+  }
+
   private OCacheEntry internalNewCacheEntrySkipCache(
       final OWriteCache writeCache,
       final boolean verifyChecksums,
@@ -171,8 +313,7 @@ public final class AsyncReadCache implements OReadCache {
       OCacheEntry entry) {
     if (entry == null) {
       try {
-        final OCachePointer pointer =
-            writeCache.load(fileId, page.getPageIndex(), new OModifiableBoolean(), verifyChecksums);
+        final OCachePointer pointer = loadPage(writeCache, verifyChecksums, fileId, page);
         if (pointer == null) {
           return null;
         }
@@ -192,6 +333,22 @@ public final class AsyncReadCache implements OReadCache {
     }
   }
 
+  private OCachePointer loadPage(
+      final OWriteCache writeCache,
+      final boolean verifyChecksums,
+      final long fileId,
+      final PageKey page)
+      throws IOException {
+    if (readAhead != null) {
+      final OCachePointer pointer = readAhead.take(page);
+      if (pointer != null) {
+        return pointer;
+      }
+    }
+
+    return writeCache.load(fileId, page.getPageIndex(), new OModifiableBoolean(), verifyChecksums);
+  }
+
   private OCacheEntry doLoad(
       final long extFileId,
       final int pageIndex,
@@ -267,8 +424,7 @@ public final class AsyncReadCache implements OReadCache {
       OCacheEntry entry) {
     if (entry == null) {
       try {
-        final OCachePointer pointer =
-            writeCache.load(fileId, page.getPageIndex(), new OModifiableBoolean(), verifyChecksums);
+        final OCachePointer pointer = loadPage(writeCache, verifyChecksums, fileId, page);
         if (pointer == null) {
           return null;
         }
@@ -345,6 +501,8 @@ public final class AsyncReadCache implements OReadCache {
             return entry; // may be absent if page in pinned pages, in such case we use map as
             // virtual lock
           });
+
+      updatePageStamp(cacheEntry.getPageKey());
     }
 
     // We need to release exclusive lock from cache pointer after we put it into the write cache so
@@ -497,6 +655,10 @@ public final class AsyncReadCache implements OReadCache {
 
   @Override
   public final void clear() {
+    if (readAhead != null) {
+      readAhead.clear();
+    }
+
     evictionLock.lock();
     try {
       emptyBuffers();
@@ -525,6 +687,10 @@ public final class AsyncReadCache implements OReadCache {
   public final void truncateFile(long fileId, final OWriteCache writeCache) throws IOException {
     fileId = OAbstractWriteCache.checkFileIdCompatibility(writeCache.getId(), fileId);
 
+    if (readAhead != null) {
+      readAhead.clearFile(fileId);
+    }
+
     final int filledUpTo = (int) writeCache.getFilledUpTo(fileId);
     writeCache.truncateFile(fileId);
 
@@ -579,6 +745,12 @@ public final class AsyncReadCache implements OReadCache {
   }
 
   private void clearFile(final long fileId, final int filledUpTo, final OWriteCache writeCache) {
+    filesStamp.incrementAndGet();
+
+    if (readAhead != null) {
+      readAhead.clearFile(fileId);
+    }
+
     evictionLock.lock();
     try {
       emptyBuffers();
@@ -632,6 +804,32 @@ public final class AsyncReadCache implements OReadCache {
     }
   }
 
+  /**
+   * @return Amount of pages which were loaded by sequential scans into {@link OScanBufferRing}
+   *     instead of the cache.
+   */
+  public long getScanBypassedPages() {
+    return scanBypassedPages.sum();
+  }
+
+  /**
+   * @return Amount of page requests of sequential scans which were served by {@link
+   *     OScanBufferRing} without access to the write cache.
+   */
+  public long getScanRingHits() {
+    return scanRingHits.sum();
+  }
+
+  /** @return Amount of pages which were read ahead of sequential page requests. */
+  public long getReadAheadPages() {
+    return readAhead != null ? readAhead.getReadAheadPages() : 0;
+  }
+
+  /** @return Amount of page requests which were served by pages read ahead. */
+  public long getReadAheadHits() {
+    return readAhead != null ? readAhead.getReadAheadHits() : 0;
+  }
+
   int hitRate() {
     final long reqSum = requests.sum();
     if (reqSum == 0) {
@@ -0,0 +1,332 @@
+package com.orientechnologies.orient.core.storage.cache.chm;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OCachePointer;
+import com.orientechnologies.orient.core.storage.cache.OPrefetchedPage;
+import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * Adaptive read-ahead of {@link AsyncReadCache}. Each thread tracks several streams of page
+ * requests, one stream per file. Once stream becomes sequential (in forward or backward direction)
+ * next pages of the stream are read asynchronously through {@link OWriteCache#prefetch(long, long,
+ * int, boolean)}, size of read-ahead window is doubled each time the stream consumes half of the
+ * window till it reaches maximum size and is reset once stream stops to be sequential.
+ *
+ * <p>Prefetched pages are not admitted into the cache, they are kept in the separate bounded
+ * buffer till they are requested by the read cache, so pages which were read ahead but never used
+ * do not pollute the cache. Each prefetched page is stored together with modification stamp of
+ * the read cache, page is discarded if it was changed after the read had been started.
+ */
+final class ReadAhead {
+  private static final int STREAMS_PER_THREAD = 4;
+  private static final int SEQUENTIAL_READS_THRESHOLD = 2;
+  private static final int INITIAL_WINDOW = 4;
+
+  private final int maxWindow;
+  private final int maxPages;
+
+  private final Map<PageKey, OCacheEntry> cachedPages;
+  private final ToLongFunction<PageKey> pageStamps;
+
+  private final ConcurrentHashMap<PageKey, Prefetched> pages = new ConcurrentHashMap<>();
+
+  /** Prefetched pages in order of their addition, may contain pages which are already consumed. */
+  private final ConcurrentLinkedQueue<Prefetched> queue = new ConcurrentLinkedQueue<>();
+
+  private final AtomicInteger size = new AtomicInteger();
+  private final AtomicInteger queueSize = new AtomicInteger();
+
+  private final LongAdder readAheadPages = new LongAdder();
+  private final LongAdder readAheadHits = new LongAdder();
+
+  private final ThreadLocal<ThreadStreams> streams = ThreadLocal.withInitial(ThreadStreams::new);
+
+  ReadAhead(
+      final int maxWindow,
+      final int maxPages,
+      final Map<PageKey, OCacheEntry> cachedPages,
+      final ToLongFunction<PageKey> pageStamps) {
+    this.maxWindow = maxWindow;
+    this.maxPages = Math.max(maxPages, maxWindow);
+    this.cachedPages = cachedPages;
+    this.pageStamps = pageStamps;
+  }
+
+  /**
+   * Returns prefetched page if it is present and was not changed after read ahead had been started.
+   *
+   * @return Page pointer with incremented readers referrer or <code>null</code> if page should be
+   *     loaded from write cache.
+   */
+  OCachePointer take(final PageKey pageKey) {
+    final Prefetched prefetched = pages.remove(pageKey);
+    if (prefetched == null) {
+      return null;
+    }
+
+    size.decrementAndGet();
+
+    if (prefetched.stamp != pageStamps.applyAsLong(pageKey)) {
+      prefetched.page.release();
+      return null;
+    }
+
+    final OCachePointer pointer = prefetched.page.get();
+    if (pointer != null) {
+      readAheadHits.increment();
+    }
+
+    return pointer;
+  }
+
+  /** Registers page access of the current thread and starts read ahead if access is sequential. */
+  void onRead(
+      final long fileId,
+      final int pageIndex,
+      final OWriteCache writeCache,
+      final boolean verifyChecksums) {
+    final Stream stream = stream(fileId);
+    if (stream.lastPageIndex < 0) {
+      stream.lastPageIndex = pageIndex;
+      return;
+    }
+
+    final int delta = pageIndex - stream.lastPageIndex;
+    if (delta == 0) {
+      return;
+    }
+
+    if (stream.sequentialReads > 0 && delta == stream.direction) {
+      stream.sequentialReads++;
+    } else if (delta == 1 || delta == -1) {
+      stream.direction = delta;
+      stream.sequentialReads = 1;
+      stream.window = INITIAL_WINDOW;
+      stream.nextPageIndex = pageIndex + delta;
+    } else {
+      stream.sequentialReads = 0;
+    }
+
+    stream.lastPageIndex = pageIndex;
+
+    if (stream.sequentialReads < SEQUENTIAL_READS_THRESHOLD) {
+      return;
+    }
+
+    final int pagesAhead = (stream.nextPageIndex - pageIndex) * stream.direction - 1;
+    if (pagesAhead > stream.window / 2) {
+      return;
+    }
+
+    if (pagesAhead > 0) {
+      stream.window = Math.min(stream.window * 2, maxWindow);
+    }
+
+    if (stream.direction > 0) {
+      final int startPageIndex = Math.max(stream.nextPageIndex, pageIndex + 1);
+      final int endPageIndex = pageIndex + 1 + stream.window;
+      prefetch(fileId, startPageIndex, endPageIndex, writeCache, verifyChecksums);
+      stream.nextPageIndex = endPageIndex;
+    } else {
+      final int startPageIndex = Math.max(pageIndex - stream.window, 0);
+      final int endPageIndex = Math.min(stream.nextPageIndex, pageIndex - 1) + 1;
+      prefetch(fileId, startPageIndex, endPageIndex, writeCache, verifyChecksums);
+      stream.nextPageIndex = startPageIndex - 1;
+    }
+  }
+
+  /** Discards all prefetched pages of the file. */
+  void clearFile(final long fileId) {
+    for (final Prefetched prefetched : pages.values()) {
+      if (prefetched.pageKey.getFileId() == fileId) {
+        discard(prefetched);
+      }
+    }
+  }
+
+  /** Discards all prefetched pages. */
+  void clear() {
+    for (final Prefetched prefetched : pages.values()) {
+      discard(prefetched);
+    }
+  }
+
+  long getReadAheadPages() {
+    return readAheadPages.sum();
+  }
+
+  long getReadAheadHits() {
+    return readAheadHits.sum();
+  }
+
+  private Stream stream(final long fileId) {
+    final ThreadStreams threadStreams = streams.get();
+    threadStreams.accessCounter++;
+
+    Stream victim = threadStreams.streams[0];
+    for (final Stream stream : threadStreams.streams) {
+      if (stream.fileId == fileId) {
+        stream.lastAccess = threadStreams.accessCounter;
+        return stream;
+      }
+
+      if (stream.lastAccess < victim.lastAccess) {
+        victim = stream;
+      }
+    }
+
+    victim.fileId = fileId;
+    victim.lastPageIndex = -1;
+    victim.sequentialReads = 0;
+    victim.lastAccess = threadStreams.accessCounter;
+
+    return victim;
+  }
+
+  /** Starts read of all pages from the interval [startPageIndex, endPageIndex) which are absent. */
+  private void prefetch(
+      final long fileId,
+      final int startPageIndex,
+      final int endPageIndex,
+      final OWriteCache writeCache,
+      final boolean verifyChecksums) {
+    int runStart = -1;
+    for (int pageIndex = startPageIndex; pageIndex < endPageIndex; pageIndex++) {
+      final PageKey pageKey = new PageKey(fileId, pageIndex);
+      final boolean present = cachedPages.containsKey(pageKey) || pages.containsKey(pageKey);
+
+      if (present) {
+        if (runStart >= 0) {
+          prefetchRun(fileId, runStart, pageIndex, writeCache, verifyChecksums);
+          runStart = -1;
+        }
+      } else if (runStart < 0) {
+        runStart = pageIndex;
+      }
+    }
+
+    if (runStart >= 0) {
+      prefetchRun(fileId, runStart, endPageIndex, writeCache, verifyChecksums);
+    }
+  }
+
+  private void prefetchRun(
+      final long fileId,
+      final int startPageIndex,
+      final int endPageIndex,
+      final OWriteCache writeCache,
+      final boolean verifyChecksums) {
+    final int pageCount = endPageIndex - startPageIndex;
+    evict(Math.max(size.get() + pageCount - maxPages, 0));
+
+    // stamps should be read before pages are read, so any later change makes page outdated
+    final long[] stamps = new long[pageCount];
+    for (int i = 0; i < pageCount; i++) {
+      stamps[i] = pageStamps.applyAsLong(new PageKey(fileId, startPageIndex + i));
+    }
+
+    final List<OPrefetchedPage> prefetchedPages;
+    try {
+      prefetchedPages = writeCache.prefetch(fileId, startPageIndex, pageCount, verifyChecksums);
+    } catch (final IOException e) {
+      throw OException.wrapException(
+          new OStorageException(
+              "Error during read ahead of pages "
+                  + startPageIndex
+                  + "-"
+                  + endPageIndex
+                  + " for file "
+                  + fileId),
+          e);
+    }
+
+    for (final OPrefetchedPage page : prefetchedPages) {
+      final PageKey pageKey = new PageKey(fileId, (int) page.getPageIndex());
+      final Prefetched prefetched =
+          new Prefetched(pageKey, page, stamps[(int) (page.getPageIndex() - startPageIndex)]);
+
+      if (pages.putIfAbsent(pageKey, prefetched) != null) {
+        page.release();
+        continue;
+      }
+
+      size.incrementAndGet();
+      queue.offer(prefetched);
+      queueSize.incrementAndGet();
+      readAheadPages.increment();
+    }
+  }
+
+  /**
+   * Removes the oldest prefetched pages. Queue also contains pages which are already consumed,
+   * they are removed too, so the queue does not grow beyond the doubled limit of the buffer.
+   */
+  private void evict(int pagesToEvict) {
+    while (pagesToEvict > 0 || queueSize.get() > 2 * maxPages) {
+      final Prefetched prefetched = queue.poll();
+      if (prefetched == null) {
+        return;
+      }
+
+      queueSize.decrementAndGet();
+      if (discard(prefetched)) {
+        pagesToEvict--;
+      }
+    }
+  }
+
+  private boolean discard(final Prefetched prefetched) {
+    if (pages.remove(prefetched.pageKey, prefetched)) {
+      size.decrementAndGet();
+      prefetched.page.release();
+      return true;
+    }
+
+    return false;
+  }
+
+  private static final class Prefetched {
+    private final PageKey pageKey;
+    private final OPrefetchedPage page;
+    private final long stamp;
+
+    private Prefetched(final PageKey pageKey, final OPrefetchedPage page, final long stamp) {
+      this.pageKey = pageKey;
+      this.page = page;
+      this.stamp = stamp;
+    }
+  }
+
+  /** State of the stream of page requests of single thread to the single file. */
+  private static final class Stream {
+    private long fileId = -1;
+    private int lastPageIndex = -1;
+    private int direction;
+    private int sequentialReads;
+    private int window;
+    private int nextPageIndex;
+
+    private long lastAccess;
+  }
+
+  private static final class ThreadStreams {
+    private final Stream[] streams = new Stream[STREAMS_PER_THREAD];
+    private long accessCounter;
+
+    private ThreadStreams() {
+      for (int i = 0; i < streams.length; i++) {
+        streams[i] = new Stream();
+      }
+    }
+  }
+}
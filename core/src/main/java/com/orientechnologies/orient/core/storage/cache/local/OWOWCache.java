@@ -31,8 +31,11 @@ import com.orientechnologies.common.directmemory.ODirectMemoryAllocator;
 import com.orientechnologies.common.directmemory.OPointer;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.io.OIOUtils;
+import com.orientechnologies.common.jnr.OIOUring;
+import com.orientechnologies.common.jnr.ONative;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.log.OLogger;
+import com.orientechnologies.common.profiler.OProfiler;
 import com.orientechnologies.common.serialization.types.OBinarySerializer;
 import com.orientechnologies.common.serialization.types.OIntegerSerializer;
 import com.orientechnologies.common.serialization.types.OLongSerializer;
@@ -40,6 +43,7 @@ import com.orientechnologies.common.thread.OThreadPoolExecutors;
 import com.orientechnologies.common.types.OModifiableBoolean;
 import com.orientechnologies.common.util.OQuarto;
 import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.command.OCommandOutputListener;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.exception.ODatabaseException;
@@ -51,10 +55,12 @@ import com.orientechnologies.orient.core.storage.OChecksumMode;
 import com.orientechnologies.orient.core.storage.cache.OAbstractWriteCache;
 import com.orientechnologies.orient.core.storage.cache.OCachePointer;
 import com.orientechnologies.orient.core.storage.cache.OPageDataVerificationError;
+import com.orientechnologies.orient.core.storage.cache.OPrefetchedPage;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
 import com.orientechnologies.orient.core.storage.cache.local.doublewritelog.DoubleWriteLog;
 import com.orientechnologies.orient.core.storage.fs.AsyncFile;
 import com.orientechnologies.orient.core.storage.fs.IOResult;
+import com.orientechnologies.orient.core.storage.fs.IOUringFile;
 import com.orientechnologies.orient.core.storage.fs.OFile;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.OPageIsBrokenListener;
@@ -332,6 +338,29 @@ public final class OWOWCache extends OAbstractWriteCache
    */
   private final TreeMap<Long, TreeSet<PageKey>> localDirtyPagesBySegment = new TreeMap<>();
 
+  /**
+   * Copy of content of {@link #dirtyPages} table sorted by LSN of the first not flushed change of
+   * the page and pages sorted by page index. Used to flush pages which contain the oldest changes
+   * to keep amount of WAL replayed during data restore within {@link #maxRecoveryLogSize}.
+   *
+   * @see #localDirtyPages for details
+   */
+  private final TreeMap<OLogSequenceNumber, TreeSet<PageKey>> localDirtyPagesByLSN =
+      new TreeMap<>();
+
+  /**
+   * Maximum amount of WAL (in bytes) which should be replayed during data restore after crash, if
+   * value is not positive amount of WAL is not limited.
+   */
+  private final long maxRecoveryLogSize;
+
+  /** Expected speed of data restore (bytes per second), used to estimate time of data restore. */
+  private final long restoreSpeed =
+      OGlobalConfiguration.WAL_RESTORE_SPEED.getValueAsLong() * 1024L * 1024L;
+
+  /** Amount of WAL which will be replayed during data restore if storage is crashed right now. */
+  private volatile long recoveryLogSize;
+
   /**
    * Approximate amount of all pages contained by write cache at the moment
    */
@@ -449,6 +478,20 @@ public final class OWOWCache extends OAbstractWriteCache
   private boolean closed;
   private final ExecutorService executor;
 
+  /**
+   * io_uring instance shared by all files of the storage, <code>null</code> if asynchronous file
+   * channels are used.
+   */
+  private OIOUring ioUring;
+
+  /**
+   * Whether data files are accessed bypassing OS page cache. Direct IO is used only if pages
+   * provided by buffer pool are aligned.
+   *
+   * @see OGlobalConfiguration#STORAGE_USE_DIRECT_IO
+   */
+  private final boolean directIO;
+
   public OWOWCache(
       final int pageSize,
       final OByteBufferPool bufferPool,
@@ -466,6 +509,7 @@ public final class OWOWCache extends OAbstractWriteCache
       final byte[] iv,
       final byte[] aesKey,
       final boolean callFsync,
+      final long maxRecoveryLogSize,
       ExecutorService executor) {
 
     if (aesKey != null && aesKey.length != 16 && aesKey.length != 24 && aesKey.length != 32) {
@@ -482,6 +526,7 @@ public final class OWOWCache extends OAbstractWriteCache
     this.iv = iv;
     this.aesKey = aesKey;
     this.callFsync = callFsync;
+    this.maxRecoveryLogSize = maxRecoveryLogSize;
 
     filesLock.acquireWriteLock();
     try {
@@ -496,6 +541,7 @@ public final class OWOWCache extends OAbstractWriteCache
       this.bufferPool = bufferPool;
 
       this.checksumMode = checksumMode;
+      this.directIO = bufferPool.getAlignment() > 0;
       this.exclusiveWriteCacheMaxSize = normalizeMemory(exclusiveWriteCacheMaxSize, pageSize);
 
       this.storagePath = storagePath;
@@ -520,6 +566,36 @@ public final class OWOWCache extends OAbstractWriteCache
     } finally {
       filesLock.releaseWriteLock();
     }
+
+    final OProfiler profiler = Orient.instance().getProfiler();
+    if (profiler != null) {
+      profiler.registerHookValue(
+          profiler.getDatabaseMetric(storageName, "wal.estimatedRecoveryTime"),
+          "Estimated time of data restore after crash (in milliseconds)",
+          OProfiler.METRIC_TYPE.STAT,
+          this::getEstimatedRecoveryTime);
+    }
+  }
+
+  /**
+   * @return Estimated time (in milliseconds) of data restore which will be needed if storage is
+   *     crashed right now.
+   * @see OGlobalConfiguration#WAL_RESTORE_SPEED
+   */
+  public long getEstimatedRecoveryTime() {
+    if (restoreSpeed <= 0) {
+      return 0;
+    }
+
+    return recoveryLogSize * 1000 / restoreSpeed;
+  }
+
+  private void unregisterMetrics() {
+    final OProfiler profiler = Orient.instance().getProfiler();
+    if (profiler != null) {
+      profiler.unregisterHookValue(
+          profiler.getDatabaseMetric(storageName, "wal.estimatedRecoveryTime"));
+    }
   }
 
   /**
@@ -528,6 +604,18 @@ public final class OWOWCache extends OAbstractWriteCache
   public void loadRegisteredFiles() throws IOException, InterruptedException {
     filesLock.acquireWriteLock();
     try {
+      if (ioUring == null && OGlobalConfiguration.STORAGE_USE_IO_URING.getValueAsBoolean()) {
+        ioUring =
+            ONative.instance()
+                .openIOUring(OGlobalConfiguration.STORAGE_IO_URING_QUEUE_DEPTH.getValueAsInteger());
+        if (ioUring == null) {
+          logger.warnNoDb(
+              "io_uring can not be used by storage %s, asynchronous file channels will be used"
+                  + " instead",
+              storageName);
+        }
+      }
+
       initNameIdMapping();
 
       doubleWriteLog.open(storageName, storagePath, pageSize);
@@ -1151,6 +1239,78 @@ public final class OWOWCache extends OAbstractWriteCache
     }
   }
 
+  @Override
+  public List<OPrefetchedPage> prefetch(
+      final long fileId,
+      final long startPageIndex,
+      final int pageCount,
+      final boolean verifyChecksums)
+      throws IOException {
+    final int intId = extractFileId(fileId);
+    filesLock.acquireReadLock();
+    try {
+      checkForClose();
+
+      final OClosableEntry<Long, OFile> entry = files.acquire(composeFileId(id, intId));
+      try {
+        final OFile fileClassic = entry.get();
+        if (fileClassic == null) {
+          return Collections.emptyList();
+        }
+
+        final long endPageIndex =
+            Math.min(startPageIndex + pageCount, fileClassic.getFileSize() / pageSize);
+        if (endPageIndex <= startPageIndex) {
+          return Collections.emptyList();
+        }
+
+        final List<OPrefetchedPage> pages = new ArrayList<>((int) (endPageIndex - startPageIndex));
+        final List<PrefetchedFilePage> filePages = new ArrayList<>(pages.size());
+        final List<ORawPair<Long, ByteBuffer>> buffers = new ArrayList<>(pages.size());
+
+        for (long pageIndex = startPageIndex; pageIndex < endPageIndex; pageIndex++) {
+          final PageKey pageKey = new PageKey(intId, pageIndex);
+
+          // content of the page which is kept in write cache is newer than content of the file
+          final Lock pageLock = lockManager.acquireSharedLock(pageKey);
+          try {
+            final OCachePointer pagePointer = writeCachePages.get(pageKey);
+            if (pagePointer != null) {
+              pagePointer.incrementReadersReferrer();
+              pages.add(new PrefetchedFilePage(intId, pageIndex, pagePointer));
+              continue;
+            }
+          } finally {
+            pageLock.unlock();
+          }
+
+          final OPointer pointer = bufferPool.acquireDirect(false, MemTrace.READ_AHEAD);
+          final PrefetchedFilePage filePage =
+              new PrefetchedFilePage(intId, pageIndex, pointer, verifyChecksums);
+
+          pages.add(filePage);
+          filePages.add(filePage);
+          buffers.add(new ORawPair<>(pageIndex * pageSize, pointer.getNativeByteBuffer()));
+        }
+
+        if (!buffers.isEmpty()) {
+          final IOResult ioResult = fileClassic.read(buffers);
+          for (final PrefetchedFilePage filePage : filePages) {
+            filePage.ioResult = ioResult;
+          }
+        }
+
+        return pages;
+      } finally {
+        files.release(entry);
+      }
+    } catch (final InterruptedException e) {
+      throw OException.wrapException(new OStorageException("Data prefetch was interrupted"), e);
+    } finally {
+      filesLock.releaseReadLock();
+    }
+  }
+
   @Override
   public int allocateNewPage(final long fileId) throws IOException {
     filesLock.acquireReadLock();
@@ -1427,6 +1587,7 @@ public final class OWOWCache extends OAbstractWriteCache
   public long[] close() throws IOException {
     flush();
     stopFlush();
+    unregisterMetrics();
 
     filesLock.acquireWriteLock();
     try {
@@ -1490,6 +1651,7 @@ public final class OWOWCache extends OAbstractWriteCache
       }
 
       doubleWriteLog.close();
+      closeIOUring();
 
       nameIdMap.clear();
       idNameMap.clear();
@@ -1756,6 +1918,7 @@ public final class OWOWCache extends OAbstractWriteCache
     }
 
     stopFlush();
+    unregisterMetrics();
 
     final long[] fIds = new long[result.size()];
     int n = 0;
@@ -1765,10 +1928,18 @@ public final class OWOWCache extends OAbstractWriteCache
     }
 
     doubleWriteLog.close();
+    closeIOUring();
 
     return fIds;
   }
 
+  private void closeIOUring() throws IOException {
+    if (ioUring != null) {
+      ioUring.close();
+      ioUring = null;
+    }
+  }
+
   @Override
   public String fileNameById(final long fileId) {
     final int intId = extractFileId(fileId);
@@ -1909,7 +2080,15 @@ public final class OWOWCache extends OAbstractWriteCache
 
   private OFile createFileInstance(final String fileName, final int fileId) {
     final String internalFileName = createInternalFileName(fileName, fileId);
-    return new AsyncFile(storagePath.resolve(internalFileName), pageSize, this.executor);
+    return createFileInstance(storagePath.resolve(internalFileName));
+  }
+
+  private OFile createFileInstance(final Path path) {
+    if (ioUring != null) {
+      return new IOUringFile(path, pageSize, ioUring);
+    }
+
+    return new AsyncFile(path, pageSize, this.executor, directIO);
   }
 
   private static String createInternalFileName(final String fileName, final int fileId) {
@@ -1992,7 +2171,7 @@ public final class OWOWCache extends OAbstractWriteCache
 
         if (files.get(externalId) == null) {
           final Path path = storagePath.resolve(idFileNameMap.get((nameIdEntry.getValue())));
-          final AsyncFile file = new AsyncFile(path, pageSize, this.executor);
+          final OFile file = createFileInstance(path);
 
           if (file.exists()) {
             file.open();
@@ -2059,7 +2238,7 @@ public final class OWOWCache extends OAbstractWriteCache
 
         if (files.get(externalId) == null) {
           final Path path = storagePath.resolve(idFileNameMap.get((nameIdEntry.getValue())));
-          final AsyncFile file = new AsyncFile(path, pageSize, this.executor);
+          final OFile file = createFileInstance(path);
 
           if (file.exists()) {
             file.open();
@@ -2132,8 +2311,7 @@ public final class OWOWCache extends OAbstractWriteCache
         final long externalId = composeFileId(id, nameIdEntry.getValue());
 
         if (files.get(externalId) == null) {
-          final OFile fileClassic =
-              new AsyncFile(storagePath.resolve(nameIdEntry.getKey()), pageSize, this.executor);
+          final OFile fileClassic = createFileInstance(storagePath.resolve(nameIdEntry.getKey()));
 
           if (fileClassic.exists()) {
             fileClassic.open();
@@ -2675,7 +2853,14 @@ public final class OWOWCache extends OAbstractWriteCache
       final OLogSequenceNumber localLSN = localDirtyPages.get(entry.getKey());
 
       if (localLSN == null || localLSN.compareTo(entry.getValue()) > 0) {
+        if (localLSN != null) {
+          removeFromLocalDirtyPagesOrder(entry.getKey(), localLSN);
+        }
+
         localDirtyPages.put(entry.getKey(), entry.getValue());
+        localDirtyPagesByLSN
+            .computeIfAbsent(entry.getValue(), lsn -> new TreeSet<>())
+            .add(entry.getKey());
 
         final long segment = entry.getValue().getSegment();
         TreeSet<PageKey> pages = localDirtyPagesBySegment.get(segment);
@@ -2700,16 +2885,184 @@ public final class OWOWCache extends OAbstractWriteCache
 
     final OLogSequenceNumber lsn = localDirtyPages.remove(pageKey);
     if (lsn != null) {
-      final long segment = lsn.getSegment();
-      final TreeSet<PageKey> pages = localDirtyPagesBySegment.get(segment);
-      assert pages != null;
+      removeFromLocalDirtyPagesOrder(pageKey, lsn);
+    }
+  }
+
+  private void removeFromLocalDirtyPagesOrder(final PageKey pageKey, final OLogSequenceNumber lsn) {
+    final long segment = lsn.getSegment();
+    final TreeSet<PageKey> pages = localDirtyPagesBySegment.get(segment);
+    assert pages != null;
+
+    final boolean removed = pages.remove(pageKey);
+    if (pages.isEmpty()) {
+      localDirtyPagesBySegment.remove(segment);
+    }
+
+    assert removed;
+
+    final TreeSet<PageKey> lsnPages = localDirtyPagesByLSN.get(lsn);
+    assert lsnPages != null;
+
+    final boolean lsnRemoved = lsnPages.remove(pageKey);
+    if (lsnPages.isEmpty()) {
+      localDirtyPagesByLSN.remove(lsn);
+    }
+
+    assert lsnRemoved;
+  }
+
+  private void updateRecoveryLogSize() {
+    // data restore is started from the beginning of WAL
+    if (writeAheadLog.end() != null) {
+      recoveryLogSize = writeAheadLog.size(writeAheadLog.begin());
+    }
+  }
+
+  /**
+   * Runs the same checks of amount of WAL which is needed to restore data as periodic flush does.
+   * Used in tests.
+   *
+   * @return <code>true</code> if amount of WAL which is needed to restore data still exceeds the
+   *     limit after the oldest pages are flushed.
+   */
+  boolean checkRecoveryLogSize() {
+    final Future<Boolean> future =
+        commitExecutor.submit(
+            () -> {
+              updateRecoveryLogSize();
+              return maxRecoveryLogSize > 0 && flushOldestPagesIfNeeded();
+            });
+    try {
+      return future.get();
+    } catch (final Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * @return LSNs of the first not flushed changes of dirty pages, starting from the oldest one.
+   *     Used in tests.
+   */
+  List<OLogSequenceNumber> getDirtyPagesLSNs() {
+    final Future<List<OLogSequenceNumber>> future =
+        commitExecutor.submit(
+            () -> {
+              convertSharedDirtyPagesToLocal();
+              return new ArrayList<>(localDirtyPagesByLSN.keySet());
+            });
+    try {
+      return future.get();
+    } catch (final Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Flushes pages which contain the oldest not flushed changes if amount of WAL logged after those
+   * changes exceeds half of {@link #maxRecoveryLogSize}, so amount of WAL which is needed to
+   * restore data after crash is kept within the limit.
+   *
+   * @return <code>true</code> if amount of WAL which is needed to restore data still exceeds the
+   *     limit, and flush should be repeated without delay.
+   */
+  private boolean flushOldestPagesIfNeeded() throws InterruptedException, IOException {
+    convertSharedDirtyPagesToLocal();
+
+    if (localDirtyPagesByLSN.isEmpty()
+        || writeAheadLog.size(localDirtyPagesByLSN.firstKey()) < maxRecoveryLogSize / 2) {
+      return false;
+    }
+
+    flushOldestPages(chunkSize);
+
+    return !localDirtyPagesByLSN.isEmpty()
+        && writeAheadLog.size(localDirtyPagesByLSN.firstKey()) >= maxRecoveryLogSize;
+  }
+
+  private void flushOldestPages(final int pagesFlushLimit)
+      throws InterruptedException, IOException {
+    // pages are sorted by file and page index to write adjacent pages by single call
+    final TreeSet<PageKey> pageKeysToFlush = new TreeSet<>();
+    collectPages:
+    for (final TreeSet<PageKey> lsnPages : localDirtyPagesByLSN.values()) {
+      for (final PageKey pageKey : lsnPages) {
+        pageKeysToFlush.add(pageKey);
 
-      final boolean removed = pages.remove(pageKey);
-      if (pages.isEmpty()) {
-        localDirtyPagesBySegment.remove(segment);
+        if (pageKeysToFlush.size() >= pagesFlushLimit) {
+          break collectPages;
+        }
+      }
+    }
+
+    final List<List<OQuarto<Long, ByteBuffer, OPointer, OCachePointer>>> chunks =
+        new ArrayList<>(16);
+    List<OQuarto<Long, ByteBuffer, OPointer, OCachePointer>> chunk = new ArrayList<>(16);
+
+    OLogSequenceNumber maxFullLogLSN = null;
+    PageKey lastPageKey = null;
+    int copiedPages = 0;
+
+    for (final PageKey pageKey : pageKeysToFlush) {
+      final OCachePointer pointer = writeCachePages.get(pageKey);
+
+      // page is marked as dirty but is not put in cache yet or page is changed right now,
+      // it will be flushed during next iterations
+      if (pointer == null || !pointer.tryAcquireSharedLock()) {
+        continue;
+      }
+
+      final long version;
+      final OLogSequenceNumber fullLogLSN;
+
+      final OPointer directPointer =
+          bufferPool.acquireDirect(false, MemTrace.COPY_PAGE_DURING_FLUSH);
+      final ByteBuffer copy = directPointer.getNativeByteBuffer();
+      assert copy.position() == 0;
+      try {
+        version = pointer.getVersion();
+        final ByteBuffer buffer = pointer.getBuffer();
+
+        fullLogLSN = pointer.getEndLSN();
+
+        assert buffer != null;
+        assert buffer.position() == 0;
+
+        copy.put(0, buffer, 0, buffer.capacity());
+
+        removeFromDirtyPages(pageKey);
+
+        copiedPages++;
+      } finally {
+        pointer.releaseSharedLock();
+      }
+
+      if (fullLogLSN != null
+          && (maxFullLogLSN == null || fullLogLSN.compareTo(maxFullLogLSN) > 0)) {
+        maxFullLogLSN = fullLogLSN;
       }
 
-      assert removed;
+      copy.position(0);
+
+      if (lastPageKey != null
+          && (lastPageKey.fileId != pageKey.fileId
+              || lastPageKey.pageIndex != pageKey.pageIndex - 1)) {
+        chunks.add(chunk);
+        chunk = new ArrayList<>(16);
+      }
+
+      chunk.add(new OQuarto<>(version, copy, directPointer, pointer));
+      lastPageKey = pageKey;
+    }
+
+    if (!chunk.isEmpty()) {
+      chunks.add(chunk);
+    }
+
+    final int flushedPages = flushPages(chunks, maxFullLogLSN);
+    if (copiedPages != flushedPages) {
+      throw new IllegalStateException(
+          "Copied pages (" + copiedPages + " ) != flushed pages (" + flushedPages + ")");
     }
   }
 
@@ -2898,7 +3251,10 @@ public final class OWOWCache extends OAbstractWriteCache
         final OPointer containerPointer =
             ODirectMemoryAllocator.instance()
                 .allocate(
-                    chunk.size() * pageSize, false, MemTrace.ALLOCATE_CHUNK_TO_WRITE_DATA_IN_BATCH);
+                    chunk.size() * pageSize,
+                    bufferPool.getAlignment(),
+                    false,
+                    MemTrace.ALLOCATE_CHUNK_TO_WRITE_DATA_IN_BATCH);
         final ByteBuffer containerBuffer = containerPointer.getNativeByteBuffer();
 
         containerPointers[i] = containerPointer;
@@ -3331,6 +3687,8 @@ public final class OWOWCache extends OAbstractWriteCache
       }
 
       try {
+        updateRecoveryLogSize();
+
         if (writeCachePages.isEmpty()) {
           return;
         }
@@ -3364,6 +3722,10 @@ public final class OWOWCache extends OAbstractWriteCache
             flushInterval = 1;
           }
         }
+
+        if (maxRecoveryLogSize > 0 && flushOldestPagesIfNeeded()) {
+          flushInterval = 1;
+        }
       } catch (final Error | Exception t) {
         logger.error("Exception during data flush", t);
         OWOWCache.this.fireBackgroundDataFlushExceptionEvent(t);
@@ -3452,4 +3814,110 @@ public final class OWOWCache extends OAbstractWriteCache
 
     return null;
   }
+
+  /**
+   * Page which is read ahead from the file, its checksum is verified only once page is requested,
+   * so pages which are read but never used do not consume CPU.
+   */
+  private final class PrefetchedFilePage implements OPrefetchedPage {
+    private final int internalFileId;
+    private final long pageIndex;
+    private final boolean verifyChecksums;
+
+    private OPointer pointer;
+    private OCachePointer cachePointer;
+    private IOResult ioResult;
+
+    private PrefetchedFilePage(
+        final int internalFileId, final long pageIndex, final OCachePointer cachePointer) {
+      this.internalFileId = internalFileId;
+      this.pageIndex = pageIndex;
+      this.cachePointer = cachePointer;
+      this.verifyChecksums = false;
+    }
+
+    private PrefetchedFilePage(
+        final int internalFileId,
+        final long pageIndex,
+        final OPointer pointer,
+        final boolean verifyChecksums) {
+      this.internalFileId = internalFileId;
+      this.pageIndex = pageIndex;
+      this.pointer = pointer;
+      this.verifyChecksums = verifyChecksums;
+    }
+
+    @Override
+    public long getPageIndex() {
+      return pageIndex;
+    }
+
+    @Override
+    public OCachePointer get() {
+      if (cachePointer != null) {
+        final OCachePointer result = cachePointer;
+        cachePointer = null;
+        return result;
+      }
+
+      if (!awaitRead()) {
+        return null;
+      }
+
+      final ByteBuffer buffer = pointer.getNativeByteBuffer();
+      if (verifyChecksums
+          && (checksumMode == OChecksumMode.StoreAndVerify
+              || checksumMode == OChecksumMode.StoreAndThrow
+              || checksumMode == OChecksumMode.StoreAndSwitchReadOnlyMode)
+          && !verifyMagicChecksumAndDecryptPage(buffer, internalFileId, pageIndex)) {
+        // broken pages are processed by usual page load which checks double write log
+        releasePointer();
+        return null;
+      }
+
+      buffer.position(0);
+
+      final long fileId = composeFileId(id, internalFileId);
+      final OCachePointer result = new OCachePointer(pointer, bufferPool, fileId, (int) pageIndex);
+      result.incrementReadersReferrer();
+      pointer = null;
+
+      return result;
+    }
+
+    @Override
+    public void release() {
+      if (cachePointer != null) {
+        cachePointer.decrementReadersReferrer();
+        cachePointer = null;
+      } else if (pointer != null) {
+        // buffer can be returned to the pool only once file system does not write into it
+        awaitRead();
+        releasePointer();
+      }
+    }
+
+    private boolean awaitRead() {
+      if (ioResult == null) {
+        releasePointer();
+        return false;
+      }
+
+      try {
+        ioResult.await();
+        return true;
+      } catch (final OException e) {
+        logger.debug("Read ahead of page %d of file %d failed", e, pageIndex, internalFileId);
+        releasePointer();
+        return false;
+      }
+    }
+
+    private void releasePointer() {
+      if (pointer != null) {
+        bufferPool.release(pointer);
+        pointer = null;
+      }
+    }
+  }
 }
@@ -28,6 +28,12 @@ import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.exception.OStorageException;
 import com.orientechnologies.orient.core.record.ORecordVersionHelper;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cluster.OClusterPageOperations.AppendRecordPO;
+import com.orientechnologies.orient.core.storage.cluster.OClusterPageOperations.DeleteRecordPO;
+import com.orientechnologies.orient.core.storage.cluster.OClusterPageOperations.InitPO;
+import com.orientechnologies.orient.core.storage.cluster.OClusterPageOperations.ReplaceRecordPO;
+import com.orientechnologies.orient.core.storage.cluster.OClusterPageOperations.SetNextPagePO;
+import com.orientechnologies.orient.core.storage.cluster.OClusterPageOperations.SetPrevPagePO;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurablePage;
 import java.util.Objects;
 import java.util.Set;
@@ -74,15 +80,20 @@ public final class OClusterPage extends ODurablePage {
   }
 
   public void init() {
-    setLongValue(NEXT_PAGE_OFFSET, -1);
-    setLongValue(PREV_PAGE_OFFSET, -1);
-
-    setFreeListHeader(0);
-    setPageIndexesLength(0);
-    setIntValue(ENTRIES_COUNT_OFFSET, 0);
-
-    setFreePosition(PAGE_SIZE);
-    setFreeSpace(PAGE_SIZE - PAGE_INDEXES_OFFSET);
+    startPageOperation(new InitPO());
+    try {
+      setLongValue(NEXT_PAGE_OFFSET, -1);
+      setLongValue(PREV_PAGE_OFFSET, -1);
+
+      setFreeListHeader(0);
+      setPageIndexesLength(0);
+      setIntValue(ENTRIES_COUNT_OFFSET, 0);
+
+      setFreePosition(PAGE_SIZE);
+      setFreeSpace(PAGE_SIZE - PAGE_INDEXES_OFFSET);
+    } finally {
+      endPageOperation();
+    }
   }
 
   public int appendRecord(
@@ -90,6 +101,20 @@ public final class OClusterPage extends ODurablePage {
       final byte[] record,
       final int requestedPosition,
       final Set<Integer> bookedRecordPositions) {
+    startPageOperation(
+        new AppendRecordPO(recordVersion, record, requestedPosition, bookedRecordPositions));
+    try {
+      return doAppendRecord(recordVersion, record, requestedPosition, bookedRecordPositions);
+    } finally {
+      endPageOperation();
+    }
+  }
+
+  private int doAppendRecord(
+      final int recordVersion,
+      final byte[] record,
+      final int requestedPosition,
+      final Set<Integer> bookedRecordPositions) {
     int freePosition = getFreePosition();
     final int indexesLength = getPageIndexesLength();
 
@@ -414,6 +439,15 @@ public final class OClusterPage extends ODurablePage {
   }
 
   public byte[] replaceRecord(int entryIndex, byte[] record, final int recordVersion) {
+    startPageOperation(new ReplaceRecordPO(entryIndex, record, recordVersion));
+    try {
+      return doReplaceRecord(entryIndex, record, recordVersion);
+    } finally {
+      endPageOperation();
+    }
+  }
+
+  private byte[] doReplaceRecord(int entryIndex, byte[] record, final int recordVersion) {
     int entryIndexPosition = computePointerPosition(entryIndex);
 
     if (recordVersion != -1) {
@@ -463,6 +497,15 @@ public final class OClusterPage extends ODurablePage {
   }
 
   public byte[] deleteRecord(int position, boolean preserveFreeListPointer) {
+    startPageOperation(new DeleteRecordPO(position, preserveFreeListPointer));
+    try {
+      return doDeleteRecord(position, preserveFreeListPointer);
+    } finally {
+      endPageOperation();
+    }
+  }
+
+  private byte[] doDeleteRecord(int position, boolean preserveFreeListPointer) {
     int indexesLength = getPageIndexesLength();
     if (position >= indexesLength) {
       return null;
@@ -600,7 +643,12 @@ public final class OClusterPage extends ODurablePage {
   }
 
   public void setNextPage(final long nextPage) {
-    setLongValue(NEXT_PAGE_OFFSET, nextPage);
+    startPageOperation(new SetNextPagePO(nextPage));
+    try {
+      setLongValue(NEXT_PAGE_OFFSET, nextPage);
+    } finally {
+      endPageOperation();
+    }
   }
 
   public long getPrevPage() {
@@ -608,7 +656,12 @@ public final class OClusterPage extends ODurablePage {
   }
 
   public void setPrevPage(final long prevPage) {
-    setLongValue(PREV_PAGE_OFFSET, prevPage);
+    startPageOperation(new SetPrevPagePO(prevPage));
+    try {
+      setLongValue(PREV_PAGE_OFFSET, prevPage);
+    } finally {
+      endPageOperation();
+    }
   }
 
   public void setRecordLongValue(final int recordPosition, final int offset, final long value) {
@@ -0,0 +1,264 @@
+package com.orientechnologies.orient.core.storage.cluster;
+
+import com.orientechnologies.common.serialization.types.OByteSerializer;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OPageOperation;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.PageOperationTypes;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/** Logical WAL operations of {@link OClusterPage}. */
+public final class OClusterPageOperations {
+  private OClusterPageOperations() {}
+
+  public static final class InitPO extends OPageOperation {
+    @Override
+    public int getId() {
+      return PageOperationTypes.CLUSTER_PAGE_INIT;
+    }
+
+    @Override
+    public int serializedSize() {
+      return 0;
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {}
+
+    @Override
+    public void fromStream(final ByteBuffer buffer) {}
+
+    @Override
+    public void redo(final OCacheEntry cacheEntry) {
+      new OClusterPage(cacheEntry).init();
+    }
+  }
+
+  public static final class AppendRecordPO extends OPageOperation {
+    private int recordVersion;
+    private byte[] record;
+    private int requestedPosition;
+    private Set<Integer> bookedRecordPositions;
+
+    public AppendRecordPO() {}
+
+    AppendRecordPO(
+        final int recordVersion,
+        final byte[] record,
+        final int requestedPosition,
+        final Set<Integer> bookedRecordPositions) {
+      this.recordVersion = recordVersion;
+      this.record = record;
+      this.requestedPosition = requestedPosition;
+      // booked positions affect choice of the slot, so they are needed to repeat operation
+      if (bookedRecordPositions.isEmpty()) {
+        this.bookedRecordPositions = Collections.emptySet();
+      } else {
+        this.bookedRecordPositions = new HashSet<>(bookedRecordPositions);
+      }
+    }
+
+    @Override
+    public int getId() {
+      return PageOperationTypes.CLUSTER_PAGE_APPEND_RECORD;
+    }
+
+    @Override
+    public int serializedSize() {
+      return 3 * OIntegerSerializer.INT_SIZE
+          + serializedBytesSize(record)
+          + bookedRecordPositions.size() * OIntegerSerializer.INT_SIZE;
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {
+      buffer.putInt(recordVersion);
+      serializeBytes(buffer, record);
+      buffer.putInt(requestedPosition);
+
+      buffer.putInt(bookedRecordPositions.size());
+      for (final int position : bookedRecordPositions) {
+        buffer.putInt(position);
+      }
+    }
+
+    @Override
+    public void fromStream(final ByteBuffer buffer) {
+      recordVersion = buffer.getInt();
+      record = deserializeBytes(buffer);
+      requestedPosition = buffer.getInt();
+
+      final int bookedPositionsSize = buffer.getInt();
+      if (bookedPositionsSize == 0) {
+        bookedRecordPositions = Collections.emptySet();
+      } else {
+        bookedRecordPositions = new HashSet<>(bookedPositionsSize);
+        for (int i = 0; i < bookedPositionsSize; i++) {
+          bookedRecordPositions.add(buffer.getInt());
+        }
+      }
+    }
+
+    @Override
+    public void redo(final OCacheEntry cacheEntry) {
+      new OClusterPage(cacheEntry)
+          .appendRecord(recordVersion, record, requestedPosition, bookedRecordPositions);
+    }
+  }
+
+  public static final class ReplaceRecordPO extends OPageOperation {
+    private int entryIndex;
+    private byte[] record;
+    private int recordVersion;
+
+    public ReplaceRecordPO() {}
+
+    ReplaceRecordPO(final int entryIndex, final byte[] record, final int recordVersion) {
+      this.entryIndex = entryIndex;
+      this.record = record;
+      this.recordVersion = recordVersion;
+    }
+
+    @Override
+    public int getId() {
+      return PageOperationTypes.CLUSTER_PAGE_REPLACE_RECORD;
+    }
+
+    @Override
+    public int serializedSize() {
+      return 2 * OIntegerSerializer.INT_SIZE + serializedBytesSize(record);
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {
+      buffer.putInt(entryIndex);
+      buffer.putInt(recordVersion);
+      serializeBytes(buffer, record);
+    }
+
+    @Override
+    public void fromStream(final ByteBuffer buffer) {
+      entryIndex = buffer.getInt();
+      recordVersion = buffer.getInt();
+      record = deserializeBytes(buffer);
+    }
+
+    @Override
+    public void redo(final OCacheEntry cacheEntry) {
+      new OClusterPage(cacheEntry).replaceRecord(entryIndex, record, recordVersion);
+    }
+  }
+
+  public static final class DeleteRecordPO extends OPageOperation {
+    private int position;
+    private boolean preserveFreeListPointer;
+
+    public DeleteRecordPO() {}
+
+    DeleteRecordPO(final int position, final boolean preserveFreeListPointer) {
+      this.position = position;
+      this.preserveFreeListPointer = preserveFreeListPointer;
+    }
+
+    @Override
+    public int getId() {
+      return PageOperationTypes.CLUSTER_PAGE_DELETE_RECORD;
+    }
+
+    @Override
+    public int serializedSize() {
+      return OIntegerSerializer.INT_SIZE + OByteSerializer.BYTE_SIZE;
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {
+      buffer.putInt(position);
+      buffer.put(preserveFreeListPointer ? (byte) 1 : 0);
+    }
+
+    @Override
+    public void fromStream(final ByteBuffer buffer) {
+      position = buffer.getInt();
+      preserveFreeListPointer = buffer.get() > 0;
+    }
+
+    @Override
+    public void redo(final OCacheEntry cacheEntry) {
+      new OClusterPage(cacheEntry).deleteRecord(position, preserveFreeListPointer);
+    }
+  }
+
+  public static final class SetNextPagePO extends OPageOperation {
+    private long nextPage;
+
+    public SetNextPagePO() {}
+
+    SetNextPagePO(final long nextPage) {
+      this.nextPage = nextPage;
+    }
+
+    @Override
+    public int getId() {
+      return PageOperationTypes.CLUSTER_PAGE_SET_NEXT_PAGE;
+    }
+
+    @Override
+    public int serializedSize() {
+      return OLongSerializer.LONG_SIZE;
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {
+      buffer.putLong(nextPage);
+    }
+
+    @Override
+    public void fromStream(final ByteBuffer buffer) {
+      nextPage = buffer.getLong();
+    }
+
+    @Override
+    public void redo(final OCacheEntry cacheEntry) {
+      new OClusterPage(cacheEntry).setNextPage(nextPage);
+    }
+  }
+
+  public static final class SetPrevPagePO extends OPageOperation {
+    private long prevPage;
+
+    public SetPrevPagePO() {}
+
+    SetPrevPagePO(final long prevPage) {
+      this.prevPage = prevPage;
+    }
+
+    @Override
+    public int getId() {
+      return PageOperationTypes.CLUSTER_PAGE_SET_PREV_PAGE;
+    }
+
+    @Override
+    public int serializedSize() {
+      return OLongSerializer.LONG_SIZE;
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {
+      buffer.putLong(prevPage);
+    }
+
+    @Override
+    public void fromStream(final ByteBuffer buffer) {
+      prevPage = buffer.getLong();
+    }
+
+    @Override
+    public void redo(final OCacheEntry cacheEntry) {
+      new OClusterPage(cacheEntry).setPrevPage(prevPage);
+    }
+  }
+}
@@ -533,7 +533,9 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
         contextConfiguration.getValueAsBoolean(
             OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_STATISTICS),
         contextConfiguration.getValueAsInteger(
-            OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_INTERVAL));
+            OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_INTERVAL),
+        contextConfiguration.getValueAsInteger(OGlobalConfiguration.WAL_GROUP_COMMIT_INTERVAL),
+        contextConfiguration.getValueAsInteger(OGlobalConfiguration.WAL_GROUP_COMMIT_SIZE) * 1024L);
   }
 
   @Override
@@ -767,6 +769,25 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
                 OGlobalConfiguration.WAL_FUZZY_CHECKPOINT_INTERVAL),
             TimeUnit.SECONDS);
 
+    final long maxRecoveryLogSize =
+        contextConfiguration.getValueAsLong(OGlobalConfiguration.WAL_MAX_RECOVERY_SIZE)
+            * 1024
+            * 1024;
+    long walMaxSize =
+        contextConfiguration.getValueAsLong(OGlobalConfiguration.WAL_MAX_SIZE) * 1024 * 1024;
+    long walSegmentSize = walMaxSegSize;
+    if (maxRecoveryLogSize > 0) {
+      // data restore is started from the beginning of WAL, and WAL is truncated by whole segments,
+      // so segments should be small enough to keep size of WAL close to the limit
+      if (walMaxSize <= 0 || walMaxSize > maxRecoveryLogSize) {
+        walMaxSize = maxRecoveryLogSize;
+      }
+
+      if (walSegmentSize <= 0 || walSegmentSize > maxRecoveryLogSize / 4) {
+        walSegmentSize = maxRecoveryLogSize / 4;
+      }
+    }
+
     final String configWalPath =
         contextConfiguration.getValueAsString(OGlobalConfiguration.WAL_LOCATION);
     final Path walPath;
@@ -788,18 +809,21 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
             contextConfiguration.getValueAsLong(OGlobalConfiguration.WAL_SEGMENTS_INTERVAL)
                 * 60
                 * 1_000_000_000L,
-            walMaxSegSize,
+            walSegmentSize,
             10,
             true,
             Locale.getDefault(),
-            contextConfiguration.getValueAsLong(OGlobalConfiguration.WAL_MAX_SIZE) * 1024 * 1024,
+            walMaxSize,
             contextConfiguration.getValueAsInteger(OGlobalConfiguration.WAL_COMMIT_TIMEOUT),
             contextConfiguration.getValueAsBoolean(OGlobalConfiguration.WAL_KEEP_SINGLE_SEGMENT),
             contextConfiguration.getValueAsBoolean(OGlobalConfiguration.STORAGE_CALL_FSYNC),
             contextConfiguration.getValueAsBoolean(
                 OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_STATISTICS),
             contextConfiguration.getValueAsInteger(
-                OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_INTERVAL));
+                OGlobalConfiguration.STORAGE_PRINT_WAL_PERFORMANCE_INTERVAL),
+            contextConfiguration.getValueAsInteger(OGlobalConfiguration.WAL_GROUP_COMMIT_INTERVAL),
+            contextConfiguration.getValueAsInteger(OGlobalConfiguration.WAL_GROUP_COMMIT_SIZE)
+                * 1024L);
     writeAheadLog.addCheckpointListener(this);
 
     final int pageSize =
@@ -839,6 +863,7 @@ public class OLocalPaginatedStorage extends OAbstractPaginatedStorage {
             iv,
             aesKey,
             contextConfiguration.getValueAsBoolean(OGlobalConfiguration.STORAGE_CALL_FSYNC),
+            maxRecoveryLogSize,
             ((OrientDBEmbedded) context).getIoExecutor());
 
     wowCache.loadRegisteredFiles();
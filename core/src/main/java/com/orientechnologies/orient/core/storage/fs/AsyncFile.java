@@ -2,11 +2,13 @@ package com.orientechnologies.orient.core.storage.fs;
 
 import com.orientechnologies.common.concur.lock.OInterruptedException;
 import com.orientechnologies.common.concur.lock.ScalableRWLock;
+import com.orientechnologies.common.directmemory.OByteBufferPool;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.log.OLogger;
 import com.orientechnologies.common.util.ORawPair;
 import com.orientechnologies.orient.core.exception.OStorageException;
+import com.sun.nio.file.ExtendedOpenOption;
 import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -25,8 +27,18 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Implementation of {@link OFile} based on {@link AsynchronousFileChannel}.
+ *
+ * <p>If direct IO is requested file is opened with <code>O_DIRECT</code> flag, so pages bypass OS
+ * page cache. Direct IO requires that memory of buffers is aligned, buffers provided by {@link
+ * OByteBufferPool} which is configured for direct IO satisfy this requirement, content of other
+ * buffers is copied into the temporary aligned buffers. If file system rejects direct IO, file is
+ * opened in usual mode.
+ */
 public final class AsyncFile implements OFile {
   private static final OLogger logger = OLogManager.instance().logger(AsyncFile.class);
   private final ScalableRWLock lock = new ScalableRWLock();
@@ -43,17 +55,34 @@ public final class AsyncFile implements OFile {
 
   private final Semaphore syncSemaphore = new Semaphore(Integer.MAX_VALUE);
   private static final Set<OpenOption> options;
+  private static final Set<OpenOption> directOptions;
+
+  /** Fallback to the usual IO is logged only once to avoid flooding of the log. */
+  private static final AtomicBoolean directIOFallbackLogged = new AtomicBoolean();
 
   static {
     options = new HashSet<>();
     options.add(StandardOpenOption.READ);
     options.add(StandardOpenOption.WRITE);
+
+    directOptions = new HashSet<>(options);
+    directOptions.add(ExtendedOpenOption.DIRECT);
   }
 
+  /** Whether direct IO is requested and file offsets and sizes of pages allow to use it. */
+  private volatile boolean directIO;
+
   public AsyncFile(final Path osFile, final int pageSize, ExecutorService executor) {
+    this(osFile, pageSize, executor, false);
+  }
+
+  public AsyncFile(
+      final Path osFile, final int pageSize, ExecutorService executor, final boolean directIO) {
     this.osFile = osFile;
     this.pageSize = pageSize;
     this.executor = executor;
+    // all IO operations should be aligned to the size of the file header
+    this.directIO = directIO && pageSize % HEADER_SIZE == 0;
   }
 
   @Override
@@ -74,7 +103,7 @@ public final class AsyncFile implements OFile {
 
   private void initSize() throws IOException {
     if (fileChannel.size() < HEADER_SIZE) {
-      final ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE);
+      final ByteBuffer buffer = allocateBuffer(HEADER_SIZE);
 
       int written = 0;
       do {
@@ -139,11 +168,72 @@ public final class AsyncFile implements OFile {
     if (fileChannel != null) {
       throw new OStorageException("File " + osFile + " is already opened.");
     }
-    fileChannel = AsynchronousFileChannel.open(osFile, options, executor);
+
+    if (directIO) {
+      try {
+        fileChannel = AsynchronousFileChannel.open(osFile, directOptions, executor);
+        checkDirectIO();
+      } catch (final IOException | UnsupportedOperationException e) {
+        if (fileChannel != null) {
+          fileChannel.close();
+          fileChannel = null;
+        }
+
+        directIO = false;
+        if (directIOFallbackLogged.compareAndSet(false, true)) {
+          logger.warnNoDb(
+              "Direct IO is not supported for file %s (%s), OS page cache will be used for data"
+                  + " files",
+              osFile, e.getMessage());
+        }
+      }
+    }
+
+    if (fileChannel == null) {
+      fileChannel = AsynchronousFileChannel.open(osFile, options, executor);
+    }
 
     initSize();
   }
 
+  /**
+   * File systems may allow to open file with <code>O_DIRECT</code> flag but reject the IO
+   * operations later, so header of the file is read (or written if file is empty) to check whether
+   * direct IO is really supported.
+   */
+  private void checkDirectIO() throws IOException {
+    final ByteBuffer buffer = allocateBuffer(HEADER_SIZE);
+    final boolean write = fileChannel.size() < HEADER_SIZE;
+
+    int transferred = 0;
+    do {
+      buffer.position(transferred);
+      final Future<Integer> future =
+          write ? fileChannel.write(buffer, transferred) : fileChannel.read(buffer, transferred);
+      try {
+        final int result = future.get();
+        if (result == -1) {
+          throw new EOFException("End of file " + osFile + " is reached.");
+        }
+
+        transferred += result;
+      } catch (InterruptedException e) {
+        throw OException.wrapException(new OInterruptedException("File IO was interrupted"), e);
+      } catch (ExecutionException e) {
+        throw new IOException(e.getCause().getMessage(), e.getCause());
+      }
+    } while (transferred < HEADER_SIZE);
+
+    if (write) {
+      dirtyCounter.incrementAndGet();
+    }
+  }
+
+  /** @return <code>true</code> if direct IO is used for the file. */
+  public boolean isDirectIO() {
+    return directIO;
+  }
+
   @Override
   public long getFileSize() {
     return size.get();
@@ -180,11 +270,13 @@ public final class AsyncFile implements OFile {
       checkPosition(offset);
       checkPosition(offset + buffer.limit() - 1);
 
+      final ByteBuffer ioBuffer = alignedCopy(buffer);
+
       int written = 0;
       do {
-        buffer.position(written);
+        ioBuffer.position(written);
         final Future<Integer> writeFuture =
-            fileChannel.write(buffer, offset + HEADER_SIZE + written);
+            fileChannel.write(ioBuffer, offset + HEADER_SIZE + written);
         try {
           written += writeFuture.get();
         } catch (InterruptedException e) {
@@ -220,11 +312,12 @@ public final class AsyncFile implements OFile {
         checkPosition(pair.first + pair.second.limit() - 1);
 
         final long position = pair.first + HEADER_SIZE;
+        final ByteBuffer ioBuffer = alignedCopy(byteBuffer);
         fileChannel.write(
-            byteBuffer,
+            ioBuffer,
             position,
             latch,
-            new WriteHandler(byteBuffer, asyncIOResult, position, syncSemaphore));
+            new WriteHandler(ioBuffer, asyncIOResult, position, syncSemaphore));
       } finally {
         lock.sharedUnlock();
       }
@@ -240,10 +333,12 @@ public final class AsyncFile implements OFile {
       checkForClose();
       checkPosition(offset);
 
+      final ByteBuffer ioBuffer = isAligned(buffer) ? buffer : allocateBuffer(buffer.limit());
+
       int read = 0;
       do {
-        buffer.position(read);
-        final Future<Integer> readFuture = fileChannel.read(buffer, offset + HEADER_SIZE + read);
+        ioBuffer.position(read);
+        final Future<Integer> readFuture = fileChannel.read(ioBuffer, offset + HEADER_SIZE + read);
         final int bytesRead;
         try {
           bytesRead = readFuture.get();
@@ -265,11 +360,50 @@ public final class AsyncFile implements OFile {
 
         read += bytesRead;
       } while (read < buffer.limit());
+
+      if (ioBuffer != buffer) {
+        buffer.put(0, ioBuffer, 0, read);
+        buffer.position(read);
+      }
     } finally {
       lock.sharedUnlock();
     }
   }
 
+  @Override
+  public IOResult read(List<ORawPair<Long, ByteBuffer>> buffers) {
+    final CountDownLatch latch = new CountDownLatch(buffers.size());
+    final AsyncIOResult asyncIOResult = new AsyncIOResult(latch);
+
+    for (final ORawPair<Long, ByteBuffer> pair : buffers) {
+      final ByteBuffer byteBuffer = pair.second;
+      byteBuffer.rewind();
+      lock.sharedLock();
+      try {
+        checkForClose();
+        checkPosition(pair.first);
+        checkPosition(pair.first + pair.second.limit() - 1);
+
+        final long position = pair.first + HEADER_SIZE;
+        final ByteBuffer ioBuffer =
+            isAligned(byteBuffer) ? byteBuffer : allocateBuffer(byteBuffer.limit());
+        fileChannel.read(
+            ioBuffer,
+            position,
+            latch,
+            new ReadHandler(ioBuffer, byteBuffer, asyncIOResult, position));
+      } catch (final RuntimeException e) {
+        // read was not started, so it should not block waiting for the result of the whole batch
+        asyncIOResult.exc = e;
+        latch.countDown();
+      } finally {
+        lock.sharedUnlock();
+      }
+    }
+
+    return asyncIOResult;
+  }
+
   @Override
   public long allocateSpace(int size) {
     return this.size.getAndAdd(size);
@@ -384,6 +518,42 @@ public final class AsyncFile implements OFile {
     }
   }
 
+  /**
+   * @return <code>true</code> if buffer can be used in IO operations, it is always the case if
+   *     direct IO is not used.
+   */
+  private boolean isAligned(final ByteBuffer buffer) {
+    return !directIO
+        || buffer.isDirect() && buffer.alignmentOffset(0, OByteBufferPool.DIRECT_IO_ALIGNMENT) == 0;
+  }
+
+  /** @return Buffer which is aligned if direct IO is used. */
+  private ByteBuffer allocateBuffer(final int size) {
+    if (!directIO) {
+      return ByteBuffer.allocate(size);
+    }
+
+    // aligned slice rounds its capacity down to the multiple of alignment
+    final int alignment = OByteBufferPool.DIRECT_IO_ALIGNMENT;
+    final int capacity = (size + alignment - 1) / alignment * alignment + alignment;
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(capacity).alignedSlice(alignment);
+    buffer.limit(size);
+
+    return buffer;
+  }
+
+  /** @return The same buffer if it is aligned or its aligned copy otherwise. */
+  private ByteBuffer alignedCopy(final ByteBuffer buffer) {
+    if (isAligned(buffer)) {
+      return buffer;
+    }
+
+    final ByteBuffer copy = allocateBuffer(buffer.limit());
+    copy.put(0, buffer, 0, buffer.limit());
+
+    return copy;
+  }
+
   private void checkPosition(long offset) {
     final long fileSize = size.get();
     if (offset < 0 || offset >= fileSize) {
@@ -446,10 +616,61 @@ public final class AsyncFile implements OFile {
     }
   }
 
+  private final class ReadHandler implements CompletionHandler<Integer, CountDownLatch> {
+
+    private final ByteBuffer byteBuffer;
+
+    /** Buffer requested by user, differs from the buffer used in IO if it is not aligned. */
+    private final ByteBuffer target;
+
+    private final AsyncIOResult ioResult;
+    private final long position;
+
+    private ReadHandler(
+        ByteBuffer byteBuffer, ByteBuffer target, AsyncIOResult ioResult, long position) {
+      this.byteBuffer = byteBuffer;
+      this.target = target;
+      this.ioResult = ioResult;
+      this.position = position;
+    }
+
+    @Override
+    public void completed(Integer result, CountDownLatch attachment) {
+      if (result == -1) {
+        ioResult.exc = new EOFException("End of file " + osFile + " is reached.");
+        attachment.countDown();
+      } else if (byteBuffer.remaining() > 0) {
+        lock.sharedLock();
+        try {
+          checkForClose();
+
+          fileChannel.read(byteBuffer, position + byteBuffer.position(), attachment, this);
+        } catch (final RuntimeException e) {
+          failed(e, attachment);
+        } finally {
+          lock.sharedUnlock();
+        }
+      } else {
+        if (target != byteBuffer) {
+          target.put(0, byteBuffer, 0, byteBuffer.limit());
+          target.position(target.limit());
+        }
+
+        attachment.countDown();
+      }
+    }
+
+    @Override
+    public void failed(Throwable exc, CountDownLatch attachment) {
+      ioResult.exc = exc;
+      attachment.countDown();
+    }
+  }
+
   private static final class AsyncIOResult implements IOResult {
 
     private final CountDownLatch latch;
-    private Throwable exc;
+    private volatile Throwable exc;
 
     private AsyncIOResult(CountDownLatch latch) {
       this.latch = latch;
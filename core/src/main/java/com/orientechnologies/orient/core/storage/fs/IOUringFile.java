@@ -0,0 +1,576 @@
+package com.orientechnologies.orient.core.storage.fs;
+
+import com.orientechnologies.common.concur.lock.OInterruptedException;
+import com.orientechnologies.common.concur.lock.ScalableRWLock;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.jnr.OIOUring;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.log.OLogger;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of {@link OFile} which performs IO operations using io_uring interface of Linux
+ * kernel. All files of the storage share the single {@link OIOUring} instance, so pages of batch
+ * passed to {@link #write(List)} or {@link #read(List)} are submitted to the kernel by the single
+ * system call and no thread is blocked while operations are in progress.
+ *
+ * <p>Layout of the file and its semantic are the same as for {@link AsyncFile}.
+ */
+public final class IOUringFile implements OFile {
+  private static final OLogger logger = OLogManager.instance().logger(IOUringFile.class);
+
+  private final ScalableRWLock lock = new ScalableRWLock();
+  private volatile Path osFile;
+
+  private final AtomicLong dirtyCounter = new AtomicLong();
+  private final Object flushSemaphore = new Object();
+
+  private final AtomicLong size = new AtomicLong(-1);
+  private int fd = -1;
+
+  private final int pageSize;
+  private final OIOUring ring;
+
+  private final Semaphore syncSemaphore = new Semaphore(Integer.MAX_VALUE);
+
+  public IOUringFile(final Path osFile, final int pageSize, final OIOUring ring) {
+    this.osFile = osFile;
+    this.pageSize = pageSize;
+    this.ring = ring;
+  }
+
+  @Override
+  public void create() throws IOException {
+    lock.exclusiveLock();
+    try {
+      if (fd >= 0) {
+        throw new OStorageException("File " + osFile + " is already opened.");
+      }
+
+      Files.createFile(osFile);
+
+      doOpen();
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  private void initSize() throws IOException {
+    if (Files.size(osFile) < HEADER_SIZE) {
+      final ByteBuffer buffer = ByteBuffer.allocateDirect(HEADER_SIZE);
+      await(startWrite(0, buffer));
+
+      dirtyCounter.incrementAndGet();
+    }
+
+    long currentSize = Files.size(osFile) - HEADER_SIZE;
+
+    if (currentSize % pageSize != 0) {
+      final long initialSize = currentSize;
+
+      currentSize = (currentSize / pageSize) * pageSize;
+      ring.truncateFile(fd, currentSize + HEADER_SIZE);
+
+      logger.warnNoDb(
+          "Data page in file %s was partially written and will be truncated, "
+              + "initial size %d, truncated size %d",
+          osFile, initialSize, currentSize);
+    }
+
+    if (size.get() < 0) {
+      size.set(currentSize);
+    } else {
+      if (Files.size(osFile) - HEADER_SIZE > size.get()) {
+        throw new IllegalStateException(
+            "Physical size of the file "
+                + (Files.size(osFile) - HEADER_SIZE)
+                + " but logical size is "
+                + size.get());
+      }
+    }
+  }
+
+  @Override
+  public void open() {
+    lock.exclusiveLock();
+    try {
+      doOpen();
+    } catch (IOException e) {
+      throw OException.wrapException(new OStorageException("Can not open file " + osFile), e);
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  private void doOpen() throws IOException {
+    if (fd >= 0) {
+      throw new OStorageException("File " + osFile + " is already opened.");
+    }
+    fd = ring.openFile(osFile);
+
+    initSize();
+  }
+
+  @Override
+  public long getFileSize() {
+    return size.get();
+  }
+
+  @Override
+  public String getName() {
+    return osFile.getFileName().toString();
+  }
+
+  @Override
+  public boolean isOpen() {
+    lock.sharedLock();
+    try {
+      return fd >= 0;
+    } finally {
+      lock.sharedUnlock();
+    }
+  }
+
+  @Override
+  public boolean exists() {
+    return Files.exists(osFile);
+  }
+
+  @Override
+  public void write(long offset, ByteBuffer buffer) throws IOException {
+    syncSemaphore.acquireUninterruptibly();
+    lock.sharedLock();
+    try {
+      buffer.rewind();
+
+      checkForClose();
+      checkPosition(offset);
+      checkPosition(offset + buffer.limit() - 1);
+
+      await(startWrite(offset + HEADER_SIZE, buffer));
+
+      dirtyCounter.incrementAndGet();
+    } finally {
+      lock.sharedUnlock();
+      syncSemaphore.release();
+    }
+  }
+
+  @Override
+  public IOResult write(List<ORawPair<Long, ByteBuffer>> buffers) throws IOException {
+    final RingIOResult ioResult = new RingIOResult(buffers.size());
+
+    syncSemaphore.acquireUninterruptibly(buffers.size());
+    lock.sharedLock();
+    try {
+      for (final ORawPair<Long, ByteBuffer> pair : buffers) {
+        final ByteBuffer byteBuffer = pair.second;
+        byteBuffer.rewind();
+        try {
+          checkForClose();
+          checkPosition(pair.first);
+          checkPosition(pair.first + byteBuffer.limit() - 1);
+
+          new Operation(pair.first + HEADER_SIZE, byteBuffer, true, true, ioResult).start();
+        } catch (final IOException | RuntimeException e) {
+          // write was not started, so it should not block waiting for the result of the batch
+          ioResult.fail(e);
+          syncSemaphore.release();
+        }
+      }
+    } finally {
+      lock.sharedUnlock();
+    }
+
+    ring.submit();
+    return ioResult;
+  }
+
+  @Override
+  public void read(long offset, ByteBuffer buffer, boolean throwOnEof) throws IOException {
+    lock.sharedLock();
+    try {
+      checkForClose();
+      checkPosition(offset);
+
+      final RingIOResult ioResult = new RingIOResult(1);
+      buffer.position(0);
+      new Operation(offset + HEADER_SIZE, buffer, false, throwOnEof, ioResult).start();
+      ring.submit();
+
+      await(ioResult);
+    } finally {
+      lock.sharedUnlock();
+    }
+  }
+
+  @Override
+  public IOResult read(List<ORawPair<Long, ByteBuffer>> buffers) throws IOException {
+    final RingIOResult ioResult = new RingIOResult(buffers.size());
+
+    lock.sharedLock();
+    try {
+      for (final ORawPair<Long, ByteBuffer> pair : buffers) {
+        final ByteBuffer byteBuffer = pair.second;
+        byteBuffer.rewind();
+        try {
+          checkForClose();
+          checkPosition(pair.first);
+          checkPosition(pair.first + byteBuffer.limit() - 1);
+
+          new Operation(pair.first + HEADER_SIZE, byteBuffer, false, true, ioResult).start();
+        } catch (final IOException | RuntimeException e) {
+          // read was not started, so it should not block waiting for the result of the batch
+          ioResult.fail(e);
+        }
+      }
+    } finally {
+      lock.sharedUnlock();
+    }
+
+    ring.submit();
+    return ioResult;
+  }
+
+  @Override
+  public long allocateSpace(int size) {
+    return this.size.getAndAdd(size);
+  }
+
+  @Override
+  public void shrink(long size) throws IOException {
+    lock.exclusiveLock();
+    try {
+      checkForClose();
+
+      this.size.set(0);
+      ring.truncateFile(fd, size + HEADER_SIZE);
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  @Override
+  public void synch() {
+    lock.sharedLock();
+    try {
+      doSynch();
+    } finally {
+      lock.sharedUnlock();
+    }
+  }
+
+  private void doSynch() {
+    syncSemaphore.acquireUninterruptibly(Integer.MAX_VALUE);
+    try {
+      synchronized (flushSemaphore) {
+        long dirtyCounterValue = dirtyCounter.get();
+        if (dirtyCounterValue > 0) {
+          try {
+            final RingIOResult ioResult = new RingIOResult(1);
+            ring.fsync(
+                fd,
+                result -> {
+                  if (result < 0) {
+                    ioResult.fail(new IOException("fsync failed, error code " + -result));
+                  } else {
+                    ioResult.done();
+                  }
+                });
+            ring.submit();
+
+            await(ioResult);
+          } catch (final IOException e) {
+            logger.warn(
+                "Error during flush of file %s. Data may be lost in case of power failure",
+                e, getName());
+          }
+
+          dirtyCounter.addAndGet(-dirtyCounterValue);
+        }
+      }
+    } finally {
+      syncSemaphore.release(Integer.MAX_VALUE);
+    }
+  }
+
+  @Override
+  public void close() {
+    lock.exclusiveLock();
+    try {
+      doSynch();
+      doClose();
+    } catch (IOException e) {
+      throw OException.wrapException(
+          new OStorageException("Error during closing the file " + osFile), e);
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  private void doClose() throws IOException {
+    // ignore if closed
+    if (fd >= 0) {
+      final int fileDescriptor = fd;
+      fd = -1;
+      ring.closeFile(fileDescriptor);
+    }
+  }
+
+  @Override
+  public void delete() throws IOException {
+    lock.exclusiveLock();
+    try {
+      doClose();
+
+      logger.debugNoDb("File %s has been deleted.", null, osFile);
+      Files.delete(osFile);
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  @Override
+  public void renameTo(Path newFile) throws IOException {
+    lock.exclusiveLock();
+    try {
+      doClose();
+
+      //noinspection NonAtomicOperationOnVolatileField
+      osFile = Files.move(osFile, newFile);
+
+      doOpen();
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  @Override
+  public void replaceContentWith(final Path newContentFile) throws IOException {
+    lock.exclusiveLock();
+    try {
+      doClose();
+
+      Files.copy(newContentFile, osFile, StandardCopyOption.REPLACE_EXISTING);
+
+      doOpen();
+    } finally {
+      lock.exclusiveUnlock();
+    }
+  }
+
+  private RingIOResult startWrite(final long position, final ByteBuffer buffer) throws IOException {
+    final RingIOResult ioResult = new RingIOResult(1);
+    buffer.position(0);
+    new Operation(position, buffer, true, false, ioResult).start();
+    ring.submit();
+
+    return ioResult;
+  }
+
+  private static void await(final RingIOResult ioResult) throws IOException {
+    try {
+      ioResult.latch.await();
+    } catch (final InterruptedException e) {
+      throw OException.wrapException(new OInterruptedException("File IO was interrupted"), e);
+    }
+
+    final Throwable exc = ioResult.exc;
+    if (exc instanceof IOException) {
+      throw (IOException) exc;
+    } else if (exc != null) {
+      throw OException.wrapException(new OStorageException("Error during IO operation"), exc);
+    }
+  }
+
+  private void checkPosition(long offset) {
+    final long fileSize = size.get();
+    if (offset < 0 || offset >= fileSize) {
+      throw new OStorageException(
+          "You are going to access region outside of allocated file position. File size = "
+              + fileSize
+              + ", requested position "
+              + offset);
+    }
+  }
+
+  private void checkForClose() {
+    if (fd < 0) {
+      throw new OStorageException("File " + osFile + " is closed");
+    }
+  }
+
+  /**
+   * Single read or write operation, continues itself if only part of the data was transferred.
+   * Heap buffers are copied into the direct buffers, because kernel needs stable address of the
+   * memory region.
+   */
+  private final class Operation implements OIOUring.CompletionHandler {
+    private final int fileDescriptor;
+    private final long position;
+    private final ByteBuffer buffer;
+    private final ByteBuffer directBuffer;
+    private final long address;
+    private final int length;
+    private final boolean write;
+
+    /**
+     * For writes indicates that counters of the batch should be updated, for reads indicates that
+     * end of file is an error.
+     */
+    private final boolean flag;
+
+    private final RingIOResult ioResult;
+
+    private int transferred;
+
+    private Operation(
+        final long position,
+        final ByteBuffer buffer,
+        final boolean write,
+        final boolean flag,
+        final RingIOResult ioResult) {
+      this.fileDescriptor = fd;
+      this.position = position;
+      this.buffer = buffer;
+      this.write = write;
+      this.flag = flag;
+      this.ioResult = ioResult;
+
+      length = buffer.limit();
+      if (buffer.isDirect()) {
+        directBuffer = buffer;
+      } else {
+        directBuffer = ByteBuffer.allocateDirect(length);
+        if (write) {
+          directBuffer.put(0, buffer, 0, length);
+        }
+      }
+
+      address = ring.address(directBuffer);
+    }
+
+    private void start() throws IOException {
+      if (write) {
+        ring.write(
+            fileDescriptor,
+            address + transferred,
+            length - transferred,
+            position + transferred,
+            this);
+      } else {
+        ring.read(
+            fileDescriptor,
+            address + transferred,
+            length - transferred,
+            position + transferred,
+            this);
+      }
+    }
+
+    @Override
+    public void completed(final int result) {
+      if (result < 0) {
+        failed(
+            new IOException(
+                "Error during "
+                    + (write ? "write operation to" : "read operation from")
+                    + " the file "
+                    + osFile
+                    + ", error code "
+                    + -result));
+        return;
+      }
+
+      if (result == 0 && !write) {
+        if (flag) {
+          failed(new EOFException("End of file " + osFile + " is reached."));
+        } else {
+          finish();
+        }
+
+        return;
+      }
+
+      transferred += result;
+      if (transferred < length) {
+        try {
+          start();
+          ring.submit();
+        } catch (final IOException | RuntimeException e) {
+          failed(e);
+        }
+      } else {
+        finish();
+      }
+    }
+
+    private void finish() {
+      if (!write && directBuffer != buffer) {
+        buffer.put(0, directBuffer, 0, transferred);
+      }
+      buffer.position(transferred);
+
+      if (write && flag) {
+        dirtyCounter.incrementAndGet();
+        syncSemaphore.release();
+      }
+
+      ioResult.done();
+    }
+
+    private void failed(final Throwable exc) {
+      if (write) {
+        logger.error("Error during write operation to the file " + osFile, exc);
+      }
+
+      if (write && flag) {
+        dirtyCounter.incrementAndGet();
+        syncSemaphore.release();
+      }
+
+      ioResult.fail(exc);
+    }
+  }
+
+  private static final class RingIOResult implements IOResult {
+    private final CountDownLatch latch;
+    private volatile Throwable exc;
+
+    private RingIOResult(final int operations) {
+      this.latch = new CountDownLatch(operations);
+    }
+
+    private void done() {
+      latch.countDown();
+    }
+
+    private void fail(final Throwable exc) {
+      this.exc = exc;
+      latch.countDown();
+    }
+
+    @Override
+    public void await() {
+      try {
+        latch.await();
+      } catch (InterruptedException e) {
+        throw OException.wrapException(new OInterruptedException("File write was interrupted"), e);
+      }
+      if (exc != null) {
+        throw OException.wrapException(new OStorageException("Error during IO operation"), exc);
+      }
+    }
+  }
+}
@@ -18,6 +18,8 @@ public interface OFile extends OClosableItem {
 
   void read(long offset, ByteBuffer buffer, boolean throwOnEof) throws IOException;
 
+  IOResult read(List<ORawPair<Long, ByteBuffer>> buffers) throws IOException;
+
   void write(long offset, ByteBuffer buffer) throws IOException;
 
   IOResult write(List<ORawPair<Long, ByteBuffer>> buffers) throws IOException;
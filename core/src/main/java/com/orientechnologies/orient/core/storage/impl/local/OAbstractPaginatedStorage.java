@@ -93,6 +93,7 @@ import com.orientechnologies.orient.core.exception.OStorageException;
 import com.orientechnologies.orient.core.exception.OStorageExistsException;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OIndexBuildLog;
 import com.orientechnologies.orient.core.index.OIndexDefinition;
 import com.orientechnologies.orient.core.index.OIndexException;
 import com.orientechnologies.orient.core.index.OIndexInternal;
@@ -149,6 +150,7 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoper
 import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurablePage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.AtomicUnitEndRecordWithPageLSNs;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.MetaDataRecord;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OAbstractPageWALRecord;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OAtomicUnitEndRecord;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OAtomicUnitStartMetadataRecord;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OAtomicUnitStartRecord;
@@ -158,6 +160,7 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OHighL
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.ONonTxOperationPerformedWALRecord;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OOperationUnitRecord;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OPageOperationsRecord;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OPaginatedClusterFactory;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OUpdatePageRecord;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALPageBrokenException;
@@ -174,6 +177,7 @@ import com.orientechnologies.orient.core.storage.ridbag.sbtree.OIndexRIDContaine
 import com.orientechnologies.orient.core.storage.ridbag.sbtree.OSBTreeCollectionManager;
 import com.orientechnologies.orient.core.storage.ridbag.sbtree.OSBTreeCollectionManagerShared;
 import com.orientechnologies.orient.core.storage.ridbag.sbtree.OSBTreeRidBag;
+import com.orientechnologies.orient.core.tx.OTransaction;
 import com.orientechnologies.orient.core.tx.OTransactionAbstract;
 import com.orientechnologies.orient.core.tx.OTransactionData;
 import com.orientechnologies.orient.core.tx.OTransactionId;
@@ -218,6 +222,7 @@ import java.util.TimeZone;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ScheduledExecutorService;
@@ -337,6 +342,13 @@ public abstract class OAbstractPaginatedStorage
 
   private final Map<String, OBaseIndexEngine> indexEngineNameMap = new HashMap<>();
   private final List<OBaseIndexEngine> indexEngines = new ArrayList<>();
+
+  /** Logs of changes of indexes which are filled online, mapped by internal ids of indexes. */
+  private final Map<Integer, OIndexBuildLog> indexBuildLogs = new ConcurrentHashMap<>();
+
+  /** Transactions which are started but not committed or rolled back yet. */
+  private final Set<OTransactionInternal> activeTransactions = ConcurrentHashMap.newKeySet();
+
   private final AtomicOperationIdGen idGen = new AtomicOperationIdGen();
 
   private boolean wereDataRestoredAfterOpen;
@@ -369,6 +381,9 @@ public abstract class OAbstractPaginatedStorage
   protected String name;
   private final AtomicLong version = new AtomicLong();
 
+  /** Serializes allocation of new pages by threads which restore page changes from WAL. */
+  private final Object restorePageAllocationLock = new Object();
+
   protected volatile STATUS status = STATUS.CLOSED;
 
   protected AtomicReference<Throwable> error = new AtomicReference<Throwable>(null);
@@ -2622,8 +2637,7 @@ public abstract class OAbstractPaginatedStorage
       final OIndexInternal index = changes.getAssociatedIndex();
 
       try {
-        int indexId = index.getIndexId();
-        indexId = extractInternalId(indexId);
+        final int indexId = indexEngineId(index);
         if (changes.cleared) {
           clearIndex(indexId);
         }
@@ -2632,10 +2646,18 @@ public abstract class OAbstractPaginatedStorage
         final OBaseIndexEngine engine = indexEngines.get(indexId);
         assert engine.getId() == indexId;
 
+        final OIndexBuildLog buildLog = indexBuildLogs.get(indexId);
+        final OIndexBuildLog.Batch buildLogBatch = buildLog != null ? buildLog.batch() : null;
         for (final OTransactionIndexChangesPerKey changesPerKey : changes.changesPerKey.values()) {
-          applyTxChanges(atomicOperation, changesPerKey, engine, index);
+          applyTxChanges(atomicOperation, changesPerKey, engine, index, buildLogBatch);
+        }
+        applyTxChanges(atomicOperation, changes.nullKeyChanges, engine, index, buildLogBatch);
+
+        if (buildLogBatch != null) {
+          // index engines are locked till the end of the atomic operation, so changes are logged in
+          // the order of commits and changes of transactions which are rolled back are not logged
+          atomicOperation.addCommitAction(buildLogBatch::commit);
         }
-        applyTxChanges(atomicOperation, changes.nullKeyChanges, engine, index);
       } catch (final OInvalidIndexEngineIdException e) {
         throw OException.wrapException(new OStorageException("Error during index commit"), e);
       }
@@ -2646,7 +2668,8 @@ public abstract class OAbstractPaginatedStorage
       OAtomicOperation atomicOperation,
       OTransactionIndexChangesPerKey changes,
       OBaseIndexEngine engine,
-      OIndexInternal index)
+      OIndexInternal index,
+      OIndexBuildLog.Batch buildLogBatch)
       throws OInvalidIndexEngineIdException {
 
     IndexEngineValidator<Object, ORID> uniqueValidator = null;
@@ -2655,25 +2678,34 @@ public abstract class OAbstractPaginatedStorage
     }
     for (OTransactionIndexChangesPerKey.OTransactionIndexEntry op :
         index.interpretTxKeyChanges(changes)) {
-      switch (op.getOperation()) {
-        case PUT:
-          if (uniqueValidator != null) {
-            engine.validatedPut(
-                atomicOperation, changes.key, op.getValue().getIdentity(), uniqueValidator);
-          } else {
-            engine.put(atomicOperation, changes.key, op.getValue().getIdentity());
-          }
-          break;
-        case REMOVE:
-          if (op.getValue() != null) {
-            engine.remove(atomicOperation, changes.key, op.getValue().getIdentity());
-          } else {
-            engine.remove(atomicOperation, changes.key);
-          }
-          break;
-        case CLEAR:
-          // SHOULD NEVER BE THE CASE HANDLE BY cleared FLAG
-          break;
+      if (buildLogBatch != null) {
+        if (op.getOperation() != OTransactionIndexChanges.OPERATION.CLEAR) {
+          buildLogBatch.log(
+              op.getOperation(),
+              changes.key,
+              op.getValue() != null ? op.getValue().getIdentity() : null);
+        }
+      } else {
+        switch (op.getOperation()) {
+          case PUT:
+            if (uniqueValidator != null) {
+              engine.validatedPut(
+                  atomicOperation, changes.key, op.getValue().getIdentity(), uniqueValidator);
+            } else {
+              engine.put(atomicOperation, changes.key, op.getValue().getIdentity());
+            }
+            break;
+          case REMOVE:
+            if (op.getValue() != null) {
+              engine.remove(atomicOperation, changes.key, op.getValue().getIdentity());
+            } else {
+              engine.remove(atomicOperation, changes.key);
+            }
+            break;
+          case CLEAR:
+            // SHOULD NEVER BE THE CASE HANDLE BY cleared FLAG
+            break;
+        }
       }
       if (!isDistributedMode(lastMetadata)) {
         engine.updateUniqueIndexVersion(changes.key);
@@ -2782,6 +2814,25 @@ public abstract class OAbstractPaginatedStorage
 
   public int addIndexEngine(
       final OIndexMetadata indexMetadata, final Map<String, String> engineProperties) {
+    return doAddIndexEngine(indexMetadata, engineProperties, false);
+  }
+
+  /**
+   * Replaces the engine of the rebuilt index by the new empty one. Transactions which are committed
+   * after the replacement change the new engine or, if it supports online build, record their
+   * changes in the build log returned by {@link #startIndexBuild(int)}.
+   *
+   * @return id of the new engine
+   */
+  public int replaceIndexEngine(
+      final OIndexMetadata indexMetadata, final Map<String, String> engineProperties) {
+    return doAddIndexEngine(indexMetadata, engineProperties, true);
+  }
+
+  private int doAddIndexEngine(
+      final OIndexMetadata indexMetadata,
+      final Map<String, String> engineProperties,
+      final boolean replace) {
     final OIndexDefinition indexDefinition = indexMetadata.getIndexDefinition();
 
     try {
@@ -2811,17 +2862,34 @@ public abstract class OAbstractPaginatedStorage
             null,
             atomicOperation -> {
               if (indexEngineNameMap.containsKey(indexMetadata.getName())) {
-                // OLD INDEX FILE ARE PRESENT: THIS IS THE CASE OF PARTIAL/BROKEN INDEX
-                logger.warn(
-                    "Index with name '%s' already exists, removing it and re-create the index",
-                    indexMetadata.getName());
+                if (!replace) {
+                  // OLD INDEX FILE ARE PRESENT: THIS IS THE CASE OF PARTIAL/BROKEN INDEX
+                  logger.warn(
+                      "Index with name '%s' already exists, removing it and re-create the index",
+                      indexMetadata.getName());
+                }
                 final OBaseIndexEngine engine = indexEngineNameMap.remove(indexMetadata.getName());
                 if (engine != null) {
+                  final IndexEngineData engineData =
+                      configuration.getIndexEngine(indexMetadata.getName(), engine.getId());
                   indexEngines.set(engine.getId(), null);
+                  indexBuildLogs.remove(engine.getId());
 
                   engine.delete(atomicOperation);
                   ((OClusterBasedStorageConfiguration) configuration)
                       .deleteIndexEngine(atomicOperation, indexMetadata.getName());
+
+                  if (replace
+                      && engineData != null
+                      && engineData.isMultivalue()
+                      && engine.hasRidBagTreesSupport()) {
+                    final OSBTreeBonsaiLocal<OIdentifiable, Boolean> tree =
+                        new OSBTreeBonsaiLocal<>(
+                            indexMetadata.getName(),
+                            OIndexRIDContainerSBTree.INDEX_FILE_EXTENSION,
+                            this);
+                    tree.deleteComponent(atomicOperation);
+                  }
                 }
               }
               final int binaryFormatVersion = configuration.getBinaryFormatVersion();
@@ -2864,6 +2932,12 @@ public abstract class OAbstractPaginatedStorage
                         this);
                 tree.createComponent(atomicOperation);
               }
+
+              // engine is replaced under the exclusive state lock, so there are no transactions
+              // which are committed between the replacement and the start of the build
+              if (replace && engine instanceof OV1IndexEngine) {
+                indexBuildLogs.put(engine.getId(), new OIndexBuildLog());
+              }
               return generateIndexId(engineData.getIndexId(), engine);
             });
       } catch (final IOException e) {
@@ -2996,6 +3070,7 @@ public abstract class OAbstractPaginatedStorage
                 tree.deleteComponent(atomicOperation);
               }
             });
+        indexBuildLogs.remove(internalIndexId);
 
       } catch (final IOException e) {
         throw OException.wrapException(new OStorageException("Error on index deletion"), e);
@@ -3025,6 +3100,19 @@ public abstract class OAbstractPaginatedStorage
     return engine;
   }
 
+  /**
+   * Engine of the index may be replaced by {@link #replaceIndexEngine(OIndexMetadata, Map)} after
+   * the index read the id of the engine, so engine of the committed index is looked up by its name.
+   */
+  private int indexEngineId(final OIndexInternal index) {
+    final OBaseIndexEngine engine = indexEngineNameMap.get(index.getName());
+    if (engine != null) {
+      return engine.getId();
+    }
+
+    return extractInternalId(index.getIndexId());
+  }
+
   private void checkIndexId(final int indexId) throws OInvalidIndexEngineIdException {
     if (indexId < 0 || indexId >= indexEngines.size() || indexEngines.get(indexId) == null) {
       throw new OInvalidIndexEngineIdException(
@@ -3289,6 +3377,60 @@ public abstract class OAbstractPaginatedStorage
         rangeFrom, fromInclusive, rangeTo, toInclusive, ascSortOrder, transformer);
   }
 
+  public Stream<ORawPair<Object, ORID>> iterateIndexEntriesBetweenRanges(
+      int indexId,
+      final List<ORawPair<Object, Object>> ranges,
+      final boolean fromInclusive,
+      final boolean toInclusive,
+      final boolean ascSortOrder,
+      final IndexEngineValuesTransformer transformer)
+      throws OInvalidIndexEngineIdException {
+    indexId = extractInternalId(indexId);
+
+    try {
+      if (transaction.get() != null) {
+        return doIterateIndexEntriesBetweenRanges(
+            indexId, ranges, fromInclusive, toInclusive, ascSortOrder, transformer);
+      }
+
+      stateLock.readLock().lock();
+      try {
+
+        checkOpennessAndMigration();
+
+        return doIterateIndexEntriesBetweenRanges(
+            indexId, ranges, fromInclusive, toInclusive, ascSortOrder, transformer);
+      } finally {
+        stateLock.readLock().unlock();
+      }
+    } catch (final OInvalidIndexEngineIdException ie) {
+      throw logAndPrepareForRethrow(ie);
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee, false);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t, false);
+    }
+  }
+
+  private Stream<ORawPair<Object, ORID>> doIterateIndexEntriesBetweenRanges(
+      final int indexId,
+      final List<ORawPair<Object, Object>> ranges,
+      final boolean fromInclusive,
+      final boolean toInclusive,
+      final boolean ascSortOrder,
+      final IndexEngineValuesTransformer transformer)
+      throws OInvalidIndexEngineIdException {
+    checkIndexId(indexId);
+
+    final OBaseIndexEngine engine = indexEngines.get(indexId);
+    assert indexId == engine.getId();
+
+    return engine.iterateEntriesBetweenRanges(
+        ranges, fromInclusive, toInclusive, ascSortOrder, transformer);
+  }
+
   public Stream<ORawPair<Object, ORID>> iterateIndexEntriesMajor(
       int indexId,
       final Object fromKey,
@@ -3583,6 +3725,226 @@ public abstract class OAbstractPaginatedStorage
     return engine.hasRangeQuerySupport();
   }
 
+  /**
+   * @return <code>true</code> if empty index can be filled by {@link #bulkLoadIndex(int, Iterator,
+   *     IndexEngineValidator)}, bulk load is not possible inside of the active transaction.
+   */
+  public boolean hasIndexBulkLoadSupport(int indexId) throws OInvalidIndexEngineIdException {
+    indexId = extractInternalId(indexId);
+
+    if (!OGlobalConfiguration.INDEX_BULK_LOAD.getValueAsBoolean()
+        || transaction.get() != null
+        || atomicOperationsManager.getCurrentOperation() != null) {
+      return false;
+    }
+
+    try {
+      stateLock.readLock().lock();
+      try {
+        checkOpennessAndMigration();
+        checkIndexId(indexId);
+
+        final OBaseIndexEngine engine = indexEngines.get(indexId);
+        assert indexId == engine.getId();
+
+        return engine.hasBulkLoadSupport();
+      } finally {
+        stateLock.readLock().unlock();
+      }
+    } catch (final OInvalidIndexEngineIdException ie) {
+      throw logAndPrepareForRethrow(ie);
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee, false);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t, false);
+    }
+  }
+
+  /**
+   * Fills empty index by the passed in entries. Entries are sorted and written into the index
+   * bucket by bucket in series of atomic operations instead of insertion of each of them.
+   */
+  public void bulkLoadIndex(
+      int indexId,
+      final Iterator<ORawPair<Object, ORID>> entries,
+      final IndexEngineValidator<Object, ORID> validator)
+      throws OInvalidIndexEngineIdException {
+    indexId = extractInternalId(indexId);
+
+    try {
+      stateLock.readLock().lock();
+      try {
+        checkOpennessAndMigration();
+        checkIndexId(indexId);
+
+        makeStorageDirty();
+
+        final OBaseIndexEngine engine = indexEngines.get(indexId);
+        assert indexId == engine.getId();
+
+        engine.bulkLoad(entries, validator);
+      } finally {
+        stateLock.readLock().unlock();
+      }
+    } catch (final OInvalidIndexEngineIdException ie) {
+      throw logAndPrepareForRethrow(ie);
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee, false);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t, false);
+    }
+  }
+
+  /**
+   * Starts online build of the index. Till the end of the build transactions do not change the
+   * index but record their changes in the returned log, which is applied by {@link
+   * #applyIndexBuildLog(int, IndexEngineValidator, boolean)}.
+   *
+   * @return log of changes of the index or <code>null</code> if index engine does not support
+   *     online build.
+   */
+  public OIndexBuildLog startIndexBuild(int indexId) throws OInvalidIndexEngineIdException {
+    indexId = extractInternalId(indexId);
+
+    try {
+      stateLock.readLock().lock();
+      try {
+        checkOpennessAndMigration();
+        checkIndexId(indexId);
+
+        final OBaseIndexEngine engine = indexEngines.get(indexId);
+        assert indexId == engine.getId();
+
+        if (!(engine instanceof OV1IndexEngine)) {
+          return null;
+        }
+
+        // log of the replaced engine is registered by replaceIndexEngine()
+        return indexBuildLogs.computeIfAbsent(indexId, id -> new OIndexBuildLog());
+      } finally {
+        stateLock.readLock().unlock();
+      }
+    } catch (final OInvalidIndexEngineIdException ie) {
+      throw logAndPrepareForRethrow(ie);
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee, false);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t, false);
+    }
+  }
+
+  /** Registers transaction which changes of indexes are computed from now on. */
+  public void transactionStarted(final OTransactionInternal transaction) {
+    activeTransactions.add(transaction);
+  }
+
+  /** Unregisters transaction which is committed or rolled back. */
+  public void transactionCompleted(final OTransactionInternal transaction) {
+    activeTransactions.remove(transaction);
+  }
+
+  /**
+   * Waits till the end of all transactions which are active at the moment of the call except of
+   * the passed in one. Changes of indexes are computed by transactions once records are saved, so
+   * changes of the index which is just added are made only by transactions started after it.
+   */
+  public void awaitActiveTransactions(final OTransaction current) {
+    final List<OTransactionInternal> transactions = new ArrayList<>(activeTransactions);
+    transactions.remove(current);
+
+    long lastWarning = System.nanoTime();
+    for (final OTransactionInternal transaction : transactions) {
+      while (activeTransactions.contains(transaction)) {
+        checkOpennessAndMigration();
+
+        if (System.nanoTime() - lastWarning > TimeUnit.MINUTES.toNanos(1)) {
+          lastWarning = System.nanoTime();
+          logger.warnNoDb("Waiting for the end of transactions started before the index build");
+        }
+
+        try {
+          Thread.sleep(10);
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw OException.wrapException(
+              new OInterruptedException("Waiting for the end of transactions was interrupted"), e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Applies changes recorded in the log of the index which is filled online.
+   *
+   * @param complete if <code>true</code> transactions which change the index are blocked till the
+   *     whole log is applied, after that they change the index directly.
+   */
+  public void applyIndexBuildLog(
+      int indexId, final IndexEngineValidator<Object, ORID> validator, final boolean complete)
+      throws OInvalidIndexEngineIdException {
+    indexId = extractInternalId(indexId);
+
+    try {
+      stateLock.readLock().lock();
+      try {
+        checkOpennessAndMigration();
+        checkIndexId(indexId);
+
+        final OBaseIndexEngine engine = indexEngines.get(indexId);
+        assert indexId == engine.getId();
+
+        final OIndexBuildLog buildLog = indexBuildLogs.get(indexId);
+        if (buildLog == null) {
+          throw new OStorageException("Index " + engine.getName() + " is not built online");
+        }
+
+        makeStorageDirty();
+
+        final int internalIndexId = indexId;
+        atomicOperationsManager.executeInsideAtomicOperation(
+            null,
+            atomicOperation -> {
+              if (complete) {
+                // waits for transactions which log changes and blocks new ones
+                engine.acquireAtomicExclusiveLock(null);
+              }
+
+              buildLog.apply(atomicOperation, engine, validator, complete);
+
+              if (complete) {
+                indexBuildLogs.remove(internalIndexId);
+              }
+            });
+      } finally {
+        stateLock.readLock().unlock();
+      }
+    } catch (final OInvalidIndexEngineIdException ie) {
+      throw logAndPrepareForRethrow(ie);
+    } catch (final RuntimeException ee) {
+      throw logAndPrepareForRethrow(ee);
+    } catch (final Error ee) {
+      throw logAndPrepareForRethrow(ee, false);
+    } catch (final Throwable t) {
+      throw logAndPrepareForRethrow(t, false);
+    }
+  }
+
+  /** Stops online build of the index, so transactions change the index directly again. */
+  public void stopIndexBuild(int indexId) {
+    indexBuildLogs.remove(extractInternalId(indexId));
+  }
+
+  /** @return <code>true</code> if index is built online at the moment. */
+  public boolean isIndexBuilding(int indexId) {
+    return indexBuildLogs.containsKey(extractInternalId(indexId));
+  }
+
   private void rollback(final OTransactionInternal clientTx, final Throwable error)
       throws IOException {
     assert transaction.get() != null;
@@ -6189,6 +6551,18 @@ public abstract class OAbstractPaginatedStorage
 
     long lastReportTime = 0;
     OLogSequenceNumber lastUpdatedLSN = null;
+    // changes of pages may be still applied in background, LSN of the last restored record is
+    // updated only once all of them are applied
+    OLogSequenceNumber lastSubmittedLSN = null;
+
+    final int restoreThreads = OGlobalConfiguration.WAL_RESTORE_THREADS.getValueAsInteger();
+    final OParallelPageRestore pageRestore;
+    if (restoreThreads > 1) {
+      logger.infoNoDb("Page changes will be restored using %d threads", restoreThreads);
+      pageRestore = new OParallelPageRestore(name, restoreThreads, this::restorePage);
+    } else {
+      pageRestore = null;
+    }
 
     try {
       List<WriteableWALRecord> records = writeAheadLog.read(lsn, 1_000);
@@ -6203,10 +6577,14 @@ public abstract class OAbstractPaginatedStorage
             // flushed to the disk
             if (atomicUnit != null) {
               atomicUnit.add(walRecord);
-              if (!restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate)) {
-                return lastUpdatedLSN;
+              if (!restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate, pageRestore)) {
+                // all changes submitted before are applied if atomic unit can not be restored
+                return lastSubmittedLSN;
               } else {
-                lastUpdatedLSN = walRecord.getLsn();
+                lastSubmittedLSN = walRecord.getLsn();
+                if (pageRestore == null) {
+                  lastUpdatedLSN = lastSubmittedLSN;
+                }
               }
             }
             byte[] metadata = operationMetadata.remove(atomicUnitEndRecord.getOperationUnitId());
@@ -6249,7 +6627,10 @@ public abstract class OAbstractPaginatedStorage
             }
           } else if (walRecord instanceof MetaDataRecord metaDataRecord) {
             this.lastMetadata = metaDataRecord.getMetadata();
-            lastUpdatedLSN = walRecord.getLsn();
+            lastSubmittedLSN = walRecord.getLsn();
+            if (pageRestore == null) {
+              lastUpdatedLSN = lastSubmittedLSN;
+            }
           } else {
             logger.warnNoDb("Record %s will be skipped during data restore", walRecord);
           }
@@ -6259,15 +6640,31 @@ public abstract class OAbstractPaginatedStorage
           final long currentTime = System.currentTimeMillis();
           if (reportBatchSize > 0 && recordsProcessed % reportBatchSize == 0
               || currentTime - lastReportTime > WAL_RESTORE_REPORT_INTERVAL) {
-            logger.infoNoDb(
-                "%d operations were processed, current LSN is %s last LSN is %s",
-                recordsProcessed, lsn, writeAheadLog.end());
+            if (pageRestore == null) {
+              logger.infoNoDb(
+                  "%d operations were processed, current LSN is %s last LSN is %s",
+                  recordsProcessed, lsn, writeAheadLog.end());
+            } else {
+              logger.infoNoDb(
+                  "%d operations were processed, %d page changes were applied, %d page changes"
+                      + " are waiting to be applied, current LSN is %s last LSN is %s",
+                  recordsProcessed,
+                  pageRestore.getAppliedChanges(),
+                  pageRestore.getPendingChanges(),
+                  lsn,
+                  writeAheadLog.end());
+            }
             lastReportTime = currentTime;
           }
         }
 
         records = writeAheadLog.next(records.get(records.size() - 1).getLsn(), 1_000);
       }
+
+      if (pageRestore != null) {
+        pageRestore.awaitCompletion();
+        lastUpdatedLSN = lastSubmittedLSN;
+      }
     } catch (final OWALPageBrokenException e) {
       logger.errorNoDb(
           "Data restore was paused because broken WAL page was found. The rest of changes will"
@@ -6278,6 +6675,10 @@ public abstract class OAbstractPaginatedStorage
           "Data restore was paused because of exception. The rest of changes will be rolled"
               + " back.",
           e);
+    } finally {
+      if (pageRestore != null) {
+        pageRestore.close();
+      }
     }
 
     return lastUpdatedLSN;
@@ -6286,6 +6687,22 @@ public abstract class OAbstractPaginatedStorage
   protected final boolean restoreAtomicUnit(
       final List<OWALRecord> atomicUnit, final OModifiableBoolean atLeastOnePageUpdate)
       throws IOException {
+    return restoreAtomicUnit(atomicUnit, atLeastOnePageUpdate, null);
+  }
+
+  /**
+   * Restores changes of the single atomic operation.
+   *
+   * @param pageRestore if not <code>null</code> changes of pages are submitted to be applied in
+   *     background threads, otherwise they are applied by the current thread
+   * @return <code>false</code> if atomic operation can not be restored and restore process should
+   *     be stopped
+   */
+  private boolean restoreAtomicUnit(
+      final List<OWALRecord> atomicUnit,
+      final OModifiableBoolean atLeastOnePageUpdate,
+      final OParallelPageRestore pageRestore)
+      throws IOException {
     assert atomicUnit.get(atomicUnit.size() - 1) instanceof OAtomicUnitEndRecord;
 
     final HashSet<PageKey> pages = new HashSet<>();
@@ -6293,7 +6710,7 @@ public abstract class OAbstractPaginatedStorage
     AtomicUnitEndRecordWithPageLSNs atomicUnitEndRecord = null;
 
     for (final OWALRecord walRecord : atomicUnit) {
-      if (walRecord instanceof OUpdatePageRecord record) {
+      if (walRecord instanceof OAbstractPageWALRecord record) {
         final long fileId = record.getFileId();
         final long pageIndex = record.getPageIndex();
 
@@ -6311,6 +6728,11 @@ public abstract class OAbstractPaginatedStorage
               integrityCheckPassed = false;
               break;
             } else {
+              if (pageRestore != null) {
+                // LSN of the page is checked, so changes of previous atomic units should be applied
+                pageRestore.awaitCompletion();
+              }
+
               final OCacheEntry cacheEntry =
                   readCache.loadForRead(
                       triple.first.getFileId(), triple.first.getPageIndex(), writeCache, true);
@@ -6340,6 +6762,11 @@ public abstract class OAbstractPaginatedStorage
     }
 
     if (!integrityCheckPassed) {
+      if (pageRestore != null) {
+        // LSNs of pages are checked below, so all previous changes should be applied
+        pageRestore.awaitCompletion();
+      }
+
       final String errorMessage =
           "Transaction is stored only partially but its changes already present in storage. "
               + this.name
@@ -6379,6 +6806,11 @@ public abstract class OAbstractPaginatedStorage
 
     for (final OWALRecord walRecord : atomicUnit) {
       if (walRecord instanceof OFileDeletedWALRecord fileDeletedWALRecord) {
+        if (pageRestore != null) {
+          // file can not be deleted till all changes of its pages are applied
+          pageRestore.awaitCompletion();
+        }
+
         if (writeCache.exists(fileDeletedWALRecord.getFileId())) {
           readCache.deleteFile(fileDeletedWALRecord.getFileId(), writeCache);
         }
@@ -6389,7 +6821,7 @@ public abstract class OAbstractPaginatedStorage
               fileCreatedCreatedWALRecord.getFileId(),
               writeCache);
         }
-      } else if (walRecord instanceof OUpdatePageRecord updatePageRecord) {
+      } else if (walRecord instanceof OAbstractPageWALRecord updatePageRecord) {
         long fileId = updatePageRecord.getFileId();
         if (!writeCache.exists(fileId)) {
           final String fileName = writeCache.restoreFileById(fileId);
@@ -6407,28 +6839,11 @@ public abstract class OAbstractPaginatedStorage
           }
         }
 
-        final long pageIndex = updatePageRecord.getPageIndex();
         fileId = writeCache.externalFileId(writeCache.internalFileId(fileId));
-
-        OCacheEntry cacheEntry = readCache.loadForWrite(fileId, pageIndex, writeCache, true, null);
-        if (cacheEntry == null) {
-          do {
-            if (cacheEntry != null) {
-              readCache.releaseFromWrite(cacheEntry, writeCache, true);
-            }
-
-            cacheEntry = readCache.allocateNewPage(fileId, writeCache, null);
-          } while (cacheEntry.getPageIndex() != pageIndex);
-        }
-
-        try {
-          final ODurablePage durablePage = new ODurablePage(cacheEntry);
-          if (durablePage.getLSN().compareTo(walRecord.getLsn()) < 0) {
-            durablePage.restoreChanges(updatePageRecord.getChanges());
-            durablePage.setLsn(updatePageRecord.getLsn());
-          }
-        } finally {
-          readCache.releaseFromWrite(cacheEntry, writeCache, true);
+        if (pageRestore == null) {
+          restorePage(updatePageRecord, fileId);
+        } else {
+          pageRestore.submit(updatePageRecord, fileId);
         }
 
         atLeastOnePageUpdate.setValue(true);
@@ -6454,6 +6869,46 @@ public abstract class OAbstractPaginatedStorage
     return true;
   }
 
+  /**
+   * Applies changes of the single page stored in WAL record if they are not applied yet. May be
+   * called concurrently for different pages.
+   */
+  private void restorePage(final OAbstractPageWALRecord updatePageRecord, final long fileId)
+      throws IOException {
+    final long pageIndex = updatePageRecord.getPageIndex();
+
+    OCacheEntry cacheEntry = readCache.loadForWrite(fileId, pageIndex, writeCache, true, null);
+    if (cacheEntry == null) {
+      synchronized (restorePageAllocationLock) {
+        // page could be allocated by other thread which restores pages of the same file
+        cacheEntry = readCache.loadForWrite(fileId, pageIndex, writeCache, true, null);
+        if (cacheEntry == null) {
+          do {
+            if (cacheEntry != null) {
+              readCache.releaseFromWrite(cacheEntry, writeCache, true);
+            }
+
+            cacheEntry = readCache.allocateNewPage(fileId, writeCache, null);
+          } while (cacheEntry.getPageIndex() != pageIndex);
+        }
+      }
+    }
+
+    try {
+      final ODurablePage durablePage = new ODurablePage(cacheEntry);
+      if (durablePage.getLSN().compareTo(updatePageRecord.getLsn()) < 0) {
+        if (updatePageRecord instanceof OUpdatePageRecord) {
+          durablePage.restoreChanges(((OUpdatePageRecord) updatePageRecord).getChanges());
+        } else {
+          ((OPageOperationsRecord) updatePageRecord).redo(cacheEntry);
+        }
+        durablePage.setLsn(updatePageRecord.getLsn());
+      }
+    } finally {
+      readCache.releaseFromWrite(cacheEntry, writeCache, true);
+    }
+  }
+
   @SuppressWarnings("unused")
   public void setStorageConfigurationUpdateListener(
       final OStorageConfigurationUpdateListener storageConfigurationUpdateListener) {
@@ -6556,7 +7011,7 @@ public abstract class OAbstractPaginatedStorage
       final OIndexInternal index = entry.getValue().resolveAssociatedIndex(indexName, manager, db);
       if (index != null) {
         try {
-          OBaseIndexEngine engine = getIndexEngine(index.getIndexId());
+          OBaseIndexEngine engine = getIndexEngine(indexEngineId(index));
 
           if (!index.isUnique() && engine.hasRidBagTreesSupport()) {
             atomicOperationsManager.acquireExclusiveLockTillOperationComplete(
@@ -0,0 +1,146 @@
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import com.orientechnologies.common.concur.lock.OInterruptedException;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.thread.OThreadPoolExecutors;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OAbstractPageWALRecord;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Applies page changes read from WAL during data restore using several threads. Changes are
+ * partitioned by page, so all changes of the same page are applied by the same thread in the order
+ * they were submitted, while changes of different pages are applied concurrently.
+ *
+ * <p>Operations which affect files as a whole (creation and deletion of files) should be performed
+ * only after all submitted changes are applied, see {@link #awaitCompletion()}.
+ */
+final class OParallelPageRestore implements AutoCloseable {
+  /** Limit of changes which are submitted but not applied yet, per single thread. */
+  private static final int MAX_PENDING_CHANGES_PER_THREAD = 1024;
+
+  @FunctionalInterface
+  interface PageRestore {
+    void restorePage(OAbstractPageWALRecord record, long fileId) throws IOException;
+  }
+
+  private final ExecutorService[] workers;
+  private final PageRestore pageRestore;
+
+  private final int maxPendingChanges;
+  private final Semaphore pendingChanges;
+
+  private final AtomicLong appliedChanges = new AtomicLong();
+  private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+  OParallelPageRestore(final String storageName, final int threads, final PageRestore pageRestore) {
+    this.pageRestore = pageRestore;
+
+    maxPendingChanges = threads * MAX_PENDING_CHANGES_PER_THREAD;
+    pendingChanges = new Semaphore(maxPendingChanges);
+
+    workers = new ExecutorService[threads];
+    for (int i = 0; i < threads; i++) {
+      workers[i] =
+          OThreadPoolExecutors.newSingleThreadPool(
+              "OrientDB WAL Restore Thread (" + storageName + ") #" + i,
+              OAbstractPaginatedStorage.storageThreadGroup);
+    }
+  }
+
+  /**
+   * Schedules changes of the page for execution. Blocks if there are too many changes which are not
+   * applied yet.
+   *
+   * @param record WAL record which contains changes of the page
+   * @param fileId external id of the file which contains the page
+   */
+  void submit(final OAbstractPageWALRecord record, final long fileId) {
+    checkFailure();
+
+    try {
+      pendingChanges.acquire();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OInterruptedException("Data restore was interrupted"), e);
+    }
+
+    final int partition =
+        Math.floorMod(
+            31 * Long.hashCode(fileId) + Long.hashCode(record.getPageIndex()), workers.length);
+    workers[partition].execute(
+        () -> {
+          try {
+            if (failure.get() == null) {
+              pageRestore.restorePage(record, fileId);
+              appliedChanges.incrementAndGet();
+            }
+          } catch (final Throwable e) {
+            failure.compareAndSet(null, e);
+          } finally {
+            pendingChanges.release();
+          }
+        });
+  }
+
+  /**
+   * Waits till all submitted changes are applied.
+   *
+   * @throws OStorageException if application of any of the changes was failed
+   */
+  void awaitCompletion() {
+    try {
+      pendingChanges.acquire(maxPendingChanges);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OInterruptedException("Data restore was interrupted"), e);
+    }
+    pendingChanges.release(maxPendingChanges);
+
+    checkFailure();
+  }
+
+  long getAppliedChanges() {
+    return appliedChanges.get();
+  }
+
+  int getPendingChanges() {
+    return maxPendingChanges - pendingChanges.availablePermits();
+  }
+
+  private void checkFailure() {
+    final Throwable e = failure.get();
+    if (e != null) {
+      if (e instanceof OException) {
+        throw (OException) e;
+      }
+
+      throw OException.wrapException(
+          new OStorageException("Error during restore of page changes"), e);
+    }
+  }
+
+  /** Waits till all submitted changes are processed and stops all threads. */
+  @Override
+  public void close() {
+    for (final ExecutorService worker : workers) {
+      worker.shutdown();
+    }
+
+    try {
+      for (final ExecutorService worker : workers) {
+        if (!worker.awaitTermination(1, TimeUnit.HOURS)) {
+          throw new OStorageException("Restore of page changes can not be completed in time");
+        }
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new OInterruptedException("Data restore was interrupted"), e);
+    }
+  }
+}
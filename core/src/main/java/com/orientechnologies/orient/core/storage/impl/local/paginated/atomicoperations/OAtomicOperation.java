@@ -57,6 +57,14 @@ public interface OAtomicOperation {
 
   Iterable<String> lockedObjects();
 
+  /**
+   * Registers action which is executed once changes of the operation are committed, objects locked
+   * by the operation are released after all actions are executed.
+   */
+  void addCommitAction(Runnable action);
+
+  Iterable<Runnable> commitActions();
+
   void addDeletedRecordPosition(final int clusterId, final int pageIndex, final int recordPosition);
 
   Set<Integer> getBookedRecordPositions(final int clusterId, final int pageIndex);
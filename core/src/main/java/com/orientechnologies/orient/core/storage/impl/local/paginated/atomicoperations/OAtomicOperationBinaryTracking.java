@@ -54,6 +54,7 @@ final class OAtomicOperationBinaryTracking implements OAtomicOperation {
   private boolean rollback;
 
   private final Set<String> lockedObjects = new HashSet<>();
+  private final List<Runnable> commitActions = new ArrayList<>();
   private final Map<Long, FileChanges> fileChanges = new HashMap<>();
   private final Map<String, Long> newFileNamesId = new HashMap<>();
   private final Set<Long> deletedFiles = new HashSet<>();
@@ -464,8 +465,8 @@ final class OAtomicOperationBinaryTracking implements OAtomicOperation {
             final long pageIndex = filePageChangesEntry.getKey();
             final OCacheEntryChanges filePageChanges = filePageChangesEntry.getValue();
 
-            final OUpdatePageRecord updatePageRecord =
-                new OUpdatePageRecord(pageIndex, fileId, operationUnitId, filePageChanges.changes);
+            final OAbstractPageWALRecord updatePageRecord =
+                createPageRecord(pageIndex, fileId, filePageChanges.changes);
             writeAheadLog.log(updatePageRecord);
             filePageChanges.setChangeLSN(updatePageRecord.getLsn());
 
@@ -595,6 +596,30 @@ final class OAtomicOperationBinaryTracking implements OAtomicOperation {
     return txEndLsn;
   }
 
+  /**
+   * Creates WAL record which describes changes of the page. If all changes of the page were done by
+   * logical page operations and they take less space than binary diff of the page, record which
+   * contains operations is created, otherwise binary diff of the page is logged.
+   */
+  private OAbstractPageWALRecord createPageRecord(
+      final long pageIndex, final long fileId, final OWALChanges changes) {
+    final OUpdatePageRecord updatePageRecord =
+        new OUpdatePageRecord(pageIndex, fileId, operationUnitId, changes);
+
+    final List<OPageOperation> pageOperations = changes.getPageOperations();
+    if (pageOperations == null || pageOperations.isEmpty()) {
+      return updatePageRecord;
+    }
+
+    final OPageOperationsRecord pageOperationsRecord =
+        new OPageOperationsRecord(pageIndex, fileId, operationUnitId, pageOperations);
+    if (pageOperationsRecord.serializedSize() < updatePageRecord.serializedSize()) {
+      return pageOperationsRecord;
+    }
+
+    return updatePageRecord;
+  }
+
   public void rollbackInProgress() {
     rollback = true;
   }
@@ -615,6 +640,16 @@ final class OAtomicOperationBinaryTracking implements OAtomicOperation {
     return lockedObjects;
   }
 
+  @Override
+  public void addCommitAction(final Runnable action) {
+    commitActions.add(action);
+  }
+
+  @Override
+  public Iterable<Runnable> commitActions() {
+    return commitActions;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
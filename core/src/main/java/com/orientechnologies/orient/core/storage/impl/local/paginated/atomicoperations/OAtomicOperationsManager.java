@@ -38,9 +38,12 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoper
 import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurableComponent;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWriteAheadLog;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas.WrittenUpTo;
 import java.io.IOException;
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 /**
  * @author Andrey Lomakin (a.lomakin-at-orientdb.com)
@@ -312,6 +315,7 @@ public class OAtomicOperationsManager {
       throw new ODatabaseException("There is no atomic operation active");
     }
 
+    CompletableFuture<WrittenUpTo> groupCommit = null;
     try {
       storage.moveToErrorStateIfNeeded(error);
 
@@ -333,6 +337,16 @@ public class OAtomicOperationsManager {
         } else {
           atomicOperationsTable.commitOperation(operationId);
           writeAheadLog.addEventAt(lsn, () -> atomicOperationsTable.persistOperation(operationId));
+
+          if (lsn != null) {
+            groupCommit = writeAheadLog.groupCommit(lsn);
+          }
+
+          if (!operation.isRollbackInProgress()) {
+            for (final Runnable action : operation.commitActions()) {
+              action.run();
+            }
+          }
         }
 
       } finally {
@@ -353,6 +367,25 @@ public class OAtomicOperationsManager {
     } finally {
       atomicOperationsFreezer.endOperation();
     }
+
+    // locks are already released, so other operations may join the same group while we wait
+    if (groupCommit != null) {
+      waitForGroupCommit(groupCommit);
+    }
+  }
+
+  private void waitForGroupCommit(final CompletableFuture<WrittenUpTo> groupCommit) {
+    try {
+      groupCommit.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(
+          new OStorageException("Waiting for the WAL fsync was interrupted"), e);
+    } catch (final ExecutionException e) {
+      throw OException.wrapException(
+          new OStorageException("Error during the WAL fsync, commit may be not durable"),
+          e.getCause());
+    }
   }
 
   public void ensureThatComponentsUnlocked() {
@@ -25,9 +25,11 @@ import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.cache.OCachePointer;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OPageOperation;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALChanges;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Arrays;
 
 /**
  * Base page class for all durable data structures, that is data structures state of which can be
@@ -64,6 +66,9 @@ public class ODurablePage {
 
   public static final int NEXT_FREE_POSITION = WAL_POSITION_OFFSET + OLongSerializer.LONG_SIZE;
 
+  private static final boolean LOG_PAGE_OPERATIONS =
+      OGlobalConfiguration.WAL_LOGICAL_PAGE_OPERATIONS.getValueAsBoolean();
+
   private final OWALChanges changes;
   private final OCacheEntry cacheEntry;
   private final ByteBuffer buffer;
@@ -209,6 +214,42 @@ public class ODurablePage {
     return changes.getBinaryValue(buffer, pageOffset, valLen);
   }
 
+  /**
+   * Compares <code>valLen</code> bytes stored in the page starting from the passed in offset with
+   * the passed in array. Both byte sequences are compared lexicographically as unsigned values, so
+   * result of comparison has the same sign as the result of {@link
+   * java.util.Arrays#compareUnsigned(byte[], byte[])} call but bytes of the page are not copied.
+   */
+  protected final int compareBinaryValue(
+      final int pageOffset, final int valLen, final byte[] value) {
+    return compareBinaryValue(pageOffset, valLen, value, 0, value.length);
+  }
+
+  /**
+   * Same as {@link #compareBinaryValue(int, int, byte[])} but compares bytes of the page with the
+   * <code>len</code> bytes of the passed in array starting from the <code>offset</code>.
+   */
+  protected final int compareBinaryValue(
+      final int pageOffset, final int valLen, final byte[] value, final int offset, final int len) {
+    if (changes == null) {
+      assert buffer != null;
+      assert buffer.order() == ByteOrder.nativeOrder();
+
+      final int commonLen = Math.min(valLen, len);
+      for (int i = 0; i < commonLen; i++) {
+        final int cmp = Byte.compareUnsigned(buffer.get(pageOffset + i), value[offset + i]);
+        if (cmp != 0) {
+          return cmp;
+        }
+      }
+
+      return valLen - len;
+    }
+
+    return Arrays.compareUnsigned(
+        changes.getBinaryValue(buffer, pageOffset, valLen), 0, valLen, value, offset, offset + len);
+  }
+
   protected int getObjectSizeInDirectMemory(
       final OBinarySerializer<?> binarySerializer, final int offset) {
     if (changes == null) {
@@ -326,6 +367,24 @@ public class ODurablePage {
     }
   }
 
+  /**
+   * Marks start of the logical operation on the page, all changes done till the call of {@link
+   * #endPageOperation()} may be logged in WAL as this operation instead of binary diff of the page.
+   * Each call of this method should be followed by call of {@link #endPageOperation()} in <code>
+   * finally</code> block.
+   */
+  protected final void startPageOperation(final OPageOperation operation) {
+    if (changes != null && LOG_PAGE_OPERATIONS) {
+      changes.startPageOperation(operation);
+    }
+  }
+
+  protected final void endPageOperation() {
+    if (changes != null && LOG_PAGE_OPERATIONS) {
+      changes.endPageOperation();
+    }
+  }
+
   public OWALChanges getChanges() {
     return changes;
   }
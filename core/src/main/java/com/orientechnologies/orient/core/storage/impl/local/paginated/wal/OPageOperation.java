@@ -0,0 +1,55 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
+
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import java.nio.ByteBuffer;
+
+/**
+ * Logical (operation level) change of the single page, like "insert key at the given slot of the
+ * bucket" or "add record at the given position of the cluster page". Operations are logged instead
+ * of binary diff of the page if all changes of the page were done by operations and their size is
+ * smaller than size of the diff.
+ *
+ * <p>Operation should contain all the data which are needed to repeat it on the page which is in
+ * the same state as the page was before the operation, so that redo of operation produces the same
+ * content of the page as original operation did.
+ *
+ * @see OPageOperationsRecord
+ * @see PageOperationTypes
+ */
+public abstract class OPageOperation {
+  /** @return Id of operation type, one of {@link PageOperationTypes} constants. */
+  public abstract int getId();
+
+  /** @return Size of serialized content of operation, id of operation is not included. */
+  public abstract int serializedSize();
+
+  public abstract void toStream(ByteBuffer buffer);
+
+  public abstract void fromStream(ByteBuffer buffer);
+
+  /**
+   * Repeats operation during restore of the data from WAL. Page is accessed directly, without
+   * tracking of changes.
+   */
+  public abstract void redo(OCacheEntry cacheEntry);
+
+  protected static void serializeBytes(final ByteBuffer buffer, final byte[] value) {
+    buffer.putInt(value.length);
+    buffer.put(value);
+  }
+
+  protected static byte[] deserializeBytes(final ByteBuffer buffer) {
+    final byte[] value = new byte[buffer.getInt()];
+    buffer.get(value);
+    return value;
+  }
+
+  protected static int serializedBytesSize(final byte[] value) {
+    return Integer.BYTES + value.length;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName();
+  }
+}
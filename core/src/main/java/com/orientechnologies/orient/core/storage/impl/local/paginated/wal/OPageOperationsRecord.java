@@ -0,0 +1,85 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
+
+import com.orientechnologies.common.serialization.types.OByteSerializer;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Contains list of logical operations performed on the single page during atomic operation. Used
+ * instead of {@link OUpdatePageRecord} when all changes of the page were done by {@link
+ * OPageOperation}s, and their size is smaller than the size of the binary diff of the page.
+ */
+public final class OPageOperationsRecord extends OAbstractPageWALRecord {
+  private List<OPageOperation> operations;
+
+  @SuppressWarnings("WeakerAccess")
+  public OPageOperationsRecord() {}
+
+  public OPageOperationsRecord(
+      final long pageIndex,
+      final long fileId,
+      final long operationUnitId,
+      final List<OPageOperation> operations) {
+    super(pageIndex, fileId, operationUnitId);
+    this.operations = operations;
+  }
+
+  public List<OPageOperation> getOperations() {
+    return operations;
+  }
+
+  /** Repeats all operations on the page in the same order as they were performed originally. */
+  public void redo(final OCacheEntry cacheEntry) {
+    for (final OPageOperation operation : operations) {
+      operation.redo(cacheEntry);
+    }
+  }
+
+  @Override
+  public int serializedSize() {
+    int serializedSize = super.serializedSize() + OIntegerSerializer.INT_SIZE;
+    for (final OPageOperation operation : operations) {
+      serializedSize += OByteSerializer.BYTE_SIZE + operation.serializedSize();
+    }
+
+    return serializedSize;
+  }
+
+  @Override
+  protected void serializeToByteBuffer(final ByteBuffer buffer) {
+    super.serializeToByteBuffer(buffer);
+
+    buffer.putInt(operations.size());
+    for (final OPageOperation operation : operations) {
+      buffer.put((byte) operation.getId());
+      operation.toStream(buffer);
+    }
+  }
+
+  @Override
+  protected void deserializeFromByteBuffer(final ByteBuffer buffer) {
+    super.deserializeFromByteBuffer(buffer);
+
+    final int size = buffer.getInt();
+    operations = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      final OPageOperation operation = PageOperationTypes.createOperation(buffer.get());
+      operation.fromStream(buffer);
+      operations.add(operation);
+    }
+  }
+
+  @Override
+  public int getId() {
+    return WALRecordTypes.PAGE_OPERATIONS_RECORD;
+  }
+
+  @Override
+  public String toString() {
+    return toString(
+        "pageIndex=" + getPageIndex() + ", fileId=" + getFileId() + ", operations=" + operations);
+  }
+}
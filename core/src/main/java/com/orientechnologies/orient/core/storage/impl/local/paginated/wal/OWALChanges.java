@@ -1,6 +1,7 @@
 package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
 
 import java.nio.ByteBuffer;
+import java.util.List;
 
 /**
  * Keep partial changes of a page for a transaction and original values of chunks of page which were
@@ -37,6 +38,23 @@ public interface OWALChanges {
 
   boolean hasChanges();
 
+  /**
+   * Marks start of the logical operation on the page. Changes done till the call of {@link
+   * #endPageOperation()} are considered to be part of this operation. Operations may be nested,
+   * only the outermost operation is logged.
+   */
+  void startPageOperation(OPageOperation operation);
+
+  /** Marks end of the logical operation started by {@link #startPageOperation(OPageOperation)}. */
+  void endPageOperation();
+
+  /**
+   * @return List of logical operations performed on the page or <code>null</code> if page contains
+   *     changes which were done outside of logical operations, so only binary diff of the page can
+   *     be used to restore it.
+   */
+  List<OPageOperation> getPageOperations();
+
   /**
    * Apply the changes to a page.
    *
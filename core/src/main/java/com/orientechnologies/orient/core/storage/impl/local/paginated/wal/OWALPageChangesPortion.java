@@ -8,6 +8,8 @@ import com.orientechnologies.common.serialization.types.OLongSerializer;
 import com.orientechnologies.common.serialization.types.OShortSerializer;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * @author Andrey Lomakin (a.lomakin-at-orientdb.com) <lomakin.andrey@gmail.com>.
@@ -28,6 +30,9 @@ public final class OWALPageChangesPortion implements OWALChanges {
   private final int pageSize;
   private final int chunksCount;
 
+  private List<OPageOperation> pageOperations = new ArrayList<>();
+  private int pageOperationDepth;
+
   public OWALPageChangesPortion() {
     this(PAGE_SIZE);
   }
@@ -337,6 +342,11 @@ public final class OWALPageChangesPortion implements OWALChanges {
   }
 
   private void updateData(ByteBuffer pointer, int offset, byte[] data) {
+    if (pageOperationDepth == 0) {
+      // page is changed outside of logical operations, only binary diff can be logged
+      pageOperations = null;
+    }
+
     if (pageChunks == null) {
       pageChunks = new byte[this.chunksCount][][];
     }
@@ -393,4 +403,24 @@ public final class OWALPageChangesPortion implements OWALChanges {
   public boolean hasChanges() {
     return pageChunks != null;
   }
+
+  @Override
+  public void startPageOperation(final OPageOperation operation) {
+    if (pageOperationDepth == 0 && pageOperations != null) {
+      pageOperations.add(operation);
+    }
+
+    pageOperationDepth++;
+  }
+
+  @Override
+  public void endPageOperation() {
+    assert pageOperationDepth > 0;
+    pageOperationDepth--;
+  }
+
+  @Override
+  public List<OPageOperation> getPageOperations() {
+    return pageOperations;
+  }
 }
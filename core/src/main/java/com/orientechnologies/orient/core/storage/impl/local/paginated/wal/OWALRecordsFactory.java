@@ -161,6 +161,9 @@ public final class OWALRecordsFactory {
       case ATOMIC_UNIT_END_RECORD_WITH_PAGE_LSNS:
         walRecord = new AtomicUnitEndRecordWithPageLSNs();
         break;
+      case PAGE_OPERATIONS_RECORD:
+        walRecord = new OPageOperationsRecord();
+        break;
       case FILE_CREATED_WAL_RECORD:
         walRecord = new OFileCreatedWALRecord();
         break;
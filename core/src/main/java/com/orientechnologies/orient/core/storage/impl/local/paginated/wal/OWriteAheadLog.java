@@ -22,11 +22,13 @@ package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
 
 import com.orientechnologies.orient.core.storage.impl.local.OCheckpointRequestListener;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationMetadata;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas.WrittenUpTo;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.common.WriteableWALRecord;
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Andrey Lomakin (a.lomakin-at-orientdb.com)
@@ -121,6 +123,15 @@ public interface OWriteAheadLog {
 
   long activeSegment();
 
+  /**
+   * Estimates amount of bytes which are logged starting from the given LSN till the end of the log.
+   * That is the amount of the log which has to be read during data restore started from this LSN.
+   *
+   * @param from LSN from which size of the log is calculated.
+   * @return Estimated size of the log in bytes.
+   */
+  long size(OLogSequenceNumber from);
+
   /**
    * Adds the event to fire when this write ahead log instances reaches the given LSN. The thread on
    * which the event will be fired is unspecified, the event may be even fired synchronously before
@@ -136,6 +147,21 @@ public interface OWriteAheadLog {
    */
   void addEventAt(OLogSequenceNumber lsn, Runnable event);
 
+  /**
+   * Requests the durable commit of all records logged till the given LSN. If group commit is
+   * enabled, commits which arrive during the group commit interval are made durable by a single
+   * fsync of the log and returned future is completed once this fsync is finished. If group commit
+   * is disabled, <code>null</code> is returned and durability of the records is provided by the
+   * periodical fsync of the log.
+   *
+   * @param lsn LSN of the last record of the committed operation.
+   * @return Future which is completed once records are forced to the disk or <code>null</code> if
+   *     group commit is disabled.
+   */
+  default CompletableFuture<WrittenUpTo> groupCommit(OLogSequenceNumber lsn) {
+    return null;
+  }
+
   /**
    * Adds new segment so all subsequent log entries will be added to this new segment. New segment
    * can not be appended if:
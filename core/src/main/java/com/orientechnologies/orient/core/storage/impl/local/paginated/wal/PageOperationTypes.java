@@ -0,0 +1,98 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
+
+import com.orientechnologies.orient.core.storage.cluster.OClusterPageOperations;
+import com.orientechnologies.orient.core.storage.index.sbtree.multivalue.v2.CellBTreeMultiValueV2BucketOperations;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueBucketV3Operations;
+
+/** Ids of logical page operations stored inside of {@link OPageOperationsRecord}. */
+public final class PageOperationTypes {
+  public static final int CELL_BTREE_BUCKET_SINGLE_VALUE_V3_INIT = 1;
+  public static final int CELL_BTREE_BUCKET_SINGLE_VALUE_V3_ADD_LEAF_ENTRY = 2;
+  public static final int CELL_BTREE_BUCKET_SINGLE_VALUE_V3_ADD_NON_LEAF_ENTRY = 3;
+  public static final int CELL_BTREE_BUCKET_SINGLE_VALUE_V3_REMOVE_LEAF_ENTRY = 4;
+  public static final int CELL_BTREE_BUCKET_SINGLE_VALUE_V3_REMOVE_NON_LEAF_ENTRY = 5;
+  public static final int CELL_BTREE_BUCKET_SINGLE_VALUE_V3_UPDATE_VALUE = 6;
+  public static final int CELL_BTREE_BUCKET_SINGLE_VALUE_V3_ADD_ALL = 7;
+  public static final int CELL_BTREE_BUCKET_SINGLE_VALUE_V3_SET_LEFT_SIBLING = 8;
+  public static final int CELL_BTREE_BUCKET_SINGLE_VALUE_V3_SET_RIGHT_SIBLING = 9;
+
+  public static final int CELL_BTREE_BUCKET_MULTI_VALUE_V2_INIT = 20;
+  public static final int CELL_BTREE_BUCKET_MULTI_VALUE_V2_CREATE_MAIN_LEAF_ENTRY = 21;
+  public static final int CELL_BTREE_BUCKET_MULTI_VALUE_V2_APPEND_NEW_LEAF_ENTRY = 22;
+  public static final int CELL_BTREE_BUCKET_MULTI_VALUE_V2_REMOVE_LEAF_ENTRY = 23;
+  public static final int CELL_BTREE_BUCKET_MULTI_VALUE_V2_REMOVE_MAIN_LEAF_ENTRY = 24;
+  public static final int CELL_BTREE_BUCKET_MULTI_VALUE_V2_INCREMENT_ENTRIES_COUNT = 25;
+  public static final int CELL_BTREE_BUCKET_MULTI_VALUE_V2_DECREMENT_ENTRIES_COUNT = 26;
+  public static final int CELL_BTREE_BUCKET_MULTI_VALUE_V2_ADD_NON_LEAF_ENTRY = 27;
+  public static final int CELL_BTREE_BUCKET_MULTI_VALUE_V2_REMOVE_NON_LEAF_ENTRY = 28;
+  public static final int CELL_BTREE_BUCKET_MULTI_VALUE_V2_SET_LEFT_SIBLING = 29;
+  public static final int CELL_BTREE_BUCKET_MULTI_VALUE_V2_SET_RIGHT_SIBLING = 30;
+
+  public static final int CLUSTER_PAGE_INIT = 40;
+  public static final int CLUSTER_PAGE_APPEND_RECORD = 41;
+  public static final int CLUSTER_PAGE_REPLACE_RECORD = 42;
+  public static final int CLUSTER_PAGE_DELETE_RECORD = 43;
+  public static final int CLUSTER_PAGE_SET_NEXT_PAGE = 44;
+  public static final int CLUSTER_PAGE_SET_PREV_PAGE = 45;
+
+  private PageOperationTypes() {}
+
+  static OPageOperation createOperation(final int id) {
+    switch (id) {
+      case CELL_BTREE_BUCKET_SINGLE_VALUE_V3_INIT:
+        return new CellBTreeSingleValueBucketV3Operations.InitPO();
+      case CELL_BTREE_BUCKET_SINGLE_VALUE_V3_ADD_LEAF_ENTRY:
+        return new CellBTreeSingleValueBucketV3Operations.AddLeafEntryPO();
+      case CELL_BTREE_BUCKET_SINGLE_VALUE_V3_ADD_NON_LEAF_ENTRY:
+        return new CellBTreeSingleValueBucketV3Operations.AddNonLeafEntryPO();
+      case CELL_BTREE_BUCKET_SINGLE_VALUE_V3_REMOVE_LEAF_ENTRY:
+        return new CellBTreeSingleValueBucketV3Operations.RemoveLeafEntryPO();
+      case CELL_BTREE_BUCKET_SINGLE_VALUE_V3_REMOVE_NON_LEAF_ENTRY:
+        return new CellBTreeSingleValueBucketV3Operations.RemoveNonLeafEntryPO();
+      case CELL_BTREE_BUCKET_SINGLE_VALUE_V3_UPDATE_VALUE:
+        return new CellBTreeSingleValueBucketV3Operations.UpdateValuePO();
+      case CELL_BTREE_BUCKET_SINGLE_VALUE_V3_ADD_ALL:
+        return new CellBTreeSingleValueBucketV3Operations.AddAllPO();
+      case CELL_BTREE_BUCKET_SINGLE_VALUE_V3_SET_LEFT_SIBLING:
+        return new CellBTreeSingleValueBucketV3Operations.SetLeftSiblingPO();
+      case CELL_BTREE_BUCKET_SINGLE_VALUE_V3_SET_RIGHT_SIBLING:
+        return new CellBTreeSingleValueBucketV3Operations.SetRightSiblingPO();
+      case CELL_BTREE_BUCKET_MULTI_VALUE_V2_INIT:
+        return new CellBTreeMultiValueV2BucketOperations.InitPO();
+      case CELL_BTREE_BUCKET_MULTI_VALUE_V2_CREATE_MAIN_LEAF_ENTRY:
+        return new CellBTreeMultiValueV2BucketOperations.CreateMainLeafEntryPO();
+      case CELL_BTREE_BUCKET_MULTI_VALUE_V2_APPEND_NEW_LEAF_ENTRY:
+        return new CellBTreeMultiValueV2BucketOperations.AppendNewLeafEntryPO();
+      case CELL_BTREE_BUCKET_MULTI_VALUE_V2_REMOVE_LEAF_ENTRY:
+        return new CellBTreeMultiValueV2BucketOperations.RemoveLeafEntryPO();
+      case CELL_BTREE_BUCKET_MULTI_VALUE_V2_REMOVE_MAIN_LEAF_ENTRY:
+        return new CellBTreeMultiValueV2BucketOperations.RemoveMainLeafEntryPO();
+      case CELL_BTREE_BUCKET_MULTI_VALUE_V2_INCREMENT_ENTRIES_COUNT:
+        return new CellBTreeMultiValueV2BucketOperations.IncrementEntriesCountPO();
+      case CELL_BTREE_BUCKET_MULTI_VALUE_V2_DECREMENT_ENTRIES_COUNT:
+        return new CellBTreeMultiValueV2BucketOperations.DecrementEntriesCountPO();
+      case CELL_BTREE_BUCKET_MULTI_VALUE_V2_ADD_NON_LEAF_ENTRY:
+        return new CellBTreeMultiValueV2BucketOperations.AddNonLeafEntryPO();
+      case CELL_BTREE_BUCKET_MULTI_VALUE_V2_REMOVE_NON_LEAF_ENTRY:
+        return new CellBTreeMultiValueV2BucketOperations.RemoveNonLeafEntryPO();
+      case CELL_BTREE_BUCKET_MULTI_VALUE_V2_SET_LEFT_SIBLING:
+        return new CellBTreeMultiValueV2BucketOperations.SetLeftSiblingPO();
+      case CELL_BTREE_BUCKET_MULTI_VALUE_V2_SET_RIGHT_SIBLING:
+        return new CellBTreeMultiValueV2BucketOperations.SetRightSiblingPO();
+      case CLUSTER_PAGE_INIT:
+        return new OClusterPageOperations.InitPO();
+      case CLUSTER_PAGE_APPEND_RECORD:
+        return new OClusterPageOperations.AppendRecordPO();
+      case CLUSTER_PAGE_REPLACE_RECORD:
+        return new OClusterPageOperations.ReplaceRecordPO();
+      case CLUSTER_PAGE_DELETE_RECORD:
+        return new OClusterPageOperations.DeleteRecordPO();
+      case CLUSTER_PAGE_SET_NEXT_PAGE:
+        return new OClusterPageOperations.SetNextPagePO();
+      case CLUSTER_PAGE_SET_PREV_PAGE:
+        return new OClusterPageOperations.SetPrevPagePO();
+      default:
+        throw new IllegalStateException("Unknown page operation with id " + id);
+    }
+  }
+}
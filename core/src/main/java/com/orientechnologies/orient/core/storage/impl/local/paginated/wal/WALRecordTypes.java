@@ -186,4 +186,5 @@ public final class WALRecordTypes {
   public static final int PAGINATED_VERSION_STATE_V0_SET_FILE_SIZE_PO = 199;
 
   public static final int ATOMIC_UNIT_END_RECORD_WITH_PAGE_LSNS = 200;
+  public static final int PAGE_OPERATIONS_RECORD = 201;
 }
@@ -53,6 +53,8 @@ import java.util.Map;
 import java.util.NavigableSet;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
@@ -65,6 +67,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -136,6 +139,12 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
   private final AtomicReference<OLogSequenceNumber> end = new AtomicReference<>();
   private final ConcurrentSkipListSet<Long> segments = new ConcurrentSkipListSet<>();
 
+  /** Lengths of segments which are not active any more, used to estimate size of the log. */
+  private final ConcurrentHashMap<Long, Long> segmentLengths = new ConcurrentHashMap<>();
+
+  /** Offset of the end of the last record logged into the active segment. */
+  private final AtomicLong activeSegmentEnd = new AtomicLong();
+
   private final Path walLocation;
   private final String storageName;
 
@@ -210,6 +219,19 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
   private final LongAdder threadsWaitingSum = new LongAdder();
   private final LongAdder threadsWaitingCount = new LongAdder();
 
+  /** Interval in nanoseconds during which commits are grouped, 0 if group commit is disabled. */
+  private final long groupCommitInterval;
+
+  /** Amount of bytes logged by the group of commits after which group fsync is forced. */
+  private final long groupCommitSize;
+
+  private final ConcurrentLinkedQueue<GroupCommitWaiter> groupCommitWaiters =
+      new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean groupCommitScheduled = new AtomicBoolean();
+  private final AtomicBoolean groupCommitForced = new AtomicBoolean();
+  private final AtomicLong groupCommitBytes = new AtomicLong();
+  private final CommitWaitHistogram commitWaitHistogram = new CommitWaitHistogram();
+
   private long reportTs = -1;
 
   public CASDiskWriteAheadLog(
@@ -232,6 +254,58 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
       boolean printPerformanceStatistic,
       int statisticPrintInterval)
       throws IOException {
+    this(
+        storageName,
+        storagePath,
+        walPath,
+        maxPagesCacheSize,
+        bufferSize,
+        aesKey,
+        iv,
+        segmentsInterval,
+        maxSegmentSize,
+        commitDelay,
+        filterWALFiles,
+        locale,
+        walSizeHardLimit,
+        fsyncInterval,
+        keepSingleWALSegment,
+        callFsync,
+        printPerformanceStatistic,
+        statisticPrintInterval,
+        0,
+        0);
+  }
+
+  /**
+   * @param groupCommitInterval Interval in microseconds during which durable commits are collected
+   *     in a single group which is made durable by a single fsync, 0 disables group commit.
+   * @param groupCommitSize Amount of bytes logged by the group of commits after which fsync is
+   *     started without waiting for the end of the group commit interval.
+   * @see #groupCommit(OLogSequenceNumber)
+   */
+  public CASDiskWriteAheadLog(
+      final String storageName,
+      final Path storagePath,
+      final Path walPath,
+      final int maxPagesCacheSize,
+      final int bufferSize,
+      byte[] aesKey,
+      byte[] iv,
+      long segmentsInterval,
+      final long maxSegmentSize,
+      final int commitDelay,
+      final boolean filterWALFiles,
+      final Locale locale,
+      final long walSizeHardLimit,
+      final int fsyncInterval,
+      boolean keepSingleWALSegment,
+      boolean callFsync,
+      boolean printPerformanceStatistic,
+      int statisticPrintInterval,
+      int groupCommitInterval,
+      long groupCommitSize)
+      throws IOException {
 
     if (aesKey != null && aesKey.length != 16 && aesKey.length != 24 && aesKey.length != 32) {
       throw new OInvalidStorageEncryptionKeyException(
@@ -255,6 +329,9 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
 
     this.fsyncInterval = fsyncInterval;
 
+    this.groupCommitInterval = Math.max(0, groupCommitInterval) * 1_000L;
+    this.groupCommitSize = groupCommitSize > 0 ? groupCommitSize : Long.MAX_VALUE;
+
     walSizeLimit = walSizeHardLimit;
 
     this.walLocation = calculateWalPath(storagePath, walPath);
@@ -362,8 +439,12 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
     try {
       walFiles.forEach(
           (Path path) -> {
-            segments.add(extractSegmentId(path.getFileName().toString()));
-            walSize.increment(path.toFile().length());
+            final long segment = extractSegmentId(path.getFileName().toString());
+            final long length = path.toFile().length();
+
+            segments.add(segment);
+            segmentLengths.put(segment, length);
+            walSize.increment(length);
           });
     } finally {
       walFiles.close();
@@ -818,6 +899,78 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
     }
   }
 
+  @Override
+  public CompletableFuture<WrittenUpTo> groupCommit(final OLogSequenceNumber lsn) {
+    if (groupCommitInterval == 0) {
+      return null;
+    }
+
+    final GroupCommitWaiter waiter = new GroupCommitWaiter(lsn);
+    groupCommitWaiters.offer(waiter);
+
+    if (groupCommitScheduled.compareAndSet(false, true)) {
+      commitExecutor.schedule(this::executeGroupCommit, groupCommitInterval, TimeUnit.NANOSECONDS);
+    }
+
+    // group is big enough, there is no reason to wait for the other commits
+    if (groupCommitBytes.get() >= groupCommitSize && groupCommitForced.compareAndSet(false, true)) {
+      commitExecutor.execute(this::executeGroupCommit);
+    }
+
+    // fsync could be finished before the waiter was added to the queue
+    final OLogSequenceNumber localFlushedLsn = flushedLSN;
+    if (localFlushedLsn != null && lsn.compareTo(localFlushedLsn) <= 0) {
+      completeGroupCommitWaiters(localFlushedLsn);
+    }
+
+    return waiter.future;
+  }
+
+  /** @return Histogram of intervals during which group commits wait for the fsync of WAL. */
+  public CommitWaitHistogram getCommitWaitHistogram() {
+    return commitWaitHistogram;
+  }
+
+  private void executeGroupCommit() {
+    // flags are cleared before records are written, so commits which are added after this point
+    // will schedule the next group
+    groupCommitScheduled.set(false);
+    groupCommitForced.set(false);
+    groupCommitBytes.set(0);
+
+    if (groupCommitWaiters.isEmpty()) {
+      return;
+    }
+
+    try {
+      executeWriteRecords(true, true);
+    } catch (final RuntimeException | Error e) {
+      failGroupCommitWaiters(e);
+      throw e;
+    }
+  }
+
+  private void completeGroupCommitWaiters(final OLogSequenceNumber lsn) {
+    final WrittenUpTo written = writtenUpTo.get();
+    final long ts = System.nanoTime();
+
+    for (final GroupCommitWaiter waiter : groupCommitWaiters) {
+      // waiter may be completed by several threads, only one of them removes it from the queue
+      if (waiter.lsn.compareTo(lsn) <= 0 && groupCommitWaiters.remove(waiter)) {
+        commitWaitHistogram.record(ts - waiter.startTs);
+        waiter.future.complete(written);
+      }
+    }
+  }
+
+  private void failGroupCommitWaiters(final Throwable error) {
+    GroupCommitWaiter waiter = groupCommitWaiters.poll();
+    while (waiter != null) {
+      waiter.future.completeExceptionally(error);
+      waiter = groupCommitWaiters.poll();
+    }
+  }
+
   public void delete() throws IOException {
     final List<Long> segmentsToDelete = new ArrayList<>(this.segments.size());
     segmentsToDelete.addAll(segments);
@@ -968,6 +1121,10 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
       segmentLock.sharedUnlock();
     }
 
+    if (groupCommitInterval > 0) {
+      groupCommitBytes.addAndGet(writeableRecord.getDiskSize());
+    }
+
     long qsize = queueSize.addAndGet(writeableRecord.getDiskSize());
     if (qsize >= maxCacheSize) {
       threadsWaitingCount.increment();
@@ -1081,6 +1238,7 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
           final long segment = segmentIterator.next();
           if (segment < segmentId) {
             segmentIterator.remove();
+            segmentLengths.remove(segment);
 
             final String segmentName = getSegmentName(segment);
             final Path segmentPath = walLocation.resolve(segmentName);
@@ -1116,6 +1274,8 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
   public boolean appendNewSegment() {
     segmentLock.exclusiveLock();
     try {
+      completeSegment();
+
       //noinspection NonAtomicOperationOnVolatileField
       currentSegment++;
       segmentSize.set(0);
@@ -1133,6 +1293,36 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
     return true;
   }
 
+  /**
+   * Remembers length of the active segment, should be called under exclusive segment lock before
+   * switch to the next one. The length is the end of the last record of the segment, like the
+   * length of the segment files found on open, not the position at which the last record starts.
+   */
+  private void completeSegment() {
+    final OLogSequenceNumber lastLSN = end.get();
+    if (lastLSN != null && lastLSN.getSegment() == currentSegment) {
+      segmentLengths.put(currentSegment, activeSegmentEnd.get());
+    }
+    activeSegmentEnd.set(0);
+  }
+
+  public long size(final OLogSequenceNumber from) {
+    final OLogSequenceNumber lastLSN = end.get();
+    if (lastLSN == null || from.compareTo(lastLSN) >= 0) {
+      return 0;
+    }
+
+    long size = lastLSN.getPosition() - from.getPosition();
+    for (final long segment : segments.subSet(from.getSegment(), lastLSN.getSegment())) {
+      final Long segmentLength = segmentLengths.get(segment);
+      if (segmentLength != null) {
+        size += segmentLength;
+      }
+    }
+
+    return Math.max(size, 0);
+  }
+
   public void appendSegment(final long segmentIndex) {
     if (segmentIndex <= currentSegment) {
       return;
@@ -1144,6 +1334,8 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
         return;
       }
 
+      completeSegment();
+
       currentSegment = segmentIndex;
       segmentSize.set(0);
 
@@ -1236,6 +1428,8 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
     calculateRecordsLSNs();
 
     final OLogSequenceNumber recordLSN = writeableRecord.getLsn();
+    activeSegmentEnd.accumulateAndGet(
+        (long) recordLSN.getPosition() + writeableRecord.getDistance(), Math::max);
 
     OLogSequenceNumber endLsn = end.get();
     while (endLsn == null || recordLSN.compareTo(endLsn) > 0) {
@@ -1322,8 +1516,11 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
       }
 
       segments.clear();
+      segmentLengths.clear();
       fileCloseQueue.clear();
 
+      failGroupCommitWaiters(new OStorageException("WAL of storage " + storageName + " is closed"));
+
       allocator.deallocate(writeBufferPointerOne);
       allocator.deallocate(writeBufferPointerTwo);
 
@@ -1963,6 +2160,7 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
       flushedLSN = writtenUpTo.get().getLsn();
 
       fireEventsFor(flushedLSN);
+      completeGroupCommitWaiters(flushedLSN);
 
       if (printPerformanceStatistic) {
         final long endTs = System.nanoTime();
@@ -1973,6 +2171,7 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
       }
     } catch (final IOException e) {
       logger.errorNoDb("Error during FSync of WAL data", e);
+      failGroupCommitWaiters(e);
       throw e;
     }
   }
@@ -2163,6 +2362,19 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
       CASDiskWriteAheadLog.this.threadsWaitingSum.add(-threadsWaitingSum);
       CASDiskWriteAheadLog.this.threadsWaitingCount.add(-threadsWaitingCount);
 
+      if (groupCommitInterval > 0) {
+        logger.infoNoDb(
+            "WAL stat:%s: %d commits were waiting for group fsync. Avg. wait time %d us, 50th"
+                + " percentile %d us, 99th percentile %d us.",
+            storageName,
+            commitWaitHistogram.getCount(),
+            commitWaitHistogram.getAverage(),
+            commitWaitHistogram.getPercentile(50),
+            commitWaitHistogram.getPercentile(99));
+
+        commitWaitHistogram.reset();
+      }
+
       reportTs = ts;
     }
   }
@@ -2176,4 +2388,14 @@ public final class CASDiskWriteAheadLog implements OWriteAheadLog {
           e);
     }
   }
+
+  private static final class GroupCommitWaiter {
+    private final OLogSequenceNumber lsn;
+    private final long startTs = System.nanoTime();
+    private final CompletableFuture<WrittenUpTo> future = new CompletableFuture<>();
+
+    private GroupCommitWaiter(final OLogSequenceNumber lsn) {
+      this.lsn = lsn;
+    }
+  }
 }
@@ -0,0 +1,97 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of intervals during which committed transactions wait for the fsync of WAL. Intervals
+ * are measured in microseconds and are put in buckets which bounds are powers of two, so bucket
+ * <code>i</code> contains intervals which are less than <code>2^i</code> microseconds and not less
+ * than <code>2^(i - 1)</code> microseconds. The last bucket contains all intervals which are bigger
+ * than bound of previous bucket.
+ */
+public final class CommitWaitHistogram {
+  private static final int BUCKETS = 32;
+
+  private final LongAdder[] buckets = new LongAdder[BUCKETS];
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+
+  CommitWaitHistogram() {
+    for (int i = 0; i < BUCKETS; i++) {
+      buckets[i] = new LongAdder();
+    }
+  }
+
+  void record(final long waitNanos) {
+    final long waitMicros = Math.max(0, waitNanos / 1_000);
+    final int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(waitMicros));
+
+    buckets[bucket].increment();
+    count.increment();
+    sum.add(waitMicros);
+  }
+
+  /** @return Amount of commits in each bucket of histogram. */
+  public long[] getCounts() {
+    final long[] counts = new long[BUCKETS];
+    for (int i = 0; i < BUCKETS; i++) {
+      counts[i] = buckets[i].sum();
+    }
+
+    return counts;
+  }
+
+  /** @return Amount of commits which waited for the fsync of WAL. */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /** @return Average wait interval in microseconds or -1 if there were no commits. */
+  public long getAverage() {
+    final long count = this.count.sum();
+    if (count == 0) {
+      return -1;
+    }
+
+    return sum.sum() / count;
+  }
+
+  /**
+   * @param percentile Percentile in range from 0 to 100.
+   * @return Upper bound of interval in microseconds which is not exceeded by given percent of
+   *     commits or -1 if there were no commits.
+   */
+  public long getPercentile(final double percentile) {
+    final long[] counts = getCounts();
+
+    long total = 0;
+    for (final long bucketCount : counts) {
+      total += bucketCount;
+    }
+
+    if (total == 0) {
+      return -1;
+    }
+
+    final long threshold = (long) Math.ceil(total * percentile / 100);
+    long accumulated = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      accumulated += counts[i];
+      if (accumulated >= threshold) {
+        return 1L << i;
+      }
+    }
+
+    return 1L << (BUCKETS - 1);
+  }
+
+  /** Removes all collected intervals. */
+  public void reset() {
+    for (final LongAdder bucket : buckets) {
+      bucket.reset();
+    }
+
+    count.reset();
+    sum.reset();
+  }
+}
@@ -83,6 +83,9 @@ public final class OHashTableIndexEngine implements OIndexEngine {
 
   private String valueContainerAlgorithm;
 
+  /** Filter of present keys, <code>null</code> if it is not enabled for the index. */
+  private volatile OIndexBloomFilter bloomFilter;
+
   public OHashTableIndexEngine(
       String name, int id, OAbstractPaginatedStorage storage, int version) {
     this.storage = storage;
@@ -158,6 +161,8 @@ public final class OHashTableIndexEngine implements OIndexEngine {
         hashFunction,
         data.isNullValuesSupport());
     versionPositionMap.create(atomicOperation);
+
+    bloomFilter = OIndexBloomFilter.create(storage.getName(), data);
   }
 
   @Override
@@ -186,6 +191,8 @@ public final class OHashTableIndexEngine implements OIndexEngine {
 
     hashTable.delete(atomicOperation);
     versionPositionMap.delete(atomicOperation);
+
+    closeBloomFilter();
   }
 
   private void doClearTable(OAtomicOperation atomicOperation) throws IOException {
@@ -241,12 +248,39 @@ public final class OHashTableIndexEngine implements OIndexEngine {
       throw OException.wrapException(
           new OIndexException("Error during VPM load of index " + data.getName()), e);
     }
+
+    final OIndexBloomFilter bloomFilter = OIndexBloomFilter.create(storage.getName(), data);
+    if (bloomFilter != null) {
+      try (Stream<Object> stream = keyStream()) {
+        bloomFilter.addAll(stream);
+      }
+    }
+    this.bloomFilter = bloomFilter;
+  }
+
+  private void closeBloomFilter() {
+    final OIndexBloomFilter bloomFilter = this.bloomFilter;
+    if (bloomFilter != null) {
+      bloomFilter.close();
+    }
+  }
+
+  private void addToBloomFilter(final Object key) {
+    final OIndexBloomFilter bloomFilter = this.bloomFilter;
+    if (bloomFilter != null) {
+      bloomFilter.add(key);
+    }
   }
 
   @Override
   public boolean remove(OAtomicOperation atomicOperation, Object key) {
     try {
-      return hashTable.remove(atomicOperation, key) != null;
+      final boolean removed = hashTable.remove(atomicOperation, key) != null;
+      final OIndexBloomFilter bloomFilter = this.bloomFilter;
+      if (removed && bloomFilter != null) {
+        bloomFilter.remove(key);
+      }
+      return removed;
     } catch (final IOException e) {
       throw OException.wrapException(
           new OIndexException("Error during key remove on index " + getName()), e);
@@ -261,11 +295,21 @@ public final class OHashTableIndexEngine implements OIndexEngine {
   @Override
   public void close() {
     hashTable.close();
+    closeBloomFilter();
   }
 
   @Override
   public Object get(Object key) {
-    return hashTable.get(key);
+    final OIndexBloomFilter bloomFilter = this.bloomFilter;
+    if (bloomFilter != null && !bloomFilter.mightContain(key)) {
+      return null;
+    }
+
+    final Object value = hashTable.get(key);
+    if (value == null && bloomFilter != null && key != null) {
+      bloomFilter.falsePositive();
+    }
+    return value;
   }
 
   @Override
@@ -278,6 +322,7 @@ public final class OHashTableIndexEngine implements OIndexEngine {
 
       update(atomicOperation, key, creator);
     } else {
+      addToBloomFilter(key);
       try {
         hashTable.put(atomicOperation, key, value);
       } catch (IOException e) {
@@ -289,6 +334,7 @@ public final class OHashTableIndexEngine implements OIndexEngine {
 
   @Override
   public void put(OAtomicOperation atomicOperation, Object key, Object value) throws IOException {
+    addToBloomFilter(key);
     hashTable.put(atomicOperation, key, value);
   }
 
@@ -341,6 +387,7 @@ public final class OHashTableIndexEngine implements OIndexEngine {
       Object key,
       ORID value,
       IndexEngineValidator<Object, ORID> validator) {
+    addToBloomFilter(key);
     return hashTable.validatedPut(atomicOperation, key, value, (IndexEngineValidator) validator);
   }
 
@@ -0,0 +1,390 @@
+package com.orientechnologies.orient.core.storage.index.engine;
+
+import com.orientechnologies.common.profiler.OProfiler;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.IndexEngineData;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filter of the keys of the index engine which allows to skip access to the pages of the
+ * index if key is absent in it. Filter is kept in memory and is filled by the keys of the index
+ * when index is opened, after that it is updated on each insertion of the key.
+ *
+ * <p>Keys can not be removed from the Bloom filter, so removed keys only increase rate of false
+ * positive results till the next open of the index. Filter grows together with the index, each
+ * time amount of keys reaches capacity of the filter new filter twice bigger and with twice lower
+ * false positive rate is added (scalable Bloom filter), so total false positive rate is bounded by
+ * the configured one.
+ *
+ * <p>Hash of the key is calculated from its Java value, so only keys of types which values are
+ * equal if and only if their stored keys are equal are supported. If key of unexpected Java class
+ * is passed it is treated as key which may be present in the index.
+ */
+public final class OIndexBloomFilter {
+  /** Name of the engine property which enables or disables Bloom filter of the index. */
+  public static final String BLOOM_FILTER_PROPERTY = "bloomFilter";
+
+  private static final int MIN_CAPACITY = 1 << 10;
+
+  /** Each next filter has twice lower false positive rate than previous one. */
+  private static final double FALSE_POSITIVE_RATE_RATIO = 0.5;
+
+  private final OType[] keyTypes;
+  private final double falsePositiveRate;
+  private final String metricPrefix;
+
+  private volatile Segment[] segments;
+
+  /**
+   * Set if key which can not be hashed was added, filter is not used till the index is opened
+   * again because such key can not be found in it.
+   */
+  private volatile boolean disabled;
+
+  private final LongAdder rejectedLookups = new LongAdder();
+  private final LongAdder falsePositives = new LongAdder();
+  private final AtomicLong removedKeys = new AtomicLong();
+
+  private OIndexBloomFilter(
+      final String storageName,
+      final String indexName,
+      final OType[] keyTypes,
+      final double falsePositiveRate) {
+    this.keyTypes = keyTypes;
+    this.falsePositiveRate = falsePositiveRate;
+    this.metricPrefix = "db." + storageName + ".index." + indexName + ".bloomFilter.";
+    this.segments = new Segment[] {new Segment(MIN_CAPACITY, falsePositiveRate / 2)};
+
+    registerProfilerHooks();
+  }
+
+  /**
+   * @return Bloom filter of the index engine or <code>null</code> if it is not enabled for the
+   *     index or types of index keys are not supported.
+   */
+  public static OIndexBloomFilter create(final String storageName, final IndexEngineData data) {
+    final Map<String, String> engineProperties = data.getEngineProperties();
+    final String enabled =
+        engineProperties != null ? engineProperties.get(BLOOM_FILTER_PROPERTY) : null;
+    if (enabled != null
+        ? !Boolean.parseBoolean(enabled)
+        : !OGlobalConfiguration.INDEX_BLOOM_FILTER.getValueAsBoolean()) {
+      return null;
+    }
+
+    if (!isSupported(data.getKeyTypes())) {
+      return null;
+    }
+
+    return new OIndexBloomFilter(
+        storageName,
+        data.getName(),
+        data.getKeyTypes(),
+        OGlobalConfiguration.INDEX_BLOOM_FILTER_FALSE_POSITIVE_RATE.getValueAsFloat());
+  }
+
+  public static boolean isSupported(final OType[] keyTypes) {
+    if (keyTypes == null || keyTypes.length == 0) {
+      return false;
+    }
+
+    for (final OType keyType : keyTypes) {
+      switch (keyType) {
+        case BOOLEAN:
+        case BYTE:
+        case SHORT:
+        case INTEGER:
+        case LONG:
+        case STRING:
+        case DATETIME:
+        case LINK:
+          break;
+        default:
+          return false;
+      }
+    }
+
+    return true;
+  }
+
+  public void addAll(final Stream<Object> keys) {
+    keys.forEach(this::add);
+  }
+
+  /**
+   * Adds key to the filter, it should be called before the key is added to the index, so
+   * concurrent lookups never miss the key which is present in the index.
+   */
+  public void add(final Object key) {
+    if (key == null) {
+      return;
+    }
+
+    final long hash = hash(key);
+    if (hash == 0) {
+      disabled = true;
+      return;
+    }
+
+    Segment[] segments = this.segments;
+    Segment segment = segments[segments.length - 1];
+    if (segment.keys.get() >= segment.capacity) {
+      segment = grow(segment);
+    }
+
+    segment.add(hash);
+  }
+
+  /** Registers removal of the key, key itself is kept in the filter. */
+  public void remove(final Object key) {
+    if (key != null) {
+      removedKeys.incrementAndGet();
+    }
+  }
+
+  /**
+   * @return <code>false</code> if key is definitely absent in the index, <code>true</code> if key
+   *     may be present in the index.
+   */
+  public boolean mightContain(final Object key) {
+    if (key == null || disabled) {
+      return true;
+    }
+
+    final long hash = hash(key);
+    if (hash == 0) {
+      return true;
+    }
+
+    for (final Segment segment : segments) {
+      if (segment.mightContain(hash)) {
+        return true;
+      }
+    }
+
+    rejectedLookups.increment();
+    return false;
+  }
+
+  /** Registers the key which passed the filter but was absent in the index. */
+  public void falsePositive() {
+    falsePositives.increment();
+  }
+
+  /** @return rate of lookups of absent keys which were not rejected by the filter. */
+  public double getFalsePositiveRate() {
+    final long falsePositives = this.falsePositives.sum();
+    final long absentKeys = falsePositives + rejectedLookups.sum();
+    if (absentKeys == 0) {
+      return 0;
+    }
+
+    return (double) falsePositives / absentKeys;
+  }
+
+  /** @return amount of memory in bytes consumed by the filter. */
+  public long getMemoryUsage() {
+    long memory = 0;
+    for (final Segment segment : segments) {
+      memory += (long) segment.bits.length() * Long.BYTES;
+    }
+
+    return memory;
+  }
+
+  /** @return amount of keys removed since the index was opened, they are still in the filter. */
+  public long getRemovedKeys() {
+    return removedKeys.get();
+  }
+
+  public void close() {
+    final OProfiler profiler = Orient.instance().getProfiler();
+    if (profiler != null) {
+      profiler.unregisterHookValue(metricPrefix + "falsePositiveRate");
+      profiler.unregisterHookValue(metricPrefix + "memoryUsage");
+      profiler.unregisterHookValue(metricPrefix + "removedKeys");
+    }
+  }
+
+  private void registerProfilerHooks() {
+    final OProfiler profiler = Orient.instance().getProfiler();
+    if (profiler == null) {
+      return;
+    }
+
+    profiler.registerHookValue(
+        metricPrefix + "falsePositiveRate",
+        "Rate of lookups of absent keys which were not rejected by Bloom filter of the index",
+        OProfiler.METRIC_TYPE.STAT,
+        this::getFalsePositiveRate,
+        "db.*.index.*.bloomFilter.falsePositiveRate");
+    profiler.registerHookValue(
+        metricPrefix + "memoryUsage",
+        "Amount of memory in bytes consumed by Bloom filter of the index",
+        OProfiler.METRIC_TYPE.SIZE,
+        this::getMemoryUsage,
+        "db.*.index.*.bloomFilter.memoryUsage");
+    profiler.registerHookValue(
+        metricPrefix + "removedKeys",
+        "Amount of keys removed from the index which are still present in its Bloom filter",
+        OProfiler.METRIC_TYPE.SIZE,
+        this::getRemovedKeys,
+        "db.*.index.*.bloomFilter.removedKeys");
+  }
+
+  private synchronized Segment grow(final Segment full) {
+    final Segment[] segments = this.segments;
+    final Segment last = segments[segments.length - 1];
+    if (last != full) {
+      return last;
+    }
+
+    final Segment[] newSegments = new Segment[segments.length + 1];
+    System.arraycopy(segments, 0, newSegments, 0, segments.length);
+
+    final Segment segment =
+        new Segment(full.capacity * 2, full.falsePositiveRate * FALSE_POSITIVE_RATE_RATIO);
+    newSegments[segments.length] = segment;
+    this.segments = newSegments;
+
+    return segment;
+  }
+
+  /** @return hash of the key or <code>0</code> if key can not be hashed. */
+  private long hash(final Object key) {
+    if (keyTypes.length == 1) {
+      return mix(hash(key, keyTypes[0]));
+    }
+
+    if (!(key instanceof OCompositeKey)) {
+      return 0;
+    }
+
+    final List<Object> keys = ((OCompositeKey) key).getKeys();
+    if (keys.size() != keyTypes.length) {
+      return 0;
+    }
+
+    long hash = 1;
+    for (int i = 0; i < keyTypes.length; i++) {
+      final Object item = keys.get(i);
+      if (item == null) {
+        return 0;
+      }
+
+      final long itemHash = hash(item, keyTypes[i]);
+      if (itemHash == 0) {
+        return 0;
+      }
+      hash = 31 * hash + itemHash;
+    }
+
+    return mix(hash);
+  }
+
+  private static long hash(final Object key, final OType keyType) {
+    switch (keyType) {
+      case BOOLEAN:
+        return key instanceof Boolean ? ((Boolean) key ? 1231 : 1237) : 0;
+      case BYTE:
+      case SHORT:
+      case INTEGER:
+      case LONG:
+        if (key instanceof Long
+            || key instanceof Integer
+            || key instanceof Short
+            || key instanceof Byte) {
+          return Long.hashCode(((Number) key).longValue()) | 1L << 32;
+        }
+        return 0;
+      case STRING:
+        return key instanceof String ? key.hashCode() | 1L << 32 : 0;
+      case DATETIME:
+        return key instanceof Date ? Long.hashCode(((Date) key).getTime()) | 1L << 32 : 0;
+      case LINK:
+        return key instanceof OIdentifiable
+            ? ((OIdentifiable) key).getIdentity().hashCode() | 1L << 32
+            : 0;
+      default:
+        return 0;
+    }
+  }
+
+  /** Finalization step of MurmurHash3 which spreads bits of hash code over the whole value. */
+  private static long mix(long hash) {
+    if (hash == 0) {
+      return 0;
+    }
+
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+
+    return hash == 0 ? 1 : hash;
+  }
+
+  private static final class Segment {
+    private final long capacity;
+    private final double falsePositiveRate;
+    private final AtomicLongArray bits;
+    private final long bitsCount;
+    private final int hashes;
+    private final AtomicLong keys = new AtomicLong();
+
+    private Segment(final long capacity, final double falsePositiveRate) {
+      this.capacity = capacity;
+      this.falsePositiveRate = falsePositiveRate;
+
+      final double ln2 = Math.log(2);
+      final long optimalBits =
+          (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (ln2 * ln2));
+      this.bits = new AtomicLongArray((int) Math.min((optimalBits + 63) >>> 6, Integer.MAX_VALUE));
+      this.bitsCount = (long) bits.length() << 6;
+      this.hashes = Math.max(1, (int) Math.round((double) bitsCount / capacity * ln2));
+    }
+
+    private void add(final long hash) {
+      final int first = (int) hash;
+      final int second = (int) (hash >>> 32);
+
+      for (int i = 0; i < hashes; i++) {
+        final long bit = Math.floorMod(first + (long) i * second, bitsCount);
+        final int index = (int) (bit >>> 6);
+        final long mask = 1L << bit;
+
+        long word = bits.get(index);
+        while ((word & mask) == 0 && !bits.compareAndSet(index, word, word | mask)) {
+          word = bits.get(index);
+        }
+      }
+
+      keys.incrementAndGet();
+    }
+
+    private boolean mightContain(final long hash) {
+      final int first = (int) hash;
+      final int second = (int) (hash >>> 32);
+
+      for (int i = 0; i < hashes; i++) {
+        final long bit = Math.floorMod(first + (long) i * second, bitsCount);
+        if ((bits.get((int) (bit >>> 6)) & 1L << bit) == 0) {
+          return false;
+        }
+      }
+
+      return true;
+    }
+  }
+}
@@ -1,9 +1,416 @@
 package com.orientechnologies.orient.core.storage.index.nkbtree;
 
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.serialization.types.OBinaryTypeSerializer;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.encryption.OEncryption;
+import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.index.OIndexException;
+import com.orientechnologies.orient.core.index.engine.IndexEngineValidator;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
+import com.orientechnologies.orient.core.storage.index.nkbtree.normalizers.ByteKeyNormalizer;
+import com.orientechnologies.orient.core.storage.index.nkbtree.normalizers.IntegerKeyNormalizer;
+import com.orientechnologies.orient.core.storage.index.nkbtree.normalizers.KeyNormalizers;
+import com.orientechnologies.orient.core.storage.index.nkbtree.normalizers.LongKeyNormalizer;
+import com.orientechnologies.orient.core.storage.index.nkbtree.normalizers.ShortKeyNormalizer;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.OCellBTreeSingleValue;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueV3;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
-public interface NormalizedKeyBTree<K> {
-  byte[] get(final OCompositeKey key);
+/**
+ * Single value B-tree which keeps keys in normalized form. Each key is converted by {@link
+ * KeyNormalizers} into array of bytes which order, if bytes are compared as unsigned values, is the
+ * same as the order of original keys. Because of that, search inside of the buckets is performed
+ * by direct comparison of bytes stored in the pages, instead of deserialization of each key and
+ * comparison of deserialized keys.
+ *
+ * <p>Each item of the (composite) key is stored as flag of presence of value followed by normalized
+ * value. Keys are restored from their normalized form when they are returned from the tree, so only
+ * types normalized form of which preserves order and can be reverted are supported, see {@link
+ * #isSupported(OType[])}.
+ */
+public final class NormalizedKeyBTree implements OCellBTreeSingleValue<Object> {
+  private static final byte NULL_ITEM = 0;
+  private static final byte NOT_NULL_ITEM = 1;
 
-  void put(final OCompositeKey key, final byte[] value);
+  /** Byte which is bigger than the first byte of normalized form of any key item. */
+  private static final byte AFTER_ALL_ITEMS = 2;
+
+  private static final Set<OType> SUPPORTED_TYPES =
+      Collections.unmodifiableSet(
+          EnumSet.of(
+              OType.BYTE, OType.SHORT, OType.INTEGER, OType.LONG, OType.DATE, OType.DATETIME));
+
+  private static final KeyNormalizers BYTE_NORMALIZER = new ByteKeyNormalizer();
+  private static final KeyNormalizers SHORT_NORMALIZER = new ShortKeyNormalizer();
+  private static final KeyNormalizers INTEGER_NORMALIZER = new IntegerKeyNormalizer();
+  private static final KeyNormalizers LONG_NORMALIZER = new LongKeyNormalizer();
+
+  private final CellBTreeSingleValueV3<byte[]> tree;
+
+  private volatile OType[] keyTypes;
+  private volatile int keySize;
+
+  public NormalizedKeyBTree(
+      final String name,
+      final String dataFileExtension,
+      final String nullFileExtension,
+      final OAbstractPaginatedStorage storage) {
+    this(name, dataFileExtension, nullFileExtension, storage, false);
+  }
+
+  /**
+   * @param prefixCompression whether new pages of the tree may be created in prefix compressed
+   *     format, see {@link CellBTreeSingleValueV3}.
+   */
+  public NormalizedKeyBTree(
+      final String name,
+      final String dataFileExtension,
+      final String nullFileExtension,
+      final OAbstractPaginatedStorage storage,
+      final boolean prefixCompression) {
+    tree =
+        CellBTreeSingleValueV3.createBinaryKeysTree(
+            name, dataFileExtension, nullFileExtension, storage, prefixCompression);
+  }
+
+  /**
+   * Checks whether keys of given types can be stored in this tree. Normalized form of strings,
+   * floating point numbers and decimals produced by current normalizers does not follow the order
+   * of {@link com.orientechnologies.common.comparator.ODefaultComparator}, so such keys are not
+   * supported.
+   */
+  public static boolean isSupported(final OType[] keyTypes) {
+    if (keyTypes == null || keyTypes.length == 0) {
+      return false;
+    }
+
+    for (final OType keyType : keyTypes) {
+      if (!SUPPORTED_TYPES.contains(keyType)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  @Override
+  public void create(
+      final OAtomicOperation atomicOperation,
+      final OBinarySerializer<Object> keySerializer,
+      final OType[] keyTypes,
+      final int keySize,
+      final OEncryption encryption)
+      throws IOException {
+    init(keyTypes, keySize);
+    tree.create(atomicOperation, OBinaryTypeSerializer.INSTANCE, null, 1, encryption);
+  }
+
+  @Override
+  public void load(
+      final String name,
+      final int keySize,
+      final OType[] keyTypes,
+      final OBinarySerializer<Object> keySerializer,
+      final OEncryption encryption) {
+    init(keyTypes, keySize);
+    tree.load(name, 1, null, OBinaryTypeSerializer.INSTANCE, encryption);
+  }
+
+  private void init(final OType[] keyTypes, final int keySize) {
+    if (!isSupported(keyTypes)) {
+      throw new OIndexException(
+          "Keys of types "
+              + Arrays.toString(keyTypes)
+              + " are not supported by normalized key B-tree");
+    }
+
+    this.keyTypes = Arrays.copyOf(keyTypes, keyTypes.length);
+    this.keySize = keySize;
+  }
+
+  @Override
+  public ORID get(final Object key) {
+    return tree.get(normalize(key));
+  }
+
+  @Override
+  public void put(final OAtomicOperation atomicOperation, final Object key, final ORID value)
+      throws IOException {
+    tree.put(atomicOperation, normalize(key), value);
+  }
+
+  @Override
+  public boolean validatedPut(
+      final OAtomicOperation atomicOperation,
+      final Object key,
+      final ORID value,
+      final IndexEngineValidator<Object, ORID> validator)
+      throws IOException {
+    return tree.validatedPut(
+        atomicOperation,
+        normalize(key),
+        value,
+        (normalizedKey, oldValue, newValue) -> validator.validate(key, oldValue, newValue));
+  }
+
+  @Override
+  public boolean hasBulkLoadSupport() {
+    return tree.hasBulkLoadSupport();
+  }
+
+  @Override
+  public void bulkLoad(
+      final Iterator<ORawPair<Object, ORID>> entries,
+      final IndexEngineValidator<Object, ORID> validator)
+      throws IOException {
+    tree.bulkLoad(
+        new Iterator<ORawPair<byte[], ORID>>() {
+          @Override
+          public boolean hasNext() {
+            return entries.hasNext();
+          }
+
+          @Override
+          public ORawPair<byte[], ORID> next() {
+            final ORawPair<Object, ORID> entry = entries.next();
+            return new ORawPair<>(normalize(entry.first), entry.second);
+          }
+        },
+        validator == null
+            ? null
+            : (normalizedKey, oldValue, newValue) ->
+                validator.validate(
+                    normalizedKey != null ? denormalize(normalizedKey) : null, oldValue, newValue));
+  }
+
+  @Override
+  public ORID remove(final OAtomicOperation atomicOperation, final Object key) throws IOException {
+    return tree.remove(atomicOperation, normalize(key));
+  }
+
+  @Override
+  public void close() {
+    tree.close();
+  }
+
+  @Override
+  public void delete(final OAtomicOperation atomicOperation) throws IOException {
+    tree.delete(atomicOperation);
+  }
+
+  @Override
+  public long size() {
+    return tree.size();
+  }
+
+  @Override
+  public Stream<ORawPair<Object, ORID>> iterateEntriesMinor(
+      final Object key, final boolean inclusive, final boolean ascSortOrder) {
+    return denormalize(tree.iterateEntriesMinor(toKey(key, inclusive), false, ascSortOrder));
+  }
+
+  @Override
+  public Stream<ORawPair<Object, ORID>> iterateEntriesMajor(
+      final Object key, final boolean inclusive, final boolean ascSortOrder) {
+    return denormalize(tree.iterateEntriesMajor(fromKey(key, inclusive), true, ascSortOrder));
+  }
+
+  @Override
+  public Stream<ORawPair<Object, ORID>> iterateEntriesBetween(
+      final Object keyFrom,
+      final boolean fromInclusive,
+      final Object keyTo,
+      final boolean toInclusive,
+      final boolean ascSortOrder) {
+    return denormalize(
+        tree.iterateEntriesBetween(
+            fromKey(keyFrom, fromInclusive), true, toKey(keyTo, toInclusive), false, ascSortOrder));
+  }
+
+  @Override
+  public Object firstKey() {
+    final byte[] key = tree.firstKey();
+    if (key == null) {
+      return null;
+    }
+
+    return denormalize(key);
+  }
+
+  @Override
+  public Object lastKey() {
+    final byte[] key = tree.lastKey();
+    if (key == null) {
+      return null;
+    }
+
+    return denormalize(key);
+  }
+
+  @Override
+  public Stream<Object> keyStream() {
+    return tree.keyStream().map(this::denormalize);
+  }
+
+  @Override
+  public Stream<ORawPair<Object, ORID>> allEntries() {
+    return denormalize(tree.allEntries());
+  }
+
+  @Override
+  public void acquireAtomicExclusiveLock() {
+    tree.acquireAtomicExclusiveLock();
+  }
+
+  /**
+   * Converts lower boundary of the range into normalized key which should be included into the
+   * range. If key is partial composite key, all keys which start with it are included into the
+   * range only if boundary is inclusive, exactly like in {@link CellBTreeSingleValueV3}.
+   */
+  private byte[] fromKey(final Object key, final boolean inclusive) {
+    final byte[] normalizedKey = normalize(key);
+    if (inclusive) {
+      return normalizedKey;
+    }
+
+    return afterAllItems(normalizedKey);
+  }
+
+  /**
+   * Converts upper boundary of the range into normalized key which should be excluded from the
+   * range.
+   */
+  private byte[] toKey(final Object key, final boolean inclusive) {
+    final byte[] normalizedKey = normalize(key);
+    if (inclusive) {
+      return afterAllItems(normalizedKey);
+    }
+
+    return normalizedKey;
+  }
+
+  /** @return Key which is bigger than passed in key and all keys which start with it. */
+  private static byte[] afterAllItems(final byte[] normalizedKey) {
+    final byte[] result = Arrays.copyOf(normalizedKey, normalizedKey.length + 1);
+    result[normalizedKey.length] = AFTER_ALL_ITEMS;
+    return result;
+  }
+
+  private byte[] normalize(final Object key) {
+    if (key == null) {
+      return null;
+    }
+
+    final List<?> items;
+    if (key instanceof OCompositeKey) {
+      items = ((OCompositeKey) key).getKeys();
+    } else {
+      items = Collections.singletonList(key);
+    }
+
+    final OType[] keyTypes = this.keyTypes;
+    if (items.size() > keyTypes.length) {
+      throw new OIndexException(
+          "Key " + key + " contains more items than allowed by key types " + keyTypes.length);
+    }
+
+    final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    try {
+      for (int i = 0; i < items.size(); i++) {
+        final Object item = items.get(i);
+        if (item == null) {
+          stream.write(NULL_ITEM);
+          continue;
+        }
+
+        // the first byte of normalized value is a flag of null value, it is replaced by own flag
+        final byte[] normalizedItem = normalizeItem(item, keyTypes[i]);
+        stream.write(NOT_NULL_ITEM);
+        stream.write(normalizedItem, 1, normalizedItem.length - 1);
+      }
+    } catch (final IOException e) {
+      throw OException.wrapException(
+          new OIndexException("Error during normalization of key " + key), e);
+    }
+
+    return stream.toByteArray();
+  }
+
+  private static byte[] normalizeItem(final Object item, final OType keyType) throws IOException {
+    switch (keyType) {
+      case BYTE:
+        return BYTE_NORMALIZER.execute(((Number) item).byteValue(), Collator.NO_DECOMPOSITION);
+      case SHORT:
+        return SHORT_NORMALIZER.execute(((Number) item).shortValue(), Collator.NO_DECOMPOSITION);
+      case INTEGER:
+        return INTEGER_NORMALIZER.execute(((Number) item).intValue(), Collator.NO_DECOMPOSITION);
+      case LONG:
+        return LONG_NORMALIZER.execute(((Number) item).longValue(), Collator.NO_DECOMPOSITION);
+      case DATE:
+      case DATETIME:
+        // time may be negative, so it is normalized as long value to keep order of keys
+        return LONG_NORMALIZER.execute(((Date) item).getTime(), Collator.NO_DECOMPOSITION);
+      default:
+        throw new OIndexException("Type " + keyType + " is not supported by normalized key B-tree");
+    }
+  }
+
+  private Stream<ORawPair<Object, ORID>> denormalize(final Stream<ORawPair<byte[], ORID>> stream) {
+    return stream.map(entry -> new ORawPair<>(denormalize(entry.first), entry.second));
+  }
+
+  private Object denormalize(final byte[] normalizedKey) {
+    final OType[] keyTypes = this.keyTypes;
+    final ByteBuffer buffer = ByteBuffer.wrap(normalizedKey);
+
+    final List<Object> items = new ArrayList<>(keyTypes.length);
+    while (buffer.hasRemaining()) {
+      if (buffer.get() == NULL_ITEM) {
+        items.add(null);
+      } else {
+        items.add(denormalizeItem(buffer, keyTypes[items.size()]));
+      }
+    }
+
+    if (keySize == 1) {
+      return items.get(0);
+    }
+
+    return new OCompositeKey(items);
+  }
+
+  private static Object denormalizeItem(final ByteBuffer buffer, final OType keyType) {
+    switch (keyType) {
+      case BYTE:
+        return (byte) (buffer.get() - Byte.MAX_VALUE - 1);
+      case SHORT:
+        return (short) (buffer.getShort() - Short.MAX_VALUE - 1);
+      case INTEGER:
+        return buffer.getInt() - Integer.MAX_VALUE - 1;
+      case LONG:
+        return buffer.getLong() - Long.MAX_VALUE - 1;
+      case DATE:
+      case DATETIME:
+        return new Date(buffer.getLong() - Long.MAX_VALUE - 1);
+      default:
+        throw new OIndexException("Type " + keyType + " is not supported by normalized key B-tree");
+    }
+  }
 }
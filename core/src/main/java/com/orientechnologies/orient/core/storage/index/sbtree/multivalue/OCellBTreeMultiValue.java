@@ -7,6 +7,7 @@ import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
 import java.io.IOException;
+import java.util.List;
 import java.util.stream.Stream;
 
 public interface OCellBTreeMultiValue<K> {
@@ -50,5 +51,18 @@ public interface OCellBTreeMultiValue<K> {
   Stream<ORawPair<K, ORID>> iterateEntriesBetween(
       K keyFrom, boolean fromInclusive, K keyTo, boolean toInclusive, boolean ascSortOrder);
 
+  /**
+   * Iterates entries of several ranges of keys in ascending order. Ranges should be sorted by their
+   * boundaries and should not overlap, boundaries of the ranges may not be <code>null</code>.
+   * Implementations may pass all the ranges in single walk over the leaf pages of the tree.
+   */
+  default Stream<ORawPair<K, ORID>> iterateEntriesBetweenRanges(
+      List<ORawPair<K, K>> ranges, boolean fromInclusive, boolean toInclusive) {
+    return ranges.stream()
+        .flatMap(
+            range ->
+                iterateEntriesBetween(range.first, fromInclusive, range.second, toInclusive, true));
+  }
+
   void acquireAtomicExclusiveLock();
 }
@@ -1156,6 +1156,26 @@ public final class CellBTreeMultiValueV2<K> extends ODurableComponent
     }
   }
 
+  public Stream<ORawPair<K, ORID>> iterateEntriesBetweenRanges(
+      final List<ORawPair<K, K>> ranges, final boolean fromInclusive, final boolean toInclusive) {
+    if (ranges.isEmpty()) {
+      return Stream.empty();
+    }
+
+    atomicOperationsManager.acquireReadLock(this);
+    try {
+      acquireSharedLock();
+      try {
+        return StreamSupport.stream(
+            iterateEntriesBetweenRangesAscOrder(ranges, fromInclusive, toInclusive), false);
+      } finally {
+        releaseSharedLock();
+      }
+    } finally {
+      atomicOperationsManager.releaseReadLock(this);
+    }
+  }
+
   private Spliterator<ORawPair<K, ORID>> iterateEntriesBetweenAscOrder(
       K keyFrom, final boolean fromInclusive, K keyTo, final boolean toInclusive) {
     keyFrom = keySerializer.preprocess(keyFrom, (Object[]) keyTypes);
@@ -1167,6 +1187,25 @@ public final class CellBTreeMultiValueV2<K> extends ODurableComponent
     return new OCellBTreeCursorForward(keyFrom, keyTo, fromInclusive, toInclusive);
   }
 
+  private Spliterator<ORawPair<K, ORID>> iterateEntriesBetweenRangesAscOrder(
+      final List<ORawPair<K, K>> ranges, final boolean fromInclusive, final boolean toInclusive) {
+    final List<ORawPair<K, K>> enhancedRanges = new ArrayList<>(ranges.size());
+    for (final ORawPair<K, K> range : ranges) {
+      K keyFrom = keySerializer.preprocess(range.first, (Object[]) keyTypes);
+      K keyTo = keySerializer.preprocess(range.second, (Object[]) keyTypes);
+
+      keyFrom = enhanceFromCompositeKeyBetweenAsc(keyFrom, fromInclusive);
+      keyTo = enhanceToCompositeKeyBetweenAsc(keyTo, toInclusive);
+
+      enhancedRanges.add(new ORawPair<>(keyFrom, keyTo));
+    }
+
+    final Iterator<ORawPair<K, K>> rangesIterator = enhancedRanges.iterator();
+    final ORawPair<K, K> firstRange = rangesIterator.next();
+    return new OCellBTreeCursorForward(
+        firstRange.first, firstRange.second, fromInclusive, toInclusive, rangesIterator);
+  }
+
   private Spliterator<ORawPair<K, ORID>> iterateEntriesBetweenDescOrder(
       K keyFrom, final boolean fromInclusive, K keyTo, final boolean toInclusive) {
     keyFrom = keySerializer.preprocess(keyFrom, (Object[]) keyTypes);
@@ -1914,10 +1953,19 @@ public final class CellBTreeMultiValueV2<K> extends ODurableComponent
 
   private final class OCellBTreeCursorForward implements Spliterator<ORawPair<K, ORID>> {
     private K fromKey;
-    private final K toKey;
+    private K toKey;
     private boolean fromKeyInclusive;
     private final boolean toKeyInclusive;
 
+    /**
+     * Lower boundary of the current range if several ranges are iterated, {@link #fromKey} holds
+     * position of the last returned entry in such case.
+     */
+    private K rangeFromKey;
+
+    private final boolean rangeFromKeyInclusive;
+    private final Iterator<ORawPair<K, K>> nextRanges;
+
     private final List<ORawPair<K, ORID>> dataCache = new ArrayList<>();
 
     @SuppressWarnings("unchecked")
@@ -1928,16 +1976,44 @@ public final class CellBTreeMultiValueV2<K> extends ODurableComponent
         final K toKey,
         final boolean fromKeyInclusive,
         final boolean toKeyInclusive) {
+      this(fromKey, toKey, fromKeyInclusive, toKeyInclusive, null);
+    }
+
+    private OCellBTreeCursorForward(
+        final K fromKey,
+        final K toKey,
+        final boolean fromKeyInclusive,
+        final boolean toKeyInclusive,
+        final Iterator<ORawPair<K, K>> nextRanges) {
       this.fromKey = fromKey;
       this.toKey = toKey;
       this.fromKeyInclusive = fromKeyInclusive;
       this.toKeyInclusive = toKeyInclusive;
+      this.nextRanges = nextRanges;
+      this.rangeFromKey = nextRanges != null ? fromKey : null;
+      this.rangeFromKeyInclusive = fromKeyInclusive;
 
       if (fromKey == null) {
         this.fromKeyInclusive = true;
       }
     }
 
+    /**
+     * Switches iteration to the next range of keys.
+     *
+     * @return <code>false</code> if there are no ranges left
+     */
+    private boolean nextRange() {
+      if (nextRanges == null || !nextRanges.hasNext()) {
+        return false;
+      }
+
+      final ORawPair<K, K> range = nextRanges.next();
+      rangeFromKey = range.first;
+      toKey = range.second;
+      return true;
+    }
+
     @Override
     public boolean tryAdvance(Consumer<? super ORawPair<K, ORID>> action) {
       if (dataCacheIterator == null) {
@@ -1958,141 +2034,175 @@ public final class CellBTreeMultiValueV2<K> extends ODurableComponent
 
       final int prefetchSize = OGlobalConfiguration.INDEX_CURSOR_PREFETCH_SIZE.getValueAsInteger();
 
-      atomicOperationsManager.acquireReadLock(CellBTreeMultiValueV2.this);
-      try {
-        acquireSharedLock();
+      boolean seekRange;
+      do {
+        seekRange = false;
+
+        atomicOperationsManager.acquireReadLock(CellBTreeMultiValueV2.this);
         try {
-          final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+          acquireSharedLock();
+          try {
+            final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
 
-          final BucketSearchResult bucketSearchResult;
+            // iteration is resumed from the start of the current range if it was not reached yet
+            if (rangeFromKey != null
+                && (fromKey == null || comparator.compare(rangeFromKey, fromKey) > 0)) {
+              fromKey = rangeFromKey;
+              fromKeyInclusive = rangeFromKeyInclusive;
+            }
 
-          if (fromKey != null) {
-            bucketSearchResult = findBucket(fromKey, atomicOperation);
-          } else {
-            bucketSearchResult = firstItem(atomicOperation);
-          }
+            final BucketSearchResult bucketSearchResult;
 
-          if (bucketSearchResult == null) {
-            dataCacheIterator = null;
-            return false;
-          }
-
-          long pageIndex = bucketSearchResult.pageIndex;
-          int itemIndex;
+            if (fromKey != null) {
+              bucketSearchResult = findBucket(fromKey, atomicOperation);
+            } else {
+              bucketSearchResult = firstItem(atomicOperation);
+            }
 
-          if (bucketSearchResult.itemIndex >= 0) {
-            itemIndex =
-                fromKeyInclusive ? bucketSearchResult.itemIndex : bucketSearchResult.itemIndex + 1;
-          } else {
-            itemIndex = -bucketSearchResult.itemIndex - 1;
-          }
+            if (bucketSearchResult == null) {
+              dataCacheIterator = null;
+              return false;
+            }
 
-          K lastKey = null;
+            long pageIndex = bucketSearchResult.pageIndex;
+            int itemIndex;
 
-          boolean firstTry = true;
-          mainCycle:
-          while (true) {
-            if (pageIndex == -1) {
-              break;
+            if (bucketSearchResult.itemIndex >= 0) {
+              itemIndex =
+                  fromKeyInclusive
+                      ? bucketSearchResult.itemIndex
+                      : bucketSearchResult.itemIndex + 1;
+            } else {
+              itemIndex = -bucketSearchResult.itemIndex - 1;
             }
 
-            try (final OCacheEntry cacheEntry =
-                loadPageForRead(atomicOperation, fileId, pageIndex)) {
-              final CellBTreeMultiValueV2Bucket<K> bucket =
-                  new CellBTreeMultiValueV2Bucket<>(cacheEntry);
-              if (firstTry
-                  && fromKey != null
-                  && fromKeyInclusive
-                  && bucketSearchResult.itemIndex == 0) {
-                int leftSibling = (int) bucket.getLeftSibling();
-                while (leftSibling > 0) {
-                  try (final OCacheEntry siblingCacheEntry =
-                      loadPageForRead(atomicOperation, fileId, leftSibling)) {
-                    final CellBTreeMultiValueV2Bucket<K> siblingBucket =
-                        new CellBTreeMultiValueV2Bucket<>(siblingCacheEntry);
+            K lastKey = null;
 
-                    final int bucketSize = siblingBucket.size();
-                    if (bucketSize == 0) {
-                      leftSibling = (int) siblingBucket.getLeftSibling();
-                    } else if (bucketSize == 1) {
-                      final K key = siblingBucket.getKey(0, keySerializer, encryption);
+            boolean firstTry = true;
+            mainCycle:
+            while (true) {
+              if (pageIndex == -1) {
+                break;
+              }
 
-                      if (key.equals(fromKey)) {
-                        lastKey = key;
+              try (final OCacheEntry cacheEntry =
+                  loadPageForRead(atomicOperation, fileId, pageIndex)) {
+                final CellBTreeMultiValueV2Bucket<K> bucket =
+                    new CellBTreeMultiValueV2Bucket<>(cacheEntry);
+                if (firstTry
+                    && fromKey != null
+                    && fromKeyInclusive
+                    && bucketSearchResult.itemIndex == 0) {
+                  int leftSibling = (int) bucket.getLeftSibling();
+                  while (leftSibling > 0) {
+                    try (final OCacheEntry siblingCacheEntry =
+                        loadPageForRead(atomicOperation, fileId, leftSibling)) {
+                      final CellBTreeMultiValueV2Bucket<K> siblingBucket =
+                          new CellBTreeMultiValueV2Bucket<>(siblingCacheEntry);
+
+                      final int bucketSize = siblingBucket.size();
+                      if (bucketSize == 0) {
+                        leftSibling = (int) siblingBucket.getLeftSibling();
+                      } else if (bucketSize == 1) {
+                        final K key = siblingBucket.getKey(0, keySerializer, encryption);
 
-                        fetchMapEntries(0, key, dataCache, siblingBucket);
+                        if (key.equals(fromKey)) {
+                          lastKey = key;
 
-                        leftSibling = (int) siblingBucket.getLeftSibling();
+                          fetchMapEntries(0, key, dataCache, siblingBucket);
+
+                          leftSibling = (int) siblingBucket.getLeftSibling();
+                        } else {
+                          leftSibling = -1;
+                        }
                       } else {
-                        leftSibling = -1;
-                      }
-                    } else {
-                      final K key = siblingBucket.getKey(bucketSize - 1, keySerializer, encryption);
-                      if (key.equals(fromKey)) {
-                        lastKey = key;
+                        final K key =
+                            siblingBucket.getKey(bucketSize - 1, keySerializer, encryption);
+                        if (key.equals(fromKey)) {
+                          lastKey = key;
 
-                        fetchMapEntries(0, key, dataCache, siblingBucket);
+                          fetchMapEntries(0, key, dataCache, siblingBucket);
+                        }
+                        leftSibling = -1;
                       }
-                      leftSibling = -1;
                     }
                   }
                 }
-              }
-
-              firstTry = false;
 
-              while (true) {
-                if (itemIndex >= bucket.size()) {
-                  pageIndex = bucket.getRightSibling();
-                  itemIndex = 0;
-                  continue mainCycle;
-                }
+                firstTry = false;
 
-                final CellBTreeMultiValueV2Bucket.LeafEntry leafEntry =
-                    bucket.getLeafEntry(itemIndex, keySerializer, encryption != null);
-                itemIndex++;
+                while (true) {
+                  if (itemIndex >= bucket.size()) {
+                    pageIndex = bucket.getRightSibling();
+                    itemIndex = 0;
+                    continue mainCycle;
+                  }
 
-                final K key = deserializeKey(leafEntry.key);
-                if (dataCache.size() >= prefetchSize && (lastKey == null || !lastKey.equals(key))) {
-                  break mainCycle;
-                }
+                  final CellBTreeMultiValueV2Bucket.LeafEntry leafEntry =
+                      bucket.getLeafEntry(itemIndex, keySerializer, encryption != null);
+                  itemIndex++;
 
-                if (fromKeyInclusive) {
-                  if (fromKey != null && comparator.compare(key, fromKey) < 0) {
-                    continue;
+                  final K key = deserializeKey(leafEntry.key);
+                  if (dataCache.size() >= prefetchSize
+                      && (lastKey == null || !lastKey.equals(key))) {
+                    break mainCycle;
                   }
-                } else {
-                  if (fromKey != null && comparator.compare(key, fromKey) <= 0) {
-                    continue;
+
+                  if (fromKeyInclusive) {
+                    if (fromKey != null && comparator.compare(key, fromKey) < 0) {
+                      continue;
+                    }
+                  } else {
+                    if (fromKey != null && comparator.compare(key, fromKey) <= 0) {
+                      continue;
+                    }
                   }
-                }
 
-                if (toKeyInclusive) {
-                  if (toKey != null && comparator.compare(key, toKey) > 0) {
-                    break mainCycle;
+                  if (rangeFromKey != null) {
+                    final int cmp = comparator.compare(key, rangeFromKey);
+                    if (rangeFromKeyInclusive ? cmp < 0 : cmp <= 0) {
+                      continue;
+                    }
                   }
-                } else {
-                  if (toKey != null && comparator.compare(key, toKey) >= 0) {
-                    break mainCycle;
+
+                  if (toKey != null) {
+                    final int cmp = comparator.compare(key, toKey);
+                    if (toKeyInclusive ? cmp > 0 : cmp >= 0) {
+                      if (!nextRange()) {
+                        break mainCycle;
+                      }
+
+                      // the tree is searched again only if the next range starts beyond the
+                      // current page, otherwise the rest of the page is checked once more
+                      final int rangeIndex = bucket.find(rangeFromKey, keySerializer, encryption);
+                      final int startIndex = rangeIndex >= 0 ? rangeIndex : -rangeIndex - 1;
+                      if (startIndex < bucket.size()) {
+                        itemIndex = Math.max(startIndex, itemIndex - 1);
+                        continue;
+                      }
+
+                      seekRange = true;
+                      break mainCycle;
+                    }
                   }
-                }
 
-                lastKey = key;
-                fetchMapEntriesFromLeafEntry(key, dataCache, leafEntry);
+                  lastKey = key;
+                  fetchMapEntriesFromLeafEntry(key, dataCache, leafEntry);
+                }
               }
             }
+          } finally {
+            releaseSharedLock();
           }
+        } catch (final IOException e) {
+          throw OException.wrapException(
+              new CellBTreeMultiValueException(
+                  "Error during element iteration", CellBTreeMultiValueV2.this),
+              e);
         } finally {
-          releaseSharedLock();
+          atomicOperationsManager.releaseReadLock(CellBTreeMultiValueV2.this);
         }
-      } catch (final IOException e) {
-        throw OException.wrapException(
-            new CellBTreeMultiValueException(
-                "Error during element iteration", CellBTreeMultiValueV2.this),
-            e);
-      } finally {
-        atomicOperationsManager.releaseReadLock(CellBTreeMultiValueV2.this);
-      }
+      } while (seekRange && dataCache.isEmpty());
 
       if (dataCache.isEmpty()) {
         dataCacheIterator = null;
@@ -31,11 +31,26 @@ import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurablePage;
+import com.orientechnologies.orient.core.storage.index.sbtree.multivalue.v2.CellBTreeMultiValueV2BucketOperations.AddNonLeafEntryPO;
+import com.orientechnologies.orient.core.storage.index.sbtree.multivalue.v2.CellBTreeMultiValueV2BucketOperations.AppendNewLeafEntryPO;
+import com.orientechnologies.orient.core.storage.index.sbtree.multivalue.v2.CellBTreeMultiValueV2BucketOperations.CreateMainLeafEntryPO;
+import com.orientechnologies.orient.core.storage.index.sbtree.multivalue.v2.CellBTreeMultiValueV2BucketOperations.DecrementEntriesCountPO;
+import com.orientechnologies.orient.core.storage.index.sbtree.multivalue.v2.CellBTreeMultiValueV2BucketOperations.IncrementEntriesCountPO;
+import com.orientechnologies.orient.core.storage.index.sbtree.multivalue.v2.CellBTreeMultiValueV2BucketOperations.InitPO;
+import com.orientechnologies.orient.core.storage.index.sbtree.multivalue.v2.CellBTreeMultiValueV2BucketOperations.RemoveLeafEntryPO;
+import com.orientechnologies.orient.core.storage.index.sbtree.multivalue.v2.CellBTreeMultiValueV2BucketOperations.RemoveMainLeafEntryPO;
+import com.orientechnologies.orient.core.storage.index.sbtree.multivalue.v2.CellBTreeMultiValueV2BucketOperations.RemoveNonLeafEntryPO;
+import com.orientechnologies.orient.core.storage.index.sbtree.multivalue.v2.CellBTreeMultiValueV2BucketOperations.SetLeftSiblingPO;
+import com.orientechnologies.orient.core.storage.index.sbtree.multivalue.v2.CellBTreeMultiValueV2BucketOperations.SetRightSiblingPO;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
 /**
+ * Bucket of multi-value trees of indexes created by the 2nd version of index engine. New multi-value
+ * indexes are stored in single value trees, which pages are prefix compressed, so pages of this
+ * bucket keep the original format to stay readable by the versions which created them.
+ *
  * @author Andrey Lomakin (a.lomakin-at-orientdb.com)
  * @since 8/7/13
  */
@@ -71,12 +86,17 @@ public final class CellBTreeMultiValueV2Bucket<K> extends ODurablePage {
   }
 
   public void init(boolean isLeaf) {
-    setIntValue(FREE_POINTER_OFFSET, MAX_PAGE_SIZE_BYTES);
-    setIntValue(SIZE_OFFSET, 0);
+    startPageOperation(new InitPO(isLeaf));
+    try {
+      setIntValue(FREE_POINTER_OFFSET, MAX_PAGE_SIZE_BYTES);
+      setIntValue(SIZE_OFFSET, 0);
 
-    setByteValue(IS_LEAF_OFFSET, (byte) (isLeaf ? 1 : 0));
-    setLongValue(LEFT_SIBLING_OFFSET, -1);
-    setLongValue(RIGHT_SIBLING_OFFSET, -1);
+      setByteValue(IS_LEAF_OFFSET, (byte) (isLeaf ? 1 : 0));
+      setLongValue(LEFT_SIBLING_OFFSET, -1);
+      setLongValue(RIGHT_SIBLING_OFFSET, -1);
+    } finally {
+      endPageOperation();
+    }
   }
 
   public void switchBucketType() {
@@ -177,6 +197,15 @@ public final class CellBTreeMultiValueV2Bucket<K> extends ODurablePage {
   }
 
   public int removeLeafEntry(final int entryIndex, final ORID value) {
+    startPageOperation(new RemoveLeafEntryPO(entryIndex, value));
+    try {
+      return doRemoveLeafEntry(entryIndex, value);
+    } finally {
+      endPageOperation();
+    }
+  }
+
+  private int doRemoveLeafEntry(final int entryIndex, final ORID value) {
     assert isLeaf();
 
     final int entryPosition =
@@ -451,30 +480,47 @@ public final class CellBTreeMultiValueV2Bucket<K> extends ODurablePage {
   }
 
   public boolean decrementEntriesCount(final int entryIndex) {
-    final int entryPosition =
-        getIntValue(POSITIONS_ARRAY_OFFSET + entryIndex * OIntegerSerializer.INT_SIZE);
-    final int entriesCount =
-        getIntValue(entryPosition + OIntegerSerializer.INT_SIZE + OByteSerializer.BYTE_SIZE);
-
-    setIntValue(
-        entryPosition + OIntegerSerializer.INT_SIZE + OByteSerializer.BYTE_SIZE, entriesCount - 1);
-
-    return entriesCount == 1;
+    startPageOperation(new DecrementEntriesCountPO(entryIndex));
+    try {
+      final int entryPosition =
+          getIntValue(POSITIONS_ARRAY_OFFSET + entryIndex * OIntegerSerializer.INT_SIZE);
+      final int entriesCount =
+          getIntValue(entryPosition + OIntegerSerializer.INT_SIZE + OByteSerializer.BYTE_SIZE);
+
+      setIntValue(
+          entryPosition + OIntegerSerializer.INT_SIZE + OByteSerializer.BYTE_SIZE,
+          entriesCount - 1);
+
+      return entriesCount == 1;
+    } finally {
+      endPageOperation();
+    }
   }
 
   public void removeMainLeafEntry(final int entryIndex, final int keySize) {
-    final int entryPosition =
-        getIntValue(POSITIONS_ARRAY_OFFSET + entryIndex * OIntegerSerializer.INT_SIZE);
-    removeMainLeafEntry(entryIndex, entryPosition, keySize);
+    startPageOperation(new RemoveMainLeafEntryPO(entryIndex, keySize));
+    try {
+      final int entryPosition =
+          getIntValue(POSITIONS_ARRAY_OFFSET + entryIndex * OIntegerSerializer.INT_SIZE);
+      removeMainLeafEntry(entryIndex, entryPosition, keySize);
+    } finally {
+      endPageOperation();
+    }
   }
 
   public void incrementEntriesCount(final int entryIndex) {
-    final int entryPosition =
-        getIntValue(POSITIONS_ARRAY_OFFSET + entryIndex * OIntegerSerializer.INT_SIZE);
-    final int entriesCount =
-        getIntValue(entryPosition + OIntegerSerializer.INT_SIZE + OByteSerializer.BYTE_SIZE);
-    setIntValue(
-        entryPosition + OIntegerSerializer.INT_SIZE + OByteSerializer.BYTE_SIZE, entriesCount + 1);
+    startPageOperation(new IncrementEntriesCountPO(entryIndex));
+    try {
+      final int entryPosition =
+          getIntValue(POSITIONS_ARRAY_OFFSET + entryIndex * OIntegerSerializer.INT_SIZE);
+      final int entriesCount =
+          getIntValue(entryPosition + OIntegerSerializer.INT_SIZE + OByteSerializer.BYTE_SIZE);
+      setIntValue(
+          entryPosition + OIntegerSerializer.INT_SIZE + OByteSerializer.BYTE_SIZE,
+          entriesCount + 1);
+    } finally {
+      endPageOperation();
+    }
   }
 
   private void updateAllLinkedListReferences(
@@ -759,10 +805,15 @@ public final class CellBTreeMultiValueV2Bucket<K> extends ODurablePage {
 
   public boolean createMainLeafEntry(
       final int index, final byte[] serializedKey, final ORID value, final long mId) {
-    if (doCreateMainLeafEntry(index, serializedKey, value, mId)) {
-      return false;
+    startPageOperation(new CreateMainLeafEntryPO(index, serializedKey, value, mId));
+    try {
+      if (doCreateMainLeafEntry(index, serializedKey, value, mId)) {
+        return false;
+      }
+      return true;
+    } finally {
+      endPageOperation();
     }
-    return true;
   }
 
   private boolean doCreateMainLeafEntry(int index, byte[] serializedKey, ORID value, long mId) {
@@ -824,6 +875,15 @@ public final class CellBTreeMultiValueV2Bucket<K> extends ODurablePage {
   }
 
   public long appendNewLeafEntry(final int index, final ORID value) {
+    startPageOperation(new AppendNewLeafEntryPO(index, value));
+    try {
+      return doAppendNewLeafEntry(index, value);
+    } finally {
+      endPageOperation();
+    }
+  }
+
+  private long doAppendNewLeafEntry(final int index, final ORID value) {
     assert isLeaf();
 
     final int entryPosition =
@@ -945,12 +1005,18 @@ public final class CellBTreeMultiValueV2Bucket<K> extends ODurablePage {
       final int leftChild,
       final int rightChild,
       final boolean updateNeighbors) {
-    final int prevChild =
-        doAddNonLeafEntry(index, serializedKey, leftChild, rightChild, updateNeighbors);
-    if (prevChild >= -1) {
-      return true;
+    startPageOperation(
+        new AddNonLeafEntryPO(index, serializedKey, leftChild, rightChild, updateNeighbors));
+    try {
+      final int prevChild =
+          doAddNonLeafEntry(index, serializedKey, leftChild, rightChild, updateNeighbors);
+      if (prevChild >= -1) {
+        return true;
+      }
+      return false;
+    } finally {
+      endPageOperation();
     }
-    return false;
   }
 
   private int doAddNonLeafEntry(
@@ -1007,13 +1073,26 @@ public final class CellBTreeMultiValueV2Bucket<K> extends ODurablePage {
   }
 
   public void removeNonLeafEntry(final int entryIndex, final byte[] key, final int prevChild) {
+    removeNonLeafEntry(entryIndex, key.length, prevChild);
+  }
+
+  void removeNonLeafEntry(final int entryIndex, final int keySize, final int prevChild) {
+    startPageOperation(new RemoveNonLeafEntryPO(entryIndex, keySize, prevChild));
+    try {
+      doRemoveNonLeafEntry(entryIndex, keySize, prevChild);
+    } finally {
+      endPageOperation();
+    }
+  }
+
+  private void doRemoveNonLeafEntry(final int entryIndex, final int keySize, final int prevChild) {
     if (isLeaf()) {
       throw new IllegalStateException("Remove is applied to non-leaf buckets only");
     }
 
     final int entryPosition =
         getIntValue(POSITIONS_ARRAY_OFFSET + entryIndex * OIntegerSerializer.INT_SIZE);
-    final int entrySize = key.length + 2 * OIntegerSerializer.INT_SIZE;
+    final int entrySize = keySize + 2 * OIntegerSerializer.INT_SIZE;
     int size = getIntValue(SIZE_OFFSET);
 
     final int leftChild = getIntValue(entryPosition);
@@ -1062,7 +1141,12 @@ public final class CellBTreeMultiValueV2Bucket<K> extends ODurablePage {
   }
 
   public void setLeftSibling(final long pageIndex) {
-    setLongValue(LEFT_SIBLING_OFFSET, pageIndex);
+    startPageOperation(new SetLeftSiblingPO(pageIndex));
+    try {
+      setLongValue(LEFT_SIBLING_OFFSET, pageIndex);
+    } finally {
+      endPageOperation();
+    }
   }
 
   public long getLeftSibling() {
@@ -1070,7 +1154,12 @@ public final class CellBTreeMultiValueV2Bucket<K> extends ODurablePage {
   }
 
   public void setRightSibling(final long pageIndex) {
-    setLongValue(RIGHT_SIBLING_OFFSET, pageIndex);
+    startPageOperation(new SetRightSiblingPO(pageIndex));
+    try {
+      setLongValue(RIGHT_SIBLING_OFFSET, pageIndex);
+    } finally {
+      endPageOperation();
+    }
   }
 
   public long getRightSibling() {
@@ -0,0 +1,485 @@
+package com.orientechnologies.orient.core.storage.index.sbtree.multivalue.v2;
+
+import com.orientechnologies.common.serialization.types.OByteSerializer;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OPageOperation;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.PageOperationTypes;
+import java.nio.ByteBuffer;
+
+/** Logical WAL operations of {@link CellBTreeMultiValueV2Bucket}. */
+public final class CellBTreeMultiValueV2BucketOperations {
+  private static final int RID_SIZE = OIntegerSerializer.INT_SIZE + OLongSerializer.LONG_SIZE;
+
+  private CellBTreeMultiValueV2BucketOperations() {}
+
+  private static CellBTreeMultiValueV2Bucket<Object> bucket(final OCacheEntry cacheEntry) {
+    return new CellBTreeMultiValueV2Bucket<>(cacheEntry);
+  }
+
+  private static void serializeRID(final ByteBuffer buffer, final ORID rid) {
+    buffer.putInt(rid.getClusterId());
+    buffer.putLong(rid.getClusterPosition());
+  }
+
+  private static ORID deserializeRID(final ByteBuffer buffer) {
+    final int clusterId = buffer.getInt();
+    final long clusterPosition = buffer.getLong();
+    return new ORecordId(clusterId, clusterPosition);
+  }
+
+  public static final class InitPO extends OPageOperation {
+    private boolean isLeaf;
+
+    public InitPO() {}
+
+    InitPO(final boolean isLeaf) {
+      this.isLeaf = isLeaf;
+    }
+
+    @Override
+    public int getId() {
+      return PageOperationTypes.CELL_BTREE_BUCKET_MULTI_VALUE_V2_INIT;
+    }
+
+    @Override
+    public int serializedSize() {
+      return OByteSerializer.BYTE_SIZE;
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {
+      buffer.put(isLeaf ? (byte) 1 : 0);
+    }
+
+    @Override
+    public void fromStream(final ByteBuffer buffer) {
+      isLeaf = buffer.get() > 0;
+    }
+
+    @Override
+    public void redo(final OCacheEntry cacheEntry) {
+      bucket(cacheEntry).init(isLeaf);
+    }
+  }
+
+  public static final class CreateMainLeafEntryPO extends OPageOperation {
+    private int index;
+    private byte[] key;
+    private ORID value;
+    private long mId;
+
+    public CreateMainLeafEntryPO() {}
+
+    CreateMainLeafEntryPO(final int index, final byte[] key, final ORID value, final long mId) {
+      this.index = index;
+      this.key = key;
+      // record ids are mutable, so copy is stored to keep logged value intact
+      this.value = value != null ? value.copy() : null;
+      this.mId = mId;
+    }
+
+    @Override
+    public int getId() {
+      return PageOperationTypes.CELL_BTREE_BUCKET_MULTI_VALUE_V2_CREATE_MAIN_LEAF_ENTRY;
+    }
+
+    @Override
+    public int serializedSize() {
+      return OIntegerSerializer.INT_SIZE
+          + serializedBytesSize(key)
+          + OByteSerializer.BYTE_SIZE
+          + (value != null ? RID_SIZE : 0)
+          + OLongSerializer.LONG_SIZE;
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {
+      buffer.putInt(index);
+      serializeBytes(buffer, key);
+      if (value != null) {
+        buffer.put((byte) 1);
+        serializeRID(buffer, value);
+      } else {
+        buffer.put((byte) 0);
+      }
+      buffer.putLong(mId);
+    }
+
+    @Override
+    public void fromStream(final ByteBuffer buffer) {
+      index = buffer.getInt();
+      key = deserializeBytes(buffer);
+      if (buffer.get() > 0) {
+        value = deserializeRID(buffer);
+      } else {
+        value = null;
+      }
+      mId = buffer.getLong();
+    }
+
+    @Override
+    public void redo(final OCacheEntry cacheEntry) {
+      bucket(cacheEntry).createMainLeafEntry(index, key, value, mId);
+    }
+  }
+
+  public static final class AppendNewLeafEntryPO extends OPageOperation {
+    private int index;
+    private ORID value;
+
+    public AppendNewLeafEntryPO() {}
+
+    AppendNewLeafEntryPO(final int index, final ORID value) {
+      this.index = index;
+      this.value = value.copy();
+    }
+
+    @Override
+    public int getId() {
+      return PageOperationTypes.CELL_BTREE_BUCKET_MULTI_VALUE_V2_APPEND_NEW_LEAF_ENTRY;
+    }
+
+    @Override
+    public int serializedSize() {
+      return OIntegerSerializer.INT_SIZE + RID_SIZE;
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {
+      buffer.putInt(index);
+      serializeRID(buffer, value);
+    }
+
+    @Override
+    public void fromStream(final ByteBuffer buffer) {
+      index = buffer.getInt();
+      value = deserializeRID(buffer);
+    }
+
+    @Override
+    public void redo(final OCacheEntry cacheEntry) {
+      bucket(cacheEntry).appendNewLeafEntry(index, value);
+    }
+  }
+
+  public static final class RemoveLeafEntryPO extends OPageOperation {
+    private int index;
+    private ORID value;
+
+    public RemoveLeafEntryPO() {}
+
+    RemoveLeafEntryPO(final int index, final ORID value) {
+      this.index = index;
+      this.value = value.copy();
+    }
+
+    @Override
+    public int getId() {
+      return PageOperationTypes.CELL_BTREE_BUCKET_MULTI_VALUE_V2_REMOVE_LEAF_ENTRY;
+    }
+
+    @Override
+    public int serializedSize() {
+      return OIntegerSerializer.INT_SIZE + RID_SIZE;
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {
+      buffer.putInt(index);
+      serializeRID(buffer, value);
+    }
+
+    @Override
+    public void fromStream(final ByteBuffer buffer) {
+      index = buffer.getInt();
+      value = deserializeRID(buffer);
+    }
+
+    @Override
+    public void redo(final OCacheEntry cacheEntry) {
+      bucket(cacheEntry).removeLeafEntry(index, value);
+    }
+  }
+
+  public static final class RemoveMainLeafEntryPO extends OPageOperation {
+    private int index;
+    private int keySize;
+
+    public RemoveMainLeafEntryPO() {}
+
+    RemoveMainLeafEntryPO(final int index, final int keySize) {
+      this.index = index;
+      this.keySize = keySize;
+    }
+
+    @Override
+    public int getId() {
+      return PageOperationTypes.CELL_BTREE_BUCKET_MULTI_VALUE_V2_REMOVE_MAIN_LEAF_ENTRY;
+    }
+
+    @Override
+    public int serializedSize() {
+      return 2 * OIntegerSerializer.INT_SIZE;
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {
+      buffer.putInt(index);
+      buffer.putInt(keySize);
+    }
+
+    @Override
+    public void fromStream(final ByteBuffer buffer) {
+      index = buffer.getInt();
+      keySize = buffer.getInt();
+    }
+
+    @Override
+    public void redo(final OCacheEntry cacheEntry) {
+      bucket(cacheEntry).removeMainLeafEntry(index, keySize);
+    }
+  }
+
+  public static final class IncrementEntriesCountPO extends OPageOperation {
+    private int index;
+
+    public IncrementEntriesCountPO() {}
+
+    IncrementEntriesCountPO(final int index) {
+      this.index = index;
+    }
+
+    @Override
+    public int getId() {
+      return PageOperationTypes.CELL_BTREE_BUCKET_MULTI_VALUE_V2_INCREMENT_ENTRIES_COUNT;
+    }
+
+    @Override
+    public int serializedSize() {
+      return OIntegerSerializer.INT_SIZE;
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {
+      buffer.putInt(index);
+    }
+
+    @Override
+    public void fromStream(final ByteBuffer buffer) {
+      index = buffer.getInt();
+    }
+
+    @Override
+    public void redo(final OCacheEntry cacheEntry) {
+      bucket(cacheEntry).incrementEntriesCount(index);
+    }
+  }
+
+  public static final class DecrementEntriesCountPO extends OPageOperation {
+    private int index;
+
+    public DecrementEntriesCountPO() {}
+
+    DecrementEntriesCountPO(final int index) {
+      this.index = index;
+    }
+
+    @Override
+    public int getId() {
+      return PageOperationTypes.CELL_BTREE_BUCKET_MULTI_VALUE_V2_DECREMENT_ENTRIES_COUNT;
+    }
+
+    @Override
+    public int serializedSize() {
+      return OIntegerSerializer.INT_SIZE;
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {
+      buffer.putInt(index);
+    }
+
+    @Override
+    public void fromStream(final ByteBuffer buffer) {
+      index = buffer.getInt();
+    }
+
+    @Override
+    public void redo(final OCacheEntry cacheEntry) {
+      bucket(cacheEntry).decrementEntriesCount(index);
+    }
+  }
+
+  public static final class AddNonLeafEntryPO extends OPageOperation {
+    private int index;
+    private byte[] key;
+    private int leftChild;
+    private int rightChild;
+    private boolean updateNeighbors;
+
+    public AddNonLeafEntryPO() {}
+
+    AddNonLeafEntryPO(
+        final int index,
+        final byte[] key,
+        final int leftChild,
+        final int rightChild,
+        final boolean updateNeighbors) {
+      this.index = index;
+      this.key = key;
+      this.leftChild = leftChild;
+      this.rightChild = rightChild;
+      this.updateNeighbors = updateNeighbors;
+    }
+
+    @Override
+    public int getId() {
+      return PageOperationTypes.CELL_BTREE_BUCKET_MULTI_VALUE_V2_ADD_NON_LEAF_ENTRY;
+    }
+
+    @Override
+    public int serializedSize() {
+      return 3 * OIntegerSerializer.INT_SIZE + serializedBytesSize(key) + OByteSerializer.BYTE_SIZE;
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {
+      buffer.putInt(index);
+      serializeBytes(buffer, key);
+      buffer.putInt(leftChild);
+      buffer.putInt(rightChild);
+      buffer.put(updateNeighbors ? (byte) 1 : 0);
+    }
+
+    @Override
+    public void fromStream(final ByteBuffer buffer) {
+      index = buffer.getInt();
+      key = deserializeBytes(buffer);
+      leftChild = buffer.getInt();
+      rightChild = buffer.getInt();
+      updateNeighbors = buffer.get() > 0;
+    }
+
+    @Override
+    public void redo(final OCacheEntry cacheEntry) {
+      bucket(cacheEntry).addNonLeafEntry(index, key, leftChild, rightChild, updateNeighbors);
+    }
+  }
+
+  public static final class RemoveNonLeafEntryPO extends OPageOperation {
+    private int index;
+    private int keySize;
+    private int prevChild;
+
+    public RemoveNonLeafEntryPO() {}
+
+    RemoveNonLeafEntryPO(final int index, final int keySize, final int prevChild) {
+      this.index = index;
+      this.keySize = keySize;
+      this.prevChild = prevChild;
+    }
+
+    @Override
+    public int getId() {
+      return PageOperationTypes.CELL_BTREE_BUCKET_MULTI_VALUE_V2_REMOVE_NON_LEAF_ENTRY;
+    }
+
+    @Override
+    public int serializedSize() {
+      return 3 * OIntegerSerializer.INT_SIZE;
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {
+      buffer.putInt(index);
+      buffer.putInt(keySize);
+      buffer.putInt(prevChild);
+    }
+
+    @Override
+    public void fromStream(final ByteBuffer buffer) {
+      index = buffer.getInt();
+      keySize = buffer.getInt();
+      prevChild = buffer.getInt();
+    }
+
+    @Override
+    public void redo(final OCacheEntry cacheEntry) {
+      bucket(cacheEntry).removeNonLeafEntry(index, keySize, prevChild);
+    }
+  }
+
+  public static final class SetLeftSiblingPO extends OPageOperation {
+    private long pageIndex;
+
+    public SetLeftSiblingPO() {}
+
+    SetLeftSiblingPO(final long pageIndex) {
+      this.pageIndex = pageIndex;
+    }
+
+    @Override
+    public int getId() {
+      return PageOperationTypes.CELL_BTREE_BUCKET_MULTI_VALUE_V2_SET_LEFT_SIBLING;
+    }
+
+    @Override
+    public int serializedSize() {
+      return OLongSerializer.LONG_SIZE;
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {
+      buffer.putLong(pageIndex);
+    }
+
+    @Override
+    public void fromStream(final ByteBuffer buffer) {
+      pageIndex = buffer.getLong();
+    }
+
+    @Override
+    public void redo(final OCacheEntry cacheEntry) {
+      bucket(cacheEntry).setLeftSibling(pageIndex);
+    }
+  }
+
+  public static final class SetRightSiblingPO extends OPageOperation {
+    private long pageIndex;
+
+    public SetRightSiblingPO() {}
+
+    SetRightSiblingPO(final long pageIndex) {
+      this.pageIndex = pageIndex;
+    }
+
+    @Override
+    public int getId() {
+      return PageOperationTypes.CELL_BTREE_BUCKET_MULTI_VALUE_V2_SET_RIGHT_SIBLING;
+    }
+
+    @Override
+    public int serializedSize() {
+      return OLongSerializer.LONG_SIZE;
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {
+      buffer.putLong(pageIndex);
+    }
+
+    @Override
+    public void fromStream(final ByteBuffer buffer) {
+      pageIndex = buffer.getLong();
+    }
+
+    @Override
+    public void redo(final OCacheEntry cacheEntry) {
+      bucket(cacheEntry).setRightSibling(pageIndex);
+    }
+  }
+}
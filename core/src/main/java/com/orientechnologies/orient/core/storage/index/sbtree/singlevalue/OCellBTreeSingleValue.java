@@ -8,6 +8,8 @@ import com.orientechnologies.orient.core.index.engine.IndexEngineValidator;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
 import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
 import java.util.stream.Stream;
 
 public interface OCellBTreeSingleValue<K> {
@@ -27,6 +29,24 @@ public interface OCellBTreeSingleValue<K> {
       OAtomicOperation atomicOperation, K key, ORID value, IndexEngineValidator<K, ORID> validator)
       throws IOException;
 
+  /**
+   * @return <code>true</code> if empty tree can be filled by {@link #bulkLoad(Iterator,
+   *     IndexEngineValidator)}.
+   */
+  default boolean hasBulkLoadSupport() {
+    return false;
+  }
+
+  /**
+   * Fills empty tree by the passed in entries which may be unsorted. Method should be called
+   * outside of atomic operation.
+   */
+  default void bulkLoad(
+      Iterator<ORawPair<K, ORID>> entries, IndexEngineValidator<K, ORID> validator)
+      throws IOException {
+    throw new UnsupportedOperationException("Bulk load is not supported");
+  }
+
   void close();
 
   void delete(OAtomicOperation atomicOperation) throws IOException;
@@ -57,5 +77,18 @@ public interface OCellBTreeSingleValue<K> {
   Stream<ORawPair<K, ORID>> iterateEntriesBetween(
       K keyFrom, boolean fromInclusive, K keyTo, boolean toInclusive, boolean ascSortOrder);
 
+  /**
+   * Iterates entries of several ranges of keys in ascending order. Ranges should be sorted by their
+   * boundaries and should not overlap, boundaries of the ranges may not be <code>null</code>.
+   * Implementations may pass all the ranges in single walk over the leaf pages of the tree.
+   */
+  default Stream<ORawPair<K, ORID>> iterateEntriesBetweenRanges(
+      List<ORawPair<K, K>> ranges, boolean fromInclusive, boolean toInclusive) {
+    return ranges.stream()
+        .flatMap(
+            range ->
+                iterateEntriesBetween(range.first, fromInclusive, range.second, toInclusive, true));
+  }
+
   void acquireAtomicExclusiveLock();
 }
@@ -23,6 +23,8 @@ package com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3;
 import com.orientechnologies.common.comparator.ODefaultComparator;
 import com.orientechnologies.common.serialization.types.OBinarySerializer;
 import com.orientechnologies.common.serialization.types.OByteSerializer;
+import com.orientechnologies.common.serialization.types.ODateSerializer;
+import com.orientechnologies.common.serialization.types.ODateTimeSerializer;
 import com.orientechnologies.common.serialization.types.OIntegerSerializer;
 import com.orientechnologies.common.serialization.types.OLongSerializer;
 import com.orientechnologies.common.serialization.types.OShortSerializer;
@@ -30,11 +32,36 @@ import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurablePage;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueBucketV3Operations.AddAllPO;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueBucketV3Operations.AddLeafEntryPO;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueBucketV3Operations.AddNonLeafEntryPO;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueBucketV3Operations.InitPO;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueBucketV3Operations.RemoveLeafEntryPO;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueBucketV3Operations.RemoveNonLeafEntryPO;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueBucketV3Operations.SetLeftSiblingPO;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueBucketV3Operations.SetRightSiblingPO;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueBucketV3Operations.UpdateValuePO;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Date;
 import java.util.List;
 
 /**
+ * Bucket of {@link CellBTreeSingleValueV3}. Bucket is stored in one of two formats which are
+ * distinguished by the flags stored in the same byte as the type of bucket.
+ *
+ * <p>In the original format, array of <code>int</code> offsets of entries follows the header of
+ * the bucket, and each entry contains the full serialized key.
+ *
+ * <p>In the prefix compressed format, header of the bucket is followed by the size of key header,
+ * the common prefix of all keys of the bucket and array of <code>short</code> offsets of entries.
+ * The key header is the first bytes of serialized key which contain its length, it is different
+ * for the most of keys and so it is kept inside of each entry and excluded from the common prefix.
+ * Each entry contains only the key header and the part of the key which follows the common prefix.
+ * Raw entries and keys returned by the bucket always have the original format, so entries may be
+ * moved between buckets of different formats.
+ *
  * @author Andrey Lomakin (a.lomakin-at-orientdb.com)
  * @since 8/7/13
  */
@@ -52,6 +79,17 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
   private static final int POSITIONS_ARRAY_OFFSET =
       RIGHT_SIBLING_OFFSET + OLongSerializer.LONG_SIZE;
 
+  private static final int KEY_HEADER_SIZE_OFFSET =
+      RIGHT_SIBLING_OFFSET + OLongSerializer.LONG_SIZE;
+  private static final int PREFIX_LENGTH_OFFSET =
+      KEY_HEADER_SIZE_OFFSET + OByteSerializer.BYTE_SIZE;
+  private static final int PREFIX_OFFSET = PREFIX_LENGTH_OFFSET + OShortSerializer.SHORT_SIZE;
+
+  private static final byte LEAF_FLAG = 1;
+  private static final byte PREFIX_COMPRESSION_FLAG = 2;
+
+  private static final int CHILDREN_SIZE = 2 * OIntegerSerializer.INT_SIZE;
+
   private final Comparator<? super K> comparator = ODefaultComparator.INSTANCE;
 
   public CellBTreeSingleValueBucketV3(final OCacheEntry cacheEntry) {
@@ -64,28 +102,83 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
           "Type of bucket can be changed only bucket if bucket is empty");
     }
 
-    final boolean isLeaf = isLeaf();
-    if (isLeaf) {
-      setByteValue(IS_LEAF_OFFSET, (byte) 0);
-    } else {
-      setByteValue(IS_LEAF_OFFSET, (byte) 1);
-    }
+    setByteValue(IS_LEAF_OFFSET, (byte) (getByteValue(IS_LEAF_OFFSET) ^ LEAF_FLAG));
+  }
+
+  /**
+   * Prefix compressed format stores offsets of entries as <code>short</code> values so it may be
+   * used only if size of the page does not exceed 64K.
+   */
+  public static boolean isPrefixCompressionSupported() {
+    return MAX_PAGE_SIZE_BYTES <= 1 << 16;
   }
 
   public void init(boolean isLeaf) {
-    setFreePointer(MAX_PAGE_SIZE_BYTES);
-    setSize(0);
+    startPageOperation(new InitPO(isLeaf));
+    try {
+      setFreePointer(MAX_PAGE_SIZE_BYTES);
+      setSize(0);
+
+      setByteValue(IS_LEAF_OFFSET, (byte) (isLeaf ? 1 : 0));
+      setLongValue(LEFT_SIBLING_OFFSET, -1);
+      setLongValue(RIGHT_SIBLING_OFFSET, -1);
+    } finally {
+      endPageOperation();
+    }
+  }
+
+  /**
+   * Initializes bucket in prefix compressed format.
+   *
+   * @param keyHeaderSize amount of the first bytes of serialized key which are excluded from the
+   *     common prefix of keys.
+   */
+  public void init(final boolean isLeaf, final int keyHeaderSize) {
+    assert isPrefixCompressionSupported();
+    assert keyHeaderSize >= 0 && keyHeaderSize <= InitPO.MAX_KEY_HEADER_SIZE;
+
+    startPageOperation(new InitPO(isLeaf, keyHeaderSize));
+    try {
+      setFreePointer(MAX_PAGE_SIZE_BYTES);
+      setSize(0);
+
+      setByteValue(IS_LEAF_OFFSET, (byte) ((isLeaf ? LEAF_FLAG : 0) | PREFIX_COMPRESSION_FLAG));
+      setLongValue(LEFT_SIBLING_OFFSET, -1);
+      setLongValue(RIGHT_SIBLING_OFFSET, -1);
+
+      setByteValue(KEY_HEADER_SIZE_OFFSET, (byte) keyHeaderSize);
+      setShortValue(PREFIX_LENGTH_OFFSET, (short) 0);
+    } finally {
+      endPageOperation();
+    }
+  }
 
-    setByteValue(IS_LEAF_OFFSET, (byte) (isLeaf ? 1 : 0));
-    setLongValue(LEFT_SIBLING_OFFSET, -1);
-    setLongValue(RIGHT_SIBLING_OFFSET, -1);
+  public boolean isPrefixCompressed() {
+    return (getByteValue(IS_LEAF_OFFSET) & PREFIX_COMPRESSION_FLAG) != 0;
   }
 
   public boolean isEmpty() {
     return size() == 0;
   }
 
+  /**
+   * Searches for the position of the key inside of the bucket. Keys of <code>long</code>, <code>int
+   * </code> and date types are read directly from the page and searched by {@link
+   * #interpolationSearch(long, boolean)}, other keys are searched by the binary search.
+   */
   public int find(final K key, final OBinarySerializer<K> keySerializer) {
+    final byte serializerId = keySerializer.getId();
+    if (serializerId == OLongSerializer.ID && key instanceof Long) {
+      return interpolationSearch((Long) key, false);
+    }
+    if (serializerId == OIntegerSerializer.ID && key instanceof Integer) {
+      return interpolationSearch((Integer) key, true);
+    }
+    if ((serializerId == ODateTimeSerializer.ID || serializerId == ODateSerializer.ID)
+        && key instanceof Date) {
+      return interpolationSearch(((Date) key).getTime(), false);
+    }
+
     int low = 0;
     int high = size() - 1;
 
@@ -106,16 +199,193 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
     return -(low + 1); // key not found.
   }
 
+  /**
+   * Interpolation search of numeric key. Position of the next probe is estimated by the linear
+   * interpolation between keys at the bounds of the search range, so keys which are distributed
+   * uniformly, like timestamps or sequential identifiers, are found in a few probes. If the probe
+   * does not halve the search range, because distribution of keys is skewed, the next probe is done
+   * in the middle of the range as in the binary search, so amount of probes is never more than
+   * twice bigger than in the binary search.
+   *
+   * @param intKey whether keys are stored as <code>int</code> values, otherwise they are stored as
+   *     <code>long</code> values.
+   */
+  private int interpolationSearch(final long key, final boolean intKey) {
+    final int size = size();
+    if (size == 0) {
+      return -1;
+    }
+
+    int low = 0;
+    int high = size - 1;
+
+    long lowKey = getNumericKey(low, intKey);
+    if (key <= lowKey) {
+      return key == lowKey ? low : -(low + 1);
+    }
+
+    long highKey = getNumericKey(high, intKey);
+    if (key >= highKey) {
+      return key == highKey ? high : -(high + 2);
+    }
+
+    // key is strictly between keys at low and high positions
+    boolean interpolate = true;
+    while (high - low > 1) {
+      final int range = high - low;
+
+      int mid;
+      if (interpolate) {
+        final double ratio = ((double) key - lowKey) / ((double) highKey - lowKey);
+        mid = low + (int) (ratio * range);
+        if (mid <= low) {
+          mid = low + 1;
+        } else if (mid >= high) {
+          mid = high - 1;
+        }
+      } else {
+        mid = (low + high) >>> 1;
+      }
+
+      final long midKey = getNumericKey(mid, intKey);
+      if (midKey < key) {
+        low = mid;
+        lowKey = midKey;
+      } else if (midKey > key) {
+        high = mid;
+        highKey = midKey;
+      } else {
+        return mid; // key found
+      }
+
+      interpolate = 2 * (high - low) <= range;
+    }
+
+    return -(high + 1); // key not found.
+  }
+
+  private long getNumericKey(final int index, final boolean intKey) {
+    int entryPosition = getPointer(index);
+    if (!isLeaf()) {
+      entryPosition += CHILDREN_SIZE;
+    }
+
+    if (isPrefixCompressed()) {
+      final byte[] key = getCompressedKey(entryPosition);
+      return intKey
+          ? OIntegerSerializer.INSTANCE.deserializeNative(key, 0)
+          : OLongSerializer.INSTANCE.deserializeNative(key, 0);
+    }
+
+    return intKey ? getIntValue(entryPosition) : getLongValue(entryPosition);
+  }
+
+  /**
+   * Variant of {@link #find(Object, OBinarySerializer)} for keys serialized by {@link
+   * com.orientechnologies.common.serialization.types.OBinaryTypeSerializer} and ordered as
+   * sequences of unsigned bytes. Keys are compared directly inside of the page without
+   * deserialization.
+   */
+  public int findBinaryKey(final byte[] key) {
+    if (isPrefixCompressed()) {
+      return findCompressedBinaryKey(key);
+    }
+
+    final int keyOffset = isLeaf() ? 0 : 2 * OIntegerSerializer.INT_SIZE;
+
+    int low = 0;
+    int high = size() - 1;
+
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      final int entryPosition = getPointer(mid) + keyOffset;
+      final int cmp =
+          compareBinaryValue(
+              entryPosition + OIntegerSerializer.INT_SIZE, getIntValue(entryPosition), key);
+
+      if (cmp < 0) {
+        low = mid + 1;
+      } else if (cmp > 0) {
+        high = mid - 1;
+      } else {
+        return mid; // key found
+      }
+    }
+
+    return -(low + 1); // key not found.
+  }
+
+  private int findCompressedBinaryKey(final byte[] key) {
+    assert getKeyHeaderSize() == OIntegerSerializer.INT_SIZE;
+
+    final int size = size();
+    final int prefixLength = getPrefixLength();
+    if (size > 0 && prefixLength > 0) {
+      final int cmp =
+          compareBinaryValue(
+              PREFIX_OFFSET, prefixLength, key, 0, Math.min(prefixLength, key.length));
+      if (cmp < 0) {
+        return -(size + 1);
+      } else if (cmp > 0) {
+        return -1;
+      }
+    }
+
+    final int keyOffset = isLeaf() ? 0 : CHILDREN_SIZE;
+    final int slotsOffset = PREFIX_OFFSET + prefixLength;
+
+    int low = 0;
+    int high = size - 1;
+
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      final int keyPosition = getSlot(slotsOffset, mid) + keyOffset;
+      final int storedKeyLength = getUnsignedShort(keyPosition);
+      final int cmp =
+          compareBinaryValue(
+              keyPosition + OShortSerializer.SHORT_SIZE + OIntegerSerializer.INT_SIZE,
+              storedKeyLength - OIntegerSerializer.INT_SIZE,
+              key,
+              prefixLength,
+              key.length - prefixLength);
+
+      if (cmp < 0) {
+        low = mid + 1;
+      } else if (cmp > 0) {
+        high = mid - 1;
+      } else {
+        return mid; // key found
+      }
+    }
+
+    return -(low + 1); // key not found.
+  }
+
   public int removeLeafEntry(final int entryIndex, byte[] key) {
-    final int entryPosition = getPointer(entryIndex);
+    return removeLeafEntry(entryIndex, key.length);
+  }
 
-    final int entrySize;
-    if (isLeaf()) {
-      entrySize = key.length + RID_SIZE;
-    } else {
+  int removeLeafEntry(final int entryIndex, final int keySize) {
+    startPageOperation(new RemoveLeafEntryPO(entryIndex, keySize));
+    try {
+      return doRemoveLeafEntry(entryIndex, keySize);
+    } finally {
+      endPageOperation();
+    }
+  }
+
+  private int doRemoveLeafEntry(final int entryIndex, final int keySize) {
+    if (!isLeaf()) {
       throw new IllegalStateException("Remove is applies to leaf buckets only");
     }
 
+    if (isPrefixCompressed()) {
+      return removeCompressedEntry(entryIndex);
+    }
+
+    final int entryPosition = getPointer(entryIndex);
+    final int entrySize = keySize + RID_SIZE;
+
     int[] pointers = getPointers();
     int size = pointers.length;
     int startChanging = size;
@@ -158,26 +428,60 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
       throw new IllegalStateException("Remove is applied to non-leaf buckets only");
     }
 
-    final int entryPosition = getPointer(entryIndex);
-    final int keySize =
-        getObjectSizeInDirectMemory(keySerializer, entryPosition + 2 * OIntegerSerializer.INT_SIZE);
-    final byte[] key = getBinaryValue(entryPosition + 2 * OIntegerSerializer.INT_SIZE, keySize);
-
-    return removeNonLeafEntry(entryIndex, key, removeLeftChildPointer);
+    return removeNonLeafEntry(
+        entryIndex, getRawKey(entryIndex, keySerializer), removeLeftChildPointer);
   }
 
   public int removeNonLeafEntry(
       final int entryIndex, final byte[] key, boolean removeLeftChildPointer) {
+    return removeNonLeafEntry(entryIndex, key.length, removeLeftChildPointer);
+  }
+
+  int removeNonLeafEntry(final int entryIndex, final int keySize, boolean removeLeftChildPointer) {
+    startPageOperation(new RemoveNonLeafEntryPO(entryIndex, keySize, removeLeftChildPointer));
+    try {
+      return doRemoveNonLeafEntry(entryIndex, keySize, removeLeftChildPointer);
+    } finally {
+      endPageOperation();
+    }
+  }
+
+  private int doRemoveNonLeafEntry(
+      final int entryIndex, final int keySize, boolean removeLeftChildPointer) {
     if (isLeaf()) {
       throw new IllegalStateException("Remove is applied to non-leaf buckets only");
     }
 
     final int entryPosition = getPointer(entryIndex);
-    final int entrySize = key.length + 2 * OIntegerSerializer.INT_SIZE;
 
     final int leftChild = getIntValue(entryPosition);
     final int rightChild = getIntValue(entryPosition + OIntegerSerializer.INT_SIZE);
 
+    final int size =
+        isPrefixCompressed()
+            ? removeCompressedEntry(entryIndex)
+            : removeNonLeafEntryData(entryIndex, entryPosition, keySize);
+
+    if (size > 0) {
+      final int childPointer = removeLeftChildPointer ? rightChild : leftChild;
+
+      if (entryIndex > 0) {
+        final int prevEntryPosition = getPointer(entryIndex - 1);
+        setIntValue(prevEntryPosition + OIntegerSerializer.INT_SIZE, childPointer);
+      }
+      if (entryIndex < size) {
+        final int nextEntryPosition = getPointer(entryIndex);
+        setIntValue(nextEntryPosition, childPointer);
+      }
+    }
+
+    return size;
+  }
+
+  private int removeNonLeafEntryData(
+      final int entryIndex, final int entryPosition, final int keySize) {
+    final int entrySize = keySize + 2 * OIntegerSerializer.INT_SIZE;
+
     int[] pointers = getPointers();
     int size = pointers.length;
     int startChanging = size;
@@ -205,18 +509,37 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
 
     setFreePointer(freePointer + entrySize);
 
-    if (size > 0) {
-      final int childPointer = removeLeftChildPointer ? rightChild : leftChild;
+    return size;
+  }
 
-      if (entryIndex > 0) {
-        final int prevEntryPosition = getPointer(entryIndex - 1);
-        setIntValue(prevEntryPosition + OIntegerSerializer.INT_SIZE, childPointer);
-      }
-      if (entryIndex < size) {
-        final int nextEntryPosition = getPointer(entryIndex);
-        setIntValue(nextEntryPosition, childPointer);
+  private int removeCompressedEntry(final int entryIndex) {
+    final int slotsOffset = getSlotsOffset();
+    final int entryPosition = getSlot(slotsOffset, entryIndex);
+    final int entrySize = getCompressedEntrySize(entryPosition);
+
+    int size = getSize();
+    if (entryIndex < size - 1) {
+      moveData(
+          slotsOffset + (entryIndex + 1) * OShortSerializer.SHORT_SIZE,
+          slotsOffset + entryIndex * OShortSerializer.SHORT_SIZE,
+          (size - entryIndex - 1) * OShortSerializer.SHORT_SIZE);
+    }
+    size--;
+
+    for (int i = 0; i < size; i++) {
+      final int position = getSlot(slotsOffset, i);
+      if (position < entryPosition) {
+        setSlot(slotsOffset, i, position + entrySize);
       }
     }
+    setSize(size);
+
+    final int freePointer = getFreePointer();
+    if (size > 0 && entryPosition > freePointer) {
+      moveData(freePointer, freePointer + entrySize, entryPosition - freePointer);
+    }
+
+    setFreePointer(freePointer + entrySize);
 
     return size;
   }
@@ -239,6 +562,22 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
       final int entryIndex, final OBinarySerializer<K> keySerializer) {
     int entryPosition = getPointer(entryIndex);
 
+    if (isPrefixCompressed()) {
+      if (isLeaf()) {
+        final K key = keySerializer.deserializeNativeObject(getCompressedKey(entryPosition), 0);
+        return new CellBTreeSingleValueEntryV3<>(
+            -1, -1, key, getRIDValue(getCompressedValuePosition(entryPosition)));
+      }
+
+      final K key =
+          keySerializer.deserializeNativeObject(getCompressedKey(entryPosition + CHILDREN_SIZE), 0);
+      return new CellBTreeSingleValueEntryV3<>(
+          getIntValue(entryPosition),
+          getIntValue(entryPosition + OIntegerSerializer.INT_SIZE),
+          key,
+          null);
+    }
+
     if (isLeaf()) {
       final K key;
 
@@ -284,6 +623,26 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
     int entryPosition = getPointer(entryIndex);
     final int startEntryPosition = entryPosition;
 
+    if (isPrefixCompressed()) {
+      if (isLeaf()) {
+        final byte[] key = getCompressedKey(entryPosition);
+        final byte[] rawEntry = Arrays.copyOf(key, key.length + RID_SIZE);
+        System.arraycopy(
+            getBinaryValue(getCompressedValuePosition(entryPosition), RID_SIZE),
+            0,
+            rawEntry,
+            key.length,
+            RID_SIZE);
+        return rawEntry;
+      }
+
+      final byte[] key = getCompressedKey(entryPosition + CHILDREN_SIZE);
+      final byte[] rawEntry = new byte[CHILDREN_SIZE + key.length];
+      System.arraycopy(getBinaryValue(entryPosition, CHILDREN_SIZE), 0, rawEntry, 0, CHILDREN_SIZE);
+      System.arraycopy(key, 0, rawEntry, CHILDREN_SIZE, key.length);
+      return rawEntry;
+    }
+
     if (isLeaf()) {
       final int keySize = getObjectSizeInDirectMemory(keySerializer, entryPosition);
 
@@ -306,27 +665,31 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
   public ORID getValue(final int entryIndex, final OBinarySerializer<K> keySerializer) {
     assert isLeaf();
 
-    int entryPosition = getPointer(entryIndex);
-
-    // skip key
-    entryPosition += getObjectSizeInDirectMemory(keySerializer, entryPosition);
+    return getRIDValue(getValuePosition(entryIndex, keySerializer));
+  }
 
-    final int clusterId = getShortValue(entryPosition);
-    final long clusterPosition = getLongValue(entryPosition + OShortSerializer.SHORT_SIZE);
+  private ORID getRIDValue(final int valuePosition) {
+    final int clusterId = getShortValue(valuePosition);
+    final long clusterPosition = getLongValue(valuePosition + OShortSerializer.SHORT_SIZE);
 
     return new ORecordId(clusterId, clusterPosition);
   }
 
+  private int getValuePosition(final int entryIndex, final OBinarySerializer<K> keySerializer) {
+    final int entryPosition = getPointer(entryIndex);
+    if (isPrefixCompressed()) {
+      return getCompressedValuePosition(entryPosition);
+    }
+
+    // skip key
+    return entryPosition + getObjectSizeInDirectMemory(keySerializer, entryPosition);
+  }
+
   byte[] getRawValue(final int entryIndex, final OBinarySerializer<K> keySerializer) {
     assert isLeaf();
     assert entryIndex < getSize();
 
-    int entryPosition = getPointer(entryIndex);
-
-    // skip key
-    entryPosition += getObjectSizeInDirectMemory(keySerializer, entryPosition);
-
-    return getBinaryValue(entryPosition, RID_SIZE);
+    return getBinaryValue(getValuePosition(entryIndex, keySerializer), RID_SIZE);
   }
 
   public K getKey(final int index, final OBinarySerializer<K> keySerializer) {
@@ -337,10 +700,18 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
       entryPosition += 2 * OIntegerSerializer.INT_SIZE;
     }
 
+    if (isPrefixCompressed()) {
+      return keySerializer.deserializeNativeObject(getCompressedKey(entryPosition), 0);
+    }
+
     return deserializeFromDirectMemory(keySerializer, entryPosition);
   }
 
   private int getPointer(final int index) {
+    if (isPrefixCompressed()) {
+      return getSlot(getSlotsOffset(), index);
+    }
+
     return getIntValue(index * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET);
   }
 
@@ -351,24 +722,48 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
       entryPosition += 2 * OIntegerSerializer.INT_SIZE;
     }
 
+    if (isPrefixCompressed()) {
+      return getCompressedKey(entryPosition);
+    }
+
     final int keyLen = getObjectSizeInDirectMemory(keySerializer, entryPosition);
     return getBinaryValue(entryPosition, keyLen);
   }
 
   public boolean isLeaf() {
-    return getByteValue(IS_LEAF_OFFSET) > 0;
+    return (getByteValue(IS_LEAF_OFFSET) & LEAF_FLAG) != 0;
   }
 
   public void addAll(final List<byte[]> rawEntries, final OBinarySerializer<K> keySerializer) {
-    final int currentSize = size();
-    for (int i = 0; i < rawEntries.size(); i++) {
-      appendRawEntry(i + currentSize, rawEntries.get(i));
-    }
+    startPageOperation(new AddAllPO(rawEntries));
+    try {
+      if (isPrefixCompressed()) {
+        final List<byte[]> entries = getRawEntries(size());
+        entries.addAll(rawEntries);
+        if (!rebuildCompressedPage(entries)) {
+          throw new IllegalStateException("Entries do not fit into the bucket");
+        }
+        return;
+      }
 
-    setSize(rawEntries.size() + currentSize);
+      final int currentSize = size();
+      for (int i = 0; i < rawEntries.size(); i++) {
+        appendRawEntry(i + currentSize, rawEntries.get(i));
+      }
+
+      setSize(rawEntries.size() + currentSize);
+    } finally {
+      endPageOperation();
+    }
   }
 
   public void shrink(final int newSize, final OBinarySerializer<K> keySerializer) {
+    if (isPrefixCompressed()) {
+      final boolean result = rebuildCompressedPage(getRawEntries(newSize));
+      assert result;
+      return;
+    }
+
     final int currentSize = size();
     final List<byte[]> rawEntries = new ArrayList<>(newSize);
     final List<byte[]> removedEntries = new ArrayList<>(currentSize - newSize);
@@ -396,9 +791,25 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
 
   public boolean addLeafEntry(
       final int index, final byte[] serializedKey, final byte[] serializedValue) {
-    final int entrySize = serializedKey.length + serializedValue.length;
+    startPageOperation(new AddLeafEntryPO(index, serializedKey, serializedValue));
+    try {
+      return doAddLeafEntry(index, serializedKey, serializedValue);
+    } finally {
+      endPageOperation();
+    }
+  }
 
+  private boolean doAddLeafEntry(
+      final int index, final byte[] serializedKey, final byte[] serializedValue) {
     assert isLeaf();
+
+    if (isPrefixCompressed()) {
+      final byte[] rawEntry = Arrays.copyOf(serializedKey, serializedKey.length + RID_SIZE);
+      System.arraycopy(serializedValue, 0, rawEntry, serializedKey.length, RID_SIZE);
+      return addCompressedEntry(index, rawEntry);
+    }
+
+    final int entrySize = serializedKey.length + serializedValue.length;
     final int size = getSize();
 
     int freePointer = getFreePointer();
@@ -453,32 +864,55 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
 
   public boolean addNonLeafEntry(
       final int index, final int leftChildIndex, final int newRightChildIndex, final byte[] key) {
+    startPageOperation(new AddNonLeafEntryPO(index, leftChildIndex, newRightChildIndex, key));
+    try {
+      return doAddNonLeafEntry(index, leftChildIndex, newRightChildIndex, key);
+    } finally {
+      endPageOperation();
+    }
+  }
+
+  private boolean doAddNonLeafEntry(
+      final int index, final int leftChildIndex, final int newRightChildIndex, final byte[] key) {
     assert !isLeaf();
 
-    final int keySize = key.length;
+    int size = size();
 
-    final int entrySize = keySize + 2 * OIntegerSerializer.INT_SIZE;
+    if (isPrefixCompressed()) {
+      final byte[] rawEntry = new byte[CHILDREN_SIZE + key.length];
+      OIntegerSerializer.INSTANCE.serializeNative(leftChildIndex, rawEntry, 0);
+      OIntegerSerializer.INSTANCE.serializeNative(
+          newRightChildIndex, rawEntry, OIntegerSerializer.INT_SIZE);
+      System.arraycopy(key, 0, rawEntry, CHILDREN_SIZE, key.length);
 
-    int size = size();
-    int freePointer = getFreePointer();
-    if (doesOverflow(entrySize, 1)) {
-      return false;
-    }
+      if (!addCompressedEntry(index, rawEntry)) {
+        return false;
+      }
+    } else {
+      final int keySize = key.length;
 
-    if (index <= size - 1) {
-      shiftPointers(index, index + 1, size - index);
-    }
+      final int entrySize = keySize + 2 * OIntegerSerializer.INT_SIZE;
 
-    freePointer -= entrySize;
+      int freePointer = getFreePointer();
+      if (doesOverflow(entrySize, 1)) {
+        return false;
+      }
 
-    setFreePointer(freePointer);
-    setPointer(index, freePointer);
-    setSize(size + 1);
+      if (index <= size - 1) {
+        shiftPointers(index, index + 1, size - index);
+      }
 
-    freePointer += setIntValue(freePointer, leftChildIndex);
-    freePointer += setIntValue(freePointer, newRightChildIndex);
+      freePointer -= entrySize;
 
-    setBinaryValue(freePointer, key);
+      setFreePointer(freePointer);
+      setPointer(index, freePointer);
+      setSize(size + 1);
+
+      freePointer += setIntValue(freePointer, leftChildIndex);
+      freePointer += setIntValue(freePointer, newRightChildIndex);
+
+      setBinaryValue(freePointer, key);
+    }
 
     size++;
 
@@ -499,6 +933,16 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
       throw new IllegalStateException("Update key is applied to non-leaf buckets only");
     }
 
+    if (isPrefixCompressed()) {
+      final List<byte[]> rawEntries = getRawEntries(size());
+      final byte[] rawEntry = new byte[CHILDREN_SIZE + key.length];
+      System.arraycopy(rawEntries.get(entryIndex), 0, rawEntry, 0, CHILDREN_SIZE);
+      System.arraycopy(key, 0, rawEntry, CHILDREN_SIZE, key.length);
+      rawEntries.set(entryIndex, rawEntry);
+
+      return rebuildCompressedPage(rawEntries);
+    }
+
     final int entryPosition = getPointer(entryIndex);
     final int keySize =
         getObjectSizeInDirectMemory(keySerializer, entryPosition + 2 * OIntegerSerializer.INT_SIZE);
@@ -539,15 +983,31 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
   }
 
   public void updateValue(final int index, final byte[] value, int keyLenght) {
-    int entryPosition = getPointer(index);
-    if (!isLeaf()) {
-      entryPosition += 2 * OIntegerSerializer.INT_SIZE;
+    startPageOperation(new UpdateValuePO(index, value, keyLenght));
+    try {
+      int entryPosition = getPointer(index);
+      if (isPrefixCompressed()) {
+        assert isLeaf();
+        setBinaryValue(getCompressedValuePosition(entryPosition), value);
+        return;
+      }
+
+      if (!isLeaf()) {
+        entryPosition += 2 * OIntegerSerializer.INT_SIZE;
+      }
+      setBinaryValue(entryPosition + keyLenght, value);
+    } finally {
+      endPageOperation();
     }
-    setBinaryValue(entryPosition + keyLenght, value);
   }
 
   public void setLeftSibling(final long pageIndex) {
-    setLongValue(LEFT_SIBLING_OFFSET, pageIndex);
+    startPageOperation(new SetLeftSiblingPO(pageIndex));
+    try {
+      setLongValue(LEFT_SIBLING_OFFSET, pageIndex);
+    } finally {
+      endPageOperation();
+    }
   }
 
   public long getLeftSibling() {
@@ -555,7 +1015,12 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
   }
 
   public void setRightSibling(final long pageIndex) {
-    setLongValue(RIGHT_SIBLING_OFFSET, pageIndex);
+    startPageOperation(new SetRightSiblingPO(pageIndex));
+    try {
+      setLongValue(RIGHT_SIBLING_OFFSET, pageIndex);
+    } finally {
+      endPageOperation();
+    }
   }
 
   public int getNextFreeListPage() {
@@ -586,4 +1051,277 @@ public final class CellBTreeSingleValueBucketV3<K> extends ODurablePage {
     return freePointer - requiredDataSpace
         < (size + requirePointerSpace) * OIntegerSerializer.INT_SIZE + POSITIONS_ARRAY_OFFSET;
   }
+
+  private int getKeyHeaderSize() {
+    return getByteValue(KEY_HEADER_SIZE_OFFSET) & 0xFF;
+  }
+
+  private int getPrefixLength() {
+    return getUnsignedShort(PREFIX_LENGTH_OFFSET);
+  }
+
+  private int getSlotsOffset() {
+    return PREFIX_OFFSET + getPrefixLength();
+  }
+
+  private int getSlot(final int slotsOffset, final int index) {
+    return getUnsignedShort(slotsOffset + index * OShortSerializer.SHORT_SIZE);
+  }
+
+  private void setSlot(final int slotsOffset, final int index, final int position) {
+    setShortValue(slotsOffset + index * OShortSerializer.SHORT_SIZE, (short) position);
+  }
+
+  private int getUnsignedShort(final int pageOffset) {
+    return getShortValue(pageOffset) & 0xFFFF;
+  }
+
+  /**
+   * Restores full serialized key from the key stored in prefix compressed format, key header is
+   * followed by the common prefix and by the rest of the stored key.
+   */
+  private byte[] getCompressedKey(final int keyPosition) {
+    final int storedKeyLength = getUnsignedShort(keyPosition);
+    final byte[] storedKey =
+        getBinaryValue(keyPosition + OShortSerializer.SHORT_SIZE, storedKeyLength);
+
+    final int prefixLength = getPrefixLength();
+    if (prefixLength == 0) {
+      return storedKey;
+    }
+
+    final int headerSize = Math.min(getKeyHeaderSize(), storedKeyLength);
+    final byte[] key = new byte[storedKeyLength + prefixLength];
+    System.arraycopy(storedKey, 0, key, 0, headerSize);
+    System.arraycopy(getBinaryValue(PREFIX_OFFSET, prefixLength), 0, key, headerSize, prefixLength);
+    System.arraycopy(
+        storedKey, headerSize, key, headerSize + prefixLength, storedKeyLength - headerSize);
+    return key;
+  }
+
+  private int getCompressedValuePosition(final int entryPosition) {
+    return entryPosition + OShortSerializer.SHORT_SIZE + getUnsignedShort(entryPosition);
+  }
+
+  private int getCompressedEntrySize(final int entryPosition) {
+    if (isLeaf()) {
+      return OShortSerializer.SHORT_SIZE + getUnsignedShort(entryPosition) + RID_SIZE;
+    }
+
+    return CHILDREN_SIZE
+        + OShortSerializer.SHORT_SIZE
+        + getUnsignedShort(entryPosition + CHILDREN_SIZE);
+  }
+
+  private List<byte[]> getRawEntries(final int count) {
+    final List<byte[]> rawEntries = new ArrayList<>(count + 1);
+    for (int i = 0; i < count; i++) {
+      rawEntries.add(getRawEntry(i, null));
+    }
+
+    return rawEntries;
+  }
+
+  /**
+   * Adds entry to the bucket in prefix compressed format. If key of the entry does not start with
+   * the common prefix of the bucket, the bucket is rebuilt using the shorter prefix.
+   *
+   * @param rawEntry entry in the original format.
+   */
+  private boolean addCompressedEntry(final int index, final byte[] rawEntry) {
+    final boolean isLeaf = isLeaf();
+    final int size = getSize();
+    final int keyHeaderSize = getKeyHeaderSize();
+    final int prefixLength = getPrefixLength();
+
+    final int keyOffset = isLeaf ? 0 : CHILDREN_SIZE;
+    final int keyLength = rawEntry.length - (isLeaf ? RID_SIZE : CHILDREN_SIZE);
+    final int headerSize = Math.min(keyHeaderSize, keyLength);
+
+    if (size == 0
+        || keyLength - headerSize < prefixLength
+        || compareBinaryValue(
+                PREFIX_OFFSET, prefixLength, rawEntry, keyOffset + headerSize, prefixLength)
+            != 0) {
+      final List<byte[]> rawEntries = getRawEntries(size);
+      rawEntries.add(index, rawEntry);
+
+      return rebuildCompressedPage(rawEntries);
+    }
+
+    final byte[] entry = compressEntry(rawEntry, isLeaf, keyHeaderSize, prefixLength);
+    final int slotsOffset = PREFIX_OFFSET + prefixLength;
+
+    int freePointer = getFreePointer();
+    if (freePointer - entry.length < slotsOffset + (size + 1) * OShortSerializer.SHORT_SIZE) {
+      return false;
+    }
+
+    if (index < size) {
+      moveData(
+          slotsOffset + index * OShortSerializer.SHORT_SIZE,
+          slotsOffset + (index + 1) * OShortSerializer.SHORT_SIZE,
+          (size - index) * OShortSerializer.SHORT_SIZE);
+    }
+
+    freePointer -= entry.length;
+
+    setFreePointer(freePointer);
+    setSlot(slotsOffset, index, freePointer);
+    setSize(size + 1);
+
+    setBinaryValue(freePointer, entry);
+
+    return true;
+  }
+
+  /**
+   * Rewrites content of the bucket in prefix compressed format using the longest common prefix of
+   * the passed in entries. Content of the bucket is not changed if entries do not fit into it.
+   *
+   * @param rawEntries entries in the original format.
+   * @return <code>true</code> if entries fit into the bucket.
+   */
+  private boolean rebuildCompressedPage(final List<byte[]> rawEntries) {
+    final boolean isLeaf = isLeaf();
+    final int keyHeaderSize = getKeyHeaderSize();
+    final byte[] prefixSource = rawEntries.isEmpty() ? null : rawEntries.get(0);
+    int prefixLength = 0;
+    int rawEntriesSize = 0;
+
+    for (int i = 0; i < rawEntries.size(); i++) {
+      final byte[] rawEntry = rawEntries.get(i);
+      if (i == 0) {
+        prefixLength = keyBodyLength(rawEntry, isLeaf, keyHeaderSize);
+      } else {
+        prefixLength =
+            Math.min(
+                prefixLength, commonPrefixLength(prefixSource, rawEntry, isLeaf, keyHeaderSize));
+      }
+
+      rawEntriesSize += rawEntry.length;
+    }
+
+    if (calculateOccupiedSpace(keyHeaderSize, rawEntries.size(), rawEntriesSize, prefixLength)
+        > MAX_PAGE_SIZE_BYTES) {
+      return false;
+    }
+
+    setShortValue(PREFIX_LENGTH_OFFSET, (short) prefixLength);
+    if (prefixLength > 0) {
+      final int prefixOffset = keyBodyOffset(prefixSource, isLeaf, keyHeaderSize);
+      setBinaryValue(
+          PREFIX_OFFSET,
+          Arrays.copyOfRange(prefixSource, prefixOffset, prefixOffset + prefixLength));
+    }
+
+    final int slotsOffset = PREFIX_OFFSET + prefixLength;
+    int freePointer = MAX_PAGE_SIZE_BYTES;
+    for (int i = 0; i < rawEntries.size(); i++) {
+      final byte[] entry = compressEntry(rawEntries.get(i), isLeaf, keyHeaderSize, prefixLength);
+      freePointer -= entry.length;
+
+      setBinaryValue(freePointer, entry);
+      setSlot(slotsOffset, i, freePointer);
+    }
+
+    setFreePointer(freePointer);
+    setSize(rawEntries.size());
+
+    return true;
+  }
+
+  /**
+   * Calculates space of the page which is occupied by the entries stored in the bucket.
+   *
+   * @param keyHeaderSize size of key header of prefix compressed bucket or <code>-1</code> for the
+   *     bucket in the original format.
+   * @param rawEntriesSize total size of entries in the original format.
+   * @param prefixLength length of the common prefix of keys, ignored for the original format.
+   */
+  static int calculateOccupiedSpace(
+      final int keyHeaderSize,
+      final int entriesCount,
+      final int rawEntriesSize,
+      final int prefixLength) {
+    if (keyHeaderSize < 0) {
+      return POSITIONS_ARRAY_OFFSET + entriesCount * OIntegerSerializer.INT_SIZE + rawEntriesSize;
+    }
+
+    return PREFIX_OFFSET
+        + prefixLength
+        + entriesCount * (2 * OShortSerializer.SHORT_SIZE - prefixLength)
+        + rawEntriesSize;
+  }
+
+  /**
+   * Returns length of the longest common prefix of keys of two entries in the original format, key
+   * headers are not included in the prefix.
+   */
+  static int commonPrefixLength(
+      final byte[] rawEntry,
+      final byte[] otherRawEntry,
+      final boolean isLeaf,
+      final int keyHeaderSize) {
+    final int offset = keyBodyOffset(rawEntry, isLeaf, keyHeaderSize);
+    final int length = keyBodyLength(rawEntry, isLeaf, keyHeaderSize);
+    final int otherOffset = keyBodyOffset(otherRawEntry, isLeaf, keyHeaderSize);
+    final int otherLength = keyBodyLength(otherRawEntry, isLeaf, keyHeaderSize);
+
+    final int mismatch =
+        Arrays.mismatch(
+            rawEntry,
+            offset,
+            offset + length,
+            otherRawEntry,
+            otherOffset,
+            otherOffset + otherLength);
+    return mismatch < 0 ? length : mismatch;
+  }
+
+  /** Returns length of the key of entry in the original format without the key header. */
+  static int keyBodyLength(final byte[] rawEntry, final boolean isLeaf, final int keyHeaderSize) {
+    final int keyLength = rawEntry.length - (isLeaf ? RID_SIZE : CHILDREN_SIZE);
+    return keyLength - Math.min(keyHeaderSize, keyLength);
+  }
+
+  private static int keyBodyOffset(
+      final byte[] rawEntry, final boolean isLeaf, final int keyHeaderSize) {
+    final int keyLength = rawEntry.length - (isLeaf ? RID_SIZE : CHILDREN_SIZE);
+    return (isLeaf ? 0 : CHILDREN_SIZE) + Math.min(keyHeaderSize, keyLength);
+  }
+
+  /**
+   * Converts entry from the original format to the prefix compressed one. Common prefix which
+   * follows the key header is removed from the key and the length of the stored part of the key is
+   * written before it.
+   */
+  private static byte[] compressEntry(
+      final byte[] rawEntry,
+      final boolean isLeaf,
+      final int keyHeaderSize,
+      final int prefixLength) {
+    final int keyOffset = isLeaf ? 0 : CHILDREN_SIZE;
+    final int keyLength = rawEntry.length - (isLeaf ? RID_SIZE : CHILDREN_SIZE);
+    final int headerSize = Math.min(keyHeaderSize, keyLength);
+    final int storedKeyLength = keyLength - prefixLength;
+
+    final byte[] entry = new byte[rawEntry.length + OShortSerializer.SHORT_SIZE - prefixLength];
+    int position = 0;
+    if (!isLeaf) {
+      System.arraycopy(rawEntry, 0, entry, 0, CHILDREN_SIZE);
+      position += CHILDREN_SIZE;
+    }
+
+    OShortSerializer.INSTANCE.serializeNative((short) storedKeyLength, entry, position);
+    position += OShortSerializer.SHORT_SIZE;
+
+    System.arraycopy(rawEntry, keyOffset, entry, position, headerSize);
+    position += headerSize;
+
+    final int bodyOffset = keyOffset + headerSize + prefixLength;
+    System.arraycopy(rawEntry, bodyOffset, entry, position, rawEntry.length - bodyOffset);
+
+    return entry;
+  }
 }
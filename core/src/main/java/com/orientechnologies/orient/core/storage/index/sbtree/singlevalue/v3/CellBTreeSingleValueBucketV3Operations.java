@@ -0,0 +1,416 @@
+package com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3;
+
+import com.orientechnologies.common.serialization.types.OByteSerializer;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OPageOperation;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.PageOperationTypes;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Logical WAL operations of {@link CellBTreeSingleValueBucketV3}. */
+public final class CellBTreeSingleValueBucketV3Operations {
+  private CellBTreeSingleValueBucketV3Operations() {}
+
+  private static CellBTreeSingleValueBucketV3<Object> bucket(final OCacheEntry cacheEntry) {
+    return new CellBTreeSingleValueBucketV3<>(cacheEntry);
+  }
+
+  public static final class InitPO extends OPageOperation {
+    /**
+     * Size of key header is stored in the same byte as flags of the bucket, so records of the
+     * buckets which are not prefix compressed have the same format as before.
+     */
+    static final int MAX_KEY_HEADER_SIZE = 0x3F;
+
+    private static final int LEAF_FLAG = 1;
+    private static final int PREFIX_COMPRESSION_FLAG = 2;
+
+    private boolean isLeaf;
+    private boolean prefixCompressed;
+    private int keyHeaderSize;
+
+    public InitPO() {}
+
+    InitPO(final boolean isLeaf) {
+      this.isLeaf = isLeaf;
+    }
+
+    InitPO(final boolean isLeaf, final int keyHeaderSize) {
+      this.isLeaf = isLeaf;
+      this.prefixCompressed = true;
+      this.keyHeaderSize = keyHeaderSize;
+    }
+
+    @Override
+    public int getId() {
+      return PageOperationTypes.CELL_BTREE_BUCKET_SINGLE_VALUE_V3_INIT;
+    }
+
+    @Override
+    public int serializedSize() {
+      return OByteSerializer.BYTE_SIZE;
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {
+      int flags = isLeaf ? LEAF_FLAG : 0;
+      if (prefixCompressed) {
+        flags |= PREFIX_COMPRESSION_FLAG | keyHeaderSize << 2;
+      }
+
+      buffer.put((byte) flags);
+    }
+
+    @Override
+    public void fromStream(final ByteBuffer buffer) {
+      final int flags = buffer.get() & 0xFF;
+      isLeaf = (flags & LEAF_FLAG) != 0;
+      prefixCompressed = (flags & PREFIX_COMPRESSION_FLAG) != 0;
+      keyHeaderSize = flags >>> 2;
+    }
+
+    @Override
+    public void redo(final OCacheEntry cacheEntry) {
+      if (prefixCompressed) {
+        bucket(cacheEntry).init(isLeaf, keyHeaderSize);
+      } else {
+        bucket(cacheEntry).init(isLeaf);
+      }
+    }
+  }
+
+  public static final class AddLeafEntryPO extends OPageOperation {
+    private int index;
+    private byte[] key;
+    private byte[] value;
+
+    public AddLeafEntryPO() {}
+
+    AddLeafEntryPO(final int index, final byte[] key, final byte[] value) {
+      this.index = index;
+      this.key = key;
+      this.value = value;
+    }
+
+    @Override
+    public int getId() {
+      return PageOperationTypes.CELL_BTREE_BUCKET_SINGLE_VALUE_V3_ADD_LEAF_ENTRY;
+    }
+
+    @Override
+    public int serializedSize() {
+      return OIntegerSerializer.INT_SIZE + serializedBytesSize(key) + serializedBytesSize(value);
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {
+      buffer.putInt(index);
+      serializeBytes(buffer, key);
+      serializeBytes(buffer, value);
+    }
+
+    @Override
+    public void fromStream(final ByteBuffer buffer) {
+      index = buffer.getInt();
+      key = deserializeBytes(buffer);
+      value = deserializeBytes(buffer);
+    }
+
+    @Override
+    public void redo(final OCacheEntry cacheEntry) {
+      bucket(cacheEntry).addLeafEntry(index, key, value);
+    }
+  }
+
+  public static final class AddNonLeafEntryPO extends OPageOperation {
+    private int index;
+    private int leftChild;
+    private int rightChild;
+    private byte[] key;
+
+    public AddNonLeafEntryPO() {}
+
+    AddNonLeafEntryPO(
+        final int index, final int leftChild, final int rightChild, final byte[] key) {
+      this.index = index;
+      this.leftChild = leftChild;
+      this.rightChild = rightChild;
+      this.key = key;
+    }
+
+    @Override
+    public int getId() {
+      return PageOperationTypes.CELL_BTREE_BUCKET_SINGLE_VALUE_V3_ADD_NON_LEAF_ENTRY;
+    }
+
+    @Override
+    public int serializedSize() {
+      return 3 * OIntegerSerializer.INT_SIZE + serializedBytesSize(key);
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {
+      buffer.putInt(index);
+      buffer.putInt(leftChild);
+      buffer.putInt(rightChild);
+      serializeBytes(buffer, key);
+    }
+
+    @Override
+    public void fromStream(final ByteBuffer buffer) {
+      index = buffer.getInt();
+      leftChild = buffer.getInt();
+      rightChild = buffer.getInt();
+      key = deserializeBytes(buffer);
+    }
+
+    @Override
+    public void redo(final OCacheEntry cacheEntry) {
+      bucket(cacheEntry).addNonLeafEntry(index, leftChild, rightChild, key);
+    }
+  }
+
+  public static final class RemoveLeafEntryPO extends OPageOperation {
+    private int index;
+    private int keySize;
+
+    public RemoveLeafEntryPO() {}
+
+    RemoveLeafEntryPO(final int index, final int keySize) {
+      this.index = index;
+      this.keySize = keySize;
+    }
+
+    @Override
+    public int getId() {
+      return PageOperationTypes.CELL_BTREE_BUCKET_SINGLE_VALUE_V3_REMOVE_LEAF_ENTRY;
+    }
+
+    @Override
+    public int serializedSize() {
+      return 2 * OIntegerSerializer.INT_SIZE;
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {
+      buffer.putInt(index);
+      buffer.putInt(keySize);
+    }
+
+    @Override
+    public void fromStream(final ByteBuffer buffer) {
+      index = buffer.getInt();
+      keySize = buffer.getInt();
+    }
+
+    @Override
+    public void redo(final OCacheEntry cacheEntry) {
+      bucket(cacheEntry).removeLeafEntry(index, keySize);
+    }
+  }
+
+  public static final class RemoveNonLeafEntryPO extends OPageOperation {
+    private int index;
+    private int keySize;
+    private boolean removeLeftChildPointer;
+
+    public RemoveNonLeafEntryPO() {}
+
+    RemoveNonLeafEntryPO(final int index, final int keySize, final boolean removeLeftChildPointer) {
+      this.index = index;
+      this.keySize = keySize;
+      this.removeLeftChildPointer = removeLeftChildPointer;
+    }
+
+    @Override
+    public int getId() {
+      return PageOperationTypes.CELL_BTREE_BUCKET_SINGLE_VALUE_V3_REMOVE_NON_LEAF_ENTRY;
+    }
+
+    @Override
+    public int serializedSize() {
+      return 2 * OIntegerSerializer.INT_SIZE + OByteSerializer.BYTE_SIZE;
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {
+      buffer.putInt(index);
+      buffer.putInt(keySize);
+      buffer.put(removeLeftChildPointer ? (byte) 1 : 0);
+    }
+
+    @Override
+    public void fromStream(final ByteBuffer buffer) {
+      index = buffer.getInt();
+      keySize = buffer.getInt();
+      removeLeftChildPointer = buffer.get() > 0;
+    }
+
+    @Override
+    public void redo(final OCacheEntry cacheEntry) {
+      bucket(cacheEntry).removeNonLeafEntry(index, keySize, removeLeftChildPointer);
+    }
+  }
+
+  public static final class UpdateValuePO extends OPageOperation {
+    private int index;
+    private byte[] value;
+    private int keySize;
+
+    public UpdateValuePO() {}
+
+    UpdateValuePO(final int index, final byte[] value, final int keySize) {
+      this.index = index;
+      this.value = value;
+      this.keySize = keySize;
+    }
+
+    @Override
+    public int getId() {
+      return PageOperationTypes.CELL_BTREE_BUCKET_SINGLE_VALUE_V3_UPDATE_VALUE;
+    }
+
+    @Override
+    public int serializedSize() {
+      return 2 * OIntegerSerializer.INT_SIZE + serializedBytesSize(value);
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {
+      buffer.putInt(index);
+      buffer.putInt(keySize);
+      serializeBytes(buffer, value);
+    }
+
+    @Override
+    public void fromStream(final ByteBuffer buffer) {
+      index = buffer.getInt();
+      keySize = buffer.getInt();
+      value = deserializeBytes(buffer);
+    }
+
+    @Override
+    public void redo(final OCacheEntry cacheEntry) {
+      bucket(cacheEntry).updateValue(index, value, keySize);
+    }
+  }
+
+  public static final class AddAllPO extends OPageOperation {
+    private List<byte[]> rawEntries;
+
+    public AddAllPO() {}
+
+    AddAllPO(final List<byte[]> rawEntries) {
+      this.rawEntries = rawEntries;
+    }
+
+    @Override
+    public int getId() {
+      return PageOperationTypes.CELL_BTREE_BUCKET_SINGLE_VALUE_V3_ADD_ALL;
+    }
+
+    @Override
+    public int serializedSize() {
+      int size = OIntegerSerializer.INT_SIZE;
+      for (final byte[] rawEntry : rawEntries) {
+        size += serializedBytesSize(rawEntry);
+      }
+      return size;
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {
+      buffer.putInt(rawEntries.size());
+      for (final byte[] rawEntry : rawEntries) {
+        serializeBytes(buffer, rawEntry);
+      }
+    }
+
+    @Override
+    public void fromStream(final ByteBuffer buffer) {
+      final int size = buffer.getInt();
+      rawEntries = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        rawEntries.add(deserializeBytes(buffer));
+      }
+    }
+
+    @Override
+    public void redo(final OCacheEntry cacheEntry) {
+      bucket(cacheEntry).addAll(rawEntries, null);
+    }
+  }
+
+  public static final class SetLeftSiblingPO extends OPageOperation {
+    private long pageIndex;
+
+    public SetLeftSiblingPO() {}
+
+    SetLeftSiblingPO(final long pageIndex) {
+      this.pageIndex = pageIndex;
+    }
+
+    @Override
+    public int getId() {
+      return PageOperationTypes.CELL_BTREE_BUCKET_SINGLE_VALUE_V3_SET_LEFT_SIBLING;
+    }
+
+    @Override
+    public int serializedSize() {
+      return OLongSerializer.LONG_SIZE;
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {
+      buffer.putLong(pageIndex);
+    }
+
+    @Override
+    public void fromStream(final ByteBuffer buffer) {
+      pageIndex = buffer.getLong();
+    }
+
+    @Override
+    public void redo(final OCacheEntry cacheEntry) {
+      bucket(cacheEntry).setLeftSibling(pageIndex);
+    }
+  }
+
+  public static final class SetRightSiblingPO extends OPageOperation {
+    private long pageIndex;
+
+    public SetRightSiblingPO() {}
+
+    SetRightSiblingPO(final long pageIndex) {
+      this.pageIndex = pageIndex;
+    }
+
+    @Override
+    public int getId() {
+      return PageOperationTypes.CELL_BTREE_BUCKET_SINGLE_VALUE_V3_SET_RIGHT_SIBLING;
+    }
+
+    @Override
+    public int serializedSize() {
+      return OLongSerializer.LONG_SIZE;
+    }
+
+    @Override
+    public void toStream(final ByteBuffer buffer) {
+      buffer.putLong(pageIndex);
+    }
+
+    @Override
+    public void fromStream(final ByteBuffer buffer) {
+      pageIndex = buffer.getLong();
+    }
+
+    @Override
+    public void redo(final OCacheEntry cacheEntry) {
+      bucket(cacheEntry).setRightSibling(pageIndex);
+    }
+  }
+}
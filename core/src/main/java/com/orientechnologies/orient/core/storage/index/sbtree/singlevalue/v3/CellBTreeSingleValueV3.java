@@ -22,9 +22,14 @@ package com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3;
 
 import com.orientechnologies.common.comparator.ODefaultComparator;
 import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.function.TxConsumer;
 import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.serialization.types.OBinaryTypeSerializer;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
 import com.orientechnologies.common.serialization.types.OLongSerializer;
 import com.orientechnologies.common.serialization.types.OShortSerializer;
+import com.orientechnologies.common.serialization.types.OStringSerializer;
+import com.orientechnologies.common.serialization.types.OUTF8Serializer;
 import com.orientechnologies.common.util.ORawPair;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.encryption.OEncryption;
@@ -37,6 +42,7 @@ import com.orientechnologies.orient.core.index.comparator.OAlwaysGreaterKey;
 import com.orientechnologies.orient.core.index.comparator.OAlwaysLessKey;
 import com.orientechnologies.orient.core.index.engine.IndexEngineValidator;
 import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.index.OCompositeKeySerializer;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperation;
@@ -89,9 +95,24 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
   private static final int MAX_PATH_LENGTH =
       OGlobalConfiguration.SBTREE_MAX_DEPTH.getValueAsInteger();
 
+  /** Amount of buckets which are written in single atomic operation during bulk load. */
+  private static final int BULK_LOAD_BUCKETS_PER_OPERATION = 64;
+
   private static final int ENTRY_POINT_INDEX = 0;
   private static final long ROOT_INDEX = 1;
-  final Comparator<? super K> comparator = ODefaultComparator.INSTANCE;
+  final Comparator<? super K> comparator;
+
+  /**
+   * Whether keys are byte arrays serialized by {@link OBinaryTypeSerializer} which are compared
+   * directly inside of the buckets.
+   */
+  private final boolean binaryKeys;
+
+  /**
+   * Whether new buckets may be created in prefix compressed format, is set only for trees of index
+   * engines which versions support this format, so files of existing indexes keep the original one.
+   */
+  private final boolean prefixCompression;
 
   private final String nullFileExtension;
   private long fileId;
@@ -100,20 +121,81 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
   private OBinarySerializer<K> keySerializer;
   private OType[] keyTypes;
 
+  /**
+   * Size of the key header of new prefix compressed buckets or <code>-1</code> if new buckets are
+   * created in the original format.
+   */
+  private int bucketKeyHeaderSize = -1;
+
   public CellBTreeSingleValueV3(
       final String name,
       final String dataFileExtension,
       final String nullFileExtension,
       final OAbstractPaginatedStorage storage) {
+    this(name, dataFileExtension, nullFileExtension, storage, false);
+  }
+
+  /**
+   * @param prefixCompression whether new buckets are created in prefix compressed format if it is
+   *     enabled by {@link OGlobalConfiguration#SBTREE_PREFIX_COMPRESSION}.
+   */
+  public CellBTreeSingleValueV3(
+      final String name,
+      final String dataFileExtension,
+      final String nullFileExtension,
+      final OAbstractPaginatedStorage storage,
+      final boolean prefixCompression) {
+    this(
+        name,
+        dataFileExtension,
+        nullFileExtension,
+        storage,
+        ODefaultComparator.INSTANCE,
+        false,
+        prefixCompression);
+  }
+
+  private CellBTreeSingleValueV3(
+      final String name,
+      final String dataFileExtension,
+      final String nullFileExtension,
+      final OAbstractPaginatedStorage storage,
+      final Comparator<? super K> comparator,
+      final boolean binaryKeys,
+      final boolean prefixCompression) {
     super(storage, name, dataFileExtension, name + dataFileExtension);
     acquireExclusiveLock();
     try {
       this.nullFileExtension = nullFileExtension;
+      this.comparator = comparator;
+      this.binaryKeys = binaryKeys;
+      this.prefixCompression = prefixCompression;
     } finally {
       releaseExclusiveLock();
     }
   }
 
+  /**
+   * Creates tree which keys are byte arrays ordered lexicographically as sequences of unsigned
+   * bytes. Keys of such tree are compared directly inside of the pages during the search, without
+   * deserialization. Keys should be serialized by {@link OBinaryTypeSerializer}.
+   */
+  public static CellBTreeSingleValueV3<byte[]> createBinaryKeysTree(
+      final String name,
+      final String dataFileExtension,
+      final String nullFileExtension,
+      final OAbstractPaginatedStorage storage,
+      final boolean prefixCompression) {
+    return new CellBTreeSingleValueV3<>(
+        name,
+        dataFileExtension,
+        nullFileExtension,
+        storage,
+        Arrays::compareUnsigned,
+        true,
+        prefixCompression);
+  }
+
   public void create(
       final OAtomicOperation atomicOperation,
       final OBinarySerializer<K> keySerializer,
@@ -121,6 +203,7 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
       final int keySize,
       final OEncryption encryption) {
     assert keySerializer != null;
+    assert !binaryKeys || keySerializer instanceof OBinaryTypeSerializer;
 
     executeInsideComponentOperation(
         atomicOperation,
@@ -134,6 +217,7 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
               this.keyTypes = null;
             }
             this.keySerializer = keySerializer;
+            this.bucketKeyHeaderSize = bucketKeyHeaderSize(keySerializer);
 
             fileId = addFile(atomicOperation, getFullName());
             nullBucketFileId = addFile(atomicOperation, getName() + nullFileExtension);
@@ -148,7 +232,7 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
               @SuppressWarnings("unused")
               final CellBTreeSingleValueBucketV3<K> rootBucket =
                   new CellBTreeSingleValueBucketV3<>(rootCacheEntry);
-              rootBucket.init(true);
+              initBucket(rootBucket, true);
             }
 
             try (final OCacheEntry nullCacheEntry = addPage(atomicOperation, nullBucketFileId)) {
@@ -163,6 +247,38 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
         });
   }
 
+  /**
+   * Returns size of the first bytes of serialized key which contain its length and so are not
+   * included in the common prefix of keys of prefix compressed buckets.
+   */
+  private int bucketKeyHeaderSize(final OBinarySerializer<?> keySerializer) {
+    if (!prefixCompression
+        || !OGlobalConfiguration.SBTREE_PREFIX_COMPRESSION.getValueAsBoolean()
+        || !CellBTreeSingleValueBucketV3.isPrefixCompressionSupported()) {
+      return -1;
+    }
+
+    if (keySerializer instanceof OUTF8Serializer) {
+      return OShortSerializer.SHORT_SIZE;
+    }
+
+    if (keySerializer instanceof OStringSerializer
+        || keySerializer instanceof OBinaryTypeSerializer
+        || keySerializer instanceof OCompositeKeySerializer) {
+      return OIntegerSerializer.INT_SIZE;
+    }
+
+    return 0;
+  }
+
+  private void initBucket(final CellBTreeSingleValueBucketV3<K> bucket, final boolean isLeaf) {
+    if (bucketKeyHeaderSize >= 0) {
+      bucket.init(isLeaf, bucketKeyHeaderSize);
+    } else {
+      bucket.init(isLeaf);
+    }
+  }
+
   public ORID get(K key) {
     atomicOperationsManager.acquireReadLock(this);
     try {
@@ -219,6 +335,408 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
     return update(atomicOperation, key, value, validator);
   }
 
+  @Override
+  public boolean hasBulkLoadSupport() {
+    return true;
+  }
+
+  /**
+   * Fills the empty tree by the passed in entries which do not need to be sorted. Entries are
+   * sorted using external merge sort, then leaf buckets are filled one by one till they are full
+   * and non-leaf buckets are built bottom up from the first keys of buckets of the level below.
+   * Each bucket is filled by a single operation, so its content is logged in WAL only once.
+   *
+   * <p>Buckets are written in a series of atomic operations but they become reachable only when the
+   * root bucket is written by the last operation, so the tree stays empty if bulk load is
+   * interrupted. Method should not be called inside of the atomic operation.
+   *
+   * @param validator validator which is called for each key including the duplicated ones, if it
+   *     is <code>null</code> the last of duplicated entries is kept in the tree.
+   */
+  @Override
+  public void bulkLoad(
+      final Iterator<ORawPair<K, ORID>> entries, final IndexEngineValidator<K, ORID> validator) {
+    final long runSize =
+        OGlobalConfiguration.INDEX_BULK_LOAD_RUN_SIZE.getValueAsLong() * 1024 * 1024;
+    final List<ORawPair<K, ORID>> nullEntries = new ArrayList<>();
+
+    try (final CellBTreeSingleValueV3BulkLoadSorter<K> sorter =
+        new CellBTreeSingleValueV3BulkLoadSorter<>(keySerializer, comparator, runSize)) {
+      while (entries.hasNext()) {
+        final ORawPair<K, ORID> entry = entries.next();
+        if (entry.first == null) {
+          nullEntries.add(entry);
+          continue;
+        }
+
+        final K key = keySerializer.preprocess(entry.first, (Object[]) keyTypes);
+        final byte[] serializedKey = keySerializer.serializeNativeAsWhole(key, (Object[]) keyTypes);
+        if (serializedKey.length > MAX_KEY_SIZE) {
+          throw new OTooBigIndexKeyException(
+              "Key size is more than allowed, operation was canceled. Current key size "
+                  + serializedKey.length
+                  + ", allowed  "
+                  + MAX_KEY_SIZE,
+              getName());
+        }
+
+        sorter.add(key, leafRawEntry(serializedKey, entry.second));
+      }
+
+      final BulkLoader loader = new BulkLoader(validator);
+      final Iterator<ORawPair<K, byte[]>> sortedEntries = sorter.sortedEntries();
+      while (sortedEntries.hasNext()) {
+        final ORawPair<K, byte[]> entry = sortedEntries.next();
+        loader.add(entry.first, entry.second);
+      }
+      loader.complete();
+    } catch (final IOException e) {
+      throw OException.wrapException(
+          new CellBTreeSingleValueV3Exception(
+              "Error during bulk load of sbtree with name " + getName(), this),
+          e);
+    }
+
+    for (final ORawPair<K, ORID> entry : nullEntries) {
+      try {
+        atomicOperationsManager.executeInsideAtomicOperation(
+            null, atomicOperation -> update(atomicOperation, null, entry.second, validator));
+      } catch (final IOException e) {
+        throw OException.wrapException(
+            new CellBTreeSingleValueV3Exception(
+                "Error during bulk load of sbtree with name " + getName(), this),
+            e);
+      }
+    }
+  }
+
+  private static byte[] leafRawEntry(final byte[] serializedKey, final ORID value) {
+    final byte[] rawEntry =
+        new byte[serializedKey.length + OShortSerializer.SHORT_SIZE + OLongSerializer.LONG_SIZE];
+    System.arraycopy(serializedKey, 0, rawEntry, 0, serializedKey.length);
+    OShortSerializer.INSTANCE.serializeNative(
+        (short) value.getClusterId(), rawEntry, serializedKey.length);
+    OLongSerializer.INSTANCE.serializeNative(
+        value.getClusterPosition(), rawEntry, serializedKey.length + OShortSerializer.SHORT_SIZE);
+    return rawEntry;
+  }
+
+  private static ORID leafRawEntryValue(final byte[] rawEntry) {
+    final int valuePosition =
+        rawEntry.length - OShortSerializer.SHORT_SIZE - OLongSerializer.LONG_SIZE;
+    final int clusterId = OShortSerializer.INSTANCE.deserializeNative(rawEntry, valuePosition);
+    final long clusterPosition =
+        OLongSerializer.INSTANCE.deserializeNative(
+            rawEntry, valuePosition + OShortSerializer.SHORT_SIZE);
+    return new ORecordId(clusterId, clusterPosition);
+  }
+
+  private void executeBulkLoadOperation(final TxConsumer consumer) throws IOException {
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation ->
+            executeInsideComponentOperation(
+                atomicOperation,
+                operation -> {
+                  acquireExclusiveLock();
+                  try {
+                    consumer.accept(operation);
+                  } finally {
+                    releaseExclusiveLock();
+                  }
+                }));
+  }
+
+  /** Writes sorted entries of the bulk loaded tree into the buckets. */
+  private final class BulkLoader {
+    private final IndexEngineValidator<K, ORID> validator;
+
+    private final List<BulkLoadBucket> pendingLeaves = new ArrayList<>();
+    private final List<BulkLoadChild> leaves = new ArrayList<>();
+    private BulkLoadBucket leaf = new BulkLoadBucket(true, bucketKeyHeaderSize);
+    private int lastLeafIndex = -1;
+
+    private K pendingKey;
+    private byte[] pendingEntry;
+    private long treeSize;
+
+    private BulkLoader(final IndexEngineValidator<K, ORID> validator) {
+      this.validator = validator;
+    }
+
+    private void add(final K key, final byte[] rawEntry) throws IOException {
+      if (pendingEntry != null && comparator.compare(pendingKey, key) == 0) {
+        pendingEntry = validate(key, pendingEntry, rawEntry);
+        return;
+      }
+
+      if (pendingEntry != null) {
+        addToLeaf(pendingEntry);
+      }
+
+      pendingKey = key;
+      pendingEntry = validate(key, null, rawEntry);
+    }
+
+    private byte[] validate(final K key, final byte[] oldRawEntry, final byte[] rawEntry) {
+      if (validator == null) {
+        return rawEntry;
+      }
+
+      final Object result =
+          validator.validate(
+              key,
+              oldRawEntry != null ? leafRawEntryValue(oldRawEntry) : null,
+              leafRawEntryValue(rawEntry));
+      if (result == IndexEngineValidator.IGNORE) {
+        return oldRawEntry;
+      }
+
+      final int keyLength =
+          rawEntry.length - OShortSerializer.SHORT_SIZE - OLongSerializer.LONG_SIZE;
+      return leafRawEntry(Arrays.copyOf(rawEntry, keyLength), (ORID) result);
+    }
+
+    private void addToLeaf(final byte[] rawEntry) throws IOException {
+      treeSize++;
+      if (leaf.add(rawEntry)) {
+        return;
+      }
+
+      pendingLeaves.add(leaf);
+      if (pendingLeaves.size() >= BULK_LOAD_BUCKETS_PER_OPERATION) {
+        leaves.addAll(writeBuckets(pendingLeaves));
+        pendingLeaves.clear();
+      }
+
+      leaf = new BulkLoadBucket(true, bucketKeyHeaderSize);
+      final boolean added = leaf.add(rawEntry);
+      assert added;
+    }
+
+    private void complete() throws IOException {
+      if (pendingEntry != null) {
+        addToLeaf(pendingEntry);
+        pendingEntry = null;
+      }
+
+      if (leaves.isEmpty() && pendingLeaves.isEmpty()) {
+        writeRoot(leaf);
+        return;
+      }
+
+      if (!leaf.rawEntries.isEmpty()) {
+        pendingLeaves.add(leaf);
+      }
+      leaves.addAll(writeBuckets(pendingLeaves));
+      pendingLeaves.clear();
+
+      List<BulkLoadChild> children = leaves;
+      while (true) {
+        final List<BulkLoadBucket> buckets = buildNonLeafLevel(children);
+        if (buckets.size() == 1) {
+          writeRoot(buckets.get(0));
+          return;
+        }
+
+        final List<BulkLoadChild> levelChildren = new ArrayList<>(buckets.size());
+        for (int i = 0; i < buckets.size(); i += BULK_LOAD_BUCKETS_PER_OPERATION) {
+          final int end = Math.min(i + BULK_LOAD_BUCKETS_PER_OPERATION, buckets.size());
+          levelChildren.addAll(writeBuckets(buckets.subList(i, end)));
+        }
+        children = levelChildren;
+      }
+    }
+
+    /**
+     * Builds level of non-leaf buckets above the passed in children. Each bucket contains entries
+     * for all children covered by it except the first one, first key of the first child is moved
+     * to the level above.
+     */
+    private List<BulkLoadBucket> buildNonLeafLevel(final List<BulkLoadChild> children) {
+      final List<BulkLoadBucket> buckets = new ArrayList<>();
+
+      int childIndex = 0;
+      while (childIndex < children.size()) {
+        final BulkLoadBucket bucket = new BulkLoadBucket(false, bucketKeyHeaderSize);
+        bucket.firstKey = children.get(childIndex).firstKey;
+
+        int nextChildIndex = childIndex + 1;
+        while (nextChildIndex < children.size()
+            && bucket.add(
+                nonLeafRawEntry(
+                    children.get(nextChildIndex - 1).pageIndex,
+                    children.get(nextChildIndex).pageIndex,
+                    children.get(nextChildIndex).firstKey))) {
+          nextChildIndex++;
+        }
+
+        // the last child can not form bucket alone
+        if (nextChildIndex == children.size() - 1 && bucket.rawEntries.size() > 1) {
+          bucket.removeLast();
+          nextChildIndex--;
+        }
+
+        buckets.add(bucket);
+        childIndex = nextChildIndex;
+      }
+
+      return buckets;
+    }
+
+    private List<BulkLoadChild> writeBuckets(final List<BulkLoadBucket> buckets)
+        throws IOException {
+      final List<BulkLoadChild> children = new ArrayList<>(buckets.size());
+
+      executeBulkLoadOperation(
+          atomicOperation -> {
+            for (final BulkLoadBucket bucket : buckets) {
+              final int pageIndex;
+              try (final OCacheEntry cacheEntry = allocateNewPage(atomicOperation)) {
+                pageIndex = cacheEntry.getPageIndex();
+
+                final CellBTreeSingleValueBucketV3<K> treeBucket =
+                    new CellBTreeSingleValueBucketV3<>(cacheEntry);
+                initBucket(treeBucket, bucket.isLeaf);
+                treeBucket.addAll(bucket.rawEntries, keySerializer);
+
+                if (bucket.isLeaf && lastLeafIndex >= 0) {
+                  treeBucket.setLeftSibling(lastLeafIndex);
+                }
+              }
+
+              if (bucket.isLeaf) {
+                if (lastLeafIndex >= 0) {
+                  try (final OCacheEntry cacheEntry =
+                      loadPageForWrite(atomicOperation, fileId, lastLeafIndex, true)) {
+                    final CellBTreeSingleValueBucketV3<K> leftBucket =
+                        new CellBTreeSingleValueBucketV3<>(cacheEntry);
+                    leftBucket.setRightSibling(pageIndex);
+                  }
+                }
+
+                lastLeafIndex = pageIndex;
+              }
+
+              children.add(new BulkLoadChild(pageIndex, bucket.getFirstKey()));
+            }
+          });
+
+      return children;
+    }
+
+    private void writeRoot(final BulkLoadBucket bucket) throws IOException {
+      executeBulkLoadOperation(
+          atomicOperation -> {
+            try (final OCacheEntry rootCacheEntry =
+                loadPageForWrite(atomicOperation, fileId, ROOT_INDEX, true)) {
+              final CellBTreeSingleValueBucketV3<K> rootBucket =
+                  new CellBTreeSingleValueBucketV3<>(rootCacheEntry);
+              if (!rootBucket.isLeaf() || !rootBucket.isEmpty()) {
+                throw new CellBTreeSingleValueV3Exception(
+                    "Sbtree " + getName() + " was modified during bulk load",
+                    CellBTreeSingleValueV3.this);
+              }
+
+              initBucket(rootBucket, bucket.isLeaf);
+              if (!bucket.rawEntries.isEmpty()) {
+                rootBucket.addAll(bucket.rawEntries, keySerializer);
+              }
+            }
+
+            updateSize(treeSize, atomicOperation);
+          });
+    }
+  }
+
+  private static byte[] nonLeafRawEntry(
+      final int leftChildIndex, final int rightChildIndex, final byte[] key) {
+    final byte[] rawEntry = new byte[2 * OIntegerSerializer.INT_SIZE + key.length];
+    OIntegerSerializer.INSTANCE.serializeNative(leftChildIndex, rawEntry, 0);
+    OIntegerSerializer.INSTANCE.serializeNative(
+        rightChildIndex, rawEntry, OIntegerSerializer.INT_SIZE);
+    System.arraycopy(key, 0, rawEntry, 2 * OIntegerSerializer.INT_SIZE, key.length);
+    return rawEntry;
+  }
+
+  /** Bucket which is filled in memory during bulk load. */
+  private static final class BulkLoadBucket {
+    private final boolean isLeaf;
+    private final int keyHeaderSize;
+    private final List<byte[]> rawEntries = new ArrayList<>();
+
+    private int rawEntriesSize;
+    private int prefixLength;
+
+    /** First key of the subtree of non-leaf bucket which is not stored in the bucket itself. */
+    private byte[] firstKey;
+
+    private BulkLoadBucket(final boolean isLeaf, final int keyHeaderSize) {
+      this.isLeaf = isLeaf;
+      this.keyHeaderSize = keyHeaderSize;
+    }
+
+    private boolean add(final byte[] rawEntry) {
+      int newPrefixLength = 0;
+      if (keyHeaderSize >= 0) {
+        if (rawEntries.isEmpty()) {
+          newPrefixLength =
+              CellBTreeSingleValueBucketV3.keyBodyLength(rawEntry, isLeaf, keyHeaderSize);
+        } else {
+          newPrefixLength =
+              Math.min(
+                  prefixLength,
+                  CellBTreeSingleValueBucketV3.commonPrefixLength(
+                      rawEntries.get(0), rawEntry, isLeaf, keyHeaderSize));
+        }
+      }
+
+      if (!rawEntries.isEmpty()
+          && CellBTreeSingleValueBucketV3.calculateOccupiedSpace(
+                  keyHeaderSize,
+                  rawEntries.size() + 1,
+                  rawEntriesSize + rawEntry.length,
+                  newPrefixLength)
+              > CellBTreeSingleValueBucketV3.MAX_PAGE_SIZE_BYTES) {
+        return false;
+      }
+
+      rawEntries.add(rawEntry);
+      rawEntriesSize += rawEntry.length;
+      prefixLength = newPrefixLength;
+      return true;
+    }
+
+    /**
+     * Removes the last entry, length of the common prefix is not recalculated because it only may
+     * become longer after removal.
+     */
+    private void removeLast() {
+      final byte[] rawEntry = rawEntries.remove(rawEntries.size() - 1);
+      rawEntriesSize -= rawEntry.length;
+    }
+
+    private byte[] getFirstKey() {
+      if (isLeaf) {
+        final byte[] rawEntry = rawEntries.get(0);
+        return Arrays.copyOf(
+            rawEntry, rawEntry.length - OShortSerializer.SHORT_SIZE - OLongSerializer.LONG_SIZE);
+      }
+
+      return firstKey;
+    }
+  }
+
+  private static final class BulkLoadChild {
+    private final int pageIndex;
+    private final byte[] firstKey;
+
+    private BulkLoadChild(final int pageIndex, final byte[] firstKey) {
+      this.pageIndex = pageIndex;
+      this.firstKey = firstKey;
+    }
+  }
+
   private boolean update(
       final OAtomicOperation atomicOperation,
       final K k,
@@ -409,6 +927,8 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
       final OType[] keyTypes,
       final OBinarySerializer<K> keySerializer,
       final OEncryption encryption) {
+    assert !binaryKeys || keySerializer instanceof OBinaryTypeSerializer;
+
     acquireExclusiveLock();
     try {
       final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
@@ -419,6 +939,7 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
       this.keySize = keySize;
       this.keyTypes = keyTypes;
       this.keySerializer = keySerializer;
+      this.bucketKeyHeaderSize = bucketKeyHeaderSize(keySerializer);
     } catch (final IOException e) {
       throw OException.wrapException(
           new CellBTreeSingleValueV3Exception("Exception during loading of sbtree " + name, this),
@@ -1322,6 +1843,26 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
     }
   }
 
+  public Stream<ORawPair<K, ORID>> iterateEntriesBetweenRanges(
+      final List<ORawPair<K, K>> ranges, final boolean fromInclusive, final boolean toInclusive) {
+    if (ranges.isEmpty()) {
+      return Stream.empty();
+    }
+
+    atomicOperationsManager.acquireReadLock(this);
+    try {
+      acquireSharedLock();
+      try {
+        return StreamSupport.stream(
+            iterateEntriesBetweenRangesAscOrder(ranges, fromInclusive, toInclusive), false);
+      } finally {
+        releaseSharedLock();
+      }
+    } finally {
+      atomicOperationsManager.releaseReadLock(this);
+    }
+  }
+
   private Spliterator<ORawPair<K, ORID>> iterateEntriesBetweenAscOrder(
       K keyFrom, final boolean fromInclusive, K keyTo, final boolean toInclusive) {
     keyFrom = keySerializer.preprocess(keyFrom, (Object[]) keyTypes);
@@ -1333,6 +1874,25 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
     return new SpliteratorForward<K>(this, keyFrom, keyTo, fromInclusive, toInclusive);
   }
 
+  private Spliterator<ORawPair<K, ORID>> iterateEntriesBetweenRangesAscOrder(
+      final List<ORawPair<K, K>> ranges, final boolean fromInclusive, final boolean toInclusive) {
+    final List<ORawPair<K, K>> enhancedRanges = new ArrayList<>(ranges.size());
+    for (final ORawPair<K, K> range : ranges) {
+      K keyFrom = keySerializer.preprocess(range.first, (Object[]) keyTypes);
+      K keyTo = keySerializer.preprocess(range.second, (Object[]) keyTypes);
+
+      keyFrom = enhanceFromCompositeKeyBetweenAsc(keyFrom, fromInclusive);
+      keyTo = enhanceToCompositeKeyBetweenAsc(keyTo, toInclusive);
+
+      enhancedRanges.add(new ORawPair<>(keyFrom, keyTo));
+    }
+
+    final Iterator<ORawPair<K, K>> rangesIterator = enhancedRanges.iterator();
+    final ORawPair<K, K> firstRange = rangesIterator.next();
+    return new SpliteratorForward<K>(
+        this, firstRange.first, firstRange.second, fromInclusive, toInclusive, rangesIterator);
+  }
+
   private Spliterator<ORawPair<K, ORID>> iterateEntriesBetweenDescOrder(
       K keyFrom, final boolean fromInclusive, K keyTo, final boolean toInclusive) {
     keyFrom = keySerializer.preprocess(keyFrom, (Object[]) keyTypes);
@@ -1462,7 +2022,7 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
     try {
       final CellBTreeSingleValueBucketV3<K> newRightBucket =
           new CellBTreeSingleValueBucketV3<>(rightBucketEntry);
-      newRightBucket.init(splitLeaf);
+      initBucket(newRightBucket, splitLeaf);
       newRightBucket.addAll(rightEntries, keySerializer);
 
       bucketToSplit.shrink(indexToSplit, keySerializer);
@@ -1609,7 +2169,7 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
     try {
       final CellBTreeSingleValueBucketV3<K> newLeftBucket =
           new CellBTreeSingleValueBucketV3<>(leftBucketEntry);
-      newLeftBucket.init(splitLeaf);
+      initBucket(newLeftBucket, splitLeaf);
       newLeftBucket.addAll(leftEntries, keySerializer);
 
       if (splitLeaf) {
@@ -1623,7 +2183,7 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
     try {
       final CellBTreeSingleValueBucketV3<K> newRightBucket =
           new CellBTreeSingleValueBucketV3<>(rightBucketEntry);
-      newRightBucket.init(splitLeaf);
+      initBucket(newRightBucket, splitLeaf);
       newRightBucket.addAll(rightEntries, keySerializer);
 
       if (splitLeaf) {
@@ -1691,7 +2251,7 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
         final CellBTreeSingleValueBucketV3<K> bucket =
             new CellBTreeSingleValueBucketV3<>(bucketEntry);
 
-        final int index = bucket.find(key, keySerializer);
+        final int index = findInBucket(bucket, key);
 
         if (bucket.isLeaf()) {
           if (index < 0) {
@@ -1739,7 +2299,7 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
         @SuppressWarnings("ObjectAllocationInLoop")
         final CellBTreeSingleValueBucketV3<K> keyBucket =
             new CellBTreeSingleValueBucketV3<>(bucketEntry);
-        final int index = keyBucket.find(key, keySerializer);
+        final int index = findInBucket(keyBucket, key);
 
         if (keyBucket.isLeaf()) {
           return new BucketSearchResult(index, pageIndex);
@@ -1759,6 +2319,14 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
     }
   }
 
+  private int findInBucket(final CellBTreeSingleValueBucketV3<K> bucket, final K key) {
+    if (binaryKeys) {
+      return bucket.findBinaryKey((byte[]) key);
+    }
+
+    return bucket.find(key, keySerializer);
+  }
+
   private UpdateBucketSearchResult findBucketForUpdate(
       final K key, final OAtomicOperation atomicOperation) throws IOException {
     long pageIndex = ROOT_INDEX;
@@ -1779,7 +2347,7 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
         @SuppressWarnings("ObjectAllocationInLoop")
         final CellBTreeSingleValueBucketV3<K> keyBucket =
             new CellBTreeSingleValueBucketV3<>(bucketEntry);
-        final int index = keyBucket.find(key, keySerializer);
+        final int index = findInBucket(keyBucket, key);
 
         if (keyBucket.isLeaf()) {
           itemIndexes.add(index);
@@ -1951,8 +2519,10 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
         // iterated page equals to -1
         // so we only started iteration
         if (iter.getDataCache().isEmpty()) {
-          // iteration just started
-          if (lastKey == null) {
+          // iteration just started or switched to the range of keys which starts after the last
+          // returned key
+          if (lastKey == null
+              || iter.getFromKey() != null && comparator.compare(lastKey, iter.getFromKey()) < 0) {
             if (iter.getFromKey() != null) {
               final BucketSearchResult searchResult =
                   findBucket(iter.getFromKey(), atomicOperation);
@@ -2030,6 +2600,7 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
 
           iter.setLastLSN(bucket.getLSN());
 
+          boolean rangeChanged = false;
           for (;
               iter.getItemIndex() < bucketSize
                   && iter.getDataCache().size() < SPLITERATOR_CACHE_SIZE;
@@ -2039,12 +2610,14 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
                 bucket.getEntry(iter.getItemIndex(), keySerializer);
 
             if (iter.getToKey() != null) {
-              if (iter.isToKeyInclusive()) {
-                if (comparator.compare(entry.key, iter.getToKey()) > 0) {
+              final int cmp = comparator.compare(entry.key, iter.getToKey());
+              if (iter.isToKeyInclusive() ? cmp > 0 : cmp >= 0) {
+                if (!iter.nextRange()) {
                   return true;
                 }
-              } else if (comparator.compare(entry.key, iter.getToKey()) >= 0) {
-                return true;
+
+                rangeChanged = true;
+                break;
               }
             }
 
@@ -2052,6 +2625,29 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
             iter.getDataCache().add(new ORawPair<>(entry.key, entry.value));
           }
 
+          if (rangeChanged) {
+            // the tree is searched again only if the next range starts beyond the current page,
+            // otherwise iteration continues from the start of the range on the same page
+            final int startIndex =
+                rangeStartIndex(findInBucket(bucket, iter.getFromKey()), iter.isFromKeyInclusive());
+            if (startIndex < bucketSize) {
+              iter.setItemIndex(Math.max(startIndex, iter.getItemIndex()));
+            } else {
+              final BucketSearchResult searchResult =
+                  findBucket(iter.getFromKey(), atomicOperation);
+              cacheEntry.close();
+
+              iter.setPageIndex((int) searchResult.getPageIndex());
+              iter.setItemIndex(
+                  rangeStartIndex(searchResult.getItemIndex(), iter.isFromKeyInclusive()));
+
+              cacheEntry = loadPageForRead(atomicOperation, fileId, iter.getPageIndex());
+              bucket = new CellBTreeSingleValueBucketV3<>(cacheEntry);
+            }
+
+            continue;
+          }
+
           if (iter.getDataCache().size() >= SPLITERATOR_CACHE_SIZE) {
             return true;
           }
@@ -2064,6 +2660,14 @@ public final class CellBTreeSingleValueV3<K> extends ODurableComponent
     return false;
   }
 
+  private static int rangeStartIndex(final int searchIndex, final boolean fromKeyInclusive) {
+    if (searchIndex >= 0) {
+      return fromKeyInclusive ? searchIndex : searchIndex + 1;
+    }
+
+    return -searchIndex - 1;
+  }
+
   private boolean readKeysFromBucketsBackward(
       OAtomicOperation atomicOperation, SpliteratorBackward<K> iter) throws IOException {
     OCacheEntry cacheEntry = loadPageForRead(atomicOperation, fileId, iter.getPageIndex());
@@ -0,0 +1,211 @@
+package com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3;
+
+import com.orientechnologies.common.serialization.types.OBinarySerializer;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.Orient;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * External merge sort of the entries of {@link CellBTreeSingleValueV3} which are bulk loaded into
+ * the tree. Entries are kept in memory till their size reaches the limit, then they are sorted and
+ * written into the temporary file as sorted run. Sorted runs are merged when entries are fetched.
+ * Entries with equal keys are returned in the order in which they were added.
+ *
+ * <p>Entries are passed in the format of entries of leaf buckets, so they are written into the
+ * buckets without additional serialization.
+ */
+final class CellBTreeSingleValueV3BulkLoadSorter<K> implements AutoCloseable {
+  /** Approximate memory overhead of the entry kept in memory. */
+  private static final int ENTRY_OVERHEAD = 64;
+
+  private static final int RUN_BUFFER_SIZE = 64 * 1024;
+
+  private final OBinarySerializer<K> keySerializer;
+  private final Comparator<? super K> comparator;
+  private final long maxRunSize;
+
+  private final List<ORawPair<K, byte[]>> entries = new ArrayList<>();
+  private long runSize;
+
+  private final List<File> runFiles = new ArrayList<>();
+  private final List<Integer> runSizes = new ArrayList<>();
+  private final List<DataInputStream> openedRuns = new ArrayList<>();
+
+  CellBTreeSingleValueV3BulkLoadSorter(
+      final OBinarySerializer<K> keySerializer,
+      final Comparator<? super K> comparator,
+      final long maxRunSize) {
+    this.keySerializer = keySerializer;
+    this.comparator = comparator;
+    this.maxRunSize = maxRunSize;
+  }
+
+  void add(final K key, final byte[] rawEntry) throws IOException {
+    entries.add(new ORawPair<>(key, rawEntry));
+    runSize += rawEntry.length + ENTRY_OVERHEAD;
+
+    if (runSize >= maxRunSize) {
+      spill();
+    }
+  }
+
+  /** @return entries sorted by keys, pair of deserialized key and the entry itself. */
+  Iterator<ORawPair<K, byte[]>> sortedEntries() throws IOException {
+    entries.sort((entryOne, entryTwo) -> comparator.compare(entryOne.first, entryTwo.first));
+    if (runFiles.isEmpty()) {
+      return entries.iterator();
+    }
+
+    if (!entries.isEmpty()) {
+      spill();
+    }
+
+    final PriorityQueue<RunCursor<K>> queue =
+        new PriorityQueue<>(
+            runFiles.size(),
+            (cursorOne, cursorTwo) -> {
+              final int cmp = comparator.compare(cursorOne.current.first, cursorTwo.current.first);
+              if (cmp != 0) {
+                return cmp;
+              }
+
+              return Integer.compare(cursorOne.runIndex, cursorTwo.runIndex);
+            });
+
+    for (int i = 0; i < runFiles.size(); i++) {
+      final DataInputStream stream =
+          new DataInputStream(
+              new BufferedInputStream(new FileInputStream(runFiles.get(i)), RUN_BUFFER_SIZE));
+      openedRuns.add(stream);
+
+      final RunCursor<K> cursor = new RunCursor<>(i, stream, runSizes.get(i), keySerializer);
+      if (cursor.next()) {
+        queue.add(cursor);
+      }
+    }
+
+    return new Iterator<ORawPair<K, byte[]>>() {
+      @Override
+      public boolean hasNext() {
+        return !queue.isEmpty();
+      }
+
+      @Override
+      public ORawPair<K, byte[]> next() {
+        final RunCursor<K> cursor = queue.poll();
+        if (cursor == null) {
+          throw new NoSuchElementException();
+        }
+
+        final ORawPair<K, byte[]> result = cursor.current;
+        try {
+          if (cursor.next()) {
+            queue.add(cursor);
+          }
+        } catch (final IOException e) {
+          throw new IllegalStateException("Error during reading of sorted run of entries", e);
+        }
+
+        return result;
+      }
+    };
+  }
+
+  private void spill() throws IOException {
+    entries.sort((entryOne, entryTwo) -> comparator.compare(entryOne.first, entryTwo.first));
+
+    final File tempDirectory = new File(Orient.getTempPath());
+    if (!tempDirectory.exists() && !tempDirectory.mkdirs() && !tempDirectory.exists()) {
+      throw new IOException("Can not create directory " + tempDirectory);
+    }
+
+    final File runFile = File.createTempFile("index-bulk-load", ".run", tempDirectory);
+    runFiles.add(runFile);
+    runSizes.add(entries.size());
+
+    try (final DataOutputStream stream =
+        new DataOutputStream(
+            new BufferedOutputStream(new FileOutputStream(runFile), RUN_BUFFER_SIZE))) {
+      for (final ORawPair<K, byte[]> entry : entries) {
+        stream.writeInt(entry.second.length);
+        stream.write(entry.second);
+      }
+    }
+
+    entries.clear();
+    runSize = 0;
+  }
+
+  @Override
+  public void close() throws IOException {
+    IOException error = null;
+    for (final DataInputStream stream : openedRuns) {
+      try {
+        stream.close();
+      } catch (final IOException e) {
+        error = e;
+      }
+    }
+
+    for (final File runFile : runFiles) {
+      if (!runFile.delete() && runFile.exists()) {
+        error = new IOException("Can not delete file " + runFile);
+      }
+    }
+
+    openedRuns.clear();
+    runFiles.clear();
+    entries.clear();
+
+    if (error != null) {
+      throw error;
+    }
+  }
+
+  private static final class RunCursor<K> {
+    private final int runIndex;
+    private final DataInputStream stream;
+    private final OBinarySerializer<K> keySerializer;
+
+    private int remaining;
+    private ORawPair<K, byte[]> current;
+
+    private RunCursor(
+        final int runIndex,
+        final DataInputStream stream,
+        final int size,
+        final OBinarySerializer<K> keySerializer) {
+      this.runIndex = runIndex;
+      this.stream = stream;
+      this.remaining = size;
+      this.keySerializer = keySerializer;
+    }
+
+    private boolean next() throws IOException {
+      if (remaining == 0) {
+        current = null;
+        return false;
+      }
+
+      final byte[] rawEntry = new byte[stream.readInt()];
+      stream.readFully(rawEntry);
+      remaining--;
+
+      current = new ORawPair<>(keySerializer.deserializeNativeObject(rawEntry, 0), rawEntry);
+      return true;
+    }
+  }
+}
@@ -15,8 +15,8 @@ final class SpliteratorForward<K> implements Spliterator<ORawPair<K, ORID>> {
   /** */
   private final CellBTreeSingleValueV3<K> btree;
 
-  private final K fromKey;
-  private final K toKey;
+  private K fromKey;
+  private K toKey;
   private final boolean fromKeyInclusive;
   private final boolean toKeyInclusive;
 
@@ -25,6 +25,9 @@ final class SpliteratorForward<K> implements Spliterator<ORawPair<K, ORID>> {
 
   private OLogSequenceNumber lastLSN = null;
 
+  /** Ranges which are iterated after the current one, <code>null</code> for a single range. */
+  private final Iterator<ORawPair<K, K>> nextRanges;
+
   private final List<ORawPair<K, ORID>> dataCache = new ArrayList<>();
   private Iterator<ORawPair<K, ORID>> cacheIterator = Collections.emptyIterator();
 
@@ -34,12 +37,23 @@ final class SpliteratorForward<K> implements Spliterator<ORawPair<K, ORID>> {
       final K toKey,
       final boolean fromKeyInclusive,
       final boolean toKeyInclusive) {
+    this(cellBTreeSingleValueV3, fromKey, toKey, fromKeyInclusive, toKeyInclusive, null);
+  }
+
+  SpliteratorForward(
+      CellBTreeSingleValueV3<K> cellBTreeSingleValueV3,
+      final K fromKey,
+      final K toKey,
+      final boolean fromKeyInclusive,
+      final boolean toKeyInclusive,
+      final Iterator<ORawPair<K, K>> nextRanges) {
     btree = cellBTreeSingleValueV3;
     this.fromKey = fromKey;
     this.toKey = toKey;
 
     this.toKeyInclusive = toKeyInclusive;
     this.fromKeyInclusive = fromKeyInclusive;
+    this.nextRanges = nextRanges;
   }
 
   @Override
@@ -103,6 +117,22 @@ final class SpliteratorForward<K> implements Spliterator<ORawPair<K, ORID>> {
     return toKeyInclusive;
   }
 
+  /**
+   * Switches iteration to the next range of keys, ranges are sorted and do not overlap.
+   *
+   * @return <code>false</code> if there are no ranges left
+   */
+  boolean nextRange() {
+    if (nextRanges == null || !nextRanges.hasNext()) {
+      return false;
+    }
+
+    final ORawPair<K, K> range = nextRanges.next();
+    fromKey = range.first;
+    toKey = range.second;
+    return true;
+  }
+
   public int getItemIndex() {
     return itemIndex;
   }
@@ -28,6 +28,7 @@ import com.orientechnologies.orient.core.storage.cache.OAbstractWriteCache;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.cache.OCachePointer;
 import com.orientechnologies.orient.core.storage.cache.OPageDataVerificationError;
+import com.orientechnologies.orient.core.storage.cache.OPrefetchedPage;
 import com.orientechnologies.orient.core.storage.cache.OReadCache;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
 import com.orientechnologies.orient.core.storage.cache.local.OBackgroundExceptionListener;
@@ -35,7 +36,9 @@ import com.orientechnologies.orient.core.storage.impl.local.OPageIsBrokenListene
 import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -538,6 +541,15 @@ public final class ODirectMemoryOnlyDiskCache extends OAbstractWriteCache
     throw new UnsupportedOperationException();
   }
 
+  @Override
+  public final List<OPrefetchedPage> prefetch(
+      final long fileId,
+      final long startPageIndex,
+      final int pageCount,
+      final boolean verifyChecksums) {
+    return Collections.emptyList();
+  }
+
   @Override
   public final long getExclusiveWriteCachePagesSize() {
     return 0;
@@ -86,6 +86,10 @@ public class OTransactionIndexChanges {
       Object from, boolean fromInclusive, Object to, boolean toInclusive) {
     final NavigableMap<Object, OTransactionIndexChangesPerKey> interval;
     if (from != null && to != null) {
+      // lower bound of the range can follow the last changed key if it is a partial composite key
+      if (ODefaultComparator.INSTANCE.compare(from, to) > 0) {
+        return new Object[0];
+      }
       interval = changesPerKey.subMap(from, fromInclusive, to, toInclusive);
     } else if (from != null) {
       interval = changesPerKey.headMap(from, fromInclusive);
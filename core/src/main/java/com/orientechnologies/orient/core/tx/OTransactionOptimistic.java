@@ -52,6 +52,7 @@ import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
 import com.orientechnologies.orient.core.schedule.OScheduledEvent;
 import com.orientechnologies.orient.core.storage.ORecordCallback;
 import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
@@ -76,6 +77,12 @@ public class OTransactionOptimistic extends OTransactionRealAbstract {
     }
     if (txStartCounter == 0) {
       status = TXSTATUS.BEGUN;
+
+      // online build of the index waits for transactions which do not track changes of the index
+      final OStorage storage = database.getStorage();
+      if (storage instanceof OAbstractPaginatedStorage) {
+        ((OAbstractPaginatedStorage) storage).transactionStarted(this);
+      }
     }
     txStartCounter++;
 
@@ -90,6 +97,16 @@ public class OTransactionOptimistic extends OTransactionRealAbstract {
     commit(false);
   }
 
+  @Override
+  public void close() {
+    final OStorage storage = database.getStorage();
+    if (storage instanceof OAbstractPaginatedStorage) {
+      ((OAbstractPaginatedStorage) storage).transactionCompleted(this);
+    }
+
+    super.close();
+  }
+
   /**
    * The transaction is reentrant. If {@code begin()} has been called several times, the actual
    * commit happens only after the same amount of {@code commit()} calls
@@ -156,6 +156,76 @@ public class OByteBufferPoolTest {
     byteBufferPool.checkMemoryLeaks();
   }
 
+  @Test
+  public void testStripedPool() throws Exception {
+    final ODirectMemoryAllocator allocator = new ODirectMemoryAllocator();
+    final OByteBufferPool byteBufferPool = new OByteBufferPool(42, allocator, 4, 0, 2, 1);
+
+    Assert.assertEquals(2, byteBufferPool.getStripeCount());
+
+    final OPointer pointerOne = byteBufferPool.acquireDirect(false, MemTrace.TEST);
+    final OPointer pointerTwo = byteBufferPool.acquireDirect(false, MemTrace.TEST);
+    Assert.assertEquals(2, byteBufferPool.getAllocations());
+
+    // first page is kept by the stripe of the thread, second one goes to the shared pool
+    byteBufferPool.release(pointerOne);
+    byteBufferPool.release(pointerTwo);
+    Assert.assertEquals(2, byteBufferPool.getPoolSize());
+    Assert.assertEquals(1, sum(byteBufferPool.getStripePoolSizes()));
+
+    Assert.assertSame(pointerOne, byteBufferPool.acquireDirect(false, MemTrace.TEST));
+    Assert.assertEquals(1, sum(byteBufferPool.getStripeHits()));
+    Assert.assertEquals(0, byteBufferPool.getSharedPoolHits());
+
+    Assert.assertSame(pointerTwo, byteBufferPool.acquireDirect(true, MemTrace.TEST));
+    Assert.assertEquals(1, byteBufferPool.getSharedPoolHits());
+    Assert.assertEquals(0, byteBufferPool.getPoolSize());
+
+    // page released by the other thread goes to the other stripe and is found in shared pool
+    // only after stripe of this thread is exhausted
+    final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    executorService
+        .submit(
+            () -> {
+              byteBufferPool.release(pointerOne);
+              byteBufferPool.release(pointerTwo);
+            })
+        .get();
+    executorService.shutdown();
+
+    Assert.assertEquals(2, byteBufferPool.getPoolSize());
+    Assert.assertArrayEquals(new int[] {0, 1}, byteBufferPool.getStripePoolSizes());
+
+    Assert.assertSame(pointerTwo, byteBufferPool.acquireDirect(false, MemTrace.TEST));
+    Assert.assertEquals(2, byteBufferPool.getSharedPoolHits());
+    Assert.assertEquals(2, byteBufferPool.getAllocations());
+
+    byteBufferPool.release(pointerTwo);
+    byteBufferPool.clear();
+
+    Assert.assertEquals(0, allocator.getMemoryConsumption());
+    Assert.assertEquals(0, byteBufferPool.getPoolSize());
+    Assert.assertEquals(0, sum(byteBufferPool.getStripePoolSizes()));
+
+    byteBufferPool.checkMemoryLeaks();
+  }
+
+  private static long sum(final int[] values) {
+    long sum = 0;
+    for (final int value : values) {
+      sum += value;
+    }
+    return sum;
+  }
+
+  private static long sum(final long[] values) {
+    long sum = 0;
+    for (final long value : values) {
+      sum += value;
+    }
+    return sum;
+  }
+
   @Test
   @Ignore
   public void mtTest() throws Exception {
@@ -33,6 +33,21 @@ public class ODirectMemoryAllocatorTest {
     Assert.assertEquals(0, directMemoryAllocator.getMemoryConsumption());
   }
 
+  @Test
+  public void testAllocateAligned() {
+    final ODirectMemoryAllocator directMemoryAllocator = new ODirectMemoryAllocator();
+    final OPointer pointer = directMemoryAllocator.allocate(42, 4096, true, MemTrace.TEST);
+
+    final ByteBuffer buffer = pointer.getNativeByteBuffer();
+    Assert.assertEquals(42, buffer.capacity());
+    Assert.assertEquals(0, buffer.alignmentOffset(0, 4096));
+
+    Assert.assertEquals(42 + 4096, directMemoryAllocator.getMemoryConsumption());
+    directMemoryAllocator.deallocate(pointer);
+
+    Assert.assertEquals(0, directMemoryAllocator.getMemoryConsumption());
+  }
+
   @Test
   public void testNegativeOrZeroIsPassedToAllocate() {
     final ODirectMemoryAllocator directMemoryAllocator = new ODirectMemoryAllocator();
@@ -0,0 +1,187 @@
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Builds index online on the disk storage while transactions which are started before the index
+ * is added are still running, part of the transactions is rolled back.
+ */
+public class OnlineIndexBuildDiskStorageTest {
+  private static final int DOCUMENTS = 20_000;
+  private static final int WRITERS = 2;
+  private static final String DB_NAME = "onlineIndexBuildDiskStorageTest";
+
+  private Path buildDirectory;
+  private OrientDB orientDB;
+  private ODatabaseSession db;
+
+  @Before
+  public void before() {
+    buildDirectory =
+        Paths.get(System.getProperty("buildDirectory", "./target"))
+            .resolve(OnlineIndexBuildDiskStorageTest.class.getSimpleName());
+    OFileUtils.deleteRecursively(buildDirectory.toFile());
+
+    orientDB = new OrientDB("embedded:" + buildDirectory, OrientDBConfig.defaultConfig());
+    orientDB.execute(
+        "create database " + DB_NAME + " plocal users ( admin identified by 'admin' role admin)");
+    db = orientDB.open(DB_NAME, "admin", "admin");
+  }
+
+  @After
+  public void after() {
+    db.close();
+    orientDB.drop(DB_NAME);
+    orientDB.close();
+    OFileUtils.deleteRecursively(buildDirectory.toFile());
+  }
+
+  @Test
+  public void testUniqueIndexWithLongTransactions() throws Exception {
+    buildIndexWithLongTransactions(OClass.INDEX_TYPE.UNIQUE);
+  }
+
+  @Test
+  public void testNotUniqueIndexWithLongTransactions() throws Exception {
+    buildIndexWithLongTransactions(OClass.INDEX_TYPE.NOTUNIQUE);
+  }
+
+  private void buildIndexWithLongTransactions(final OClass.INDEX_TYPE type) throws Exception {
+    final OClass clazz = db.getMetadata().getSchema().createClass("Person");
+    clazz.createProperty("num", OType.INTEGER);
+
+    final List<ORID> rids = new ArrayList<>();
+    db.begin();
+    for (int i = 0; i < DOCUMENTS; i++) {
+      rids.add(db.save(new ODocument("Person").field("num", i)).getIdentity());
+      if (i % 1_000 == 999) {
+        db.commit();
+        db.begin();
+      }
+    }
+    db.commit();
+
+    final AtomicBoolean stop = new AtomicBoolean();
+    final AtomicInteger counter = new AtomicInteger(DOCUMENTS);
+    // index is added only once each writer has transaction which is started before it
+    final CountDownLatch started = new CountDownLatch(WRITERS);
+    final ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+    final List<Future<Integer>> futures = new ArrayList<>();
+    for (int n = 0; n < WRITERS; n++) {
+      final int writer = n;
+      futures.add(
+          executor.submit(
+              () -> {
+                final Random random = new Random(writer);
+                int transactions = 0;
+                try (ODatabaseSession session = orientDB.open(DB_NAME, "admin", "admin")) {
+                  while (!stop.get() || transactions < 20) {
+                    session.begin();
+                    for (int i = 0; i < 10; i++) {
+                      final ORID rid =
+                          rids.get(random.nextInt(DOCUMENTS / WRITERS) * WRITERS + writer);
+                      final ODocument document = session.load(rid);
+                      final int num = counter.getAndIncrement();
+                      if (document == null || random.nextInt(10) == 0) {
+                        session.save(new ODocument("Person").field("num", num));
+                      } else {
+                        session.save(document.field("num", num));
+                      }
+                    }
+
+                    if (transactions == 0) {
+                      started.countDown();
+
+                      // transaction which does not track changes of the index is committed either
+                      // after the end of the build or once the build waits for it
+                      awaitIndexBuild(session, true, TimeUnit.MINUTES.toNanos(1));
+                      awaitIndexBuild(session, false, TimeUnit.SECONDS.toNanos(2));
+                    } else {
+                      Thread.sleep(50);
+                    }
+
+                    if (transactions > 0 && random.nextInt(5) == 0) {
+                      session.rollback();
+                    } else {
+                      session.commit();
+                    }
+                    transactions++;
+                  }
+                }
+                return transactions;
+              }));
+    }
+
+    Assert.assertTrue(started.await(1, TimeUnit.MINUTES));
+    clazz.createIndex(
+        "Person.num",
+        type.toString(),
+        null,
+        new ODocument().field("online", true),
+        new String[] {"num"});
+    stop.set(true);
+    for (final Future<Integer> future : futures) {
+      Assert.assertTrue(future.get() > 0);
+    }
+    executor.shutdown();
+
+    final OIndex index = clazz.getClassIndex("Person.num");
+    Assert.assertFalse(index.getInternal().isBuilding());
+
+    db.getLocalCache().clear();
+    long documents = 0;
+    for (final ODocument document : db.browseClass("Person")) {
+      final int num = document.field("num");
+      try (Stream<ORID> stream = index.getInternal().getRids(num)) {
+        Assert.assertEquals(
+            document.getIdentity().toString(),
+            stream.map(ORID::toString).collect(Collectors.joining(",")));
+      }
+      documents++;
+    }
+    Assert.assertEquals(documents, index.getInternal().size());
+  }
+
+  private static void awaitIndexBuild(
+      final ODatabaseSession session, final boolean building, final long timeout)
+      throws InterruptedException {
+    final long deadline = System.nanoTime() + timeout;
+    while (System.nanoTime() < deadline) {
+      final OIndex index =
+          ((ODatabaseDocumentInternal) session)
+              .getMetadata()
+              .getIndexManagerInternal()
+              .getRawIndex("Person.num");
+      if (index != null && index.getInternal().isBuilding() == building) {
+        return;
+      }
+      Thread.sleep(1);
+    }
+  }
+}
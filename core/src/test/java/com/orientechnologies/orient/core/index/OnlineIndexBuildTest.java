@@ -0,0 +1,166 @@
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OnlineIndexBuildTest {
+  private static final int DOCUMENTS = 50_000;
+  private static final String DB_NAME = "onlineIndexBuildTest";
+
+  private OrientDB orientDB;
+  private ODatabaseSession db;
+
+  @Before
+  public void before() {
+    orientDB = new OrientDB("embedded:", OrientDBConfig.defaultConfig());
+    orientDB.execute(
+        "create database " + DB_NAME + " memory users ( admin identified by 'admin' role admin)");
+    db = orientDB.open(DB_NAME, "admin", "admin");
+  }
+
+  @After
+  public void after() {
+    db.close();
+    orientDB.drop(DB_NAME);
+    orientDB.close();
+  }
+
+  @Test
+  public void testUniqueIndexWithConcurrentWriters() throws Exception {
+    buildIndexWithConcurrentWriters(OClass.INDEX_TYPE.UNIQUE, false);
+  }
+
+  @Test
+  public void testNotUniqueIndexWithConcurrentWriters() throws Exception {
+    buildIndexWithConcurrentWriters(OClass.INDEX_TYPE.NOTUNIQUE, false);
+  }
+
+  @Test
+  public void testRebuildOfUniqueIndexWithConcurrentWriters() throws Exception {
+    // online build is not requested, unique index is rebuilt by bulk load
+    buildIndexWithConcurrentWriters(OClass.INDEX_TYPE.UNIQUE, true);
+  }
+
+  @Test
+  public void testDuplicatedKeys() {
+    final OClass clazz = db.getMetadata().getSchema().createClass("Person");
+    clazz.createProperty("num", OType.INTEGER);
+
+    for (int i = 0; i < 1_000; i++) {
+      db.save(new ODocument("Person").field("num", i % 100));
+    }
+
+    try {
+      createIndex(clazz, OClass.INDEX_TYPE.UNIQUE);
+      Assert.fail("Expected record duplicate exception");
+    } catch (ORecordDuplicatedException e) {
+      // expected
+    }
+
+    Assert.assertNull(clazz.getClassIndex("Person.num"));
+    db.save(new ODocument("Person").field("num", 1));
+  }
+
+  private void buildIndexWithConcurrentWriters(final OClass.INDEX_TYPE type, final boolean rebuild)
+      throws Exception {
+    final OClass clazz = db.getMetadata().getSchema().createClass("Person");
+    clazz.createProperty("num", OType.INTEGER);
+
+    final List<ORID> rids = new ArrayList<>();
+    for (int i = 0; i < DOCUMENTS; i++) {
+      rids.add(db.save(new ODocument("Person").field("num", i)).getIdentity());
+    }
+
+    if (rebuild) {
+      clazz.createIndex("Person.num", type, "num");
+    }
+
+    final AtomicBoolean stop = new AtomicBoolean();
+    final AtomicInteger counter = new AtomicInteger(DOCUMENTS);
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    final List<Future<Integer>> futures = new ArrayList<>();
+    for (int n = 0; n < 2; n++) {
+      final int writer = n;
+      futures.add(
+          executor.submit(
+              () -> {
+                final Random random = new Random(writer);
+                int operations = 0;
+                try (ODatabaseSession session = orientDB.open(DB_NAME, "admin", "admin")) {
+                  while (!stop.get() || operations < 1_000) {
+                    final ORID rid = rids.get(random.nextInt(DOCUMENTS / 2) * 2 + writer);
+                    final ODocument document = session.load(rid);
+                    final int operation = random.nextInt(10);
+                    final int num = counter.getAndIncrement();
+                    if (document == null || operation == 0) {
+                      session.save(new ODocument("Person").field("num", num));
+                    } else if (operation == 1) {
+                      session.delete(document);
+                    } else {
+                      session.save(document.field("num", num));
+                    }
+
+                    operations++;
+                  }
+                }
+                return operations;
+              }));
+    }
+
+    if (rebuild) {
+      clazz.getClassIndex("Person.num").getInternal().rebuild();
+    } else {
+      createIndex(clazz, type);
+    }
+    stop.set(true);
+    for (final Future<Integer> future : futures) {
+      Assert.assertTrue(future.get() > 0);
+    }
+    executor.shutdown();
+
+    final OIndex index = clazz.getClassIndex("Person.num");
+    Assert.assertFalse(index.getInternal().isBuilding());
+    Assert.assertTrue(clazz.getIndexes().contains(index));
+
+    long documents = 0;
+    for (final ODocument document : db.browseClass("Person")) {
+      final int num = document.field("num");
+      try (Stream<ORID> stream = index.getInternal().getRids(num)) {
+        Assert.assertEquals(
+            document.getIdentity().toString(),
+            stream.map(ORID::toString).collect(Collectors.joining(",")));
+      }
+      documents++;
+    }
+    Assert.assertEquals(documents, index.getInternal().size());
+  }
+
+  private static void createIndex(final OClass clazz, final OClass.INDEX_TYPE type) {
+    clazz.createIndex(
+        "Person.num",
+        type.toString(),
+        null,
+        new ODocument().field("online", true),
+        new String[] {"num"});
+  }
+}
@@ -0,0 +1,148 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.BaseMemoryInternalDatabase;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.metadata.statistics.OClassStatistics;
+import com.orientechnologies.orient.core.metadata.statistics.OPropertyStatistics;
+import com.orientechnologies.orient.core.metadata.statistics.OStatisticsManager;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import java.util.Arrays;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OAnalyzeClassStatementExecutionTest extends BaseMemoryInternalDatabase {
+
+  @Test
+  public void testAnalyze() {
+    OClass clazz = db.getMetadata().getSchema().createClass("AnalyzeTest");
+    clazz.createProperty("value", OType.INTEGER);
+    clazz.createProperty("name", OType.STRING);
+    clazz.createProperty("uid", OType.LONG).createIndex(OClass.INDEX_TYPE.UNIQUE);
+
+    for (int i = 0; i < 1000; i++) {
+      ODocument doc = new ODocument("AnalyzeTest");
+      doc.field("value", i);
+      doc.field("name", i % 10 == 0 ? null : "name" + (i % 50));
+      doc.field("uid", (long) i);
+      doc.save();
+    }
+
+    try (OResultSet result = db.command("analyze class AnalyzeTest")) {
+      OResult item = result.next();
+      Assert.assertEquals("analyze class", item.getProperty("operation"));
+      Assert.assertEquals(1000L, (long) item.getProperty("count"));
+      Map<String, OResult> properties = item.getProperty("properties");
+      Assert.assertEquals(3, properties.size());
+      Assert.assertFalse(result.hasNext());
+    }
+
+    OClassStatistics statistics = OStatisticsManager.getStatistics(db, "analyzetest");
+    Assert.assertNotNull(statistics);
+    Assert.assertEquals(1000, statistics.getCount());
+
+    OPropertyStatistics value = statistics.getProperty("value");
+    Assert.assertEquals(0, value.getNullFraction(), 0);
+    Assert.assertEquals(1000, value.getDistinctValues(), 50);
+    Assert.assertEquals(0.1, value.rangeSelectivity(null, false, 100, false), 0.02);
+    Assert.assertEquals(0.5, value.rangeSelectivity(250, true, 750, false), 0.02);
+    Assert.assertEquals(0.001, value.equalsSelectivity(10), 0.0005);
+
+    OPropertyStatistics name = statistics.getProperty("name");
+    Assert.assertEquals(0.1, name.getNullFraction(), 0);
+    Assert.assertEquals(45, name.getDistinctValues(), 3);
+    Assert.assertNull(name.getHistogram());
+
+    // the distinct values of the properties with unique index are exact
+    Assert.assertEquals(1000, statistics.getProperty("uid").getDistinctValues());
+
+    // statistics are persistent
+    db.getSharedContext().getStatisticsManager().load(db);
+    OClassStatistics loaded = OStatisticsManager.getStatistics(db, "AnalyzeTest");
+    Assert.assertNotSame(statistics, loaded);
+    Assert.assertEquals(1000, loaded.getCount());
+    Assert.assertTrue(
+        Arrays.equals(value.getHistogram(), loaded.getProperty("value").getHistogram()));
+    Assert.assertEquals(name.getDistinctValues(), loaded.getProperty("name").getDistinctValues());
+  }
+
+  @Test
+  public void testSampledAnalyze() {
+    OClass clazz = db.getMetadata().getSchema().createClass("AnalyzeSampleTest");
+    clazz.createProperty("value", OType.INTEGER);
+    clazz.createProperty("group", OType.INTEGER);
+    clazz.createProperty("name", OType.STRING);
+    clazz.createProperty("tag", OType.INTEGER).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+
+    for (int i = 0; i < 5000; i++) {
+      ODocument doc = new ODocument("AnalyzeSampleTest");
+      doc.field("value", i);
+      doc.field("group", i % 20);
+      doc.field("name", i % 10 == 0 ? null : "name" + i);
+      doc.field("tag", i % 100);
+      doc.save();
+    }
+
+    final Object sampleSize =
+        db.getConfiguration().getValue(OGlobalConfiguration.QUERY_STATISTICS_SAMPLE_SIZE);
+    db.getConfiguration().setValue(OGlobalConfiguration.QUERY_STATISTICS_SAMPLE_SIZE, 500);
+    try {
+      db.command("analyze class AnalyzeSampleTest").close();
+    } finally {
+      db.getConfiguration().setValue(OGlobalConfiguration.QUERY_STATISTICS_SAMPLE_SIZE, sampleSize);
+    }
+
+    OClassStatistics statistics = OStatisticsManager.getStatistics(db, "AnalyzeSampleTest");
+    // amount of records is taken from the clusters, not from the sample
+    Assert.assertEquals(5000, statistics.getCount());
+
+    OPropertyStatistics value = statistics.getProperty("value");
+    Assert.assertEquals(5000, value.getDistinctValues(), 500);
+    Assert.assertEquals(0.5, value.rangeSelectivity(null, false, 2500, false), 0.1);
+    Assert.assertTrue(value.getHistogram().length <= 65);
+
+    Assert.assertEquals(20, statistics.getProperty("group").getDistinctValues());
+
+    OPropertyStatistics name = statistics.getProperty("name");
+    Assert.assertEquals(0.1, name.getNullFraction(), 0.05);
+    Assert.assertEquals(4500, name.getDistinctValues(), 500);
+
+    // distinct values of the indexed property are estimated from the keys of the index
+    Assert.assertEquals(100, statistics.getProperty("tag").getDistinctValues(), 5);
+  }
+
+  @Test
+  public void testMoreSelectiveIndex() {
+    OClass clazz = db.getMetadata().getSchema().createClass("AnalyzeIndexTest");
+    clazz.createProperty("a", OType.INTEGER);
+    clazz.createProperty("b", OType.INTEGER);
+    clazz.createIndex("AnalyzeIndexTest.a", OClass.INDEX_TYPE.NOTUNIQUE, "a");
+    clazz.createIndex("AnalyzeIndexTest.b", OClass.INDEX_TYPE.NOTUNIQUE, "b");
+
+    for (int i = 0; i < 1000; i++) {
+      ODocument doc = new ODocument("AnalyzeIndexTest");
+      doc.field("a", i);
+      doc.field("b", i % 2);
+      doc.save();
+    }
+
+    db.execute("sql", "analyze class AnalyzeIndexTest;").close();
+
+    try (OResultSet result = db.query("select from AnalyzeIndexTest where a = 41 and b = 1")) {
+      Assert.assertEquals(41, (int) result.next().getProperty("a"));
+      Assert.assertFalse(result.hasNext());
+
+      OExecutionPlan plan = result.getExecutionPlan().get();
+      FetchFromIndexStep step = (FetchFromIndexStep) plan.getSteps().get(0);
+      Assert.assertEquals("AnalyzeIndexTest.a", step.getIndexName());
+    }
+  }
+
+  @Test(expected = OCommandExecutionException.class)
+  public void testMissingClass() {
+    db.command("analyze class AnalyzeMissing").close();
+  }
+}
@@ -12,6 +12,8 @@ import com.orientechnologies.orient.core.db.viewmanager.ViewCreationListener;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexException;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OProperty;
 import com.orientechnologies.orient.core.metadata.schema.OSchema;
@@ -23,18 +25,26 @@ import com.orientechnologies.orient.core.record.OVertex;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.OSQLEngine;
 import com.orientechnologies.orient.core.sql.functions.OSQLFunction;
+import com.orientechnologies.orient.core.sql.functions.OSQLFunctionAbstract;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Calendar;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -4196,8 +4206,11 @@ public class OSelectStatementExecutionTest extends BaseMemoryDatabase {
   @Test
   public void testHeapLimitForOrderBy() {
     Long oldValue = OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.getValueAsLong();
+    Object memoryBudget = OGlobalConfiguration.QUERY_MEMORY_BUDGET.getValue();
     try {
       OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.setValue(3);
+      // the limit fails the query only if ORDER BY can not spill to disk
+      OGlobalConfiguration.QUERY_MEMORY_BUDGET.setValue(-1);
 
       String className = "testHeapLimitForOrderBy";
 
@@ -4215,8 +4228,14 @@ public class OSelectStatementExecutionTest extends BaseMemoryDatabase {
         Assert.fail();
       } catch (OCommandExecutionException ex) {
       }
+
+      OGlobalConfiguration.QUERY_MEMORY_BUDGET.setValue(memoryBudget);
+      try (OResultSet result = db.query("select from " + className + " ORDER BY name")) {
+        Assert.assertEquals(4, result.stream().count());
+      }
     } finally {
       OGlobalConfiguration.QUERY_MAX_HEAP_ELEMENTS_ALLOWED_PER_OP.setValue(oldValue);
+      OGlobalConfiguration.QUERY_MEMORY_BUDGET.setValue(memoryBudget);
     }
   }
 
@@ -4797,4 +4816,623 @@ public class OSelectStatementExecutionTest extends BaseMemoryDatabase {
       }
     }
   }
+
+  @Test
+  public void testIndexOnlyPlanWithIncludedFields() {
+    String className = "testIndexOnlyPlanWithIncludedFields";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("name", OType.STRING);
+    clazz.createProperty("surname", OType.STRING);
+    clazz.createProperty("foo", OType.INTEGER);
+    db.command(
+        "create index "
+            + className
+            + ".name on "
+            + className
+            + " (name) notunique metadata {include: ['surname']}");
+
+    for (int i = 0; i < 10; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("name", "name" + i % 5);
+      doc.setProperty("surname", i % 2 == 0 ? "surname" + i : null);
+      doc.setProperty("foo", i);
+      db.save(doc);
+    }
+
+    try (OResultSet result =
+        db.query(
+            "select name, surname, @rid as rid from "
+                + className
+                + " where name = 'name2' order by surname")) {
+      OSelectExecutionPlan plan = (OSelectExecutionPlan) result.getExecutionPlan().get();
+      Assert.assertEquals(
+          1,
+          plan.getSteps().stream()
+              .filter(step -> step instanceof GetValueFromIndexKeyStep)
+              .count());
+      Assert.assertEquals(
+          0,
+          plan.getSteps().stream()
+              .filter(step -> step instanceof GetValueFromIndexEntryStep)
+              .count());
+
+      List<OResult> results = result.stream().collect(Collectors.toList());
+      Assert.assertEquals(2, results.size());
+      for (OResult next : results) {
+        Assert.assertEquals("name2", next.getProperty("name"));
+        ODocument doc = db.load((ORID) next.getProperty("rid"));
+        Assert.assertEquals(doc.<Object>field("surname"), next.getProperty("surname"));
+      }
+      Assert.assertEquals(
+          new HashSet<>(Arrays.asList("surname2", null)),
+          results.stream().map(next -> next.getProperty("surname")).collect(Collectors.toSet()));
+    }
+
+    try (OResultSet result =
+        db.query("select name, foo from " + className + " where name = 'name2'")) {
+      OSelectExecutionPlan plan = (OSelectExecutionPlan) result.getExecutionPlan().get();
+      Assert.assertEquals(
+          0,
+          plan.getSteps().stream()
+              .filter(step -> step instanceof GetValueFromIndexKeyStep)
+              .count());
+      Assert.assertEquals(2, result.stream().count());
+    }
+  }
+
+  @Test
+  public void testIncludedFieldsOfUniqueIndex() {
+    String className = "testIncludedFieldsOfUniqueIndex";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("name", OType.STRING);
+    clazz.createProperty("surname", OType.STRING);
+    try {
+      clazz.createIndex(
+          className + ".name",
+          OClass.INDEX_TYPE.UNIQUE.toString(),
+          null,
+          new ODocument().field("include", Collections.singletonList("surname")),
+          new String[] {"name"});
+      Assert.fail();
+    } catch (OIndexException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testPartialIndex() {
+    String className = "testPartialIndex";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("name", OType.STRING);
+    clazz.createProperty("status", OType.STRING);
+    db.command(
+        "create index "
+            + className
+            + ".name on "
+            + className
+            + " (name) notunique where status = 'ACTIVE'");
+
+    for (int i = 0; i < 10; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("name", "name" + i % 2);
+      doc.setProperty("status", i < 4 ? "ACTIVE" : "INACTIVE");
+      db.save(doc);
+    }
+
+    OIndex index = clazz.getClassIndex(className + ".name");
+    Assert.assertEquals(4, index.getInternal().size());
+
+    db.command("update " + className + " set status = 'ACTIVE' where name = 'name0'");
+    Assert.assertEquals(7, index.getInternal().size());
+    db.command("update " + className + " set status = 'DELETED' where name = 'name0' limit 1");
+    Assert.assertEquals(6, index.getInternal().size());
+    db.command("update " + className + " set name = 'name2' where name = 'name1'");
+    Assert.assertEquals(6, index.getInternal().size());
+    db.command("delete from " + className + " where status = 'ACTIVE' and name = 'name2'");
+    Assert.assertEquals(4, index.getInternal().size());
+
+    try (OResultSet result =
+        db.query("select from " + className + " where status = 'ACTIVE' and name = ?", "name0")) {
+      OSelectExecutionPlan plan = (OSelectExecutionPlan) result.getExecutionPlan().get();
+      Assert.assertEquals(FetchFromIndexStep.class, plan.getSteps().get(0).getClass());
+      Assert.assertEquals(4, result.stream().count());
+    }
+
+    try (OResultSet result = db.query("select from " + className + " where name = ?", "name0")) {
+      OSelectExecutionPlan plan = (OSelectExecutionPlan) result.getExecutionPlan().get();
+      Assert.assertFalse(
+          plan.getSteps().stream().anyMatch(step -> step instanceof FetchFromIndexStep));
+      Assert.assertEquals(5, result.stream().count());
+    }
+  }
+
+  @Test
+  public void testPartialIndexWithRangePredicate() {
+    String className = "testPartialIndexWithRangePredicate";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("name", OType.STRING);
+    clazz.createProperty("amount", OType.INTEGER);
+    db.command(
+        "create index "
+            + className
+            + ".name on "
+            + className
+            + " (name) notunique where amount >= 100");
+
+    for (int i = 0; i < 10; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("name", "name" + i % 2);
+      doc.setProperty("amount", i * 30);
+      db.save(doc);
+    }
+
+    try (OResultSet result =
+        db.query("select from " + className + " where name = 'name0' and amount > 150")) {
+      OSelectExecutionPlan plan = (OSelectExecutionPlan) result.getExecutionPlan().get();
+      Assert.assertEquals(FetchFromIndexStep.class, plan.getSteps().get(0).getClass());
+      Assert.assertEquals(2, result.stream().count());
+    }
+
+    try (OResultSet result =
+        db.query("select from " + className + " where name = 'name0' and amount > 50")) {
+      OSelectExecutionPlan plan = (OSelectExecutionPlan) result.getExecutionPlan().get();
+      Assert.assertFalse(
+          plan.getSteps().stream().anyMatch(step -> step instanceof FetchFromIndexStep));
+      Assert.assertEquals(4, result.stream().count());
+    }
+  }
+
+  @Test
+  public void testExpressionIndex() {
+    String className = "testExpressionIndex";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("name", OType.STRING);
+    db.command(
+        "create index "
+            + className
+            + ".lowerName on "
+            + className
+            + " (name) notunique metadata {expression: 'name.toLowerCase()'}");
+
+    for (int i = 0; i < 10; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("name", i % 2 == 0 ? "Name" + i % 3 : "NAME" + i % 3);
+      db.save(doc);
+    }
+    db.command("update " + className + " set name = 'name3' where name = 'NAME1'");
+
+    try (OResultSet result =
+        db.query("select from " + className + " where name.toLowerCase() = ?", "name1")) {
+      OSelectExecutionPlan plan = (OSelectExecutionPlan) result.getExecutionPlan().get();
+      Assert.assertEquals(FetchFromIndexStep.class, plan.getSteps().get(0).getClass());
+      List<OResult> results = result.stream().collect(Collectors.toList());
+      Assert.assertEquals(1, results.size());
+      Assert.assertEquals("Name1", results.get(0).getProperty("name"));
+    }
+
+    try (OResultSet result =
+        db.query("select from " + className + " where name.toLowerCase() = 'name3'")) {
+      OSelectExecutionPlan plan = (OSelectExecutionPlan) result.getExecutionPlan().get();
+      Assert.assertEquals(FetchFromIndexStep.class, plan.getSteps().get(0).getClass());
+      Assert.assertEquals(2, result.stream().count());
+    }
+
+    try (OResultSet result = db.query("select from " + className + " where name = 'name1'")) {
+      OSelectExecutionPlan plan = (OSelectExecutionPlan) result.getExecutionPlan().get();
+      Assert.assertFalse(
+          plan.getSteps().stream().anyMatch(step -> step instanceof FetchFromIndexStep));
+      Assert.assertEquals(0, result.stream().count());
+    }
+  }
+
+  @Test
+  public void testExpressionIndexWithKeyType() {
+    String className = "testExpressionIndexWithKeyType";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("date", OType.DATETIME);
+    db.command(
+        "create index "
+            + className
+            + ".year on "
+            + className
+            + " (date) notunique metadata {expression: \"date.format('yyyy')\","
+            + " keyType: 'STRING'}");
+
+    Calendar calendar = Calendar.getInstance();
+    for (int i = 0; i < 10; i++) {
+      calendar.set(2010 + i % 3, Calendar.MARCH, 1);
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("date", calendar.getTime());
+      db.save(doc);
+    }
+
+    try (OResultSet result =
+        db.query("select from " + className + " where date.format('yyyy') = '2011'")) {
+      OSelectExecutionPlan plan = (OSelectExecutionPlan) result.getExecutionPlan().get();
+      Assert.assertEquals(FetchFromIndexStep.class, plan.getSteps().get(0).getClass());
+      Assert.assertEquals(3, result.stream().count());
+    }
+
+    db.command("delete from " + className + " where date.format('yyyy') = '2011'");
+    Assert.assertEquals(7, clazz.getClassIndex(className + ".year").getInternal().size());
+  }
+
+  @Test
+  public void testMultipleRangesOfCompositeIndex() {
+    String className = "testMultipleRangesOfCompositeIndex";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("a", OType.INTEGER);
+    clazz.createProperty("b", OType.INTEGER);
+    db.command("create index " + className + ".ab on " + className + " (a, b) notunique");
+
+    for (int i = 0; i < 100; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("a", i % 5);
+      doc.setProperty("b", i);
+      db.save(doc);
+    }
+
+    try (OResultSet result =
+        db.query("select from " + className + " where a in [3, 1, 4] and b >= 20 and b < 60")) {
+      OSelectExecutionPlan plan = (OSelectExecutionPlan) result.getExecutionPlan().get();
+      Assert.assertEquals(FetchFromIndexStep.class, plan.getSteps().get(0).getClass());
+      List<Integer> values =
+          result.stream()
+              .map(x -> x.<Integer>getProperty("b"))
+              .sorted()
+              .collect(Collectors.toList());
+      List<Integer> expected =
+          IntStream.range(20, 60)
+              .filter(x -> x % 5 == 1 || x % 5 == 3 || x % 5 == 4)
+              .boxed()
+              .collect(Collectors.toList());
+      Assert.assertEquals(expected, values);
+    }
+  }
+
+  @Test
+  public void testSkipScanOfCompositeIndex() {
+    String className = "testSkipScanOfCompositeIndex";
+    OClass clazz = db.getMetadata().getSchema().createClass(className);
+    clazz.createProperty("a", OType.INTEGER);
+    clazz.createProperty("b", OType.INTEGER);
+    db.command("create index " + className + ".ab on " + className + " (a, b) notunique");
+
+    for (int i = 0; i < 100; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("a", i % 5);
+      doc.setProperty("b", i % 20);
+      db.save(doc);
+    }
+
+    try (OResultSet result = db.query("select from " + className + " where b = 7")) {
+      OSelectExecutionPlan plan = (OSelectExecutionPlan) result.getExecutionPlan().get();
+      Assert.assertEquals(FetchFromIndexStep.class, plan.getSteps().get(0).getClass());
+      Assert.assertTrue(plan.prettyPrint(0, 2).contains("skip-scan"));
+      Assert.assertEquals(5, result.stream().count());
+    }
+
+    // the rest of the index is scanned after the first two values of the first field
+    Object maxPrefixes = OGlobalConfiguration.QUERY_INDEX_SKIP_SCAN_MAX_PREFIXES.getValue();
+    OGlobalConfiguration.QUERY_INDEX_SKIP_SCAN_MAX_PREFIXES.setValue(2);
+    try (OResultSet result = db.query("select from " + className + " where b between 5 and 6")) {
+      Assert.assertEquals(10, result.stream().count());
+    } finally {
+      OGlobalConfiguration.QUERY_INDEX_SKIP_SCAN_MAX_PREFIXES.setValue(maxPrefixes);
+    }
+  }
+
+  @Test
+  public void testParallelClassScan() {
+    String className = "testParallelClassScan";
+    db.command("create class " + className + " clusters 8").close();
+
+    for (int i = 0; i < 1000; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("name", "name" + i);
+      doc.setProperty("val", i);
+      db.save(doc);
+    }
+
+    try (OResultSet result =
+        db.query("select name, val from " + className + " where val < 500 parallel")) {
+      OSelectExecutionPlan plan = (OSelectExecutionPlan) result.getExecutionPlan().get();
+      Assert.assertEquals(ParallelExecStep.class, plan.getSteps().get(0).getClass());
+      // filter and projections are calculated by the workers
+      Assert.assertEquals(1, plan.getSteps().size());
+
+      Set<Integer> values = new HashSet<>();
+      while (result.hasNext()) {
+        OResult item = result.next();
+        int val = item.getProperty("val");
+        Assert.assertEquals("name" + val, item.getProperty("name"));
+        Assert.assertTrue(val < 500);
+        values.add(val);
+      }
+      Assert.assertEquals(500, values.size());
+    }
+
+    try (OResultSet result = db.query("select from " + className + " limit 10 parallel")) {
+      Assert.assertEquals(10, result.stream().count());
+    }
+
+    // records of the transaction are not visible to the workers, the scan is sequential
+    db.begin();
+    ODocument doc = db.newInstance(className);
+    doc.setProperty("val", -1);
+    db.save(doc);
+    try (OResultSet result = db.query("select from " + className + " where val < 500 parallel")) {
+      Assert.assertEquals(501, result.stream().count());
+    }
+    db.rollback();
+  }
+
+  @Test
+  public void testParallelScanOfAbstractClass() {
+    String parentName = "testParallelScanOfAbstractClass";
+    db.command("create class " + parentName + " abstract").close();
+    for (int i = 0; i < 2; i++) {
+      db.command(
+              "create class " + parentName + "Sub" + i + " extends " + parentName + " clusters 4")
+          .close();
+    }
+
+    for (int i = 0; i < 100; i++) {
+      ODocument doc = db.newInstance(parentName + "Sub" + (i % 2));
+      doc.setProperty("val", i);
+      db.save(doc);
+    }
+
+    Map<String, Object> params = new HashMap<>();
+    params.put("max", 50);
+    try (OResultSet result =
+        db.query("select from " + parentName + " where val < :max parallel", params)) {
+      OSelectExecutionPlan plan = (OSelectExecutionPlan) result.getExecutionPlan().get();
+      Assert.assertEquals(ParallelExecStep.class, plan.getSteps().get(0).getClass());
+
+      Set<Integer> values = new HashSet<>();
+      while (result.hasNext()) {
+        values.add(result.next().getProperty("val"));
+      }
+      Assert.assertEquals(50, values.size());
+    }
+  }
+
+  @Test
+  public void testParallelScanStopsWhenClosed() {
+    String className = "testParallelScanStopsWhenClosed";
+    final String functionName = getClass().getSimpleName() + "_slowVal";
+    db.command("create class " + className + " clusters 4").close();
+
+    // every filtered record takes at least a millisecond
+    final AtomicInteger filtered = new AtomicInteger();
+    OSQLEngine.getInstance()
+        .registerFunction(
+            functionName,
+            new OSQLFunctionAbstract(functionName, 1, 1) {
+              @Override
+              public Object execute(
+                  Object iThis,
+                  OIdentifiable iCurrentRecord,
+                  Object iCurrentResult,
+                  Object[] iParams,
+                  OCommandContext iContext) {
+                filtered.incrementAndGet();
+                try {
+                  Thread.sleep(1);
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+                return iParams[0];
+              }
+
+              @Override
+              public String getSyntax() {
+                return functionName + "(<value>)";
+              }
+            });
+
+    for (int i = 0; i < 2000; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("val", i);
+      db.save(doc);
+    }
+
+    // the only matching record is the first one of its cluster, the workers stop their scans once
+    // the stream is closed by the limit, not at the next matching record
+    try (OResultSet result =
+        db.query(
+            "select from " + className + " where " + functionName + "(val) = 0 limit 1 parallel")) {
+      Assert.assertEquals(0, (int) result.next().getProperty("val"));
+      Assert.assertFalse(result.hasNext());
+    }
+    // a cluster has 500 records, no worker completes the scan of its cluster
+    Assert.assertTrue(filtered.get() < 500);
+  }
+
+  @Test
+  public void testAggregationOverBatches() {
+    String className = "testAggregationOverBatches";
+    db.getMetadata().getSchema().createClass(className);
+
+    for (int i = 0; i < 1000; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("group", i % 3);
+      doc.setProperty("val", i);
+      db.save(doc);
+    }
+
+    Object batchSize = OGlobalConfiguration.QUERY_EXECUTION_BATCH_SIZE.getValue();
+    OGlobalConfiguration.QUERY_EXECUTION_BATCH_SIZE.setValue(7);
+    try (OResultSet result =
+        db.query(
+            "select group, count(*) as cnt, sum(val) as total, sum($current.val) as currentTotal"
+                + " from "
+                + className
+                + " where $current.val >= 100 group by group order by group")) {
+      for (int group = 0; group < 3; group++) {
+        OResult item = result.next();
+        int expectedCount = 0;
+        long expectedTotal = 0;
+        for (int i = 100; i < 1000; i++) {
+          if (i % 3 == group) {
+            expectedCount++;
+            expectedTotal += i;
+          }
+        }
+        Assert.assertEquals(group, (int) item.getProperty("group"));
+        Assert.assertEquals(expectedCount, ((Number) item.getProperty("cnt")).intValue());
+        Assert.assertEquals(expectedTotal, ((Number) item.getProperty("total")).longValue());
+        Assert.assertEquals(expectedTotal, ((Number) item.getProperty("currentTotal")).longValue());
+      }
+      Assert.assertFalse(result.hasNext());
+    } finally {
+      OGlobalConfiguration.QUERY_EXECUTION_BATCH_SIZE.setValue(batchSize);
+    }
+  }
+
+  @Test
+  public void testGroupByAndDistinctSpilledToDisk() {
+    String className = "testGroupByAndDistinctSpilledToDisk";
+    db.getMetadata().getSchema().createClass(className);
+
+    for (int i = 0; i < 1000; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("group", i % 200);
+      doc.setProperty("name", "name" + (i % 300));
+      doc.setProperty("val", i);
+      db.save(doc);
+    }
+
+    // with no memory budget everything after the first group is spilled
+    OGlobalConfiguration.QUERY_MEMORY_BUDGET.setValue(0);
+    try {
+      Map<Integer, Long> totals = new HashMap<>();
+      try (OResultSet result =
+          db.query(
+              "select group, count(*) as cnt, sum(val) as total from "
+                  + className
+                  + " group by group")) {
+        while (result.hasNext()) {
+          OResult item = result.next();
+          Assert.assertEquals(5, ((Number) item.getProperty("cnt")).intValue());
+          long total = ((Number) item.getProperty("total")).longValue();
+          Assert.assertNull(totals.put(item.getProperty("group"), total));
+        }
+      }
+      Assert.assertEquals(200, totals.size());
+      for (int group = 0; group < 200; group++) {
+        Assert.assertEquals(5 * group + 2000, (long) totals.get(group));
+      }
+
+      List<String> names = new ArrayList<>();
+      try (OResultSet result =
+          db.query("select distinct name from " + className + " order by name")) {
+        while (result.hasNext()) {
+          names.add(result.next().getProperty("name"));
+        }
+      }
+      List<String> expected = new ArrayList<>();
+      for (int i = 0; i < 300; i++) {
+        expected.add("name" + i);
+      }
+      Collections.sort(expected);
+      Assert.assertEquals(expected, names);
+    } finally {
+      OGlobalConfiguration.QUERY_MEMORY_BUDGET.setValue(64);
+    }
+  }
+
+  @Test
+  public void testOrderBySpilledToDisk() {
+    String className = "testOrderBySpilledToDisk";
+    db.getMetadata().getSchema().createClass(className);
+
+    for (int i = 0; i < 1000; i++) {
+      ODocument doc = db.newInstance(className);
+      doc.setProperty("val", (i * 7) % 1000);
+      db.save(doc);
+    }
+
+    // with no memory budget each result is spilled as a sorted run
+    OGlobalConfiguration.QUERY_MEMORY_BUDGET.setValue(0);
+    try {
+      try (OResultSet result = db.query("select from " + className + " order by val")) {
+        for (int i = 0; i < 1000; i++) {
+          Assert.assertEquals(i, (int) result.next().getProperty("val"));
+        }
+        Assert.assertFalse(result.hasNext());
+      }
+
+      try (OResultSet result =
+          db.query("select val from " + className + " order by val desc skip 5 limit 10")) {
+        for (int i = 994; i > 984; i--) {
+          Assert.assertEquals(i, (int) result.next().getProperty("val"));
+        }
+        Assert.assertFalse(result.hasNext());
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_MEMORY_BUDGET.setValue(64);
+    }
+
+    try (OResultSet result =
+        db.query("select val from " + className + " order by val desc limit 3")) {
+      Assert.assertEquals(999, (int) result.next().getProperty("val"));
+      Assert.assertEquals(998, (int) result.next().getProperty("val"));
+      Assert.assertEquals(997, (int) result.next().getProperty("val"));
+      Assert.assertFalse(result.hasNext());
+    }
+  }
+
+  @Test
+  public void testOrderBySpillPointOfRecords() {
+    String className = "testOrderBySpillPointOfRecords";
+    db.getMetadata().getSchema().createClass(className);
+
+    char[] content = new char[10_000];
+    Arrays.fill(content, 'a');
+    for (int i = 0; i < 300; i++) {
+      ODocument doc = db.newInstance(className);
+      // values of the same length, so all the records have the same size
+      doc.setProperty("val", 1000 + i);
+      doc.setProperty("content", new String(content));
+      db.save(doc);
+    }
+
+    // records loaded from the storage are accounted by their serialized size, not only as
+    // references
+    db.getLocalCache().clear();
+    long recordEstimate;
+    try (OResultSet result = db.query("select from " + className)) {
+      OResult item = result.next();
+      recordEstimate = OMemoryEstimator.estimate(item);
+      Assert.assertTrue(recordEstimate > item.getRecord().get().getSize());
+      while (result.hasNext()) {
+        Assert.assertEquals(recordEstimate, OMemoryEstimator.estimate(result.next()));
+      }
+    }
+
+    Object memoryBudget = OGlobalConfiguration.QUERY_MEMORY_BUDGET.getValue();
+    OGlobalConfiguration.QUERY_MEMORY_BUDGET.setValue(1);
+    try {
+      // the heap of the best results is spilled once it exceeds 1 megabyte
+      int maxResultsInMemory = (int) (1024 * 1024 / recordEstimate);
+      Assert.assertTrue(maxResultsInMemory < 300);
+      Assert.assertFalse(isOrderBySpilled(className, maxResultsInMemory));
+      Assert.assertTrue(isOrderBySpilled(className, maxResultsInMemory + 1));
+    } finally {
+      OGlobalConfiguration.QUERY_MEMORY_BUDGET.setValue(memoryBudget);
+    }
+  }
+
+  private boolean isOrderBySpilled(String className, int limit) {
+    try (OResultSet result =
+        db.query("select from " + className + " order by val desc limit " + limit)) {
+      for (int i = 0; i < limit; i++) {
+        Assert.assertEquals(1299 - i, (int) result.next().getProperty("val"));
+      }
+      Assert.assertFalse(result.hasNext());
+      return result.getExecutionPlan().get().prettyPrint(0, 2).contains("spilled to disk");
+    }
+  }
 }
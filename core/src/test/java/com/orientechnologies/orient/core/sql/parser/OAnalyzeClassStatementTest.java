@@ -0,0 +1,17 @@
+package com.orientechnologies.orient.core.sql.parser;
+
+import org.junit.Test;
+
+public class OAnalyzeClassStatementTest extends OParserTestAbstract {
+
+  @Test
+  public void testPlain() {
+    checkRightSyntax("ANALYZE CLASS Foo");
+    checkRightSyntax("analyze class Foo");
+    checkRightSyntax("analyze class `Foo bar`");
+    checkWrongSyntax("ANALYZE CLASS");
+    checkWrongSyntax("ANALYZE CLASS Foo bar");
+    checkWrongSyntax("ANALYSE CLASS Foo");
+    checkWrongSyntax("ANALYZE CLUSTER Foo");
+  }
+}
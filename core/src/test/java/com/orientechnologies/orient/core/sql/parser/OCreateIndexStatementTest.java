@@ -34,4 +34,14 @@ public class OCreateIndexStatementTest extends OParserTestAbstract {
 
     checkWrongSyntax("CREATE INDEX Foo.bar IF EXISTS on Foo (bar) UNIQUE");
   }
+
+  @Test
+  public void testWhere() {
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (bar) UNIQUE WHERE baz = 'qux'");
+    checkRightSyntax(
+        "CREATE INDEX Foo.bar on Foo (bar) NOTUNIQUE METADATA {'foo':'bar'} WHERE baz > 10");
+    checkRightSyntax("CREATE INDEX Foo.bar on Foo (bar) NOTUNIQUE ENGINE SBTREE WHERE baz = ?");
+
+    checkWrongSyntax("CREATE INDEX Foo.bar on Foo (bar) UNIQUE WHERE");
+  }
 }
@@ -0,0 +1,103 @@
+package com.orientechnologies.orient.core.storage.cache.chm;
+
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AsyncReadCacheReadAheadTest {
+  private static final int PAGE_SIZE = 4 * 1024;
+  private static final int READ_AHEAD_PAGES = 8;
+
+  private ODirectMemoryAllocator allocator;
+  private OByteBufferPool bufferPool;
+  private AsyncReadCache readCache;
+  private OWriteCache writeCache;
+
+  @Before
+  public void before() {
+    allocator = new ODirectMemoryAllocator();
+    bufferPool = new OByteBufferPool(PAGE_SIZE, allocator, 16);
+    readCache =
+        new AsyncReadCache(bufferPool, 1024 * PAGE_SIZE, PAGE_SIZE, false, READ_AHEAD_PAGES);
+    writeCache = new AsyncReadCacheTestIT.MockedWriteCache(bufferPool);
+  }
+
+  @After
+  public void after() {
+    readCache.clear();
+    Assert.assertEquals(0, allocatedPages());
+  }
+
+  @Test
+  public void testSequentialReadsArePrefetched() {
+    for (int pageIndex = 0; pageIndex < 64; pageIndex++) {
+      readCache.releaseFromRead(readCache.loadForRead(1, pageIndex, writeCache, false));
+    }
+
+    Assert.assertTrue(readCache.getReadAheadPages() > 0);
+    // only first three pages of the stream are read before sequential access is detected
+    Assert.assertEquals(61, readCache.getReadAheadHits());
+  }
+
+  @Test
+  public void testBackwardReadsArePrefetched() {
+    for (int pageIndex = 63; pageIndex >= 0; pageIndex--) {
+      readCache.releaseFromRead(readCache.loadForRead(1, pageIndex, writeCache, false));
+    }
+
+    Assert.assertEquals(61, readCache.getReadAheadHits());
+  }
+
+  @Test
+  public void testRandomReadsAreNotPrefetched() {
+    for (int i = 0; i < 64; i++) {
+      readCache.releaseFromRead(readCache.loadForRead(1, (i * 7) % 64 * 2, writeCache, false));
+    }
+
+    Assert.assertEquals(0, readCache.getReadAheadPages());
+  }
+
+  @Test
+  public void testStreamsOfDifferentFilesAreTrackedSeparately() {
+    for (int pageIndex = 0; pageIndex < 32; pageIndex++) {
+      readCache.releaseFromRead(readCache.loadForRead(1, pageIndex, writeCache, false));
+      readCache.releaseFromRead(readCache.loadForRead(2, pageIndex, writeCache, false));
+    }
+
+    Assert.assertEquals(58, readCache.getReadAheadHits());
+  }
+
+  @Test
+  public void testPagesOfClosedFileAreDiscarded() {
+    for (int pageIndex = 0; pageIndex < 3; pageIndex++) {
+      readCache.releaseFromRead(readCache.loadForRead(1, pageIndex, writeCache, false));
+    }
+    Assert.assertTrue(readCache.getReadAheadPages() > 0);
+
+    readCache.closeFile(1, false, writeCache);
+
+    final OCacheEntry cacheEntry = readCache.loadForRead(1, 3, writeCache, false);
+    readCache.releaseFromRead(cacheEntry);
+
+    Assert.assertEquals(0, readCache.getReadAheadHits());
+  }
+
+  @Test
+  public void testUnusedPagesAreReleased() {
+    for (int pageIndex = 0; pageIndex < 4; pageIndex++) {
+      readCache.releaseFromRead(readCache.loadForRead(1, pageIndex, writeCache, false));
+    }
+
+    Assert.assertTrue(readCache.getReadAheadPages() > readCache.getReadAheadHits());
+  }
+
+  private long allocatedPages() {
+    return (allocator.getMemoryConsumption() - (long) bufferPool.getPoolSize() * PAGE_SIZE)
+        / PAGE_SIZE;
+  }
+}
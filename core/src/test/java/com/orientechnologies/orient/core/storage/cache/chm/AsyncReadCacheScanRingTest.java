@@ -0,0 +1,142 @@
+package com.orientechnologies.orient.core.storage.cache.chm;
+
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.directmemory.ODirectMemoryAllocator;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OScanBufferRing;
+import com.orientechnologies.orient.core.storage.cache.OWriteCache;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AsyncReadCacheScanRingTest {
+  private static final int PAGE_SIZE = 4 * 1024;
+
+  private ODirectMemoryAllocator allocator;
+  private OByteBufferPool bufferPool;
+  private AsyncReadCache readCache;
+  private OWriteCache writeCache;
+
+  @Before
+  public void before() {
+    allocator = new ODirectMemoryAllocator();
+    bufferPool = new OByteBufferPool(PAGE_SIZE, allocator, 16);
+    readCache = new AsyncReadCache(bufferPool, 1024 * PAGE_SIZE, PAGE_SIZE, false);
+    writeCache = new AsyncReadCacheTestIT.MockedWriteCache(bufferPool);
+  }
+
+  @After
+  public void after() {
+    readCache.clear();
+    Assert.assertEquals(0, allocatedPages());
+  }
+
+  @Test
+  public void testScanPagesAreNotAdmitted() {
+    final OScanBufferRing ring = new OScanBufferRing(4);
+    ring.attach();
+    try {
+      for (int pageIndex = 0; pageIndex < 16; pageIndex++) {
+        final OCacheEntry cacheEntry = readCache.loadForRead(1, pageIndex, writeCache, false);
+        Assert.assertFalse(cacheEntry.insideCache());
+        readCache.releaseFromRead(cacheEntry);
+      }
+    } finally {
+      ring.detach();
+    }
+
+    Assert.assertEquals(0, readCache.getUsedMemory());
+    Assert.assertEquals(16, readCache.getScanBypassedPages());
+    Assert.assertEquals(0, readCache.getScanRingHits());
+
+    // only pages kept inside of the ring are still allocated
+    Assert.assertEquals(4, allocatedPages());
+
+    ring.close();
+    Assert.assertEquals(0, allocatedPages());
+  }
+
+  @Test
+  public void testRingServesRepeatedReads() {
+    final OScanBufferRing ring = new OScanBufferRing(4);
+    ring.attach();
+    try {
+      for (int i = 0; i < 8; i++) {
+        final OCacheEntry cacheEntry = readCache.loadForRead(1, 0, writeCache, false);
+        readCache.releaseFromRead(cacheEntry);
+      }
+    } finally {
+      ring.detach();
+      ring.close();
+    }
+
+    Assert.assertEquals(1, readCache.getScanBypassedPages());
+    Assert.assertEquals(7, readCache.getScanRingHits());
+  }
+
+  @Test
+  public void testCachedPagesAreServedByCache() {
+    final OCacheEntry cachedEntry = readCache.loadForRead(1, 0, writeCache, false);
+    readCache.releaseFromRead(cachedEntry);
+
+    final OScanBufferRing ring = new OScanBufferRing(4);
+    ring.attach();
+    try {
+      final OCacheEntry cacheEntry = readCache.loadForRead(1, 0, writeCache, false);
+      Assert.assertSame(cachedEntry, cacheEntry);
+      readCache.releaseFromRead(cacheEntry);
+    } finally {
+      ring.detach();
+      ring.close();
+    }
+
+    Assert.assertEquals(0, readCache.getScanBypassedPages());
+  }
+
+  @Test
+  public void testChangedPageIsReloaded() {
+    final OScanBufferRing ring = new OScanBufferRing(4);
+
+    ring.attach();
+    try {
+      readCache.releaseFromRead(readCache.loadForRead(1, 0, writeCache, false));
+    } finally {
+      ring.detach();
+    }
+
+    final OCacheEntry writeEntry = readCache.loadForWrite(1, 0, writeCache, false, null);
+    readCache.releaseFromWrite(writeEntry, writeCache, true);
+    readCache.clear();
+
+    ring.attach();
+    try {
+      readCache.releaseFromRead(readCache.loadForRead(1, 0, writeCache, false));
+    } finally {
+      ring.detach();
+      ring.close();
+    }
+
+    Assert.assertEquals(2, readCache.getScanBypassedPages());
+    Assert.assertEquals(0, readCache.getScanRingHits());
+  }
+
+  @Test
+  public void testNestedRings() {
+    final OScanBufferRing outer = new OScanBufferRing(2);
+    final OScanBufferRing inner = new OScanBufferRing(2);
+
+    outer.attach();
+    inner.attach();
+    Assert.assertSame(inner, OScanBufferRing.current());
+    inner.detach();
+    Assert.assertSame(outer, OScanBufferRing.current());
+    outer.detach();
+    Assert.assertNull(OScanBufferRing.current());
+  }
+
+  private long allocatedPages() {
+    return (allocator.getMemoryConsumption() - (long) bufferPool.getPoolSize() * PAGE_SIZE)
+        / PAGE_SIZE;
+  }
+}
@@ -9,6 +9,7 @@ import com.orientechnologies.orient.core.command.OCommandOutputListener;
 import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
 import com.orientechnologies.orient.core.storage.cache.OCachePointer;
 import com.orientechnologies.orient.core.storage.cache.OPageDataVerificationError;
+import com.orientechnologies.orient.core.storage.cache.OPrefetchedPage;
 import com.orientechnologies.orient.core.storage.cache.OWriteCache;
 import com.orientechnologies.orient.core.storage.cache.local.OBackgroundExceptionListener;
 import com.orientechnologies.orient.core.storage.impl.local.OPageIsBrokenListener;
@@ -336,7 +337,7 @@ public class AsyncReadCacheTestIT {
     }
   }
 
-  private static final class MockedWriteCache implements OWriteCache {
+  static final class MockedWriteCache implements OWriteCache {
     private final OByteBufferPool byteBufferPool;
 
     MockedWriteCache(final OByteBufferPool byteBufferPool) {
@@ -425,6 +426,37 @@ public class AsyncReadCacheTestIT {
       return cachePointer;
     }
 
+    @Override
+    public List<OPrefetchedPage> prefetch(
+        long fileId, long startPageIndex, int pageCount, boolean verifyChecksums) {
+      final List<OPrefetchedPage> pages = new ArrayList<>(pageCount);
+      for (long pageIndex = startPageIndex; pageIndex < startPageIndex + pageCount; pageIndex++) {
+        final OCachePointer cachePointer =
+            load(fileId, pageIndex, new OModifiableBoolean(), verifyChecksums);
+        final long prefetchedPageIndex = pageIndex;
+
+        pages.add(
+            new OPrefetchedPage() {
+              @Override
+              public long getPageIndex() {
+                return prefetchedPageIndex;
+              }
+
+              @Override
+              public OCachePointer get() {
+                return cachePointer;
+              }
+
+              @Override
+              public void release() {
+                cachePointer.decrementReadersReferrer();
+              }
+            });
+      }
+
+      return pages;
+    }
+
     @Override
     public void flush(final long fileId) {}
 
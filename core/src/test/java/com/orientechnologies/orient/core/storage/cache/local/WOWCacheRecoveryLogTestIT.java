@@ -0,0 +1,252 @@
+package com.orientechnologies.orient.core.storage.cache.local;
+
+import com.orientechnologies.common.collection.closabledictionary.OClosableLinkedContainer;
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.serialization.types.OStringSerializer;
+import com.orientechnologies.common.types.OModifiableBoolean;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.storage.OChecksumMode;
+import com.orientechnologies.orient.core.storage.cache.OCachePointer;
+import com.orientechnologies.orient.core.storage.cache.local.doublewritelog.DoubleWriteLogNoOP;
+import com.orientechnologies.orient.core.storage.fs.OFile;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.base.ODurablePage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OLogSequenceNumber;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OWALRecordsFactory;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.cas.CASDiskWriteAheadLog;
+import com.orientechnologies.orient.core.storage.index.hashindex.local.cache.WOWCacheTestIT;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/** Tests of the limit of amount of WAL which is replayed during data restore after crash. */
+public class WOWCacheRecoveryLogTestIT {
+  private static final int pageSize = ODurablePage.NEXT_FREE_POSITION + 8;
+  private static final long maxRecoveryLogSize = 64 * 1024;
+  private static final int pages = 10;
+
+  private static final OByteBufferPool bufferPool = new OByteBufferPool(pageSize);
+  private static Path storagePath;
+  private static String storageName;
+
+  private final OClosableLinkedContainer<Long, OFile> files = new OClosableLinkedContainer<>(1024);
+
+  private CASDiskWriteAheadLog writeAheadLog;
+  private OWOWCache wowCache;
+  private ExecutorService executor;
+  private long fileId;
+  private Object restoreSpeed;
+
+  @BeforeClass
+  public static void beforeClass() {
+    OGlobalConfiguration.FILE_LOCK.setValue(Boolean.FALSE);
+    String buildDirectory = System.getProperty("buildDirectory", ".");
+
+    storageName = "WOWCacheRecoveryLogTest";
+    storagePath = Paths.get(buildDirectory).resolve(storageName);
+
+    OWALRecordsFactory.INSTANCE.registerNewRecord((byte) 128, WOWCacheTestIT.TestRecord.class);
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    bufferPool.clear();
+
+    OGlobalConfiguration.FILE_LOCK.setValue(Boolean.TRUE);
+  }
+
+  @Before
+  public void before() throws Exception {
+    OFileUtils.deleteRecursively(storagePath.toFile());
+    Files.createDirectories(storagePath);
+
+    // 1 megabyte per second, so estimated time of data restore is visible for small WAL
+    restoreSpeed = OGlobalConfiguration.WAL_RESTORE_SPEED.getValue();
+    OGlobalConfiguration.WAL_RESTORE_SPEED.setValue(1);
+
+    writeAheadLog =
+        new CASDiskWriteAheadLog(
+            storageName,
+            storagePath,
+            storagePath,
+            12_000,
+            128,
+            null,
+            null,
+            Integer.MAX_VALUE,
+            Integer.MAX_VALUE,
+            25,
+            true,
+            Locale.US,
+            -1,
+            1000,
+            false,
+            false,
+            true,
+            10);
+    executor = Executors.newCachedThreadPool();
+    // periodic flush is switched off, checks of WAL size are triggered by the test
+    wowCache =
+        new OWOWCache(
+            pageSize,
+            bufferPool,
+            writeAheadLog,
+            new DoubleWriteLogNoOP(),
+            -1,
+            10,
+            1024 * 1024 * 1024,
+            storagePath,
+            storageName,
+            OStringSerializer.INSTANCE,
+            files,
+            1,
+            OChecksumMode.StoreAndVerify,
+            null,
+            null,
+            false,
+            maxRecoveryLogSize,
+            executor);
+
+    wowCache.loadRegisteredFiles();
+    fileId = wowCache.addFile("wowCacheRecoveryLogTest.tst");
+  }
+
+  @After
+  public void after() throws IOException {
+    try {
+      wowCache.delete();
+      writeAheadLog.delete();
+    } finally {
+      executor.shutdown();
+
+      OGlobalConfiguration.WAL_RESTORE_SPEED.setValue(restoreSpeed);
+      OFileUtils.deleteRecursively(storagePath.toFile());
+    }
+  }
+
+  @Test
+  public void testDirtyPagesAreOrderedByLSN() throws IOException {
+    final OLogSequenceNumber olderLSN = logRecord();
+
+    final List<OLogSequenceNumber> lsns = new ArrayList<>();
+    for (int i = 0; i < pages; i++) {
+      lsns.add(logRecord());
+    }
+
+    // pages with greater index contain older changes
+    for (int i = 0; i < pages; i++) {
+      changePage(i, lsns.get(pages - 1 - i));
+    }
+
+    Assert.assertEquals(lsns, wowCache.getDirtyPagesLSNs());
+
+    // the first not flushed change of the page becomes older
+    changePage(0, olderLSN);
+
+    final List<OLogSequenceNumber> expected = new ArrayList<>();
+    expected.add(olderLSN);
+    expected.addAll(lsns.subList(0, pages - 1));
+    Assert.assertEquals(expected, wowCache.getDirtyPagesLSNs());
+  }
+
+  @Test
+  public void testOldestPagesAreFlushedAtHalfOfLimit() throws IOException {
+    final List<OLogSequenceNumber> lsns = new ArrayList<>();
+    for (int i = 0; i < pages; i++) {
+      final OLogSequenceNumber lsn = logRecord();
+      lsns.add(lsn);
+      changePage(i, lsn);
+    }
+
+    final OLogSequenceNumber oldestLSN = lsns.get(0);
+    while (writeAheadLog.size(oldestLSN) < maxRecoveryLogSize / 2) {
+      Assert.assertFalse(wowCache.checkRecoveryLogSize());
+      Assert.assertEquals(lsns, wowCache.getDirtyPagesLSNs());
+
+      logRecord();
+    }
+
+    // page which is changed right now can not be flushed, so WAL still exceeds the limit
+    final OCachePointer pinnedPage = wowCache.load(fileId, 0, new OModifiableBoolean(), false);
+    pinnedPage.acquireExclusiveLock();
+    try {
+      while (writeAheadLog.size(oldestLSN) < maxRecoveryLogSize) {
+        logRecord();
+      }
+
+      Assert.assertTrue(wowCache.checkRecoveryLogSize());
+      Assert.assertEquals(Collections.singletonList(oldestLSN), wowCache.getDirtyPagesLSNs());
+    } finally {
+      pinnedPage.releaseExclusiveLock();
+      pinnedPage.decrementReadersReferrer();
+    }
+
+    Assert.assertFalse(wowCache.checkRecoveryLogSize());
+    Assert.assertTrue(wowCache.getDirtyPagesLSNs().isEmpty());
+  }
+
+  @Test
+  public void testEstimatedRecoveryTime() throws IOException {
+    Assert.assertEquals(0, wowCache.getEstimatedRecoveryTime());
+
+    for (int i = 0; i < 100; i++) {
+      logRecord();
+    }
+
+    // value is updated only by flush of write cache
+    Assert.assertEquals(0, wowCache.getEstimatedRecoveryTime());
+
+    wowCache.checkRecoveryLogSize();
+    final long recoveryLogSize = writeAheadLog.size(writeAheadLog.begin());
+    final long estimatedTime = wowCache.getEstimatedRecoveryTime();
+
+    Assert.assertTrue(estimatedTime > 0);
+    Assert.assertEquals(recoveryLogSize * 1000 / (1024 * 1024), estimatedTime);
+
+    for (int i = 0; i < 100; i++) {
+      logRecord();
+    }
+    wowCache.checkRecoveryLogSize();
+
+    Assert.assertTrue(wowCache.getEstimatedRecoveryTime() > estimatedTime);
+  }
+
+  private OLogSequenceNumber logRecord() throws IOException {
+    return writeAheadLog.log(new WOWCacheTestIT.TestRecord(new byte[1024]));
+  }
+
+  private void changePage(final int pageIndex, final OLogSequenceNumber lsn) throws IOException {
+    while (wowCache.getFilledUpTo(fileId) <= pageIndex) {
+      wowCache.allocateNewPage(fileId);
+    }
+
+    final OCachePointer cachePointer =
+        wowCache.load(fileId, pageIndex, new OModifiableBoolean(), false);
+    cachePointer.acquireExclusiveLock();
+    try {
+      final ByteBuffer buffer = cachePointer.getBuffer();
+      assert buffer != null;
+      buffer.putLong(ODurablePage.NEXT_FREE_POSITION, pageIndex);
+    } finally {
+      cachePointer.releaseExclusiveLock();
+    }
+
+    wowCache.store(fileId, pageIndex, cachePointer);
+    wowCache.updateDirtyPagesTable(cachePointer, lsn);
+    cachePointer.decrementReadersReferrer();
+  }
+}
@@ -8,6 +8,8 @@ import java.nio.ByteOrder;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.Executors;
@@ -133,6 +135,41 @@ public class AsyncFileTest {
     file.close();
   }
 
+  @Test
+  public void testReadSeveralChunks() throws Exception {
+    final AsyncFile file = new AsyncFile(buildDirectoryPath, 1, Executors.newCachedThreadPool());
+    file.create();
+
+    final long position1 = file.allocateSpace(128);
+    final long position2 = file.allocateSpace(256);
+    final long position3 = file.allocateSpace(1024);
+
+    final byte[] data = new byte[128 + 256 + 1024];
+    final Random random = new Random();
+    random.nextBytes(data);
+
+    file.write(position1, ByteBuffer.wrap(data));
+
+    final ByteBuffer result1 = ByteBuffer.allocate(128);
+    final ByteBuffer result2 = ByteBuffer.allocate(256);
+    final ByteBuffer result3 = ByteBuffer.allocate(1024);
+
+    final List<ORawPair<Long, ByteBuffer>> buffers = new ArrayList<>();
+
+    buffers.add(new ORawPair<>(position1, result1));
+    buffers.add(new ORawPair<>(position2, result2));
+    buffers.add(new ORawPair<>(position3, result3));
+
+    final IOResult result = file.read(buffers);
+    result.await();
+
+    Assert.assertArrayEquals(Arrays.copyOfRange(data, 0, 128), result1.array());
+    Assert.assertArrayEquals(Arrays.copyOfRange(data, 128, 128 + 256), result2.array());
+    Assert.assertArrayEquals(Arrays.copyOfRange(data, 128 + 256, data.length), result3.array());
+
+    file.close();
+  }
+
   @Test
   public void testOpenWriteSeveralChunks() throws Exception {
     AsyncFile file = new AsyncFile(buildDirectoryPath, 1, Executors.newCachedThreadPool());
@@ -287,4 +324,43 @@ public class AsyncFileTest {
     file.close();
     Assert.assertFalse(file.isOpen());
   }
+
+  @Test
+  public void testDirectIO() throws Exception {
+    AsyncFile file = new AsyncFile(buildDirectoryPath, 4096, Executors.newCachedThreadPool(), true);
+    file.create();
+
+    final long position1 = file.allocateSpace(4096);
+    final long position2 = file.allocateSpace(4096);
+
+    final byte[] data1 = new byte[4096];
+    final byte[] data2 = new byte[4096];
+
+    final Random random = new Random();
+    random.nextBytes(data1);
+    random.nextBytes(data2);
+
+    // heap buffers are copied into aligned buffers if direct IO is supported by file system
+    final List<ORawPair<Long, ByteBuffer>> buffers = new ArrayList<>();
+    buffers.add(new ORawPair<>(position1, ByteBuffer.wrap(data1)));
+    buffers.add(new ORawPair<>(position2, ByteBuffer.wrap(data2)));
+
+    file.write(buffers).await();
+    file.close();
+
+    file = new AsyncFile(buildDirectoryPath, 4096, Executors.newCachedThreadPool(), true);
+    file.open();
+
+    Assert.assertEquals(2 * 4096, file.getFileSize());
+
+    final ByteBuffer result1 = ByteBuffer.allocate(4096);
+    file.read(position1, result1, true);
+    Assert.assertArrayEquals(data1, result1.array());
+
+    final ByteBuffer result2 = ByteBuffer.allocate(4096);
+    file.read(Collections.singletonList(new ORawPair<>(position2, result2))).await();
+    Assert.assertArrayEquals(data2, result2.array());
+
+    file.close();
+  }
 }
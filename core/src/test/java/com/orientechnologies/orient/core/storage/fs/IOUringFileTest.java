@@ -0,0 +1,135 @@
+package com.orientechnologies.orient.core.storage.fs;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.jnr.OIOUring;
+import com.orientechnologies.common.jnr.ONative;
+import com.orientechnologies.common.util.ORawPair;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class IOUringFileTest {
+  private static Path buildDirectoryPath;
+
+  private OIOUring ring;
+
+  @BeforeClass
+  public static void beforeClass() {
+    String buildDirectory = System.getProperty("buildDirectory");
+    if (buildDirectory == null || buildDirectory.isEmpty()) buildDirectory = ".";
+
+    buildDirectory += File.separator + "ioUringFileTest";
+    buildDirectoryPath = Paths.get(buildDirectory);
+  }
+
+  @Before
+  public void before() {
+    ring = ONative.instance().openIOUring(4);
+    Assume.assumeNotNull(ring);
+
+    OFileUtils.deleteRecursively(buildDirectoryPath.toFile());
+  }
+
+  @After
+  public void after() throws Exception {
+    if (ring != null) {
+      ring.close();
+    }
+
+    OFileUtils.deleteRecursively(buildDirectoryPath.toFile());
+  }
+
+  @Test
+  public void testOpenWrite() throws Exception {
+    IOUringFile file = new IOUringFile(buildDirectoryPath, 1, ring);
+    file.create();
+
+    final long position = file.allocateSpace(1024);
+
+    final byte[] data = new byte[1024];
+    new Random().nextBytes(data);
+
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+    buffer.put(data);
+    file.write(position, buffer);
+
+    file.close();
+
+    file = new IOUringFile(buildDirectoryPath, 1, ring);
+    file.open();
+
+    Assert.assertEquals(1024, file.getFileSize());
+
+    final ByteBuffer result = ByteBuffer.allocate(1024);
+    file.read(position, result, true);
+
+    Assert.assertArrayEquals(data, result.array());
+    file.close();
+  }
+
+  @Test
+  public void testWriteReadSeveralChunks() throws Exception {
+    final IOUringFile file = new IOUringFile(buildDirectoryPath, 1, ring);
+    file.create();
+
+    // more chunks than the size of submission queue
+    final int chunks = 64;
+    final byte[] data = new byte[chunks * 512];
+    new Random().nextBytes(data);
+
+    final List<ORawPair<Long, ByteBuffer>> writeBuffers = new ArrayList<>();
+    for (int i = 0; i < chunks; i++) {
+      final long position = file.allocateSpace(512);
+      final byte[] chunk = Arrays.copyOfRange(data, i * 512, (i + 1) * 512);
+      writeBuffers.add(new ORawPair<>(position, ByteBuffer.wrap(chunk)));
+    }
+
+    file.write(writeBuffers).await();
+    file.synch();
+
+    final List<ORawPair<Long, ByteBuffer>> readBuffers = new ArrayList<>();
+    for (int i = 0; i < chunks; i++) {
+      readBuffers.add(new ORawPair<>((long) i * 512, ByteBuffer.allocateDirect(512)));
+    }
+
+    file.read(readBuffers).await();
+
+    for (int i = 0; i < chunks; i++) {
+      final ByteBuffer buffer = readBuffers.get(i).second;
+      final byte[] chunk = new byte[512];
+      buffer.get(0, chunk);
+
+      Assert.assertArrayEquals(Arrays.copyOfRange(data, i * 512, (i + 1) * 512), chunk);
+    }
+
+    file.close();
+  }
+
+  @Test
+  public void testOpenClose() throws Exception {
+    final IOUringFile file = new IOUringFile(buildDirectoryPath, 1, ring);
+    Assert.assertFalse(file.isOpen());
+
+    file.create();
+    Assert.assertTrue(file.isOpen());
+
+    file.close();
+
+    Assert.assertFalse(file.isOpen());
+    file.open();
+    Assert.assertTrue(file.isOpen());
+    file.close();
+    Assert.assertFalse(file.isOpen());
+  }
+}
@@ -0,0 +1,75 @@
+package com.orientechnologies.orient.core.storage.impl.local;
+
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.wal.OUpdatePageRecord;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OParallelPageRestoreTest {
+  @Test
+  public void testChangesOfPageAreAppliedInOrder() {
+    final int files = 3;
+    final int pages = 16;
+    final int changes = 100;
+
+    final Map<Long, List<Long>> appliedChanges = new ConcurrentHashMap<>();
+
+    try (final OParallelPageRestore pageRestore =
+        new OParallelPageRestore(
+            "test",
+            4,
+            (record, fileId) ->
+                appliedChanges
+                    .computeIfAbsent(fileId * pages + record.getPageIndex(), k -> new ArrayList<>())
+                    .add(record.getOperationUnitId()))) {
+      for (long operationUnitId = 0; operationUnitId < changes; operationUnitId++) {
+        for (int fileId = 0; fileId < files; fileId++) {
+          for (int pageIndex = 0; pageIndex < pages; pageIndex++) {
+            pageRestore.submit(
+                new OUpdatePageRecord(pageIndex, fileId, operationUnitId, null), fileId);
+          }
+        }
+      }
+
+      pageRestore.awaitCompletion();
+      Assert.assertEquals(files * pages * changes, pageRestore.getAppliedChanges());
+      Assert.assertEquals(0, pageRestore.getPendingChanges());
+    }
+
+    Assert.assertEquals(files * pages, appliedChanges.size());
+    for (final List<Long> pageChanges : appliedChanges.values()) {
+      Assert.assertEquals(changes, pageChanges.size());
+      for (int i = 0; i < changes; i++) {
+        Assert.assertEquals(i, pageChanges.get(i).longValue());
+      }
+    }
+  }
+
+  @Test
+  public void testFailureIsPropagated() {
+    try (final OParallelPageRestore pageRestore =
+        new OParallelPageRestore(
+            "test",
+            2,
+            (record, fileId) -> {
+              if (record.getPageIndex() == 3) {
+                throw new IllegalStateException("Page is broken");
+              }
+            })) {
+      for (int pageIndex = 0; pageIndex < 8; pageIndex++) {
+        pageRestore.submit(new OUpdatePageRecord(pageIndex, 1, 1, null), 1);
+      }
+
+      try {
+        pageRestore.awaitCompletion();
+        Assert.fail();
+      } catch (final OStorageException e) {
+        Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+      }
+    }
+  }
+}
@@ -0,0 +1,184 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentEmbedded;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.OElement;
+import com.orientechnologies.orient.core.sql.executor.OResult;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Restores data of the storage which was not closed properly, page changes are applied from WAL by
+ * several threads.
+ */
+public class LocalPaginatedStorageParallelRestoreTestIT {
+  private static final String DB_NAME = "parallelRestoreTest";
+
+  private Path buildDirectory;
+  private OrientDB orientDB;
+  private Object restoreThreads;
+
+  @Before
+  public void before() {
+    buildDirectory =
+        Paths.get(System.getProperty("buildDirectory", "./target"))
+            .resolve(LocalPaginatedStorageParallelRestoreTestIT.class.getSimpleName());
+    OFileUtils.deleteRecursively(buildDirectory.toFile());
+
+    restoreThreads = OGlobalConfiguration.WAL_RESTORE_THREADS.getValue();
+    OGlobalConfiguration.WAL_RESTORE_THREADS.setValue(4);
+  }
+
+  @After
+  public void after() {
+    if (orientDB != null) {
+      orientDB.close();
+    }
+
+    OGlobalConfiguration.WAL_RESTORE_THREADS.setValue(restoreThreads);
+    OFileUtils.deleteRecursively(buildDirectory.toFile());
+  }
+
+  @Test
+  public void testRestoreAfterCrash() throws Exception {
+    final Path livePath = buildDirectory.resolve("live");
+    final Path crashedPath = buildDirectory.resolve("crashed");
+    final Random random = new Random();
+
+    orientDB = new OrientDB("embedded:" + livePath, OrientDBConfig.defaultConfig());
+    orientDB.execute(
+        "create database " + DB_NAME + " plocal users (admin identified by 'admin' role admin)");
+    try (ODatabaseSession session = orientDB.open(DB_NAME, "admin", "admin")) {
+      final OClass clazz = session.createClass("Item");
+      clazz.createProperty("key", OType.INTEGER);
+      clazz.createProperty("value", OType.STRING);
+      clazz.createIndex("Item.key", OClass.INDEX_TYPE.UNIQUE, "key");
+    }
+    orientDB.close();
+
+    // files of the properly closed storage, the rest of changes is restored from WAL
+    copyDirectory(livePath.resolve(DB_NAME), crashedPath.resolve(DB_NAME), path -> true);
+
+    orientDB = new OrientDB("embedded:" + livePath, OrientDBConfig.defaultConfig());
+    final Map<ORID, Integer> keys = new HashMap<>();
+    final Map<Integer, String> values = new HashMap<>();
+    try (ODatabaseSession session = orientDB.open(DB_NAME, "admin", "admin")) {
+      final List<ORID> rids = new ArrayList<>();
+      for (int i = 0; i < 10_000; i++) {
+        session.begin();
+        final OElement element = session.newElement("Item");
+        element.setProperty("key", i);
+        final String value = randomValue(random);
+        element.setProperty("value", value);
+        session.save(element);
+        session.commit();
+
+        rids.add(element.getIdentity());
+        keys.put(element.getIdentity(), i);
+        values.put(i, value);
+      }
+
+      for (int i = 0; i < 2_000; i++) {
+        final ORID rid = rids.get(random.nextInt(rids.size()));
+        final int key = keys.get(rid);
+
+        session.begin();
+        if (random.nextBoolean()) {
+          final OElement element = session.load(rid);
+          final String value = randomValue(random);
+          element.setProperty("value", value);
+          session.save(element);
+          values.put(key, value);
+        } else {
+          session.delete(rid);
+          values.remove(key);
+          keys.remove(rid);
+          rids.remove(rid);
+        }
+        session.commit();
+      }
+
+      final OAbstractPaginatedStorage storage =
+          (OAbstractPaginatedStorage) ((ODatabaseDocumentEmbedded) session).getStorage();
+      storage.getWALInstance().flush();
+
+      // WAL and the flag of not properly closed storage, data files are not copied
+      copyDirectory(
+          livePath.resolve(DB_NAME),
+          crashedPath.resolve(DB_NAME),
+          path -> {
+            final String name = path.getFileName().toString();
+            return name.endsWith(".wal") || name.equals("dirty.fl");
+          });
+    }
+    orientDB.close();
+
+    orientDB = new OrientDB("embedded:" + crashedPath, OrientDBConfig.defaultConfig());
+    Assert.assertTrue(orientDB.exists(DB_NAME));
+    try (ODatabaseSession session = orientDB.open(DB_NAME, "admin", "admin")) {
+      final OAbstractPaginatedStorage storage =
+          (OAbstractPaginatedStorage) ((ODatabaseDocumentEmbedded) session).getStorage();
+      Assert.assertTrue(storage.wereDataRestoredAfterOpen());
+
+      Assert.assertEquals(values.size(), session.countClass("Item"));
+      for (final Map.Entry<ORID, Integer> entry : keys.entrySet()) {
+        final OElement element = session.load(entry.getKey());
+        Assert.assertNotNull(element);
+        Assert.assertEquals(entry.getValue(), element.getProperty("key"));
+        Assert.assertEquals(values.get(entry.getValue()), element.getProperty("value"));
+      }
+
+      for (final Map.Entry<Integer, String> entry : values.entrySet()) {
+        try (OResultSet resultSet =
+            session.query("select from Item where key = ?", entry.getKey())) {
+          final OResult result = resultSet.next();
+          Assert.assertEquals(entry.getValue(), result.getProperty("value"));
+          Assert.assertFalse(resultSet.hasNext());
+        }
+      }
+    }
+  }
+
+  private static String randomValue(final Random random) {
+    final char[] chars = new char[16 + random.nextInt(256)];
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = (char) ('a' + random.nextInt(26));
+    }
+    return new String(chars);
+  }
+
+  private static void copyDirectory(final Path from, final Path to, final Predicate<Path> filter)
+      throws IOException {
+    Files.createDirectories(to);
+    try (final Stream<Path> files = Files.list(from)) {
+      for (final Path file : (Iterable<Path>) files::iterator) {
+        if (Files.isRegularFile(file) && filter.test(file)) {
+          Files.copy(file, to.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+        }
+      }
+    }
+  }
+}
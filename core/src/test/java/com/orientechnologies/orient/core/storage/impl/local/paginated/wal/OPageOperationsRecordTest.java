@@ -0,0 +1,183 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated.wal;
+
+import com.orientechnologies.common.directmemory.MemTrace;
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.directmemory.OPointer;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntryImpl;
+import com.orientechnologies.orient.core.storage.cache.OCachePointer;
+import com.orientechnologies.orient.core.storage.cluster.OClusterPage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OCacheEntryChanges;
+import com.orientechnologies.orient.core.storage.index.sbtree.multivalue.v2.CellBTreeMultiValueV2Bucket;
+import com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3.CellBTreeSingleValueBucketV3;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OPageOperationsRecordTest {
+  @Test
+  public void testSingleValueBucketOperations() {
+    assertRedo(
+        cacheEntry -> {
+          final CellBTreeSingleValueBucketV3<Integer> bucket =
+              new CellBTreeSingleValueBucketV3<>(cacheEntry);
+          bucket.init(true);
+          for (int i = 0; i < 20; i++) {
+            bucket.addLeafEntry(i, new byte[] {(byte) i, 1, 2, 3}, new byte[] {0, 1, 2, 3, 4, 5});
+          }
+
+          bucket.removeLeafEntry(5, new byte[4]);
+          bucket.updateValue(7, new byte[] {9, 9, 9, 9, 9, 9}, 4);
+          bucket.setLeftSibling(12);
+          bucket.setRightSibling(14);
+        },
+        true);
+  }
+
+  @Test
+  public void testSingleValueNonLeafBucketOperations() {
+    assertRedo(
+        cacheEntry -> {
+          final CellBTreeSingleValueBucketV3<Integer> bucket =
+              new CellBTreeSingleValueBucketV3<>(cacheEntry);
+          bucket.init(false);
+          for (int i = 0; i < 20; i++) {
+            bucket.addNonLeafEntry(i, i, i + 1, new byte[] {(byte) i, 1, 2});
+          }
+
+          bucket.removeNonLeafEntry(3, new byte[3], true);
+          bucket.removeNonLeafEntry(10, new byte[3], false);
+        },
+        true);
+  }
+
+  @Test
+  public void testPrefixCompressedBucketOperations() {
+    assertRedo(
+        cacheEntry -> {
+          final CellBTreeSingleValueBucketV3<Integer> bucket =
+              new CellBTreeSingleValueBucketV3<>(cacheEntry);
+          final byte[] value = new byte[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+          bucket.init(true, 1);
+          for (int i = 0; i < 20; i++) {
+            bucket.addLeafEntry(i, new byte[] {4, 1, 2, (byte) i}, value);
+          }
+
+          bucket.addLeafEntry(0, new byte[] {3, 1, 7}, value);
+          bucket.removeLeafEntry(5, new byte[4]);
+          bucket.updateValue(7, new byte[] {9, 9, 9, 9, 9, 9, 9, 9, 9, 9}, 4);
+          bucket.addAll(
+              Collections.singletonList(new byte[] {4, 1, 8, 0, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9}),
+              null);
+        },
+        true);
+  }
+
+  @Test
+  public void testMultiValueBucketOperations() {
+    assertRedo(
+        cacheEntry -> {
+          final CellBTreeMultiValueV2Bucket<Integer> bucket =
+              new CellBTreeMultiValueV2Bucket<>(cacheEntry);
+          bucket.init(true);
+          for (int i = 0; i < 10; i++) {
+            bucket.createMainLeafEntry(i, new byte[] {(byte) i, 1}, new ORecordId(1, i), i);
+            bucket.appendNewLeafEntry(i, new ORecordId(2, i));
+            bucket.appendNewLeafEntry(i, new ORecordId(3, i));
+          }
+
+          bucket.removeLeafEntry(2, new ORecordId(2, 2));
+          bucket.incrementEntriesCount(4);
+          bucket.decrementEntriesCount(4);
+          bucket.removeMainLeafEntry(6, 2);
+          bucket.setRightSibling(3);
+        },
+        true);
+  }
+
+  @Test
+  public void testClusterPageOperations() {
+    assertRedo(
+        cacheEntry -> {
+          final OClusterPage page = new OClusterPage(cacheEntry);
+          page.init();
+          for (int i = 0; i < 20; i++) {
+            page.appendRecord(1, new byte[] {(byte) i, 1, 2, 3, 4}, -1, Collections.emptySet());
+          }
+
+          page.deleteRecord(3, true);
+          page.deleteRecord(5, true);
+          page.appendRecord(2, new byte[] {42, 43}, -1, Collections.singleton(4));
+          page.replaceRecord(7, new byte[] {5, 4, 3, 2, 1}, 3);
+          page.setNextPage(10);
+          page.setPrevPage(8);
+        },
+        true);
+  }
+
+  @Test
+  public void testPhysicalChangesDisableOperations() {
+    assertRedo(
+        cacheEntry -> {
+          final OClusterPage page = new OClusterPage(cacheEntry);
+          page.init();
+          page.appendRecord(1, new byte[10], -1, Collections.emptySet());
+          page.setRecordLongValue(0, 0, 42);
+        },
+        false);
+  }
+
+  private static void assertRedo(final Consumer<OCacheEntry> operations, final boolean logical) {
+    final OByteBufferPool bufferPool = OByteBufferPool.instance(null);
+
+    final OPointer trackedPointer = bufferPool.acquireDirect(true, MemTrace.TEST);
+    final OCachePointer trackedCachePointer = new OCachePointer(trackedPointer, bufferPool, 0, 0);
+    trackedCachePointer.incrementReferrer();
+
+    final OPointer redoPointer = bufferPool.acquireDirect(true, MemTrace.TEST);
+    final OCachePointer redoCachePointer = new OCachePointer(redoPointer, bufferPool, 0, 0);
+    redoCachePointer.incrementReferrer();
+
+    try {
+      final OCacheEntryChanges trackedEntry = new OCacheEntryChanges(false, null);
+      trackedEntry.setDelegate(new OCacheEntryImpl(0, 0, trackedCachePointer, false, null));
+
+      operations.accept(trackedEntry);
+
+      final OWALChanges changes = trackedEntry.getChanges();
+      final List<OPageOperation> pageOperations = changes.getPageOperations();
+      if (!logical) {
+        Assert.assertNull(pageOperations);
+        return;
+      }
+
+      Assert.assertNotNull(pageOperations);
+      Assert.assertFalse(pageOperations.isEmpty());
+
+      final OPageOperationsRecord record = new OPageOperationsRecord(0, 1, 2, pageOperations);
+      final ByteBuffer serialized = OWALRecordsFactory.toStream(record);
+      final byte[] content = new byte[serialized.limit()];
+      serialized.rewind();
+      serialized.get(content);
+
+      final OPageOperationsRecord restored =
+          (OPageOperationsRecord) OWALRecordsFactory.INSTANCE.fromStream(content);
+      Assert.assertEquals(pageOperations.size(), restored.getOperations().size());
+
+      final ByteBuffer trackedBuffer = trackedCachePointer.getBuffer();
+      changes.applyChanges(trackedBuffer);
+
+      restored.redo(new OCacheEntryImpl(0, 0, redoCachePointer, false, null));
+      final ByteBuffer redoBuffer = redoCachePointer.getBuffer();
+
+      Assert.assertEquals(0, trackedBuffer.compareTo(redoBuffer));
+    } finally {
+      trackedCachePointer.decrementReferrer();
+      redoCachePointer.decrementReferrer();
+    }
+  }
+}
@@ -17,6 +17,11 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import org.junit.*;
 
@@ -39,6 +44,72 @@ public class CASDiskWriteAheadLogIT {
     OFileUtils.deleteRecursively(testDirectory.toFile());
   }
 
+  @Test
+  public void testSizeAcrossSegments() throws Exception {
+    final long seed = System.nanoTime();
+    System.out.println("testSizeAcrossSegments seed : " + seed);
+    final Random random = new Random(seed);
+
+    final CASDiskWriteAheadLog wal =
+        new CASDiskWriteAheadLog(
+            "walTest",
+            testDirectory,
+            testDirectory,
+            100,
+            64,
+            null,
+            null,
+            Integer.MAX_VALUE,
+            Integer.MAX_VALUE,
+            20,
+            true,
+            Locale.US,
+            -1,
+            1000,
+            false,
+            false,
+            false,
+            10);
+    try {
+      final List<TestRecord> firstSegmentRecords = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        final TestRecord record = new TestRecord(random, 3 * wal.pageSize(), 1);
+        wal.log(record);
+        firstSegmentRecords.add(record);
+      }
+
+      wal.appendNewSegment();
+
+      OLogSequenceNumber lastLSN = null;
+      for (int i = 0; i < 10; i++) {
+        lastLSN = wal.log(new TestRecord(random, 3 * wal.pageSize(), 1));
+      }
+      Assert.assertEquals(lastLSN, wal.end());
+
+      final TestRecord firstRecord = firstSegmentRecords.get(0);
+      final TestRecord lastRecord = firstSegmentRecords.get(firstSegmentRecords.size() - 1);
+
+      // completed segment is accounted till the end of its last record, not till its beginning
+      final long firstSegmentEnd = lastRecord.getLsn().getPosition() + lastRecord.getDistance();
+      Assert.assertEquals(
+          firstSegmentEnd - lastRecord.getLsn().getPosition() + lastLSN.getPosition(),
+          wal.size(lastRecord.getLsn()));
+      Assert.assertEquals(
+          firstSegmentEnd - firstRecord.getLsn().getPosition() + lastLSN.getPosition(),
+          wal.size(firstRecord.getLsn()));
+
+      // records of the same segment differ by the distance between their positions
+      final TestRecord middleRecord = firstSegmentRecords.get(50);
+      Assert.assertEquals(
+          middleRecord.getLsn().getPosition() - firstRecord.getLsn().getPosition(),
+          wal.size(firstRecord.getLsn()) - wal.size(middleRecord.getLsn()));
+
+      Assert.assertEquals(0, wal.size(lastLSN));
+    } finally {
+      wal.close();
+    }
+  }
+
   @Test
   @Ignore
   public void testAddSingleOnePageRecord() throws Exception {
@@ -4743,6 +4814,101 @@ public class CASDiskWriteAheadLogIT {
         wal.maxCacheSize());
   }
 
+  @Test
+  public void testGroupCommit() throws Exception {
+    final CASDiskWriteAheadLog wal =
+        new CASDiskWriteAheadLog(
+            "walTest",
+            testDirectory,
+            testDirectory,
+            100,
+            64,
+            null,
+            null,
+            Integer.MAX_VALUE,
+            Integer.MAX_VALUE,
+            20,
+            true,
+            Locale.US,
+            -1,
+            60_000,
+            false,
+            true,
+            false,
+            10,
+            500,
+            64 * 1024);
+
+    final int threads = 16;
+    final int commits = 100;
+
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (int n = 0; n < threads; n++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  final Random random = new Random();
+                  for (int i = 0; i < commits; i++) {
+                    final OLogSequenceNumber lsn = wal.log(new TestRecord(random, 256, 1));
+
+                    final CompletableFuture<WrittenUpTo> commit = wal.groupCommit(lsn);
+                    Assert.assertNotNull(commit);
+
+                    final WrittenUpTo writtenUpTo = commit.get(10, TimeUnit.SECONDS);
+                    Assert.assertTrue(writtenUpTo.getLsn().compareTo(lsn) >= 0);
+                    Assert.assertTrue(wal.getFlushedLsn().compareTo(lsn) >= 0);
+                  }
+
+                  return null;
+                }));
+      }
+
+      for (final Future<Void> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    final CommitWaitHistogram histogram = wal.getCommitWaitHistogram();
+    Assert.assertEquals(threads * commits, histogram.getCount());
+    Assert.assertEquals(threads * commits, Arrays.stream(histogram.getCounts()).sum());
+    Assert.assertTrue(histogram.getPercentile(50) <= histogram.getPercentile(99));
+
+    wal.close();
+  }
+
+  @Test
+  public void testGroupCommitDisabled() throws Exception {
+    final CASDiskWriteAheadLog wal =
+        new CASDiskWriteAheadLog(
+            "walTest",
+            testDirectory,
+            testDirectory,
+            100,
+            64,
+            null,
+            null,
+            Integer.MAX_VALUE,
+            Integer.MAX_VALUE,
+            20,
+            true,
+            Locale.US,
+            -1,
+            1000,
+            false,
+            false,
+            false,
+            10);
+
+    final OLogSequenceNumber lsn = wal.log(new TestRecord(new Random(), 256, 1));
+    Assert.assertNull(wal.groupCommit(lsn));
+
+    wal.close();
+  }
+
   private void checkThatSegmentsBellowAreRemoved(CASDiskWriteAheadLog wal) {
     final OLogSequenceNumber begin = wal.begin();
 
@@ -0,0 +1,138 @@
+package com.orientechnologies.orient.core.storage.index.engine;
+
+import com.orientechnologies.orient.core.config.IndexEngineData;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+import java.util.stream.LongStream;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OIndexBloomFilterTest {
+  @Test
+  public void testNoFalseNegatives() {
+    final OIndexBloomFilter filter = create(OType.LONG);
+    try {
+      filter.addAll(LongStream.range(0, 100_000).<Object>mapToObj(i -> i * 3));
+
+      for (long i = 0; i < 100_000; i++) {
+        Assert.assertTrue(filter.mightContain(i * 3));
+        // keys of all integral types are hashed by their long values
+        Assert.assertTrue(i * 3 > Integer.MAX_VALUE || filter.mightContain((int) (i * 3)));
+      }
+    } finally {
+      filter.close();
+    }
+  }
+
+  @Test
+  public void testFalsePositiveRate() {
+    final OIndexBloomFilter filter = create(OType.STRING);
+    try {
+      for (int i = 0; i < 100_000; i++) {
+        filter.add("key" + i);
+      }
+
+      int falsePositives = 0;
+      for (int i = 100_000; i < 200_000; i++) {
+        if (filter.mightContain("key" + i)) {
+          falsePositives++;
+          filter.falsePositive();
+        }
+      }
+
+      Assert.assertTrue(falsePositives < 100_000 * 0.02);
+      Assert.assertEquals(falsePositives / 100_000.0, filter.getFalsePositiveRate(), 1e-9);
+      Assert.assertTrue(filter.getMemoryUsage() > 100_000 / 8);
+    } finally {
+      filter.close();
+    }
+  }
+
+  @Test
+  public void testCompositeKeys() {
+    final OIndexBloomFilter filter = create(OType.STRING, OType.DATETIME, OType.LINK);
+    try {
+      final OCompositeKey key = new OCompositeKey("name", new Date(1_000), new ORecordId(10, 20));
+      filter.add(key);
+
+      Assert.assertTrue(
+          filter.mightContain(new OCompositeKey("name", new Date(1_000), new ORecordId(10, 20))));
+      Assert.assertFalse(
+          filter.mightContain(new OCompositeKey("name", new Date(2_000), new ORecordId(10, 20))));
+      // partial keys and keys of unexpected types are never rejected
+      Assert.assertTrue(filter.mightContain(new OCompositeKey("other", new Date(2_000))));
+      Assert.assertTrue(filter.mightContain("name"));
+    } finally {
+      filter.close();
+    }
+  }
+
+  @Test
+  public void testUnexpectedKeyDisablesFilter() {
+    final OIndexBloomFilter filter = create(OType.INTEGER);
+    try {
+      filter.add(1);
+      Assert.assertFalse(filter.mightContain(2));
+
+      filter.add("2");
+      Assert.assertTrue(filter.mightContain(2));
+    } finally {
+      filter.close();
+    }
+  }
+
+  @Test
+  public void testUnsupportedKeyTypes() {
+    Assert.assertTrue(OIndexBloomFilter.isSupported(new OType[] {OType.STRING, OType.LONG}));
+    Assert.assertFalse(OIndexBloomFilter.isSupported(new OType[] {OType.STRING, OType.DOUBLE}));
+    Assert.assertFalse(OIndexBloomFilter.isSupported(new OType[] {OType.DATE}));
+    Assert.assertFalse(OIndexBloomFilter.isSupported(null));
+
+    Assert.assertNull(
+        OIndexBloomFilter.create(
+            "bloomFilterTest", engineData(Collections.emptyMap(), OType.STRING)));
+    Assert.assertNull(
+        OIndexBloomFilter.create(
+            "bloomFilterTest",
+            engineData(
+                Collections.singletonMap(OIndexBloomFilter.BLOOM_FILTER_PROPERTY, "true"),
+                OType.DECIMAL)));
+  }
+
+  private static OIndexBloomFilter create(final OType... keyTypes) {
+    final OIndexBloomFilter filter =
+        OIndexBloomFilter.create(
+            "bloomFilterTest",
+            engineData(
+                Collections.singletonMap(OIndexBloomFilter.BLOOM_FILTER_PROPERTY, "true"),
+                keyTypes));
+    Assert.assertNotNull(filter);
+    return filter;
+  }
+
+  private static IndexEngineData engineData(
+      final Map<String, String> engineProperties, final OType... keyTypes) {
+    return new IndexEngineData(
+        0,
+        "bloomFilterIndex",
+        "CELL_BTREE",
+        "UNIQUE",
+        true,
+        4,
+        1,
+        false,
+        (byte) 0,
+        (byte) 0,
+        true,
+        keyTypes,
+        false,
+        keyTypes.length,
+        null,
+        null,
+        engineProperties);
+  }
+}
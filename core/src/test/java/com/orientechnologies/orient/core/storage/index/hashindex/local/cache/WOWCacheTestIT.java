@@ -167,6 +167,7 @@ public class WOWCacheTestIT {
             null,
             null,
             false,
+            0,
             Executors.newCachedThreadPool());
 
     wowCache.loadRegisteredFiles();
@@ -270,6 +271,7 @@ public class WOWCacheTestIT {
             iv,
             aesKey,
             false,
+            0,
             Executors.newCachedThreadPool());
 
     wowCache.loadRegisteredFiles();
@@ -494,6 +496,7 @@ public class WOWCacheTestIT {
             iv,
             aesKey,
             false,
+            0,
             Executors.newCachedThreadPool());
 
     wowCache.loadRegisteredFiles();
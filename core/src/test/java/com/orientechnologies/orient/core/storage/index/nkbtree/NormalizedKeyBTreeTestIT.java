@@ -0,0 +1,198 @@
+package com.orientechnologies.orient.core.storage.index.nkbtree;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.db.ODatabaseInternal;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OrientDB;
+import com.orientechnologies.orient.core.db.OrientDBConfig;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
+import java.io.File;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class NormalizedKeyBTreeTestIT {
+  private OAtomicOperationsManager atomicOperationsManager;
+  private NormalizedKeyBTree tree;
+  private OrientDB orientDB;
+
+  private String dbName;
+
+  @Before
+  public void before() throws Exception {
+    final String buildDirectory =
+        System.getProperty("buildDirectory", ".")
+            + File.separator
+            + NormalizedKeyBTreeTestIT.class.getSimpleName();
+
+    dbName = "normalizedKeyBTreeTest";
+    final File dbDirectory = new File(buildDirectory, dbName);
+    OFileUtils.deleteRecursively(dbDirectory);
+
+    final OrientDBConfig config = OrientDBConfig.builder().build();
+    orientDB = new OrientDB("plocal:" + buildDirectory, config);
+    orientDB.execute(
+        "create database " + dbName + " plocal users ( admin identified by 'admin' role admin)");
+
+    OAbstractPaginatedStorage storage;
+    try (ODatabaseSession databaseDocumentTx = orientDB.open(dbName, "admin", "admin")) {
+      storage =
+          (OAbstractPaginatedStorage) ((ODatabaseInternal<?>) databaseDocumentTx).getStorage();
+    }
+    tree = new NormalizedKeyBTree("normalizedKeyBTree", ".nkbt", ".nnkbt", storage, true);
+    atomicOperationsManager = storage.getAtomicOperationsManager();
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null,
+        atomicOperation ->
+            tree.create(
+                atomicOperation, null, new OType[] {OType.INTEGER, OType.DATETIME}, 2, null));
+  }
+
+  @After
+  public void afterMethod() {
+    orientDB.drop(dbName);
+    orientDB.close();
+  }
+
+  @Test
+  public void testSupportedTypes() {
+    Assert.assertTrue(NormalizedKeyBTree.isSupported(new OType[] {OType.LONG, OType.SHORT}));
+    Assert.assertFalse(NormalizedKeyBTree.isSupported(new OType[] {OType.LONG, OType.STRING}));
+    Assert.assertFalse(NormalizedKeyBTree.isSupported(new OType[] {OType.DOUBLE}));
+    Assert.assertFalse(NormalizedKeyBTree.isSupported(new OType[0]));
+  }
+
+  @Test
+  public void testPutGetAndIterate() throws Exception {
+    final NavigableMap<OCompositeKey, ORID> keys = fill(20_000);
+
+    for (final Map.Entry<OCompositeKey, ORID> entry : keys.entrySet()) {
+      Assert.assertEquals(entry.getValue(), tree.get(entry.getKey()));
+    }
+    Assert.assertNull(tree.get(new OCompositeKey(42, new Date(Long.MAX_VALUE))));
+
+    Assert.assertEquals(keys.size(), tree.size());
+    Assert.assertEquals(keys.firstKey(), tree.firstKey());
+    Assert.assertEquals(keys.lastKey(), tree.lastKey());
+
+    try (final Stream<ORawPair<Object, ORID>> stream = tree.allEntries()) {
+      assertEntries(keys, stream);
+    }
+  }
+
+  @Test
+  public void testRangesOfPartialKeys() throws Exception {
+    final NavigableMap<OCompositeKey, ORID> keys = fill(20_000);
+
+    final OCompositeKey from = new OCompositeKey((Object) (-100));
+    final OCompositeKey to = new OCompositeKey((Object) 100);
+
+    try (final Stream<ORawPair<Object, ORID>> stream =
+        tree.iterateEntriesBetween(from, true, to, true, true)) {
+      assertEntries(
+          keys.subMap(
+              new OCompositeKey(-100, new Date(Long.MIN_VALUE)),
+              true,
+              new OCompositeKey(100, new Date(Long.MAX_VALUE)),
+              true),
+          stream);
+    }
+
+    try (final Stream<ORawPair<Object, ORID>> stream =
+        tree.iterateEntriesBetween(from, false, to, false, false)) {
+      assertEntries(
+          keys.subMap(
+                  new OCompositeKey(-99, new Date(Long.MIN_VALUE)),
+                  true,
+                  new OCompositeKey(99, new Date(Long.MAX_VALUE)),
+                  true)
+              .descendingMap(),
+          stream);
+    }
+
+    try (final Stream<ORawPair<Object, ORID>> stream = tree.iterateEntriesMajor(to, true, true)) {
+      assertEntries(keys.tailMap(new OCompositeKey(100, new Date(Long.MIN_VALUE)), true), stream);
+    }
+
+    try (final Stream<ORawPair<Object, ORID>> stream =
+        tree.iterateEntriesMinor(from, false, false)) {
+      assertEntries(
+          keys.headMap(new OCompositeKey(-100, new Date(Long.MIN_VALUE)), false).descendingMap(),
+          stream);
+    }
+  }
+
+  @Test
+  public void testRemove() throws Exception {
+    final NavigableMap<OCompositeKey, ORID> keys = fill(10_000);
+
+    final Iterator<Map.Entry<OCompositeKey, ORID>> iterator = keys.entrySet().iterator();
+    int counter = 0;
+    while (iterator.hasNext()) {
+      final Map.Entry<OCompositeKey, ORID> entry = iterator.next();
+      if (counter++ % 3 == 0) {
+        atomicOperationsManager.executeInsideAtomicOperation(
+            null,
+            atomicOperation ->
+                Assert.assertEquals(
+                    entry.getValue(), tree.remove(atomicOperation, entry.getKey())));
+        iterator.remove();
+      }
+    }
+
+    Assert.assertEquals(keys.size(), tree.size());
+    try (final Stream<ORawPair<Object, ORID>> stream = tree.allEntries()) {
+      assertEntries(keys, stream);
+    }
+  }
+
+  private NavigableMap<OCompositeKey, ORID> fill(final int count) throws Exception {
+    final long seed = System.nanoTime();
+    System.out.println("Seed : " + seed);
+    final Random random = new Random(seed);
+
+    final NavigableMap<OCompositeKey, ORID> keys = new TreeMap<>();
+    for (int i = 0; i < count; i++) {
+      // negative values check that order of normalized keys is the same as order of values
+      final OCompositeKey key =
+          new OCompositeKey(
+              random.nextInt(2_000) - 1_000, new Date(random.nextLong() % 1_000_000_000_000L));
+      final ORID value = new ORecordId(i % 32_000, i);
+
+      atomicOperationsManager.executeInsideAtomicOperation(
+          null, atomicOperation -> tree.put(atomicOperation, key, value));
+      keys.put(key, value);
+    }
+
+    return keys;
+  }
+
+  private static void assertEntries(
+      final Map<OCompositeKey, ORID> expected, final Stream<ORawPair<Object, ORID>> stream) {
+    final List<ORawPair<Object, ORID>> entries = stream.collect(Collectors.toList());
+    Assert.assertEquals(expected.size(), entries.size());
+
+    final Iterator<ORawPair<Object, ORID>> entriesIterator = entries.iterator();
+    for (final Map.Entry<OCompositeKey, ORID> entry : expected.entrySet()) {
+      final ORawPair<Object, ORID> actual = entriesIterator.next();
+      Assert.assertEquals(entry.getKey(), actual.first);
+      Assert.assertEquals(entry.getValue(), actual.second);
+    }
+  }
+}
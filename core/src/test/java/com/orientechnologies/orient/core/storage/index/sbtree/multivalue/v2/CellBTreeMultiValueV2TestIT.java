@@ -17,6 +17,7 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoper
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -1264,6 +1265,82 @@ public class CellBTreeMultiValueV2TestIT {
     Assert.assertEquals(multiValueTree.lastKey(), keyValues.lastKey());
   }
 
+  @Test
+  public void testIterateEntriesBetweenRanges() throws Exception {
+    final int keysCount = 50_000;
+    final NavigableMap<String, Set<ORID>> keyValues = new TreeMap<>();
+    final Random random = new Random();
+
+    for (int i = 0; i < keysCount / 1_000; i++) {
+      final int batch = i;
+      atomicOperationsManager.executeInsideAtomicOperation(
+          null,
+          atomicOperation -> {
+            for (int j = 0; j < 1_000; j++) {
+              final int val = 2 * (batch * 1_000 + j);
+              final String key = String.format("%07d", val);
+              for (int n = 0; n < 3; n++) {
+                final ORID rid = new ORecordId(val % 32000, 3L * val + n);
+                multiValueTree.put(atomicOperation, key, rid);
+                keyValues.computeIfAbsent(key, k -> new HashSet<>()).add(rid);
+              }
+            }
+          });
+    }
+
+    for (int i = 0; i < 100; i++) {
+      final boolean fromInclusive = random.nextBoolean();
+      final boolean toInclusive = random.nextBoolean();
+
+      // ranges are sorted by lower boundary, next range either overlaps the previous one, is
+      // adjacent to it or starts after it
+      final int rangesCount = 1 + random.nextInt(50);
+      final List<ORawPair<String, String>> ranges = new ArrayList<>();
+      final NavigableMap<String, Set<ORID>> expected = new TreeMap<>();
+      int from = random.nextInt(2 * keysCount);
+      for (int n = 0; n < rangesCount; n++) {
+        final int to = from + random.nextInt(4 * keysCount / rangesCount);
+        final String fromKey = String.format("%07d", from);
+        final String toKey = String.format("%07d", to);
+        ranges.add(new ORawPair<>(fromKey, toKey));
+        expected.putAll(keyValues.subMap(fromKey, fromInclusive, toKey, toInclusive));
+
+        switch (random.nextInt(3)) {
+          case 0:
+            from = from + random.nextInt(to - from + 1);
+            break;
+          case 1:
+            from = to;
+            break;
+          default:
+            from = to + 1 + random.nextInt(2 * keysCount / rangesCount);
+        }
+      }
+
+      // entries of each key are returned once even if the key belongs to several ranges
+      final NavigableMap<String, Set<ORID>> actual = new TreeMap<>();
+      String lastKey = null;
+      int entries = 0;
+      try (final Stream<ORawPair<String, ORID>> stream =
+          multiValueTree.iterateEntriesBetweenRanges(ranges, fromInclusive, toInclusive)) {
+        final Iterator<ORawPair<String, ORID>> iterator = stream.iterator();
+        while (iterator.hasNext()) {
+          final ORawPair<String, ORID> entry = iterator.next();
+          if (lastKey != null) {
+            Assert.assertTrue(lastKey.compareTo(entry.first) <= 0);
+          }
+          lastKey = entry.first;
+
+          actual.computeIfAbsent(entry.first, k -> new HashSet<>()).add(entry.second);
+          entries++;
+        }
+      }
+
+      Assert.assertEquals(expected, actual);
+      Assert.assertEquals(3 * expected.size(), entries);
+    }
+  }
+
   private void assertIterateMajorEntries(
       NavigableMap<String, Integer> keyValues,
       Random random,
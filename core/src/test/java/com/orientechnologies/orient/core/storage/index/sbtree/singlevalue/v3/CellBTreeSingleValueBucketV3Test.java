@@ -0,0 +1,340 @@
+package com.orientechnologies.orient.core.storage.index.sbtree.singlevalue.v3;
+
+import com.orientechnologies.common.directmemory.MemTrace;
+import com.orientechnologies.common.directmemory.OByteBufferPool;
+import com.orientechnologies.common.directmemory.OPointer;
+import com.orientechnologies.common.serialization.types.OBinaryTypeSerializer;
+import com.orientechnologies.common.serialization.types.ODateTimeSerializer;
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.common.serialization.types.OShortSerializer;
+import com.orientechnologies.common.serialization.types.OUTF8Serializer;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntry;
+import com.orientechnologies.orient.core.storage.cache.OCacheEntryImpl;
+import com.orientechnologies.orient.core.storage.cache.OCachePointer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CellBTreeSingleValueBucketV3Test {
+  private final List<OCachePointer> cachePointers = new ArrayList<>();
+
+  @Before
+  public void before() {
+    cachePointers.clear();
+  }
+
+  @After
+  public void after() {
+    for (final OCachePointer cachePointer : cachePointers) {
+      cachePointer.decrementReferrer();
+    }
+  }
+
+  @Test
+  public void testPrefixCompressedLeafBucket() {
+    final CellBTreeSingleValueBucketV3<String> bucket = newBucket();
+    bucket.init(true, OShortSerializer.SHORT_SIZE);
+    Assert.assertTrue(bucket.isPrefixCompressed());
+    Assert.assertTrue(bucket.isLeaf());
+
+    final long seed = System.nanoTime();
+    System.out.println("Seed : " + seed);
+    final Random random = new Random(seed);
+
+    final TreeMap<String, ORecordId> keys = new TreeMap<>();
+    while (keys.size() < 500) {
+      final String key = "customer.address.city." + random.nextInt(100_000);
+      final int index = bucket.find(key, OUTF8Serializer.INSTANCE);
+      final ORecordId value = new ORecordId(keys.size() % 32_000, keys.size());
+      if (index >= 0) {
+        continue;
+      }
+
+      Assert.assertTrue(bucket.addLeafEntry(-index - 1, serializeKey(key), serializeValue(value)));
+      keys.put(key, value);
+    }
+
+    assertLeafBucket(bucket, keys);
+
+    // key which does not share prefix with the rest of the keys
+    Assert.assertTrue(
+        bucket.addLeafEntry(0, serializeKey("a"), serializeValue(new ORecordId(1, 1))));
+    keys.put("a", new ORecordId(1, 1));
+    assertLeafBucket(bucket, keys);
+
+    final List<String> keysToRemove = new ArrayList<>(keys.keySet());
+    for (int i = 0; i < keysToRemove.size(); i += 3) {
+      final String key = keysToRemove.get(i);
+      final int index = bucket.find(key, OUTF8Serializer.INSTANCE);
+      Assert.assertTrue(index >= 0);
+
+      bucket.removeLeafEntry(index, bucket.getRawKey(index, OUTF8Serializer.INSTANCE));
+      keys.remove(key);
+    }
+    assertLeafBucket(bucket, keys);
+
+    final String firstKey = keys.firstKey();
+    bucket.updateValue(0, serializeValue(new ORecordId(42, 42)), 0);
+    keys.put(firstKey, new ORecordId(42, 42));
+    assertLeafBucket(bucket, keys);
+  }
+
+  @Test
+  public void testPrefixCompressedBucketContainsMoreEntries() {
+    final CellBTreeSingleValueBucketV3<String> bucket = newBucket();
+    bucket.init(true);
+    final int plainEntries = fillBucket(bucket);
+
+    final CellBTreeSingleValueBucketV3<String> compressedBucket = newBucket();
+    compressedBucket.init(true, OShortSerializer.SHORT_SIZE);
+    final int compressedEntries = fillBucket(compressedBucket);
+
+    Assert.assertTrue(compressedEntries > plainEntries);
+  }
+
+  @Test
+  public void testMoveEntriesBetweenFormats() {
+    final CellBTreeSingleValueBucketV3<String> bucket = newBucket();
+    bucket.init(true);
+
+    final TreeMap<String, ORecordId> keys = new TreeMap<>();
+    for (int i = 0; i < 100; i++) {
+      final String key = "key" + (1_000 + i);
+      final ORecordId value = new ORecordId(1, i);
+      Assert.assertTrue(bucket.addLeafEntry(i, serializeKey(key), serializeValue(value)));
+      keys.put(key, value);
+    }
+
+    final List<byte[]> rawEntries = new ArrayList<>();
+    for (int i = 0; i < bucket.size(); i++) {
+      rawEntries.add(bucket.getRawEntry(i, OUTF8Serializer.INSTANCE));
+    }
+
+    final CellBTreeSingleValueBucketV3<String> compressedBucket = newBucket();
+    compressedBucket.init(true, OShortSerializer.SHORT_SIZE);
+    compressedBucket.addAll(rawEntries, OUTF8Serializer.INSTANCE);
+    assertLeafBucket(compressedBucket, keys);
+
+    for (int i = 0; i < compressedBucket.size(); i++) {
+      Assert.assertArrayEquals(
+          rawEntries.get(i), compressedBucket.getRawEntry(i, OUTF8Serializer.INSTANCE));
+    }
+
+    compressedBucket.shrink(50, OUTF8Serializer.INSTANCE);
+    assertLeafBucket(compressedBucket, new TreeMap<>(keys.headMap("key1050")));
+  }
+
+  @Test
+  public void testPrefixCompressedNonLeafBucket() {
+    final CellBTreeSingleValueBucketV3<String> bucket = newBucket();
+    bucket.init(false, OShortSerializer.SHORT_SIZE);
+    Assert.assertFalse(bucket.isLeaf());
+
+    for (int i = 0; i < 10; i++) {
+      Assert.assertTrue(bucket.addNonLeafEntry(i, i, i + 1, serializeKey("key" + (100 + i))));
+    }
+
+    Assert.assertTrue(bucket.addNonLeafEntry(5, 42, 43, serializeKey("key1045")));
+    Assert.assertEquals(11, bucket.size());
+    Assert.assertEquals(42, bucket.getLeft(5));
+    Assert.assertEquals(43, bucket.getRight(5));
+    Assert.assertEquals(43, bucket.getLeft(6));
+    Assert.assertEquals("key1045", bucket.getKey(5, OUTF8Serializer.INSTANCE));
+
+    bucket.removeNonLeafEntry(5, true, OUTF8Serializer.INSTANCE);
+    Assert.assertEquals(10, bucket.size());
+    Assert.assertEquals(43, bucket.getRight(4));
+    Assert.assertEquals(43, bucket.getLeft(5));
+
+    Assert.assertTrue(bucket.updateKey(0, serializeKey("a"), OUTF8Serializer.INSTANCE));
+    final CellBTreeSingleValueEntryV3<String> entry = bucket.getEntry(0, OUTF8Serializer.INSTANCE);
+    Assert.assertEquals("a", entry.key);
+    Assert.assertEquals(0, entry.leftChild);
+    Assert.assertEquals(1, entry.rightChild);
+
+    for (int i = 1; i < 10; i++) {
+      Assert.assertEquals("key" + (100 + i), bucket.getKey(i, OUTF8Serializer.INSTANCE));
+      Assert.assertEquals(i, bucket.find("key" + (100 + i), OUTF8Serializer.INSTANCE));
+    }
+  }
+
+  @Test
+  public void testPrefixCompressedBinaryKeys() {
+    final CellBTreeSingleValueBucketV3<byte[]> bucket = newBucket();
+    bucket.init(true, OIntegerSerializer.INT_SIZE);
+
+    for (int i = 0; i < 100; i++) {
+      final byte[] key = new byte[] {1, 2, 3, (byte) (2 * i)};
+      Assert.assertTrue(
+          bucket.addLeafEntry(
+              i,
+              OBinaryTypeSerializer.INSTANCE.serializeNativeAsWhole(key),
+              serializeValue(new ORecordId(1, i))));
+    }
+
+    for (int i = 0; i < 100; i++) {
+      Assert.assertEquals(i, bucket.findBinaryKey(new byte[] {1, 2, 3, (byte) (2 * i)}));
+      Assert.assertEquals(-(i + 2), bucket.findBinaryKey(new byte[] {1, 2, 3, (byte) (2 * i + 1)}));
+    }
+
+    Assert.assertEquals(-1, bucket.findBinaryKey(new byte[] {1, 2}));
+    Assert.assertEquals(-1, bucket.findBinaryKey(new byte[] {1, 2, 2, 5}));
+    Assert.assertEquals(-101, bucket.findBinaryKey(new byte[] {1, 2, 4}));
+  }
+
+  private static void assertLeafBucket(
+      final CellBTreeSingleValueBucketV3<String> bucket, final TreeMap<String, ORecordId> keys) {
+    Assert.assertEquals(keys.size(), bucket.size());
+
+    int index = 0;
+    for (final String key : keys.keySet()) {
+      Assert.assertEquals(key, bucket.getKey(index, OUTF8Serializer.INSTANCE));
+      Assert.assertEquals(keys.get(key), bucket.getValue(index, OUTF8Serializer.INSTANCE));
+      Assert.assertEquals(index, bucket.find(key, OUTF8Serializer.INSTANCE));
+
+      final CellBTreeSingleValueEntryV3<String> entry =
+          bucket.getEntry(index, OUTF8Serializer.INSTANCE);
+      Assert.assertEquals(key, entry.key);
+      Assert.assertEquals(keys.get(key), entry.value);
+      index++;
+    }
+  }
+
+  @Test
+  public void testInterpolationSearchOfUniformKeys() {
+    final long[] keys = new long[300];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = 1_600_000_000_000L + i * 1_000L;
+    }
+
+    assertNumericKeysSearch(keys, false);
+    assertNumericKeysSearch(keys, true);
+  }
+
+  @Test
+  public void testInterpolationSearchOfSkewedKeys() {
+    final long seed = System.nanoTime();
+    System.out.println("Seed : " + seed);
+    final Random random = new Random(seed);
+
+    final long[] keys = new long[300];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = i < keys.length - 3 ? i * 2 : Long.MAX_VALUE - (keys.length - i) * 2L;
+    }
+    assertNumericKeysSearch(keys, false);
+
+    final TreeSet<Long> randomKeys = new TreeSet<>();
+    while (randomKeys.size() < 300) {
+      randomKeys.add(random.nextBoolean() ? random.nextLong() : random.nextInt(1_000));
+    }
+    assertNumericKeysSearch(randomKeys.stream().mapToLong(Long::longValue).toArray(), true);
+  }
+
+  @Test
+  public void testInterpolationSearchOfIntegerAndDateKeys() {
+    final CellBTreeSingleValueBucketV3<Integer> intBucket = newBucket();
+    intBucket.init(true);
+    for (int i = 0; i < 100; i++) {
+      Assert.assertTrue(
+          intBucket.addLeafEntry(
+              i,
+              OIntegerSerializer.INSTANCE.serializeNativeAsWhole(i * 10 - 500),
+              serializeValue(new ORecordId(1, i))));
+    }
+
+    final CellBTreeSingleValueBucketV3<Date> dateBucket = newBucket();
+    dateBucket.init(true);
+    for (int i = 0; i < 100; i++) {
+      Assert.assertTrue(
+          dateBucket.addLeafEntry(
+              i,
+              ODateTimeSerializer.INSTANCE.serializeNativeAsWhole(new Date(i * 10L)),
+              serializeValue(new ORecordId(1, i))));
+    }
+
+    for (int i = 0; i < 100; i++) {
+      Assert.assertEquals(i, intBucket.find(i * 10 - 500, OIntegerSerializer.INSTANCE));
+      Assert.assertEquals(-(i + 2), intBucket.find(i * 10 - 495, OIntegerSerializer.INSTANCE));
+
+      Assert.assertEquals(i, dateBucket.find(new Date(i * 10L), ODateTimeSerializer.INSTANCE));
+      Assert.assertEquals(
+          -(i + 2), dateBucket.find(new Date(i * 10L + 5), ODateTimeSerializer.INSTANCE));
+    }
+    Assert.assertEquals(-1, intBucket.find(-501, OIntegerSerializer.INSTANCE));
+    Assert.assertEquals(-1, dateBucket.find(new Date(-1), ODateTimeSerializer.INSTANCE));
+  }
+
+  private void assertNumericKeysSearch(final long[] keys, final boolean prefixCompressed) {
+    final CellBTreeSingleValueBucketV3<Long> bucket = newBucket();
+    if (prefixCompressed) {
+      bucket.init(true, 0);
+    } else {
+      bucket.init(true);
+    }
+
+    for (int i = 0; i < keys.length; i++) {
+      Assert.assertTrue(
+          bucket.addLeafEntry(
+              i,
+              OLongSerializer.INSTANCE.serializeNativeAsWhole(keys[i]),
+              serializeValue(new ORecordId(1, i))));
+    }
+
+    for (int i = 0; i < keys.length; i++) {
+      Assert.assertEquals(i, bucket.find(keys[i], OLongSerializer.INSTANCE));
+
+      for (final long key : new long[] {keys[i] - 1, keys[i] + 1}) {
+        final int expected = Arrays.binarySearch(keys, key);
+        Assert.assertEquals(expected, bucket.find(key, OLongSerializer.INSTANCE));
+      }
+    }
+
+    Assert.assertEquals(-1, bucket.find(Long.MIN_VALUE, OLongSerializer.INSTANCE));
+  }
+
+  private static int fillBucket(final CellBTreeSingleValueBucketV3<String> bucket) {
+    int counter = 0;
+    while (bucket.addLeafEntry(
+        counter,
+        serializeKey("customer.address.city." + (100_000 + counter)),
+        serializeValue(new ORecordId(1, counter)))) {
+      counter++;
+    }
+
+    return counter;
+  }
+
+  private static byte[] serializeKey(final String key) {
+    return OUTF8Serializer.INSTANCE.serializeNativeAsWhole(key);
+  }
+
+  private static byte[] serializeValue(final ORecordId value) {
+    final byte[] serializedValue =
+        new byte[OShortSerializer.SHORT_SIZE + OLongSerializer.LONG_SIZE];
+    OShortSerializer.INSTANCE.serializeNative((short) value.getClusterId(), serializedValue, 0);
+    OLongSerializer.INSTANCE.serializeNative(
+        value.getClusterPosition(), serializedValue, OShortSerializer.SHORT_SIZE);
+    return serializedValue;
+  }
+
+  private <K> CellBTreeSingleValueBucketV3<K> newBucket() {
+    final OByteBufferPool bufferPool = OByteBufferPool.instance(null);
+    final OPointer pointer = bufferPool.acquireDirect(true, MemTrace.TEST);
+    final OCachePointer cachePointer = new OCachePointer(pointer, bufferPool, 0, 0);
+    cachePointer.incrementReferrer();
+    cachePointers.add(cachePointer);
+
+    final OCacheEntry cacheEntry = new OCacheEntryImpl(0, 0, cachePointer, false, null);
+    return new CellBTreeSingleValueBucketV3<>(cacheEntry);
+  }
+}
@@ -5,16 +5,21 @@ import com.orientechnologies.common.exception.OHighLevelException;
 import com.orientechnologies.common.io.OFileUtils;
 import com.orientechnologies.common.serialization.types.OUTF8Serializer;
 import com.orientechnologies.common.util.ORawPair;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseInternal;
 import com.orientechnologies.orient.core.db.ODatabaseSession;
 import com.orientechnologies.orient.core.db.OrientDB;
 import com.orientechnologies.orient.core.db.OrientDBConfig;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.engine.IndexEngineValidator;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.atomicoperations.OAtomicOperationsManager;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.NavigableSet;
@@ -37,7 +42,7 @@ public class CellBTreeSingleValueV3TestIT {
   @Before
   public void before() throws Exception {
     final String buildDirectory =
-        System.getProperty("buildDirectory", ".")
+        System.getProperty("buildDirectory", "./target")
             + File.separator
             + CellBTreeSingleValueV3TestIT.class.getSimpleName();
 
@@ -55,7 +60,7 @@ public class CellBTreeSingleValueV3TestIT {
       storage =
           (OAbstractPaginatedStorage) ((ODatabaseInternal<?>) databaseDocumentTx).getStorage();
     }
-    singleValueTree = new CellBTreeSingleValueV3<>("singleBTree", ".sbt", ".nbt", storage);
+    singleValueTree = new CellBTreeSingleValueV3<>("singleBTree", ".sbt", ".nbt", storage, true);
     atomicOperationsManager = storage.getAtomicOperationsManager();
     atomicOperationsManager.executeInsideAtomicOperation(
         null,
@@ -795,6 +800,148 @@ public class CellBTreeSingleValueV3TestIT {
     Assert.assertEquals(singleValueTree.lastKey(), keyValues.lastKey());
   }
 
+  @Test
+  public void testIterateEntriesBetweenRanges() throws Exception {
+    final int keysCount = 100_000;
+    final NavigableMap<String, ORID> keyValues = new TreeMap<>();
+    final Random random = new Random();
+
+    for (int i = 0; i < keysCount / 1_000; i++) {
+      final int batch = i;
+      atomicOperationsManager.executeInsideAtomicOperation(
+          null,
+          atomicOperation -> {
+            for (int j = 0; j < 1_000; j++) {
+              final int val = 2 * (batch * 1_000 + j);
+              final String key = String.format("%07d", val);
+              singleValueTree.put(atomicOperation, key, new ORecordId(val % 32000, val));
+              keyValues.put(key, new ORecordId(val % 32000, val));
+            }
+          });
+    }
+
+    for (int i = 0; i < 100; i++) {
+      final boolean fromInclusive = random.nextBoolean();
+      final boolean toInclusive = random.nextBoolean();
+
+      final NavigableSet<Integer> bounds = new TreeSet<>();
+      final int rangesCount = 1 + random.nextInt(50);
+      while (bounds.size() < 2 * rangesCount) {
+        bounds.add(random.nextInt(2 * keysCount + 100));
+      }
+
+      final List<ORawPair<String, String>> ranges = new ArrayList<>();
+      final List<ORawPair<String, ORID>> expected = new ArrayList<>();
+      final Iterator<Integer> boundsIterator = bounds.iterator();
+      while (boundsIterator.hasNext()) {
+        final String from = String.format("%07d", boundsIterator.next());
+        final String to = String.format("%07d", boundsIterator.next());
+        ranges.add(new ORawPair<>(from, to));
+
+        for (final Map.Entry<String, ORID> entry :
+            keyValues.subMap(from, fromInclusive, to, toInclusive).entrySet()) {
+          expected.add(new ORawPair<>(entry.getKey(), entry.getValue()));
+        }
+      }
+
+      final List<ORawPair<String, ORID>> actual = new ArrayList<>();
+      try (final Stream<ORawPair<String, ORID>> stream =
+          singleValueTree.iterateEntriesBetweenRanges(ranges, fromInclusive, toInclusive)) {
+        stream.forEach(actual::add);
+      }
+
+      Assert.assertEquals(expected, actual);
+    }
+  }
+
+  @Test
+  public void testBulkLoad() throws Exception {
+    final long seed = System.nanoTime();
+    System.out.println("testBulkLoad seed : " + seed);
+    final Random random = new Random(seed);
+
+    final List<ORawPair<String, ORID>> entries = new ArrayList<>();
+    final NavigableMap<String, ORID> keyValues = new TreeMap<>();
+    for (int i = 0; i < 300_000; i++) {
+      final String key = "bulk.load.key." + random.nextInt(200_000);
+      final ORID value = new ORecordId(i % 32_000, i);
+      entries.add(new ORawPair<>(key, value));
+      keyValues.put(key, value);
+    }
+
+    final Object runSize = OGlobalConfiguration.INDEX_BULK_LOAD_RUN_SIZE.getValue();
+    // small runs force spilling of entries to the disk and merge of sorted runs
+    OGlobalConfiguration.INDEX_BULK_LOAD_RUN_SIZE.setValue(1);
+    try {
+      singleValueTree.bulkLoad(entries.iterator(), null);
+    } finally {
+      OGlobalConfiguration.INDEX_BULK_LOAD_RUN_SIZE.setValue(runSize);
+    }
+
+    Assert.assertEquals(keyValues.size(), singleValueTree.size());
+    for (final Map.Entry<String, ORID> entry : keyValues.entrySet()) {
+      Assert.assertEquals(entry.getValue(), singleValueTree.get(entry.getKey()));
+    }
+    Assert.assertEquals(keyValues.firstKey(), singleValueTree.firstKey());
+    Assert.assertEquals(keyValues.lastKey(), singleValueTree.lastKey());
+
+    assertIterateMajorEntries(keyValues, random, true, true);
+    assertIterateMinorEntries(keyValues, random, false, false);
+
+    // tree built by bulk load should be modifiable as usual
+    for (int i = 0; i < 10_000; i++) {
+      final String key = "bulk.load.key." + (200_000 + i);
+      final ORID value = new ORecordId(i % 32_000, i);
+      atomicOperationsManager.executeInsideAtomicOperation(
+          null, atomicOperation -> singleValueTree.put(atomicOperation, key, value));
+      keyValues.put(key, value);
+
+      final String removedKey = keyValues.firstKey();
+      atomicOperationsManager.executeInsideAtomicOperation(
+          null, atomicOperation -> singleValueTree.remove(atomicOperation, removedKey));
+      keyValues.remove(removedKey);
+    }
+
+    Assert.assertEquals(keyValues.size(), singleValueTree.size());
+    for (final Map.Entry<String, ORID> entry : keyValues.entrySet()) {
+      Assert.assertEquals(entry.getValue(), singleValueTree.get(entry.getKey()));
+    }
+  }
+
+  @Test
+  public void testBulkLoadValidator() throws Exception {
+    final List<ORawPair<String, ORID>> entries = new ArrayList<>();
+    final NavigableMap<String, ORID> keyValues = new TreeMap<>();
+    for (int i = 0; i < 10_000; i++) {
+      final String key = "key" + (i % 5_000);
+      final ORID value = new ORecordId(1, i);
+      entries.add(new ORawPair<>(key, value));
+      keyValues.putIfAbsent(key, value);
+    }
+    entries.add(new ORawPair<>(null, new ORecordId(2, 1)));
+
+    // the first of duplicated entries is kept
+    singleValueTree.bulkLoad(
+        entries.iterator(),
+        (key, oldValue, newValue) -> oldValue != null ? IndexEngineValidator.IGNORE : newValue);
+
+    Assert.assertEquals(keyValues.size() + 1, singleValueTree.size());
+    Assert.assertEquals(new ORecordId(2, 1), singleValueTree.get(null));
+    for (final Map.Entry<String, ORID> entry : keyValues.entrySet()) {
+      Assert.assertEquals(entry.getValue(), singleValueTree.get(entry.getKey()));
+    }
+  }
+
+  @Test
+  public void testBulkLoadEmpty() throws Exception {
+    singleValueTree.bulkLoad(Collections.emptyIterator(), null);
+    Assert.assertEquals(0, singleValueTree.size());
+
+    atomicOperationsManager.executeInsideAtomicOperation(
+        null, atomicOperation -> singleValueTree.put(atomicOperation, "key", new ORecordId(1, 1)));
+    Assert.assertEquals(new ORecordId(1, 1), singleValueTree.get("key"));
+  }
+
   private void assertIterateMajorEntries(
       NavigableMap<String, ORID> keyValues,
       Random random,
@@ -14,6 +14,7 @@ import com.orientechnologies.orient.core.index.OIndexes;
 import com.orientechnologies.orient.core.metadata.function.OFunctionLibraryImpl;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.sequence.OSequenceLibraryImpl;
+import com.orientechnologies.orient.core.metadata.statistics.OStatisticsManager;
 import com.orientechnologies.orient.core.query.live.OLiveQueryHook;
 import com.orientechnologies.orient.core.query.live.OLiveQueryHookV2;
 import com.orientechnologies.orient.core.schedule.OSchedulerImpl;
@@ -63,6 +64,15 @@ public class OSharedContextDistributed extends OSharedContextEmbedded {
     this.registerListener(executionPlanCache);
 
     queryStats = new OQueryStats();
+    statisticsManager =
+        new OStatisticsManager(
+            orientDB,
+            this,
+            storage.getName(),
+            storage
+                .getConfiguration()
+                .getContextConfiguration()
+                .getValueAsLong(OGlobalConfiguration.QUERY_STATISTICS_REFRESH_INTERVAL));
     activeDistributedQueries = new HashMap<>();
     ((OAbstractPaginatedStorage) storage)
         .setStorageConfigurationUpdateListener(
@@ -93,6 +103,7 @@ public class OSharedContextDistributed extends OSharedContextEmbedded {
               sequenceLibrary.load(database);
               schema.onPostIndexManagement();
               viewManager.load();
+              statisticsManager.load(database);
               loaded = true;
             }
           } finally {
@@ -110,6 +121,7 @@ public class OSharedContextDistributed extends OSharedContextEmbedded {
   public synchronized void close() {
     stringCache.close();
     viewManager.close();
+    statisticsManager.close();
     schema.close();
     security.close();
     indexManager.close();
@@ -167,6 +179,7 @@ public class OSharedContextDistributed extends OSharedContextEmbedded {
           }
 
           viewManager.create();
+          statisticsManager.create();
           schema.forceSnapshot(database);
           loaded = true;
           return null;
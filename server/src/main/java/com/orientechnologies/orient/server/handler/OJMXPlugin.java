@@ -20,6 +20,7 @@
 
 package com.orientechnologies.orient.server.handler;
 
+import com.orientechnologies.common.directmemory.OByteBufferPool;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.log.OLogger;
@@ -36,6 +37,7 @@ import javax.management.ObjectName;
 public class OJMXPlugin extends OServerPluginAbstract {
   private static final OLogger logger = OLogManager.instance().logger(OJMXPlugin.class);
   private ObjectName onProfiler;
+  private ObjectName onBufferPool;
   private boolean profilerManaged;
 
   public OJMXPlugin() {}
@@ -63,6 +65,12 @@ public class OJMXPlugin extends OServerPluginAbstract {
         mBeanServer.registerMBean(Orient.instance().getProfiler(), onProfiler);
       }
 
+      // REGISTER THE POOL OF DIRECT MEMORY PAGES
+      onBufferPool =
+          new ObjectName("com.orientechnologies.common.directmemory:type=OByteBufferPoolMXBean");
+      if (mBeanServer.isRegistered(onBufferPool)) mBeanServer.unregisterMBean(onBufferPool);
+      mBeanServer.registerMBean(OByteBufferPool.instance(null), onBufferPool);
+
     } catch (Exception e) {
       throw OException.wrapException(
           new OConfigurationException("Cannot initialize JMX server"), e);
@@ -80,6 +88,8 @@ public class OJMXPlugin extends OServerPluginAbstract {
       MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
       if (onProfiler != null)
         if (mBeanServer.isRegistered(onProfiler)) mBeanServer.unregisterMBean(onProfiler);
+      if (onBufferPool != null)
+        if (mBeanServer.isRegistered(onBufferPool)) mBeanServer.unregisterMBean(onBufferPool);
 
     } catch (Exception e) {
       logger.error("OrientDB Server v%s unregisterMBean error", e, OConstants.getVersion());